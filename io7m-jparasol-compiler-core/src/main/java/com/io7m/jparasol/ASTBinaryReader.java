@@ -0,0 +1,486 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jfunctional.Option;
+import com.io7m.jfunctional.OptionType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
+import com.io7m.jparasol.core.GVersionES;
+import com.io7m.jparasol.core.GVersionFull;
+import com.io7m.jparasol.lexer.Position;
+import com.io7m.jparasol.lexer.Token;
+import com.io7m.jparasol.lexer.Token.TokenDiscard;
+import com.io7m.jparasol.lexer.Token.TokenIdentifierLower;
+import com.io7m.jparasol.lexer.Token.TokenIdentifierUpper;
+import com.io7m.jparasol.lexer.Token.TokenIf;
+import com.io7m.jparasol.lexer.Token.TokenLet;
+import com.io7m.jparasol.lexer.Token.TokenLiteralBoolean;
+import com.io7m.jparasol.lexer.Token.TokenLiteralInteger;
+import com.io7m.jparasol.lexer.Token.TokenLiteralIntegerDecimal;
+import com.io7m.jparasol.lexer.Token.TokenLiteralReal;
+
+/**
+ * The primitive operations used to read ASTs written by
+ * {@link ASTBinaryWriter}. Malformed or truncated input is reported as an
+ * {@link IOException}.
+ */
+
+@EqualityReference public final class ASTBinaryReader
+{
+  private static final int      STRING_LIMIT   = 0x10000;
+  private static final int      VARIABLE_LIMIT = 28;
+  private static final int      VARIABLE_MASK  = 0x7f;
+  private static final int      VARIABLE_MORE  = 0x80;
+  private static final int      VARIABLE_SHIFT = 7;
+
+  private final List<File>      files;
+  private final DataInputStream input;
+  private final List<Token>     tokens;
+
+  /**
+   * Construct a reader that reads from the given stream. The stream is not
+   * closed by the reader.
+   *
+   * @param in_input
+   *          The input stream
+   */
+
+  public ASTBinaryReader(
+    final InputStream in_input)
+  {
+    this.input = new DataInputStream(NullCheck.notNull(in_input, "Input"));
+    this.files = new ArrayList<File>();
+    this.tokens = new ArrayList<Token>();
+  }
+
+  private <T extends Token> T addToken(
+    final T t)
+  {
+    this.tokens.add(t);
+    return t;
+  }
+
+  /**
+   * @return A boolean
+   * @throws IOException
+   *           On I/O errors, or malformed input
+   */
+
+  public boolean readBoolean()
+    throws IOException
+  {
+    return this.input.readBoolean();
+  }
+
+  /**
+   * @return A set of GLSL ES versions
+   * @throws IOException
+   *           On I/O errors, or malformed input
+   */
+
+  public SortedSet<GVersionES> readESVersions()
+    throws IOException
+  {
+    final SortedSet<GVersionES> r = new TreeSet<GVersionES>();
+    final int count = this.readInteger();
+    for (int index = 0; index < count; ++index) {
+      r.add(new GVersionES(this.readInteger()));
+    }
+    return r;
+  }
+
+  private File readFile()
+    throws IOException
+  {
+    final int index = this.readInteger();
+    if (index == 0) {
+      final File f = new File(this.readString());
+      this.files.add(f);
+      return f;
+    }
+    if (index > this.files.size()) {
+      throw new IOException(String.format(
+        "File reference %d is out of range",
+        Integer.valueOf(index)));
+    }
+    final File f = this.files.get(index - 1);
+    assert f != null;
+    return f;
+  }
+
+  /**
+   * @return A set of GLSL versions
+   * @throws IOException
+   *           On I/O errors, or malformed input
+   */
+
+  public SortedSet<GVersionFull> readFullVersions()
+    throws IOException
+  {
+    final SortedSet<GVersionFull> r = new TreeSet<GVersionFull>();
+    final int count = this.readInteger();
+    for (int index = 0; index < count; ++index) {
+      r.add(new GVersionFull(this.readInteger()));
+    }
+    return r;
+  }
+
+  /**
+   * @return A non-negative integer
+   * @throws IOException
+   *           On I/O errors, or malformed input
+   */
+
+  public int readInteger()
+    throws IOException
+  {
+    int r = 0;
+    int shift = 0;
+    while (true) {
+      final int b = this.input.readUnsignedByte();
+      r = r | ((b & ASTBinaryReader.VARIABLE_MASK) << shift);
+      if ((b & ASTBinaryReader.VARIABLE_MORE) == 0) {
+        break;
+      }
+      shift = shift + ASTBinaryReader.VARIABLE_SHIFT;
+      if (shift > ASTBinaryReader.VARIABLE_LIMIT) {
+        throw new IOException("Integer is too long");
+      }
+    }
+
+    if (r < 0) {
+      throw new IOException("Integer is negative");
+    }
+    return r;
+  }
+
+  /**
+   * @return A module path
+   * @throws IOException
+   *           On I/O errors, or malformed input
+   */
+
+  public ModulePath readModulePath()
+    throws IOException
+  {
+    final PackagePath pp = this.readPackagePath();
+    return new ModulePath(pp, this.readTokenUpper());
+  }
+
+  /**
+   * @return An optional uppercase identifier
+   * @throws IOException
+   *           On I/O errors, or malformed input
+   */
+
+  public OptionType<TokenIdentifierUpper> readOptionTokenUpper()
+    throws IOException
+  {
+    if (this.readBoolean()) {
+      return Option.some(this.readTokenUpper());
+    }
+    return Option.none();
+  }
+
+  /**
+   * @return A package path
+   * @throws IOException
+   *           On I/O errors, or malformed input
+   */
+
+  public PackagePath readPackagePath()
+    throws IOException
+  {
+    final PackagePath.BuilderType b = PackagePath.newBuilder();
+    final int count = this.readInteger();
+    for (int index = 0; index < count; ++index) {
+      b.addComponent(this.readTokenLower());
+    }
+    return b.build();
+  }
+
+  private Position readPosition()
+    throws IOException
+  {
+    final int line = this.readInteger();
+    return new Position(line, this.readInteger());
+  }
+
+  /**
+   * @return A string
+   * @throws IOException
+   *           On I/O errors, or malformed input
+   */
+
+  public String readString()
+    throws IOException
+  {
+    final int size = this.readInteger();
+    if (size > ASTBinaryReader.STRING_LIMIT) {
+      throw new IOException(String.format(
+        "String length %d exceeds the limit of %d",
+        Integer.valueOf(size),
+        Integer.valueOf(ASTBinaryReader.STRING_LIMIT)));
+    }
+
+    final byte[] bytes = new byte[size];
+    this.input.readFully(bytes);
+    return new String(bytes, ASTBinaryWriter.UTF8);
+  }
+
+  /**
+   * @return A list of strings
+   * @throws IOException
+   *           On I/O errors, or malformed input
+   */
+
+  public List<String> readStrings()
+    throws IOException
+  {
+    final List<String> r = new ArrayList<String>();
+    final int count = this.readInteger();
+    for (int index = 0; index < count; ++index) {
+      r.add(this.readString());
+    }
+    return r;
+  }
+
+  /**
+   * @return A boolean literal
+   * @throws IOException
+   *           On I/O errors, or malformed input
+   */
+
+  public TokenLiteralBoolean readTokenBoolean()
+    throws IOException
+  {
+    final Token e =
+      this.readTokenReference(Token.Type.TOKEN_LITERAL_BOOLEAN);
+    if (e != null) {
+      return (TokenLiteralBoolean) e;
+    }
+
+    final File f = this.readFile();
+    final Position p = this.readPosition();
+    return this.addToken(new TokenLiteralBoolean(f, p, this.readBoolean()));
+  }
+
+  /**
+   * @return A <code>discard</code> keyword
+   * @throws IOException
+   *           On I/O errors, or malformed input
+   */
+
+  public TokenDiscard readTokenDiscard()
+    throws IOException
+  {
+    final Token e = this.readTokenReference(Token.Type.TOKEN_DISCARD);
+    if (e != null) {
+      return (TokenDiscard) e;
+    }
+
+    final File f = this.readFile();
+    return this.addToken(new TokenDiscard(f, this.readPosition()));
+  }
+
+  /**
+   * @return An <code>if</code> keyword
+   * @throws IOException
+   *           On I/O errors, or malformed input
+   */
+
+  public TokenIf readTokenIf()
+    throws IOException
+  {
+    final Token e = this.readTokenReference(Token.Type.TOKEN_IF);
+    if (e != null) {
+      return (TokenIf) e;
+    }
+
+    final File f = this.readFile();
+    return this.addToken(new TokenIf(f, this.readPosition()));
+  }
+
+  /**
+   * @return An integer literal
+   * @throws IOException
+   *           On I/O errors, or malformed input
+   */
+
+  public TokenLiteralInteger readTokenInteger()
+    throws IOException
+  {
+    final Token e =
+      this.readTokenReference(Token.Type.TOKEN_LITERAL_INTEGER_DECIMAL);
+    if (e != null) {
+      return (TokenLiteralInteger) e;
+    }
+
+    final File f = this.readFile();
+    final Position p = this.readPosition();
+    final String text = this.readString();
+    try {
+      return this.addToken(TokenLiteralIntegerDecimal.newIntegerDecimal(
+        f,
+        p,
+        text));
+    } catch (final NumberFormatException x) {
+      throw new IOException(x);
+    }
+  }
+
+  /**
+   * @return A <code>let</code> keyword
+   * @throws IOException
+   *           On I/O errors, or malformed input
+   */
+
+  public TokenLet readTokenLet()
+    throws IOException
+  {
+    final Token e = this.readTokenReference(Token.Type.TOKEN_LET);
+    if (e != null) {
+      return (TokenLet) e;
+    }
+
+    final File f = this.readFile();
+    return this.addToken(new TokenLet(f, this.readPosition()));
+  }
+
+  /**
+   * @return A lowercase identifier
+   * @throws IOException
+   *           On I/O errors, or malformed input
+   */
+
+  public TokenIdentifierLower readTokenLower()
+    throws IOException
+  {
+    final Token e =
+      this.readTokenReference(Token.Type.TOKEN_IDENTIFIER_LOWER);
+    if (e != null) {
+      return (TokenIdentifierLower) e;
+    }
+
+    final File f = this.readFile();
+    final Position p = this.readPosition();
+    return this.addToken(new TokenIdentifierLower(f, p, this.readString()));
+  }
+
+  /**
+   * @return A list of lowercase identifiers
+   * @throws IOException
+   *           On I/O errors, or malformed input
+   */
+
+  public List<TokenIdentifierLower> readTokenLowers()
+    throws IOException
+  {
+    final List<TokenIdentifierLower> r = new ArrayList<TokenIdentifierLower>();
+    final int count = this.readInteger();
+    for (int index = 0; index < count; ++index) {
+      r.add(this.readTokenLower());
+    }
+    return r;
+  }
+
+  /**
+   * @return A real literal
+   * @throws IOException
+   *           On I/O errors, or malformed input
+   */
+
+  public TokenLiteralReal readTokenReal()
+    throws IOException
+  {
+    final Token e = this.readTokenReference(Token.Type.TOKEN_LITERAL_REAL);
+    if (e != null) {
+      return (TokenLiteralReal) e;
+    }
+
+    final File f = this.readFile();
+    final Position p = this.readPosition();
+    final String text = this.readString();
+    try {
+      return this.addToken(TokenLiteralReal.newReal(f, p, text));
+    } catch (final NumberFormatException x) {
+      throw new IOException(x);
+    }
+  }
+
+  /**
+   * Read either a reference to a token that has already been read, returning
+   * that token, or the start of a new token, returning <code>null</code>.
+   */
+
+  private @Nullable Token readTokenReference(
+    final Token.Type type)
+    throws IOException
+  {
+    final int index = this.readInteger();
+    if (index == 0) {
+      return null;
+    }
+    if (index > this.tokens.size()) {
+      throw new IOException(String.format(
+        "Token reference %d is out of range",
+        Integer.valueOf(index)));
+    }
+
+    final Token t = this.tokens.get(index - 1);
+    assert t != null;
+    if (t.getType() != type) {
+      throw new IOException(String.format(
+        "Token reference %d is a %s, not a %s",
+        Integer.valueOf(index),
+        t.getType().getDescription(),
+        type.getDescription()));
+    }
+    return t;
+  }
+
+  /**
+   * @return An uppercase identifier
+   * @throws IOException
+   *           On I/O errors, or malformed input
+   */
+
+  public TokenIdentifierUpper readTokenUpper()
+    throws IOException
+  {
+    final Token e =
+      this.readTokenReference(Token.Type.TOKEN_IDENTIFIER_UPPER);
+    if (e != null) {
+      return (TokenIdentifierUpper) e;
+    }
+
+    final File f = this.readFile();
+    final Position p = this.readPosition();
+    return this.addToken(new TokenIdentifierUpper(f, p, this.readString()));
+  }
+}
@@ -0,0 +1,489 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jfunctional.OptionType;
+import com.io7m.jfunctional.Some;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jparasol.core.GVersionES;
+import com.io7m.jparasol.core.GVersionFull;
+import com.io7m.jparasol.lexer.Position;
+import com.io7m.jparasol.lexer.Token;
+import com.io7m.jparasol.lexer.Token.TokenDiscard;
+import com.io7m.jparasol.lexer.Token.TokenIdentifierLower;
+import com.io7m.jparasol.lexer.Token.TokenIdentifierUpper;
+import com.io7m.jparasol.lexer.Token.TokenIf;
+import com.io7m.jparasol.lexer.Token.TokenLet;
+import com.io7m.jparasol.lexer.Token.TokenLiteralBoolean;
+import com.io7m.jparasol.lexer.Token.TokenLiteralInteger;
+import com.io7m.jparasol.lexer.Token.TokenLiteralReal;
+
+/**
+ * <p>
+ * The primitive operations used to write ASTs in a compact binary form, to
+ * be read back with {@link ASTBinaryReader}.
+ * </p>
+ * <p>
+ * Integers are written as unsigned variable-length quantities. Files are
+ * written once and then referred to by index. Tokens are compared by
+ * identity in the ASTs, so each distinct token is also written once and
+ * then referred to by index: a reader produces exactly one token for each
+ * token written, and so the sharing of tokens between AST nodes (and
+ * therefore the equality of any names that contain them) survives the
+ * round trip.
+ * </p>
+ */
+
+@EqualityReference public final class ASTBinaryWriter
+{
+  static final Charset                          UTF8;
+  private static final int                      VARIABLE_MASK  = 0x7f;
+  private static final int                      VARIABLE_MORE  = 0x80;
+  private static final int                      VARIABLE_SHIFT = 7;
+
+  static {
+    UTF8 = NullCheck.notNull(Charset.forName("UTF-8"));
+  }
+
+  private final Map<String, Integer>            files;
+  private final DataOutputStream                output;
+  private final IdentityHashMap<Token, Integer> tokens;
+
+  /**
+   * Construct a writer that writes to the given stream. The stream is not
+   * closed by the writer.
+   *
+   * @param in_output
+   *          The output stream
+   */
+
+  public ASTBinaryWriter(
+    final OutputStream in_output)
+  {
+    this.output =
+      new DataOutputStream(NullCheck.notNull(in_output, "Output"));
+    this.files = new HashMap<String, Integer>();
+    this.tokens = new IdentityHashMap<Token, Integer>();
+  }
+
+  /**
+   * Flush any buffered data to the underlying stream.
+   *
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void flush()
+    throws IOException
+  {
+    this.output.flush();
+  }
+
+  /**
+   * Write a boolean.
+   *
+   * @param b
+   *          The value
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void writeBoolean(
+    final boolean b)
+    throws IOException
+  {
+    this.output.writeBoolean(b);
+  }
+
+  /**
+   * Write a set of GLSL ES versions.
+   *
+   * @param versions
+   *          The versions
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void writeESVersions(
+    final SortedSet<GVersionES> versions)
+    throws IOException
+  {
+    this.writeInteger(versions.size());
+    for (final GVersionES v : versions) {
+      this.writeInteger(v.versionGetNumber());
+    }
+  }
+
+  private void writeFile(
+    final File file)
+    throws IOException
+  {
+    final String name = file.getPath().replace(File.separatorChar, '/');
+    assert name != null;
+    final Integer index = this.files.get(name);
+    if (index != null) {
+      this.writeInteger(index.intValue() + 1);
+    } else {
+      this.writeInteger(0);
+      this.writeString(name);
+      this.files.put(name, Integer.valueOf(this.files.size()));
+    }
+  }
+
+  /**
+   * Write a set of GLSL versions.
+   *
+   * @param versions
+   *          The versions
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void writeFullVersions(
+    final SortedSet<GVersionFull> versions)
+    throws IOException
+  {
+    this.writeInteger(versions.size());
+    for (final GVersionFull v : versions) {
+      this.writeInteger(v.versionGetNumber());
+    }
+  }
+
+  /**
+   * Write a non-negative integer.
+   *
+   * @param x
+   *          The value
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void writeInteger(
+    final int x)
+    throws IOException
+  {
+    if (x < 0) {
+      throw new IllegalArgumentException(String.format(
+        "Negative integer %d",
+        Integer.valueOf(x)));
+    }
+
+    int r = x;
+    while (r > ASTBinaryWriter.VARIABLE_MASK) {
+      this.output.writeByte((r & ASTBinaryWriter.VARIABLE_MASK)
+        | ASTBinaryWriter.VARIABLE_MORE);
+      r = r >>> ASTBinaryWriter.VARIABLE_SHIFT;
+    }
+    this.output.writeByte(r);
+  }
+
+  /**
+   * Write a module path.
+   *
+   * @param path
+   *          The path
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void writeModulePath(
+    final ModulePath path)
+    throws IOException
+  {
+    this.writePackagePath(path.getPackagePath());
+    this.writeTokenUpper(path.getName());
+  }
+
+  /**
+   * Write an optional uppercase identifier.
+   *
+   * @param o
+   *          The identifier
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void writeOptionTokenUpper(
+    final OptionType<TokenIdentifierUpper> o)
+    throws IOException
+  {
+    this.writeBoolean(o.isSome());
+    if (o.isSome()) {
+      this.writeTokenUpper(((Some<TokenIdentifierUpper>) o).get());
+    }
+  }
+
+  /**
+   * Write a package path.
+   *
+   * @param path
+   *          The path
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void writePackagePath(
+    final PackagePath path)
+    throws IOException
+  {
+    final List<TokenIdentifierLower> components = path.getComponents();
+    this.writeInteger(components.size());
+    for (final TokenIdentifierLower c : components) {
+      assert c != null;
+      this.writeTokenLower(c);
+    }
+  }
+
+  /**
+   * Write a string.
+   *
+   * @param s
+   *          The string
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void writeString(
+    final String s)
+    throws IOException
+  {
+    final byte[] bytes = s.getBytes(ASTBinaryWriter.UTF8);
+    this.writeInteger(bytes.length);
+    this.output.write(bytes);
+  }
+
+  /**
+   * Write a list of strings.
+   *
+   * @param xs
+   *          The strings
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void writeStrings(
+    final List<String> xs)
+    throws IOException
+  {
+    this.writeInteger(xs.size());
+    for (final String x : xs) {
+      assert x != null;
+      this.writeString(x);
+    }
+  }
+
+  /**
+   * Write a boolean literal.
+   *
+   * @param t
+   *          The token
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void writeTokenBoolean(
+    final TokenLiteralBoolean t)
+    throws IOException
+  {
+    if (this.writeTokenStart(t)) {
+      this.writeBoolean(t.getValue());
+    }
+  }
+
+  /**
+   * Write a <code>discard</code> keyword.
+   *
+   * @param t
+   *          The token
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void writeTokenDiscard(
+    final TokenDiscard t)
+    throws IOException
+  {
+    this.writeTokenStart(t);
+  }
+
+  /**
+   * Write an <code>if</code> keyword.
+   *
+   * @param t
+   *          The token
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void writeTokenIf(
+    final TokenIf t)
+    throws IOException
+  {
+    this.writeTokenStart(t);
+  }
+
+  /**
+   * Write an integer literal.
+   *
+   * @param t
+   *          The token
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void writeTokenInteger(
+    final TokenLiteralInteger t)
+    throws IOException
+  {
+    if (this.writeTokenStart(t)) {
+      final String text = t.getValue().toString();
+      assert text != null;
+      this.writeString(text);
+    }
+  }
+
+  /**
+   * Write a <code>let</code> keyword.
+   *
+   * @param t
+   *          The token
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void writeTokenLet(
+    final TokenLet t)
+    throws IOException
+  {
+    this.writeTokenStart(t);
+  }
+
+  /**
+   * Write a lowercase identifier.
+   *
+   * @param t
+   *          The token
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void writeTokenLower(
+    final TokenIdentifierLower t)
+    throws IOException
+  {
+    if (this.writeTokenStart(t)) {
+      this.writeString(t.getActual());
+    }
+  }
+
+  /**
+   * Write a list of lowercase identifiers.
+   *
+   * @param ts
+   *          The tokens
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void writeTokenLowers(
+    final List<TokenIdentifierLower> ts)
+    throws IOException
+  {
+    this.writeInteger(ts.size());
+    for (final TokenIdentifierLower t : ts) {
+      assert t != null;
+      this.writeTokenLower(t);
+    }
+  }
+
+  /**
+   * Write a real literal.
+   *
+   * @param t
+   *          The token
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void writeTokenReal(
+    final TokenLiteralReal t)
+    throws IOException
+  {
+    if (this.writeTokenStart(t)) {
+      final String text = t.getValue().toString();
+      assert text != null;
+      this.writeString(text);
+    }
+  }
+
+  /**
+   * Write either a reference to a token that has already been written and
+   * return <code>false</code>, or the file and position of a new token and
+   * return <code>true</code>, in which case the caller writes the rest of
+   * the token.
+   */
+
+  private boolean writeTokenStart(
+    final Token t)
+    throws IOException
+  {
+    final Integer index = this.tokens.get(t);
+    if (index != null) {
+      this.writeInteger(index.intValue() + 1);
+      return false;
+    }
+
+    this.tokens.put(t, Integer.valueOf(this.tokens.size()));
+    this.writeInteger(0);
+    this.writeFile(t.getFile());
+    final Position p = t.getPosition();
+    this.writeInteger(p.getLine());
+    this.writeInteger(p.getColumn());
+    return true;
+  }
+
+  /**
+   * Write an uppercase identifier.
+   *
+   * @param t
+   *          The token
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void writeTokenUpper(
+    final TokenIdentifierUpper t)
+    throws IOException
+  {
+    if (this.writeTokenStart(t)) {
+      this.writeString(t.getActual());
+    }
+  }
+}
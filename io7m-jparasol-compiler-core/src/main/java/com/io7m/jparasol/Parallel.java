@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jfunctional.PartialFunctionType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * Functions for running independent parts of a compilation on an executor,
+ * such that the results (and any errors) are the same as if the work had
+ * been performed sequentially on the calling thread.
+ */
+
+@EqualityReference public final class Parallel
+{
+  /**
+   * Wait for the given future, rethrowing any exception of type
+   * <code>c</code> raised by the task as if it had been raised on the
+   * calling thread.
+   *
+   * @param f
+   *          The future
+   * @param c
+   *          The class of checked exceptions raised by the task
+   * @return The value of the future
+   * @throws E
+   *           If the task raised an exception of type <code>E</code>
+   */
+
+  public static <T, E extends Exception> T await(
+    final Future<T> f,
+    final Class<E> c)
+    throws E
+  {
+    NullCheck.notNull(f, "Future");
+    NullCheck.notNull(c, "Class");
+
+    try {
+      final T r = f.get();
+      assert r != null;
+      return r;
+    } catch (final InterruptedException e) {
+      throw new UnreachableCodeException(e);
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (c.isInstance(cause)) {
+        throw c.cast(cause);
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new UnreachableCodeException(cause);
+    }
+  }
+
+  /**
+   * <p>
+   * Evaluate <code>f</code> for each of the given keys on the given
+   * executor, and return a map from each key to its result.
+   * </p>
+   * <p>
+   * The results are inserted into the map in the iteration order of
+   * <code>keys</code>. If more than one evaluation fails, the exception
+   * raised is the one for the earliest key in that order. This is exactly
+   * the behaviour of a sequential loop over <code>keys</code>.
+   * </p>
+   *
+   * @param exec
+   *          The executor
+   * @param keys
+   *          The keys
+   * @param f
+   *          The function
+   * @param c
+   *          The class of checked exceptions raised by <code>f</code>
+   * @return A map of results
+   * @throws E
+   *           If <code>f</code> raises <code>E</code> for any key
+   */
+
+  public static <K, V, E extends Exception> Map<K, V> mapKeys(
+    final ExecutorService exec,
+    final Collection<K> keys,
+    final PartialFunctionType<K, V, E> f,
+    final Class<E> c)
+    throws E
+  {
+    NullCheck.notNull(exec, "Executor");
+    NullCheck.notNull(keys, "Keys");
+    NullCheck.notNull(f, "Function");
+
+    final List<K> ordered = new ArrayList<K>(keys);
+    final List<Future<V>> futures = new ArrayList<Future<V>>(ordered.size());
+
+    try {
+      for (final K k : ordered) {
+        futures.add(exec.submit(new Callable<V>() {
+          @Override public V call()
+            throws E
+          {
+            return f.call(k);
+          }
+        }));
+      }
+
+      final Map<K, V> results = new HashMap<K, V>();
+      for (int index = 0; index < ordered.size(); ++index) {
+        final Future<V> future = futures.get(index);
+        assert future != null;
+        results.put(ordered.get(index), Parallel.await(future, c));
+      }
+      return results;
+    } finally {
+      for (final Future<V> future : futures) {
+        future.cancel(true);
+      }
+    }
+  }
+
+  private Parallel()
+  {
+    throw new UnreachableCodeException();
+  }
+}
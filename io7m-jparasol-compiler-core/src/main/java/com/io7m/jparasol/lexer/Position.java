@@ -78,6 +78,24 @@ import com.io7m.jnull.Nullable;
     return true;
   }
 
+  /**
+   * @return The column number
+   */
+
+  public int getColumn()
+  {
+    return this.column;
+  }
+
+  /**
+   * @return The line number
+   */
+
+  public int getLine()
+  {
+    return this.line;
+  }
+
   @Override public int hashCode()
   {
     final int prime = 31;
@@ -0,0 +1,566 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.pipeline;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jlog.LogLevel;
+import com.io7m.jlog.LogUsableType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
+import com.io7m.jparasol.ASTBinaryReader;
+import com.io7m.jparasol.ASTBinaryWriter;
+import com.io7m.jparasol.ModulePathFlat;
+import com.io7m.jparasol.core.JPHashing;
+import com.io7m.jparasol.typed.TGraphsFragment;
+import com.io7m.jparasol.typed.ast.TASTBinaryReader;
+import com.io7m.jparasol.typed.ast.TASTBinaryWriter;
+import com.io7m.jparasol.typed.ast.TASTCompilation;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDModule;
+import com.io7m.jparasol.untyped.ast.initial.UASTIDeclaration.UASTIDImport;
+import com.io7m.jparasol.untyped.ast.initial.UASTIDeclaration.UASTIDModule;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>
+ * An on-disk cache of type-checked modules.
+ * </p>
+ * <p>
+ * Each module is stored under a key computed from the compiler version, the
+ * standard library, the name and contents of the unit that declares the
+ * module, and the keys of the modules that it imports. As the keys of the
+ * imported modules are computed in the same way, the key of a module
+ * changes whenever the module, or any module that it transitively imports,
+ * changes. The whole unit is hashed, rather than only the text of the
+ * module, because the checked module records source positions.
+ * </p>
+ * <p>
+ * A module whose key is present in the cache is read from the cache, and is
+ * not resolved or type-checked again (see
+ * {@link CorePipeline#pipeSetModuleCache(CoreModuleCache)}). Modules are
+ * stored in the encoding used for the checked standard library (see
+ * {@link CoreStandardLibrary}), one module and its graph fragment per file.
+ * </p>
+ */
+
+@EqualityReference public final class CoreModuleCache
+{
+  /**
+   * Computes the keys of modules, on demand, over the module import graph.
+   */
+
+  @EqualityReference private static final class Keys
+  {
+    private final String                            base;
+    private final Map<ModulePathFlat, String>       done;
+    private final Set<ModulePathFlat>               failed;
+    private final Map<ModulePathFlat, UASTIDModule> modules;
+    private final Map<ModulePathFlat, String>       sources;
+    private final Set<ModulePathFlat>               standard;
+    private final Set<ModulePathFlat>               visiting;
+
+    Keys(
+      final String in_base,
+      final Map<ModulePathFlat, UASTIDModule> in_modules,
+      final Map<ModulePathFlat, String> in_sources,
+      final Set<ModulePathFlat> in_standard)
+    {
+      this.base = in_base;
+      this.modules = in_modules;
+      this.sources = in_sources;
+      this.standard = in_standard;
+      this.done = new HashMap<ModulePathFlat, String>();
+      this.failed = new HashSet<ModulePathFlat>();
+      this.visiting = new HashSet<ModulePathFlat>();
+    }
+
+    /**
+     * @return The key of the given module, or <code>null</code> if the
+     *         module cannot be cached: it does not exist, or imports a
+     *         module that does not exist, or is part of an import cycle.
+     *         Such modules are left to the resolver, which reports the
+     *         error.
+     */
+
+    @Nullable String get(
+      final ModulePathFlat flat)
+    {
+      final String existing = this.done.get(flat);
+      if (existing != null) {
+        return existing;
+      }
+      if (this.failed.contains(flat) || this.visiting.contains(flat)) {
+        return null;
+      }
+
+      final UASTIDModule m = this.modules.get(flat);
+      final String source = this.sources.get(flat);
+      if ((m == null) || (source == null)) {
+        this.failed.add(flat);
+        return null;
+      }
+
+      this.visiting.add(flat);
+      try {
+        final SortedMap<String, String> imports =
+          new TreeMap<String, String>();
+        for (final UASTIDImport i : m.getImports()) {
+          final ModulePathFlat i_flat =
+            ModulePathFlat.fromModulePath(i.getPath());
+          if (this.standard.contains(i_flat)) {
+            imports.put(i_flat.getActual(), "");
+          } else {
+            final String i_key = this.get(i_flat);
+            if (i_key == null) {
+              this.failed.add(flat);
+              return null;
+            }
+            imports.put(i_flat.getActual(), i_key);
+          }
+        }
+
+        final MessageDigest md = CoreModuleCache.newDigest();
+        CoreModuleCache.update(md, this.base);
+        CoreModuleCache.update(md, flat.getActual());
+        CoreModuleCache.update(md, source);
+        for (final String name : imports.keySet()) {
+          assert name != null;
+          final String i_key = imports.get(name);
+          assert i_key != null;
+          CoreModuleCache.update(md, name);
+          CoreModuleCache.update(md, i_key);
+        }
+
+        final String key = JPHashing.hex(md.digest());
+        this.done.put(flat, key);
+        return key;
+      } finally {
+        this.visiting.remove(flat);
+      }
+    }
+  }
+
+  /**
+   * Reads modules, imported modules first, from the cache.
+   */
+
+  @EqualityReference private static final class Loader
+  {
+    private final CoreModuleCache                      cache;
+    private final Set<ModulePathFlat>                  failed;
+    private final Map<ModulePathFlat, TGraphsFragment> fragments;
+    private final Map<ModulePathFlat, String>          keys;
+    private final Set<ModulePathFlat>                  loaded;
+    private final Map<ModulePathFlat, UASTIDModule>    modules;
+    private final Map<ModulePathFlat, TASTDModule>     typed;
+
+    Loader(
+      final CoreModuleCache in_cache,
+      final Map<ModulePathFlat, String> in_keys,
+      final Map<ModulePathFlat, UASTIDModule> in_modules,
+      final Map<ModulePathFlat, TASTDModule> in_typed,
+      final Map<ModulePathFlat, TGraphsFragment> in_fragments)
+    {
+      this.cache = in_cache;
+      this.keys = in_keys;
+      this.modules = in_modules;
+      this.typed = in_typed;
+      this.fragments = in_fragments;
+      this.failed = new HashSet<ModulePathFlat>();
+      this.loaded = new HashSet<ModulePathFlat>();
+    }
+
+    Set<ModulePathFlat> getLoaded()
+    {
+      return this.loaded;
+    }
+
+    /**
+     * Load the given module, after loading every module that it imports. A
+     * module can only be loaded if all of the modules that it imports are
+     * also available, as the checked module refers to their types.
+     *
+     * @return <code>true</code> iff the module is available
+     */
+
+    boolean load(
+      final ModulePathFlat flat)
+    {
+      if (this.typed.containsKey(flat)) {
+        return true;
+      }
+      if (this.failed.contains(flat)) {
+        return false;
+      }
+
+      final String key = this.keys.get(flat);
+      final UASTIDModule m = this.modules.get(flat);
+      if ((key == null) || (m == null)) {
+        this.failed.add(flat);
+        return false;
+      }
+
+      for (final UASTIDImport i : m.getImports()) {
+        if (this.load(ModulePathFlat.fromModulePath(i.getPath())) == false) {
+          this.failed.add(flat);
+          return false;
+        }
+      }
+
+      if (this.cache.read(flat, key, this.typed, this.fragments)) {
+        this.loaded.add(flat);
+        return true;
+      }
+
+      this.failed.add(flat);
+      return false;
+    }
+  }
+
+  /**
+   * The version of the format of cached modules. This must be changed
+   * whenever the encoding of checked modules changes.
+   */
+
+  public static final int     FORMAT_VERSION = 1;
+
+  private static final String MAGIC;
+  private static final String SUFFIX;
+
+  static {
+    MAGIC = "com.io7m.jparasol.module-cache";
+    SUFFIX = ".module";
+  }
+
+  /**
+   * Construct a new cache in the given directory, creating the directory if
+   * necessary.
+   *
+   * @param in_directory
+   *          The cache directory
+   * @param in_version
+   *          The compiler version; modules cached by other versions of the
+   *          compiler are not used
+   * @param in_log
+   *          A log interface
+   * @return A new cache
+   * @throws IOException
+   *           If the directory cannot be created
+   */
+
+  public static CoreModuleCache newCache(
+    final File in_directory,
+    final String in_version,
+    final LogUsableType in_log)
+    throws IOException
+  {
+    return new CoreModuleCache(in_directory, in_version, in_log);
+  }
+
+  private static MessageDigest newDigest()
+  {
+    try {
+      final MessageDigest md = MessageDigest.getInstance("SHA-256");
+      assert md != null;
+      return md;
+    } catch (final NoSuchAlgorithmException e) {
+      throw new UnreachableCodeException(e);
+    }
+  }
+
+  /**
+   * @return A new digest for the contents of an input, seeded with the name
+   *         of the input.
+   */
+
+  static MessageDigest newSourceDigest(
+    final InputType i)
+  {
+    final MessageDigest md = CoreModuleCache.newDigest();
+    CoreModuleCache.update(md, i.getFile().toString());
+    CoreModuleCache.update(md, Boolean.toString(i.isInternal()));
+    return md;
+  }
+
+  private static void update(
+    final MessageDigest md,
+    final String text)
+  {
+    try {
+      md.update(text.getBytes("UTF-8"));
+      md.update((byte) 0);
+    } catch (final UnsupportedEncodingException e) {
+      throw new UnreachableCodeException(e);
+    }
+  }
+
+  private final File          directory;
+  private final LogUsableType log;
+  private final String        version;
+
+  private CoreModuleCache(
+    final File in_directory,
+    final String in_version,
+    final LogUsableType in_log)
+    throws IOException
+  {
+    this.directory = NullCheck.notNull(in_directory, "Directory");
+    this.version = NullCheck.notNull(in_version, "Version");
+    this.log = NullCheck.notNull(in_log, "Log").with("module-cache");
+
+    this.directory.mkdirs();
+    if (this.directory.isDirectory() == false) {
+      throw new IOException(String.format(
+        "Not a directory: %s",
+        this.directory));
+    }
+  }
+
+  private File file(
+    final String key)
+  {
+    return new File(this.directory, key + CoreModuleCache.SUFFIX);
+  }
+
+  /**
+   * Read as many of the given modules as possible from the cache, adding
+   * them to <code>typed</code> and <code>fragments</code>. Both maps must
+   * already contain the standard library, if it is in use.
+   *
+   * @return The modules that were read
+   */
+
+  Set<ModulePathFlat> load(
+    final Map<ModulePathFlat, String> keys,
+    final Map<ModulePathFlat, UASTIDModule> modules,
+    final Map<ModulePathFlat, TASTDModule> typed,
+    final Map<ModulePathFlat, TGraphsFragment> fragments)
+  {
+    final Loader loader =
+      new Loader(this, keys, modules, typed, fragments);
+    for (final ModulePathFlat flat : modules.keySet()) {
+      assert flat != null;
+      loader.load(flat);
+    }
+
+    final Set<ModulePathFlat> r = loader.getLoaded();
+    if (this.log.wouldLog(LogLevel.LOG_DEBUG)) {
+      final String m =
+        String.format(
+          "%d of %d modules read from the cache",
+          Integer.valueOf(r.size()),
+          Integer.valueOf(modules.size()));
+      assert m != null;
+      this.log.debug(m);
+    }
+    return r;
+  }
+
+  /**
+   * Compute the key of each of the given modules, given the hash of the
+   * unit that declares each module. Modules that cannot be cached are
+   * absent from the result.
+   */
+
+  Map<ModulePathFlat, String> makeKeys(
+    final Map<ModulePathFlat, UASTIDModule> modules,
+    final Map<ModulePathFlat, String> sources,
+    final CoreStandardLibrary stdlib)
+    throws IOException
+  {
+    final MessageDigest md = CoreModuleCache.newDigest();
+    CoreModuleCache.update(md, CoreModuleCache.MAGIC);
+    CoreModuleCache.update(md, Integer.toString(CoreModuleCache.FORMAT_VERSION));
+    CoreModuleCache.update(md, this.version);
+    if (stdlib.getModulePaths().isEmpty() == false) {
+      CoreModuleCache.update(md, CoreStandardLibrary.getSourceHash());
+    }
+    final String base = JPHashing.hex(md.digest());
+
+    final Keys k =
+      new Keys(base, modules, sources, stdlib.getTypedModules().keySet());
+    final Map<ModulePathFlat, String> r = new HashMap<ModulePathFlat, String>();
+    for (final ModulePathFlat flat : modules.keySet()) {
+      assert flat != null;
+      final String key = k.get(flat);
+      if (key != null) {
+        r.put(flat, key);
+      }
+    }
+    return r;
+  }
+
+  /**
+   * Read the module with the given key, if it is present, into
+   * <code>typed</code> and <code>fragments</code>. Unusable files are
+   * treated as absent, and are replaced when the module is next stored.
+   */
+
+  boolean read(
+    final ModulePathFlat flat,
+    final String key,
+    final Map<ModulePathFlat, TASTDModule> typed,
+    final Map<ModulePathFlat, TGraphsFragment> fragments)
+  {
+    final File file = this.file(key);
+    if (file.isFile() == false) {
+      if (this.log.wouldLog(LogLevel.LOG_DEBUG)) {
+        final String m = String.format("%s: not cached", flat.getActual());
+        assert m != null;
+        this.log.debug(m);
+      }
+      return false;
+    }
+
+    try {
+      final InputStream s = new BufferedInputStream(new FileInputStream(file));
+      try {
+        final ASTBinaryReader r = new ASTBinaryReader(s);
+        if (CoreModuleCache.MAGIC.equals(r.readString()) == false) {
+          throw new IOException("Not a cached module");
+        }
+        if (r.readInteger() != CoreModuleCache.FORMAT_VERSION) {
+          throw new IOException("Unsupported format version");
+        }
+        if (key.equals(r.readString()) == false) {
+          throw new IOException("Key mismatch");
+        }
+
+        final TASTBinaryReader tr = new TASTBinaryReader(r);
+        final TASTDModule m = tr.readModule(typed);
+        if (flat.equals(ModulePathFlat.fromModulePath(m.getPath())) == false) {
+          throw new IOException("Module mismatch");
+        }
+        final TGraphsFragment f = tr.readFragment();
+
+        typed.put(flat, m);
+        fragments.put(flat, f);
+      } finally {
+        s.close();
+      }
+    } catch (final IOException e) {
+      final String m =
+        String.format(
+          "%s: cached module %s is unusable: %s",
+          flat.getActual(),
+          file,
+          e.getMessage());
+      assert m != null;
+      this.log.info(m);
+      return false;
+    }
+
+    if (this.log.wouldLog(LogLevel.LOG_DEBUG)) {
+      final String m = String.format("%s: read from cache", flat.getActual());
+      assert m != null;
+      this.log.debug(m);
+    }
+    return true;
+  }
+
+  /**
+   * Store every module in <code>typed</code> that has a key and was not
+   * read from the cache.
+   */
+
+  void store(
+    final Map<ModulePathFlat, String> keys,
+    final Set<ModulePathFlat> loaded,
+    final TASTCompilation typed)
+    throws IOException
+  {
+    final Map<ModulePathFlat, TASTDModule> modules = typed.getModules();
+    final Map<ModulePathFlat, TGraphsFragment> fragments =
+      typed.getGraphFragments();
+
+    for (final ModulePathFlat flat : keys.keySet()) {
+      if (loaded.contains(flat)) {
+        continue;
+      }
+
+      final String key = keys.get(flat);
+      final TASTDModule m = modules.get(flat);
+      final TGraphsFragment f = fragments.get(flat);
+      assert key != null;
+      assert m != null;
+      assert f != null;
+      this.write(key, m, f);
+
+      if (this.log.wouldLog(LogLevel.LOG_DEBUG)) {
+        final String s = String.format("%s: stored", flat.getActual());
+        assert s != null;
+        this.log.debug(s);
+      }
+    }
+  }
+
+  private void write(
+    final String key,
+    final TASTDModule m,
+    final TGraphsFragment f)
+    throws IOException
+  {
+    final File file = this.file(key);
+    final File file_tmp = new File(file.toString() + ".tmp");
+
+    final OutputStream s =
+      new BufferedOutputStream(new FileOutputStream(file_tmp));
+    try {
+      final ASTBinaryWriter w = new ASTBinaryWriter(s);
+      w.writeString(CoreModuleCache.MAGIC);
+      w.writeInteger(CoreModuleCache.FORMAT_VERSION);
+      w.writeString(key);
+
+      final TASTBinaryWriter tw = new TASTBinaryWriter(w);
+      tw.writeModule(m);
+      tw.writeFragment(f);
+      w.flush();
+    } finally {
+      s.close();
+    }
+
+    /**
+     * Renaming over an existing file fails on some platforms.
+     */
+
+    file.delete();
+    if (file_tmp.renameTo(file) == false) {
+      throw new IOException(String.format(
+        "Renaming '%s' to '%s' failed",
+        file_tmp,
+        file));
+    }
+  }
+}
@@ -16,31 +16,48 @@
 
 package com.io7m.jparasol.pipeline;
 
-import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import com.io7m.jequality.annotations.EqualityReference;
 import com.io7m.jlog.LogLevel;
 import com.io7m.jlog.LogUsableType;
 import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
 import com.io7m.jparasol.CompilerError;
+import com.io7m.jparasol.ModulePathFlat;
+import com.io7m.jparasol.core.JPHashing;
 import com.io7m.jparasol.lexer.Lexer;
 import com.io7m.jparasol.parser.Parser;
+import com.io7m.jparasol.typed.TGraphsFragment;
 import com.io7m.jparasol.typed.TypeChecker;
 import com.io7m.jparasol.typed.ast.TASTCompilation;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDModule;
 import com.io7m.jparasol.untyped.ModuleStructure;
 import com.io7m.jparasol.untyped.Resolver;
 import com.io7m.jparasol.untyped.UniqueBinders;
 import com.io7m.jparasol.untyped.ast.checked.UASTCCompilation;
 import com.io7m.jparasol.untyped.ast.initial.UASTICompilation;
+import com.io7m.jparasol.untyped.ast.initial.UASTIDeclaration.UASTIDModule;
 import com.io7m.jparasol.untyped.ast.initial.UASTIUnit;
 import com.io7m.jparasol.untyped.ast.resolved.UASTRCompilation;
 import com.io7m.jparasol.untyped.ast.unique_binders.UASTUCompilation;
+import com.io7m.junreachable.UnreachableCodeException;
 
 /**
  * A compilation pipeline for the core language. Produces a typed AST as
@@ -69,6 +86,22 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UASTUCompilation;
     CorePipeline.STANDARD_LIBRARY.add("Vector4i.p");
   }
 
+  /**
+   * @return The resource paths of the standard library sources, in a stable
+   *         order.
+   */
+
+  public static SortedSet<String> getStandardLibraryResources()
+  {
+    final SortedSet<String> r = new TreeSet<String>();
+    for (final String b : CorePipeline.STANDARD_LIBRARY) {
+      r.add("/com/io7m/jparasol/" + b);
+    }
+    final SortedSet<String> u = Collections.unmodifiableSortedSet(r);
+    assert u != null;
+    return u;
+  }
+
   /**
    * Construct a new compiler pipeline.
    *
@@ -80,17 +113,88 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UASTUCompilation;
   public static CorePipeline newPipeline(
     final LogUsableType log)
   {
-    return new CorePipeline(log);
+    return new CorePipeline(log, null);
+  }
+
+  /**
+   * Construct a new compiler pipeline that uses the given executor to run
+   * independent parts of the compilation in parallel. The results are
+   * identical to those of a pipeline constructed with
+   * {@link #newPipeline(LogUsableType)}.
+   *
+   * @param log
+   *          The log interface
+   * @param exec
+   *          The executor
+   * @return A new pipeline
+   */
+
+  public static CorePipeline newPipelineWithExecutor(
+    final LogUsableType log,
+    final ExecutorService exec)
+  {
+    return new CorePipeline(log, NullCheck.notNull(exec, "Executor"));
+  }
+
+  /**
+   * Parse the given input. If <code>digest</code> is not <code>null</code>,
+   * the entire contents of the input are added to it.
+   */
+
+  private static UASTIUnit parseInput(
+    final InputType i,
+    final @Nullable MessageDigest digest)
+    throws CompilerError,
+      IOException
+  {
+    InputStream stream = i.getStream();
+    if (digest != null) {
+      stream = new DigestInputStream(stream, digest);
+    }
+
+    final Lexer lexer = new Lexer(stream);
+    lexer.setFile(i.getFile());
+
+    Parser parser;
+    if (i.isInternal()) {
+      parser = Parser.newInternalParser(lexer);
+    } else {
+      parser = Parser.newParser(lexer);
+    }
+
+    final UASTIUnit u = parser.unit();
+
+    /**
+     * Consume any input that the parser did not read, so that the digest
+     * covers the entire input.
+     */
+
+    if (digest != null) {
+      final byte[] buffer = new byte[8192];
+      for (;;) {
+        if (stream.read(buffer) == -1) {
+          break;
+        }
+      }
+    }
+    return u;
   }
 
-  private final List<InputType> inputs;
-  private final LogUsableType   log;
+  private final @Nullable ExecutorService exec;
+  private final List<InputType>           inputs;
+  private final LogUsableType             log;
+  private @Nullable CoreModuleCache       module_cache;
+  private int                             standard_library_index;
 
   private CorePipeline(
-    final LogUsableType in_log)
+    final LogUsableType in_log,
+    final @Nullable ExecutorService in_exec)
   {
     this.log = NullCheck.notNull(in_log, "Log").with("pipeline");
+    this.exec = in_exec;
     this.inputs = new ArrayList<InputType>();
+    this.standard_library_index = -1;
+    this.module_cache = null;
   }
 
   /**
@@ -117,18 +221,20 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UASTUCompilation;
   }
 
   /**
-   * Add the standard library to the pipeline.
+   * Add the standard library to the pipeline. The standard library modules
+   * are treated as if declared after any inputs that have already been
+   * added, and before any inputs added later. The checked standard library
+   * is read from a resource produced by the build, or compiled if that
+   * resource is unusable (see {@link CoreStandardLibrary}), and is merged
+   * into the compilation: the standard library modules are not checked
+   * again.
    */
 
   public void pipeAddStandardLibrary()
   {
-    for (final String b : CorePipeline.STANDARD_LIBRARY) {
-      final String p = "/com/io7m/jparasol/" + b;
-      @SuppressWarnings("resource") final InputStream s =
-        CorePipeline.class.getResourceAsStream(p);
-      assert s != null;
-      final File f = new File(p);
-      this.pipeAddInput(new FileInput(true, f, s));
+    if (this.standard_library_index < 0) {
+      this.log.debug("Added standard library");
+      this.standard_library_index = this.inputs.size();
     }
   }
 
@@ -147,6 +253,23 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UASTUCompilation;
     }
   }
 
+  /**
+   * Use the given cache of type-checked modules. Each module that is
+   * unchanged since it was last cached, and that imports only unchanged
+   * modules, is read from the cache instead of being resolved and
+   * type-checked; every other module is checked as usual, and is then
+   * stored in the cache.
+   *
+   * @param cache
+   *          The module cache
+   */
+
+  public void pipeSetModuleCache(
+    final CoreModuleCache cache)
+  {
+    this.module_cache = NullCheck.notNull(cache, "Cache");
+  }
+
   /**
    * Run the compiler.
    *
@@ -162,23 +285,68 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UASTUCompilation;
     throws CompilerError,
       IOException
   {
-    final List<UASTIUnit> units = new ArrayList<UASTIUnit>();
-    for (final InputType i : this.inputs) {
-      final Lexer lexer = new Lexer(i.getStream());
-      lexer.setFile(i.getFile());
-
-      Parser parser;
-      if (i.isInternal()) {
-        parser = Parser.newInternalParser(lexer);
-      } else {
-        parser = Parser.newParser(lexer);
+    final List<MessageDigest> digests = new ArrayList<MessageDigest>();
+    final CoreModuleCache cache = this.module_cache;
+    if (cache != null) {
+      for (final InputType i : this.inputs) {
+        assert i != null;
+        digests.add(CoreModuleCache.newSourceDigest(i));
       }
+    }
+
+    final ExecutorService e = this.exec;
+    final List<UASTIUnit> units;
+    if (e != null) {
+      units = this.parseParallel(e, digests);
+    } else {
+      units = new ArrayList<UASTIUnit>(this.inputs.size());
+      for (int index = 0; index < this.inputs.size(); ++index) {
+        final InputType i = this.inputs.get(index);
+        assert i != null;
+        units.add(CorePipeline.parseInput(
+          i,
+          digests.isEmpty() ? null : digests.get(index)));
+      }
+    }
+
+    final CoreStandardLibrary stdlib;
+    if (this.standard_library_index >= 0) {
+      stdlib = CoreStandardLibrary.get(this.log);
+    } else {
+      stdlib = CoreStandardLibrary.none();
+    }
+
+    final UASTICompilation combined =
+      UASTICompilation.fromUnitsWithExisting(
+        units,
+        stdlib.getModulePaths(),
+        this.standard_library_index);
+
+    if (cache == null) {
+      return this.check(
+        combined,
+        stdlib.getTypedModules(),
+        stdlib.getGraphFragments());
+    }
+
+    return this.checkWithCache(cache, units, digests, combined, stdlib);
+  }
+
+  /**
+   * Check the given compilation, against the given already-checked modules.
+   */
 
-      final UASTIUnit u = parser.unit();
-      units.add(u);
+  private TASTCompilation check(
+    final UASTICompilation combined,
+    final Map<ModulePathFlat, TASTDModule> prechecked,
+    final Map<ModulePathFlat, TGraphsFragment> fragments)
+    throws CompilerError
+  {
+    final ExecutorService e = this.exec;
+    if (e != null) {
+      return this.checkParallel(e, combined, prechecked, fragments);
     }
 
-    final UASTICompilation combined = UASTICompilation.fromUnits(units);
     final ModuleStructure structure_checker =
       ModuleStructure.newModuleStructureChecker(combined, this.log);
     final UASTCCompilation checked = structure_checker.check();
@@ -187,11 +355,167 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UASTUCompilation;
       UniqueBinders.newUniqueBinders(checked, this.log);
     final UASTUCompilation bound = binder.run();
 
-    final Resolver resolver = Resolver.newResolver(bound, this.log);
+    final Resolver resolver =
+      Resolver.newResolverWithChecked(bound, prechecked, this.log);
+    final UASTRCompilation resolved = resolver.run();
+
+    final TypeChecker type_checker =
+      TypeChecker.newTypeCheckerWithPrechecked(
+        resolved,
+        prechecked,
+        fragments,
+        this.log);
+    return type_checker.check();
+  }
+
+  private TASTCompilation checkParallel(
+    final ExecutorService e,
+    final UASTICompilation combined,
+    final Map<ModulePathFlat, TASTDModule> prechecked,
+    final Map<ModulePathFlat, TGraphsFragment> fragments)
+    throws CompilerError
+  {
+    final ModuleStructure structure_checker =
+      ModuleStructure.newParallelModuleStructureChecker(combined, e, this.log);
+    final UASTCCompilation checked = structure_checker.check();
+
+    final UniqueBinders binder =
+      UniqueBinders.newParallelUniqueBinders(checked, e, this.log);
+    final UASTUCompilation bound = binder.run();
+
+    final Resolver resolver =
+      Resolver.newParallelResolver(bound, prechecked, e, this.log);
     final UASTRCompilation resolved = resolver.run();
 
     final TypeChecker type_checker =
-      TypeChecker.newTypeChecker(resolved, this.log);
+      TypeChecker.newParallelTypeChecker(
+        resolved,
+        prechecked,
+        fragments,
+        e,
+        this.log);
     return type_checker.check();
   }
+
+  /**
+   * Check the given compilation, reading whatever modules can be read from
+   * the given cache, and storing those that cannot.
+   */
+
+  private TASTCompilation checkWithCache(
+    final CoreModuleCache cache,
+    final List<UASTIUnit> units,
+    final List<MessageDigest> digests,
+    final UASTICompilation combined,
+    final CoreStandardLibrary stdlib)
+    throws CompilerError,
+      IOException
+  {
+    /**
+     * Modules that can be read from the cache are treated exactly as the
+     * standard library is: they are removed from the compilation, and
+     * supplied to the resolver and type checker as already checked.
+     */
+
+    final Map<ModulePathFlat, String> sources =
+      new HashMap<ModulePathFlat, String>();
+    for (int index = 0; index < units.size(); ++index) {
+      final String hash = JPHashing.hex(digests.get(index).digest());
+      for (final UASTIDModule m : units.get(index).getModules()) {
+        sources.put(ModulePathFlat.fromModulePath(m.getPath()), hash);
+      }
+    }
+
+    final Map<ModulePathFlat, UASTIDModule> modules = combined.getModules();
+    final Map<ModulePathFlat, String> keys =
+      cache.makeKeys(modules, sources, stdlib);
+    final Map<ModulePathFlat, TASTDModule> checked =
+      new HashMap<ModulePathFlat, TASTDModule>(stdlib.getTypedModules());
+    final Map<ModulePathFlat, TGraphsFragment> fragments =
+      new HashMap<ModulePathFlat, TGraphsFragment>(
+        stdlib.getGraphFragments());
+    final Set<ModulePathFlat> loaded =
+      cache.load(keys, modules, checked, fragments);
+
+    final TASTCompilation typed =
+      this.check(combined.withoutModules(loaded), checked, fragments);
+    cache.store(keys, loaded, typed);
+    return typed;
+  }
+
+  /**
+   * Parse all inputs on the given executor. The units are returned in the
+   * order that the inputs were added and, if more than one input fails to
+   * parse, the error reported is the one for the earliest input; this is
+   * exactly the behaviour of the sequential path.
+   */
+
+  private List<UASTIUnit> parseParallel(
+    final ExecutorService e,
+    final List<MessageDigest> digests)
+    throws CompilerError,
+      IOException
+  {
+    final List<Future<UASTIUnit>> futures =
+      new ArrayList<Future<UASTIUnit>>(this.inputs.size());
+    for (int index = 0; index < this.inputs.size(); ++index) {
+      final InputType i = this.inputs.get(index);
+      assert i != null;
+      final @Nullable MessageDigest digest =
+        digests.isEmpty() ? null : digests.get(index);
+      futures.add(e.submit(new Callable<UASTIUnit>() {
+        @Override public UASTIUnit call()
+          throws Exception
+        {
+          return CorePipeline.parseInput(i, digest);
+        }
+      }));
+    }
+
+    final List<UASTIUnit> units = new ArrayList<UASTIUnit>(futures.size());
+    try {
+      for (final Future<UASTIUnit> f : futures) {
+        units.add(CorePipeline.await(f));
+      }
+      return units;
+    } finally {
+      for (final Future<UASTIUnit> f : futures) {
+        f.cancel(true);
+      }
+    }
+  }
+
+  /**
+   * Wait for the given future, rethrowing any exception raised by the task
+   * as it would have been raised on the calling thread.
+   */
+
+  private static <T> T await(
+    final Future<T> f)
+    throws CompilerError,
+      IOException
+  {
+    try {
+      final T r = f.get();
+      assert r != null;
+      return r;
+    } catch (final InterruptedException x) {
+      throw new UnreachableCodeException(x);
+    } catch (final ExecutionException x) {
+      final Throwable cause = x.getCause();
+      if (cause instanceof CompilerError) {
+        throw (CompilerError) cause;
+      }
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new UnreachableCodeException(cause);
+    }
+  }
 }
@@ -0,0 +1,457 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.pipeline;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jlog.LogUsableType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
+import com.io7m.jparasol.ASTBinaryReader;
+import com.io7m.jparasol.ASTBinaryWriter;
+import com.io7m.jparasol.CompilerError;
+import com.io7m.jparasol.ModulePath;
+import com.io7m.jparasol.ModulePathFlat;
+import com.io7m.jparasol.core.JPHashAlgorithm;
+import com.io7m.jparasol.core.JPHashing;
+import com.io7m.jparasol.lexer.Lexer;
+import com.io7m.jparasol.parser.Parser;
+import com.io7m.jparasol.typed.TGraphsFragment;
+import com.io7m.jparasol.typed.TypeChecker;
+import com.io7m.jparasol.typed.ast.TASTBinaryReader;
+import com.io7m.jparasol.typed.ast.TASTBinaryWriter;
+import com.io7m.jparasol.typed.ast.TASTCompilation;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDModule;
+import com.io7m.jparasol.untyped.ModuleStructure;
+import com.io7m.jparasol.untyped.Resolver;
+import com.io7m.jparasol.untyped.UniqueBinders;
+import com.io7m.jparasol.untyped.ast.checked.UASTCCompilation;
+import com.io7m.jparasol.untyped.ast.initial.UASTICompilation;
+import com.io7m.jparasol.untyped.ast.initial.UASTIDeclaration.UASTIDModule;
+import com.io7m.jparasol.untyped.ast.initial.UASTIUnit;
+import com.io7m.jparasol.untyped.ast.resolved.UASTRCompilation;
+import com.io7m.jparasol.untyped.ast.unique_binders.UASTUCompilation;
+
+/**
+ * <p>
+ * The type-checked standard library: the checked modules, and the fragment
+ * of the global dependency graphs that each module contributes.
+ * </p>
+ * <p>
+ * The standard library does not import any user modules, and so it checks
+ * to the same modules in every compilation. The build runs
+ * {@link CoreStandardLibraryMain} to write the checked library to the
+ * resource {@link #RESOURCE}, and {@link #get(LogUsableType)} reads that
+ * resource instead of compiling the library. The resource records a hash of
+ * the library sources, and if it is missing, was produced from different
+ * sources, or cannot be read, the library is compiled in memory instead.
+ * Either way, this is done once, on first use, and the result is then
+ * shared (read-only) by every pipeline in the same class loader.
+ * </p>
+ */
+
+@EqualityReference public final class CoreStandardLibrary
+{
+  /**
+   * The version of the format written by {@link #write(OutputStream)}.
+   */
+
+  public static final int                      FORMAT_VERSION = 1;
+
+  /**
+   * The name of the resource that holds the checked library.
+   */
+
+  public static final String                   RESOURCE;
+
+  private static @Nullable CoreStandardLibrary INSTANCE;
+  private static final String                  MAGIC;
+
+  static {
+    MAGIC = "com.io7m.jparasol.standard-library";
+    RESOURCE = "/com/io7m/jparasol/standard-library.bin";
+  }
+
+  /**
+   * Compile the standard library from its sources, ignoring any resource.
+   *
+   * @param log
+   *          A log interface
+   * @return The standard library
+   * @throws CompilerError
+   *           If the standard library fails to compile (a bug)
+   * @throws IOException
+   *           If an I/O error occurs
+   */
+
+  public static CoreStandardLibrary compile(
+    final LogUsableType log)
+    throws CompilerError,
+      IOException
+  {
+    NullCheck.notNull(log, "Log");
+    log.debug("compiling standard library");
+
+    final List<UASTIUnit> units = new ArrayList<UASTIUnit>();
+    for (final String p : CorePipeline.getStandardLibraryResources()) {
+      final InputStream s = CoreStandardLibrary.class.getResourceAsStream(p);
+      assert s != null;
+
+      try {
+        final Lexer lexer = new Lexer(s);
+        lexer.setFile(new File(p));
+        final Parser parser = Parser.newInternalParser(lexer);
+        units.add(parser.unit());
+      } finally {
+        s.close();
+      }
+    }
+
+    final List<ModulePath> paths = new ArrayList<ModulePath>();
+    for (final UASTIUnit u : units) {
+      for (final UASTIDModule m : u.getModules()) {
+        paths.add(m.getPath());
+      }
+    }
+
+    final UASTICompilation combined = UASTICompilation.fromUnits(units);
+    final ModuleStructure structure_checker =
+      ModuleStructure.newModuleStructureChecker(combined, log);
+    final UASTCCompilation checked = structure_checker.check();
+
+    final UniqueBinders binder = UniqueBinders.newUniqueBinders(checked, log);
+    final UASTUCompilation bound = binder.run();
+
+    final Resolver resolver = Resolver.newResolver(bound, log);
+    final UASTRCompilation resolved = resolver.run();
+
+    final TypeChecker type_checker =
+      TypeChecker.newTypeChecker(resolved, log);
+    final TASTCompilation typed = type_checker.check();
+
+    /**
+     * Modules are kept in reverse topological order (imported modules
+     * first), which is the order in which the type checker checks them.
+     */
+
+    final List<ModulePathFlat> topology = typed.getModuleTopology();
+    final List<ModulePathFlat> order = new ArrayList<ModulePathFlat>();
+    for (int index = topology.size() - 1; index >= 0; --index) {
+      order.add(topology.get(index));
+    }
+
+    return new CoreStandardLibrary(
+      paths,
+      order,
+      typed.getModules(),
+      typed.getGraphFragments());
+  }
+
+  /**
+   * Retrieve the standard library, reading it from {@link #RESOURCE} or
+   * compiling it if necessary.
+   *
+   * @param log
+   *          A log interface
+   * @return The standard library
+   * @throws CompilerError
+   *           If the standard library fails to compile (a bug)
+   * @throws IOException
+   *           If an I/O error occurs
+   */
+
+  public static synchronized CoreStandardLibrary get(
+    final LogUsableType log)
+    throws CompilerError,
+      IOException
+  {
+    NullCheck.notNull(log, "Log");
+
+    final CoreStandardLibrary current = CoreStandardLibrary.INSTANCE;
+    if (current != null) {
+      return current;
+    }
+
+    final CoreStandardLibrary r =
+      CoreStandardLibrary.load(log.with("standard-library"));
+    CoreStandardLibrary.INSTANCE = r;
+    return r;
+  }
+
+  /**
+   * @return A hash of the names and contents of the standard library sources
+   * @throws IOException
+   *           If an I/O error occurs
+   */
+
+  public static String getSourceHash()
+    throws IOException
+  {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[8192];
+
+    for (final String p : CorePipeline.getStandardLibraryResources()) {
+      final InputStream s = CoreStandardLibrary.class.getResourceAsStream(p);
+      assert s != null;
+
+      try {
+        bytes.write(p.getBytes("UTF-8"));
+        bytes.write(0);
+        for (;;) {
+          final int r = s.read(buffer);
+          if (r == -1) {
+            break;
+          }
+          bytes.write(buffer, 0, r);
+        }
+        bytes.write(0);
+      } finally {
+        s.close();
+      }
+    }
+
+    final ByteBuffer data = ByteBuffer.wrap(bytes.toByteArray());
+    assert data != null;
+    return JPHashing.hex(JPHashing.hashBytes(
+      JPHashAlgorithm.HASH_SHA_256,
+      data));
+  }
+
+  private static CoreStandardLibrary load(
+    final LogUsableType log)
+    throws CompilerError,
+      IOException
+  {
+    final InputStream s =
+      CoreStandardLibrary.class.getResourceAsStream(
+        CoreStandardLibrary.RESOURCE);
+
+    if (s == null) {
+      log.debug("standard library resource is missing");
+      return CoreStandardLibrary.compile(log);
+    }
+
+    try {
+      final CoreStandardLibrary r = CoreStandardLibrary.read(s);
+      log.debug("read standard library from resource");
+      return r;
+    } catch (final IOException e) {
+      final String m =
+        String.format(
+          "standard library resource is unusable: %s",
+          e.getMessage());
+      assert m != null;
+      log.info(m);
+      return CoreStandardLibrary.compile(log);
+    } finally {
+      s.close();
+    }
+  }
+
+  /**
+   * @return A library that contains no modules, for pipelines that do not use
+   *         the standard library
+   */
+
+  static CoreStandardLibrary none()
+  {
+    final List<ModulePath> no_paths = Collections.emptyList();
+    final List<ModulePathFlat> no_order = Collections.emptyList();
+    final Map<ModulePathFlat, TASTDModule> no_typed = Collections.emptyMap();
+    final Map<ModulePathFlat, TGraphsFragment> no_fragments =
+      Collections.emptyMap();
+    assert no_paths != null;
+    assert no_order != null;
+    assert no_typed != null;
+    assert no_fragments != null;
+    return new CoreStandardLibrary(no_paths, no_order, no_typed, no_fragments);
+  }
+
+  /**
+   * Read a library written by {@link #write(OutputStream)}. The stream is not
+   * closed.
+   *
+   * @param stream
+   *          The input stream
+   * @return The standard library
+   * @throws IOException
+   *           On I/O errors, if the input is malformed, or if the input was
+   *           produced from sources other than the current standard library
+   *           sources
+   */
+
+  public static CoreStandardLibrary read(
+    final InputStream stream)
+    throws IOException
+  {
+    final ASTBinaryReader r = new ASTBinaryReader(stream);
+
+    if (CoreStandardLibrary.MAGIC.equals(r.readString()) == false) {
+      throw new IOException("Not a standard library file");
+    }
+    final int version = r.readInteger();
+    if (version != CoreStandardLibrary.FORMAT_VERSION) {
+      throw new IOException(String.format(
+        "Unsupported standard library format version %d",
+        Integer.valueOf(version)));
+    }
+    if (CoreStandardLibrary.getSourceHash().equals(r.readString()) == false) {
+      throw new IOException(
+        "The standard library file was produced from different sources");
+    }
+
+    final List<ModulePath> paths = new ArrayList<ModulePath>();
+    final int path_count = r.readInteger();
+    for (int index = 0; index < path_count; ++index) {
+      paths.add(r.readModulePath());
+    }
+
+    final TASTBinaryReader tr = new TASTBinaryReader(r);
+    final List<ModulePathFlat> order = new ArrayList<ModulePathFlat>();
+    final Map<ModulePathFlat, TASTDModule> typed =
+      new HashMap<ModulePathFlat, TASTDModule>();
+    final int module_count = r.readInteger();
+    for (int index = 0; index < module_count; ++index) {
+      final TASTDModule m = tr.readModule(typed);
+      final ModulePathFlat flat = ModulePathFlat.fromModulePath(m.getPath());
+      order.add(flat);
+      typed.put(flat, m);
+    }
+
+    final Map<ModulePathFlat, TGraphsFragment> fragments =
+      new HashMap<ModulePathFlat, TGraphsFragment>();
+    for (int index = 0; index < module_count; ++index) {
+      final ModulePathFlat flat = order.get(index);
+      assert flat != null;
+      fragments.put(flat, tr.readFragment());
+    }
+
+    return new CoreStandardLibrary(paths, order, typed, fragments);
+  }
+
+  private final Map<ModulePathFlat, TGraphsFragment> fragments;
+  private final List<ModulePathFlat>                 order;
+  private final List<ModulePath>                     paths;
+  private final Map<ModulePathFlat, TASTDModule>     typed;
+
+  private CoreStandardLibrary(
+    final List<ModulePath> in_paths,
+    final List<ModulePathFlat> in_order,
+    final Map<ModulePathFlat, TASTDModule> in_typed,
+    final Map<ModulePathFlat, TGraphsFragment> in_fragments)
+  {
+    this.paths = NullCheck.notNull(in_paths, "Paths");
+    this.order = NullCheck.notNull(in_order, "Order");
+    this.typed = NullCheck.notNull(in_typed, "Typed");
+    this.fragments = NullCheck.notNull(in_fragments, "Fragments");
+  }
+
+  /**
+   * @return The fragment of the global dependency graphs that each standard
+   *         library module contributes
+   */
+
+  public Map<ModulePathFlat, TGraphsFragment> getGraphFragments()
+  {
+    final Map<ModulePathFlat, TGraphsFragment> r =
+      Collections.unmodifiableMap(this.fragments);
+    assert r != null;
+    return r;
+  }
+
+  /**
+   * @return The paths of the standard library modules, in the order that
+   *         they are declared in the standard library sources
+   */
+
+  public List<ModulePath> getModulePaths()
+  {
+    final List<ModulePath> r = Collections.unmodifiableList(this.paths);
+    assert r != null;
+    return r;
+  }
+
+  /**
+   * @return The type-checked standard library modules
+   */
+
+  public Map<ModulePathFlat, TASTDModule> getTypedModules()
+  {
+    final Map<ModulePathFlat, TASTDModule> r =
+      Collections.unmodifiableMap(this.typed);
+    assert r != null;
+    return r;
+  }
+
+  /**
+   * Write the library to the given stream, in a form that can be read with
+   * {@link #read(InputStream)}. The stream is not closed.
+   *
+   * @param stream
+   *          The output stream
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void write(
+    final OutputStream stream)
+    throws IOException
+  {
+    final ASTBinaryWriter w = new ASTBinaryWriter(stream);
+    w.writeString(CoreStandardLibrary.MAGIC);
+    w.writeInteger(CoreStandardLibrary.FORMAT_VERSION);
+    w.writeString(CoreStandardLibrary.getSourceHash());
+
+    w.writeInteger(this.paths.size());
+    for (final ModulePath p : this.paths) {
+      assert p != null;
+      w.writeModulePath(p);
+    }
+
+    /**
+     * All modules are written to the one stream so that tokens shared
+     * between modules are shared again when read.
+     */
+
+    final TASTBinaryWriter tw = new TASTBinaryWriter(w);
+    w.writeInteger(this.order.size());
+    for (final ModulePathFlat flat : this.order) {
+      final TASTDModule m = this.typed.get(flat);
+      assert m != null;
+      tw.writeModule(m);
+    }
+    for (final ModulePathFlat flat : this.order) {
+      final TGraphsFragment f = this.fragments.get(flat);
+      assert f != null;
+      tw.writeFragment(f);
+    }
+
+    w.flush();
+  }
+}
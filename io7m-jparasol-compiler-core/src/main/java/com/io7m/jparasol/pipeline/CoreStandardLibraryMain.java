@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.pipeline;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jlog.Log;
+import com.io7m.jlog.LogLevel;
+import com.io7m.jlog.LogPolicyAllOn;
+import com.io7m.jlog.LogType;
+import com.io7m.jparasol.CompilerError;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>
+ * Compile the standard library and write the checked modules to the given
+ * file, in the form read by {@link CoreStandardLibrary}.
+ * </p>
+ * <p>
+ * The build runs this during the <code>process-classes</code> phase to
+ * produce {@link CoreStandardLibrary#RESOURCE}.
+ * </p>
+ */
+
+@EqualityReference public final class CoreStandardLibraryMain
+{
+  /**
+   * Main function.
+   *
+   * @param args
+   *          Command line arguments: the output file
+   * @throws CompilerError
+   *           If the standard library fails to compile (a bug)
+   * @throws IOException
+   *           If an I/O error occurs
+   */
+
+  public static void main(
+    final String[] args)
+    throws CompilerError,
+      IOException
+  {
+    if (args.length != 1) {
+      System.err.println("usage: output.bin");
+      System.exit(1);
+      return;
+    }
+
+    final LogType log =
+      Log.newLog(LogPolicyAllOn.newPolicy(LogLevel.LOG_INFO), "stdlib");
+    final CoreStandardLibrary library = CoreStandardLibrary.compile(log);
+
+    final File file = new File(args[0]);
+    final File parent = file.getParentFile();
+    if (parent != null) {
+      parent.mkdirs();
+    }
+
+    final OutputStream out =
+      new BufferedOutputStream(new FileOutputStream(file));
+    try {
+      library.write(out);
+    } finally {
+      out.close();
+    }
+
+    final String m = String.format("wrote standard library to %s", file);
+    assert m != null;
+    log.info(m);
+  }
+
+  private CoreStandardLibraryMain()
+  {
+    throw new UnreachableCodeException();
+  }
+}
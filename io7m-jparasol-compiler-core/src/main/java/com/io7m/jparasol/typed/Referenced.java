@@ -17,177 +17,28 @@
 package com.io7m.jparasol.typed;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
-import org.jgrapht.experimental.dag.DirectedAcyclicGraph;
-import org.jgrapht.traverse.BreadthFirstIterator;
-
 import com.io7m.jequality.annotations.EqualityReference;
-import com.io7m.jfunctional.Unit;
 import com.io7m.jlog.LogLevel;
 import com.io7m.jlog.LogUsableType;
 import com.io7m.jnull.NullCheck;
 import com.io7m.jparasol.ModulePathFlat;
-import com.io7m.jparasol.lexer.Token.TokenIdentifierLower;
 import com.io7m.jparasol.typed.ast.TASTCompilation;
 import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDModule;
-import com.io7m.jparasol.typed.ast.TASTNameTermShaderFlatType;
-import com.io7m.jparasol.typed.ast.TASTNameTypeShaderFlatType;
-import com.io7m.jparasol.typed.ast.TASTNameTypeShaderFlatVisitorType;
-import com.io7m.jparasol.typed.ast.TASTNameTypeTermFlatType;
-import com.io7m.jparasol.typed.ast.TASTNameTypeTermFlatVisitorType;
-import com.io7m.jparasol.typed.ast.TASTReference;
+import com.io7m.jparasol.typed.ast.TASTReachability;
 import com.io7m.jparasol.typed.ast.TASTShaderNameFlat;
 import com.io7m.jparasol.typed.ast.TASTTermNameFlat;
-import com.io7m.junreachable.UnreachableCodeException;
 
 /**
  * Determine all of the referenced terms and types for a given shader.
+ *
+ * @see TASTReachability
  */
 
 @EqualityReference public final class Referenced
 {
-  private static void collectTermsFromShader(
-    final TASTCompilation compilation,
-    final TASTShaderNameFlat shader_name,
-    final LogUsableType log_actual,
-    final Set<TASTTermNameFlat> terms)
-  {
-    final DirectedAcyclicGraph<TASTNameTermShaderFlatType, TASTReference> shader_term_graph =
-      compilation.getShaderTermGraph();
-    final DirectedAcyclicGraph<TASTTermNameFlat, TASTReference> term_term_graph =
-      compilation.getTermGraph();
-
-    for (final TASTReference d : shader_term_graph
-      .outgoingEdgesOf(shader_name)) {
-      final ModulePathFlat term_module = d.getTargetModuleFlat();
-      final TokenIdentifierLower term_name = d.getTargetName();
-      final TASTTermNameFlat term =
-        new TASTTermNameFlat(term_module, term_name.getActual());
-
-      final BreadthFirstIterator<TASTTermNameFlat, TASTReference> bfi =
-        new BreadthFirstIterator<TASTTermNameFlat, TASTReference>(
-          term_term_graph,
-          term);
-
-      while (bfi.hasNext()) {
-        final TASTTermNameFlat current = bfi.next();
-        if (log_actual.wouldLog(LogLevel.LOG_DEBUG)) {
-          final String r = String.format("Adding term %s", current.show());
-          assert r != null;
-          log_actual.debug(r);
-        }
-        terms.add(new TASTTermNameFlat(current.getModulePath(), current
-          .getName()));
-      }
-    }
-  }
-
-  private static void collectTypesForTerm(
-    final TASTCompilation compilation,
-    final Set<TTypeNameFlat> types,
-    final TASTTermNameFlat term,
-    final LogUsableType log)
-  {
-    final DirectedAcyclicGraph<TASTNameTypeTermFlatType, TASTReference> term_type =
-      compilation.getTermTypeGraph();
-
-    final BreadthFirstIterator<TASTNameTypeTermFlatType, TASTReference> bfi =
-      new BreadthFirstIterator<TASTNameTypeTermFlatType, TASTReference>(
-        term_type,
-        term);
-
-    while (bfi.hasNext()) {
-      final TASTNameTypeTermFlatType current = bfi.next();
-      current
-        .nameTypeTermVisitableAccept(new TASTNameTypeTermFlatVisitorType<Unit, UnreachableCodeException>() {
-          @Override public Unit nameTypeTermVisitTerm(
-            final TASTTermNameFlat _)
-          {
-            return Unit.unit();
-          }
-
-          @Override public Unit nameTypeTermVisitType(
-            final TTypeNameFlat type)
-          {
-            if (log.wouldLog(LogLevel.LOG_DEBUG)) {
-              final String r = String.format("Adding type %s", type.show());
-              assert r != null;
-              log.debug(r);
-            }
-            types.add(type);
-            return Unit.unit();
-          }
-        });
-    }
-  }
-
-  private static void collectTypesForType(
-    final TASTCompilation compilation,
-    final Set<TTypeNameFlat> types,
-    final TTypeNameFlat type_name,
-    final LogUsableType log)
-  {
-    final DirectedAcyclicGraph<TTypeNameFlat, TASTReference> type_graph =
-      compilation.getTypeGraph();
-
-    final BreadthFirstIterator<TTypeNameFlat, TASTReference> bfi =
-      new BreadthFirstIterator<TTypeNameFlat, TASTReference>(
-        type_graph,
-        type_name);
-
-    while (bfi.hasNext()) {
-      final TTypeNameFlat current = bfi.next();
-      if (log.wouldLog(LogLevel.LOG_DEBUG)) {
-        final String r = String.format("Adding type %s", current.show());
-        assert r != null;
-        log.debug(r);
-      }
-      types.add(current);
-    }
-  }
-
-  private static void collectTypesFromShader(
-    final TASTCompilation compilation,
-    final Set<TTypeNameFlat> types,
-    final TASTShaderNameFlat shader_name,
-    final LogUsableType log)
-  {
-    final DirectedAcyclicGraph<TASTNameTypeShaderFlatType, TASTReference> shader_type =
-      compilation.getShaderTypeGraph();
-
-    final BreadthFirstIterator<TASTNameTypeShaderFlatType, TASTReference> bfi =
-      new BreadthFirstIterator<TASTNameTypeShaderFlatType, TASTReference>(
-        shader_type,
-        shader_name);
-
-    while (bfi.hasNext()) {
-      final TASTNameTypeShaderFlatType current = bfi.next();
-      current
-        .nameTypeShaderVisitableAccept(new TASTNameTypeShaderFlatVisitorType<Unit, UnreachableCodeException>() {
-          @Override public Unit nameTypeShaderVisitShader(
-            final TASTShaderNameFlat t)
-          {
-            return Unit.unit();
-          }
-
-          @Override public Unit nameTypeShaderVisitType(
-            final TTypeNameFlat t)
-          {
-            if (log.wouldLog(LogLevel.LOG_DEBUG)) {
-              final String r = String.format("Adding type %s", t.show());
-              assert r != null;
-              log.debug(r);
-            }
-            types.add(t);
-            return Unit.unit();
-          }
-        });
-    }
-  }
-
   /**
    * @param compilation
    *          The typed AST
@@ -225,46 +76,28 @@ import com.io7m.junreachable.UnreachableCodeException;
       NullCheck.notNull(log, "Log").with("referenced");
 
     /**
-     * Collect all terms referenced by the shader.
+     * All terms reachable from the shader, and all types reachable from
+     * those terms and from the shader itself, are taken from the
+     * precomputed reachability index.
      */
 
-    final Set<TASTTermNameFlat> terms = new HashSet<TASTTermNameFlat>();
-    Referenced.collectTermsFromShader(
-      compilation,
-      shader_name,
-      log_actual,
-      terms);
+    final TASTReachability index = compilation.getReachability();
+    final Set<TASTTermNameFlat> terms = index.getShaderTerms(shader_name);
+    final Set<TTypeNameFlat> types = index.getShaderTypes(shader_name);
 
-    /**
-     * Collect all types referenced by those terms.
-     */
-
-    final Set<TTypeNameFlat> types = new HashSet<TTypeNameFlat>();
-    for (final TASTTermNameFlat t : terms) {
-      assert t != null;
-      Referenced.collectTypesForTerm(compilation, types, t, log_actual);
+    if (log_actual.wouldLog(LogLevel.LOG_DEBUG)) {
+      for (final TASTTermNameFlat t : terms) {
+        final String r = String.format("Adding term %s", t.show());
+        assert r != null;
+        log_actual.debug(r);
+      }
+      for (final TTypeNameFlat t : types) {
+        final String r = String.format("Adding type %s", t.show());
+        assert r != null;
+        log_actual.debug(r);
+      }
     }
 
-    /**
-     * Collect all types referenced by the shader.
-     */
-
-    Referenced.collectTypesFromShader(
-      compilation,
-      types,
-      shader_name,
-      log_actual);
-
-    /**
-     * Collect all types referenced by those types.
-     */
-
-    final Set<TTypeNameFlat> extra_types = new HashSet<TTypeNameFlat>();
-    for (final TTypeNameFlat t : types) {
-      assert t != null;
-      Referenced.collectTypesForType(compilation, extra_types, t, log_actual);
-    }
-    types.addAll(extra_types);
     return new Referenced(shader_name, terms, types);
   }
 
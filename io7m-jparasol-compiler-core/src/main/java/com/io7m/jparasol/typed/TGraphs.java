@@ -16,6 +16,8 @@
 
 package com.io7m.jparasol.typed;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -105,11 +107,13 @@ import com.io7m.junreachable.UnreachableCodeException;
 
   @EqualityReference static final class GlobalGraph
   {
-    private final GlobalTermShaderGraph term_shader;
-    private final GlobalTermTermGraph   term_term;
-    private final GlobalTermTypeGraph   term_type;
-    private final GlobalTypeShaderGraph type_shader;
-    private final GlobalTypeTypeGraph   type_type;
+    private final Map<ModulePathFlat, TGraphsFragment> fragments;
+    private @Nullable TGraphsFragment                  recording;
+    private final GlobalTermShaderGraph                term_shader;
+    private final GlobalTermTermGraph                  term_term;
+    private final GlobalTermTypeGraph                  term_type;
+    private final GlobalTypeShaderGraph                type_shader;
+    private final GlobalTypeTypeGraph                  type_type;
 
     public GlobalGraph(
       final LogUsableType log)
@@ -119,23 +123,36 @@ import com.io7m.junreachable.UnreachableCodeException;
       this.type_type = new GlobalTypeTypeGraph(log);
       this.term_shader = new GlobalTermShaderGraph(log);
       this.type_shader = new GlobalTypeShaderGraph(log);
+      this.fragments = new HashMap<ModulePathFlat, TGraphsFragment>();
+      this.recording = null;
     }
 
     public void addShader(
       final TASTShaderName shader)
     {
-      final TASTShaderNameFlat flat =
-        TASTShaderNameFlat.fromShaderName(shader);
-      this.type_shader.addShader(flat);
-      this.term_shader.addShader(flat);
+      final TGraphsFragment r = this.recording;
+      if (r != null) {
+        r.add(TGraphsFragment.Kind.SHADER, shader.getPath(), shader.getName());
+      }
+      this.shader(shader);
     }
 
     public void addShaderTermReference(
       final TASTShaderName shader,
       final TASTTermNameGlobal term)
     {
-      this.addTerm(term);
-      this.addShader(shader);
+      final TGraphsFragment r = this.recording;
+      if (r != null) {
+        r.add(
+          TGraphsFragment.Kind.SHADER_TERM_REFERENCE,
+          shader.getPath(),
+          shader.getName(),
+          term.getPath(),
+          term.getName());
+      }
+
+      this.term(term);
+      this.shader(shader);
       this.term_shader.addTermShaderReference(shader, term);
     }
 
@@ -143,26 +160,47 @@ import com.io7m.junreachable.UnreachableCodeException;
       final TASTShaderName shader,
       final TTypeNameGlobal type)
     {
-      this.addType(type);
-      this.addShader(shader);
+      final TGraphsFragment r = this.recording;
+      if (r != null) {
+        r.add(
+          TGraphsFragment.Kind.SHADER_TYPE_REFERENCE,
+          shader.getPath(),
+          shader.getName(),
+          type.getPath(),
+          type.getName());
+      }
+
+      this.type(type);
+      this.shader(shader);
       this.type_shader.addTypeShaderReference(shader, type);
     }
 
     public void addTerm(
       final TASTTermNameGlobal term)
     {
-      final TASTTermNameFlat flat = TASTTermNameFlat.fromTermNameGlobal(term);
-      this.term_term.addTerm(flat);
-      this.term_type.addTerm(flat);
-      this.term_shader.addTerm(flat);
+      final TGraphsFragment r = this.recording;
+      if (r != null) {
+        r.add(TGraphsFragment.Kind.TERM, term.getPath(), term.getName());
+      }
+      this.term(term);
     }
 
     public void addTermTermReference(
       final TASTTermNameGlobal source,
       final TASTTermNameGlobal target)
     {
-      this.addTerm(source);
-      this.addTerm(target);
+      final TGraphsFragment r = this.recording;
+      if (r != null) {
+        r.add(
+          TGraphsFragment.Kind.TERM_TERM_REFERENCE,
+          source.getPath(),
+          source.getName(),
+          target.getPath(),
+          target.getName());
+      }
+
+      this.term(source);
+      this.term(target);
       this.term_term.addTermReference(source, target);
     }
 
@@ -170,28 +208,61 @@ import com.io7m.junreachable.UnreachableCodeException;
       final TASTTermNameGlobal source,
       final TTypeNameGlobal target)
     {
-      this.addTerm(source);
+      final TGraphsFragment r = this.recording;
+      if (r != null) {
+        r.add(
+          TGraphsFragment.Kind.TERM_TYPE_REFERENCE,
+          source.getPath(),
+          source.getName(),
+          target.getPath(),
+          target.getName());
+      }
+
+      this.term(source);
       this.term_type.addTermTypeReference(source, target);
     }
 
     public void addType(
       final TTypeNameGlobal type)
     {
-      final TTypeNameFlat flat = TTypeNameFlat.fromTypeNameGlobal(type);
-      this.term_type.addType(flat);
-      this.type_type.addType(flat);
-      this.type_shader.addType(flat);
+      final TGraphsFragment r = this.recording;
+      if (r != null) {
+        r.add(TGraphsFragment.Kind.TYPE, type.getPath(), type.getName());
+      }
+      this.type(type);
     }
 
     public void addTypeTypeReference(
       final TTypeNameGlobal source,
       final TTypeNameGlobal target)
     {
-      this.addType(source);
-      this.addType(target);
+      final TGraphsFragment r = this.recording;
+      if (r != null) {
+        r.add(
+          TGraphsFragment.Kind.TYPE_TYPE_REFERENCE,
+          source.getPath(),
+          source.getName(),
+          target.getPath(),
+          target.getName());
+      }
+
+      this.type(source);
+      this.type(target);
       this.type_type.addTypeReference(source, target);
     }
 
+    /**
+     * @return The fragment of the graphs added by each module
+     */
+
+    public Map<ModulePathFlat, TGraphsFragment> getFragments()
+    {
+      final Map<ModulePathFlat, TGraphsFragment> r =
+        Collections.unmodifiableMap(this.fragments);
+      assert r != null;
+      return r;
+    }
+
     public GlobalTermShaderGraph getTermShader()
     {
       return this.term_shader;
@@ -216,6 +287,51 @@ import com.io7m.junreachable.UnreachableCodeException;
     {
       return this.type_type;
     }
+
+    void putFragment(
+      final ModulePathFlat module,
+      final TGraphsFragment fragment)
+    {
+      this.fragments.put(module, fragment);
+    }
+
+    /**
+     * Record all subsequent additions in the given fragment, or stop
+     * recording if the fragment is <code>null</code>.
+     */
+
+    void setRecording(
+      final @Nullable TGraphsFragment fragment)
+    {
+      this.recording = fragment;
+    }
+
+    private void shader(
+      final TASTShaderName shader)
+    {
+      final TASTShaderNameFlat flat =
+        TASTShaderNameFlat.fromShaderName(shader);
+      this.type_shader.addShader(flat);
+      this.term_shader.addShader(flat);
+    }
+
+    private void term(
+      final TASTTermNameGlobal term)
+    {
+      final TASTTermNameFlat flat = TASTTermNameFlat.fromTermNameGlobal(term);
+      this.term_term.addTerm(flat);
+      this.term_type.addTerm(flat);
+      this.term_shader.addTerm(flat);
+    }
+
+    private void type(
+      final TTypeNameGlobal type)
+    {
+      final TTypeNameFlat flat = TTypeNameFlat.fromTypeNameGlobal(type);
+      this.term_type.addType(flat);
+      this.type_type.addType(flat);
+      this.type_shader.addType(flat);
+    }
   }
 
   /**
@@ -1839,16 +1955,35 @@ import com.io7m.junreachable.UnreachableCodeException;
     this.log = in_log;
   }
 
+  /**
+   * Build the global graphs for the given modules. The graph additions of
+   * any module that has a fragment in <code>existing</code> are replayed from
+   * that fragment instead of being found by walking the module's
+   * declarations.
+   */
+
   public GlobalGraph check(
-    final Map<ModulePathFlat, TASTDModule> checked_modules)
+    final Map<ModulePathFlat, TASTDModule> checked_modules,
+    final Map<ModulePathFlat, TGraphsFragment> existing)
   {
     NullCheck.notNull(checked_modules, "Modules");
+    NullCheck.notNull(existing, "Existing fragments");
 
     final GlobalGraph graph = new GlobalGraph(this.log);
 
     for (final ModulePathFlat p : checked_modules.keySet()) {
       final TASTDModule m = checked_modules.get(p);
 
+      final TGraphsFragment previous = existing.get(p);
+      if (previous != null) {
+        previous.replay(graph);
+        graph.putFragment(p, previous);
+        continue;
+      }
+
+      final TGraphsFragment fragment = new TGraphsFragment();
+      graph.setRecording(fragment);
+
       final GraphBuilderType type_tb =
         new GraphBuilderType(
           checked_modules,
@@ -1889,6 +2024,9 @@ import com.io7m.junreachable.UnreachableCodeException;
         final TASTDShader shader = m.getShaders().get(name);
         shader.shaderVisitableAccept(shader_tb);
       }
+
+      graph.setRecording(null);
+      graph.putFragment(p, fragment);
     }
 
     return graph;
@@ -0,0 +1,348 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.typed;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jparasol.ModulePath;
+import com.io7m.jparasol.lexer.Token.TokenIdentifierLower;
+import com.io7m.jparasol.typed.TGraphs.GlobalGraph;
+import com.io7m.jparasol.typed.TTypeName.TTypeNameGlobal;
+import com.io7m.jparasol.typed.ast.TASTShaderName;
+import com.io7m.jparasol.typed.ast.TASTTermName.TASTTermNameGlobal;
+
+/**
+ * <p>
+ * The additions that the declarations of a single module make to the global
+ * term, type, and shader dependency graphs, in the order that they were
+ * made.
+ * </p>
+ * <p>
+ * A fragment is recorded when the declarations of a module are walked to
+ * build the graphs. Replaying the fragment adds exactly the same vertices and
+ * edges without walking the declarations again, and so a module that has
+ * been checked by an earlier compilation can be added to the graphs of a
+ * later one.
+ * </p>
+ */
+
+@EqualityReference public final class TGraphsFragment
+{
+  /**
+   * The kinds of additions.
+   */
+
+  public static enum Kind
+  {
+    /**
+     * A shader.
+     */
+
+    SHADER(false),
+
+    /**
+     * A reference to a term by a shader.
+     */
+
+    SHADER_TERM_REFERENCE(true),
+
+    /**
+     * A reference to a type by a shader.
+     */
+
+    SHADER_TYPE_REFERENCE(true),
+
+    /**
+     * A term.
+     */
+
+    TERM(false),
+
+    /**
+     * A reference to a term by a term.
+     */
+
+    TERM_TERM_REFERENCE(true),
+
+    /**
+     * A reference to a type by a term.
+     */
+
+    TERM_TYPE_REFERENCE(true),
+
+    /**
+     * A type.
+     */
+
+    TYPE(false),
+
+    /**
+     * A reference to a type by a type.
+     */
+
+    TYPE_TYPE_REFERENCE(true);
+
+    private final boolean reference;
+
+    private Kind(
+      final boolean in_reference)
+    {
+      this.reference = in_reference;
+    }
+
+    /**
+     * @return <code>true</code> iff additions of this kind have a target
+     */
+
+    public boolean isReference()
+    {
+      return this.reference;
+    }
+  }
+
+  /**
+   * A single addition. For additions that are not references, the target is
+   * the same as the source.
+   */
+
+  @EqualityReference public static final class Operation
+  {
+    private final Kind                 kind;
+    private final TokenIdentifierLower source_name;
+    private final ModulePath           source_path;
+    private final TokenIdentifierLower target_name;
+    private final ModulePath           target_path;
+
+    /**
+     * Construct an addition.
+     *
+     * @param in_kind
+     *          The kind of addition
+     * @param in_source_path
+     *          The module of the source
+     * @param in_source_name
+     *          The name of the source
+     * @param in_target_path
+     *          The module of the target
+     * @param in_target_name
+     *          The name of the target
+     */
+
+    public Operation(
+      final Kind in_kind,
+      final ModulePath in_source_path,
+      final TokenIdentifierLower in_source_name,
+      final ModulePath in_target_path,
+      final TokenIdentifierLower in_target_name)
+    {
+      this.kind = NullCheck.notNull(in_kind, "Kind");
+      this.source_path = NullCheck.notNull(in_source_path, "Source path");
+      this.source_name = NullCheck.notNull(in_source_name, "Source name");
+      this.target_path = NullCheck.notNull(in_target_path, "Target path");
+      this.target_name = NullCheck.notNull(in_target_name, "Target name");
+    }
+
+    /**
+     * @return The kind of addition
+     */
+
+    public Kind getKind()
+    {
+      return this.kind;
+    }
+
+    /**
+     * @return The name of the source
+     */
+
+    public TokenIdentifierLower getSourceName()
+    {
+      return this.source_name;
+    }
+
+    /**
+     * @return The module of the source
+     */
+
+    public ModulePath getSourcePath()
+    {
+      return this.source_path;
+    }
+
+    /**
+     * @return The name of the target
+     */
+
+    public TokenIdentifierLower getTargetName()
+    {
+      return this.target_name;
+    }
+
+    /**
+     * @return The module of the target
+     */
+
+    public ModulePath getTargetPath()
+    {
+      return this.target_path;
+    }
+
+    void replay(
+      final GlobalGraph graph)
+    {
+      switch (this.kind) {
+        case SHADER:
+        {
+          graph.addShader(new TASTShaderName(
+            this.source_path,
+            this.source_name));
+          break;
+        }
+        case SHADER_TERM_REFERENCE:
+        {
+          graph.addShaderTermReference(new TASTShaderName(
+            this.source_path,
+            this.source_name), new TASTTermNameGlobal(
+            this.target_path,
+            this.target_name));
+          break;
+        }
+        case SHADER_TYPE_REFERENCE:
+        {
+          graph.addShaderTypeReference(new TASTShaderName(
+            this.source_path,
+            this.source_name), new TTypeNameGlobal(
+            this.target_path,
+            this.target_name));
+          break;
+        }
+        case TERM:
+        {
+          graph.addTerm(new TASTTermNameGlobal(
+            this.source_path,
+            this.source_name));
+          break;
+        }
+        case TERM_TERM_REFERENCE:
+        {
+          graph.addTermTermReference(new TASTTermNameGlobal(
+            this.source_path,
+            this.source_name), new TASTTermNameGlobal(
+            this.target_path,
+            this.target_name));
+          break;
+        }
+        case TERM_TYPE_REFERENCE:
+        {
+          graph.addTermTypeReference(new TASTTermNameGlobal(
+            this.source_path,
+            this.source_name), new TTypeNameGlobal(
+            this.target_path,
+            this.target_name));
+          break;
+        }
+        case TYPE:
+        {
+          graph.addType(new TTypeNameGlobal(
+            this.source_path,
+            this.source_name));
+          break;
+        }
+        case TYPE_TYPE_REFERENCE:
+        {
+          graph.addTypeTypeReference(new TTypeNameGlobal(
+            this.source_path,
+            this.source_name), new TTypeNameGlobal(
+            this.target_path,
+            this.target_name));
+          break;
+        }
+      }
+    }
+  }
+
+  private final List<Operation> operations;
+
+  /**
+   * Construct an empty fragment.
+   */
+
+  public TGraphsFragment()
+  {
+    this.operations = new ArrayList<Operation>();
+  }
+
+  /**
+   * Add an addition to the end of the fragment.
+   *
+   * @param op
+   *          The addition
+   */
+
+  public void add(
+    final Operation op)
+  {
+    this.operations.add(NullCheck.notNull(op, "Operation"));
+  }
+
+  void add(
+    final Kind kind,
+    final ModulePath source_path,
+    final TokenIdentifierLower source_name)
+  {
+    this.add(kind, source_path, source_name, source_path, source_name);
+  }
+
+  void add(
+    final Kind kind,
+    final ModulePath source_path,
+    final TokenIdentifierLower source_name,
+    final ModulePath target_path,
+    final TokenIdentifierLower target_name)
+  {
+    this.operations.add(new Operation(
+      kind,
+      source_path,
+      source_name,
+      target_path,
+      target_name));
+  }
+
+  /**
+   * @return The additions, in the order that they were made
+   */
+
+  public List<Operation> getOperations()
+  {
+    final List<Operation> r = Collections.unmodifiableList(this.operations);
+    assert r != null;
+    return r;
+  }
+
+  void replay(
+    final GlobalGraph graph)
+  {
+    for (final Operation op : this.operations) {
+      op.replay(graph);
+    }
+  }
+}
@@ -17,14 +17,10 @@
 package com.io7m.jparasol.typed;
 
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import org.jgrapht.experimental.dag.DirectedAcyclicGraph;
-import org.jgrapht.traverse.TopologicalOrderIterator;
-
 import com.io7m.jequality.annotations.EqualityReference;
 import com.io7m.jlog.LogLevel;
 import com.io7m.jlog.LogUsableType;
@@ -32,7 +28,7 @@ import com.io7m.jnull.NullCheck;
 import com.io7m.jparasol.ModulePathFlat;
 import com.io7m.jparasol.typed.ast.TASTCompilation;
 import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDModule;
-import com.io7m.jparasol.typed.ast.TASTReference;
+import com.io7m.jparasol.typed.ast.TASTReachability;
 import com.io7m.jparasol.typed.ast.TASTShaderNameFlat;
 import com.io7m.jparasol.typed.ast.TASTTermNameFlat;
 
@@ -105,59 +101,31 @@ import com.io7m.jparasol.typed.ast.TASTTermNameFlat;
     }
 
     final LogUsableType log_actual = log.with("topology");
-    // CHECKSTYLE:OFF
-    final LinkedList<TTypeNameFlat> types = new LinkedList<TTypeNameFlat>();
-    // CHECKSTYLE:ON
-    final Set<TTypeNameFlat> referenced_types = referenced.getTypes();
+    final TASTReachability index = compilation.getReachability();
 
-    {
-      final DirectedAcyclicGraph<TTypeNameFlat, TASTReference> type_graph =
-        compilation.getTypeGraph();
-      final TopologicalOrderIterator<TTypeNameFlat, TASTReference> type_iter =
-        new TopologicalOrderIterator<TTypeNameFlat, TASTReference>(type_graph);
-
-      while (type_iter.hasNext()) {
-        final TTypeNameFlat type_current = type_iter.next();
-        if (referenced_types.contains(type_current)) {
-          if (log_actual.wouldLog(LogLevel.LOG_DEBUG)) {
-            final String r =
-              String.format("Adding type %s", type_current.show());
-            assert r != null;
-            log_actual.debug(r);
-          }
-          types.addFirst(type_current);
-        }
+    final Set<TTypeNameFlat> referenced_types = referenced.getTypes();
+    final List<TTypeNameFlat> types = index.getTypesSorted(referenced_types);
+    assert types.size() == referenced_types.size();
+
+    if (log_actual.wouldLog(LogLevel.LOG_DEBUG)) {
+      for (final TTypeNameFlat type_current : types) {
+        final String r = String.format("Adding type %s", type_current.show());
+        assert r != null;
+        log_actual.debug(r);
       }
-      assert types.size() == referenced_types.size();
     }
 
-    // CHECKSTYLE:OFF
-    final LinkedList<TASTTermNameFlat> terms =
-      new LinkedList<TASTTermNameFlat>();
-    // CHECKSTYLE:ON
     final Set<TASTTermNameFlat> referenced_terms = referenced.getTerms();
-
-    {
-      final DirectedAcyclicGraph<TASTTermNameFlat, TASTReference> term_graph =
-        compilation.getTermGraph();
-      final TopologicalOrderIterator<TASTTermNameFlat, TASTReference> term_iter =
-        new TopologicalOrderIterator<TASTTermNameFlat, TASTReference>(
-          term_graph);
-
-      while (term_iter.hasNext()) {
-        final TASTTermNameFlat term_current = term_iter.next();
-        if (referenced_terms.contains(term_current)) {
-          if (log_actual.wouldLog(LogLevel.LOG_DEBUG)) {
-            final String r =
-              String.format("Adding term %s", term_current.show());
-            assert r != null;
-            log_actual.debug(r);
-          }
-          terms.addFirst(term_current);
-        }
+    final List<TASTTermNameFlat> terms =
+      index.getTermsSorted(referenced_terms);
+    assert terms.size() == referenced_terms.size();
+
+    if (log_actual.wouldLog(LogLevel.LOG_DEBUG)) {
+      for (final TASTTermNameFlat term_current : terms) {
+        final String r = String.format("Adding term %s", term_current.show());
+        assert r != null;
+        log_actual.debug(r);
       }
-
-      assert terms.size() == referenced_terms.size();
     }
 
     return new Topology(shader_name, terms, types);
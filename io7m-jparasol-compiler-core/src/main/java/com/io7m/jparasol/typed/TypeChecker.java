@@ -18,15 +18,21 @@ package com.io7m.jparasol.typed;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import com.io7m.jequality.annotations.EqualityReference;
 import com.io7m.jfunctional.Option;
 import com.io7m.jfunctional.OptionType;
+import com.io7m.jfunctional.Pair;
 import com.io7m.jfunctional.PartialFunctionType;
 import com.io7m.jfunctional.Some;
 import com.io7m.jfunctional.Unit;
@@ -36,6 +42,7 @@ import com.io7m.jnull.NullCheck;
 import com.io7m.jnull.Nullable;
 import com.io7m.jparasol.ModulePath;
 import com.io7m.jparasol.ModulePathFlat;
+import com.io7m.jparasol.Parallel;
 import com.io7m.jparasol.lexer.Token.TokenIdentifierLower;
 import com.io7m.jparasol.typed.TGraphs.GlobalGraph;
 import com.io7m.jparasol.typed.TType.TBoolean;
@@ -2039,18 +2046,98 @@ import com.io7m.junreachable.UnreachableCodeException;
     final UASTRCompilation compilation,
     final LogUsableType log)
   {
-    return new TypeChecker(compilation, log);
+    final Map<ModulePathFlat, TASTDModule> none = Collections.emptyMap();
+    final Map<ModulePathFlat, TGraphsFragment> no_fragments =
+      Collections.emptyMap();
+    assert none != null;
+    assert no_fragments != null;
+    return new TypeChecker(compilation, none, no_fragments, null, log);
   }
 
-  private final UASTRCompilation compilation;
-  private final LogUsableType    log;
+  /**
+   * Construct a new type checker for the given AST that checks independent
+   * modules in parallel on the given executor. Modules that are already
+   * present in <code>prechecked</code> are treated as with
+   * {@link #newTypeCheckerWithPrechecked(UASTRCompilation, Map, Map, LogUsableType)}
+   * . The results, and any errors raised, are identical to those of the
+   * sequential checker.
+   *
+   * @param compilation
+   *          The AST
+   * @param prechecked
+   *          The modules that have already been checked
+   * @param fragments
+   *          The graph fragments of the modules that have already been
+   *          checked
+   * @param exec
+   *          An executor
+   * @param log
+   *          A log interface
+   * @return A type checker
+   */
+
+  public static TypeChecker newParallelTypeChecker(
+    final UASTRCompilation compilation,
+    final Map<ModulePathFlat, TASTDModule> prechecked,
+    final Map<ModulePathFlat, TGraphsFragment> fragments,
+    final ExecutorService exec,
+    final LogUsableType log)
+  {
+    return new TypeChecker(
+      compilation,
+      prechecked,
+      fragments,
+      NullCheck.notNull(exec, "Executor"),
+      log);
+  }
+
+  /**
+   * Construct a new type checker for the given AST. Any module present in
+   * <code>prechecked</code> is assumed to have already been checked (from an
+   * identical declaration), and is used as-is instead of being checked again.
+   * The additions that such a module makes to the dependency graphs are
+   * replayed from its fragment in <code>fragments</code>, if it has one, and
+   * are otherwise found by walking its declarations.
+   *
+   * @param compilation
+   *          The AST
+   * @param prechecked
+   *          The modules that have already been checked
+   * @param fragments
+   *          The graph fragments of the modules that have already been
+   *          checked
+   * @param log
+   *          A log interface
+   * @return A type checker
+   */
+
+  public static TypeChecker newTypeCheckerWithPrechecked(
+    final UASTRCompilation compilation,
+    final Map<ModulePathFlat, TASTDModule> prechecked,
+    final Map<ModulePathFlat, TGraphsFragment> fragments,
+    final LogUsableType log)
+  {
+    return new TypeChecker(compilation, prechecked, fragments, null, log);
+  }
+
+  private final UASTRCompilation                     compilation;
+  private final @Nullable ExecutorService            exec;
+  private final Map<ModulePathFlat, TGraphsFragment> fragments;
+  private final LogUsableType                        log;
+  private final Map<ModulePathFlat, TASTDModule>     prechecked;
 
   private TypeChecker(
     final UASTRCompilation in_compilation,
+    final Map<ModulePathFlat, TASTDModule> in_prechecked,
+    final Map<ModulePathFlat, TGraphsFragment> in_fragments,
+    final @Nullable ExecutorService in_exec,
     final LogUsableType in_log)
   {
     this.log = in_log.with("type-checker");
     this.compilation = NullCheck.notNull(in_compilation, "Compilation");
+    this.prechecked = NullCheck.notNull(in_prechecked, "Prechecked");
+    this.fragments = NullCheck.notNull(in_fragments, "Fragments");
+    this.exec = in_exec;
   }
 
   /**
@@ -2085,18 +2172,42 @@ import com.io7m.junreachable.UnreachableCodeException;
     final Map<ModulePathFlat, TASTDModule> checked_modules =
       new HashMap<ModulePathFlat, TASTDModule>();
 
-    for (int index = topology.size() - 1; index >= 0; --index) {
-      final ModulePathFlat path = topology.get(index);
-      final UASTRDModule module = modules.get(path);
-      assert module != null;
-      final TypeCheckerModule mr =
-        new TypeCheckerModule(module, checked_modules, this.log);
-      final TASTDModule checked = mr.check();
-      checked_modules.put(path, checked);
+    final ExecutorService e = this.exec;
+    if (e != null) {
+      final Map<ModulePathFlat, TASTDModule> results =
+        this.checkModulesParallel(e, modules, topology);
+
+      /**
+       * Insert the results in the same order as the sequential checker, so
+       * that the resulting map iterates in the same order.
+       */
+
+      for (int index = topology.size() - 1; index >= 0; --index) {
+        final ModulePathFlat path = topology.get(index);
+        final TASTDModule checked = results.get(path);
+        assert checked != null;
+        checked_modules.put(path, checked);
+      }
+    } else {
+      for (int index = topology.size() - 1; index >= 0; --index) {
+        final ModulePathFlat path = topology.get(index);
+        final TASTDModule existing = this.prechecked.get(path);
+        if (existing != null) {
+          checked_modules.put(path, existing);
+          continue;
+        }
+
+        final UASTRDModule module = modules.get(path);
+        assert module != null;
+        final TypeCheckerModule mr =
+          new TypeCheckerModule(module, checked_modules, this.log);
+        final TASTDModule checked = mr.check();
+        checked_modules.put(path, checked);
+      }
     }
 
     final TGraphs graphs = TGraphs.newGraphs(this.log);
-    final GlobalGraph gg = graphs.check(checked_modules);
+    final GlobalGraph gg = graphs.check(checked_modules, this.fragments);
 
     return new TASTCompilation(
       this.compilation.getModuleTopology(),
@@ -2106,6 +2217,170 @@ import com.io7m.junreachable.UnreachableCodeException;
       gg.getTermTypeGraph().getGraph(),
       gg.getTypeTypeGraph().getGraph(),
       gg.getTypeShader().getGraph(),
-      gg.getTermShader().getGraph());
+      gg.getTermShader().getGraph(),
+      gg.getFragments());
+  }
+
+  /**
+   * Check all modules that are not already checked, one wave at a time.
+   * Modules within a wave are checked concurrently.
+   */
+
+  private Map<ModulePathFlat, TASTDModule> checkModulesParallel(
+    final ExecutorService e,
+    final Map<ModulePathFlat, UASTRDModule> modules,
+    final List<ModulePathFlat> topology)
+    throws TypeCheckerError
+  {
+    final Map<ModulePathFlat, TASTDModule> results =
+      new ConcurrentHashMap<ModulePathFlat, TASTDModule>(this.prechecked);
+    final List<List<ModulePathFlat>> waves =
+      this.waves(modules, topology);
+
+    if (this.log.wouldLog(LogLevel.LOG_DEBUG)) {
+      final String r =
+        String.format("checking modules in %d waves", waves.size());
+      assert r != null;
+      this.log.debug(r);
+    }
+
+    for (final List<ModulePathFlat> wave : waves) {
+      assert wave != null;
+      final Pair<ModulePathFlat, TypeCheckerError> failed =
+        this.checkWave(e, modules, wave, results);
+
+      if (failed != null) {
+        this.checkRemainingBefore(
+          modules,
+          topology,
+          failed.getLeft(),
+          results);
+        throw failed.getRight();
+      }
+    }
+
+    return results;
+  }
+
+  /**
+   * Check all modules in the given wave, returning the first module (in
+   * sequential order) that failed, and its error, if any.
+   */
+
+  private @Nullable Pair<ModulePathFlat, TypeCheckerError> checkWave(
+    final ExecutorService e,
+    final Map<ModulePathFlat, UASTRDModule> modules,
+    final List<ModulePathFlat> wave,
+    final Map<ModulePathFlat, TASTDModule> results)
+  {
+    final List<Future<TASTDModule>> futures =
+      new ArrayList<Future<TASTDModule>>(wave.size());
+
+    for (final ModulePathFlat path : wave) {
+      final UASTRDModule module = modules.get(path);
+      assert module != null;
+      futures.add(e.submit(new Callable<TASTDModule>() {
+        @Override public TASTDModule call()
+          throws TypeCheckerError
+        {
+          final TypeCheckerModule mr =
+            new TypeCheckerModule(module, results, TypeChecker.this.log);
+          return mr.check();
+        }
+      }));
+    }
+
+    Pair<ModulePathFlat, TypeCheckerError> failed = null;
+    for (int index = 0; index < wave.size(); ++index) {
+      final ModulePathFlat path = wave.get(index);
+      final Future<TASTDModule> f = futures.get(index);
+      assert path != null;
+      assert f != null;
+      try {
+        results.put(path, Parallel.await(f, TypeCheckerError.class));
+      } catch (final TypeCheckerError x) {
+        if (failed == null) {
+          failed = Pair.pair(path, x);
+        }
+      }
+    }
+    return failed;
+  }
+
+  /**
+   * The sequential checker checks modules in reverse topological order and
+   * stops at the first error. A wave may contain a failing module that the
+   * sequential checker would have reached later than some module in a
+   * subsequent wave, so any such earlier modules are checked (sequentially)
+   * before the error is reported. If one of those fails, its error is the
+   * one that the sequential checker would have raised.
+   */
+
+  private void checkRemainingBefore(
+    final Map<ModulePathFlat, UASTRDModule> modules,
+    final List<ModulePathFlat> topology,
+    final ModulePathFlat failed,
+    final Map<ModulePathFlat, TASTDModule> results)
+    throws TypeCheckerError
+  {
+    for (int index = topology.size() - 1; index >= 0; --index) {
+      final ModulePathFlat path = topology.get(index);
+      if (path.equals(failed)) {
+        return;
+      }
+      if (results.containsKey(path)) {
+        continue;
+      }
+
+      final UASTRDModule module = modules.get(path);
+      assert module != null;
+      final TypeCheckerModule mr =
+        new TypeCheckerModule(module, results, this.log);
+      results.put(path, mr.check());
+    }
+  }
+
+  /**
+   * Partition the unchecked modules into waves. A module's wave is one
+   * greater than the greatest wave of the modules it imports, so modules in
+   * the same wave do not depend on each other and each wave depends only on
+   * earlier waves. Within a wave, modules appear in the order that the
+   * sequential checker would check them.
+   */
+
+  private List<List<ModulePathFlat>> waves(
+    final Map<ModulePathFlat, UASTRDModule> modules,
+    final List<ModulePathFlat> topology)
+  {
+    final Map<ModulePathFlat, Integer> wave_of =
+      new HashMap<ModulePathFlat, Integer>();
+    final List<List<ModulePathFlat>> waves =
+      new ArrayList<List<ModulePathFlat>>();
+
+    for (int index = topology.size() - 1; index >= 0; --index) {
+      final ModulePathFlat path = topology.get(index);
+      if (this.prechecked.containsKey(path)) {
+        continue;
+      }
+
+      final UASTRDModule module = modules.get(path);
+      assert module != null;
+
+      int wave = 0;
+      for (final ModulePathFlat i : module.getImportedModules().keySet()) {
+        final Integer w = wave_of.get(i);
+        if (w != null) {
+          wave = Math.max(wave, w.intValue() + 1);
+        }
+      }
+
+      wave_of.put(path, Integer.valueOf(wave));
+      while (waves.size() <= wave) {
+        waves.add(new ArrayList<ModulePathFlat>());
+      }
+      waves.get(wave).add(path);
+    }
+
+    return waves;
   }
 }
@@ -0,0 +1,791 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.typed.ast;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jfunctional.Option;
+import com.io7m.jfunctional.OptionType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
+import com.io7m.jparasol.ASTBinaryReader;
+import com.io7m.jparasol.ModulePath;
+import com.io7m.jparasol.ModulePathFlat;
+import com.io7m.jparasol.core.GVersionES;
+import com.io7m.jparasol.core.GVersionFull;
+import com.io7m.jparasol.lexer.Token.TokenDiscard;
+import com.io7m.jparasol.lexer.Token.TokenIdentifierLower;
+import com.io7m.jparasol.lexer.Token.TokenLet;
+import com.io7m.jparasol.typed.TGraphsFragment;
+import com.io7m.jparasol.typed.TGraphsFragment.Kind;
+import com.io7m.jparasol.typed.TGraphsFragment.Operation;
+import com.io7m.jparasol.typed.TType;
+import com.io7m.jparasol.typed.TType.TFunction;
+import com.io7m.jparasol.typed.TType.TFunctionArgument;
+import com.io7m.jparasol.typed.TType.TManifestType;
+import com.io7m.jparasol.typed.TType.TRecord;
+import com.io7m.jparasol.typed.TType.TRecordField;
+import com.io7m.jparasol.typed.TType.TValueType;
+import com.io7m.jparasol.typed.TType.TVectorType;
+import com.io7m.jparasol.typed.TTypeName.TTypeNameBuiltIn;
+import com.io7m.jparasol.typed.TTypeName.TTypeNameGlobal;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDExternal;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDFunctionArgument;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDFunctionDefined;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDFunctionExternal;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDImport;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDModule;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShader;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderFragment;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderFragmentInput;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderFragmentLocal;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderFragmentLocalDiscard;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderFragmentLocalValue;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderFragmentOutput;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderFragmentOutputAssignment;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderFragmentOutputData;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderFragmentOutputDepth;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderFragmentParameter;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderProgram;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderVertex;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderVertexInput;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderVertexLocalValue;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderVertexOutput;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderVertexOutputAssignment;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderVertexParameter;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDTerm;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDType;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDTypeRecord;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDTypeRecordField;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDValueDefined;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDValueExternal;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDValueLocal;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTEApplication;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTEBoolean;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTEConditional;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTEInteger;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTELet;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTEMatrixColumnAccess;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTENew;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTEReal;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTERecord;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTERecordProjection;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTESwizzle;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTEVariable;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTRecordFieldAssignment;
+import com.io7m.jparasol.typed.ast.TASTTermName.TASTTermNameGlobal;
+import com.io7m.jparasol.typed.ast.TASTTermName.TASTTermNameLocal;
+
+/**
+ * <p>
+ * Reads type-checked modules, and graph fragments, written by
+ * {@link TASTBinaryWriter}. Malformed input is reported as an
+ * {@link IOException}.
+ * </p>
+ */
+
+@EqualityReference public final class TASTBinaryReader
+{
+  static final int                          EXPRESSION_APPLICATION       = 0;
+  static final int                          EXPRESSION_BOOLEAN           = 1;
+  static final int                          EXPRESSION_CONDITIONAL       = 2;
+  static final int                          EXPRESSION_INTEGER           = 3;
+  static final int                          EXPRESSION_LET               = 4;
+  static final int                          EXPRESSION_MATRIX_COLUMN     = 5;
+  static final int                          EXPRESSION_NEW               = 6;
+  static final int                          EXPRESSION_REAL              = 7;
+  static final int                          EXPRESSION_RECORD            = 8;
+  static final int                          EXPRESSION_RECORD_PROJECTION = 9;
+  static final int                          EXPRESSION_SWIZZLE           = 10;
+  static final int                          EXPRESSION_VARIABLE          = 11;
+  static final int                          SHADER_FRAGMENT              = 0;
+  static final int                          SHADER_PROGRAM               = 1;
+  static final int                          SHADER_VERTEX                = 2;
+  static final int                          TERM_FUNCTION_DEFINED        = 0;
+  static final int                          TERM_FUNCTION_EXTERNAL       = 1;
+  static final int                          TERM_VALUE_DEFINED           = 2;
+  static final int                          TERM_VALUE_EXTERNAL          = 3;
+  static final int                          TYPE_BUILT_IN                = 0;
+  static final int                          TYPE_FUNCTION                = 1;
+  static final int                          TYPE_RECORD                  = 2;
+
+  private static IOException badTag(
+    final String what,
+    final int tag)
+  {
+    return new IOException(String.format(
+      "Unrecognized %s tag %d",
+      what,
+      Integer.valueOf(tag)));
+  }
+
+  private static <T> T cast(
+    final Object o,
+    final Class<T> c)
+    throws IOException
+  {
+    if (c.isInstance(o)) {
+      return c.cast(o);
+    }
+    throw new IOException(String.format(
+      "Expected a value of type %s but got %s",
+      c.getSimpleName(),
+      o.getClass().getSimpleName()));
+  }
+
+  private final Map<TTypeNameBuiltIn, TType> built_in;
+  private @Nullable Map<ModulePathFlat, TASTDModule> context;
+  private @Nullable ModulePathFlat                   current;
+  private @Nullable Map<String, TASTDType>           current_types;
+  private final ASTBinaryReader                      input;
+
+  /**
+   * Construct a reader.
+   *
+   * @param in_input
+   *          The underlying reader
+   */
+
+  public TASTBinaryReader(
+    final ASTBinaryReader in_input)
+  {
+    this.input = NullCheck.notNull(in_input, "Input");
+    this.built_in = TType.getBaseTypesByName();
+    this.context = null;
+    this.current = null;
+    this.current_types = null;
+  }
+
+  private List<TASTDFunctionArgument> readArguments()
+    throws IOException
+  {
+    final List<TASTDFunctionArgument> r =
+      new ArrayList<TASTDFunctionArgument>();
+    final int count = this.input.readInteger();
+    for (int index = 0; index < count; ++index) {
+      final TASTTermNameLocal name = this.readTermNameLocal();
+      r.add(new TASTDFunctionArgument(name, this.readValueType()));
+    }
+    return r;
+  }
+
+  private TASTExpression readExpression()
+    throws IOException
+  {
+    final int tag = this.input.readInteger();
+    switch (tag) {
+      case EXPRESSION_APPLICATION:
+      {
+        final TASTTermName name = this.readTermName();
+        final List<TASTExpression> args = this.readExpressions();
+        return new TASTEApplication(name, args, this.readType());
+      }
+      case EXPRESSION_BOOLEAN:
+      {
+        return new TASTEBoolean(this.input.readTokenBoolean());
+      }
+      case EXPRESSION_CONDITIONAL:
+      {
+        final TASTExpression c = this.readExpression();
+        final TASTExpression l = this.readExpression();
+        return new TASTEConditional(c, l, this.readExpression());
+      }
+      case EXPRESSION_INTEGER:
+      {
+        return new TASTEInteger(this.input.readTokenInteger());
+      }
+      case EXPRESSION_LET:
+      {
+        return this.readExpressionLet();
+      }
+      case EXPRESSION_MATRIX_COLUMN:
+      {
+        final TVectorType t =
+          TASTBinaryReader.cast(this.readType(), TVectorType.class);
+        final TASTExpression e = this.readExpression();
+        return new TASTEMatrixColumnAccess(t, e, this.input.readTokenInteger());
+      }
+      case EXPRESSION_NEW:
+      {
+        final TValueType t = this.readValueType();
+        return new TASTENew(t, this.readExpressions());
+      }
+      case EXPRESSION_REAL:
+      {
+        return new TASTEReal(this.input.readTokenReal());
+      }
+      case EXPRESSION_RECORD:
+      {
+        return this.readExpressionRecord();
+      }
+      case EXPRESSION_RECORD_PROJECTION:
+      {
+        final TValueType t = this.readValueType();
+        final TASTExpression e = this.readExpression();
+        return new TASTERecordProjection(t, e, this.input.readTokenLower());
+      }
+      case EXPRESSION_SWIZZLE:
+      {
+        final TValueType t = this.readValueType();
+        final TASTExpression e = this.readExpression();
+        return new TASTESwizzle(t, e, this.input.readTokenLowers());
+      }
+      case EXPRESSION_VARIABLE:
+      {
+        final TType t = this.readType();
+        return new TASTEVariable(t, this.readTermName());
+      }
+      default:
+      {
+        throw TASTBinaryReader.badTag("expression", tag);
+      }
+    }
+  }
+
+  private TASTExpression readExpressionLet()
+    throws IOException
+  {
+    final TokenLet token = this.input.readTokenLet();
+    final List<TASTDValueLocal> bindings = new ArrayList<TASTDValueLocal>();
+    final int count = this.input.readInteger();
+    for (int index = 0; index < count; ++index) {
+      bindings.add(this.readValueLocal());
+    }
+    return new TASTELet(token, bindings, this.readExpression());
+  }
+
+  private TASTExpression readExpressionRecord()
+    throws IOException
+  {
+    final TRecord t = TASTBinaryReader.cast(this.readType(), TRecord.class);
+    final List<TASTRecordFieldAssignment> assigns =
+      new ArrayList<TASTRecordFieldAssignment>();
+    final int count = this.input.readInteger();
+    for (int index = 0; index < count; ++index) {
+      final TokenIdentifierLower name = this.input.readTokenLower();
+      assigns.add(new TASTRecordFieldAssignment(name, this.readExpression()));
+    }
+    return new TASTERecord(t, assigns);
+  }
+
+  private List<TASTExpression> readExpressions()
+    throws IOException
+  {
+    final List<TASTExpression> r = new ArrayList<TASTExpression>();
+    final int count = this.input.readInteger();
+    for (int index = 0; index < count; ++index) {
+      r.add(this.readExpression());
+    }
+    return r;
+  }
+
+  private TASTDExternal readExternal()
+    throws IOException
+  {
+    final TokenIdentifierLower name = this.input.readTokenLower();
+    final boolean vertex = this.input.readBoolean();
+    final boolean fragment = this.input.readBoolean();
+
+    final OptionType<TASTExpression> emulation;
+    if (this.input.readBoolean()) {
+      emulation = Option.some(this.readExpression());
+    } else {
+      emulation = Option.none();
+    }
+
+    final SortedSet<GVersionES> es = this.input.readESVersions();
+    final SortedSet<GVersionFull> full = this.input.readFullVersions();
+    return new TASTDExternal(name, vertex, fragment, emulation, es, full);
+  }
+
+  /**
+   * Read a graph fragment.
+   *
+   * @return A fragment
+   * @throws IOException
+   *           On I/O errors, or malformed input
+   */
+
+  public TGraphsFragment readFragment()
+    throws IOException
+  {
+    final Kind[] kinds = Kind.values();
+    final TGraphsFragment f = new TGraphsFragment();
+    final int count = this.input.readInteger();
+    for (int index = 0; index < count; ++index) {
+      final int k = this.input.readInteger();
+      if (k >= kinds.length) {
+        throw TASTBinaryReader.badTag("graph operation", k);
+      }
+
+      final Kind kind = kinds[k];
+      assert kind != null;
+      final ModulePath source_path = this.input.readModulePath();
+      final TokenIdentifierLower source_name = this.input.readTokenLower();
+      if (kind.isReference()) {
+        final ModulePath target_path = this.input.readModulePath();
+        final TokenIdentifierLower target_name = this.input.readTokenLower();
+        f.add(new Operation(
+          kind,
+          source_path,
+          source_name,
+          target_path,
+          target_name));
+      } else {
+        f.add(new Operation(
+          kind,
+          source_path,
+          source_name,
+          source_path,
+          source_name));
+      }
+    }
+    return f;
+  }
+
+  private TASTDShaderFragment readFragmentShader(
+    final TokenIdentifierLower name)
+    throws IOException
+  {
+    final List<TASTDShaderFragmentInput> inputs =
+      new ArrayList<TASTDShaderFragmentInput>();
+    final int input_count = this.input.readInteger();
+    for (int index = 0; index < input_count; ++index) {
+      final TASTTermNameLocal n = this.readTermNameLocal();
+      inputs.add(new TASTDShaderFragmentInput(n, this.readValueType()));
+    }
+
+    final List<TASTDShaderFragmentOutput> outputs =
+      new ArrayList<TASTDShaderFragmentOutput>();
+    final int output_count = this.input.readInteger();
+    for (int index = 0; index < output_count; ++index) {
+      final TokenIdentifierLower n = this.input.readTokenLower();
+      if (this.input.readBoolean()) {
+        final TValueType t = this.readValueType();
+        outputs.add(new TASTDShaderFragmentOutputData(n, t, this.input
+          .readInteger()));
+      } else {
+        outputs.add(new TASTDShaderFragmentOutputDepth(n));
+      }
+    }
+
+    final List<TASTDShaderFragmentParameter> parameters =
+      new ArrayList<TASTDShaderFragmentParameter>();
+    final int parameter_count = this.input.readInteger();
+    for (int index = 0; index < parameter_count; ++index) {
+      final TASTTermNameLocal n = this.readTermNameLocal();
+      parameters.add(new TASTDShaderFragmentParameter(n, this
+        .readValueType()));
+    }
+
+    final List<TASTDShaderFragmentLocal> locals =
+      new ArrayList<TASTDShaderFragmentLocal>();
+    final int local_count = this.input.readInteger();
+    for (int index = 0; index < local_count; ++index) {
+      if (this.input.readBoolean()) {
+        final TokenDiscard d = this.input.readTokenDiscard();
+        locals.add(new TASTDShaderFragmentLocalDiscard(d, this
+          .readExpression()));
+      } else {
+        locals.add(new TASTDShaderFragmentLocalValue(this.readValueLocal()));
+      }
+    }
+
+    final List<TASTDShaderFragmentOutputAssignment> writes =
+      new ArrayList<TASTDShaderFragmentOutputAssignment>();
+    final int write_count = this.input.readInteger();
+    for (int index = 0; index < write_count; ++index) {
+      final TokenIdentifierLower n = this.input.readTokenLower();
+      writes.add(new TASTDShaderFragmentOutputAssignment(n, this
+        .readVariable()));
+    }
+
+    return new TASTDShaderFragment(
+      name,
+      inputs,
+      outputs,
+      parameters,
+      locals,
+      writes);
+  }
+
+  private TASTDImport readImport()
+    throws IOException
+  {
+    final ModulePath path = this.input.readModulePath();
+    return new TASTDImport(path, this.input.readOptionTokenUpper());
+  }
+
+  private Map<String, TASTDImport> readImportMap()
+    throws IOException
+  {
+    final Map<String, TASTDImport> r = new HashMap<String, TASTDImport>();
+    final int count = this.input.readInteger();
+    for (int index = 0; index < count; ++index) {
+      final String k = this.input.readString();
+      r.put(k, this.readImport());
+    }
+    return r;
+  }
+
+  /**
+   * Read a module. Any record types that the module uses that are declared
+   * in other modules are taken from <code>modules</code>.
+   *
+   * @param modules
+   *          The modules that have already been read
+   * @return A module
+   * @throws IOException
+   *           On I/O errors, or malformed input
+   */
+
+  public TASTDModule readModule(
+    final Map<ModulePathFlat, TASTDModule> modules)
+    throws IOException
+  {
+    final ModulePath path = this.input.readModulePath();
+
+    final List<TASTDImport> imports = new ArrayList<TASTDImport>();
+    final int import_count = this.input.readInteger();
+    for (int index = 0; index < import_count; ++index) {
+      imports.add(this.readImport());
+    }
+
+    final Map<ModulePathFlat, TASTDImport> imported_modules =
+      new HashMap<ModulePathFlat, TASTDImport>();
+    final int imported_count = this.input.readInteger();
+    for (int index = 0; index < imported_count; ++index) {
+      final ModulePathFlat k = new ModulePathFlat(this.input.readString());
+      imported_modules.put(k, this.readImport());
+    }
+
+    final Map<String, TASTDImport> imported_names = this.readImportMap();
+    final Map<String, TASTDImport> imported_renames = this.readImportMap();
+
+    final List<String> type_topology = this.input.readStrings();
+    final List<String> term_topology = this.input.readStrings();
+    final List<String> shader_topology = this.input.readStrings();
+
+    final Map<String, TASTDType> types = new HashMap<String, TASTDType>();
+    final Map<String, TASTDTerm> terms = new HashMap<String, TASTDTerm>();
+    final Map<String, TASTDShader> shaders =
+      new HashMap<String, TASTDShader>();
+
+    this.context = NullCheck.notNull(modules, "Modules");
+    this.current = ModulePathFlat.fromModulePath(path);
+    this.current_types = types;
+
+    try {
+      for (int index = type_topology.size() - 1; index >= 0; --index) {
+        final String name = type_topology.get(index);
+        assert name != null;
+        types.put(name, this.readTypeDeclaration(path));
+      }
+      for (int index = term_topology.size() - 1; index >= 0; --index) {
+        final String name = term_topology.get(index);
+        assert name != null;
+        terms.put(name, this.readTermDeclaration());
+      }
+      for (int index = shader_topology.size() - 1; index >= 0; --index) {
+        final String name = shader_topology.get(index);
+        assert name != null;
+        shaders.put(name, this.readShaderDeclaration());
+      }
+    } finally {
+      this.context = null;
+      this.current = null;
+      this.current_types = null;
+    }
+
+    return new TASTDModule(
+      path,
+      imports,
+      imported_modules,
+      imported_names,
+      imported_renames,
+      terms,
+      term_topology,
+      types,
+      type_topology,
+      shaders,
+      shader_topology);
+  }
+
+  private TRecord readRecordReference()
+    throws IOException
+  {
+    final ModulePathFlat module = new ModulePathFlat(this.input.readString());
+    final String name = this.input.readString();
+
+    final Map<String, TASTDType> types;
+    if (module.equals(this.current)) {
+      types = this.current_types;
+    } else {
+      final Map<ModulePathFlat, TASTDModule> c = this.context;
+      assert c != null;
+      final TASTDModule m = c.get(module);
+      if (m != null) {
+        types = m.getTypes();
+      } else {
+        types = null;
+      }
+    }
+
+    if (types != null) {
+      final TASTDType t = types.get(name);
+      if (t instanceof TASTDTypeRecord) {
+        return ((TASTDTypeRecord) t).getType();
+      }
+    }
+
+    throw new IOException(String.format(
+      "Unknown record type %s.%s",
+      module.getActual(),
+      name));
+  }
+
+  private TASTDShader readShaderDeclaration()
+    throws IOException
+  {
+    final int tag = this.input.readInteger();
+    final TokenIdentifierLower name = this.input.readTokenLower();
+    switch (tag) {
+      case SHADER_FRAGMENT:
+      {
+        return this.readFragmentShader(name);
+      }
+      case SHADER_PROGRAM:
+      {
+        final TASTShaderName vertex = this.readShaderName();
+        return new TASTDShaderProgram(name, vertex, this.readShaderName());
+      }
+      case SHADER_VERTEX:
+      {
+        return this.readVertexShader(name);
+      }
+      default:
+      {
+        throw TASTBinaryReader.badTag("shader", tag);
+      }
+    }
+  }
+
+  private TASTShaderName readShaderName()
+    throws IOException
+  {
+    final ModulePath path = this.input.readModulePath();
+    return new TASTShaderName(path, this.input.readTokenLower());
+  }
+
+  private TASTDTerm readTermDeclaration()
+    throws IOException
+  {
+    final int tag = this.input.readInteger();
+    final TokenIdentifierLower name = this.input.readTokenLower();
+    switch (tag) {
+      case TERM_FUNCTION_DEFINED:
+      {
+        final List<TASTDFunctionArgument> args = this.readArguments();
+        final TASTExpression body = this.readExpression();
+        final TFunction t =
+          TASTBinaryReader.cast(this.readType(), TFunction.class);
+        return new TASTDFunctionDefined(name, args, body, t);
+      }
+      case TERM_FUNCTION_EXTERNAL:
+      {
+        final List<TASTDFunctionArgument> args = this.readArguments();
+        final TFunction t =
+          TASTBinaryReader.cast(this.readType(), TFunction.class);
+        return new TASTDFunctionExternal(name, args, t, this.readExternal());
+      }
+      case TERM_VALUE_DEFINED:
+      {
+        return new TASTDValueDefined(name, this.readExpression());
+      }
+      case TERM_VALUE_EXTERNAL:
+      {
+        final TValueType t = this.readValueType();
+        return new TASTDValueExternal(name, t, this.readExternal());
+      }
+      default:
+      {
+        throw TASTBinaryReader.badTag("term", tag);
+      }
+    }
+  }
+
+  private TASTTermName readTermName()
+    throws IOException
+  {
+    if (this.input.readBoolean()) {
+      final ModulePath path = this.input.readModulePath();
+      return new TASTTermNameGlobal(path, this.input.readTokenLower());
+    }
+    return this.readTermNameLocal();
+  }
+
+  private TASTTermNameLocal readTermNameLocal()
+    throws IOException
+  {
+    final TokenIdentifierLower original = this.input.readTokenLower();
+    return new TASTTermNameLocal(original, this.input.readString());
+  }
+
+  private TType readType()
+    throws IOException
+  {
+    final int tag = this.input.readInteger();
+    switch (tag) {
+      case TYPE_BUILT_IN:
+      {
+        final String name = this.input.readString();
+        final TType t = this.built_in.get(new TTypeNameBuiltIn(name));
+        if (t == null) {
+          throw new IOException(String.format(
+            "Unknown built-in type %s",
+            name));
+        }
+        return t;
+      }
+      case TYPE_FUNCTION:
+      {
+        final List<TFunctionArgument> args =
+          new ArrayList<TFunctionArgument>();
+        final int count = this.input.readInteger();
+        for (int index = 0; index < count; ++index) {
+          final String name = this.input.readString();
+          args.add(new TFunctionArgument(name, this.readValueType()));
+        }
+        return new TFunction(args, this.readValueType());
+      }
+      case TYPE_RECORD:
+      {
+        return this.readRecordReference();
+      }
+      default:
+      {
+        throw TASTBinaryReader.badTag("type", tag);
+      }
+    }
+  }
+
+  private TASTDTypeRecord readTypeDeclaration(
+    final ModulePath path)
+    throws IOException
+  {
+    final TokenIdentifierLower name = this.input.readTokenLower();
+    final List<TASTDTypeRecordField> fields =
+      new ArrayList<TASTDTypeRecordField>();
+    final List<TRecordField> t_fields = new ArrayList<TRecordField>();
+
+    final int count = this.input.readInteger();
+    for (int index = 0; index < count; ++index) {
+      final TokenIdentifierLower f_name = this.input.readTokenLower();
+      final TManifestType t =
+        TASTBinaryReader.cast(this.readType(), TManifestType.class);
+      final String fn = f_name.getActual();
+      assert fn != null;
+      t_fields.add(new TRecordField(fn, t));
+      fields.add(new TASTDTypeRecordField(f_name, t));
+    }
+
+    final TTypeNameGlobal t_name = new TTypeNameGlobal(path, name);
+    return new TASTDTypeRecord(name, fields, new TRecord(t_name, t_fields));
+  }
+
+  private TASTDValueLocal readValueLocal()
+    throws IOException
+  {
+    final TASTTermNameLocal name = this.readTermNameLocal();
+    return new TASTDValueLocal(name, this.readExpression());
+  }
+
+  private TValueType readValueType()
+    throws IOException
+  {
+    return TASTBinaryReader.cast(this.readType(), TValueType.class);
+  }
+
+  private TASTEVariable readVariable()
+    throws IOException
+  {
+    final TASTExpression e = this.readExpression();
+    return TASTBinaryReader.cast(e, TASTEVariable.class);
+  }
+
+  private TASTDShaderVertex readVertexShader(
+    final TokenIdentifierLower name)
+    throws IOException
+  {
+    final List<TASTDShaderVertexInput> inputs =
+      new ArrayList<TASTDShaderVertexInput>();
+    final int input_count = this.input.readInteger();
+    for (int index = 0; index < input_count; ++index) {
+      final TASTTermNameLocal n = this.readTermNameLocal();
+      inputs.add(new TASTDShaderVertexInput(n, this.readValueType()));
+    }
+
+    final List<TASTDShaderVertexOutput> outputs =
+      new ArrayList<TASTDShaderVertexOutput>();
+    final int output_count = this.input.readInteger();
+    for (int index = 0; index < output_count; ++index) {
+      final TokenIdentifierLower n = this.input.readTokenLower();
+      final TValueType t = this.readValueType();
+      outputs.add(new TASTDShaderVertexOutput(n, t, this.input.readBoolean()));
+    }
+
+    final List<TASTDShaderVertexParameter> parameters =
+      new ArrayList<TASTDShaderVertexParameter>();
+    final int parameter_count = this.input.readInteger();
+    for (int index = 0; index < parameter_count; ++index) {
+      final TASTTermNameLocal n = this.readTermNameLocal();
+      parameters
+        .add(new TASTDShaderVertexParameter(n, this.readValueType()));
+    }
+
+    final List<TASTDShaderVertexLocalValue> values =
+      new ArrayList<TASTDShaderVertexLocalValue>();
+    final int value_count = this.input.readInteger();
+    for (int index = 0; index < value_count; ++index) {
+      values.add(new TASTDShaderVertexLocalValue(this.readValueLocal()));
+    }
+
+    final List<TASTDShaderVertexOutputAssignment> writes =
+      new ArrayList<TASTDShaderVertexOutputAssignment>();
+    final int write_count = this.input.readInteger();
+    for (int index = 0; index < write_count; ++index) {
+      final TokenIdentifierLower n = this.input.readTokenLower();
+      writes.add(new TASTDShaderVertexOutputAssignment(n, this
+        .readVariable()));
+    }
+
+    return new TASTDShaderVertex(
+      name,
+      inputs,
+      outputs,
+      parameters,
+      values,
+      writes);
+  }
+}
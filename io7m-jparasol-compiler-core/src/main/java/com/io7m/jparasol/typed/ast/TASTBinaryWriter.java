@@ -0,0 +1,575 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.typed.ast;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jfunctional.OptionType;
+import com.io7m.jfunctional.Some;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jparasol.ASTBinaryWriter;
+import com.io7m.jparasol.ModulePathFlat;
+import com.io7m.jparasol.typed.TGraphsFragment;
+import com.io7m.jparasol.typed.TGraphsFragment.Operation;
+import com.io7m.jparasol.typed.TType;
+import com.io7m.jparasol.typed.TType.TFunction;
+import com.io7m.jparasol.typed.TType.TFunctionArgument;
+import com.io7m.jparasol.typed.TType.TRecord;
+import com.io7m.jparasol.typed.TTypeName.TTypeNameBuiltIn;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDExternal;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDFunctionArgument;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDFunctionDefined;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDFunctionExternal;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDImport;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDModule;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShader;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderFragment;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderFragmentInput;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderFragmentLocal;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderFragmentLocalDiscard;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderFragmentLocalValue;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderFragmentOutput;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderFragmentOutputAssignment;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderFragmentOutputData;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderFragmentParameter;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderProgram;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderVertex;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderVertexInput;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderVertexLocalValue;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderVertexOutput;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderVertexOutputAssignment;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShaderVertexParameter;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDTerm;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDType;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDTypeRecord;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDTypeRecordField;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDValueDefined;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDValueExternal;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDValueLocal;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTEApplication;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTEBoolean;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTEConditional;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTEInteger;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTELet;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTEMatrixColumnAccess;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTENew;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTEReal;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTERecord;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTERecordProjection;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTESwizzle;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTEVariable;
+import com.io7m.jparasol.typed.ast.TASTExpression.TASTRecordFieldAssignment;
+import com.io7m.jparasol.typed.ast.TASTTermName.TASTTermNameGlobal;
+import com.io7m.jparasol.typed.ast.TASTTermName.TASTTermNameLocal;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>
+ * Writes type-checked modules, and the graph fragments that they produce, in
+ * the binary form read by {@link TASTBinaryReader}.
+ * </p>
+ * <p>
+ * Each module's declarations are written in the reverse topological order
+ * in which the type checker produces them, so that a reader can insert them
+ * into its maps in the same order. Record types are written as references
+ * to the declaring module and name, and so a module must be read after any
+ * module that declares a record type that it uses.
+ * </p>
+ */
+
+@EqualityReference public final class TASTBinaryWriter
+{
+  private final ASTBinaryWriter output;
+
+  /**
+   * Construct a writer.
+   *
+   * @param in_output
+   *          The underlying writer
+   */
+
+  public TASTBinaryWriter(
+    final ASTBinaryWriter in_output)
+  {
+    this.output = NullCheck.notNull(in_output, "Output");
+  }
+
+  private void writeArguments(
+    final List<TASTDFunctionArgument> args)
+    throws IOException
+  {
+    this.output.writeInteger(args.size());
+    for (final TASTDFunctionArgument a : args) {
+      this.writeTermNameLocal(a.getName());
+      this.writeType(a.getType());
+    }
+  }
+
+  private void writeExpression(
+    final TASTExpression e)
+    throws IOException
+  {
+    if (e instanceof TASTEApplication) {
+      final TASTEApplication ea = (TASTEApplication) e;
+      this.output.writeInteger(TASTBinaryReader.EXPRESSION_APPLICATION);
+      this.writeTermName(ea.getName());
+      this.writeExpressions(ea.getArguments());
+      this.writeType(ea.getType());
+    } else if (e instanceof TASTEBoolean) {
+      this.output.writeInteger(TASTBinaryReader.EXPRESSION_BOOLEAN);
+      this.output.writeTokenBoolean(((TASTEBoolean) e).getToken());
+    } else if (e instanceof TASTEConditional) {
+      final TASTEConditional ec = (TASTEConditional) e;
+      this.output.writeInteger(TASTBinaryReader.EXPRESSION_CONDITIONAL);
+      this.writeExpression(ec.getCondition());
+      this.writeExpression(ec.getLeft());
+      this.writeExpression(ec.getRight());
+    } else if (e instanceof TASTEInteger) {
+      this.output.writeInteger(TASTBinaryReader.EXPRESSION_INTEGER);
+      this.output.writeTokenInteger(((TASTEInteger) e).getToken());
+    } else if (e instanceof TASTELet) {
+      final TASTELet el = (TASTELet) e;
+      this.output.writeInteger(TASTBinaryReader.EXPRESSION_LET);
+      this.output.writeTokenLet(el.getToken());
+      this.output.writeInteger(el.getBindings().size());
+      for (final TASTDValueLocal b : el.getBindings()) {
+        assert b != null;
+        this.writeValueLocal(b);
+      }
+      this.writeExpression(el.getBody());
+    } else if (e instanceof TASTEMatrixColumnAccess) {
+      final TASTEMatrixColumnAccess em = (TASTEMatrixColumnAccess) e;
+      this.output.writeInteger(TASTBinaryReader.EXPRESSION_MATRIX_COLUMN);
+      this.writeType(em.getType());
+      this.writeExpression(em.getExpression());
+      this.output.writeTokenInteger(em.getColumn());
+    } else if (e instanceof TASTENew) {
+      final TASTENew en = (TASTENew) e;
+      this.output.writeInteger(TASTBinaryReader.EXPRESSION_NEW);
+      this.writeType(en.getType());
+      this.writeExpressions(en.getArguments());
+    } else {
+      this.writeExpressionRest(e);
+    }
+  }
+
+  private void writeExpressionRest(
+    final TASTExpression e)
+    throws IOException
+  {
+    if (e instanceof TASTEReal) {
+      this.output.writeInteger(TASTBinaryReader.EXPRESSION_REAL);
+      this.output.writeTokenReal(((TASTEReal) e).getToken());
+    } else if (e instanceof TASTERecord) {
+      final TASTERecord er = (TASTERecord) e;
+      this.output.writeInteger(TASTBinaryReader.EXPRESSION_RECORD);
+      this.writeType(er.getType());
+      this.output.writeInteger(er.getAssignments().size());
+      for (final TASTRecordFieldAssignment a : er.getAssignments()) {
+        this.output.writeTokenLower(a.getName());
+        this.writeExpression(a.getExpression());
+      }
+    } else if (e instanceof TASTERecordProjection) {
+      final TASTERecordProjection ep = (TASTERecordProjection) e;
+      this.output.writeInteger(TASTBinaryReader.EXPRESSION_RECORD_PROJECTION);
+      this.writeType(ep.getType());
+      this.writeExpression(ep.getExpression());
+      this.output.writeTokenLower(ep.getField());
+    } else if (e instanceof TASTESwizzle) {
+      final TASTESwizzle es = (TASTESwizzle) e;
+      this.output.writeInteger(TASTBinaryReader.EXPRESSION_SWIZZLE);
+      this.writeType(es.getType());
+      this.writeExpression(es.getExpression());
+      this.output.writeTokenLowers(es.getFields());
+    } else if (e instanceof TASTEVariable) {
+      final TASTEVariable ev = (TASTEVariable) e;
+      this.output.writeInteger(TASTBinaryReader.EXPRESSION_VARIABLE);
+      this.writeType(ev.getType());
+      this.writeTermName(ev.getName());
+    } else {
+      throw new UnreachableCodeException();
+    }
+  }
+
+  private void writeExpressions(
+    final List<TASTExpression> es)
+    throws IOException
+  {
+    this.output.writeInteger(es.size());
+    for (final TASTExpression e : es) {
+      assert e != null;
+      this.writeExpression(e);
+    }
+  }
+
+  private void writeExternal(
+    final TASTDExternal e)
+    throws IOException
+  {
+    this.output.writeTokenLower(e.getName());
+    this.output.writeBoolean(e.isVertexShaderAllowed());
+    this.output.writeBoolean(e.isFragmentShaderAllowed());
+
+    final OptionType<TASTExpression> emulation = e.getEmulation();
+    this.output.writeBoolean(emulation.isSome());
+    if (emulation.isSome()) {
+      this.writeExpression(((Some<TASTExpression>) emulation).get());
+    }
+
+    this.output.writeESVersions(e.getSupportedES());
+    this.output.writeFullVersions(e.getSupportedFull());
+  }
+
+  /**
+   * Write the given graph fragment.
+   *
+   * @param f
+   *          The fragment
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void writeFragment(
+    final TGraphsFragment f)
+    throws IOException
+  {
+    final List<Operation> ops = f.getOperations();
+    this.output.writeInteger(ops.size());
+    for (final Operation op : ops) {
+      this.output.writeInteger(op.getKind().ordinal());
+      this.output.writeModulePath(op.getSourcePath());
+      this.output.writeTokenLower(op.getSourceName());
+      if (op.getKind().isReference()) {
+        this.output.writeModulePath(op.getTargetPath());
+        this.output.writeTokenLower(op.getTargetName());
+      }
+    }
+  }
+
+  private void writeFragmentShader(
+    final TASTDShaderFragment f)
+    throws IOException
+  {
+    this.output.writeInteger(f.getInputs().size());
+    for (final TASTDShaderFragmentInput i : f.getInputs()) {
+      this.writeTermNameLocal(i.getName());
+      this.writeType(i.getType());
+    }
+
+    this.output.writeInteger(f.getOutputs().size());
+    for (final TASTDShaderFragmentOutput o : f.getOutputs()) {
+      this.output.writeTokenLower(o.getName());
+      this.output.writeBoolean(o instanceof TASTDShaderFragmentOutputData);
+      if (o instanceof TASTDShaderFragmentOutputData) {
+        this.writeType(o.getType());
+        this.output.writeInteger(((TASTDShaderFragmentOutputData) o)
+          .getIndex());
+      }
+    }
+
+    this.output.writeInteger(f.getParameters().size());
+    for (final TASTDShaderFragmentParameter p : f.getParameters()) {
+      this.writeTermNameLocal(p.getName());
+      this.writeType(p.getType());
+    }
+
+    this.output.writeInteger(f.getLocals().size());
+    for (final TASTDShaderFragmentLocal l : f.getLocals()) {
+      this.output.writeBoolean(l instanceof TASTDShaderFragmentLocalDiscard);
+      if (l instanceof TASTDShaderFragmentLocalDiscard) {
+        final TASTDShaderFragmentLocalDiscard d =
+          (TASTDShaderFragmentLocalDiscard) l;
+        this.output.writeTokenDiscard(d.getDiscard());
+        this.writeExpression(d.getExpression());
+      } else {
+        this.writeValueLocal(((TASTDShaderFragmentLocalValue) l).getValue());
+      }
+    }
+
+    this.output.writeInteger(f.getWrites().size());
+    for (final TASTDShaderFragmentOutputAssignment w : f.getWrites()) {
+      this.output.writeTokenLower(w.getName());
+      this.writeExpression(w.getVariable());
+    }
+  }
+
+  private void writeImport(
+    final TASTDImport i)
+    throws IOException
+  {
+    this.output.writeModulePath(i.getPath());
+    this.output.writeOptionTokenUpper(i.getRename());
+  }
+
+  private void writeImportMap(
+    final Map<String, TASTDImport> m)
+    throws IOException
+  {
+    this.output.writeInteger(m.size());
+    for (final String k : m.keySet()) {
+      final TASTDImport i = m.get(k);
+      assert k != null;
+      assert i != null;
+      this.output.writeString(k);
+      this.writeImport(i);
+    }
+  }
+
+  /**
+   * Write the given module.
+   *
+   * @param m
+   *          The module
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void writeModule(
+    final TASTDModule m)
+    throws IOException
+  {
+    this.output.writeModulePath(m.getPath());
+
+    this.output.writeInteger(m.getImports().size());
+    for (final TASTDImport i : m.getImports()) {
+      assert i != null;
+      this.writeImport(i);
+    }
+
+    final Map<ModulePathFlat, TASTDImport> im = m.getImportedModules();
+    this.output.writeInteger(im.size());
+    for (final ModulePathFlat k : im.keySet()) {
+      final TASTDImport i = im.get(k);
+      assert i != null;
+      this.output.writeString(k.getActual());
+      this.writeImport(i);
+    }
+
+    this.writeImportMap(m.getImportedNames());
+    this.writeImportMap(m.getImportedRenames());
+
+    final List<String> type_topology = m.getTypeTopology();
+    final List<String> term_topology = m.getTermTopology();
+    final List<String> shader_topology = m.getShaderTopology();
+    this.output.writeStrings(type_topology);
+    this.output.writeStrings(term_topology);
+    this.output.writeStrings(shader_topology);
+
+    final Map<String, TASTDType> types = m.getTypes();
+    assert types.size() == type_topology.size();
+    for (int index = type_topology.size() - 1; index >= 0; --index) {
+      final TASTDType t = types.get(type_topology.get(index));
+      assert t != null;
+      this.writeTypeDeclaration(t);
+    }
+
+    final Map<String, TASTDTerm> terms = m.getTerms();
+    assert terms.size() == term_topology.size();
+    for (int index = term_topology.size() - 1; index >= 0; --index) {
+      final TASTDTerm t = terms.get(term_topology.get(index));
+      assert t != null;
+      this.writeTermDeclaration(t);
+    }
+
+    final Map<String, TASTDShader> shaders = m.getShaders();
+    assert shaders.size() == shader_topology.size();
+    for (int index = shader_topology.size() - 1; index >= 0; --index) {
+      final TASTDShader s = shaders.get(shader_topology.get(index));
+      assert s != null;
+      this.writeShaderDeclaration(s);
+    }
+  }
+
+  private void writeShaderDeclaration(
+    final TASTDShader s)
+    throws IOException
+  {
+    if (s instanceof TASTDShaderFragment) {
+      this.output.writeInteger(TASTBinaryReader.SHADER_FRAGMENT);
+      this.output.writeTokenLower(s.getName());
+      this.writeFragmentShader((TASTDShaderFragment) s);
+    } else if (s instanceof TASTDShaderVertex) {
+      this.output.writeInteger(TASTBinaryReader.SHADER_VERTEX);
+      this.output.writeTokenLower(s.getName());
+      this.writeVertexShader((TASTDShaderVertex) s);
+    } else if (s instanceof TASTDShaderProgram) {
+      final TASTDShaderProgram p = (TASTDShaderProgram) s;
+      this.output.writeInteger(TASTBinaryReader.SHADER_PROGRAM);
+      this.output.writeTokenLower(s.getName());
+      this.writeShaderName(p.getVertexShader());
+      this.writeShaderName(p.getFragmentShader());
+    } else {
+      throw new UnreachableCodeException();
+    }
+  }
+
+  private void writeShaderName(
+    final TASTShaderName name)
+    throws IOException
+  {
+    this.output.writeModulePath(name.getPath());
+    this.output.writeTokenLower(name.getName());
+  }
+
+  private void writeTermDeclaration(
+    final TASTDTerm t)
+    throws IOException
+  {
+    if (t instanceof TASTDFunctionDefined) {
+      final TASTDFunctionDefined f = (TASTDFunctionDefined) t;
+      this.output.writeInteger(TASTBinaryReader.TERM_FUNCTION_DEFINED);
+      this.output.writeTokenLower(f.getName());
+      this.writeArguments(f.getArguments());
+      this.writeExpression(f.getBody());
+      this.writeType(f.getType());
+    } else if (t instanceof TASTDFunctionExternal) {
+      final TASTDFunctionExternal f = (TASTDFunctionExternal) t;
+      this.output.writeInteger(TASTBinaryReader.TERM_FUNCTION_EXTERNAL);
+      this.output.writeTokenLower(f.getName());
+      this.writeArguments(f.getArguments());
+      this.writeType(f.getType());
+      this.writeExternal(f.getExternal());
+    } else if (t instanceof TASTDValueDefined) {
+      final TASTDValueDefined v = (TASTDValueDefined) t;
+      this.output.writeInteger(TASTBinaryReader.TERM_VALUE_DEFINED);
+      this.output.writeTokenLower(v.getName());
+      this.writeExpression(v.getExpression());
+    } else if (t instanceof TASTDValueExternal) {
+      final TASTDValueExternal v = (TASTDValueExternal) t;
+      this.output.writeInteger(TASTBinaryReader.TERM_VALUE_EXTERNAL);
+      this.output.writeTokenLower(v.getName());
+      this.writeType(v.getType());
+      this.writeExternal(v.getExternal());
+    } else {
+      throw new UnreachableCodeException();
+    }
+  }
+
+  private void writeTermName(
+    final TASTTermName name)
+    throws IOException
+  {
+    if (name instanceof TASTTermNameGlobal) {
+      final TASTTermNameGlobal g = (TASTTermNameGlobal) name;
+      this.output.writeBoolean(true);
+      this.output.writeModulePath(g.getPath());
+      this.output.writeTokenLower(g.getName());
+    } else if (name instanceof TASTTermNameLocal) {
+      this.output.writeBoolean(false);
+      this.writeTermNameLocal((TASTTermNameLocal) name);
+    } else {
+      /**
+       * External names are only produced when translating to GLSL, and so
+       * never appear in a type-checked module.
+       */
+
+      throw new UnreachableCodeException();
+    }
+  }
+
+  private void writeTermNameLocal(
+    final TASTTermNameLocal name)
+    throws IOException
+  {
+    this.output.writeTokenLower(name.getOriginal());
+    this.output.writeString(name.getCurrent());
+  }
+
+  private void writeType(
+    final TType t)
+    throws IOException
+  {
+    if (t instanceof TRecord) {
+      final TRecord r = (TRecord) t;
+      this.output.writeInteger(TASTBinaryReader.TYPE_RECORD);
+      this.output.writeString(r.getName().getFlat().getActual());
+      this.output.writeString(r.getName().getName().getActual());
+    } else if (t instanceof TFunction) {
+      final TFunction f = (TFunction) t;
+      this.output.writeInteger(TASTBinaryReader.TYPE_FUNCTION);
+      this.output.writeInteger(f.getArguments().size());
+      for (final TFunctionArgument a : f.getArguments()) {
+        this.output.writeString(a.getName());
+        this.writeType(a.getType());
+      }
+      this.writeType(f.getReturnType());
+    } else {
+      this.output.writeInteger(TASTBinaryReader.TYPE_BUILT_IN);
+      this.output.writeString(((TTypeNameBuiltIn) t.getName()).getName());
+    }
+  }
+
+  private void writeTypeDeclaration(
+    final TASTDType t)
+    throws IOException
+  {
+    final TASTDTypeRecord r = (TASTDTypeRecord) t;
+    this.output.writeTokenLower(r.getName());
+    this.output.writeInteger(r.getFields().size());
+    for (final TASTDTypeRecordField f : r.getFields()) {
+      this.output.writeTokenLower(f.getName());
+      this.writeType(f.getType());
+    }
+  }
+
+  private void writeValueLocal(
+    final TASTDValueLocal v)
+    throws IOException
+  {
+    this.writeTermNameLocal(v.getName());
+    this.writeExpression(v.getExpression());
+  }
+
+  private void writeVertexShader(
+    final TASTDShaderVertex v)
+    throws IOException
+  {
+    this.output.writeInteger(v.getInputs().size());
+    for (final TASTDShaderVertexInput i : v.getInputs()) {
+      this.writeTermNameLocal(i.getName());
+      this.writeType(i.getType());
+    }
+
+    this.output.writeInteger(v.getOutputs().size());
+    for (final TASTDShaderVertexOutput o : v.getOutputs()) {
+      this.output.writeTokenLower(o.getName());
+      this.writeType(o.getType());
+      this.output.writeBoolean(o.isMain());
+    }
+
+    this.output.writeInteger(v.getParameters().size());
+    for (final TASTDShaderVertexParameter p : v.getParameters()) {
+      this.writeTermNameLocal(p.getName());
+      this.writeType(p.getType());
+    }
+
+    this.output.writeInteger(v.getValues().size());
+    for (final TASTDShaderVertexLocalValue l : v.getValues()) {
+      this.writeValueLocal(l.getValue());
+    }
+
+    this.output.writeInteger(v.getWrites().size());
+    for (final TASTDShaderVertexOutputAssignment w : v.getWrites()) {
+      this.output.writeTokenLower(w.getName());
+      this.writeExpression(w.getVariable());
+    }
+  }
+}
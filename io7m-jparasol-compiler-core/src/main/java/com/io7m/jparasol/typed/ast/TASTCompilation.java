@@ -27,6 +27,7 @@ import com.io7m.jnull.NullCheck;
 import com.io7m.jnull.Nullable;
 import com.io7m.jparasol.ModulePath;
 import com.io7m.jparasol.ModulePathFlat;
+import com.io7m.jparasol.typed.TGraphsFragment;
 import com.io7m.jparasol.typed.TTypeNameFlat;
 import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDModule;
 import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDShader;
@@ -39,6 +40,7 @@ import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDType;
 
 @EqualityReference public final class TASTCompilation
 {
+  private final Map<ModulePathFlat, TGraphsFragment>                            fragments;
   private final List<ModulePathFlat>                                            module_topology;
   private final Map<ModulePathFlat, TASTDModule>                                modules;
   private final Map<ModulePathFlat, ModulePath>                                 paths;
@@ -47,6 +49,7 @@ import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDType;
   private final DirectedAcyclicGraph<TASTTermNameFlat, TASTReference>           term_graph;
   private final DirectedAcyclicGraph<TASTNameTypeTermFlatType, TASTReference>   term_type_graph;
   private final DirectedAcyclicGraph<TTypeNameFlat, TASTReference>              type_graph;
+  private @Nullable TASTReachability                                            reachability;
 
   /**
    * Construct a new typed AST.
@@ -67,6 +70,8 @@ import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDType;
    *          The shader → type dependency graph
    * @param in_shader_term_graph
    *          The shader → term dependency graph
+   * @param in_fragments
+   *          The additions made to the graphs by each module
    */
 
   public TASTCompilation(
@@ -77,7 +82,8 @@ import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDType;
     final DirectedAcyclicGraph<TASTNameTypeTermFlatType, TASTReference> in_term_type_graph,
     final DirectedAcyclicGraph<TTypeNameFlat, TASTReference> in_type_graph,
     final DirectedAcyclicGraph<TASTNameTypeShaderFlatType, TASTReference> in_shader_type_graph,
-    final DirectedAcyclicGraph<TASTNameTermShaderFlatType, TASTReference> in_shader_term_graph)
+    final DirectedAcyclicGraph<TASTNameTermShaderFlatType, TASTReference> in_shader_term_graph,
+    final Map<ModulePathFlat, TGraphsFragment> in_fragments)
   {
     this.module_topology =
       NullCheck.notNull(in_module_topology, "Module topology");
@@ -92,6 +98,19 @@ import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDType;
       NullCheck.notNull(in_shader_term_graph, "Shader/Term graph");
     this.shader_type_graph =
       NullCheck.notNull(in_shader_type_graph, "Shader/Type graph");
+    this.fragments = NullCheck.notNull(in_fragments, "Fragments");
+  }
+
+  /**
+   * @return The additions made to the dependency graphs by each module
+   */
+
+  public Map<ModulePathFlat, TGraphsFragment> getGraphFragments()
+  {
+    final Map<ModulePathFlat, TGraphsFragment> r =
+      Collections.unmodifiableMap(this.fragments);
+    assert r != null;
+    return r;
   }
 
   /**
@@ -127,6 +146,22 @@ import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDType;
     return r;
   }
 
+  /**
+   * @return The reachability index for the AST, computing it if necessary
+   */
+
+  public synchronized TASTReachability getReachability()
+  {
+    final TASTReachability current = this.reachability;
+    if (current != null) {
+      return current;
+    }
+
+    final TASTReachability r = TASTReachability.fromCompilation(this);
+    this.reachability = r;
+    return r;
+  }
+
   /**
    * @return The graph of shader → term dependencies
    */
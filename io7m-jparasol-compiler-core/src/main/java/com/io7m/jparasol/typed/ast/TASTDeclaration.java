@@ -466,6 +466,21 @@ import com.io7m.junreachable.UnreachableCodeException;
         NullCheck.notNull(in_shader_topology, "Shader topology");
     }
 
+    public Map<ModulePathFlat, TASTDImport> getImportedModules()
+    {
+      return this.imported_modules;
+    }
+
+    public Map<String, TASTDImport> getImportedNames()
+    {
+      return this.imported_names;
+    }
+
+    public Map<String, TASTDImport> getImportedRenames()
+    {
+      return this.imported_renames;
+    }
+
     public List<TASTDImport> getImports()
     {
       return this.imports;
@@ -491,11 +506,21 @@ import com.io7m.junreachable.UnreachableCodeException;
       return this.terms;
     }
 
+    public List<String> getTermTopology()
+    {
+      return this.term_topology;
+    }
+
     public Map<String, TASTDType> getTypes()
     {
       return this.types;
     }
 
+    public List<String> getTypeTopology()
+    {
+      return this.type_topology;
+    }
+
     @Override public String toString()
     {
       final StringBuilder builder = new StringBuilder();
@@ -0,0 +1,494 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.typed.ast;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jgrapht.experimental.dag.DirectedAcyclicGraph;
+import org.jgrapht.traverse.TopologicalOrderIterator;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jparasol.typed.TTypeNameFlat;
+
+/**
+ * <p>
+ * A precomputed reachability index over the dependency graphs of a typed
+ * AST.
+ * </p>
+ * <p>
+ * Every term and type is assigned a dense integer, and the transitive
+ * closure of each graph is stored as one bit set per vertex. The terms and
+ * types referenced by a shader are then the union of a handful of bit sets,
+ * rather than a fresh traversal of each graph.
+ * </p>
+ * <p>
+ * Additionally, the position of every term and type in a single global
+ * topological order of the term and type graphs is recorded, so that any
+ * subset of terms or types can be placed into dependency order by sorting
+ * the subset, rather than by traversing the whole graph again.
+ * </p>
+ */
+
+@EqualityReference public final class TASTReachability
+{
+  /**
+   * Compute the transitive closure of <code>g</code>. The bit set for each
+   * vertex <code>v</code> contains the identifiers (according to
+   * <code>ids</code>) of every vertex reachable from <code>v</code>,
+   * including <code>v</code> itself. Vertices without an identifier are
+   * traversed, but do not appear in any bit set.
+   */
+
+  private static <V> Map<V, BitSet> closures(
+    final DirectedAcyclicGraph<V, TASTReference> g,
+    final List<V> order,
+    final Map<?, Integer> ids)
+  {
+    /**
+     * In reverse topological order, every successor of a vertex is
+     * processed before the vertex itself.
+     */
+
+    final Map<V, BitSet> r = new HashMap<V, BitSet>(order.size());
+    for (int index = order.size() - 1; index >= 0; --index) {
+      final V v = order.get(index);
+      final BitSet bits = new BitSet();
+      final Integer id = ids.get(v);
+      if (id != null) {
+        bits.set(id.intValue());
+      }
+      for (final TASTReference e : g.outgoingEdgesOf(v)) {
+        final BitSet succ = r.get(g.getEdgeTarget(e));
+        assert succ != null;
+        bits.or(succ);
+      }
+      r.put(v, bits);
+    }
+    return r;
+  }
+
+  /**
+   * Build a reachability index for the given typed AST.
+   *
+   * @param compilation
+   *          The typed AST
+   * @return A reachability index
+   */
+
+  public static TASTReachability fromCompilation(
+    final TASTCompilation compilation)
+  {
+    NullCheck.notNull(compilation, "Compilation");
+    return new TASTReachability(compilation);
+  }
+
+  /**
+   * @return The vertices of <code>g</code> in topological order
+   */
+
+  private static <V> List<V> topological(
+    final DirectedAcyclicGraph<V, TASTReference> g)
+  {
+    final List<V> order = new ArrayList<V>(g.vertexSet().size());
+    final TopologicalOrderIterator<V, TASTReference> iter =
+      new TopologicalOrderIterator<V, TASTReference>(g);
+    while (iter.hasNext()) {
+      order.add(iter.next());
+    }
+    return order;
+  }
+
+  /**
+   * @return An array mapping each identifier to the position of the
+   *         corresponding vertex in <code>order</code>, or <code>-1</code> if
+   *         the vertex does not appear in <code>order</code>
+   */
+
+  private static <T> int[] ranks(
+    final List<T> order,
+    final Map<T, Integer> ids,
+    final int count)
+  {
+    final int[] r = new int[count];
+    Arrays.fill(r, -1);
+    for (int rank = 0; rank < order.size(); ++rank) {
+      final Integer id = ids.get(order.get(rank));
+      assert id != null;
+      r[id.intValue()] = rank;
+    }
+    return r;
+  }
+
+  /**
+   * @return The elements of <code>xs</code> that appear in
+   *         <code>order</code>, in the reverse of that order
+   */
+
+  private static <T> List<T> sortByRank(
+    final Set<T> xs,
+    final Map<T, Integer> ids,
+    final int[] ranks,
+    final List<T> order)
+  {
+    final int[] sorted = new int[xs.size()];
+    int count = 0;
+    for (final T x : xs) {
+      final Integer id = ids.get(x);
+      if (id != null) {
+        final int rank = ranks[id.intValue()];
+        if (rank >= 0) {
+          sorted[count] = rank;
+          count = count + 1;
+        }
+      }
+    }
+
+    Arrays.sort(sorted, 0, count);
+    final List<T> r = new ArrayList<T>(count);
+    for (int index = count - 1; index >= 0; --index) {
+      r.add(order.get(sorted[index]));
+    }
+    return r;
+  }
+
+  private static <T> void index(
+    final T x,
+    final List<T> list,
+    final Map<T, Integer> ids)
+  {
+    if (ids.containsKey(x) == false) {
+      ids.put(x, Integer.valueOf(list.size()));
+      list.add(x);
+    }
+  }
+
+  private final Map<TASTShaderNameFlat, BitSet> shader_terms;
+  private final Map<TASTShaderNameFlat, BitSet> shader_types;
+  private final Map<TASTTermNameFlat, Integer>  term_ids;
+  private final List<TASTTermNameFlat>          term_list;
+  private final List<TASTTermNameFlat>          term_order;
+  private final int[]                           term_ranks;
+  private final BitSet[]                        term_terms;
+  private final BitSet[]                        term_types;
+  private final Map<TTypeNameFlat, Integer>     type_ids;
+  private final List<TTypeNameFlat>             type_list;
+  private final List<TTypeNameFlat>             type_order;
+  private final int[]                           type_ranks;
+
+  private TASTReachability(
+    final TASTCompilation c)
+  {
+    final DirectedAcyclicGraph<TASTTermNameFlat, TASTReference> tt =
+      c.getTermGraph();
+    final DirectedAcyclicGraph<TTypeNameFlat, TASTReference> yy =
+      c.getTypeGraph();
+    final DirectedAcyclicGraph<TASTNameTypeTermFlatType, TASTReference> ty =
+      c.getTermTypeGraph();
+    final DirectedAcyclicGraph<TASTNameTypeShaderFlatType, TASTReference> sy =
+      c.getShaderTypeGraph();
+    final DirectedAcyclicGraph<TASTNameTermShaderFlatType, TASTReference> st =
+      c.getShaderTermGraph();
+
+    /**
+     * Assign identifiers to all terms and types.
+     */
+
+    this.term_list = new ArrayList<TASTTermNameFlat>();
+    this.term_ids = new HashMap<TASTTermNameFlat, Integer>();
+    for (final TASTTermNameFlat t : tt.vertexSet()) {
+      TASTReachability.index(t, this.term_list, this.term_ids);
+    }
+
+    this.type_list = new ArrayList<TTypeNameFlat>();
+    this.type_ids = new HashMap<TTypeNameFlat, Integer>();
+    for (final TTypeNameFlat t : yy.vertexSet()) {
+      TASTReachability.index(t, this.type_list, this.type_ids);
+    }
+    TASTReachability.indexTypes(ty.vertexSet(), this.type_list, this.type_ids);
+    TASTReachability.indexTypes(sy.vertexSet(), this.type_list, this.type_ids);
+
+    /**
+     * The global topological orders of the term and type graphs.
+     */
+
+    this.term_order = TASTReachability.topological(tt);
+    this.term_ranks =
+      TASTReachability.ranks(
+        this.term_order,
+        this.term_ids,
+        this.term_list.size());
+    this.type_order = TASTReachability.topological(yy);
+    this.type_ranks =
+      TASTReachability.ranks(
+        this.type_order,
+        this.type_ids,
+        this.type_list.size());
+
+    /**
+     * The closure of the term graph.
+     */
+
+    final Map<TASTTermNameFlat, BitSet> tt_closure =
+      TASTReachability.closures(tt, this.term_order, this.term_ids);
+    this.term_terms = new BitSet[this.term_list.size()];
+    for (int index = 0; index < this.term_list.size(); ++index) {
+      this.term_terms[index] = tt_closure.get(this.term_list.get(index));
+    }
+
+    /**
+     * The closure of the type graph. Types that appear only in the
+     * term/type or shader/type graphs reach only themselves.
+     */
+
+    final BitSet[] type_types =
+      TASTReachability.typeClosures(
+        yy,
+        this.type_order,
+        this.type_list,
+        this.type_ids);
+
+    /**
+     * The types reachable from each term, including all of the types
+     * reachable from those types.
+     */
+
+    final Map<TASTNameTypeTermFlatType, BitSet> ty_closure =
+      TASTReachability.closures(
+        ty,
+        TASTReachability.topological(ty),
+        this.type_ids);
+    this.term_types = new BitSet[this.term_list.size()];
+    for (int index = 0; index < this.term_list.size(); ++index) {
+      final BitSet b = ty_closure.get(this.term_list.get(index));
+      this.term_types[index] =
+        TASTReachability.expand(b == null ? new BitSet() : b, type_types);
+    }
+
+    /**
+     * The types reachable from each shader, likewise.
+     */
+
+    this.shader_types =
+      TASTReachability.shaderTypes(sy, this.type_ids, type_types);
+
+    /**
+     * The terms reachable from each shader.
+     */
+
+    this.shader_terms = this.shaderTerms(st);
+  }
+
+  private static void indexTypes(
+    final Set<?> vertices,
+    final List<TTypeNameFlat> list,
+    final Map<TTypeNameFlat, Integer> ids)
+  {
+    for (final Object t : vertices) {
+      if (t instanceof TTypeNameFlat) {
+        TASTReachability.index((TTypeNameFlat) t, list, ids);
+      }
+    }
+  }
+
+  private static Map<TASTShaderNameFlat, BitSet> shaderTypes(
+    final DirectedAcyclicGraph<TASTNameTypeShaderFlatType, TASTReference> sy,
+    final Map<TTypeNameFlat, Integer> type_ids,
+    final BitSet[] type_types)
+  {
+    final Map<TASTNameTypeShaderFlatType, BitSet> sy_closure =
+      TASTReachability.closures(sy, TASTReachability.topological(sy), type_ids);
+    final Map<TASTShaderNameFlat, BitSet> r =
+      new HashMap<TASTShaderNameFlat, BitSet>();
+    for (final TASTNameTypeShaderFlatType v : sy_closure.keySet()) {
+      if (v instanceof TASTShaderNameFlat) {
+        final BitSet b = sy_closure.get(v);
+        assert b != null;
+        r.put((TASTShaderNameFlat) v, TASTReachability.expand(b, type_types));
+      }
+    }
+    return r;
+  }
+
+  private static BitSet[] typeClosures(
+    final DirectedAcyclicGraph<TTypeNameFlat, TASTReference> yy,
+    final List<TTypeNameFlat> type_order,
+    final List<TTypeNameFlat> type_list,
+    final Map<TTypeNameFlat, Integer> type_ids)
+  {
+    final Map<TTypeNameFlat, BitSet> yy_closure =
+      TASTReachability.closures(yy, type_order, type_ids);
+    final BitSet[] r = new BitSet[type_list.size()];
+    for (int index = 0; index < type_list.size(); ++index) {
+      final BitSet b = yy_closure.get(type_list.get(index));
+      if (b != null) {
+        r[index] = b;
+      } else {
+        r[index] = new BitSet();
+        r[index].set(index);
+      }
+    }
+    return r;
+  }
+
+  private Map<TASTShaderNameFlat, BitSet> shaderTerms(
+    final DirectedAcyclicGraph<TASTNameTermShaderFlatType, TASTReference> st)
+  {
+    final Map<TASTShaderNameFlat, BitSet> r =
+      new HashMap<TASTShaderNameFlat, BitSet>();
+    for (final TASTNameTermShaderFlatType v : st.vertexSet()) {
+      if (v instanceof TASTShaderNameFlat) {
+        final BitSet b = new BitSet();
+        for (final TASTReference d : st.outgoingEdgesOf(v)) {
+          final TASTTermNameFlat term =
+            new TASTTermNameFlat(d.getTargetModuleFlat(), d
+              .getTargetName()
+              .getActual());
+          b.or(this.termTerms(term));
+        }
+        r.put((TASTShaderNameFlat) v, b);
+      }
+    }
+    return r;
+  }
+
+  private static BitSet expand(
+    final BitSet types,
+    final BitSet[] type_types)
+  {
+    final BitSet r = new BitSet();
+    for (int i = types.nextSetBit(0); i >= 0; i = types.nextSetBit(i + 1)) {
+      r.or(type_types[i]);
+    }
+    return r;
+  }
+
+  private BitSet termTerms(
+    final TASTTermNameFlat term)
+  {
+    final Integer id = this.term_ids.get(term);
+    if (id == null) {
+      throw new IllegalArgumentException(String.format(
+        "Term %s is not in the term graph",
+        term.show()));
+    }
+    return this.term_terms[id.intValue()];
+  }
+
+  /**
+   * Place the given terms into dependency order: if a term <code>t₀</code>
+   * refers to a term <code>t₁</code>, then <code>t₁</code> appears before
+   * <code>t₀</code> in the resulting list. Terms that do not appear in the
+   * term graph are omitted.
+   *
+   * @param terms
+   *          A set of terms
+   * @return The given terms, sorted
+   */
+
+  public List<TASTTermNameFlat> getTermsSorted(
+    final Set<TASTTermNameFlat> terms)
+  {
+    NullCheck.notNull(terms, "Terms");
+    return TASTReachability.sortByRank(
+      terms,
+      this.term_ids,
+      this.term_ranks,
+      this.term_order);
+  }
+
+  /**
+   * Place the given types into dependency order, in the same manner as
+   * {@link #getTermsSorted(Set)}. Types that do not appear in the type graph
+   * are omitted.
+   *
+   * @param types
+   *          A set of types
+   * @return The given types, sorted
+   */
+
+  public List<TTypeNameFlat> getTypesSorted(
+    final Set<TTypeNameFlat> types)
+  {
+    NullCheck.notNull(types, "Types");
+    return TASTReachability.sortByRank(
+      types,
+      this.type_ids,
+      this.type_ranks,
+      this.type_order);
+  }
+
+  /**
+   * @param shader
+   *          The name of a shader
+   * @return The set of terms transitively referenced by the given shader
+   */
+
+  public Set<TASTTermNameFlat> getShaderTerms(
+    final TASTShaderNameFlat shader)
+  {
+    NullCheck.notNull(shader, "Shader");
+
+    final BitSet b = this.shader_terms.get(shader);
+    final Set<TASTTermNameFlat> r = new HashSet<TASTTermNameFlat>();
+    if (b != null) {
+      for (int i = b.nextSetBit(0); i >= 0; i = b.nextSetBit(i + 1)) {
+        r.add(this.term_list.get(i));
+      }
+    }
+    return r;
+  }
+
+  /**
+   * @param shader
+   *          The name of a shader
+   * @return The set of types transitively referenced by the given shader,
+   *         and by all of the terms it references
+   */
+
+  public Set<TTypeNameFlat> getShaderTypes(
+    final TASTShaderNameFlat shader)
+  {
+    NullCheck.notNull(shader, "Shader");
+
+    final BitSet types = new BitSet();
+    final BitSet s_types = this.shader_types.get(shader);
+    if (s_types != null) {
+      types.or(s_types);
+    }
+
+    final BitSet terms = this.shader_terms.get(shader);
+    if (terms != null) {
+      for (int i = terms.nextSetBit(0); i >= 0; i = terms.nextSetBit(i + 1)) {
+        types.or(this.term_types[i]);
+      }
+    }
+
+    final Set<TTypeNameFlat> r = new HashSet<TTypeNameFlat>();
+    for (int i = types.nextSetBit(0); i >= 0; i = types.nextSetBit(i + 1)) {
+      r.add(this.type_list.get(i));
+    }
+    return r;
+  }
+}
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import com.io7m.jequality.annotations.EqualityReference;
 import com.io7m.jfunctional.Option;
@@ -34,6 +35,7 @@ import com.io7m.jparasol.ModulePath;
 import com.io7m.jparasol.ModulePathFlat;
 import com.io7m.jparasol.NameRestrictions;
 import com.io7m.jparasol.NameRestrictions.NameRestrictionsException;
+import com.io7m.jparasol.Parallel;
 import com.io7m.jparasol.lexer.Token.TokenIdentifierLower;
 import com.io7m.jparasol.lexer.Token.TokenIdentifierUpper;
 import com.io7m.jparasol.untyped.ast.checked.UASTCCompilation;
@@ -1516,7 +1518,32 @@ import com.io7m.junreachable.UnreachableCodeException;
     final UASTICompilation compilation,
     final LogUsableType log)
   {
-    return new ModuleStructure(compilation, log);
+    return new ModuleStructure(compilation, null, log);
+  }
+
+  /**
+   * Construct a new module structure checker that checks modules in
+   * parallel on the given executor. The results, and any errors raised, are
+   * identical to those of the sequential checker.
+   *
+   * @param compilation
+   *          The AST
+   * @param exec
+   *          An executor
+   * @param log
+   *          A log interface
+   * @return A new module structure checker
+   */
+
+  public static ModuleStructure newParallelModuleStructureChecker(
+    final UASTICompilation compilation,
+    final ExecutorService exec,
+    final LogUsableType log)
+  {
+    return new ModuleStructure(
+      compilation,
+      NullCheck.notNull(exec, "Executor"),
+      log);
   }
 
   static UASTCShaderPath shaderPath(
@@ -1537,15 +1564,18 @@ import com.io7m.junreachable.UnreachableCodeException;
     return new UASTCValuePath(name.getModule(), name.getName());
   }
 
-  private final UASTICompilation compilation;
-  private final LogUsableType    log;
+  private final UASTICompilation          compilation;
+  private final @Nullable ExecutorService exec;
+  private final LogUsableType             log;
 
   private ModuleStructure(
     final UASTICompilation in_compilation,
+    final @Nullable ExecutorService in_exec,
     final LogUsableType in_log)
   {
     this.log = NullCheck.notNull(in_log, "Log").with("module-structure");
     this.compilation = NullCheck.notNull(in_compilation, "Compilation");
+    this.exec = in_exec;
   }
 
   /**
@@ -1561,23 +1591,36 @@ import com.io7m.junreachable.UnreachableCodeException;
   {
     final Map<ModulePathFlat, UASTIDModule> modules =
       this.compilation.getModules();
-    final Map<ModulePathFlat, UASTCDModule> r_modules =
-      new HashMap<ModulePathFlat, UASTCDModule>();
-
     final Map<ModulePathFlat, ModulePath> paths = this.compilation.getPaths();
 
-    for (final ModulePathFlat path : modules.keySet()) {
-      this.log.debug(String.format("Checking module: %s", path.getActual()));
+    final PartialFunctionType<ModulePathFlat, UASTCDModule, ModuleStructureError> f =
+      new PartialFunctionType<ModulePathFlat, UASTCDModule, ModuleStructureError>() {
+        @Override public UASTCDModule call(
+          final ModulePathFlat path)
+          throws ModuleStructureError
+        {
+          final LogUsableType mlog = ModuleStructure.this.log;
+          mlog.debug(String.format("Checking module: %s", path.getActual()));
 
-      final UASTIDModule module = modules.get(path);
-      assert module != null;
+          final UASTIDModule module = modules.get(path);
+          assert module != null;
 
-      final UASTCDModule r_module =
-        module.moduleVisitableAccept(new ModuleChecker(
-          paths.get(path),
-          this.log));
+          return module.moduleVisitableAccept(new ModuleChecker(paths
+            .get(path), mlog));
+        }
+      };
 
-      r_modules.put(path, r_module);
+    final Map<ModulePathFlat, UASTCDModule> r_modules;
+    final ExecutorService e = this.exec;
+    if (e != null) {
+      r_modules =
+        Parallel.mapKeys(e, modules.keySet(), f, ModuleStructureError.class);
+    } else {
+      r_modules = new HashMap<ModulePathFlat, UASTCDModule>();
+      for (final ModulePathFlat path : modules.keySet()) {
+        assert path != null;
+        r_modules.put(path, f.call(path));
+      }
     }
 
     return new UASTCCompilation(r_modules, paths);
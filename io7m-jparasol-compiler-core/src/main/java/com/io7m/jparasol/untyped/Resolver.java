@@ -17,9 +17,13 @@
 package com.io7m.jparasol.untyped;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import org.jgrapht.alg.DijkstraShortestPath;
 import org.jgrapht.experimental.dag.DirectedAcyclicGraph;
@@ -39,10 +43,13 @@ import com.io7m.jnull.NullCheck;
 import com.io7m.jnull.Nullable;
 import com.io7m.jparasol.ModulePath;
 import com.io7m.jparasol.ModulePathFlat;
+import com.io7m.jparasol.Parallel;
 import com.io7m.jparasol.lexer.Token.TokenIdentifierLower;
 import com.io7m.jparasol.lexer.Token.TokenIdentifierUpper;
 import com.io7m.jparasol.typed.TType;
 import com.io7m.jparasol.typed.TTypeName.TTypeNameBuiltIn;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDImport;
+import com.io7m.jparasol.typed.ast.TASTDeclaration.TASTDModule;
 import com.io7m.jparasol.untyped.ast.resolved.UASTRCompilation;
 import com.io7m.jparasol.untyped.ast.resolved.UASTRDeclaration.UASTRDExternal;
 import com.io7m.jparasol.untyped.ast.resolved.UASTRDeclaration.UASTRDFunctionArgument;
@@ -169,15 +176,15 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UniqueNameVisitorType;
   @EqualityReference private static final class ExpressionResolver implements
     UASTUExpressionVisitorType<UASTRExpression, UASTRDValueLocal, ResolverError>
   {
-    private final UASTUDModule                      module;
-    private final Map<ModulePathFlat, UASTUDModule> modules;
-    private final @Nullable UASTUDTerm              term;
-    private final @Nullable TermGraph               term_graph;
+    private final UASTUDModule         module;
+    private final Modules              modules;
+    private final @Nullable UASTUDTerm term;
+    private final @Nullable TermGraph  term_graph;
 
     public ExpressionResolver(
       final @Nullable UASTUDTerm in_term,
       final UASTUDModule in_module,
-      final Map<ModulePathFlat, UASTUDModule> in_modules,
+      final Modules in_modules,
       final @Nullable TermGraph in_term_graph)
     {
       this.term = in_term;
@@ -421,15 +428,15 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UniqueNameVisitorType;
   @EqualityReference private static final class FragmentShaderLocalResolver implements
     UASTUFragmentShaderLocalVisitorType<UASTRDShaderFragmentLocal, ResolverError>
   {
-    private final LogUsableType                     log;
-    private final UASTUDModule                      module;
-    private final Map<ModulePathFlat, UASTUDModule> modules;
-    private final UASTUDShaderFragment              shader;
+    private final LogUsableType        log;
+    private final UASTUDModule         module;
+    private final Modules              modules;
+    private final UASTUDShaderFragment shader;
 
     public FragmentShaderLocalResolver(
       final LogUsableType in_log,
       final UASTUDModule in_module,
-      final Map<ModulePathFlat, UASTUDModule> in_modules,
+      final Modules in_modules,
       final UASTUDShaderFragment in_shader)
     {
       this.module = in_module;
@@ -470,14 +477,14 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UniqueNameVisitorType;
   {
     private final LogUsableType                     log;
     private final UASTUDModule                      module;
-    private final Map<ModulePathFlat, UASTUDModule> modules;
+    private final Modules                           modules;
     private final Map<String, TokenIdentifierLower> outputs_declared;
     private final UASTUDShaderFragment              shader;
 
     public FragmentShaderResolver(
       final LogUsableType in_log,
       final UASTUDModule in_module,
-      final Map<ModulePathFlat, UASTUDModule> in_modules,
+      final Modules in_modules,
       final UASTUDShaderFragment f)
     {
       this.module = in_module;
@@ -701,100 +708,135 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UniqueNameVisitorType;
       }
     }
 
-    private final UASTUCompilation                           compilation;
-    private final DirectedAcyclicGraph<UASTUDModule, Import> import_graph;
-    private final LogUsableType                              log;
-    private final StringBuilder                              message;
+    private final DirectedAcyclicGraph<ModulePathFlat, Import> import_graph;
+    private final LogUsableType                                log;
+    private final StringBuilder                                message;
 
     public ImportResolver(
       final UASTUCompilation in_compilation,
+      final Map<ModulePathFlat, TASTDModule> in_checked,
       final LogUsableType in_log)
       throws ResolverError
     {
       this.log = in_log.with("imports");
       this.message = new StringBuilder();
-      this.compilation = in_compilation;
 
       this.import_graph =
-        new DirectedAcyclicGraph<UASTUDModule, Import>(Import.class);
+        new DirectedAcyclicGraph<ModulePathFlat, Import>(Import.class);
 
       final Map<ModulePathFlat, UASTUDModule> modules =
         in_compilation.getModules();
 
+      /**
+       * Modules that have already been checked only import other modules
+       * that have already been checked, and so their imports are known to
+       * exist and to be free of cycles. They are still added to the graph so
+       * that they appear in the topology.
+       */
+
+      for (final ModulePathFlat path : in_checked.keySet()) {
+        assert path != null;
+        this.addModule(path);
+      }
       for (final ModulePathFlat path : modules.keySet()) {
-        final UASTUDModule module = modules.get(path);
-        if (this.log.wouldLog(LogLevel.LOG_DEBUG)) {
-          this.message.setLength(0);
-          this.message.append("Adding module ");
-          this.message.append(path.getActual());
-          this.log.debug(this.message.toString());
+        assert path != null;
+        this.addModule(path);
+      }
+
+      for (final ModulePathFlat path : in_checked.keySet()) {
+        final TASTDModule module = in_checked.get(path);
+        for (final TASTDImport i : module.getImports()) {
+          final UASTUDImport ui = new UASTUDImport(i.getPath(), i.getRename());
+          this.addImport(path, ui, in_checked.keySet());
         }
-        this.import_graph.addVertex(module);
       }
 
+      final Set<ModulePathFlat> known = new HashSet<ModulePathFlat>();
+      known.addAll(in_checked.keySet());
+      known.addAll(modules.keySet());
+
       for (final ModulePathFlat path : modules.keySet()) {
         final UASTUDModule module = modules.get(path);
-
         for (final UASTUDImport i : module.getImports()) {
-          final ModulePathFlat target =
-            ModulePathFlat.fromModulePath(i.getPath());
-
-          if (this.log.wouldLog(LogLevel.LOG_DEBUG)) {
-            this.message.setLength(0);
-            this.message.append("Adding module import ");
-            this.message.append(path.getActual());
-            this.message.append(" → ");
-            this.message.append(target.getActual());
-            this.log.debug(this.message.toString());
-          }
+          assert i != null;
+          this.addImport(path, i, known);
+        }
+      }
+    }
 
-          if (modules.containsKey(target) == false) {
-            throw ResolverError.moduleImportUnknown(i, target);
-          }
+    private void addImport(
+      final ModulePathFlat path,
+      final UASTUDImport i,
+      final Set<ModulePathFlat> known)
+      throws ResolverError
+    {
+      final ModulePathFlat target =
+        ModulePathFlat.fromModulePath(i.getPath());
 
-          final UASTUDModule target_module = modules.get(target);
+      if (this.log.wouldLog(LogLevel.LOG_DEBUG)) {
+        this.message.setLength(0);
+        this.message.append("Adding module import ");
+        this.message.append(path.getActual());
+        this.message.append(" → ");
+        this.message.append(target.getActual());
+        this.log.debug(this.message.toString());
+      }
 
-          final Import import_ = new Import(i, path, target);
+      if (known.contains(target) == false) {
+        throw ResolverError.moduleImportUnknown(i, target);
+      }
 
-          try {
-            this.import_graph.addDagEdge(module, target_module, import_);
-          } catch (final CycleFoundException e) {
+      final Import import_ = new Import(i, path, target);
 
-            /**
-             * Because a cycle as occurred on an insertion of edge A → B, then
-             * there must be some path B → A already in the graph. Use a
-             * shortest path algorithm to determine that path.
-             */
+      try {
+        this.import_graph.addDagEdge(path, target, import_);
+      } catch (final CycleFoundException e) {
 
-            final DijkstraShortestPath<UASTUDModule, Import> dj =
-              new DijkstraShortestPath<UASTUDModule, Import>(
-                this.import_graph,
-                target_module,
-                module);
+        /**
+         * Because a cycle as occurred on an insertion of edge A → B, then
+         * there must be some path B → A already in the graph. Use a shortest
+         * path algorithm to determine that path.
+         */
 
-            final List<Import> imports = dj.getPathEdgeList();
-            assert imports != null;
+        final DijkstraShortestPath<ModulePathFlat, Import> dj =
+          new DijkstraShortestPath<ModulePathFlat, Import>(
+            this.import_graph,
+            target,
+            path);
 
-            final List<UASTUDImport> imports_ = new ArrayList<UASTUDImport>();
-            for (final Import im : imports) {
-              imports_.add(im.actual);
-            }
+        final List<Import> imports = dj.getPathEdgeList();
+        assert imports != null;
 
-            throw ResolverError.moduleImportCyclic(i, target, imports_);
-          }
+        final List<UASTUDImport> imports_ = new ArrayList<UASTUDImport>();
+        for (final Import im : imports) {
+          imports_.add(im.actual);
         }
+
+        throw ResolverError.moduleImportCyclic(i, target, imports_);
+      }
+    }
+
+    private void addModule(
+      final ModulePathFlat path)
+    {
+      if (this.log.wouldLog(LogLevel.LOG_DEBUG)) {
+        this.message.setLength(0);
+        this.message.append("Adding module ");
+        this.message.append(path.getActual());
+        this.log.debug(this.message.toString());
       }
+      this.import_graph.addVertex(path);
     }
 
     public List<ModulePathFlat> getTopology()
     {
-      final TopologicalOrderIterator<UASTUDModule, Import> iter =
-        new TopologicalOrderIterator<UASTUDModule, Import>(this.import_graph);
+      final TopologicalOrderIterator<ModulePathFlat, Import> iter =
+        new TopologicalOrderIterator<ModulePathFlat, Import>(
+          this.import_graph);
 
       final List<ModulePathFlat> ls = new ArrayList<ModulePathFlat>();
       while (iter.hasNext()) {
-        final UASTUDModule m = iter.next();
-        ls.add(ModulePathFlat.fromModulePath(m.getPath()));
+        ls.add(iter.next());
       }
 
       return ls;
@@ -804,15 +846,15 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UniqueNameVisitorType;
   @EqualityReference private static final class LocalResolver implements
     UASTULocalLevelVisitorType<UASTRDValueLocal, ResolverError>
   {
-    private final UASTUDModule                      module;
-    private final Map<ModulePathFlat, UASTUDModule> modules;
-    private final @Nullable UASTUDTerm              term;
-    private final @Nullable TermGraph               term_graph;
+    private final UASTUDModule         module;
+    private final Modules              modules;
+    private final @Nullable UASTUDTerm term;
+    private final @Nullable TermGraph  term_graph;
 
     public LocalResolver(
       final @Nullable UASTUDTerm in_term,
       final UASTUDModule in_module,
-      final Map<ModulePathFlat, UASTUDModule> in_modules,
+      final Modules in_modules,
       final @Nullable TermGraph in_term_graph)
     {
       this.term = in_term;
@@ -866,16 +908,16 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UniqueNameVisitorType;
     UASTUTypeVisitorType<UASTRDType, ResolverError>,
     UASTUShaderVisitorType<UASTRDShader, ResolverError>
   {
-    private final LogUsableType                     log;
-    private final UASTUDModule                      module;
-    private final Map<ModulePathFlat, UASTUDModule> modules;
-    private final ShaderGraph                       shader_graph;
-    private final TermGraph                         term_graph;
-    private final TypeGraph                         type_graph;
+    private final LogUsableType log;
+    private final UASTUDModule  module;
+    private final Modules       modules;
+    private final ShaderGraph   shader_graph;
+    private final TermGraph     term_graph;
+    private final TypeGraph     type_graph;
 
     public ModuleResolver(
       final UASTUDModule in_module,
-      final Map<ModulePathFlat, UASTUDModule> in_modules,
+      final Modules in_modules,
       final LogUsableType in_log)
     {
       this.module = in_module;
@@ -1120,19 +1162,81 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UniqueNameVisitorType;
     }
   }
 
+  /**
+   * The modules that may be referenced by the modules being resolved: the
+   * modules being resolved themselves, and any modules that have already
+   * been checked.
+   */
+
+  @EqualityReference private static final class Modules
+  {
+    private final Map<ModulePathFlat, TASTDModule>  checked;
+    private final Map<ModulePathFlat, UASTUDModule> unchecked;
+
+    public Modules(
+      final Map<ModulePathFlat, UASTUDModule> in_unchecked,
+      final Map<ModulePathFlat, TASTDModule> in_checked)
+    {
+      this.unchecked = in_unchecked;
+      this.checked = in_checked;
+    }
+
+    public boolean hasShader(
+      final ModulePath path,
+      final TokenIdentifierLower name)
+    {
+      final ModulePathFlat flat = ModulePathFlat.fromModulePath(path);
+      final UASTUDModule u = this.unchecked.get(flat);
+      if (u != null) {
+        return u.getShaders().containsKey(name.getActual());
+      }
+      final TASTDModule c = this.checked.get(flat);
+      assert c != null;
+      return c.getShaders().containsKey(name.getActual());
+    }
+
+    public boolean hasTerm(
+      final ModulePath path,
+      final TokenIdentifierLower name)
+    {
+      final ModulePathFlat flat = ModulePathFlat.fromModulePath(path);
+      final UASTUDModule u = this.unchecked.get(flat);
+      if (u != null) {
+        return u.getTerms().containsKey(name.getActual());
+      }
+      final TASTDModule c = this.checked.get(flat);
+      assert c != null;
+      return c.getTerms().containsKey(name.getActual());
+    }
+
+    public boolean hasType(
+      final ModulePath path,
+      final TokenIdentifierLower name)
+    {
+      final ModulePathFlat flat = ModulePathFlat.fromModulePath(path);
+      final UASTUDModule u = this.unchecked.get(flat);
+      if (u != null) {
+        return u.getTypes().containsKey(name.getActual());
+      }
+      final TASTDModule c = this.checked.get(flat);
+      assert c != null;
+      return c.getTypes().containsKey(name.getActual());
+    }
+  }
+
   @EqualityReference private static final class RecordTypeResolver implements
     UASTUDRecordVisitorType<UASTRDTypeRecord, UASTRDTypeRecordField, ResolverError>
   {
-    private final LogUsableType                     log;
-    private final UASTUDModule                      module;
-    private final Map<ModulePathFlat, UASTUDModule> modules;
-    private final UASTUDTypeRecord                  type;
-    private final TypeGraph                         type_graph;
+    private final LogUsableType    log;
+    private final UASTUDModule     module;
+    private final Modules          modules;
+    private final UASTUDTypeRecord type;
+    private final TypeGraph        type_graph;
 
     public RecordTypeResolver(
       final LogUsableType in_log,
       final UASTUDModule in_module,
-      final Map<ModulePathFlat, UASTUDModule> in_modules,
+      final Modules in_modules,
       final TypeGraph in_type_graph,
       final UASTUDTypeRecord r)
     {
@@ -1636,16 +1740,16 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UniqueNameVisitorType;
   @EqualityReference private static final class TermResolver implements
     UASTUTermVisitorType<UASTRDTerm, ResolverError>
   {
-    private final LogUsableType                     log;
-    private final UASTUDModule                      module;
-    private final Map<ModulePathFlat, UASTUDModule> modules;
-    private final UASTUDTerm                        term;
-    private final TermGraph                         term_graph;
+    private final LogUsableType log;
+    private final UASTUDModule  module;
+    private final Modules       modules;
+    private final UASTUDTerm    term;
+    private final TermGraph     term_graph;
 
     public TermResolver(
       final LogUsableType in_log,
       final UASTUDModule in_module,
-      final Map<ModulePathFlat, UASTUDModule> in_modules,
+      final Modules in_modules,
       final TermGraph in_term_graph,
       final UASTUDTerm t)
     {
@@ -2064,15 +2168,15 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UniqueNameVisitorType;
   @EqualityReference private static final class VertexShaderLocalResolver implements
     UASTUVertexShaderLocalVisitorType<UASTRDShaderVertexLocalValue, ResolverError>
   {
-    private final LogUsableType                     log;
-    private final UASTUDModule                      module;
-    private final Map<ModulePathFlat, UASTUDModule> modules;
-    private final UASTUDShaderVertex                shader;
+    private final LogUsableType      log;
+    private final UASTUDModule       module;
+    private final Modules            modules;
+    private final UASTUDShaderVertex shader;
 
     public VertexShaderLocalResolver(
       final LogUsableType in_log,
       final UASTUDModule in_module,
-      final Map<ModulePathFlat, UASTUDModule> in_modules,
+      final Modules in_modules,
       final UASTUDShaderVertex in_shader)
     {
       this.module = in_module;
@@ -2100,14 +2204,14 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UniqueNameVisitorType;
   {
     private final LogUsableType                     log;
     private final UASTUDModule                      module;
-    private final Map<ModulePathFlat, UASTUDModule> modules;
+    private final Modules                           modules;
     private final Map<String, TokenIdentifierLower> outputs_declared;
     private final UASTUDShaderVertex                shader;
 
     public VertexShaderResolver(
       final LogUsableType in_log,
       final UASTUDModule in_module,
-      final Map<ModulePathFlat, UASTUDModule> in_modules,
+      final Modules in_modules,
       final UASTUDShaderVertex v)
     {
       this.module = in_module;
@@ -2226,61 +2330,53 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UniqueNameVisitorType;
     }
   }
 
-  private static UASTUDModule lookupModuleFromQualification(
+  private static ModulePath lookupModuleFromQualification(
     final UASTUDModule current,
-    final Map<ModulePathFlat, UASTUDModule> modules,
     final TokenIdentifierUpper qualification)
     throws ResolverError
   {
     if (current.getImportedNames().containsKey(qualification.getActual())) {
-      final UASTUDImport path =
+      final UASTUDImport i =
         current.getImportedNames().get(qualification.getActual());
-      final ModulePathFlat flat =
-        ModulePathFlat.fromModulePath(path.getPath());
-      assert modules.containsKey(flat);
-      return modules.get(flat);
+      return i.getPath();
     }
 
     if (current.getImportedRenames().containsKey(qualification.getActual())) {
-      final UASTUDImport path =
+      final UASTUDImport i =
         current.getImportedRenames().get(qualification.getActual());
-      final ModulePathFlat flat =
-        ModulePathFlat.fromModulePath(path.getPath());
-      assert modules.containsKey(flat);
-      return modules.get(flat);
+      return i.getPath();
     }
 
     throw ResolverError.moduleReferenceUnknown(qualification);
   }
 
   private static UASTRShaderName lookupShader(
-    final Map<ModulePathFlat, UASTUDModule> modules,
+    final Modules modules,
     final UASTUDModule current,
     final OptionType<TokenIdentifierUpper> qualification,
     final TokenIdentifierLower name)
     throws ResolverError
   {
-    final UASTUDModule m;
+    final ModulePath m;
 
     if (qualification.isNone()) {
-      m = current;
+      m = current.getPath();
     } else {
       final Some<TokenIdentifierUpper> some =
         (Some<TokenIdentifierUpper>) qualification;
-      m =
-        Resolver.lookupModuleFromQualification(current, modules, some.get());
+      m = Resolver.lookupModuleFromQualification(current, some.get());
     }
 
-    if (m.getShaders().containsKey(name.getActual()) == false) {
+    if (modules.hasShader(m, name) == false) {
       throw ResolverError.shaderNonexistent(m, name);
     }
 
-    return new UASTRShaderName(m.getPath(), name);
+    return new UASTRShaderName(m, name);
   }
 
   static UASTRTermName lookupTerm(
     final UASTUDModule module,
-    final Map<ModulePathFlat, UASTUDModule> modules,
+    final Modules modules,
     final UniqueName name)
     throws ResolverError
   {
@@ -2299,20 +2395,18 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UniqueNameVisitorType;
           final UniqueNameNonLocal name_actual)
           throws ResolverError
         {
-          final UASTUDModule m;
+          final ModulePath m;
           if (name_actual.getModule().isNone()) {
-            m = module;
+            m = module.getPath();
           } else {
             m =
               Resolver.lookupModuleFromQualification(
                 module,
-                modules,
                 ((Some<TokenIdentifierUpper>) name_actual.getModule()).get());
           }
 
-          final Map<String, UASTUDTerm> terms = m.getTerms();
-          if (terms.containsKey(name_actual.getName().getActual())) {
-            return new UASTRTermNameGlobal(m.getPath(), name_actual.getName());
+          if (modules.hasTerm(m, name_actual.getName())) {
+            return new UASTRTermNameGlobal(m, name_actual.getName());
           }
 
           throw ResolverError.termNonexistent(m, name_actual.getName());
@@ -2321,13 +2415,13 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UniqueNameVisitorType;
   }
 
   private static UASTRTypeName lookupType(
-    final Map<ModulePathFlat, UASTUDModule> modules,
+    final Modules modules,
     final UASTUDModule current,
     final OptionType<TokenIdentifierUpper> qualification,
     final TokenIdentifierLower name)
     throws ResolverError
   {
-    final UASTUDModule m;
+    final ModulePath m;
 
     if (qualification.isNone()) {
       final Map<TTypeNameBuiltIn, TType> tbn = TType.getBaseTypesByName();
@@ -2336,19 +2430,18 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UniqueNameVisitorType;
         return new UASTRTypeNameBuiltIn(name);
       }
 
-      m = current;
+      m = current.getPath();
     } else {
       final Some<TokenIdentifierUpper> some =
         (Some<TokenIdentifierUpper>) qualification;
-      m =
-        Resolver.lookupModuleFromQualification(current, modules, some.get());
+      m = Resolver.lookupModuleFromQualification(current, some.get());
     }
 
-    if (m.getTypes().containsKey(name.getActual()) == false) {
+    if (modules.hasType(m, name) == false) {
       throw ResolverError.typeNonexistent(m, name);
     }
 
-    return new UASTRTypeNameGlobal(m.getPath(), name);
+    return new UASTRTypeNameGlobal(m, name);
   }
 
   /**
@@ -2365,18 +2458,82 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UniqueNameVisitorType;
     final UASTUCompilation compilation,
     final LogUsableType log)
   {
-    return new Resolver(compilation, log);
+    final Map<ModulePathFlat, TASTDModule> none = Collections.emptyMap();
+    assert none != null;
+    return new Resolver(compilation, none, null, log);
   }
 
-  private final UASTUCompilation compilation;
-  private final LogUsableType    log;
+  /**
+   * Construct a new name resolver for the given AST. The AST may refer to
+   * the modules in <code>checked</code>, which have already been resolved
+   * and type checked by an earlier compilation. Those modules are not
+   * resolved again, and are absent from the resulting AST, but they do
+   * appear in the resulting module topology.
+   *
+   * @param compilation
+   *          The AST
+   * @param checked
+   *          The modules that have already been checked
+   * @param log
+   *          A log interface
+   * @return A name resolver
+   */
+
+  public static Resolver newResolverWithChecked(
+    final UASTUCompilation compilation,
+    final Map<ModulePathFlat, TASTDModule> checked,
+    final LogUsableType log)
+  {
+    return new Resolver(compilation, checked, null, log);
+  }
+
+  /**
+   * Construct a new name resolver for the given AST that resolves modules in
+   * parallel on the given executor. The modules in <code>checked</code> are
+   * treated as with
+   * {@link #newResolverWithChecked(UASTUCompilation, Map, LogUsableType)}.
+   * The results, and any errors raised, are identical to those of the
+   * sequential resolver.
+   *
+   * @param compilation
+   *          The AST
+   * @param checked
+   *          The modules that have already been checked
+   * @param exec
+   *          An executor
+   * @param log
+   *          A log interface
+   * @return A name resolver
+   */
+
+  public static Resolver newParallelResolver(
+    final UASTUCompilation compilation,
+    final Map<ModulePathFlat, TASTDModule> checked,
+    final ExecutorService exec,
+    final LogUsableType log)
+  {
+    return new Resolver(
+      compilation,
+      checked,
+      NullCheck.notNull(exec, "Executor"),
+      log);
+  }
+
+  private final Map<ModulePathFlat, TASTDModule> checked;
+  private final UASTUCompilation                 compilation;
+  private final @Nullable ExecutorService        exec;
+  private final LogUsableType                    log;
 
   private Resolver(
     final UASTUCompilation in_compilation,
+    final Map<ModulePathFlat, TASTDModule> in_checked,
+    final @Nullable ExecutorService in_exec,
     final LogUsableType in_log)
   {
     this.compilation = NullCheck.notNull(in_compilation, "Compilation");
+    this.checked = NullCheck.notNull(in_checked, "Checked");
     this.log = NullCheck.notNull(in_log, "Log").with("resolver");
+    this.exec = in_exec;
   }
 
   /**
@@ -2388,27 +2545,54 @@ import com.io7m.jparasol.untyped.ast.unique_binders.UniqueNameVisitorType;
   public UASTRCompilation run()
     throws ResolverError
   {
-    final ImportResolver ri = new ImportResolver(this.compilation, this.log);
+    /**
+     * The import graph (and therefore the topology) is built before any
+     * module is resolved, so that import errors are always reported first,
+     * regardless of how the modules are resolved.
+     */
 
-    final Map<ModulePathFlat, UASTUDModule> modules =
+    final ImportResolver ri =
+      new ImportResolver(this.compilation, this.checked, this.log);
+
+    final Map<ModulePathFlat, UASTUDModule> unchecked =
       this.compilation.getModules();
+    final Modules modules = new Modules(unchecked, this.checked);
 
-    final Map<ModulePathFlat, UASTRDModule> results =
-      new HashMap<ModulePathFlat, UASTRDModule>();
+    final PartialFunctionType<ModulePathFlat, UASTRDModule, ResolverError> f =
+      new PartialFunctionType<ModulePathFlat, UASTRDModule, ResolverError>() {
+        @Override public UASTRDModule call(
+          final ModulePathFlat path)
+          throws ResolverError
+        {
+          final UASTUDModule module = unchecked.get(path);
+          assert module != null;
+          return module.moduleVisitableAccept(new ModuleResolver(
+            module,
+            modules,
+            Resolver.this.log));
+        }
+      };
+
+    final Map<ModulePathFlat, UASTRDModule> results;
+    final ExecutorService e = this.exec;
+    if (e != null) {
+      results =
+        Parallel.mapKeys(e, unchecked.keySet(), f, ResolverError.class);
+    } else {
+      results = new HashMap<ModulePathFlat, UASTRDModule>();
+      for (final ModulePathFlat path : unchecked.keySet()) {
+        assert path != null;
+        results.put(path, f.call(path));
+      }
+    }
 
-    for (final ModulePathFlat path : modules.keySet()) {
-      final UASTUDModule module = modules.get(path);
-      final UASTRDModule mr =
-        module.moduleVisitableAccept(new ModuleResolver(
-          module,
-          modules,
-          this.log));
-      results.put(path, mr);
+    final Map<ModulePathFlat, ModulePath> paths =
+      new HashMap<ModulePathFlat, ModulePath>();
+    for (final ModulePathFlat path : this.checked.keySet()) {
+      paths.put(path, this.checked.get(path).getPath());
     }
+    paths.putAll(this.compilation.getPaths());
 
-    return new UASTRCompilation(
-      ri.getTopology(),
-      results,
-      this.compilation.getPaths());
+    return new UASTRCompilation(ri.getTopology(), results, paths);
   }
 }
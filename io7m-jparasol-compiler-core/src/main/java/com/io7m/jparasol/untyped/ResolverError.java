@@ -20,12 +20,12 @@ import java.io.File;
 import java.util.List;
 
 import com.io7m.jparasol.CompilerError;
+import com.io7m.jparasol.ModulePath;
 import com.io7m.jparasol.ModulePathFlat;
 import com.io7m.jparasol.lexer.Position;
 import com.io7m.jparasol.lexer.Token.TokenIdentifierLower;
 import com.io7m.jparasol.lexer.Token.TokenIdentifierUpper;
 import com.io7m.jparasol.untyped.ast.unique_binders.UASTUDeclaration.UASTUDImport;
-import com.io7m.jparasol.untyped.ast.unique_binders.UASTUDeclaration.UASTUDModule;
 import com.io7m.jparasol.untyped.ast.unique_binders.UASTUDeclaration.UASTUDShader;
 
 /**
@@ -207,12 +207,12 @@ public final class ResolverError extends CompilerError
    */
 
   public static ResolverError shaderNonexistent(
-    final UASTUDModule module,
+    final ModulePath module,
     final TokenIdentifierLower name)
   {
     final StringBuilder m = new StringBuilder();
     m.append("The module ");
-    m.append(ModulePathFlat.fromModulePath(module.getPath()).getActual());
+    m.append(ModulePathFlat.fromModulePath(module).getActual());
     m.append(" does not contain a shader named ");
     m.append(name.getActual());
 
@@ -311,12 +311,12 @@ public final class ResolverError extends CompilerError
    */
 
   public static ResolverError termNonexistent(
-    final UASTUDModule module,
+    final ModulePath module,
     final TokenIdentifierLower name)
   {
     final StringBuilder m = new StringBuilder();
     m.append("The module ");
-    m.append(ModulePathFlat.fromModulePath(module.getPath()).getActual());
+    m.append(ModulePathFlat.fromModulePath(module).getActual());
     m.append(" does not contain a term named ");
     m.append(name.getActual());
 
@@ -394,12 +394,12 @@ public final class ResolverError extends CompilerError
    */
 
   public static ResolverError typeNonexistent(
-    final UASTUDModule module,
+    final ModulePath module,
     final TokenIdentifierLower name)
   {
     final StringBuilder m = new StringBuilder();
     m.append("The module ");
-    m.append(ModulePathFlat.fromModulePath(module.getPath()).getActual());
+    m.append(ModulePathFlat.fromModulePath(module).getActual());
     m.append(" does not contain a type named ");
     m.append(name.getActual());
 
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.io7m.jequality.annotations.EqualityReference;
@@ -34,6 +35,7 @@ import com.io7m.jparasol.ModulePath;
 import com.io7m.jparasol.ModulePathFlat;
 import com.io7m.jparasol.NameRestrictions;
 import com.io7m.jparasol.NameRestrictions.NameRestricted;
+import com.io7m.jparasol.Parallel;
 import com.io7m.jparasol.lexer.Token.TokenIdentifierLower;
 import com.io7m.jparasol.lexer.Token.TokenIdentifierUpper;
 import com.io7m.jparasol.untyped.ast.checked.UASTCCompilation;
@@ -1105,18 +1107,46 @@ import com.io7m.junreachable.UnreachableCodeException;
     final UASTCCompilation compilation,
     final LogUsableType log)
   {
-    return new UniqueBinders(compilation, log);
+    return new UniqueBinders(compilation, null, log);
   }
 
-  private final UASTCCompilation compilation;
-  private final LogUsableType    log;
+  /**
+   * Construct a new unique binding processor that processes modules in
+   * parallel on the given executor. The results, and any errors raised, are
+   * identical to those of the sequential processor.
+   *
+   * @param compilation
+   *          The AST
+   * @param exec
+   *          An executor
+   * @param log
+   *          A log interface
+   * @return A new unique binding processor
+   */
+
+  public static UniqueBinders newParallelUniqueBinders(
+    final UASTCCompilation compilation,
+    final ExecutorService exec,
+    final LogUsableType log)
+  {
+    return new UniqueBinders(
+      compilation,
+      NullCheck.notNull(exec, "Executor"),
+      log);
+  }
+
+  private final UASTCCompilation          compilation;
+  private final @Nullable ExecutorService exec;
+  private final LogUsableType             log;
 
   private UniqueBinders(
     final UASTCCompilation in_compilation,
+    final @Nullable ExecutorService in_exec,
     final LogUsableType in_log)
   {
     this.log = NullCheck.notNull(in_log, "Log").with("unique-binders");
     this.compilation = NullCheck.notNull(in_compilation, "Compilation");
+    this.exec = in_exec;
   }
 
   /**
@@ -1134,19 +1164,34 @@ import com.io7m.junreachable.UnreachableCodeException;
       this.compilation.getModules();
     final Map<ModulePathFlat, ModulePath> paths = this.compilation.getPaths();
 
-    final Map<ModulePathFlat, UASTUDModule> modules_new =
-      new HashMap<ModulePathFlat, UASTUDeclaration.UASTUDModule>();
-
-    for (final ModulePathFlat path : modules.keySet()) {
-      this.log.debug(String.format("module: %s", path.getActual()));
+    final PartialFunctionType<ModulePathFlat, UASTUDModule, UniqueBindersError> f =
+      new PartialFunctionType<ModulePathFlat, UASTUDModule, UniqueBindersError>() {
+        @Override public UASTUDModule call(
+          final ModulePathFlat path)
+          throws UniqueBindersError
+        {
+          final LogUsableType mlog = UniqueBinders.this.log;
+          mlog.debug(String.format("module: %s", path.getActual()));
 
-      final UASTCDModule module = modules.get(path);
-      assert module != null;
+          final UASTCDModule module = modules.get(path);
+          assert module != null;
 
-      final UASTUDModule u_module =
-        module.moduleVisitableAccept(new ModuleTransformer(this.log));
+          return module.moduleVisitableAccept(new ModuleTransformer(mlog));
+        }
+      };
 
-      modules_new.put(path, u_module);
+    final Map<ModulePathFlat, UASTUDModule> modules_new;
+    final ExecutorService e = this.exec;
+    if (e != null) {
+      modules_new =
+        Parallel.mapKeys(e, modules.keySet(), f, UniqueBindersError.class);
+    } else {
+      modules_new =
+        new HashMap<ModulePathFlat, UASTUDeclaration.UASTUDModule>();
+      for (final ModulePathFlat path : modules.keySet()) {
+        assert path != null;
+        modules_new.put(path, f.call(path));
+      }
     }
 
     return new UASTUCompilation(modules_new, paths);
@@ -19,6 +19,7 @@ package com.io7m.jparasol.untyped;
 import java.io.File;
 
 import com.io7m.jparasol.CompilerError;
+import com.io7m.jparasol.ModulePath;
 import com.io7m.jparasol.NameRestrictions.NameRestrictionsException;
 import com.io7m.jparasol.lexer.Position;
 import com.io7m.jparasol.lexer.Token.TokenIdentifierUpper;
@@ -42,7 +43,20 @@ public final class UnitCombinerError extends CompilerError
     final UASTIDModule original,
     final UASTIDModule current)
   {
-    final TokenIdentifierUpper cn = current.getPath().getName();
+    return UnitCombinerError.duplicateModulePath(
+      original.getPath(),
+      current.getPath());
+  }
+
+  /**
+   * @return A unit combiner error
+   */
+
+  public static UnitCombinerError duplicateModulePath(
+    final ModulePath original,
+    final ModulePath current)
+  {
+    final TokenIdentifierUpper cn = current.getName();
     final StringBuilder m = new StringBuilder();
     m.append("The module named '");
     m.append(cn.getActual());
@@ -51,9 +65,9 @@ public final class UnitCombinerError extends CompilerError
     m.append(":");
     m.append(cn.getPosition());
     m.append(" conflicts with the module definition at ");
-    m.append(original.getPath().getName().getFile());
+    m.append(original.getName().getFile());
     m.append(":");
-    m.append(original.getPath().getName().getPosition());
+    m.append(original.getName().getPosition());
     return new UnitCombinerError(cn.getFile(), cn.getPosition(), m.toString());
   }
 
@@ -44,17 +44,60 @@ import com.io7m.jparasol.untyped.ast.initial.UASTIDeclaration.UASTIDModule;
     EMPTY = Collections.unmodifiableSet(new HashSet<String>());
   }
 
+  private static void addExisting(
+    final Map<ModulePathFlat, ModulePath> declared,
+    final List<ModulePath> existing)
+    throws UnitCombinerError
+  {
+    for (final ModulePath mp : existing) {
+      final ModulePathFlat flat = ModulePathFlat.fromModulePath(mp);
+      final ModulePath original = declared.get(flat);
+
+      if (original != null) {
+        throw UnitCombinerError.duplicateModulePath(original, mp);
+      }
+
+      declared.put(flat, mp);
+    }
+  }
+
   public static UASTICompilation fromUnits(
     final List<UASTIUnit> units)
     throws UnitCombinerError
+  {
+    final List<ModulePath> none = Collections.emptyList();
+    assert none != null;
+    return UASTICompilation.fromUnitsWithExisting(units, none, 0);
+  }
+
+  /**
+   * Combine the given units, treating the modules named in
+   * <code>existing</code> as if they had been declared by a unit placed
+   * before <code>units[existing_index]</code>. The existing modules are
+   * checked for conflicts with the other modules, but are otherwise absent
+   * from the resulting compilation.
+   */
+
+  public static UASTICompilation fromUnitsWithExisting(
+    final List<UASTIUnit> units,
+    final List<ModulePath> existing,
+    final int existing_index)
+    throws UnitCombinerError
   {
     try {
       final Map<ModulePathFlat, UASTIDModule> m =
         new HashMap<ModulePathFlat, UASTIDModule>();
       final Map<ModulePathFlat, ModulePath> paths =
         new HashMap<ModulePathFlat, ModulePath>();
+      final Map<ModulePathFlat, ModulePath> declared =
+        new HashMap<ModulePathFlat, ModulePath>();
 
-      for (final UASTIUnit u : units) {
+      for (int index = 0; index < units.size(); ++index) {
+        if (index == existing_index) {
+          UASTICompilation.addExisting(declared, existing);
+        }
+
+        final UASTIUnit u = units.get(index);
         final PackagePath pp = u.getPackageName().getPath();
 
         for (final TokenIdentifierLower pc : pp.getComponents()) {
@@ -66,17 +109,22 @@ import com.io7m.jparasol.untyped.ast.initial.UASTIDeclaration.UASTIDModule;
           final ModulePath mp = um.getPath();
           final ModulePathFlat flat = ModulePathFlat.fromModulePath(mp);
 
-          final UASTIDModule original = m.get(flat);
+          final ModulePath original = declared.get(flat);
 
           if (original != null) {
-            throw UnitCombinerError.duplicateModule(original, um);
+            throw UnitCombinerError.duplicateModulePath(original, mp);
           }
 
+          declared.put(flat, mp);
           m.put(flat, um);
           paths.put(flat, mp);
         }
       }
 
+      if (existing_index >= units.size()) {
+        UASTICompilation.addExisting(declared, existing);
+      }
+
       return new UASTICompilation(m, paths);
     } catch (final NameRestrictionsException x) {
       throw new UnitCombinerError(x);
@@ -103,4 +151,21 @@ import com.io7m.jparasol.untyped.ast.initial.UASTIDeclaration.UASTIDModule;
   {
     return Collections.unmodifiableMap(this.paths);
   }
+
+  /**
+   * @return The current compilation without the modules named in
+   *         <code>removed</code>.
+   */
+
+  public UASTICompilation withoutModules(
+    final Set<ModulePathFlat> removed)
+  {
+    final Map<ModulePathFlat, UASTIDModule> m =
+      new HashMap<ModulePathFlat, UASTIDModule>(this.modules);
+    final Map<ModulePathFlat, ModulePath> p =
+      new HashMap<ModulePathFlat, ModulePath>(this.paths);
+    m.keySet().removeAll(removed);
+    p.keySet().removeAll(removed);
+    return new UASTICompilation(m, p);
+  }
 }
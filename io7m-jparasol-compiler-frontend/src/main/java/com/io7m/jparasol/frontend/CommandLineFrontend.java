@@ -25,8 +25,10 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.concurrent.ExecutorService;
@@ -51,22 +53,29 @@ import com.io7m.jlog.LogPolicyProperties;
 import com.io7m.jlog.LogPolicyType;
 import com.io7m.jlog.LogType;
 import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
 import com.io7m.jparasol.CompilerError;
 import com.io7m.jparasol.UIError;
 import com.io7m.jparasol.core.GVersionES;
 import com.io7m.jparasol.core.GVersionFull;
+import com.io7m.jparasol.core.JPHashAlgorithm;
 import com.io7m.jparasol.glsl.GVersionNumberSetLexer;
 import com.io7m.jparasol.glsl.GVersionNumberSetParser;
 import com.io7m.jparasol.glsl.GVersionNumberSetParser.Segment;
 import com.io7m.jparasol.glsl.compactor.GCompactorException;
 import com.io7m.jparasol.glsl.serialization.GSerializerFile;
+import com.io7m.jparasol.glsl.serialization.GSerializerPacked;
+import com.io7m.jparasol.glsl.serialization.GSerializerSourceLayout;
 import com.io7m.jparasol.glsl.serialization.GSerializerType;
 import com.io7m.jparasol.glsl.serialization.GSerializerZip;
+import com.io7m.jparasol.glsl.serialization.GSerializerZipWriter;
 import com.io7m.jparasol.lexer.LexerError;
 import com.io7m.jparasol.lexer.Position;
 import com.io7m.jparasol.metaserializer.JPMetaSerializerType;
 import com.io7m.jparasol.metaserializer.xml.JPXMLMetaSerializer;
+import com.io7m.jparasol.packed.JPPackedCompression;
 import com.io7m.jparasol.parser.ParserError;
+import com.io7m.jparasol.pipeline.CoreModuleCache;
 import com.io7m.jparasol.typed.ast.TASTShaderNameFlat;
 import com.io7m.jproperties.JProperties;
 import com.io7m.jproperties.JPropertyException;
@@ -78,10 +87,28 @@ import com.io7m.junreachable.UnreachableCodeException;
 
 public final class CommandLineFrontend
 {
-  private static final Options OPTIONS;
+  private static final List<String> CACHE_OPTIONS;
+  private static final Options      OPTIONS;
 
   static {
     OPTIONS = CommandLineFrontend.makeOptions();
+
+    /**
+     * The options that affect the output of a compilation, and that must
+     * therefore be part of a cache key.
+     */
+
+    CACHE_OPTIONS = new ArrayList<String>();
+    CommandLineFrontend.CACHE_OPTIONS.add("compile-batch");
+    CommandLineFrontend.CACHE_OPTIONS.add("compile-one");
+    CommandLineFrontend.CACHE_OPTIONS.add("compact");
+    CommandLineFrontend.CACHE_OPTIONS.add("hash");
+    CommandLineFrontend.CACHE_OPTIONS.add("packed");
+    CommandLineFrontend.CACHE_OPTIONS.add("packed-lz4");
+    CommandLineFrontend.CACHE_OPTIONS.add("require-glsl");
+    CommandLineFrontend.CACHE_OPTIONS.add("require-glsl-es");
+    CommandLineFrontend.CACHE_OPTIONS.add("shared-sources");
+    CommandLineFrontend.CACHE_OPTIONS.add("zip");
   }
 
   private static void commandCheck(
@@ -110,6 +137,7 @@ public final class CommandLineFrontend
 
   private static void commandCompileBatch(
     final LogType log,
+    final ExecutorService exec,
     final Compiler compiler,
     final CommandLine line)
     throws IOException,
@@ -129,17 +157,38 @@ public final class CommandLineFrontend
       final CompilerBatch batch = CompilerBatch.newBatchFromFile(batch_file);
       final List<File> sources =
         CommandLineFrontend.parseSources(source_file);
+
+      final CompilerCache cache = CommandLineFrontend.makeCache(log, line);
+      @Nullable String key = null;
+      if (cache != null) {
+        final List<File> inputs = new ArrayList<File>();
+        inputs.add(batch_file);
+        inputs.add(source_file);
+        inputs.addAll(sources);
+        key = CommandLineFrontend.makeCacheKey(line, inputs);
+        if (cache.isUpToDate(output, key)) {
+          log.info(String.format("%s is up to date", output));
+          return;
+        }
+      }
+
       final GSerializerType serializer =
-        CommandLineFrontend.makeSerializer(log, line, output);
+        CommandLineFrontend.makeSerializer(log, exec, line, output);
 
+      compiler.setModuleCache(CommandLineFrontend.makeModuleCache(log, line));
       compiler.setRequiredES(CommandLineFrontend.getRequiredES(line));
       compiler.setRequiredFull(CommandLineFrontend.getRequiredFull(line));
       compiler.setSerializer(serializer);
       compiler.setCompacting(line.hasOption("compact"));
+      compiler.setHashAlgorithm(CommandLineFrontend.getHashAlgorithm(line));
       compiler.setGeneratingCode(true);
       compiler.runForFiles(batch, sources);
       serializer.close();
 
+      if ((cache != null) && (key != null)) {
+        cache.markUpToDate(output, key);
+      }
+
     } catch (final JPFrontendMissingSerializer e) {
       throw new UnreachableCodeException(e);
     }
@@ -147,6 +196,7 @@ public final class CommandLineFrontend
 
   private static void commandCompileOne(
     final LogType log,
+    final ExecutorService exec,
     final Compiler compiler,
     final CommandLine line)
     throws JPBatchDuplicateShader,
@@ -173,16 +223,32 @@ public final class CommandLineFrontend
         sources.add(new File(args[index]));
       }
 
+      final CompilerCache cache = CommandLineFrontend.makeCache(log, line);
+      @Nullable String key = null;
+      if (cache != null) {
+        key = CommandLineFrontend.makeCacheKey(line, sources);
+        if (cache.isUpToDate(output, key)) {
+          log.info(String.format("%s is up to date", output));
+          return;
+        }
+      }
+
       final GSerializerType serializer =
-        CommandLineFrontend.makeSerializer(log, line, output);
+        CommandLineFrontend.makeSerializer(log, exec, line, output);
 
+      compiler.setModuleCache(CommandLineFrontend.makeModuleCache(log, line));
       compiler.setRequiredES(CommandLineFrontend.getRequiredES(line));
       compiler.setRequiredFull(CommandLineFrontend.getRequiredFull(line));
       compiler.setSerializer(serializer);
       compiler.setCompacting(line.hasOption("compact"));
+      compiler.setHashAlgorithm(CommandLineFrontend.getHashAlgorithm(line));
       compiler.setGeneratingCode(true);
       compiler.runForFiles(batch, sources);
       serializer.close();
+
+      if ((cache != null) && (key != null)) {
+        cache.markUpToDate(output, key);
+      }
     } catch (final JPFrontendMissingSerializer e) {
       throw new UnreachableCodeException(e);
     }
@@ -203,6 +269,38 @@ public final class CommandLineFrontend
     }
   }
 
+  private static JPHashAlgorithm getHashAlgorithm(
+    final CommandLine line)
+    throws UIError
+  {
+    if (line.hasOption("hash")) {
+      final String name = line.getOptionValue("hash");
+      assert name != null;
+      try {
+        final JPHashAlgorithm a = JPHashAlgorithm.fromName(name);
+
+        /**
+         * The original hashing scheme is only used to read old metadata.
+         */
+
+        if (a == JPHashAlgorithm.HASH_SHA_256_LINES) {
+          throw new IllegalArgumentException(name);
+        }
+        return a;
+      } catch (final IllegalArgumentException e) {
+        final String m =
+          String.format(
+            "Unknown hash algorithm '%s' (expected one of %s, %s)",
+            name,
+            JPHashAlgorithm.HASH_SHA_256.getName(),
+            JPHashAlgorithm.HASH_MURMUR3_128.getName());
+        assert m != null;
+        throw UIError.incorrectCommandLine(m);
+      }
+    }
+    return JPHashAlgorithm.HASH_SHA_256;
+  }
+
   private static SortedSet<GVersionES> getRequiredES(
     final CommandLine line)
     throws LexerError,
@@ -259,6 +357,77 @@ public final class CommandLineFrontend
     return pack;
   }
 
+  /**
+   * Construct a cache if one was requested. Appending to an existing zip
+   * archive is never idempotent, so caching is disabled in that case.
+   */
+
+  private static @Nullable CompilerCache makeCache(
+    final LogType log,
+    final CommandLine line)
+    throws IOException
+  {
+    if (line.hasOption("cache") == false) {
+      return null;
+    }
+    if (line.hasOption("zip-append")) {
+      log.debug("appending to an existing archive, cache disabled");
+      return null;
+    }
+
+    final File directory = new File(line.getOptionValue("cache"));
+    return CompilerCache.newCache(directory, log);
+  }
+
+  /**
+   * Construct a cache of type-checked modules if a cache was requested. The
+   * module cache does not depend on the output, and so is used even when
+   * appending to an existing zip archive.
+   */
+
+  private static @Nullable CoreModuleCache makeModuleCache(
+    final LogType log,
+    final CommandLine line)
+    throws IOException
+  {
+    if (line.hasOption("cache") == false) {
+      return null;
+    }
+
+    final File directory =
+      new File(line.getOptionValue("cache"), CompilerCache.MODULES);
+    return CoreModuleCache.newCache(
+      directory,
+      CommandLineFrontend.getVersion(),
+      log);
+  }
+
+  private static String makeCacheKey(
+    final CommandLine line,
+    final List<File> inputs)
+    throws IOException
+  {
+    final CompilerCache.Key k =
+      CompilerCache.newKey(CommandLineFrontend.getVersion());
+
+    for (final String name : CommandLineFrontend.CACHE_OPTIONS) {
+      assert name != null;
+      k.addString(name);
+      k.addString(Boolean.toString(line.hasOption(name)));
+      k.addString(String.valueOf(line.getOptionValue(name)));
+    }
+    for (final String arg : line.getArgs()) {
+      assert arg != null;
+      k.addString(arg);
+    }
+    for (final File file : inputs) {
+      assert file != null;
+      k.addFile(file);
+    }
+
+    return k.getValue();
+  }
+
   private static ExecutorService makeExecutor(
     final CommandLine line,
     final LogType log)
@@ -392,6 +561,36 @@ public final class CommandLineFrontend
       opts.addOption(OptionBuilder.create());
     }
 
+    {
+      OptionBuilder.withLongOpt("hash");
+      OptionBuilder.hasArg(true);
+      OptionBuilder.withArgName("algorithm");
+      OptionBuilder
+        .withDescription("When using --compact, name sources by the given hash algorithm: sha-256 (default) or murmur3-128");
+      opts.addOption(OptionBuilder.create());
+    }
+
+    {
+      OptionBuilder.withLongOpt("packed");
+      OptionBuilder
+        .withDescription("Write shaders to a single packed archive instead of a directory");
+      opts.addOption(OptionBuilder.create());
+    }
+
+    {
+      OptionBuilder.withLongOpt("packed-lz4");
+      OptionBuilder
+        .withDescription("When using --packed, compress sources with LZ4");
+      opts.addOption(OptionBuilder.create());
+    }
+
+    {
+      OptionBuilder.withLongOpt("shared-sources");
+      OptionBuilder
+        .withDescription("When using --compact, write each source once to a shared 'sources' directory instead of to each shader's directory");
+      opts.addOption(OptionBuilder.create());
+    }
+
     {
       OptionBuilder.withLongOpt("zip");
       OptionBuilder
@@ -406,6 +605,22 @@ public final class CommandLineFrontend
       opts.addOption(OptionBuilder.create());
     }
 
+    {
+      OptionBuilder.withLongOpt("zip-parallel");
+      OptionBuilder
+        .withDescription("When using --zip, compress archive entries in parallel using the threads given by --threads");
+      opts.addOption(OptionBuilder.create());
+    }
+
+    {
+      OptionBuilder.withLongOpt("cache");
+      OptionBuilder.hasArg(true);
+      OptionBuilder.withArgName("directory");
+      OptionBuilder
+        .withDescription("Record the inputs of each successful compilation in the given directory, and skip compilation if the inputs for an output are unchanged; unchanged type-checked modules are also reused");
+      opts.addOption(OptionBuilder.create());
+    }
+
     {
       OptionBuilder.withLongOpt("threads");
       OptionBuilder.hasArg(true);
@@ -422,32 +637,94 @@ public final class CommandLineFrontend
     GSerializerType
     makeSerializer(
       final LogType log,
+      final ExecutorService exec,
       final CommandLine line,
       final File output)
       throws ZipException,
-        IOException
+        IOException,
+        UIError
   {
     final JPMetaSerializerType meta_serializer =
       JPXMLMetaSerializer.newSerializer();
 
+    final GSerializerSourceLayout layout;
+    if (line.hasOption("shared-sources")) {
+      layout = GSerializerSourceLayout.SOURCES_SHARED;
+    } else {
+      layout = GSerializerSourceLayout.SOURCES_PER_SHADER;
+    }
+
     final GSerializerType serializer;
-    if (line.hasOption("zip")) {
-      final ZipOutputStream zip_stream;
-      if (line.hasOption("zip-append")) {
-        zip_stream = CopyZip.copyZip(log, output);
+    if (line.hasOption("packed")) {
+      if (line.hasOption("zip")) {
+        throw UIError
+          .incorrectCommandLine("At most one of --packed and --zip may be specified");
+      }
+
+      final JPPackedCompression compression;
+      if (line.hasOption("packed-lz4")) {
+        compression = JPPackedCompression.COMPRESSION_LZ4;
       } else {
-        zip_stream =
+        compression = JPPackedCompression.COMPRESSION_NONE;
+      }
+
+      serializer =
+        GSerializerPacked.newSerializer(
+          meta_serializer,
+          new FileOutputStream(output),
+          compression,
+          log);
+    } else if (line.hasOption("zip")) {
+      final Set<String> existing = new HashSet<String>();
+      final boolean parallel = line.hasOption("zip-parallel");
+
+      if (line.hasOption("zip-append") || parallel) {
+        final GSerializerZipWriter writer;
+        if (line.hasOption("zip-append")) {
+          writer = CopyZip.appendZip(log, output, existing);
+        } else {
+          writer =
+            GSerializerZipWriter.newWriter(new FileOutputStream(output));
+        }
+
+        if (parallel) {
+          serializer =
+            GSerializerZip.newParallelSerializer(
+              meta_serializer,
+              writer,
+              layout,
+              existing,
+              exec,
+              log);
+        } else {
+          serializer =
+            GSerializerZip.newSerializerWithWriter(
+              meta_serializer,
+              writer,
+              layout,
+              existing,
+              log);
+        }
+      } else {
+        final ZipOutputStream zip_stream =
           new ZipOutputStream(
             new FileOutputStream(output),
             Charset.forName("UTF-8"));
+        serializer =
+          GSerializerZip.newSerializerWithLayout(
+            meta_serializer,
+            zip_stream,
+            layout,
+            existing,
+            log);
       }
-
-      assert zip_stream != null;
-      serializer =
-        GSerializerZip.newSerializer(meta_serializer, zip_stream, log);
     } else {
       serializer =
-        GSerializerFile.newSerializer(meta_serializer, output, true);
+        GSerializerFile.newSerializerWithLayout(
+          meta_serializer,
+          output,
+          true,
+          layout);
     }
     assert serializer != null;
     return serializer;
@@ -517,10 +794,10 @@ public final class CommandLineFrontend
 
       try {
         if (line.hasOption("compile-batch")) {
-          CommandLineFrontend.commandCompileBatch(log, compiler, line);
+          CommandLineFrontend.commandCompileBatch(log, exec, compiler, line);
           return;
         } else if (line.hasOption("compile-one")) {
-          CommandLineFrontend.commandCompileOne(log, compiler, line);
+          CommandLineFrontend.commandCompileOne(log, exec, compiler, line);
           return;
         } else if (line.hasOption("check")) {
           CommandLineFrontend.commandCheck(compiler, line);
@@ -20,32 +20,42 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.List;
-import java.util.Map;
+import java.util.Queue;
 import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jfunctional.Option;
 import com.io7m.jfunctional.OptionType;
 import com.io7m.jlog.LogLevel;
 import com.io7m.jlog.LogUsableType;
 import com.io7m.jnull.NullCheck;
 import com.io7m.jnull.Nullable;
 import com.io7m.jparasol.CompilerError;
+import com.io7m.jparasol.Parallel;
 import com.io7m.jparasol.core.GVersionES;
 import com.io7m.jparasol.core.GVersionFull;
+import com.io7m.jparasol.core.JPCompactedFragmentShader;
+import com.io7m.jparasol.core.JPCompactedVertexShader;
+import com.io7m.jparasol.core.JPHashAlgorithm;
 import com.io7m.jparasol.core.JPUncompactedFragmentShader;
 import com.io7m.jparasol.core.JPUncompactedProgramShaderMeta;
 import com.io7m.jparasol.core.JPUncompactedVertexShader;
 import com.io7m.jparasol.glsl.compactor.GCompactor;
 import com.io7m.jparasol.glsl.compactor.GCompactorException;
-import com.io7m.jparasol.glsl.pipeline.GCompilation;
 import com.io7m.jparasol.glsl.pipeline.GCompiledFragmentShader;
 import com.io7m.jparasol.glsl.pipeline.GCompiledProgram;
 import com.io7m.jparasol.glsl.pipeline.GCompiledVertexShader;
 import com.io7m.jparasol.glsl.pipeline.GPipeline;
+import com.io7m.jparasol.glsl.pipeline.GPipelineListenerType;
 import com.io7m.jparasol.glsl.serialization.GSerializerType;
+import com.io7m.jparasol.pipeline.CoreModuleCache;
 import com.io7m.jparasol.pipeline.CorePipeline;
 import com.io7m.jparasol.pipeline.FileInput;
 import com.io7m.jparasol.typed.ast.TASTCompilation;
@@ -57,10 +67,261 @@ import com.io7m.jparasol.typed.ast.TASTShaderNameFlat;
 
 @SuppressWarnings("boxing") public final class Compiler
 {
+  /**
+   * A serialization that is waiting for a flattening (and possibly
+   * compaction) task to complete.
+   */
+
+  @EqualityReference private abstract static class PendingWrite<T>
+  {
+    private final Future<T> future;
+
+    PendingWrite(
+      final Future<T> in_future)
+    {
+      this.future = in_future;
+    }
+
+    final void cancel()
+    {
+      this.future.cancel(true);
+    }
+
+    abstract void serialize(
+      final T x)
+      throws IOException;
+
+    final void write()
+      throws IOException,
+        GCompactorException
+    {
+      this.serialize(Parallel.await(this.future, GCompactorException.class));
+    }
+  }
+
+  /**
+   * <p>
+   * A listener that flattens (and possibly compacts) each shader on the
+   * executor as it is delivered by the pipeline, and serializes the results
+   * on the calling thread in delivery order.
+   * </p>
+   * <p>
+   * At most {@link Compiler#STREAM_CAPACITY} results are pending at any one
+   * time; delivering a shader beyond that waits for the oldest pending
+   * result to be written.
+   * </p>
+   */
+
+  @EqualityReference private static final class ShaderWriter implements
+    GPipelineListenerType
+  {
+    private final boolean                               compact;
+    private final ExecutorService                       exec;
+    private final JPHashAlgorithm                       hash_algorithm;
+    private final LogUsableType                         log;
+    private final LogUsableType                         log_compactor;
+    private final LogUsableType                         log_flatten;
+    private final SortedMap<TASTShaderNameFlat, String> outputs;
+    private final Queue<PendingWrite<?>>                pending;
+    private final GSerializerType                       serializer;
+
+    ShaderWriter(
+      final ExecutorService in_exec,
+      final GSerializerType in_serializer,
+      final SortedMap<TASTShaderNameFlat, String> in_outputs,
+      final boolean in_compact,
+      final JPHashAlgorithm in_hash_algorithm,
+      final LogUsableType in_log)
+    {
+      this.exec = in_exec;
+      this.serializer = in_serializer;
+      this.outputs = in_outputs;
+      this.compact = in_compact;
+      this.hash_algorithm = in_hash_algorithm;
+      this.log = in_log;
+      this.log_flatten = in_log.with("flatten");
+      this.log_compactor = in_log.with("compactor");
+      this.pending = new ArrayDeque<PendingWrite<?>>();
+    }
+
+    void cancel()
+    {
+      for (final PendingWrite<?> w : this.pending) {
+        w.cancel();
+      }
+      this.pending.clear();
+    }
+
+    private void enqueue(
+      final PendingWrite<?> w)
+      throws IOException,
+        GCompactorException
+    {
+      this.pending.add(w);
+      this.writeUntil(Compiler.STREAM_CAPACITY);
+    }
+
+    void finish()
+      throws IOException,
+        GCompactorException
+    {
+      this.writeUntil(0);
+    }
+
+    @Override public void onFragmentShader(
+      final GCompiledFragmentShader f)
+      throws IOException,
+        GCompactorException
+    {
+      final LogUsableType lf = this.log_flatten;
+      final LogUsableType lc = this.log_compactor;
+      final JPHashAlgorithm ha = this.hash_algorithm;
+      final GSerializerType s = this.serializer;
+
+      if (this.compact) {
+        this.enqueue(new PendingWrite<JPCompactedFragmentShader>(this.exec
+          .submit(new Callable<JPCompactedFragmentShader>() {
+            @Override public JPCompactedFragmentShader call()
+              throws GCompactorException
+            {
+              return GCompactor.compactSerializedFragmentShader(
+                f.flatten(lf),
+                ha,
+                lc);
+            }
+          })) {
+          @Override void serialize(
+            final JPCompactedFragmentShader x)
+            throws IOException
+          {
+            s.serializeCompactedFragmentShader(x);
+          }
+        });
+      } else {
+        this.enqueue(new PendingWrite<JPUncompactedFragmentShader>(this.exec
+          .submit(new Callable<JPUncompactedFragmentShader>() {
+            @Override public JPUncompactedFragmentShader call()
+            {
+              return f.flatten(lf);
+            }
+          })) {
+          @Override void serialize(
+            final JPUncompactedFragmentShader x)
+            throws IOException
+          {
+            s.serializeUncompactedFragmentShader(x);
+          }
+        });
+      }
+    }
+
+    @Override public void onProgram(
+      final GCompiledProgram p)
+      throws IOException,
+        GCompactorException
+    {
+      final LogUsableType l = this.log;
+      final GSerializerType s = this.serializer;
+      final TASTShaderNameFlat name = p.getName();
+
+      final OptionType<String> output;
+      if (this.outputs.containsKey(name)) {
+        final String o = this.outputs.get(name);
+        assert o != null;
+        output = Option.some(o);
+      } else {
+        output = Option.none();
+      }
+
+      this.enqueue(new PendingWrite<JPUncompactedProgramShaderMeta>(this.exec
+        .submit(new Callable<JPUncompactedProgramShaderMeta>() {
+          @Override public JPUncompactedProgramShaderMeta call()
+          {
+            return p.flatten(l);
+          }
+        })) {
+        @Override void serialize(
+          final JPUncompactedProgramShaderMeta x)
+          throws IOException
+        {
+          s.serializeUncompactedProgramShader(x, output);
+        }
+      });
+    }
+
+    @Override public void onVertexShader(
+      final GCompiledVertexShader v)
+      throws IOException,
+        GCompactorException
+    {
+      final LogUsableType lf = this.log_flatten;
+      final LogUsableType lc = this.log_compactor;
+      final JPHashAlgorithm ha = this.hash_algorithm;
+      final GSerializerType s = this.serializer;
+
+      if (this.compact) {
+        this.enqueue(new PendingWrite<JPCompactedVertexShader>(this.exec
+          .submit(new Callable<JPCompactedVertexShader>() {
+            @Override public JPCompactedVertexShader call()
+              throws GCompactorException
+            {
+              return GCompactor.compactSerializedVertexShader(
+                v.flatten(lf),
+                ha,
+                lc);
+            }
+          })) {
+          @Override void serialize(
+            final JPCompactedVertexShader x)
+            throws IOException
+          {
+            s.serializeCompactedVertexShader(x);
+          }
+        });
+      } else {
+        this.enqueue(new PendingWrite<JPUncompactedVertexShader>(this.exec
+          .submit(new Callable<JPUncompactedVertexShader>() {
+            @Override public JPUncompactedVertexShader call()
+            {
+              return v.flatten(lf);
+            }
+          })) {
+          @Override void serialize(
+            final JPUncompactedVertexShader x)
+            throws IOException
+          {
+            s.serializeUncompactedVertexShader(x);
+          }
+        });
+      }
+    }
+
+    private void writeUntil(
+      final int count)
+      throws IOException,
+        GCompactorException
+    {
+      while (this.pending.size() > count) {
+        final PendingWrite<?> w = this.pending.remove();
+        assert w != null;
+        w.write();
+      }
+    }
+  }
+
+  /**
+   * The maximum number of shaders in progress in the pipeline, and the
+   * maximum number of shaders waiting to be written.
+   */
+
+  private static final int STREAM_CAPACITY = 64;
+
   private boolean                       compact;
   private final ExecutorService         exec;
   private boolean                       generate_code;
+  private JPHashAlgorithm               hash_algorithm;
   private final LogUsableType           log;
+  private @Nullable CoreModuleCache     module_cache;
   private final SortedSet<GVersionES>   required_es;
   private final SortedSet<GVersionFull> required_full;
   private @Nullable GSerializerType     serializer;
@@ -93,6 +354,16 @@ import com.io7m.jparasol.typed.ast.TASTShaderNameFlat;
     this.required_full = new TreeSet<GVersionFull>();
     this.compact = true;
     this.generate_code = false;
+    this.hash_algorithm = JPHashAlgorithm.HASH_SHA_256;
+  }
+
+  /**
+   * @return The algorithm used to hash sources during compaction.
+   */
+
+  public JPHashAlgorithm getHashAlgorithm()
+  {
+    return this.hash_algorithm;
   }
 
   /**
@@ -140,9 +411,15 @@ import com.io7m.jparasol.typed.ast.TASTShaderNameFlat;
     this.log.debug("starting compilation");
     final double started = System.nanoTime();
 
-    final CorePipeline pipe = CorePipeline.newPipeline(this.log);
+    final CorePipeline pipe =
+      CorePipeline.newPipelineWithExecutor(this.log, this.exec);
     pipe.pipeAddStandardLibrary();
 
+    final CoreModuleCache cache = this.module_cache;
+    if (cache != null) {
+      pipe.pipeSetModuleCache(cache);
+    }
+
     for (final File file : sources) {
       assert file != null;
       @SuppressWarnings("resource") final FileInput input =
@@ -173,10 +450,51 @@ import com.io7m.jparasol.typed.ast.TASTShaderNameFlat;
       GCompactorException
   {
     final GPipeline pipe = GPipeline.newPipeline(typed, this.exec, this.log);
-    final GCompilation results = this.runGLSLTransform(batch, pipe);
-    this.runGLSLSerializeVertexShaders(serializer_actual, results);
-    this.runGLSLSerializeFragmentShaders(serializer_actual, results);
-    this.runGLSLSerializeProgramShaders(batch, serializer_actual, results);
+    final SortedSet<TASTShaderNameFlat> shaders = batch.getShaders();
+
+    {
+      final String s =
+        String.format(
+          "starting GLSL transform and serialization of %d programs",
+          shaders.size());
+      assert s != null;
+      this.log.debug(s);
+    }
+
+    final double started = System.nanoTime();
+
+    final ShaderWriter writer =
+      new ShaderWriter(
+        this.exec,
+        serializer_actual,
+        batch.getOutputsByShader(),
+        this.compact,
+        this.hash_algorithm,
+        this.log);
+
+    try {
+      pipe.transformProgramsStreaming(
+        shaders,
+        this.required_es,
+        this.required_full,
+        Compiler.STREAM_CAPACITY,
+        writer);
+      writer.finish();
+    } finally {
+      writer.cancel();
+    }
+
+    if (this.log.wouldLog(LogLevel.LOG_DEBUG)) {
+      final double ended = System.nanoTime();
+      final double seconds = (ended - started) / 1000000000.0;
+      final String s =
+        String.format(
+          "GLSL transform and serialization of %d programs complete in %fs",
+          shaders.size(),
+          seconds);
+      assert s != null;
+      this.log.debug(s);
+    }
   }
 
   /**
@@ -217,198 +535,6 @@ import com.io7m.jparasol.typed.ast.TASTShaderNameFlat;
     }
   }
 
-  private void runGLSLSerializeFragmentShaders(
-    final GSerializerType serializer_actual,
-    final GCompilation results)
-    throws IOException,
-      GCompactorException
-  {
-    {
-      final Map<TASTShaderNameFlat, GCompiledFragmentShader> shaders =
-        results.getShadersFragment();
-
-      {
-        final String s =
-          String.format(
-            "starting serialization of %d fragment shaders",
-            shaders.size());
-        assert s != null;
-        this.log.debug(s);
-      }
-
-      final double started = System.nanoTime();
-
-      for (final TASTShaderNameFlat name : shaders.keySet()) {
-        final GCompiledFragmentShader shader = shaders.get(name);
-        final JPUncompactedFragmentShader flat =
-          shader.flatten(this.log.with("flatten"));
-
-        if (this.compact) {
-          serializer_actual
-            .serializeCompactedFragmentShader(GCompactor
-              .compactSerializedFragmentShader(
-                flat,
-                this.log.with("compactor")));
-        } else {
-          serializer_actual.serializeUncompactedFragmentShader(flat);
-        }
-      }
-
-      if (this.log.wouldLog(LogLevel.LOG_DEBUG)) {
-        final double ended = System.nanoTime();
-        final double seconds = (ended - started) / 1000000000.0;
-        final String s =
-          String.format(
-            "serialization of %d fragment shaders complete in %fs",
-            shaders.size(),
-            seconds);
-        assert s != null;
-        this.log.debug(s);
-      }
-    }
-  }
-
-  private void runGLSLSerializeProgramShaders(
-    final CompilerBatch batch,
-    final GSerializerType serializer_actual,
-    final GCompilation results)
-    throws IOException
-  {
-    {
-      final Map<TASTShaderNameFlat, GCompiledProgram> shaders =
-        results.getShadersProgram();
-
-      {
-        final String s =
-          String.format(
-            "starting serialization of %d fragment shaders",
-            shaders.size());
-        assert s != null;
-        this.log.debug(s);
-      }
-
-      final double started = System.nanoTime();
-
-      final SortedMap<TASTShaderNameFlat, String> outputs =
-        batch.getOutputsByShader();
-      final OptionType<String> none = com.io7m.jfunctional.Option.none();
-
-      for (final TASTShaderNameFlat name : shaders.keySet()) {
-        final GCompiledProgram program = shaders.get(name);
-        final JPUncompactedProgramShaderMeta flat = program.flatten(this.log);
-
-        if (outputs.containsKey(name)) {
-          final String output = outputs.get(name);
-          assert output != null;
-
-          serializer_actual.serializeUncompactedProgramShader(
-            flat,
-            com.io7m.jfunctional.Option.some(output));
-        } else {
-          serializer_actual.serializeUncompactedProgramShader(flat, none);
-        }
-      }
-
-      if (this.log.wouldLog(LogLevel.LOG_DEBUG)) {
-        final double ended = System.nanoTime();
-        final double seconds = (ended - started) / 1000000000.0;
-        final String s =
-          String.format(
-            "serialization of %d program shaders complete in %fs",
-            shaders.size(),
-            seconds);
-        assert s != null;
-        this.log.debug(s);
-      }
-    }
-  }
-
-  private void runGLSLSerializeVertexShaders(
-    final GSerializerType serializer_actual,
-    final GCompilation results)
-    throws IOException,
-      GCompactorException
-  {
-    {
-      final Map<TASTShaderNameFlat, GCompiledVertexShader> shaders =
-        results.getShadersVertex();
-
-      {
-        final String s =
-          String.format(
-            "starting serialization of %d vertex shaders",
-            shaders.size());
-        assert s != null;
-        this.log.debug(s);
-      }
-
-      final double started = System.nanoTime();
-
-      for (final TASTShaderNameFlat name : shaders.keySet()) {
-        final GCompiledVertexShader shader = shaders.get(name);
-        final JPUncompactedVertexShader flat =
-          shader.flatten(this.log.with("flatten"));
-
-        if (this.compact) {
-          serializer_actual.serializeCompactedVertexShader(GCompactor
-            .compactSerializedVertexShader(flat, this.log.with("compactor")));
-        } else {
-          serializer_actual.serializeUncompactedVertexShader(flat);
-        }
-      }
-
-      if (this.log.wouldLog(LogLevel.LOG_DEBUG)) {
-        final double ended = System.nanoTime();
-        final double seconds = (ended - started) / 1000000000.0;
-        final String s =
-          String.format(
-            "serialization of %d vertex shaders complete in %fs",
-            shaders.size(),
-            seconds);
-        assert s != null;
-        this.log.debug(s);
-      }
-    }
-  }
-
-  private GCompilation runGLSLTransform(
-    final CompilerBatch batch,
-    final GPipeline pipe)
-    throws CompilerError
-  {
-    final GCompilation results;
-    {
-      final SortedSet<TASTShaderNameFlat> shaders = batch.getShaders();
-
-      {
-        final String s =
-          String.format(
-            "starting GLSL transform of %d programs",
-            shaders.size());
-        assert s != null;
-        this.log.debug(s);
-      }
-
-      final double started = System.nanoTime();
-
-      results =
-        pipe.transformPrograms(shaders, this.required_es, this.required_full);
-
-      if (this.log.wouldLog(LogLevel.LOG_DEBUG)) {
-        final double ended = System.nanoTime();
-        final double seconds = (ended - started) / 1000000000.0;
-        final String s =
-          String.format(
-            "GLSL transform of %d programs complete in %fs",
-            shaders.size(),
-            seconds);
-        assert s != null;
-        this.log.debug(s);
-      }
-    }
-    return results;
-  }
-
   /**
    * Set whether or not the compiler will compact code.
    * 
@@ -435,6 +561,34 @@ import com.io7m.jparasol.typed.ast.TASTShaderNameFlat;
     this.generate_code = c;
   }
 
+  /**
+   * Set the algorithm used to hash sources during compaction. The default is
+   * {@link JPHashAlgorithm#HASH_SHA_256}.
+   * 
+   * @param a
+   *          The algorithm.
+   */
+
+  public void setHashAlgorithm(
+    final JPHashAlgorithm a)
+  {
+    this.hash_algorithm = NullCheck.notNull(a, "Algorithm");
+  }
+
+  /**
+   * Set the cache of type-checked modules, or <code>null</code> to check
+   * every module. The default is <code>null</code>.
+   * 
+   * @param c
+   *          The cache.
+   */
+
+  public void setModuleCache(
+    final @Nullable CoreModuleCache c)
+  {
+    this.module_cache = c;
+  }
+
   /**
    * Set the required GLSL ES versions.
    * 
@@ -0,0 +1,447 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.frontend;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jlog.LogUsableType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
+import com.io7m.jparasol.pipeline.CorePipeline;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>
+ * An on-disk cache of compilation stamps.
+ * </p>
+ * <p>
+ * A stamp records, for a given output, a hash of everything that contributed
+ * to that output: the compiler version, the standard library, the relevant
+ * options, and the contents of every source file. The stamp also records a
+ * hash of the output itself. If the stamp for an output matches the current
+ * inputs, and the output has not been modified since it was produced, the
+ * output is up to date and compilation can be skipped entirely.
+ * </p>
+ * <p>
+ * Stamps work at the granularity of whole invocations of the compiler: a
+ * change to any single source file invalidates the stamp. The
+ * type-checked modules themselves are kept separately, in the
+ * {@link #MODULES} subdirectory (see
+ * {@link com.io7m.jparasol.pipeline.CoreModuleCache}), so that the
+ * next compilation only resolves and type-checks the modules that changed
+ * and the modules that import them.
+ * </p>
+ */
+
+@EqualityReference public final class CompilerCache
+{
+  /**
+   * A key under construction.
+   */
+
+  @EqualityReference public static final class Key
+  {
+    private final MessageDigest digest;
+
+    private Key()
+    {
+      this.digest = CompilerCache.newDigest();
+    }
+
+    /**
+     * Add the contents of the given file to the key.
+     *
+     * @param file
+     *          The file.
+     * @throws IOException
+     *           On I/O errors.
+     */
+
+    public void addFile(
+      final File file)
+      throws IOException
+    {
+      NullCheck.notNull(file, "File");
+      this.addString(file.toString());
+
+      final InputStream stream = new FileInputStream(file);
+      try {
+        this.addStream(stream);
+      } finally {
+        stream.close();
+      }
+    }
+
+    /**
+     * Add the contents of the given class path resource to the key.
+     *
+     * @param name
+     *          The resource name.
+     * @throws IOException
+     *           On I/O errors, or if the resource does not exist.
+     */
+
+    public void addResource(
+      final String name)
+      throws IOException
+    {
+      NullCheck.notNull(name, "Name");
+      this.addString(name);
+
+      final InputStream stream = CompilerCache.class.getResourceAsStream(name);
+      if (stream == null) {
+        throw new IOException(String.format("No such resource: %s", name));
+      }
+      try {
+        this.addStream(stream);
+      } finally {
+        stream.close();
+      }
+    }
+
+    private void addStream(
+      final InputStream stream)
+      throws IOException
+    {
+      final byte[] buffer = new byte[8192];
+      for (;;) {
+        final int r = stream.read(buffer);
+        if (r == -1) {
+          break;
+        }
+        this.digest.update(buffer, 0, r);
+      }
+      this.digest.update((byte) 0);
+    }
+
+    /**
+     * Add the given string to the key.
+     *
+     * @param text
+     *          The string.
+     */
+
+    public void addString(
+      final String text)
+    {
+      NullCheck.notNull(text, "Text");
+      this.digest.update(text.getBytes(CompilerCache.UTF8));
+      this.digest.update((byte) 0);
+    }
+
+    /**
+     * @return The finished key, as a hex string. The key may not be used
+     *         after calling this method.
+     */
+
+    public String getValue()
+    {
+      return CompilerCache.hex(this.digest.digest());
+    }
+  }
+
+  /**
+   * The name of the subdirectory of the cache directory that holds
+   * type-checked modules.
+   */
+
+  public static final String   MODULES;
+
+  private static final Charset UTF8;
+
+  static {
+    MODULES = "modules";
+    UTF8 = NullCheck.notNull(Charset.forName("UTF-8"));
+  }
+
+  /**
+   * @return A hash of the contents of the given output file, or of the names
+   *         and contents of every file in the given output directory
+   */
+
+  private static String hashOutput(
+    final File output)
+    throws IOException
+  {
+    final Key k = new Key();
+    CompilerCache.hashOutputFile(k, output);
+    return k.getValue();
+  }
+
+  private static void hashOutputFile(
+    final Key k,
+    final File file)
+    throws IOException
+  {
+    if (file.isDirectory()) {
+      final File[] files = file.listFiles();
+      if (files == null) {
+        throw new IOException(String.format(
+          "Could not list directory: %s",
+          file));
+      }
+      Arrays.sort(files);
+      k.addString(file.toString());
+      for (final File f : files) {
+        assert f != null;
+        CompilerCache.hashOutputFile(k, f);
+      }
+    } else {
+      k.addFile(file);
+    }
+  }
+
+  private static String hex(
+    final byte[] bytes)
+  {
+    final StringBuilder hash = new StringBuilder();
+    for (final byte b : bytes) {
+      hash.append(String.format("%02x", b));
+    }
+    final String r = hash.toString();
+    assert r != null;
+    return r;
+  }
+
+  private static MessageDigest newDigest()
+  {
+    try {
+      final MessageDigest md = MessageDigest.getInstance("SHA-256");
+      assert md != null;
+      return md;
+    } catch (final NoSuchAlgorithmException e) {
+      throw new UnreachableCodeException(e);
+    }
+  }
+
+  /**
+   * Construct a new cache in the given directory, creating the directory if
+   * necessary.
+   *
+   * @param in_directory
+   *          The cache directory.
+   * @param in_log
+   *          A log interface.
+   * @return A new cache.
+   * @throws IOException
+   *           If the directory cannot be created.
+   */
+
+  public static CompilerCache newCache(
+    final File in_directory,
+    final LogUsableType in_log)
+    throws IOException
+  {
+    return new CompilerCache(in_directory, in_log);
+  }
+
+  /**
+   * Start a new key. The key is seeded with the given compiler version and
+   * the contents of the standard library.
+   *
+   * @param version
+   *          The compiler version.
+   * @return A new key.
+   * @throws IOException
+   *           On I/O errors.
+   */
+
+  public static Key newKey(
+    final String version)
+    throws IOException
+  {
+    final Key k = new Key();
+    k.addString(version);
+    for (final String name : CorePipeline.getStandardLibraryResources()) {
+      assert name != null;
+      k.addResource(name);
+    }
+    return k;
+  }
+
+  private final File          directory;
+  private final LogUsableType log;
+
+  private CompilerCache(
+    final File in_directory,
+    final LogUsableType in_log)
+    throws IOException
+  {
+    this.directory = NullCheck.notNull(in_directory, "Directory");
+    this.log = NullCheck.notNull(in_log, "Log").with("cache");
+
+    this.directory.mkdirs();
+    if (this.directory.isDirectory() == false) {
+      throw new IOException(String.format(
+        "Not a directory: %s",
+        this.directory));
+    }
+  }
+
+  /**
+   * @param output
+   *          The output file or directory.
+   * @param key
+   *          The key for the current inputs.
+   * @return <code>true</code> if <code>output</code> exists, was produced
+   *         from inputs with the given key, and has not been modified since
+   *         it was produced.
+   * @throws IOException
+   *           On I/O errors.
+   */
+
+  public boolean isUpToDate(
+    final File output,
+    final String key)
+    throws IOException
+  {
+    NullCheck.notNull(output, "Output");
+    NullCheck.notNull(key, "Key");
+
+    if (output.exists() == false) {
+      this.log.debug(String.format("%s: output missing", output));
+      return false;
+    }
+
+    final File stamp = this.stampFile(output);
+    final String[] previous = CompilerCache.readStamp(stamp);
+    if (previous == null) {
+      this.log.debug(String.format("%s: no stamp", output));
+      return false;
+    }
+
+    this.log.debug(String.format(
+      "%s: stamp %s, current %s",
+      output,
+      previous[0],
+      key));
+    if (previous[0].equals(key) == false) {
+      return false;
+    }
+
+    final String output_hash = CompilerCache.hashOutput(output);
+    if (previous[1].equals(output_hash) == false) {
+      this.log.debug(String.format(
+        "%s: output modified (stamp %s, current %s)",
+        output,
+        previous[1],
+        output_hash));
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Record that <code>output</code> was produced from inputs with the given
+   * key.
+   *
+   * @param output
+   *          The output file or directory.
+   * @param key
+   *          The key for the current inputs.
+   * @throws IOException
+   *           On I/O errors.
+   */
+
+  public void markUpToDate(
+    final File output,
+    final String key)
+    throws IOException
+  {
+    NullCheck.notNull(output, "Output");
+    NullCheck.notNull(key, "Key");
+
+    final String output_hash = CompilerCache.hashOutput(output);
+    final File stamp = this.stampFile(output);
+    final File stamp_tmp = new File(stamp.toString() + ".tmp");
+
+    final OutputStream stream = new FileOutputStream(stamp_tmp);
+    try {
+      stream.write(key.getBytes(CompilerCache.UTF8));
+      stream.write('\n');
+      stream.write(output_hash.getBytes(CompilerCache.UTF8));
+      stream.write('\n');
+      stream.flush();
+    } finally {
+      stream.close();
+    }
+
+    /**
+     * Renaming over an existing file fails on some platforms.
+     */
+
+    stamp.delete();
+    if (stamp_tmp.renameTo(stamp) == false) {
+      throw new IOException(String.format(
+        "Renaming '%s' to '%s' failed",
+        stamp_tmp,
+        stamp));
+    }
+
+    this.log.debug(String.format("%s: stamped %s", output, key));
+  }
+
+  /**
+   * @return The key and output hash recorded in the given stamp, or
+   *         <code>null</code> if the stamp does not exist or is incomplete
+   */
+
+  private static @Nullable String[] readStamp(
+    final File stamp)
+    throws IOException
+  {
+    if (stamp.isFile() == false) {
+      return null;
+    }
+
+    final BufferedReader reader =
+      new BufferedReader(new InputStreamReader(
+        new FileInputStream(stamp),
+        CompilerCache.UTF8));
+    try {
+      final String key = reader.readLine();
+      final String output_hash = reader.readLine();
+      if ((key == null) || (output_hash == null)) {
+        return null;
+      }
+      return new String[] {key, output_hash};
+    } finally {
+      reader.close();
+    }
+  }
+
+  private File stampFile(
+    final File output)
+    throws IOException
+  {
+    final MessageDigest md = CompilerCache.newDigest();
+    md.update(output.getCanonicalPath().getBytes(CompilerCache.UTF8));
+    return new File(this.directory, CompilerCache.hex(md.digest()));
+  }
+}
@@ -46,6 +46,7 @@ import com.io7m.jnull.NullCheck;
 import com.io7m.jparasol.metaserializer.JPMetaDeserializerType;
 import com.io7m.jparasol.metaserializer.JPMetaSerializerType;
 import com.io7m.jparasol.metaserializer.JPSerializerException;
+import com.io7m.jparasol.metaserializer.protobuf.JPProtobufCatalogWriter;
 import com.io7m.jparasol.metaserializer.protobuf.JPProtobufMetaDeserializer;
 import com.io7m.jparasol.metaserializer.protobuf.JPProtobufMetaSerializer;
 import com.io7m.jparasol.metaserializer.xml.JPXMLMetaDeserializer;
@@ -66,6 +67,49 @@ public final class ConvertMetaMain
     OPTIONS = ConvertMetaMain.makeOptions();
   }
 
+  private static void commandCatalog(
+    final CommandLine line,
+    final LogType log)
+    throws IOException,
+      JPSerializerException
+  {
+    final String[] args = line.getOptionValues("catalog");
+    if (args.length < 2) {
+      throw new IllegalArgumentException(
+        "A catalog requires an output file and at least one input file");
+    }
+
+    final String target_name = NullCheck.notNull(args[0]);
+    final Map<String, JPMetaDeserializerType> ds =
+      ConvertMetaMain.makeDeserializers(log);
+    final JPProtobufCatalogWriter w = JPProtobufCatalogWriter.newWriter();
+
+    for (int index = 1; index < args.length; ++index) {
+      final String source_name = NullCheck.notNull(args[index]);
+      final JPMetaDeserializerType d =
+        ConvertMetaMain.getDeserializerForName(
+          ds,
+          line,
+          ConvertMetaMain.getSuffix(source_name));
+
+      final BufferedInputStream ssource =
+        new BufferedInputStream(new FileInputStream(new File(source_name)));
+      try {
+        w.putShader(d.metaDeserializeShader(ssource));
+      } finally {
+        ssource.close();
+      }
+    }
+
+    final BufferedOutputStream starget =
+      new BufferedOutputStream(new FileOutputStream(new File(target_name)));
+    try {
+      w.write(starget);
+    } finally {
+      starget.close();
+    }
+  }
+
   private static void commandConvert(
     final CommandLine line,
     final LogType log)
@@ -190,6 +234,9 @@ public final class ConvertMetaMain
       } else if (line.hasOption("convert")) {
         ConvertMetaMain.commandConvert(line, log);
         return;
+      } else if (line.hasOption("catalog")) {
+        ConvertMetaMain.commandCatalog(line, log);
+        return;
       }
 
     } catch (final ParseException e) {
@@ -273,6 +320,16 @@ public final class ConvertMetaMain
       opts.addOption(OptionBuilder.create());
     }
 
+    {
+      OptionBuilder.withLongOpt("catalog");
+      OptionBuilder.hasArgs();
+      OptionBuilder.withValueSeparator(' ');
+      OptionBuilder.withArgName("to> <from ...");
+      OptionBuilder
+        .withDescription("Write the metadata of all of the given files to a single protobuf catalog");
+      opts.addOption(OptionBuilder.create());
+    }
+
     {
       OptionBuilder.withLongOpt("input-format");
       OptionBuilder.withArgName("format");
@@ -314,6 +371,7 @@ public final class ConvertMetaMain
     final String version = ConvertMetaMain.getVersion();
 
     pw.println("convert-meta: [options] --convert file0 file1");
+    pw.println("           or [options] --catalog catalog file0 ... fileN");
     pw.println("           or [options] --version");
     pw.println();
     pw.println("  file[0 .. N] is a series of filenames containing metadata");
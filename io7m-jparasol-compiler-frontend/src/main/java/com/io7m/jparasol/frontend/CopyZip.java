@@ -19,17 +19,18 @@ package com.io7m.jparasol.frontend;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
-import java.util.Enumeration;
-import java.util.zip.ZipEntry;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.zip.ZipException;
-import java.util.zip.ZipFile;
-import java.util.zip.ZipOutputStream;
 
 import com.io7m.jlog.LogUsableType;
 import com.io7m.jnull.NullCheck;
+import com.io7m.jparasol.glsl.serialization.GSerializerZipWriter;
 import com.io7m.junreachable.UnreachableCodeException;
 
 /**
@@ -38,35 +39,95 @@ import com.io7m.junreachable.UnreachableCodeException;
 
 public final class CopyZip
 {
+  /**
+   * The central directory of an existing archive.
+   */
+
+  private static final class CentralDirectory
+  {
+    private final long   count;
+    private final long   offset;
+    private final byte[] records;
+
+    CentralDirectory(
+      final long in_count,
+      final long in_offset,
+      final byte[] in_records)
+    {
+      this.count = in_count;
+      this.offset = in_offset;
+      this.records = in_records;
+    }
+  }
+
+  private static final int     CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+  private static final int     CENTRAL_HEADER_SIZE      = 46;
+  private static final Charset CP437;
+  private static final int     END_MAXIMUM_SIZE         = 22 + 0xffff;
+  private static final int     END_MINIMUM_SIZE         = 22;
+  private static final int     END_SIGNATURE            = 0x06054b50;
+  private static final int     FLAG_UTF8                = 0x0800;
+  private static final Charset UTF8;
+  private static final long    ZIP64_COUNT              = 0xffffL;
+  private static final long    ZIP64_OFFSET             = 0xffffffffL;
+
+  static {
+    CP437 = NullCheck.notNull(Charset.forName("IBM437"));
+    UTF8 = NullCheck.notNull(Charset.forName("UTF-8"));
+  }
+
   private CopyZip()
   {
     throw new UnreachableCodeException();
   }
 
   /**
-   * Rename the zip file at <code>file</code> to <code>file.tmp</code>, copy
-   * the contents of <code>file.tmp</code> to <code>file</code> and return a
-   * stream that allows new items to be appended to <code>file</code>.
+   * <p>
+   * Open the zip file at <code>file</code> for appending, and return a
+   * writer that allows new entries to be appended to <code>file</code>. The
+   * names of the existing entries are added to <code>names</code>.
+   * </p>
+   * <p>
+   * The central directory of the archive is read and checked before the
+   * archive is modified. The archive is then renamed to
+   * <code>file.tmp</code>, and everything up to the start of its central
+   * directory is copied back to <code>file</code>. If copying fails, the
+   * original archive is restored.
+   * </p>
+   * <p>
+   * The existing entries are not decompressed: the local headers and
+   * compressed data are copied byte-for-byte, and the existing central
+   * directory records are written, unmodified, when the returned writer is
+   * closed. Only the new entries are compressed. Archives that use zip64
+   * extensions are not supported.
+   * </p>
    *
    * @param log
    *          A log interface
    * @param file
    *          A zip file
-   * @return An output stream for <code>file</code>
+   * @param names
+   *          The set that will receive the names of the existing entries
+   * @return A writer for <code>file</code>
    * @throws ZipException
-   *           On zip i/o errors.
+   *           If the archive is malformed or uses zip64 extensions.
    * @throws IOException
    *           On i/o errors.
    */
 
-  @SuppressWarnings("null") public static ZipOutputStream copyZip(
+  public static GSerializerZipWriter appendZip(
     final LogUsableType log,
-    final File file)
+    final File file,
+    final Set<String> names)
     throws ZipException,
       IOException
   {
     NullCheck.notNull(log, "Log");
     NullCheck.notNull(file, "File");
+    NullCheck.notNull(names, "Names");
+
+    final Set<String> existing = new HashSet<String>();
+    final CentralDirectory central = CopyZip.readCentral(file, existing);
 
     final File in_zip_tmp =
       new File(String.format("%s.tmp", file.toString()));
@@ -80,45 +141,261 @@ public final class CopyZip
         in_zip_tmp));
     }
 
-    log.debug(String.format("copying '%s' to '%s'", in_zip_tmp, file));
+    GSerializerZipWriter writer = null;
+    try {
+      log.debug(String.format(
+        "copying %d entries (%d bytes) from '%s' to '%s'",
+        Long.valueOf(central.count),
+        Long.valueOf(central.offset),
+        in_zip_tmp,
+        file));
+      writer = CopyZip.copyEntries(in_zip_tmp, file, central, existing);
+    } finally {
+      if (writer == null) {
+        CopyZip.restore(log, file, in_zip_tmp);
+      }
+    }
+
+    log.debug(String.format("removing '%s'", in_zip_tmp));
+    in_zip_tmp.delete();
+    names.addAll(existing);
+    return writer;
+  }
+
+  private static void checkCentralRecord(
+    final File file,
+    final ByteBuffer b,
+    final int p,
+    final long index,
+    final long central_offset)
+    throws ZipException
+  {
+    final long size_compressed = b.getInt(p + 20) & 0xffffffffL;
+    final long size_uncompressed = b.getInt(p + 24) & 0xffffffffL;
+    final long local_offset = b.getInt(p + 42) & 0xffffffffL;
 
-    final ZipFile in_zip = new ZipFile(in_zip_tmp);
+    if ((size_compressed == CopyZip.ZIP64_OFFSET)
+      || (size_uncompressed == CopyZip.ZIP64_OFFSET)) {
+      throw new ZipException(String.format(
+        "%s: zip64 archives are not supported",
+        file));
+    }
+    if ((local_offset + size_compressed) > central_offset) {
+      throw new ZipException(String.format(
+        "%s: entry %d lies outside of the archive",
+        file,
+        Long.valueOf(index)));
+    }
+  }
+
+  /**
+   * Copy everything up to the start of the central directory of
+   * <code>source_file</code> to a new <code>target_file</code>, and return a
+   * writer that continues the archive.
+   */
 
-    final ZipOutputStream out_zip_stream =
-      new ZipOutputStream(
-        new FileOutputStream(file),
-        Charset.forName("UTF-8"));
+  @SuppressWarnings("resource") private static
+    GSerializerZipWriter
+    copyEntries(
+      final File source_file,
+      final File target_file,
+      final CentralDirectory central,
+      final Set<String> names)
+      throws IOException
+  {
+    final RandomAccessFile in = new RandomAccessFile(source_file, "r");
+    try {
+      final FileOutputStream out = new FileOutputStream(target_file);
+      boolean copied = false;
+      try {
+        final FileChannel source = in.getChannel();
+        final FileChannel target = out.getChannel();
+        long position = 0;
+        while (position < central.offset) {
+          final long n =
+            source.transferTo(position, central.offset - position, target);
+          if (n <= 0) {
+            throw new ZipException(String.format(
+              "%s: archive was truncated while copying",
+              source_file));
+          }
+          position += n;
+        }
 
-    final Enumeration<? extends ZipEntry> entries = in_zip.entries();
-    while (entries.hasMoreElements()) {
-      final ZipEntry e = entries.nextElement();
-      out_zip_stream.putNextEntry(e);
-      CopyZip.copyZipEntry(in_zip.getInputStream(e), out_zip_stream);
-      out_zip_stream.closeEntry();
+        final GSerializerZipWriter w =
+          GSerializerZipWriter.newWriterContinuing(
+            out,
+            central.offset,
+            central.records,
+            central.count,
+            names);
+        copied = true;
+        return w;
+      } finally {
+        if (copied == false) {
+          out.close();
+        }
+      }
+    } finally {
+      in.close();
     }
+  }
 
-    in_zip.close();
+  /**
+   * Locate the end of central directory record of the given archive. The
+   * record is searched for backwards from the end of the file, as it is
+   * followed by a comment of unknown length.
+   */
 
-    log.debug(String.format("removing '%s'", in_zip_tmp));
-    in_zip_tmp.delete();
-    return out_zip_stream;
+  private static ByteBuffer findEnd(
+    final RandomAccessFile in)
+    throws IOException
+  {
+    final long length = in.length();
+    final int size = (int) Math.min(length, CopyZip.END_MAXIMUM_SIZE);
+    if (size < CopyZip.END_MINIMUM_SIZE) {
+      throw new ZipException("Archive is too short to be a zip file");
+    }
+
+    final byte[] tail = new byte[size];
+    in.seek(length - size);
+    in.readFully(tail);
+
+    final ByteBuffer b = ByteBuffer.wrap(tail).order(ByteOrder.LITTLE_ENDIAN);
+    for (int p = size - CopyZip.END_MINIMUM_SIZE; p >= 0; --p) {
+      if (b.getInt(p) == CopyZip.END_SIGNATURE) {
+        final int comment = b.getShort(p + 20) & 0xffff;
+        if ((p + CopyZip.END_MINIMUM_SIZE + comment) <= size) {
+          b.position(p);
+          final ByteBuffer r = b.slice().order(ByteOrder.LITTLE_ENDIAN);
+          assert r != null;
+          return r;
+        }
+      }
+    }
+
+    throw new ZipException("Missing end of central directory record");
   }
 
-  private static void copyZipEntry(
-    final InputStream in,
-    final OutputStream out)
+  /**
+   * Read and check the central directory of the archive at
+   * <code>file</code>, adding the names of the entries to
+   * <code>names</code>. The archive is not modified.
+   */
+
+  private static CentralDirectory readCentral(
+    final File file,
+    final Set<String> names)
     throws IOException
   {
-    final byte[] buffer = new byte[65536];
+    final RandomAccessFile in = new RandomAccessFile(file, "r");
+    try {
+      final ByteBuffer end = CopyZip.findEnd(in);
+      final long count = end.getShort(10) & 0xffffL;
+      final long central_size = end.getInt(12) & 0xffffffffL;
+      final long central_offset = end.getInt(16) & 0xffffffffL;
+
+      if ((count == CopyZip.ZIP64_COUNT)
+        || (central_size == CopyZip.ZIP64_OFFSET)
+        || (central_offset == CopyZip.ZIP64_OFFSET)) {
+        throw new ZipException(String.format(
+          "%s: zip64 archives are not supported",
+          file));
+      }
+      if ((central_offset + central_size) > in.length()) {
+        throw new ZipException(String.format(
+          "%s: central directory lies outside of the archive",
+          file));
+      }
+
+      final byte[] central = new byte[(int) central_size];
+      in.seek(central_offset);
+      in.readFully(central);
+      CopyZip.readCentralNames(file, central, central_offset, count, names);
+      return new CentralDirectory(count, central_offset, central);
+    } finally {
+      in.close();
+    }
+  }
+
+  /**
+   * Read the names of the entries in the given central directory. Names are
+   * decoded as UTF-8 if bit 11 of the general purpose flags of the entry is
+   * set, and as CP437 otherwise.
+   */
+
+  private static void readCentralNames(
+    final File file,
+    final byte[] central,
+    final long central_offset,
+    final long count,
+    final Set<String> names)
+    throws ZipException
+  {
+    final ByteBuffer b =
+      ByteBuffer.wrap(central).order(ByteOrder.LITTLE_ENDIAN);
 
-    for (;;) {
-      final int r = in.read(buffer);
-      if (r == -1) {
-        break;
+    int p = 0;
+    for (long index = 0; index < count; ++index) {
+      if (((p + CopyZip.CENTRAL_HEADER_SIZE) > central.length)
+        || (b.getInt(p) != CopyZip.CENTRAL_HEADER_SIGNATURE)) {
+        throw new ZipException(String.format(
+          "%s: malformed central directory record %d",
+          file,
+          Long.valueOf(index)));
       }
-      out.write(buffer, 0, r);
+
+      final int flags = b.getShort(p + 8) & 0xffff;
+      final int name_length = b.getShort(p + 28) & 0xffff;
+      final int extra_length = b.getShort(p + 30) & 0xffff;
+      final int comment_length = b.getShort(p + 32) & 0xffff;
+      final int name_offset = p + CopyZip.CENTRAL_HEADER_SIZE;
+      if ((name_offset + name_length) > central.length) {
+        throw new ZipException(String.format(
+          "%s: malformed central directory record %d",
+          file,
+          Long.valueOf(index)));
+      }
+
+      CopyZip.checkCentralRecord(file, b, p, index, central_offset);
+
+      final Charset charset;
+      if ((flags & CopyZip.FLAG_UTF8) != 0) {
+        charset = CopyZip.UTF8;
+      } else {
+        charset = CopyZip.CP437;
+      }
+
+      names.add(new String(central, name_offset, name_length, charset));
+      p = name_offset + name_length + extra_length + comment_length;
+    }
+
+    if (p != central.length) {
+      throw new ZipException(String.format(
+        "%s: central directory size does not match its records",
+        file));
     }
+  }
+
+  /**
+   * Remove the partially written <code>file</code> and move the original
+   * archive back into place.
+   */
 
-    out.flush();
+  private static void restore(
+    final LogUsableType log,
+    final File file,
+    final File in_zip_tmp)
+  {
+    log.debug(String.format("restoring '%s' from '%s'", file, in_zip_tmp));
+    if (file.exists() && (file.delete() == false)) {
+      log.error(String.format("could not remove '%s'", file));
+    }
+    if (in_zip_tmp.renameTo(file) == false) {
+      log.error(String.format(
+        "could not rename '%s' back to '%s'",
+        in_zip_tmp,
+        file));
+    }
   }
 }
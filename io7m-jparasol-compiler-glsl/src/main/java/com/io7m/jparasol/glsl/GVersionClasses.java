@@ -0,0 +1,141 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.glsl;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jparasol.core.GVersionES;
+import com.io7m.jparasol.core.GVersionFull;
+import com.io7m.jparasol.core.GVersionType;
+import com.io7m.jparasol.core.GVersionVisitorType;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>
+ * Equivalence classes of GLSL versions.
+ * </p>
+ * <p>
+ * Two versions are in the same class for a given kind of shader if
+ * {@link GTransform} and {@link GWriter} produce the same shader for both,
+ * apart from the <code>#version</code> directive. The classes mirror the
+ * version comparisons made by the FFI emitters in {@link GFFI} and by
+ * {@link GWriter}: GLSL ES is split at 300, full GLSL is split at 130
+ * (which also separates the versions at or below 120 that require FFI
+ * fallbacks), and the fragment outputs of full GLSL are split again at 330.
+ * Any new version comparison in those classes must be reflected here.
+ * </p>
+ */
+
+@EqualityReference public final class GVersionClasses
+{
+  /**
+   * The equivalence classes.
+   */
+
+  public static enum VersionClass
+  {
+    /**
+     * GLSL ES versions prior to 300.
+     */
+
+    CLASS_ES_LEGACY,
+
+    /**
+     * GLSL ES versions from 300 onwards.
+     */
+
+    CLASS_ES_300,
+
+    /**
+     * Full GLSL versions prior to 130.
+     */
+
+    CLASS_FULL_LEGACY,
+
+    /**
+     * Full GLSL versions from 130 onwards (or from 130 prior to 330, for
+     * fragment shaders).
+     */
+
+    CLASS_FULL_130,
+
+    /**
+     * Full GLSL versions from 330 onwards, for fragment shaders.
+     */
+
+    CLASS_FULL_330
+  }
+
+  /**
+   * @param v
+   *          The version
+   * @return The class of <code>v</code> for fragment shaders
+   */
+
+  public static VersionClass fragmentClass(
+    final GVersionType v)
+  {
+    return GVersionClasses.classify(v, true);
+  }
+
+  /**
+   * @param v
+   *          The version
+   * @return The class of <code>v</code> for vertex shaders
+   */
+
+  public static VersionClass vertexClass(
+    final GVersionType v)
+  {
+    return GVersionClasses.classify(v, false);
+  }
+
+  private static VersionClass classify(
+    final GVersionType v,
+    final boolean fragment)
+  {
+    return v.versionAccept(
+      new GVersionVisitorType<VersionClass, UnreachableCodeException>() {
+        @Override public VersionClass versionVisitES(
+          final GVersionES e)
+        {
+          if (e.compareTo(GVersionES.GLSL_ES_300) < 0) {
+            return VersionClass.CLASS_ES_LEGACY;
+          }
+          return VersionClass.CLASS_ES_300;
+        }
+
+        @Override public VersionClass versionVisitFull(
+          final GVersionFull f)
+        {
+          if (f.compareTo(GVersionFull.GLSL_130) < 0) {
+            assert f.compareTo(GVersionFull.GLSL_120) <= 0;
+            return VersionClass.CLASS_FULL_LEGACY;
+          }
+          if (fragment && (f.compareTo(GVersionFull.GLSL_330) >= 0)) {
+            return VersionClass.CLASS_FULL_330;
+          }
+          return VersionClass.CLASS_FULL_130;
+        }
+      });
+  }
+
+  private GVersionClasses()
+  {
+    throw new UnreachableCodeException();
+  }
+}
@@ -18,6 +18,8 @@ package com.io7m.jparasol.glsl;
 
 import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.io7m.jequality.annotations.EqualityReference;
@@ -29,6 +31,7 @@ import com.io7m.jparasol.core.GVersionES;
 import com.io7m.jparasol.core.GVersionFull;
 import com.io7m.jparasol.core.GVersionType;
 import com.io7m.jparasol.core.GVersionVisitorType;
+import com.io7m.jparasol.glsl.ast.GASTExpression;
 import com.io7m.jparasol.glsl.ast.GASTExpression.GASTEApplication;
 import com.io7m.jparasol.glsl.ast.GASTExpression.GASTEApplicationExternal;
 import com.io7m.jparasol.glsl.ast.GASTExpression.GASTEBinaryOp.GASTEBinaryOpDivide;
@@ -101,282 +104,376 @@ import com.io7m.junreachable.UnreachableCodeException;
 
 @SuppressWarnings({ "boxing", "null", "synthetic-access" }) @EqualityReference public final class GWriter
 {
+  /**
+   * An expression writer that writes directly to the output as the
+   * expression is traversed. Each composite expression writes its prefix
+   * before its subexpressions are visited, and its suffix afterwards. The
+   * separator between subexpressions is written when each subexpression
+   * after the first begins.
+   */
+
   @EqualityReference private static final class ExpressionWriter implements
-    GASTExpressionVisitorType<String, UnreachableCodeException>
+    GASTExpressionVisitorType<Unit, UnreachableCodeException>
   {
-    public ExpressionWriter()
+    private int               depth;
+    private final PrintWriter out;
+    private String[]          separators;
+    private boolean[]         started;
+
+    public ExpressionWriter(
+      final PrintWriter in_out)
     {
-      // Nothing
+      this.out = in_out;
+      this.depth = 0;
+      this.separators = new String[16];
+      this.started = new boolean[16];
+    }
+
+    /**
+     * Start a subexpression, writing the separator of the enclosing
+     * expression if this is not the first subexpression.
+     */
+
+    private void begin()
+    {
+      if (this.depth > 0) {
+        final int top = this.depth - 1;
+        if (this.started[top]) {
+          this.out.print(this.separators[top]);
+        } else {
+          this.started[top] = true;
+        }
+      }
     }
 
-    @Override public String expressionApplicationExternalVisit(
-      final List<String> arguments,
+    private void close(
+      final String suffix)
+    {
+      assert this.depth > 0;
+      this.depth = this.depth - 1;
+      this.out.print(suffix);
+    }
+
+    /**
+     * Start a composite expression, writing <code>name</code> followed by
+     * <code>prefix</code>, and arrange for <code>separator</code> to be
+     * written between its subexpressions.
+     */
+
+    private void open(
+      final String name,
+      final String prefix,
+      final String separator)
+    {
+      this.begin();
+      this.out.print(name);
+      this.out.print(prefix);
+
+      if (this.depth == this.separators.length) {
+        final int size = this.depth * 2;
+        final String[] new_separators = new String[size];
+        final boolean[] new_started = new boolean[size];
+        System.arraycopy(this.separators, 0, new_separators, 0, this.depth);
+        System.arraycopy(this.started, 0, new_started, 0, this.depth);
+        this.separators = new_separators;
+        this.started = new_started;
+      }
+
+      this.separators[this.depth] = separator;
+      this.started[this.depth] = false;
+      this.depth = this.depth + 1;
+    }
+
+    @Override public Unit expressionApplicationExternalVisit(
+      final List<Unit> arguments,
       final GASTEApplicationExternal e)
     {
-      final String arg_text = GWriter.formatCommaSeparatedList(arguments);
-      return String.format("%s (%s)", e.getName().show(), arg_text);
+      this.close(")");
+      return Unit.unit();
     }
 
     @Override public void expressionApplicationExternalVisitPre(
       final GASTEApplicationExternal e)
     {
-      // Nothing
+      this.open(e.getName().show(), " (", ", ");
     }
 
-    @Override public String expressionApplicationVisit(
-      final List<String> arguments,
+    @Override public Unit expressionApplicationVisit(
+      final List<Unit> arguments,
       final GASTEApplication e)
     {
-      final String arg_text = GWriter.formatCommaSeparatedList(arguments);
-      return String.format("%s (%s)", e.getName().show(), arg_text);
+      this.close(")");
+      return Unit.unit();
     }
 
     @Override public void expressionApplicationVisitPre(
       final GASTEApplication e)
     {
-      // Nothing
+      this.open(e.getName().show(), " (", ", ");
     }
 
-    @Override public String expressionBinaryOpDivideVisit(
-      final String left,
-      final String right,
+    @Override public Unit expressionBinaryOpDivideVisit(
+      final Unit left,
+      final Unit right,
       final GASTEBinaryOpDivide e)
     {
-      return String.format("(%s / %s)", left, right);
+      this.close(")");
+      return Unit.unit();
     }
 
     @Override public void expressionBinaryOpDivideVisitPre(
       final GASTEBinaryOpDivide e)
     {
-      // Nothing
+      this.open("", "(", " / ");
     }
 
-    @Override public String expressionBinaryOpEqualVisit(
-      final String left,
-      final String right,
+    @Override public Unit expressionBinaryOpEqualVisit(
+      final Unit left,
+      final Unit right,
       final GASTEBinaryOpEqual e)
     {
-      return String.format("(%s == %s)", left, right);
+      this.close(")");
+      return Unit.unit();
     }
 
     @Override public void expressionBinaryOpEqualVisitPre(
       final GASTEBinaryOpEqual e)
     {
-      // Nothing
+      this.open("", "(", " == ");
     }
 
-    @Override public String expressionBinaryOpGreaterThanOrEqualVisit(
-      final String left,
-      final String right,
+    @Override public Unit expressionBinaryOpGreaterThanOrEqualVisit(
+      final Unit left,
+      final Unit right,
       final GASTEBinaryOpGreaterThanOrEqual e)
     {
-      return String.format("(%s >= %s)", left, right);
+      this.close(")");
+      return Unit.unit();
     }
 
     @Override public void expressionBinaryOpGreaterThanOrEqualVisitPre(
       final GASTEBinaryOpGreaterThanOrEqual e)
     {
-      // Nothing
+      this.open("", "(", " >= ");
     }
 
-    @Override public String expressionBinaryOpGreaterThanVisit(
-      final String left,
-      final String right,
+    @Override public Unit expressionBinaryOpGreaterThanVisit(
+      final Unit left,
+      final Unit right,
       final GASTEBinaryOpGreaterThan e)
     {
-      return String.format("(%s > %s)", left, right);
+      this.close(")");
+      return Unit.unit();
     }
 
     @Override public void expressionBinaryOpGreaterThanVisitPre(
       final GASTEBinaryOpGreaterThan e)
     {
-      // Nothing
+      this.open("", "(", " > ");
     }
 
-    @Override public String expressionBinaryOpLesserThanOrEqualVisit(
-      final String left,
-      final String right,
+    @Override public Unit expressionBinaryOpLesserThanOrEqualVisit(
+      final Unit left,
+      final Unit right,
       final GASTEBinaryOpLesserThanOrEqual e)
     {
-      return String.format("(%s <= %s)", left, right);
+      this.close(")");
+      return Unit.unit();
     }
 
     @Override public void expressionBinaryOpLesserThanOrEqualVisitPre(
       final GASTEBinaryOpLesserThanOrEqual e)
     {
-      // Nothing
+      this.open("", "(", " <= ");
     }
 
-    @Override public String expressionBinaryOpLesserThanVisit(
-      final String left,
-      final String right,
+    @Override public Unit expressionBinaryOpLesserThanVisit(
+      final Unit left,
+      final Unit right,
       final GASTEBinaryOpLesserThan e)
     {
-      return String.format("(%s < %s)", left, right);
+      this.close(")");
+      return Unit.unit();
     }
 
     @Override public void expressionBinaryOpLesserThanVisitPre(
       final GASTEBinaryOpLesserThan e)
     {
-      // Nothing
+      this.open("", "(", " < ");
     }
 
-    @Override public String expressionBinaryOpMultiplyVisit(
-      final String left,
-      final String right,
+    @Override public Unit expressionBinaryOpMultiplyVisit(
+      final Unit left,
+      final Unit right,
       final GASTEBinaryOpMultiply e)
     {
-      return String.format("(%s * %s)", left, right);
+      this.close(")");
+      return Unit.unit();
     }
 
     @Override public void expressionBinaryOpMultiplyVisitPre(
       final GASTEBinaryOpMultiply e)
     {
-      // Nothing
+      this.open("", "(", " * ");
     }
 
-    @Override public String expressionBinaryOpOrVisit(
-      final String left,
-      final String right,
+    @Override public Unit expressionBinaryOpOrVisit(
+      final Unit left,
+      final Unit right,
       final GASTEBinaryOpOr e)
       throws UnreachableCodeException
     {
-      return String.format("(%s || %s)", left, right);
+      this.close(")");
+      return Unit.unit();
     }
 
     @Override public void expressionBinaryOpOrVisitPre(
       final GASTEBinaryOpOr e)
       throws UnreachableCodeException
     {
-      // Nothing
+      this.open("", "(", " || ");
     }
 
-    @Override public String expressionBinaryOpPlusVisit(
-      final String left,
-      final String right,
+    @Override public Unit expressionBinaryOpPlusVisit(
+      final Unit left,
+      final Unit right,
       final GASTEBinaryOpPlus e)
     {
-      return String.format("(%s + %s)", left, right);
+      this.close(")");
+      return Unit.unit();
     }
 
     @Override public void expressionBinaryOpPlusVisitPre(
       final GASTEBinaryOpPlus e)
     {
-      // Nothing
+      this.open("", "(", " + ");
     }
 
-    @Override public String expressionBinaryOpSubtractVisit(
-      final String left,
-      final String right,
+    @Override public Unit expressionBinaryOpSubtractVisit(
+      final Unit left,
+      final Unit right,
       final GASTEBinaryOpSubtract e)
     {
-      return String.format("(%s - %s)", left, right);
+      this.close(")");
+      return Unit.unit();
     }
 
     @Override public void expressionBinaryOpSubtractVisitPre(
       final GASTEBinaryOpSubtract e)
     {
-      // Nothing
+      this.open("", "(", " - ");
     }
 
-    @Override public String expressionBooleanVisit(
+    @Override public Unit expressionBooleanVisit(
       final GASTEBoolean e)
 
     {
-      return Boolean.toString(e.getValue());
+      this.begin();
+      this.out.print(e.getValue());
+      return Unit.unit();
     }
 
-    @Override public String expressionConstructionVisit(
-      final List<String> arguments,
+    @Override public Unit expressionConstructionVisit(
+      final List<Unit> arguments,
       final GASTEConstruction e)
     {
-      final String arg_text = GWriter.formatCommaSeparatedList(arguments);
-      return String.format("%s (%s)", e.getType().show(), arg_text);
+      this.close(")");
+      return Unit.unit();
     }
 
     @Override public void expressionConstructionVisitPre(
       final GASTEConstruction e)
     {
-      // Nothing
+      this.open(e.getType().show(), " (", ", ");
     }
 
-    @Override public String expressionFloatVisit(
+    @Override public Unit expressionFloatVisit(
       final GASTEFloat e)
     {
-      return e.getValue().toPlainString();
+      this.begin();
+      this.out.print(e.getValue().toPlainString());
+      return Unit.unit();
     }
 
-    @Override public String expressionIntegerVisit(
+    @Override public Unit expressionIntegerVisit(
       final GASTEInteger e)
 
     {
-      return e.getValue().toString();
+      this.begin();
+      this.out.print(e.getValue().toString());
+      return Unit.unit();
     }
 
-    @Override public String expressionMatrixColumnAccessVisit(
-      final String body,
+    @Override public Unit expressionMatrixColumnAccessVisit(
+      final Unit body,
       final GASTEMatrixColumnAccess e)
       throws UnreachableCodeException
     {
-      return String.format("%s[%s]", body, e.getColumn().getValue());
+      this.close("[");
+      this.out.print(e.getColumn().getValue());
+      this.out.print("]");
+      return Unit.unit();
     }
 
     @Override public void expressionMatrixColumnAccessVisitPre(
       final GASTEMatrixColumnAccess e)
       throws UnreachableCodeException
     {
-      // Nothing
+      this.open("", "", "");
     }
 
-    @Override public String expressionProjectionVisit(
-      final String body,
+    @Override public Unit expressionProjectionVisit(
+      final Unit body,
       final GASTEProjection e)
     {
-      return String.format("%s.%s", body, e.getField().show());
+      this.close(".");
+      this.out.print(e.getField().show());
+      return Unit.unit();
     }
 
     @Override public void expressionProjectionVisitPre(
       final GASTEProjection e)
     {
-      // Nothing
+      this.open("", "", "");
     }
 
-    @Override public String expressionSwizzleVisit(
-      final String body,
+    @Override public Unit expressionSwizzleVisit(
+      final Unit body,
       final GASTESwizzle e)
     {
-      final StringBuilder b = new StringBuilder();
-      b.append(body);
-      b.append(".");
+      this.close(".");
       for (final GFieldName f : e.getFields()) {
-        b.append(f.show());
+        this.out.print(f.show());
       }
-      return b.toString();
+      return Unit.unit();
     }
 
     @Override public void expressionSwizzleVisitPre(
       final GASTESwizzle e)
     {
-      // Nothing
+      this.open("", "", "");
     }
 
-    @Override public String expressionUnaryOpNegateVisit(
-      final String body,
+    @Override public Unit expressionUnaryOpNegateVisit(
+      final Unit body,
       final GASTEUnaryOpNegate e)
     {
-      return String.format("(-%s)", body);
+      this.close(")");
+      return Unit.unit();
     }
 
     @Override public void expressionUnaryOpNegateVisitPre(
       final GASTEUnaryOpNegate e)
     {
-      // Nothing
+      this.open("", "(-", "");
     }
 
-    @Override public String expressionVariableVisit(
+    @Override public Unit expressionVariableVisit(
       final GASTEVariable e)
     {
-      return e.getTerm().show();
+      this.begin();
+      this.out.print(e.getTerm().show());
+      return Unit.unit();
     }
   }
 
@@ -395,9 +492,9 @@ import com.io7m.junreachable.UnreachableCodeException;
       final GASTFragmentConditionalDiscard s)
 
     {
-      final String etext =
-        s.getCondition().expressionVisitableAccept(new ExpressionWriter());
-      this.writer.println(String.format("  if (%s) {", etext));
+      this.writer.print("  if (");
+      GWriter.writeExpression(this.writer, s.getCondition());
+      this.writer.println(") {");
       this.writer.println("    discard;");
       this.writer.println("  }");
       return Unit.unit();
@@ -407,17 +504,99 @@ import com.io7m.junreachable.UnreachableCodeException;
       final GASTFragmentLocalVariable s)
 
     {
-      final String etext =
-        s.getExpression().expressionVisitableAccept(new ExpressionWriter());
-      this.writer.println(String.format(
-        "  %s %s = %s;",
-        s.getType().show(),
-        s.getName().show(),
-        etext));
+      this.writer.print("  ");
+      this.writer.print(s.getType().show());
+      this.writer.print(" ");
+      this.writer.print(s.getName().show());
+      this.writer.print(" = ");
+      GWriter.writeExpression(this.writer, s.getExpression());
+      this.writer.println(";");
       return Unit.unit();
     }
   }
 
+  /**
+   * A writer that splits the text written to it into lines, in the same
+   * manner as {@link java.io.BufferedReader#readLine()}.
+   */
+
+  @EqualityReference private static final class LineWriter extends Writer
+  {
+    private boolean             after_cr;
+    private final StringBuilder line;
+    private final List<String>  lines;
+
+    public LineWriter()
+    {
+      this.after_cr = false;
+      this.line = new StringBuilder(128);
+      this.lines = new ArrayList<String>();
+    }
+
+    @Override public void close()
+    {
+      // Nothing
+    }
+
+    private void end()
+    {
+      this.lines.add(this.line.toString());
+      this.line.setLength(0);
+    }
+
+    @Override public void flush()
+    {
+      // Nothing
+    }
+
+    List<String> getLines()
+    {
+      if (this.line.length() > 0) {
+        this.end();
+      }
+      return this.lines;
+    }
+
+    private void put(
+      final char c)
+    {
+      if (c == '\n') {
+        if (this.after_cr == false) {
+          this.end();
+        }
+        this.after_cr = false;
+      } else if (c == '\r') {
+        this.end();
+        this.after_cr = true;
+      } else {
+        this.line.append(c);
+        this.after_cr = false;
+      }
+    }
+
+    @Override public void write(
+      final char[] buffer,
+      final int offset,
+      final int length)
+    {
+      final int max = offset + length;
+      for (int index = offset; index < max; ++index) {
+        this.put(buffer[index]);
+      }
+    }
+
+    @Override public void write(
+      final String text,
+      final int offset,
+      final int length)
+    {
+      final int max = offset + length;
+      for (int index = offset; index < max; ++index) {
+        this.put(text.charAt(index));
+      }
+    }
+  }
+
   @EqualityReference private static final class StatementWriter implements
     GASTStatementVisitorType<Unit, UnreachableCodeException>
   {
@@ -485,9 +664,10 @@ import com.io7m.junreachable.UnreachableCodeException;
       final GASTConditional s)
 
     {
-      final String etext =
-        s.getCondition().expressionVisitableAccept(new ExpressionWriter());
-      this.w.println(String.format("%sif (%s) {", this.indent_text, etext));
+      this.w.print(this.indent_text);
+      this.w.print("if (");
+      GWriter.writeExpression(this.w, s.getCondition());
+      this.w.println(") {");
     }
 
     @Override public void statementVisitConditionalRightPost(
@@ -509,11 +689,13 @@ import com.io7m.junreachable.UnreachableCodeException;
       final GASTLocalVariable s)
 
     {
-      final String etext =
-        s.getExpression().expressionVisitableAccept(new ExpressionWriter());
-      this.w.println(String.format("%s%s %s = %s;", this.indent_text, s
-        .getType()
-        .show(), s.getName().show(), etext));
+      this.w.print(this.indent_text);
+      this.w.print(s.getType().show());
+      this.w.print(" ");
+      this.w.print(s.getName().show());
+      this.w.print(" = ");
+      GWriter.writeExpression(this.w, s.getExpression());
+      this.w.println(";");
 
       return Unit.unit();
     }
@@ -522,9 +704,10 @@ import com.io7m.junreachable.UnreachableCodeException;
       final GASTReturn s)
 
     {
-      final String text =
-        s.getExpression().expressionVisitableAccept(new ExpressionWriter());
-      this.w.println(String.format("%sreturn %s;", this.indent_text, text));
+      this.w.print(this.indent_text);
+      this.w.print("return ");
+      GWriter.writeExpression(this.w, s.getExpression());
+      this.w.println(";");
       return Unit.unit();
     }
 
@@ -547,17 +730,27 @@ import com.io7m.junreachable.UnreachableCodeException;
     }
   }
 
-  private static String formatCommaSeparatedList(
-    final List<String> arguments)
+  /**
+   * @param version
+   *          The GLSL version
+   * @return The version directive written as the first line of a shader
+   *         with the given version
+   */
+
+  public static String versionDirective(
+    final GVersionType version)
   {
-    final StringBuilder arg_text = new StringBuilder();
-    for (int index = 0; index < arguments.size(); ++index) {
-      arg_text.append(arguments.get(index));
-      if ((index + 1) < arguments.size()) {
-        arg_text.append(", ");
-      }
-    }
-    return arg_text.toString();
+    final String r =
+      String.format("#version %d", version.versionGetNumber());
+    assert r != null;
+    return r;
+  }
+
+  private static void writeExpression(
+    final PrintWriter writer,
+    final GASTExpression e)
+  {
+    e.expressionVisitableAccept(new ExpressionWriter(writer));
   }
 
   private static void writeFragmentInput(
@@ -842,8 +1035,36 @@ import com.io7m.junreachable.UnreachableCodeException;
     final GASTShaderFragment f,
     final boolean version_directive)
   {
+    GWriter.writeFragmentShaderTo(new PrintWriter(out), f, version_directive);
+  }
+
+  /**
+   * Write the given GLSL shader, returning the lines of the shader without
+   * line terminators. This is equivalent to reading back the lines written
+   * by {@link #writeFragmentShader(OutputStream, GASTShaderFragment, boolean)},
+   * without encoding and decoding the text.
+   *
+   * @param f
+   *          The shader
+   * @param version_directive
+   *          <code>true</code> if a version directive should be written
+   * @return The lines of the shader
+   */
+
+  public static List<String> writeFragmentShaderLines(
+    final GASTShaderFragment f,
+    final boolean version_directive)
+  {
+    final LineWriter lines = new LineWriter();
+    GWriter.writeFragmentShaderTo(new PrintWriter(lines), f, version_directive);
+    return lines.getLines();
+  }
 
-    final PrintWriter writer = new PrintWriter(out);
+  private static void writeFragmentShaderTo(
+    final PrintWriter writer,
+    final GASTShaderFragment f,
+    final boolean version_directive)
+  {
     final List<Pair<GTypeName, GASTTypeDeclaration>> types = f.getTypes();
     final List<Pair<GTermNameGlobal, GASTTermDeclaration>> terms =
       f.getTerms();
@@ -994,14 +1215,12 @@ import com.io7m.junreachable.UnreachableCodeException;
     final GASTTermValue term)
 
   {
-    final String type_name = term.getType().show();
-    final String term_name = term.getName().show();
-    final String etext =
-      term.getExpression().expressionVisitableAccept(new ExpressionWriter());
-
-    writer.println(String.format("%s", type_name));
-    writer.println(String.format("%s =", term_name));
-    writer.println(String.format("  %s;", etext));
+    writer.println(term.getType().show());
+    writer.print(term.getName().show());
+    writer.println(" =");
+    writer.print("  ");
+    GWriter.writeExpression(writer, term.getExpression());
+    writer.println(";");
     writer.println();
   }
 
@@ -1009,7 +1228,7 @@ import com.io7m.junreachable.UnreachableCodeException;
     final PrintWriter writer,
     final GVersionType version)
   {
-    writer.println(String.format("#version %d", version.versionGetNumber()));
+    writer.println(GWriter.versionDirective(version));
     writer.println();
   }
 
@@ -1242,7 +1461,36 @@ import com.io7m.junreachable.UnreachableCodeException;
     final GASTShaderVertex v,
     final boolean version_directive)
   {
-    final PrintWriter writer = new PrintWriter(out);
+    GWriter.writeVertexShaderTo(new PrintWriter(out), v, version_directive);
+  }
+
+  /**
+   * Write the given GLSL shader, returning the lines of the shader without
+   * line terminators. This is equivalent to reading back the lines written
+   * by {@link #writeVertexShader(OutputStream, GASTShaderVertex, boolean)},
+   * without encoding and decoding the text.
+   *
+   * @param v
+   *          The shader
+   * @param version_directive
+   *          <code>true</code> if a version directive should be written
+   * @return The lines of the shader
+   */
+
+  public static List<String> writeVertexShaderLines(
+    final GASTShaderVertex v,
+    final boolean version_directive)
+  {
+    final LineWriter lines = new LineWriter();
+    GWriter.writeVertexShaderTo(new PrintWriter(lines), v, version_directive);
+    return lines.getLines();
+  }
+
+  private static void writeVertexShaderTo(
+    final PrintWriter writer,
+    final GASTShaderVertex v,
+    final boolean version_directive)
+  {
     final List<Pair<GTypeName, GASTTypeDeclaration>> types = v.getTypes();
     final List<Pair<GTermNameGlobal, GASTTermDeclaration>> terms =
       v.getTerms();
@@ -170,6 +170,26 @@ import com.io7m.jparasol.typed.TType;
       assert r != null;
       return r;
     }
+
+    /**
+     * @param in_glsl_version
+     *          The GLSL version
+     * @return A fragment shader identical to this one, but for the given GLSL
+     *         version
+     */
+
+    public GASTShaderFragment withGLSLVersion(
+      final GVersionType in_glsl_version)
+    {
+      return new GASTShaderFragment(
+        this.inputs,
+        this.main,
+        this.outputs,
+        this.parameter,
+        this.terms,
+        this.types,
+        in_glsl_version);
+    }
   }
 
   /**
@@ -530,6 +550,26 @@ import com.io7m.jparasol.typed.TType;
       assert r != null;
       return r;
     }
+
+    /**
+     * @param in_glsl_version
+     *          The GLSL version
+     * @return A vertex shader identical to this one, but for the given GLSL
+     *         version
+     */
+
+    public GASTShaderVertex withGLSLVersion(
+      final GVersionType in_glsl_version)
+    {
+      return new GASTShaderVertex(
+        this.inputs,
+        this.main,
+        this.outputs,
+        this.parameter,
+        this.terms,
+        this.types,
+        in_glsl_version);
+    }
   }
 
   /**
@@ -18,7 +18,6 @@ package com.io7m.jparasol.glsl.compactor;
 
 import java.io.IOException;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import com.io7m.jequality.annotations.EqualityReference;
@@ -29,8 +28,10 @@ import com.io7m.jparasol.core.JPCompactedFragmentShader;
 import com.io7m.jparasol.core.JPCompactedFragmentShaderMeta;
 import com.io7m.jparasol.core.JPCompactedVertexShader;
 import com.io7m.jparasol.core.JPCompactedVertexShaderMeta;
+import com.io7m.jparasol.core.JPHashAlgorithm;
 import com.io7m.jparasol.core.JPHashedLines;
 import com.io7m.jparasol.core.JPMissingHash;
+import com.io7m.jparasol.core.JPSourceText;
 import com.io7m.jparasol.core.JPUncompactedFragmentShader;
 import com.io7m.jparasol.core.JPUncompactedFragmentShaderMeta;
 import com.io7m.jparasol.core.JPUncompactedVertexShader;
@@ -46,7 +47,8 @@ import com.io7m.junreachable.UnreachableCodeException;
 @EqualityReference public final class GCompactor
 {
   /**
-   * Compact a serialized fragment shader.
+   * Compact a serialized fragment shader, naming sources by their SHA-256
+   * hashes.
    * 
    * @param f
    *          The shader.
@@ -59,10 +61,36 @@ import com.io7m.junreachable.UnreachableCodeException;
     final JPUncompactedFragmentShader f,
     final LogUsableType in_log)
     throws GCompactorException
+  {
+    return GCompactor.compactSerializedFragmentShader(
+      f,
+      JPHashAlgorithm.HASH_SHA_256,
+      in_log);
+  }
+
+  /**
+   * Compact a serialized fragment shader, naming sources by their hashes.
+   * 
+   * @param f
+   *          The shader.
+   * @param algorithm
+   *          The algorithm used to hash sources.
+   * @param in_log
+   *          A log interface.
+   * @return A compacted shader.
+   * @throws GCompactorException
+   *           If an error occurs during compaction.
+   */
+
+  public static JPCompactedFragmentShader compactSerializedFragmentShader(
+    final JPUncompactedFragmentShader f,
+    final JPHashAlgorithm algorithm,
+    final LogUsableType in_log)
+    throws GCompactorException
   {
     try {
       final JPUncompactedFragmentShaderMeta meta = f.getMeta();
-      final Map<GVersionType, List<String>> sources = f.getSources();
+      final Map<GVersionType, JPSourceText> sources = f.getSourceTexts();
 
       final Map<String, JPHashedLines> new_sources =
         new HashMap<String, JPHashedLines>();
@@ -70,11 +98,11 @@ import com.io7m.junreachable.UnreachableCodeException;
         new HashMap<GVersionType, String>();
 
       for (final GVersionType version : sources.keySet()) {
-        final List<String> lines = sources.get(version);
-        assert lines != null;
+        final JPSourceText text = sources.get(version);
+        assert text != null;
 
         final JPHashedLines new_lines =
-          JPHashedLines.newSourceStripped(lines, in_log);
+          JPHashedLines.newSourceStripped(text, algorithm, in_log);
 
         final String hash = new_lines.getHash();
         new_sources.put(hash, new_lines);
@@ -99,7 +127,8 @@ import com.io7m.junreachable.UnreachableCodeException;
           meta.getDeclaredFragmentInputs(),
           meta.getDeclaredFragmentOutputs(),
           meta.getDeclaredFragmentParameters(),
-          versions);
+          versions,
+          algorithm);
 
       return JPCompactedFragmentShader.newShader(new_meta, new_sources);
     } catch (final IOException e) {
@@ -115,10 +144,36 @@ import com.io7m.junreachable.UnreachableCodeException;
   }
 
   /**
-   * Compact a serialized vertex shader.
+   * Compact a serialized vertex shader, naming sources by their SHA-256
+   * hashes.
+   * 
+   * @param v
+   *          The shader.
+   * @return A compacted shader.
+   * @throws GCompactorException
+   *           If an error occurs during compaction.
+   */
+
+  public static JPCompactedVertexShader compactSerializedVertexShader(
+    final JPUncompactedVertexShader v,
+    final LogUsableType in_log)
+    throws GCompactorException
+  {
+    return GCompactor.compactSerializedVertexShader(
+      v,
+      JPHashAlgorithm.HASH_SHA_256,
+      in_log);
+  }
+
+  /**
+   * Compact a serialized vertex shader, naming sources by their hashes.
    * 
    * @param v
    *          The shader.
+   * @param algorithm
+   *          The algorithm used to hash sources.
+   * @param in_log
+   *          A log interface.
    * @return A compacted shader.
    * @throws GCompactorException
    *           If an error occurs during compaction.
@@ -126,12 +181,13 @@ import com.io7m.junreachable.UnreachableCodeException;
 
   public static JPCompactedVertexShader compactSerializedVertexShader(
     final JPUncompactedVertexShader v,
+    final JPHashAlgorithm algorithm,
     final LogUsableType in_log)
     throws GCompactorException
   {
     try {
       final JPUncompactedVertexShaderMeta meta = v.getMeta();
-      final Map<GVersionType, List<String>> sources = v.getSources();
+      final Map<GVersionType, JPSourceText> sources = v.getSourceTexts();
 
       final Map<String, JPHashedLines> new_sources =
         new HashMap<String, JPHashedLines>();
@@ -139,11 +195,11 @@ import com.io7m.junreachable.UnreachableCodeException;
         new HashMap<GVersionType, String>();
 
       for (final GVersionType version : sources.keySet()) {
-        final List<String> lines = sources.get(version);
-        assert lines != null;
+        final JPSourceText text = sources.get(version);
+        assert text != null;
 
         final JPHashedLines new_lines =
-          JPHashedLines.newSourceStripped(lines, in_log);
+          JPHashedLines.newSourceStripped(text, algorithm, in_log);
 
         final String hash = new_lines.getHash();
         new_sources.put(hash, new_lines);
@@ -158,7 +214,8 @@ import com.io7m.junreachable.UnreachableCodeException;
           meta.getDeclaredVertexInputs(),
           meta.getDeclaredVertexOutputs(),
           meta.getDeclaredVertexParameters(),
-          versions);
+          versions,
+          algorithm);
 
       return JPCompactedVertexShader.newShader(new_meta, new_sources);
     } catch (final IOException e) {
@@ -16,12 +16,8 @@
 
 package com.io7m.jparasol.glsl.pipeline;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
@@ -41,10 +37,12 @@ import com.io7m.jparasol.core.GVersionType;
 import com.io7m.jparasol.core.JPFragmentInput;
 import com.io7m.jparasol.core.JPFragmentOutput;
 import com.io7m.jparasol.core.JPFragmentParameter;
-import com.io7m.jparasol.core.JPSourceLines;
+import com.io7m.jparasol.core.JPSourceText;
 import com.io7m.jparasol.core.JPUncompactedFragmentShader;
 import com.io7m.jparasol.core.JPUncompactedFragmentShaderMeta;
 import com.io7m.jparasol.glsl.GLSLTypeNames;
+import com.io7m.jparasol.glsl.GVersionClasses;
+import com.io7m.jparasol.glsl.GVersionClasses.VersionClass;
 import com.io7m.jparasol.glsl.GWriter;
 import com.io7m.jparasol.glsl.ast.GASTShader.GASTShaderFragment;
 import com.io7m.jparasol.glsl.ast.GASTShader.GASTShaderFragmentInput;
@@ -53,7 +51,6 @@ import com.io7m.jparasol.glsl.ast.GASTShader.GASTShaderFragmentParameter;
 import com.io7m.jparasol.glsl.ast.GTypeName;
 import com.io7m.jparasol.typed.TType;
 import com.io7m.jparasol.typed.ast.TASTShaderNameFlat;
-import com.io7m.junreachable.UnreachableCodeException;
 
 /**
  * A compiled fragment shader.
@@ -62,7 +59,9 @@ import com.io7m.junreachable.UnreachableCodeException;
 @EqualityStructural public final class GCompiledFragmentShader
 {
   /**
-   * Construct a compiled fragment shader.
+   * Construct a compiled fragment shader. A source that was produced for a
+   * different version in the same {@link GVersionClasses} class as the
+   * version that it is mapped to is relabelled with that version.
    * 
    * @param name
    *          The name.
@@ -75,7 +74,18 @@ import com.io7m.junreachable.UnreachableCodeException;
     final TASTShaderNameFlat name,
     final Map<GVersionType, GASTShaderFragment> sources)
   {
-    return new GCompiledFragmentShader(name, sources);
+    final Map<GVersionType, GASTShaderFragment> relabelled =
+      new HashMap<GVersionType, GASTShaderFragment>(sources);
+    for (final GVersionType v : sources.keySet()) {
+      final GASTShaderFragment s = sources.get(v);
+      assert s != null;
+      if (s.getGLSLVersion().equals(v) == false) {
+        assert GVersionClasses.fragmentClass(v) == GVersionClasses
+          .fragmentClass(s.getGLSLVersion());
+        relabelled.put(v, s.withGLSLVersion(v));
+      }
+    }
+    return new GCompiledFragmentShader(name, relabelled);
   }
 
   private final TASTShaderNameFlat                    name;
@@ -118,78 +128,85 @@ import com.io7m.junreachable.UnreachableCodeException;
   public JPUncompactedFragmentShader flatten(
     final LogUsableType log)
   {
-    try {
-      final SortedSet<GVersionES> out_supports_es = new TreeSet<GVersionES>();
-      final SortedSet<GVersionFull> out_supports_full =
-        new TreeSet<GVersionFull>();
-
-      final Set<GVersionType> versions = this.sources.keySet();
-      assert versions != null;
-      GVersion.filterVersions(versions, out_supports_es, out_supports_full);
-
-      final GASTShaderFragment shader =
-        this.sources.values().iterator().next();
-
-      final SortedSet<JPFragmentParameter> fragment_parameters =
-        new TreeSet<JPFragmentParameter>();
-
-      for (final GASTShaderFragmentParameter p : shader.getParameters()) {
-        for (final Pair<String, TType> x : p.getExpanded()) {
-          final String p_name = x.getLeft();
-          final GTypeName p_type = GLSLTypeNames.getTypeName(x.getRight());
-          fragment_parameters.add(JPFragmentParameter.newParameter(
-            p_name,
-            p_type.show()));
-        }
-      }
-
-      final SortedSet<JPFragmentInput> fragment_inputs =
-        new TreeSet<JPFragmentInput>();
-      for (final GASTShaderFragmentInput i : shader.getInputs()) {
-        final String i_name = i.getName().show();
-        final String i_type = GLSLTypeNames.getTypeName(i.getType()).show();
-        fragment_inputs.add(JPFragmentInput.newInput(i_name, i_type));
-      }
-
-      final SortedMap<Integer, JPFragmentOutput> fragment_outputs =
-        new TreeMap<Integer, JPFragmentOutput>();
-      for (final GASTShaderFragmentOutput o : shader.getOutputs()) {
-        final String o_name = o.getName().show();
-        final int o_index = o.getIndex();
-        final String o_type = o.getType().show();
-        final JPFragmentOutput ro =
-          JPFragmentOutput.newOutput(o_name, o_index, o_type);
-        fragment_outputs.put(o_index, ro);
+    final SortedSet<GVersionES> out_supports_es = new TreeSet<GVersionES>();
+    final SortedSet<GVersionFull> out_supports_full =
+      new TreeSet<GVersionFull>();
+
+    final Set<GVersionType> versions = this.sources.keySet();
+    assert versions != null;
+    GVersion.filterVersions(versions, out_supports_es, out_supports_full);
+
+    final GASTShaderFragment shader = this.sources.values().iterator().next();
+
+    final SortedSet<JPFragmentParameter> fragment_parameters =
+      new TreeSet<JPFragmentParameter>();
+
+    for (final GASTShaderFragmentParameter p : shader.getParameters()) {
+      for (final Pair<String, TType> x : p.getExpanded()) {
+        final String p_name = x.getLeft();
+        final GTypeName p_type = GLSLTypeNames.getTypeName(x.getRight());
+        fragment_parameters.add(JPFragmentParameter.newParameter(
+          p_name,
+          p_type.show()));
       }
+    }
 
-      final JPUncompactedFragmentShaderMeta in_meta =
-        JPUncompactedFragmentShaderMeta.newMetadata(
-          this.name.show(),
-          out_supports_es,
-          out_supports_full,
-          fragment_inputs,
-          fragment_outputs,
-          fragment_parameters);
+    final SortedSet<JPFragmentInput> fragment_inputs =
+      new TreeSet<JPFragmentInput>();
+    for (final GASTShaderFragmentInput i : shader.getInputs()) {
+      final String i_name = i.getName().show();
+      final String i_type = GLSLTypeNames.getTypeName(i.getType()).show();
+      fragment_inputs.add(JPFragmentInput.newInput(i_name, i_type));
+    }
 
-      final Map<GVersionType, List<String>> in_sources =
-        new HashMap<GVersionType, List<String>>();
+    final SortedMap<Integer, JPFragmentOutput> fragment_outputs =
+      new TreeMap<Integer, JPFragmentOutput>();
+    for (final GASTShaderFragmentOutput o : shader.getOutputs()) {
+      final String o_name = o.getName().show();
+      final int o_index = o.getIndex();
+      final String o_type = o.getType().show();
+      final JPFragmentOutput ro =
+        JPFragmentOutput.newOutput(o_name, o_index, o_type);
+      fragment_outputs.put(o_index, ro);
+    }
 
-      for (final GVersionType v : versions) {
+    final JPUncompactedFragmentShaderMeta in_meta =
+      JPUncompactedFragmentShaderMeta.newMetadata(
+        this.name.show(),
+        out_supports_es,
+        out_supports_full,
+        fragment_inputs,
+        fragment_outputs,
+        fragment_parameters);
+
+    final Map<GVersionType, JPSourceText> in_sources =
+      new HashMap<GVersionType, JPSourceText>();
+
+    /**
+     * Versions in the same class differ only in the version directive on
+     * the first line, so each class is written once.
+     */
+
+    final Map<VersionClass, JPSourceText> written =
+      new HashMap<VersionClass, JPSourceText>();
+
+    for (final GVersionType v : versions) {
+      final VersionClass c = GVersionClasses.fragmentClass(v);
+      final JPSourceText existing = written.get(c);
+      if (existing != null) {
+        in_sources.put(v, existing.withFirstLine(GWriter.versionDirective(v)));
+      } else {
         final GASTShaderFragment source = this.sources.get(v);
         assert source != null;
 
-        final ByteArrayOutputStream stream = new ByteArrayOutputStream(16384);
-        GWriter.writeFragmentShader(stream, source, true);
-        final ByteArrayInputStream input =
-          new ByteArrayInputStream(stream.toByteArray());
-        final List<String> lines = JPSourceLines.fromStream(input);
-        in_sources.put(v, lines);
+        final JPSourceText text =
+          JPSourceText.newText(GWriter.writeFragmentShaderLines(source, true));
+        written.put(c, text);
+        in_sources.put(v, text);
       }
-
-      return JPUncompactedFragmentShader.newShader(in_meta, in_sources);
-    } catch (final IOException e) {
-      throw new UnreachableCodeException(e);
     }
+
+    return JPUncompactedFragmentShader.newShaderFromText(in_meta, in_sources);
   }
 
   /**
@@ -16,12 +16,8 @@
 
 package com.io7m.jparasol.glsl.pipeline;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
@@ -36,13 +32,15 @@ import com.io7m.jparasol.core.GVersion;
 import com.io7m.jparasol.core.GVersionES;
 import com.io7m.jparasol.core.GVersionFull;
 import com.io7m.jparasol.core.GVersionType;
-import com.io7m.jparasol.core.JPSourceLines;
+import com.io7m.jparasol.core.JPSourceText;
 import com.io7m.jparasol.core.JPUncompactedVertexShader;
 import com.io7m.jparasol.core.JPUncompactedVertexShaderMeta;
 import com.io7m.jparasol.core.JPVertexInput;
 import com.io7m.jparasol.core.JPVertexOutput;
 import com.io7m.jparasol.core.JPVertexParameter;
 import com.io7m.jparasol.glsl.GLSLTypeNames;
+import com.io7m.jparasol.glsl.GVersionClasses;
+import com.io7m.jparasol.glsl.GVersionClasses.VersionClass;
 import com.io7m.jparasol.glsl.GWriter;
 import com.io7m.jparasol.glsl.ast.GASTShader.GASTShaderVertex;
 import com.io7m.jparasol.glsl.ast.GASTShader.GASTShaderVertexInput;
@@ -51,7 +49,6 @@ import com.io7m.jparasol.glsl.ast.GASTShader.GASTShaderVertexParameter;
 import com.io7m.jparasol.glsl.ast.GTypeName;
 import com.io7m.jparasol.typed.TType;
 import com.io7m.jparasol.typed.ast.TASTShaderNameFlat;
-import com.io7m.junreachable.UnreachableCodeException;
 
 /**
  * A compiled vertex shader.
@@ -60,7 +57,9 @@ import com.io7m.junreachable.UnreachableCodeException;
 @EqualityStructural public final class GCompiledVertexShader
 {
   /**
-   * Construct a compiled vertex shader.
+   * Construct a compiled vertex shader. A source that was produced for a
+   * different version in the same {@link GVersionClasses} class as the
+   * version that it is mapped to is relabelled with that version.
    * 
    * @param name
    *          The name.
@@ -73,7 +72,18 @@ import com.io7m.junreachable.UnreachableCodeException;
     final TASTShaderNameFlat name,
     final Map<GVersionType, GASTShaderVertex> sources)
   {
-    return new GCompiledVertexShader(name, sources);
+    final Map<GVersionType, GASTShaderVertex> relabelled =
+      new HashMap<GVersionType, GASTShaderVertex>(sources);
+    for (final GVersionType v : sources.keySet()) {
+      final GASTShaderVertex s = sources.get(v);
+      assert s != null;
+      if (s.getGLSLVersion().equals(v) == false) {
+        assert GVersionClasses.vertexClass(v) == GVersionClasses
+          .vertexClass(s.getGLSLVersion());
+        relabelled.put(v, s.withGLSLVersion(v));
+      }
+    }
+    return new GCompiledVertexShader(name, relabelled);
   }
 
   private final TASTShaderNameFlat                  name;
@@ -116,74 +126,82 @@ import com.io7m.junreachable.UnreachableCodeException;
   public JPUncompactedVertexShader flatten(
     final LogUsableType log)
   {
-    try {
-      final SortedSet<GVersionES> out_supports_es = new TreeSet<GVersionES>();
-      final SortedSet<GVersionFull> out_supports_full =
-        new TreeSet<GVersionFull>();
-
-      final Set<GVersionType> versions = this.sources.keySet();
-      assert versions != null;
-      GVersion.filterVersions(versions, out_supports_es, out_supports_full);
-
-      final GASTShaderVertex shader = this.sources.values().iterator().next();
-
-      final SortedSet<JPVertexParameter> vertex_parameters =
-        new TreeSet<JPVertexParameter>();
-
-      for (final GASTShaderVertexParameter p : shader.getParameters()) {
-        for (final Pair<String, TType> x : p.getExpanded()) {
-          final String p_name = x.getLeft();
-          final GTypeName p_type = GLSLTypeNames.getTypeName(x.getRight());
-          vertex_parameters.add(JPVertexParameter.newParameter(
-            p_name,
-            p_type.show()));
-        }
-      }
-
-      final SortedSet<JPVertexInput> vertex_inputs =
-        new TreeSet<JPVertexInput>();
-      for (final GASTShaderVertexInput i : shader.getInputs()) {
-        final String i_name = i.getName().show();
-        final String i_type = i.getType().show();
-        vertex_inputs.add(JPVertexInput.newInput(i_name, i_type));
-      }
-
-      final SortedSet<JPVertexOutput> vertex_outputs =
-        new TreeSet<JPVertexOutput>();
-      for (final GASTShaderVertexOutput o : shader.getOutputs()) {
-        final String o_name = o.getName().show();
-        final String o_type = GLSLTypeNames.getTypeName(o.getType()).show();
-        vertex_outputs.add(JPVertexOutput.newOutput(o_name, o_type));
+    final SortedSet<GVersionES> out_supports_es = new TreeSet<GVersionES>();
+    final SortedSet<GVersionFull> out_supports_full =
+      new TreeSet<GVersionFull>();
+
+    final Set<GVersionType> versions = this.sources.keySet();
+    assert versions != null;
+    GVersion.filterVersions(versions, out_supports_es, out_supports_full);
+
+    final GASTShaderVertex shader = this.sources.values().iterator().next();
+
+    final SortedSet<JPVertexParameter> vertex_parameters =
+      new TreeSet<JPVertexParameter>();
+
+    for (final GASTShaderVertexParameter p : shader.getParameters()) {
+      for (final Pair<String, TType> x : p.getExpanded()) {
+        final String p_name = x.getLeft();
+        final GTypeName p_type = GLSLTypeNames.getTypeName(x.getRight());
+        vertex_parameters.add(JPVertexParameter.newParameter(
+          p_name,
+          p_type.show()));
       }
+    }
 
-      final JPUncompactedVertexShaderMeta in_meta =
-        JPUncompactedVertexShaderMeta.newMetadata(
-          this.name.show(),
-          out_supports_es,
-          out_supports_full,
-          vertex_inputs,
-          vertex_outputs,
-          vertex_parameters);
+    final SortedSet<JPVertexInput> vertex_inputs =
+      new TreeSet<JPVertexInput>();
+    for (final GASTShaderVertexInput i : shader.getInputs()) {
+      final String i_name = i.getName().show();
+      final String i_type = i.getType().show();
+      vertex_inputs.add(JPVertexInput.newInput(i_name, i_type));
+    }
 
-      final Map<GVersionType, List<String>> in_sources =
-        new HashMap<GVersionType, List<String>>();
+    final SortedSet<JPVertexOutput> vertex_outputs =
+      new TreeSet<JPVertexOutput>();
+    for (final GASTShaderVertexOutput o : shader.getOutputs()) {
+      final String o_name = o.getName().show();
+      final String o_type = GLSLTypeNames.getTypeName(o.getType()).show();
+      vertex_outputs.add(JPVertexOutput.newOutput(o_name, o_type));
+    }
 
-      for (final GVersionType v : versions) {
+    final JPUncompactedVertexShaderMeta in_meta =
+      JPUncompactedVertexShaderMeta.newMetadata(
+        this.name.show(),
+        out_supports_es,
+        out_supports_full,
+        vertex_inputs,
+        vertex_outputs,
+        vertex_parameters);
+
+    final Map<GVersionType, JPSourceText> in_sources =
+      new HashMap<GVersionType, JPSourceText>();
+
+    /**
+     * Versions in the same class differ only in the version directive on
+     * the first line, so each class is written once.
+     */
+
+    final Map<VersionClass, JPSourceText> written =
+      new HashMap<VersionClass, JPSourceText>();
+
+    for (final GVersionType v : versions) {
+      final VersionClass c = GVersionClasses.vertexClass(v);
+      final JPSourceText existing = written.get(c);
+      if (existing != null) {
+        in_sources.put(v, existing.withFirstLine(GWriter.versionDirective(v)));
+      } else {
         final GASTShaderVertex source = this.sources.get(v);
         assert source != null;
 
-        final ByteArrayOutputStream stream = new ByteArrayOutputStream(16384);
-        GWriter.writeVertexShader(stream, source, true);
-        final ByteArrayInputStream input =
-          new ByteArrayInputStream(stream.toByteArray());
-        final List<String> lines = JPSourceLines.fromStream(input);
-        in_sources.put(v, lines);
+        final JPSourceText text =
+          JPSourceText.newText(GWriter.writeVertexShaderLines(source, true));
+        written.put(c, text);
+        in_sources.put(v, text);
       }
-
-      return JPUncompactedVertexShader.newShader(in_meta, in_sources);
-    } catch (final IOException e) {
-      throw new UnreachableCodeException(e);
     }
+
+    return JPUncompactedVertexShader.newShaderFromText(in_meta, in_sources);
   }
 
   /**
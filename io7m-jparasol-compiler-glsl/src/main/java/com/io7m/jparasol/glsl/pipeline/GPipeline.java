@@ -16,8 +16,12 @@
 
 package com.io7m.jparasol.glsl.pipeline;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
@@ -30,18 +34,24 @@ import java.util.concurrent.Future;
 import com.io7m.jequality.annotations.EqualityReference;
 import com.io7m.jlog.LogUsableType;
 import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
 import com.io7m.jparasol.CompilerError;
+import com.io7m.jparasol.Parallel;
 import com.io7m.jparasol.UIError;
 import com.io7m.jparasol.core.GVersionES;
 import com.io7m.jparasol.core.GVersionFull;
 import com.io7m.jparasol.core.GVersionType;
 import com.io7m.jparasol.glsl.GFFIError;
 import com.io7m.jparasol.glsl.GTransform;
+import com.io7m.jparasol.glsl.GVersionClasses;
+import com.io7m.jparasol.glsl.GVersionClasses.VersionClass;
 import com.io7m.jparasol.glsl.GVersionChecker;
 import com.io7m.jparasol.glsl.GVersionCheckerError;
 import com.io7m.jparasol.glsl.GVersionsSupported;
+import com.io7m.jparasol.glsl.ast.GASTShader;
 import com.io7m.jparasol.glsl.ast.GASTShader.GASTShaderFragment;
 import com.io7m.jparasol.glsl.ast.GASTShader.GASTShaderVertex;
+import com.io7m.jparasol.glsl.compactor.GCompactorException;
 import com.io7m.jparasol.typed.Referenced;
 import com.io7m.jparasol.typed.Topology;
 import com.io7m.jparasol.typed.ast.TASTCompilation;
@@ -58,21 +68,105 @@ import com.io7m.junreachable.UnreachableCodeException;
 
 @EqualityReference @SuppressWarnings("synthetic-access") public final class GPipeline
 {
-  private static
-    void
-    cancelAll(
-      final Map<TASTShaderNameFlat, Future<GCompiledVertexShader>> futures_vertex,
-      final Map<TASTShaderNameFlat, Future<GCompiledFragmentShader>> futures_fragment)
+  /**
+   * A unit of work in a streaming transformation: a vertex shader, a
+   * fragment shader, or (if neither shader is present) a program.
+   */
+
+  @EqualityReference private static final class Step
+  {
+    private final @Nullable TASTDShaderFragment fragment;
+    private @Nullable Future<Map<GVersionType, Future<GASTShaderFragment>>> fragment_future;
+    private final TASTShaderNameFlat            name;
+    private final @Nullable TASTDShaderVertex   vertex;
+    private @Nullable Future<Map<GVersionType, Future<GASTShaderVertex>>> vertex_future;
+
+    Step(
+      final TASTShaderNameFlat in_name,
+      final @Nullable TASTDShaderVertex in_vertex,
+      final @Nullable TASTDShaderFragment in_fragment)
+    {
+      this.name = in_name;
+      this.vertex = in_vertex;
+      this.fragment = in_fragment;
+    }
+  }
+
+  private static <T extends GASTShader> void cancelAll(
+    final Map<TASTShaderNameFlat, Future<Map<GVersionType, Future<T>>>> futures)
   {
-    for (final TASTShaderNameFlat name : futures_vertex.keySet()) {
-      final Future<GCompiledVertexShader> f = futures_vertex.get(name);
-      f.cancel(true);
+    for (final TASTShaderNameFlat name : futures.keySet()) {
+      final Future<Map<GVersionType, Future<T>>> f = futures.get(name);
+      assert f != null;
+      GPipeline.cancelShader(f);
+    }
+  }
+
+  private static <T extends GASTShader> void cancelShader(
+    final Future<Map<GVersionType, Future<T>>> f)
+  {
+    if (f.cancel(true) == false) {
+      GPipeline.cancelVersions(f);
+    }
+  }
+
+  private static void cancelSteps(
+    final List<Step> steps)
+  {
+    for (final Step s : steps) {
+      final Future<Map<GVersionType, Future<GASTShaderVertex>>> v =
+        s.vertex_future;
+      if (v != null) {
+        GPipeline.cancelShader(v);
+      }
+      final Future<Map<GVersionType, Future<GASTShaderFragment>>> f =
+        s.fragment_future;
+      if (f != null) {
+        GPipeline.cancelShader(f);
+      }
+    }
+  }
+
+  /**
+   * Cancel the per-version tasks submitted by a shader task that has already
+   * completed.
+   */
+
+  private static <T extends GASTShader> void cancelVersions(
+    final Future<Map<GVersionType, Future<T>>> f)
+  {
+    try {
+      for (final Future<T> v : f.get().values()) {
+        v.cancel(true);
+      }
+    } catch (final InterruptedException e) {
+      throw new UnreachableCodeException(e);
+    } catch (final ExecutionException e) {
+      /**
+       * The shader task failed, and so submitted nothing.
+       */
     }
+  }
+
+  /**
+   * Wait for a shader task, and then for each of the per-version tasks that
+   * it submitted, in the order that they were submitted.
+   */
+
+  private static <T extends GASTShader> Map<GVersionType, T> awaitVersions(
+    final Future<Map<GVersionType, Future<T>>> f)
+    throws CompilerError
+  {
+    final Map<GVersionType, Future<T>> pending =
+      Parallel.await(f, CompilerError.class);
 
-    for (final TASTShaderNameFlat name : futures_fragment.keySet()) {
-      final Future<GCompiledFragmentShader> f = futures_fragment.get(name);
-      f.cancel(true);
+    final Map<GVersionType, T> produced = new HashMap<GVersionType, T>();
+    for (final GVersionType version : pending.keySet()) {
+      final Future<T> v = pending.get(version);
+      assert v != null;
+      produced.put(version, Parallel.await(v, CompilerError.class));
     }
+    return produced;
   }
 
   private static void collectVersions(
@@ -171,6 +265,20 @@ import com.io7m.junreachable.UnreachableCodeException;
     return r;
   }
 
+  /**
+   * @return The supported ES versions, followed by the supported full
+   *         versions, in ascending order.
+   */
+
+  private static List<GVersionType> supportedVersions(
+    final GVersionsSupported supported)
+  {
+    final List<GVersionType> r = new ArrayList<GVersionType>();
+    r.addAll(supported.getESVersions());
+    r.addAll(supported.getFullVersions());
+    return r;
+  }
+
   private static <A> SortedSet<A> setIntersection(
     final Set<A> v_set,
     final Set<A> f_set)
@@ -186,6 +294,137 @@ import com.io7m.junreachable.UnreachableCodeException;
     return p_set;
   }
 
+  /**
+   * Order the work for the given programs: each program's vertex shader and
+   * fragment shader (unless already scheduled by an earlier program),
+   * followed by the program itself. The number of programs that use each
+   * shader is recorded in <code>uses</code>.
+   */
+
+  private static List<Step> streamingSteps(
+    final Map<TASTShaderNameFlat, TASTDShaderProgram> shaders_program,
+    final Map<TASTShaderNameFlat, TASTDShaderVertex> shaders_vertex,
+    final Map<TASTShaderNameFlat, TASTDShaderFragment> shaders_fragment,
+    final Map<TASTShaderNameFlat, Integer> uses)
+  {
+    final List<Step> steps = new ArrayList<Step>();
+    for (final TASTShaderNameFlat name : shaders_program.keySet()) {
+      assert name != null;
+      final TASTDShaderProgram program = shaders_program.get(name);
+      assert program != null;
+
+      final TASTShaderNameFlat v_name =
+        TASTShaderNameFlat.fromShaderName(program.getVertexShader());
+      final TASTShaderNameFlat f_name =
+        TASTShaderNameFlat.fromShaderName(program.getFragmentShader());
+
+      if (GPipeline.useAdd(uses, v_name)) {
+        steps.add(new Step(v_name, shaders_vertex.get(v_name), null));
+      }
+      if (GPipeline.useAdd(uses, f_name)) {
+        steps.add(new Step(f_name, null, shaders_fragment.get(f_name)));
+      }
+      steps.add(new Step(name, null, null));
+    }
+    return steps;
+  }
+
+  /**
+   * @return <code>true</code> iff this is the first use of <code>name</code>
+   */
+
+  private static boolean useAdd(
+    final Map<TASTShaderNameFlat, Integer> uses,
+    final TASTShaderNameFlat name)
+  {
+    final Integer count = uses.get(name);
+    if (count == null) {
+      uses.put(name, Integer.valueOf(1));
+      return true;
+    }
+    uses.put(name, Integer.valueOf(count.intValue() + 1));
+    return false;
+  }
+
+  /**
+   * @return <code>true</code> iff this was the last use of <code>name</code>
+   */
+
+  private static boolean useRemove(
+    final Map<TASTShaderNameFlat, Integer> uses,
+    final TASTShaderNameFlat name)
+  {
+    final Integer count = uses.get(name);
+    assert count != null;
+    if (count.intValue() == 1) {
+      uses.remove(name);
+      return true;
+    }
+    uses.put(name, Integer.valueOf(count.intValue() - 1));
+    return false;
+  }
+
+  /**
+   * Wait for the given step, and pass the result to <code>listener</code>.
+   * Shaders are retained in <code>done_vertex</code> and
+   * <code>done_fragment</code> until the last program that uses them has
+   * been delivered.
+   */
+
+  private static void deliverStep(
+    final Step s,
+    final Map<TASTShaderNameFlat, TASTDShaderProgram> shaders_program,
+    final Map<TASTShaderNameFlat, GCompiledVertexShader> done_vertex,
+    final Map<TASTShaderNameFlat, GCompiledFragmentShader> done_fragment,
+    final Map<TASTShaderNameFlat, Integer> uses,
+    final GPipelineListenerType listener)
+    throws CompilerError,
+      IOException,
+      GCompactorException
+  {
+    final Future<Map<GVersionType, Future<GASTShaderVertex>>> v =
+      s.vertex_future;
+    final Future<Map<GVersionType, Future<GASTShaderFragment>>> f =
+      s.fragment_future;
+
+    if (v != null) {
+      final GCompiledVertexShader r =
+        GCompiledVertexShader.newShader(s.name, GPipeline.awaitVersions(v));
+      s.vertex_future = null;
+      done_vertex.put(s.name, r);
+      listener.onVertexShader(r);
+      return;
+    }
+
+    if (f != null) {
+      final GCompiledFragmentShader r =
+        GCompiledFragmentShader.newShader(s.name, GPipeline.awaitVersions(f));
+      s.fragment_future = null;
+      done_fragment.put(s.name, r);
+      listener.onFragmentShader(r);
+      return;
+    }
+
+    final TASTDShaderProgram program = shaders_program.get(s.name);
+    assert program != null;
+    listener.onProgram(GPipeline.processProgram(
+      shaders_program,
+      done_vertex,
+      done_fragment,
+      s.name));
+
+    final TASTShaderNameFlat v_name =
+      TASTShaderNameFlat.fromShaderName(program.getVertexShader());
+    final TASTShaderNameFlat f_name =
+      TASTShaderNameFlat.fromShaderName(program.getFragmentShader());
+    if (GPipeline.useRemove(uses, v_name)) {
+      done_vertex.remove(v_name);
+    }
+    if (GPipeline.useRemove(uses, f_name)) {
+      done_fragment.remove(f_name);
+    }
+  }
+
   private final GVersionChecker checker;
   private final ExecutorService exec;
   private final LogUsableType   log;
@@ -248,13 +487,22 @@ import com.io7m.junreachable.UnreachableCodeException;
     return this.exec;
   }
 
-  private GCompiledFragmentShader makeFragmentShader(
+  /**
+   * Determine the supported versions of the given fragment shader, and then
+   * submit one task per class of equivalent versions to transform the
+   * shader. Each version in a class shares the task of the first version in
+   * that class. The tasks are submitted rather than waited upon, so that a
+   * shader task never blocks an executor thread.
+   *
+   * @see GVersionClasses
+   */
+
+  private Map<GVersionType, Future<GASTShaderFragment>> submitFragmentVersions(
     final TASTShaderNameFlat name,
     final TASTDShaderFragment f,
     final SortedSet<GVersionES> required_versions_es,
     final SortedSet<GVersionFull> required_versions_full)
-    throws GFFIError,
-      GVersionCheckerError
+    throws GVersionCheckerError
   {
     final Referenced referenced =
       Referenced.fromShader(this.typed, name, this.log);
@@ -269,41 +517,54 @@ import com.io7m.junreachable.UnreachableCodeException;
         required_versions_full,
         required_versions_es);
 
-    final Map<GVersionType, GASTShaderFragment> produced =
-      new HashMap<GVersionType, GASTShaderFragment>();
+    final Map<GVersionType, Future<GASTShaderFragment>> produced =
+      new LinkedHashMap<GVersionType, Future<GASTShaderFragment>>();
 
-    for (final GVersionES version : supported.getESVersions()) {
-      assert version != null;
-      assert produced.containsKey(version) == false;
-      produced.put(version, GTransform.transformFragment(
-        this.typed,
-        topo,
-        name,
-        version,
-        this.log));
-    }
+    final Map<VersionClass, Future<GASTShaderFragment>> classes =
+      new HashMap<VersionClass, Future<GASTShaderFragment>>();
 
-    for (final GVersionFull version : supported.getFullVersions()) {
+    for (final GVersionType version : GPipeline.supportedVersions(supported)) {
       assert version != null;
       assert produced.containsKey(version) == false;
-      produced.put(version, GTransform.transformFragment(
-        this.typed,
-        topo,
-        name,
-        version,
-        this.log));
+
+      final VersionClass c = GVersionClasses.fragmentClass(version);
+      Future<GASTShaderFragment> future = classes.get(c);
+      if (future == null) {
+        future = this.exec.submit(new Callable<GASTShaderFragment>() {
+          @Override public GASTShaderFragment call()
+            throws GFFIError
+          {
+            return GTransform.transformFragment(
+              GPipeline.this.typed,
+              topo,
+              name,
+              version,
+              GPipeline.this.log);
+          }
+        });
+        classes.put(c, future);
+      }
+      produced.put(version, future);
     }
 
-    return GCompiledFragmentShader.newShader(name, produced);
+    return produced;
   }
 
-  private GCompiledVertexShader makeVertexShader(
+  /**
+   * Determine the supported versions of the given vertex shader, and then
+   * submit one task per class of equivalent versions to transform the
+   * shader.
+   *
+   * @see #submitFragmentVersions(TASTShaderNameFlat, TASTDShaderFragment,
+   *      SortedSet, SortedSet)
+   */
+
+  private Map<GVersionType, Future<GASTShaderVertex>> submitVertexVersions(
     final TASTShaderNameFlat name,
     final TASTDShaderVertex v,
     final SortedSet<GVersionES> required_versions_es,
     final SortedSet<GVersionFull> required_versions_full)
-    throws GFFIError,
-      GVersionCheckerError
+    throws GVersionCheckerError
   {
     final Referenced referenced =
       Referenced.fromShader(this.typed, name, this.log);
@@ -318,34 +579,37 @@ import com.io7m.junreachable.UnreachableCodeException;
         required_versions_full,
         required_versions_es);
 
-    final Map<GVersionType, GASTShaderVertex> produced =
-      new HashMap<GVersionType, GASTShaderVertex>();
+    final Map<GVersionType, Future<GASTShaderVertex>> produced =
+      new LinkedHashMap<GVersionType, Future<GASTShaderVertex>>();
 
-    for (final GVersionES version : supported.getESVersions()) {
-      assert version != null;
-      assert produced.containsKey(version) == false;
-      produced
-        .put(version, GTransform.transformVertex(
-          this.typed,
-          topo,
-          name,
-          version,
-          this.log));
-    }
+    final Map<VersionClass, Future<GASTShaderVertex>> classes =
+      new HashMap<VersionClass, Future<GASTShaderVertex>>();
 
-    for (final GVersionFull version : supported.getFullVersions()) {
+    for (final GVersionType version : GPipeline.supportedVersions(supported)) {
       assert version != null;
       assert produced.containsKey(version) == false;
-      produced
-        .put(version, GTransform.transformVertex(
-          this.typed,
-          topo,
-          name,
-          version,
-          this.log));
+
+      final VersionClass c = GVersionClasses.vertexClass(version);
+      Future<GASTShaderVertex> future = classes.get(c);
+      if (future == null) {
+        future = this.exec.submit(new Callable<GASTShaderVertex>() {
+          @Override public GASTShaderVertex call()
+            throws GFFIError
+          {
+            return GTransform.transformVertex(
+              GPipeline.this.typed,
+              topo,
+              name,
+              version,
+              GPipeline.this.log);
+          }
+        });
+        classes.put(c, future);
+      }
+      produced.put(version, future);
     }
 
-    return GCompiledVertexShader.newShader(name, produced);
+    return produced;
   }
 
   private GCompilation processAll(
@@ -356,10 +620,10 @@ import com.io7m.junreachable.UnreachableCodeException;
     final Map<TASTShaderNameFlat, TASTDShaderProgram> shaders_program)
     throws CompilerError
   {
-    final Map<TASTShaderNameFlat, Future<GCompiledVertexShader>> futures_vertex =
-      new HashMap<TASTShaderNameFlat, Future<GCompiledVertexShader>>();
-    final Map<TASTShaderNameFlat, Future<GCompiledFragmentShader>> futures_fragment =
-      new HashMap<TASTShaderNameFlat, Future<GCompiledFragmentShader>>();
+    final Map<TASTShaderNameFlat, Future<Map<GVersionType, Future<GASTShaderVertex>>>> futures_vertex =
+      new HashMap<TASTShaderNameFlat, Future<Map<GVersionType, Future<GASTShaderVertex>>>>();
+    final Map<TASTShaderNameFlat, Future<Map<GVersionType, Future<GASTShaderFragment>>>> futures_fragment =
+      new HashMap<TASTShaderNameFlat, Future<Map<GVersionType, Future<GASTShaderFragment>>>>();
 
     try {
       this.submitShadersVertex(
@@ -379,37 +643,30 @@ import com.io7m.junreachable.UnreachableCodeException;
       final Map<TASTShaderNameFlat, GCompiledFragmentShader> results_fragment =
         new HashMap<TASTShaderNameFlat, GCompiledFragmentShader>();
 
+      /**
+       * Each shader is assembled once all of its versions have been
+       * transformed. Shaders and versions are waited upon in a fixed order,
+       * so that the error reported (if any) does not depend on scheduling.
+       */
+
       for (final TASTShaderNameFlat name : futures_vertex.keySet()) {
         assert name != null;
         assert futures_vertex.containsKey(name);
-        final Future<GCompiledVertexShader> future = futures_vertex.get(name);
-
-        try {
-          final GCompiledVertexShader r = future.get();
-          results_vertex.put(name, r);
-        } catch (final InterruptedException e) {
-          throw new UnreachableCodeException(e);
-        } catch (final ExecutionException e) {
-          final CompilerError x = (CompilerError) e.getCause();
-          throw x;
-        }
+        final Map<GVersionType, GASTShaderVertex> produced =
+          GPipeline.awaitVersions(futures_vertex.get(name));
+        results_vertex.put(name, GCompiledVertexShader.newShader(
+          name,
+          produced));
       }
 
       for (final TASTShaderNameFlat name : futures_fragment.keySet()) {
         assert name != null;
         assert futures_fragment.containsKey(name);
-        final Future<GCompiledFragmentShader> future =
-          futures_fragment.get(name);
-
-        try {
-          final GCompiledFragmentShader r = future.get();
-          results_fragment.put(name, r);
-        } catch (final InterruptedException e) {
-          throw new UnreachableCodeException(e);
-        } catch (final ExecutionException e) {
-          final CompilerError x = (CompilerError) e.getCause();
-          throw x;
-        }
+        final Map<GVersionType, GASTShaderFragment> produced =
+          GPipeline.awaitVersions(futures_fragment.get(name));
+        results_fragment.put(name, GCompiledFragmentShader.newShader(
+          name,
+          produced));
       }
 
       final Map<TASTShaderNameFlat, GCompiledProgram> results_program =
@@ -436,7 +693,8 @@ import com.io7m.junreachable.UnreachableCodeException;
     } catch (final CompilerError e) {
       assert futures_vertex != null;
       assert futures_fragment != null;
-      GPipeline.cancelAll(futures_vertex, futures_fragment);
+      GPipeline.cancelAll(futures_vertex);
+      GPipeline.cancelAll(futures_fragment);
       throw e;
     }
   }
@@ -447,60 +705,82 @@ import com.io7m.junreachable.UnreachableCodeException;
       final SortedSet<GVersionES> required_versions_es,
       final SortedSet<GVersionFull> required_versions_full,
       final Map<TASTShaderNameFlat, TASTDShaderFragment> shaders_fragment,
-      final Map<TASTShaderNameFlat, Future<GCompiledFragmentShader>> futures_fragment)
+      final Map<TASTShaderNameFlat, Future<Map<GVersionType, Future<GASTShaderFragment>>>> futures_fragment)
   {
     for (final TASTShaderNameFlat name : shaders_fragment.keySet()) {
       assert name != null;
       final TASTDShaderFragment f = shaders_fragment.get(name);
       assert f != null;
 
-      final Future<GCompiledFragmentShader> future =
-        this.exec.submit(new Callable<GCompiledFragmentShader>() {
-          @Override public GCompiledFragmentShader call()
-            throws Exception
-          {
-            return GPipeline.this.makeFragmentShader(
-              name,
-              f,
-              required_versions_es,
-              required_versions_full);
-          }
-        });
-
-      futures_fragment.put(name, future);
+      futures_fragment.put(name, this.submitShaderFragment(
+        name,
+        f,
+        required_versions_es,
+        required_versions_full));
     }
   }
 
+  private Future<Map<GVersionType, Future<GASTShaderFragment>>> submitShaderFragment(
+    final TASTShaderNameFlat name,
+    final TASTDShaderFragment f,
+    final SortedSet<GVersionES> required_versions_es,
+    final SortedSet<GVersionFull> required_versions_full)
+  {
+    return this.exec
+      .submit(new Callable<Map<GVersionType, Future<GASTShaderFragment>>>() {
+        @Override public Map<GVersionType, Future<GASTShaderFragment>> call()
+          throws Exception
+        {
+          return GPipeline.this.submitFragmentVersions(
+            name,
+            f,
+            required_versions_es,
+            required_versions_full);
+        }
+      });
+  }
+
   private
     void
     submitShadersVertex(
       final SortedSet<GVersionES> required_versions_es,
       final SortedSet<GVersionFull> required_versions_full,
       final Map<TASTShaderNameFlat, TASTDShaderVertex> shaders_vertex,
-      final Map<TASTShaderNameFlat, Future<GCompiledVertexShader>> futures_vertex)
+      final Map<TASTShaderNameFlat, Future<Map<GVersionType, Future<GASTShaderVertex>>>> futures_vertex)
   {
     for (final TASTShaderNameFlat name : shaders_vertex.keySet()) {
       assert name != null;
       final TASTDShaderVertex v = shaders_vertex.get(name);
       assert v != null;
 
-      final Future<GCompiledVertexShader> future =
-        this.exec.submit(new Callable<GCompiledVertexShader>() {
-          @Override public GCompiledVertexShader call()
-            throws Exception
-          {
-            return GPipeline.this.makeVertexShader(
-              name,
-              v,
-              required_versions_es,
-              required_versions_full);
-          }
-        });
-
-      futures_vertex.put(name, future);
+      futures_vertex.put(name, this.submitShaderVertex(
+        name,
+        v,
+        required_versions_es,
+        required_versions_full));
     }
   }
 
+  private Future<Map<GVersionType, Future<GASTShaderVertex>>> submitShaderVertex(
+    final TASTShaderNameFlat name,
+    final TASTDShaderVertex v,
+    final SortedSet<GVersionES> required_versions_es,
+    final SortedSet<GVersionFull> required_versions_full)
+  {
+    return this.exec
+      .submit(new Callable<Map<GVersionType, Future<GASTShaderVertex>>>() {
+        @Override public Map<GVersionType, Future<GASTShaderVertex>> call()
+          throws Exception
+        {
+          return GPipeline.this.submitVertexVersions(
+            name,
+            v,
+            required_versions_es,
+            required_versions_full);
+        }
+      });
+  }
+
   /**
    * Transform the given set of programs to GLSL, assuming the given required
    * versions.
@@ -547,4 +827,133 @@ import com.io7m.junreachable.UnreachableCodeException;
       shaders_fragment,
       shaders_program);
   }
+
+  private void submitStep(
+    final Step s,
+    final SortedSet<GVersionES> required_versions_es,
+    final SortedSet<GVersionFull> required_versions_full)
+  {
+    final TASTDShaderVertex v = s.vertex;
+    final TASTDShaderFragment f = s.fragment;
+
+    if (v != null) {
+      s.vertex_future =
+        this.submitShaderVertex(
+          s.name,
+          v,
+          required_versions_es,
+          required_versions_full);
+    } else if (f != null) {
+      s.fragment_future =
+        this.submitShaderFragment(
+          s.name,
+          f,
+          required_versions_es,
+          required_versions_full);
+    }
+  }
+
+  /**
+   * <p>
+   * Transform the given set of programs to GLSL, assuming the given required
+   * versions, passing each shader and program to <code>listener</code> as
+   * soon as it is available, rather than producing a complete compilation.
+   * </p>
+   * <p>
+   * Programs are processed in the iteration order of
+   * <code>program_names</code>, and results are delivered in that order
+   * (see {@link GPipelineListenerType}), so that the output of a
+   * serializing listener does not depend on scheduling. At most
+   * <code>capacity</code> shaders and programs are in progress or awaiting
+   * delivery at any one time, and a shader is retained only until the last
+   * program that uses it has been delivered.
+   * </p>
+   *
+   * @param program_names
+   *          The set of program names.
+   * @param required_versions_es
+   *          The required GLSL ES versions.
+   * @param required_versions_full
+   *          The required GLSL versions.
+   * @param capacity
+   *          The maximum number of shaders and programs in progress.
+   * @param listener
+   *          The listener that receives results.
+   * @throws CompilerError
+   *           If an error occurs, the specific subtype of which gives
+   *           details.
+   * @throws IOException
+   *           If the listener raises <code>IOException</code>.
+   * @throws GCompactorException
+   *           If the listener raises <code>GCompactorException</code>.
+   */
+
+  public void transformProgramsStreaming(
+    final Set<TASTShaderNameFlat> program_names,
+    final SortedSet<GVersionES> required_versions_es,
+    final SortedSet<GVersionFull> required_versions_full,
+    final int capacity,
+    final GPipelineListenerType listener)
+    throws CompilerError,
+      IOException,
+      GCompactorException
+  {
+    NullCheck.notNullAll(program_names, "Program names");
+    NullCheck.notNullAll(required_versions_es, "Required ES versions");
+    NullCheck.notNullAll(required_versions_full, "Required full versions");
+    NullCheck.notNull(listener, "Listener");
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+
+    final Map<TASTShaderNameFlat, TASTDShaderProgram> shaders_program =
+      new LinkedHashMap<TASTShaderNameFlat, TASTDShaderProgram>();
+    final Map<TASTShaderNameFlat, TASTDShaderVertex> shaders_vertex =
+      new HashMap<TASTShaderNameFlat, TASTDShaderVertex>();
+    final Map<TASTShaderNameFlat, TASTDShaderFragment> shaders_fragment =
+      new HashMap<TASTShaderNameFlat, TASTDShaderFragment>();
+
+    this.collectShaders(
+      program_names,
+      shaders_program,
+      shaders_vertex,
+      shaders_fragment);
+
+    final Map<TASTShaderNameFlat, Integer> uses =
+      new HashMap<TASTShaderNameFlat, Integer>();
+    final List<Step> steps =
+      GPipeline.streamingSteps(
+        shaders_program,
+        shaders_vertex,
+        shaders_fragment,
+        uses);
+
+    final Map<TASTShaderNameFlat, GCompiledVertexShader> done_vertex =
+      new HashMap<TASTShaderNameFlat, GCompiledVertexShader>();
+    final Map<TASTShaderNameFlat, GCompiledFragmentShader> done_fragment =
+      new HashMap<TASTShaderNameFlat, GCompiledFragmentShader>();
+
+    try {
+      int submitted = 0;
+      for (int index = 0; index < steps.size(); ++index) {
+        while ((submitted < steps.size()) && ((submitted - index) < capacity)) {
+          this.submitStep(
+            steps.get(submitted),
+            required_versions_es,
+            required_versions_full);
+          submitted = submitted + 1;
+        }
+
+        GPipeline.deliverStep(
+          steps.get(index),
+          shaders_program,
+          done_vertex,
+          done_fragment,
+          uses,
+          listener);
+      }
+    } finally {
+      GPipeline.cancelSteps(steps);
+    }
+  }
 }
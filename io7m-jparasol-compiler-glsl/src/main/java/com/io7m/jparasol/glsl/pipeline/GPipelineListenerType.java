@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.glsl.pipeline;
+
+import java.io.IOException;
+
+import com.io7m.jparasol.glsl.compactor.GCompactorException;
+
+/**
+ * <p>
+ * The type of listeners that receive compiled shaders from a pipeline as
+ * soon as each is available.
+ * </p>
+ * <p>
+ * All methods are called on the thread that started the transformation,
+ * one at a time, in a fixed order: each program is delivered after its
+ * vertex and fragment shaders, and each shader is delivered exactly once,
+ * before the first program that uses it.
+ * </p>
+ *
+ * @see GPipeline#transformProgramsStreaming(java.util.Set,
+ *      java.util.SortedSet, java.util.SortedSet, int, GPipelineListenerType)
+ */
+
+public interface GPipelineListenerType
+{
+  /**
+   * A fragment shader has been compiled.
+   *
+   * @param f
+   *          The shader.
+   *
+   * @throws IOException
+   *           If an I/O error occurs.
+   * @throws GCompactorException
+   *           If an error occurs during compaction.
+   */
+
+  void onFragmentShader(
+    final GCompiledFragmentShader f)
+    throws IOException,
+      GCompactorException;
+
+  /**
+   * A program has been compiled. Both of its shaders have already been
+   * delivered.
+   *
+   * @param p
+   *          The program.
+   *
+   * @throws IOException
+   *           If an I/O error occurs.
+   * @throws GCompactorException
+   *           If an error occurs during compaction.
+   */
+
+  void onProgram(
+    final GCompiledProgram p)
+    throws IOException,
+      GCompactorException;
+
+  /**
+   * A vertex shader has been compiled.
+   *
+   * @param v
+   *          The shader.
+   *
+   * @throws IOException
+   *           If an I/O error occurs.
+   * @throws GCompactorException
+   *           If an error occurs during compaction.
+   */
+
+  void onVertexShader(
+    final GCompiledVertexShader v)
+    throws IOException,
+      GCompactorException;
+}
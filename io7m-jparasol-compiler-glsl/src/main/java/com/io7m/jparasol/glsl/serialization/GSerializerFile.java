@@ -17,12 +17,11 @@
 package com.io7m.jparasol.glsl.serialization;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.PrintWriter;
-import java.util.List;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.Map;
 
 import com.io7m.jequality.annotations.EqualityReference;
@@ -38,6 +37,7 @@ import com.io7m.jparasol.core.GVersionVisitorType;
 import com.io7m.jparasol.core.JPCompactedFragmentShader;
 import com.io7m.jparasol.core.JPCompactedVertexShader;
 import com.io7m.jparasol.core.JPHashedLines;
+import com.io7m.jparasol.core.JPSourceText;
 import com.io7m.jparasol.core.JPUncompactedFragmentShader;
 import com.io7m.jparasol.core.JPUncompactedProgramShaderMeta;
 import com.io7m.jparasol.core.JPUncompactedVertexShader;
@@ -83,7 +83,38 @@ import com.io7m.junreachable.UnreachableCodeException;
     final File in_base,
     final boolean in_replace)
   {
-    return new GSerializerFile(in_meta_serial, in_base, in_replace);
+    return new GSerializerFile(
+      in_meta_serial,
+      in_base,
+      in_replace,
+      GSerializerSourceLayout.SOURCES_PER_SHADER);
+  }
+
+  /**
+   * Construct a new serializer that will write shaders to the given base
+   * directory, arranging the sources of compacted shaders according to
+   * <code>in_layout</code>. Shared sources that already exist in the base
+   * directory are not written again, regardless of <code>in_replace</code>.
+   *
+   * @param in_meta_serial
+   *          The metadata serializer.
+   * @param in_base
+   *          The base directory.
+   * @param in_replace
+   *          Whether or not writing should replace existing files.
+   * @param in_layout
+   *          The source layout.
+   *
+   * @return A new serializer.
+   */
+
+  public static GSerializerType newSerializerWithLayout(
+    final JPMetaSerializerType in_meta_serial,
+    final File in_base,
+    final boolean in_replace,
+    final GSerializerSourceLayout in_layout)
+  {
+    return new GSerializerFile(in_meta_serial, in_base, in_replace, in_layout);
   }
 
   private static String sourceNameForHash(
@@ -121,47 +152,37 @@ import com.io7m.junreachable.UnreachableCodeException;
       });
   }
 
-  private static void writeCompactedSources(
-    final File out_dir,
-    final Map<String, JPHashedLines> by_hash,
-    final String suffix)
-    throws FileNotFoundException
-  {
-    for (final String version : by_hash.keySet()) {
-      assert version != null;
-      final JPHashedLines source = by_hash.get(version);
-      assert source != null;
-      final String name = GSerializerFile.sourceNameForHash(version, suffix);
-      final File file = new File(out_dir, name);
-      GSerializerFile.writeSourcesOnce(file, source.getLines());
-    }
-  }
-
   private static void writeSourcesOnce(
     final File file,
-    final List<String> sources)
-    throws FileNotFoundException
+    final JPSourceText text)
+    throws IOException
   {
-    final PrintWriter writer = new PrintWriter(file);
+    /**
+     * Write the encoded text as-is: compacted sources are named by the hash
+     * of these exact bytes.
+     */
+
+    final FileOutputStream out = new FileOutputStream(file);
     try {
-      for (final String l : sources) {
-        writer.println(l);
+      final FileChannel channel = out.getChannel();
+      final ByteBuffer buffer = text.getBuffer();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
       }
     } finally {
-      writer.flush();
-      writer.close();
+      out.close();
     }
   }
 
   private static void writeUncompactedSources(
     final File out_dir,
-    final Map<GVersionType, List<String>> map,
+    final Map<GVersionType, JPSourceText> map,
     final String suffix)
-    throws FileNotFoundException
+    throws IOException
   {
     for (final GVersionType version : map.keySet()) {
       assert version != null;
-      final List<String> source = map.get(version);
+      final JPSourceText source = map.get(version);
       assert source != null;
       final String name =
         GSerializerFile.sourceNameForVersion(version, suffix);
@@ -170,18 +191,21 @@ import com.io7m.junreachable.UnreachableCodeException;
     }
   }
 
-  private final File                 base;
-  private final boolean              replace;
-  private final JPMetaSerializerType serial;
+  private final File                    base;
+  private final GSerializerSourceLayout layout;
+  private final boolean                 replace;
+  private final JPMetaSerializerType    serial;
 
   private GSerializerFile(
     final JPMetaSerializerType in_meta_serial,
     final File in_base,
-    final boolean in_replace)
+    final boolean in_replace,
+    final GSerializerSourceLayout in_layout)
   {
     this.serial = NullCheck.notNull(in_meta_serial, "Meta serializer");
     this.base = NullCheck.notNull(in_base, "Base directory");
     this.replace = in_replace;
+    this.layout = NullCheck.notNull(in_layout, "Layout");
   }
 
   @Override public void close()
@@ -212,10 +236,7 @@ import com.io7m.junreachable.UnreachableCodeException;
       }
     }
 
-    GSerializerFile.writeCompactedSources(
-      out_dir,
-      shader.getSourcesByHash(),
-      "f");
+    this.writeCompactedSources(out_dir, shader.getSourcesByHash(), "f");
   }
 
   @Override public void serializeCompactedVertexShader(
@@ -240,10 +261,7 @@ import com.io7m.junreachable.UnreachableCodeException;
       }
     }
 
-    GSerializerFile.writeCompactedSources(
-      out_dir,
-      shader.getSourcesByHash(),
-      "v");
+    this.writeCompactedSources(out_dir, shader.getSourcesByHash(), "v");
   }
 
   @Override public void serializeUncompactedFragmentShader(
@@ -271,7 +289,7 @@ import com.io7m.junreachable.UnreachableCodeException;
     }
 
     GSerializerFile
-      .writeUncompactedSources(out_dir, shader.getSources(), "f");
+      .writeUncompactedSources(out_dir, shader.getSourceTexts(), "f");
   }
 
   @Override public void serializeUncompactedProgramShader(
@@ -335,6 +353,49 @@ import com.io7m.junreachable.UnreachableCodeException;
     }
 
     GSerializerFile
-      .writeUncompactedSources(out_dir, shader.getSources(), "v");
+      .writeUncompactedSources(out_dir, shader.getSourceTexts(), "v");
+  }
+
+  private void writeCompactedSources(
+    final File out_dir,
+    final Map<String, JPHashedLines> by_hash,
+    final String suffix)
+    throws IOException
+  {
+    for (final String version : by_hash.keySet()) {
+      assert version != null;
+      final JPHashedLines source = by_hash.get(version);
+      assert source != null;
+      final String name = GSerializerFile.sourceNameForHash(version, suffix);
+
+      switch (this.layout) {
+        case SOURCES_PER_SHADER:
+        {
+          final File file = new File(out_dir, name);
+          GSerializerFile.writeSourcesOnce(file, source.getText());
+          break;
+        }
+        case SOURCES_SHARED:
+        {
+          final File pool =
+            new File(this.base, GSerializerSourceLayout.SHARED_DIRECTORY);
+          pool.mkdirs();
+          if (pool.isDirectory() == false) {
+            throw new IOException(String.format("Not a directory: %s", pool));
+          }
+
+          /**
+           * Sources are named by the hash of their content, so a file that
+           * already exists is identical to this one.
+           */
+
+          final File file = new File(pool, name);
+          if (file.exists() == false) {
+            GSerializerFile.writeSourcesOnce(file, source.getText());
+          }
+          break;
+        }
+      }
+    }
   }
 }
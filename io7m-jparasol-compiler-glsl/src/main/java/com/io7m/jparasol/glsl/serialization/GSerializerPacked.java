@@ -0,0 +1,166 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.glsl.serialization;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jfunctional.None;
+import com.io7m.jfunctional.OptionType;
+import com.io7m.jfunctional.OptionVisitorType;
+import com.io7m.jfunctional.Some;
+import com.io7m.jlog.LogType;
+import com.io7m.jlog.LogUsableType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jparasol.core.JPCompactedFragmentShader;
+import com.io7m.jparasol.core.JPCompactedVertexShader;
+import com.io7m.jparasol.core.JPUncompactedFragmentShader;
+import com.io7m.jparasol.core.JPUncompactedProgramShaderMeta;
+import com.io7m.jparasol.core.JPUncompactedVertexShader;
+import com.io7m.jparasol.metaserializer.JPMetaSerializerType;
+import com.io7m.jparasol.packed.JPPackedCompression;
+import com.io7m.jparasol.packed.JPPackedWriter;
+
+/**
+ * A serializer that writes shaders into a single packed archive (see
+ * {@link com.io7m.jparasol.packed}). The archive is written when the
+ * serializer is closed.
+ */
+
+@EqualityReference public final class GSerializerPacked implements
+  GSerializerType
+{
+  /**
+   * Construct a new serializer that will write a packed archive to the
+   * given stream.
+   *
+   * @param in_meta_serial
+   *          The metadata serializer.
+   * @param in_stream
+   *          The output stream.
+   * @param in_compression
+   *          The compression method used for sources.
+   * @param in_log
+   *          A log interface.
+   *
+   * @return A new serializer.
+   */
+
+  public static GSerializerType newSerializer(
+    final JPMetaSerializerType in_meta_serial,
+    final OutputStream in_stream,
+    final JPPackedCompression in_compression,
+    final LogUsableType in_log)
+  {
+    return new GSerializerPacked(
+      in_meta_serial,
+      in_stream,
+      in_compression,
+      in_log);
+  }
+
+  private final LogType        log;
+  private final OutputStream   stream;
+  private final JPPackedWriter writer;
+
+  private GSerializerPacked(
+    final JPMetaSerializerType in_meta_serial,
+    final OutputStream in_stream,
+    final JPPackedCompression in_compression,
+    final LogUsableType in_log)
+  {
+    this.writer = JPPackedWriter.newWriter(in_meta_serial, in_compression);
+    this.stream = NullCheck.notNull(in_stream, "Stream");
+    this.log = NullCheck.notNull(in_log, "Log").with("serializer-packed");
+  }
+
+  private void announceShader(
+    final String name)
+  {
+    final String r = String.format("shader %s", name);
+    assert r != null;
+    this.log.debug(r);
+  }
+
+  @Override public void close()
+    throws IOException
+  {
+    this.log.debug("writing archive");
+    try {
+      this.writer.write(this.stream);
+    } finally {
+      this.stream.close();
+    }
+  }
+
+  @Override public void serializeCompactedFragmentShader(
+    final JPCompactedFragmentShader shader)
+    throws IOException
+  {
+    this.announceShader(shader.getName());
+    this.writer.putCompactedFragmentShader(shader);
+  }
+
+  @Override public void serializeCompactedVertexShader(
+    final JPCompactedVertexShader shader)
+    throws IOException
+  {
+    this.announceShader(shader.getName());
+    this.writer.putCompactedVertexShader(shader);
+  }
+
+  @Override public void serializeUncompactedFragmentShader(
+    final JPUncompactedFragmentShader shader)
+    throws IOException
+  {
+    this.announceShader(shader.getName());
+    this.writer.putUncompactedFragmentShader(shader);
+  }
+
+  @Override public void serializeUncompactedProgramShader(
+    final JPUncompactedProgramShaderMeta meta,
+    final OptionType<String> name)
+    throws IOException
+  {
+    final String actual =
+      name.accept(new OptionVisitorType<String, String>() {
+        @Override public String none(
+          final None<String> n)
+        {
+          return meta.getName();
+        }
+
+        @Override public String some(
+          final Some<String> s)
+        {
+          return s.get();
+        }
+      });
+
+    this.announceShader(actual);
+    this.writer.putUncompactedProgramShader(meta, actual);
+  }
+
+  @Override public void serializeUncompactedVertexShader(
+    final JPUncompactedVertexShader shader)
+    throws IOException
+  {
+    this.announceShader(shader.getName());
+    this.writer.putUncompactedVertexShader(shader);
+  }
+}
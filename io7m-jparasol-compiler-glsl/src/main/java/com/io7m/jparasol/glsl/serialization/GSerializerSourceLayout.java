@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.glsl.serialization;
+
+/**
+ * The ways in which a serializer may arrange the source files of compacted
+ * shaders.
+ */
+
+public enum GSerializerSourceLayout
+{
+  /**
+   * Sources are written into each shader's own directory, alongside the
+   * shader's metadata. A source shared by several shaders is written once
+   * per shader.
+   */
+
+  SOURCES_PER_SHADER,
+
+  /**
+   * Sources are written once into a pool directory named
+   * {@link #SHARED_DIRECTORY}, at the same level as the shader directories,
+   * and are shared by every shader in the output. The file named by
+   * {@link com.io7m.jparasol.core.JPCompiledShaderMetaType#getSourceCodeFilename(com.io7m.jparasol.core.GVersionType)}
+   * for a compacted shader is found in the pool rather than in the shader's
+   * directory. Shader names always contain at least one <code>'.'</code>,
+   * so the pool cannot collide with a shader directory.
+   */
+
+  SOURCES_SHARED;
+
+  /**
+   * The name of the directory that holds shared sources.
+   */
+
+  public static final String SHARED_DIRECTORY = "sources";
+}
@@ -16,12 +16,17 @@
 
 package com.io7m.jparasol.glsl.serialization;
 
-import java.io.FileNotFoundException;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.io.UnsupportedEncodingException;
-import java.util.List;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -33,6 +38,7 @@ import com.io7m.jfunctional.Some;
 import com.io7m.jlog.LogType;
 import com.io7m.jlog.LogUsableType;
 import com.io7m.jnull.NullCheck;
+import com.io7m.jparasol.Parallel;
 import com.io7m.jparasol.core.GVersionES;
 import com.io7m.jparasol.core.GVersionFull;
 import com.io7m.jparasol.core.GVersionType;
@@ -42,6 +48,7 @@ import com.io7m.jparasol.core.JPCompactedFragmentShaderMeta;
 import com.io7m.jparasol.core.JPCompactedVertexShader;
 import com.io7m.jparasol.core.JPCompactedVertexShaderMeta;
 import com.io7m.jparasol.core.JPHashedLines;
+import com.io7m.jparasol.core.JPSourceText;
 import com.io7m.jparasol.core.JPUncompactedFragmentShader;
 import com.io7m.jparasol.core.JPUncompactedFragmentShaderMeta;
 import com.io7m.jparasol.core.JPUncompactedProgramShaderMeta;
@@ -51,12 +58,188 @@ import com.io7m.jparasol.metaserializer.JPMetaSerializerType;
 import com.io7m.junreachable.UnreachableCodeException;
 
 /**
+ * <p>
  * A serializer that writes shaders into a zip archive.
+ * </p>
+ * <p>
+ * Serializers constructed with
+ * {@link #newParallelSerializer(JPMetaSerializerType, GSerializerZipWriter, GSerializerSourceLayout, Set, ExecutorService, LogUsableType)}
+ * compress entries on an executor and append them to the archive on the
+ * thread that calls the <code>serialize</code> functions, in the order in
+ * which they were produced. The resulting archive is therefore the same
+ * regardless of the number of threads used.
+ * </p>
  */
 
 @EqualityReference public final class GSerializerZip implements
   GSerializerType
 {
+  /**
+   * The destination of archive entries.
+   */
+
+  private interface EntrySinkType
+  {
+    void close()
+      throws IOException;
+
+    void putEntry(
+      final String name,
+      final byte[] data)
+      throws IOException;
+  }
+
+  /**
+   * A sink that compresses entries on an executor. At most
+   * {@link GSerializerZip#PARALLEL_CAPACITY} entries are pending at any one
+   * time; adding an entry beyond that waits for the oldest pending entry to
+   * be written.
+   */
+
+  @EqualityReference private static final class ParallelSink implements
+    EntrySinkType
+  {
+    private final ExecutorService                    exec;
+    private final Queue<Future<GSerializerZipEntry>> pending;
+    private final GSerializerZipWriter               writer;
+
+    ParallelSink(
+      final GSerializerZipWriter in_writer,
+      final ExecutorService in_exec)
+    {
+      this.writer = in_writer;
+      this.exec = in_exec;
+      this.pending = new ArrayDeque<Future<GSerializerZipEntry>>();
+    }
+
+    @Override public void close()
+      throws IOException
+    {
+      try {
+        this.writeUntil(0);
+      } finally {
+        for (final Future<GSerializerZipEntry> f : this.pending) {
+          f.cancel(true);
+        }
+        this.pending.clear();
+      }
+      this.writer.close();
+    }
+
+    @Override public void putEntry(
+      final String name,
+      final byte[] data)
+      throws IOException
+    {
+      final long time = System.currentTimeMillis();
+      this.pending.add(this.exec.submit(new Callable<GSerializerZipEntry>() {
+        @Override public GSerializerZipEntry call()
+        {
+          return GSerializerZipEntry.newDeflated(name, time, data);
+        }
+      }));
+
+      try {
+        this.writeUntil(GSerializerZip.PARALLEL_CAPACITY);
+      } catch (final IOException e) {
+        for (final Future<GSerializerZipEntry> f : this.pending) {
+          f.cancel(true);
+        }
+        this.pending.clear();
+        throw e;
+      }
+    }
+
+    private void writeUntil(
+      final int remaining)
+      throws IOException
+    {
+      while (this.pending.size() > remaining) {
+        final Future<GSerializerZipEntry> f = this.pending.peek();
+        assert f != null;
+        final GSerializerZipEntry e = Parallel.await(f, IOException.class);
+        this.pending.remove();
+        this.writer.putEntry(e);
+      }
+    }
+  }
+
+  /**
+   * A sink that compresses entries inline with a {@link ZipOutputStream}.
+   */
+
+  @EqualityReference private static final class StreamSink implements
+    EntrySinkType
+  {
+    private final ZipOutputStream stream;
+
+    StreamSink(
+      final ZipOutputStream in_stream)
+    {
+      this.stream = in_stream;
+    }
+
+    @Override public void close()
+      throws IOException
+    {
+      this.stream.flush();
+      this.stream.close();
+    }
+
+    @Override public void putEntry(
+      final String name,
+      final byte[] data)
+      throws IOException
+    {
+      final ZipEntry entry = new ZipEntry(name);
+      entry.setMethod(ZipEntry.DEFLATED);
+      this.stream.putNextEntry(entry);
+      this.stream.write(data);
+      this.stream.closeEntry();
+    }
+  }
+
+  /**
+   * A sink that compresses entries inline and writes them with a
+   * {@link GSerializerZipWriter}.
+   */
+
+  @EqualityReference private static final class WriterSink implements
+    EntrySinkType
+  {
+    private final GSerializerZipWriter writer;
+
+    WriterSink(
+      final GSerializerZipWriter in_writer)
+    {
+      this.writer = in_writer;
+    }
+
+    @Override public void close()
+      throws IOException
+    {
+      this.writer.close();
+    }
+
+    @Override public void putEntry(
+      final String name,
+      final byte[] data)
+      throws IOException
+    {
+      this.writer.putEntry(GSerializerZipEntry.newDeflated(
+        name,
+        System.currentTimeMillis(),
+        data));
+    }
+  }
+
+  /**
+   * The maximum number of entries that may be awaiting compression in a
+   * parallel serializer.
+   */
+
+  private static final int PARALLEL_CAPACITY = 64;
+
   /**
    * Construct a new serializer that will write shaders to the root of the
    * given zip file stream.
@@ -74,7 +257,149 @@ import com.io7m.junreachable.UnreachableCodeException;
     final ZipOutputStream in_stream,
     final LogUsableType in_log)
   {
-    return new GSerializerZip(in_meta_serial, in_stream, in_log);
+    final Set<String> existing = new HashSet<String>();
+    return GSerializerZip.newSerializerWithLayout(
+      in_meta_serial,
+      in_stream,
+      GSerializerSourceLayout.SOURCES_PER_SHADER,
+      existing,
+      in_log);
+  }
+
+  /**
+   * Construct a new serializer that will write shaders to the root of the
+   * archive written by <code>in_writer</code>, arranging the sources of
+   * compacted shaders according to <code>in_layout</code>. Entries are
+   * compressed on <code>in_exec</code>. The set <code>in_existing</code> is
+   * interpreted as in
+   * {@link #newSerializerWithLayout(JPMetaSerializerType, ZipOutputStream, GSerializerSourceLayout, Set, LogUsableType)}
+   * .
+   *
+   * @param in_meta_serial
+   *          The metadata serializer.
+   * @param in_writer
+   *          The zip writer.
+   * @param in_layout
+   *          The source layout.
+   * @param in_existing
+   *          The names of entries already written to the archive.
+   * @param in_exec
+   *          The executor used to compress entries.
+   * @param in_log
+   *          A log interface.
+   *
+   * @return A new serializer.
+   */
+
+  public static GSerializerType newParallelSerializer(
+    final JPMetaSerializerType in_meta_serial,
+    final GSerializerZipWriter in_writer,
+    final GSerializerSourceLayout in_layout,
+    final Set<String> in_existing,
+    final ExecutorService in_exec,
+    final LogUsableType in_log)
+  {
+    final EntrySinkType sink =
+      new ParallelSink(
+        NullCheck.notNull(in_writer, "Writer"),
+        NullCheck.notNull(in_exec, "Executor"));
+    return new GSerializerZip(
+      in_meta_serial,
+      sink,
+      in_layout,
+      in_existing,
+      in_log);
+  }
+
+  /**
+   * Construct a new serializer that will write shaders to the root of the
+   * given zip file stream, arranging the sources of compacted shaders
+   * according to <code>in_layout</code>. The set <code>in_existing</code>
+   * names the entries already present in the stream (such as those copied
+   * from an existing archive); shared sources named in the set are not
+   * written again.
+   *
+   * @param in_meta_serial
+   *          The metadata serializer.
+   * @param in_stream
+   *          The zip output stream.
+   * @param in_layout
+   *          The source layout.
+   * @param in_existing
+   *          The names of entries already written to the stream.
+   * @param in_log
+   *          A log interface.
+   *
+   * @return A new serializer.
+   */
+
+  public static GSerializerType newSerializerWithLayout(
+    final JPMetaSerializerType in_meta_serial,
+    final ZipOutputStream in_stream,
+    final GSerializerSourceLayout in_layout,
+    final Set<String> in_existing,
+    final LogUsableType in_log)
+  {
+    final EntrySinkType sink =
+      new StreamSink(NullCheck.notNull(in_stream, "Stream"));
+    return new GSerializerZip(
+      in_meta_serial,
+      sink,
+      in_layout,
+      in_existing,
+      in_log);
+  }
+
+  /**
+   * Construct a new serializer that will write shaders to the root of the
+   * archive written by <code>in_writer</code>, compressing entries on the
+   * calling thread. The remaining parameters are interpreted as in
+   * {@link #newSerializerWithLayout(JPMetaSerializerType, ZipOutputStream, GSerializerSourceLayout, Set, LogUsableType)}
+   * .
+   *
+   * @param in_meta_serial
+   *          The metadata serializer.
+   * @param in_writer
+   *          The zip writer.
+   * @param in_layout
+   *          The source layout.
+   * @param in_existing
+   *          The names of entries already written to the archive.
+   * @param in_log
+   *          A log interface.
+   *
+   * @return A new serializer.
+   */
+
+  public static GSerializerType newSerializerWithWriter(
+    final JPMetaSerializerType in_meta_serial,
+    final GSerializerZipWriter in_writer,
+    final GSerializerSourceLayout in_layout,
+    final Set<String> in_existing,
+    final LogUsableType in_log)
+  {
+    final EntrySinkType sink =
+      new WriterSink(NullCheck.notNull(in_writer, "Writer"));
+    return new GSerializerZip(
+      in_meta_serial,
+      sink,
+      in_layout,
+      in_existing,
+      in_log);
+  }
+
+  private static byte[] sourceBytes(
+    final JPSourceText text)
+  {
+    /**
+     * The entry contains exactly the UTF-8 bytes that were hashed, so that
+     * the result does not depend on the platform charset or line separator.
+     */
+
+    final ByteBuffer b = text.getBuffer();
+    final byte[] r = new byte[b.remaining()];
+    b.get(r);
+    return r;
   }
 
   private static String sourceNameForHash(
@@ -112,17 +437,24 @@ import com.io7m.junreachable.UnreachableCodeException;
       });
   }
 
-  private final LogType              log;
-  private final ZipOutputStream      stream;
-  private final JPMetaSerializerType serial;
+  private final GSerializerSourceLayout layout;
+  private final LogType                 log;
+  private final JPMetaSerializerType    serial;
+  private final EntrySinkType           sink;
+  private final Set<String>             written;
 
   private GSerializerZip(
     final JPMetaSerializerType in_meta_serial,
-    final ZipOutputStream in_stream,
+    final EntrySinkType in_sink,
+    final GSerializerSourceLayout in_layout,
+    final Set<String> in_existing,
     final LogUsableType in_log)
   {
     this.serial = NullCheck.notNull(in_meta_serial, "Meta serializer");
-    this.stream = NullCheck.notNull(in_stream, "Stream");
+    this.sink = in_sink;
+    this.layout = NullCheck.notNull(in_layout, "Layout");
+    this.written =
+      new HashSet<String>(NullCheck.notNull(in_existing, "Existing entries"));
     this.log = NullCheck.notNull(in_log, "Log").with("serializer-zip");
   }
 
@@ -146,8 +478,7 @@ import com.io7m.junreachable.UnreachableCodeException;
     throws IOException
   {
     this.log.debug("closing");
-    this.stream.flush();
-    this.stream.close();
+    this.sink.close();
   }
 
   @Override public void serializeCompactedFragmentShader(
@@ -165,9 +496,7 @@ import com.io7m.junreachable.UnreachableCodeException;
 
   private void serializeCompactedFragmentShaderMeta(
     final JPCompactedFragmentShaderMeta meta)
-    throws FileNotFoundException,
-      UnsupportedEncodingException,
-      IOException
+    throws IOException
   {
     final String name =
       String.format(
@@ -175,13 +504,10 @@ import com.io7m.junreachable.UnreachableCodeException;
         meta.getName(),
         this.serial.metaGetSuggestedFilename());
     assert name != null;
-    this.announceFile(name);
 
-    final ZipEntry entry = new ZipEntry(name);
-    entry.setMethod(ZipEntry.DEFLATED);
-    this.stream.putNextEntry(entry);
-    this.serial.metaSerializeCompactedFragmentShader(meta, this.stream);
-    this.stream.closeEntry();
+    final ByteArrayOutputStream bao = new ByteArrayOutputStream();
+    this.serial.metaSerializeCompactedFragmentShader(meta, bao);
+    this.writeEntry(name, bao.toByteArray());
   }
 
   @Override public void serializeCompactedVertexShader(
@@ -207,13 +533,10 @@ import com.io7m.junreachable.UnreachableCodeException;
         meta.getName(),
         this.serial.metaGetSuggestedFilename());
     assert name != null;
-    this.announceFile(name);
 
-    final ZipEntry entry = new ZipEntry(name);
-    entry.setMethod(ZipEntry.DEFLATED);
-    this.stream.putNextEntry(entry);
-    this.serial.metaSerializeCompactedVertexShader(meta, this.stream);
-    this.stream.closeEntry();
+    final ByteArrayOutputStream bao = new ByteArrayOutputStream();
+    this.serial.metaSerializeCompactedVertexShader(meta, bao);
+    this.writeEntry(name, bao.toByteArray());
   }
 
   @Override public void serializeUncompactedFragmentShader(
@@ -225,14 +548,12 @@ import com.io7m.junreachable.UnreachableCodeException;
 
     this.announceShader(meta.getName());
     this.serializeUncompactedFragmentShaderMeta(meta);
-    this.writeUncompactedSources(meta.getName(), shader.getSources(), "f");
+    this.writeUncompactedSources(meta.getName(), shader.getSourceTexts(), "f");
   }
 
   private void serializeUncompactedFragmentShaderMeta(
     final JPUncompactedFragmentShaderMeta meta)
-    throws FileNotFoundException,
-      UnsupportedEncodingException,
-      IOException
+    throws IOException
   {
     final String name =
       String.format(
@@ -240,13 +561,10 @@ import com.io7m.junreachable.UnreachableCodeException;
         meta.getName(),
         this.serial.metaGetSuggestedFilename());
     assert name != null;
-    this.announceFile(name);
 
-    final ZipEntry entry = new ZipEntry(name);
-    entry.setMethod(ZipEntry.DEFLATED);
-    this.stream.putNextEntry(entry);
-    this.serial.metaSerializeUncompactedFragmentShader(meta, this.stream);
-    this.stream.closeEntry();
+    final ByteArrayOutputStream bao = new ByteArrayOutputStream();
+    this.serial.metaSerializeUncompactedFragmentShader(meta, bao);
+    this.writeEntry(name, bao.toByteArray());
   }
 
   @Override public void serializeUncompactedProgramShader(
@@ -276,9 +594,7 @@ import com.io7m.junreachable.UnreachableCodeException;
   private void serializeUncompactedProgramShaderMeta(
     final JPUncompactedProgramShaderMeta meta,
     final String program_name)
-    throws FileNotFoundException,
-      UnsupportedEncodingException,
-      IOException
+    throws IOException
   {
     final String name =
       String.format(
@@ -286,13 +602,10 @@ import com.io7m.junreachable.UnreachableCodeException;
         program_name,
         this.serial.metaGetSuggestedFilename());
     assert name != null;
-    this.announceFile(name);
 
-    final ZipEntry entry = new ZipEntry(name);
-    entry.setMethod(ZipEntry.DEFLATED);
-    this.stream.putNextEntry(entry);
-    this.serial.metaSerializeUncompactedProgram(meta, this.stream);
-    this.stream.closeEntry();
+    final ByteArrayOutputStream bao = new ByteArrayOutputStream();
+    this.serial.metaSerializeUncompactedProgram(meta, bao);
+    this.writeEntry(name, bao.toByteArray());
   }
 
   @Override public void serializeUncompactedVertexShader(
@@ -304,14 +617,12 @@ import com.io7m.junreachable.UnreachableCodeException;
 
     this.announceShader(shader.getName());
     this.serializeUncompactedVertexShaderMeta(meta);
-    this.writeUncompactedSources(meta.getName(), shader.getSources(), "v");
+    this.writeUncompactedSources(meta.getName(), shader.getSourceTexts(), "v");
   }
 
   private void serializeUncompactedVertexShaderMeta(
     final JPUncompactedVertexShaderMeta meta)
-    throws FileNotFoundException,
-      UnsupportedEncodingException,
-      IOException
+    throws IOException
   {
     final String name =
       String.format(
@@ -319,13 +630,10 @@ import com.io7m.junreachable.UnreachableCodeException;
         meta.getName(),
         this.serial.metaGetSuggestedFilename());
     assert name != null;
-    this.announceFile(name);
 
-    final ZipEntry entry = new ZipEntry(name);
-    entry.setMethod(ZipEntry.DEFLATED);
-    this.stream.putNextEntry(entry);
-    this.serial.metaSerializeUncompactedVertexShader(meta, this.stream);
-    this.stream.closeEntry();
+    final ByteArrayOutputStream bao = new ByteArrayOutputStream();
+    this.serial.metaSerializeUncompactedVertexShader(meta, bao);
+    this.writeEntry(name, bao.toByteArray());
   }
 
   private void writeCompactedSources(
@@ -339,44 +647,64 @@ import com.io7m.junreachable.UnreachableCodeException;
       final JPHashedLines source = by_hash.get(version);
       assert source != null;
       final String name = GSerializerZip.sourceNameForHash(version, suffix);
-      final String file = String.format("%s/%s", shader, name);
-      assert file != null;
-      this.writeSourcesOnce(file, source.getLines());
+
+      switch (this.layout) {
+        case SOURCES_PER_SHADER:
+        {
+          final String file = String.format("%s/%s", shader, name);
+          assert file != null;
+          this.writeSourcesOnce(file, source.getText());
+          break;
+        }
+        case SOURCES_SHARED:
+        {
+          final String file =
+            String.format(
+              "%s/%s",
+              GSerializerSourceLayout.SHARED_DIRECTORY,
+              name);
+          assert file != null;
+
+          /**
+           * Sources are named by the hash of their content, so an entry
+           * that has already been written is identical to this one.
+           */
+
+          if (this.written.add(file)) {
+            this.writeSourcesOnce(file, source.getText());
+          }
+          break;
+        }
+      }
     }
   }
 
+  private void writeEntry(
+    final String name,
+    final byte[] data)
+    throws IOException
+  {
+    this.announceFile(name);
+    this.sink.putEntry(name, data);
+  }
+
   private void writeSourcesOnce(
     final String file,
-    final List<String> sources)
+    final JPSourceText sources)
     throws IOException
   {
-    this.announceFile(file);
-
-    final ZipEntry entry = new ZipEntry(file);
-    entry.setMethod(ZipEntry.DEFLATED);
-    this.stream.putNextEntry(entry);
-
-    final PrintWriter writer = new PrintWriter(this.stream);
-    try {
-      for (final String l : sources) {
-        writer.println(l);
-      }
-    } finally {
-      writer.flush();
-    }
-
-    this.stream.closeEntry();
+    this.writeEntry(file, GSerializerZip.sourceBytes(sources));
   }
 
   private void writeUncompactedSources(
     final String shader,
-    final Map<GVersionType, List<String>> map,
+    final Map<GVersionType, JPSourceText> map,
     final String suffix)
     throws IOException
   {
     for (final GVersionType version : map.keySet()) {
       assert version != null;
-      final List<String> sources = map.get(version);
+      final JPSourceText sources = map.get(version);
       assert sources != null;
       final String name =
         GSerializerZip.sourceNameForVersion(version, suffix);
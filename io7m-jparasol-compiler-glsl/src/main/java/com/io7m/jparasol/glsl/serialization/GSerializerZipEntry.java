@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.glsl.serialization;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jnull.NullCheck;
+
+/**
+ * A zip archive entry whose payload has already been compressed, along with
+ * everything required to write the entry's headers without a data
+ * descriptor.
+ */
+
+@EqualityReference public final class GSerializerZipEntry
+{
+  private static final Charset UTF8;
+
+  static {
+    UTF8 = Charset.forName("UTF-8");
+  }
+
+  /**
+   * Convert the given time to the packed MS-DOS date and time format used by
+   * zip archives, in the same manner as {@link java.util.zip.ZipOutputStream}
+   * .
+   *
+   * @param time
+   *          The time in milliseconds since the epoch
+   * @return The date in the upper 16 bits and the time in the lower 16 bits
+   */
+
+  static int dosTime(
+    final long time)
+  {
+    final Calendar c = new GregorianCalendar();
+    c.setTimeInMillis(time);
+
+    final int year = c.get(Calendar.YEAR);
+    if (year < 1980) {
+      return (1 << 21) | (1 << 16);
+    }
+
+    int r = (year - 1980) << 25;
+    r |= (c.get(Calendar.MONTH) + 1) << 21;
+    r |= c.get(Calendar.DAY_OF_MONTH) << 16;
+    r |= c.get(Calendar.HOUR_OF_DAY) << 11;
+    r |= c.get(Calendar.MINUTE) << 5;
+    r |= c.get(Calendar.SECOND) >> 1;
+    return r;
+  }
+
+  /**
+   * Compress <code>data</code> with the default deflate level and return an
+   * entry named <code>name</code>. This function may be called from any
+   * thread.
+   *
+   * @param name
+   *          The name of the entry
+   * @param time
+   *          The modification time of the entry, in milliseconds since the
+   *          epoch
+   * @param data
+   *          The uncompressed data
+   * @return A new entry
+   */
+
+  public static GSerializerZipEntry newDeflated(
+    final String name,
+    final long time,
+    final byte[] data)
+  {
+    NullCheck.notNull(name, "Name");
+    NullCheck.notNull(data, "Data");
+
+    final CRC32 crc = new CRC32();
+    crc.update(data);
+
+    final Deflater d = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    try {
+      d.setInput(data);
+      d.finish();
+
+      final ByteArrayOutputStream out =
+        new ByteArrayOutputStream(Math.max(64, data.length / 2));
+      final byte[] buffer = new byte[8192];
+      while (d.finished() == false) {
+        final int r = d.deflate(buffer);
+        out.write(buffer, 0, r);
+      }
+
+      final byte[] compressed = out.toByteArray();
+      assert compressed != null;
+      return new GSerializerZipEntry(
+        name,
+        GSerializerZipEntry.dosTime(time),
+        crc.getValue(),
+        data.length,
+        compressed);
+    } finally {
+      d.end();
+    }
+  }
+
+  private final long   crc;
+  private final byte[] data;
+  private final int    dos_time;
+  private final String name;
+  private final byte[] name_bytes;
+  private final long   size_uncompressed;
+
+  private GSerializerZipEntry(
+    final String in_name,
+    final int in_dos_time,
+    final long in_crc,
+    final long in_size_uncompressed,
+    final byte[] in_data)
+  {
+    this.name = in_name;
+    this.name_bytes = in_name.getBytes(GSerializerZipEntry.UTF8);
+    this.dos_time = in_dos_time;
+    this.crc = in_crc;
+    this.size_uncompressed = in_size_uncompressed;
+    this.data = in_data;
+  }
+
+  /**
+   * @return The CRC-32 of the uncompressed data
+   */
+
+  public long getCRC()
+  {
+    return this.crc;
+  }
+
+  byte[] getData()
+  {
+    return this.data;
+  }
+
+  int getDOSTime()
+  {
+    return this.dos_time;
+  }
+
+  /**
+   * @return The name of the entry
+   */
+
+  public String getName()
+  {
+    return this.name;
+  }
+
+  byte[] getNameBytes()
+  {
+    return this.name_bytes;
+  }
+
+  /**
+   * @return The size of the compressed data
+   */
+
+  public long getSizeCompressed()
+  {
+    return this.data.length;
+  }
+
+  /**
+   * @return The size of the uncompressed data
+   */
+
+  public long getSizeUncompressed()
+  {
+    return this.size_uncompressed;
+  }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.glsl.serialization;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipException;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jnull.NullCheck;
+
+/**
+ * <p>
+ * A minimal zip archive writer that appends entries that have already been
+ * compressed (see {@link GSerializerZipEntry}).
+ * </p>
+ * <p>
+ * Because the CRC and sizes of each entry are known in advance, they are
+ * written directly into each local header and no data descriptors are
+ * produced. Entry names are encoded in UTF-8. Archives that would require
+ * zip64 extensions are rejected.
+ * </p>
+ */
+
+@EqualityReference public final class GSerializerZipWriter
+{
+  private static final int  CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+  private static final int  END_SIGNATURE            = 0x06054b50;
+  private static final int  FLAG_UTF8                = 0x0800;
+  private static final int  LOCAL_HEADER_SIGNATURE   = 0x04034b50;
+  private static final long MAXIMUM_ENTRIES          = 0xffffL;
+  private static final long MAXIMUM_OFFSET           = 0xffffffffL;
+  private static final int  METHOD_DEFLATED          = 8;
+  private static final int  VERSION                  = 20;
+
+  /**
+   * Construct a new writer that will write a new archive to
+   * <code>in_stream</code>.
+   *
+   * @param in_stream
+   *          The output stream
+   * @return A new writer
+   */
+
+  public static GSerializerZipWriter newWriter(
+    final OutputStream in_stream)
+  {
+    final Set<String> names = new HashSet<String>();
+    return new GSerializerZipWriter(in_stream, 0, new byte[0], 0, names);
+  }
+
+  /**
+   * Construct a new writer that will continue an existing archive. The
+   * caller is assumed to have already written the first
+   * <code>in_offset</code> bytes of the existing archive (that is, every
+   * local header and entry up to the start of its central directory) to
+   * <code>in_stream</code>. The existing central directory records
+   * <code>in_central</code> are written, unmodified, ahead of the records of
+   * any new entries when the writer is closed.
+   *
+   * @param in_stream
+   *          The output stream
+   * @param in_offset
+   *          The number of bytes already written to <code>in_stream</code>
+   * @param in_central
+   *          The existing central directory records
+   * @param in_count
+   *          The number of existing central directory records
+   * @param in_names
+   *          The names of the existing entries
+   * @return A new writer
+   */
+
+  public static GSerializerZipWriter newWriterContinuing(
+    final OutputStream in_stream,
+    final long in_offset,
+    final byte[] in_central,
+    final long in_count,
+    final Set<String> in_names)
+  {
+    if ((in_offset < 0) || (in_offset > GSerializerZipWriter.MAXIMUM_OFFSET)) {
+      throw new IllegalArgumentException(String.format(
+        "Offset %d is out of range",
+        Long.valueOf(in_offset)));
+    }
+    if ((in_count < 0) || (in_count > GSerializerZipWriter.MAXIMUM_ENTRIES)) {
+      throw new IllegalArgumentException(String.format(
+        "Entry count %d is out of range",
+        Long.valueOf(in_count)));
+    }
+
+    return new GSerializerZipWriter(
+      in_stream,
+      in_offset,
+      NullCheck.notNull(in_central, "Central directory"),
+      in_count,
+      NullCheck.notNull(in_names, "Names"));
+  }
+
+  private final ByteArrayOutputStream central;
+  private long                        count;
+  private final Set<String>           names;
+  private long                        offset;
+  private final OutputStream          stream;
+
+  private GSerializerZipWriter(
+    final OutputStream in_stream,
+    final long in_offset,
+    final byte[] in_central,
+    final long in_count,
+    final Set<String> in_names)
+  {
+    this.stream = NullCheck.notNull(in_stream, "Stream");
+    this.central = new ByteArrayOutputStream(Math.max(64, in_central.length));
+    this.central.write(in_central, 0, in_central.length);
+    this.names = new HashSet<String>(in_names);
+    this.count = in_count;
+    this.offset = in_offset;
+  }
+
+  /**
+   * Write the central directory and close the underlying stream.
+   *
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void close()
+    throws IOException
+  {
+    final long central_offset = this.offset;
+    final long central_size = this.central.size();
+    this.checkOffset(central_offset + central_size);
+
+    this.central.writeTo(this.stream);
+
+    final ByteBuffer b =
+      ByteBuffer.allocate(22).order(ByteOrder.LITTLE_ENDIAN);
+    b.putInt(GSerializerZipWriter.END_SIGNATURE);
+    b.putShort((short) 0);
+    b.putShort((short) 0);
+    b.putShort((short) this.count);
+    b.putShort((short) this.count);
+    b.putInt((int) central_size);
+    b.putInt((int) central_offset);
+    b.putShort((short) 0);
+    this.stream.write(b.array());
+    this.stream.flush();
+    this.stream.close();
+  }
+
+  private void checkOffset(
+    final long o)
+    throws ZipException
+  {
+    if (o > GSerializerZipWriter.MAXIMUM_OFFSET) {
+      throw new ZipException(
+        "Archive size requires zip64 extensions, which are not supported");
+    }
+  }
+
+  /**
+   * Append the given entry to the archive.
+   *
+   * @param e
+   *          The entry
+   * @throws ZipException
+   *           If an entry with the same name has already been written, or
+   *           if the archive would require zip64 extensions
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  public void putEntry(
+    final GSerializerZipEntry e)
+    throws ZipException,
+      IOException
+  {
+    NullCheck.notNull(e, "Entry");
+
+    if (this.names.contains(e.getName())) {
+      throw new ZipException(String.format("duplicate entry: %s", e.getName()));
+    }
+    if ((this.count + 1) > GSerializerZipWriter.MAXIMUM_ENTRIES) {
+      throw new ZipException(
+        "Entry count requires zip64 extensions, which are not supported");
+    }
+
+    final byte[] name = e.getNameBytes();
+    final byte[] data = e.getData();
+    final long local_offset = this.offset;
+    final long next = local_offset + 30 + name.length + data.length;
+    this.checkOffset(next);
+
+    {
+      final ByteBuffer b =
+        ByteBuffer.allocate(30 + name.length).order(ByteOrder.LITTLE_ENDIAN);
+      b.putInt(GSerializerZipWriter.LOCAL_HEADER_SIGNATURE);
+      b.putShort((short) GSerializerZipWriter.VERSION);
+      b.putShort((short) GSerializerZipWriter.FLAG_UTF8);
+      b.putShort((short) GSerializerZipWriter.METHOD_DEFLATED);
+      b.putInt(e.getDOSTime());
+      b.putInt((int) e.getCRC());
+      b.putInt((int) e.getSizeCompressed());
+      b.putInt((int) e.getSizeUncompressed());
+      b.putShort((short) name.length);
+      b.putShort((short) 0);
+      b.put(name);
+      this.stream.write(b.array());
+      this.stream.write(data);
+    }
+
+    {
+      final ByteBuffer b =
+        ByteBuffer.allocate(46 + name.length).order(ByteOrder.LITTLE_ENDIAN);
+      b.putInt(GSerializerZipWriter.CENTRAL_HEADER_SIGNATURE);
+      b.putShort((short) GSerializerZipWriter.VERSION);
+      b.putShort((short) GSerializerZipWriter.VERSION);
+      b.putShort((short) GSerializerZipWriter.FLAG_UTF8);
+      b.putShort((short) GSerializerZipWriter.METHOD_DEFLATED);
+      b.putInt(e.getDOSTime());
+      b.putInt((int) e.getCRC());
+      b.putInt((int) e.getSizeCompressed());
+      b.putInt((int) e.getSizeUncompressed());
+      b.putShort((short) name.length);
+      b.putShort((short) 0);
+      b.putShort((short) 0);
+      b.putShort((short) 0);
+      b.putShort((short) 0);
+      b.putInt(0);
+      b.putInt((int) local_offset);
+      b.put(name);
+      this.central.write(b.array());
+    }
+
+    this.names.add(e.getName());
+    this.offset = next;
+    this.count = this.count + 1;
+  }
+}
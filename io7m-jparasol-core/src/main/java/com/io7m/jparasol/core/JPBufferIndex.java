@@ -0,0 +1,243 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.core;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jnull.NullCheck;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>
+ * Functions to read the sorted indices used by binary archive formats.
+ * </p>
+ * <p>
+ * An index is an array of fixed-size records held in a big-endian buffer,
+ * sorted by a key. The first two integers of each record give the offset
+ * and length of the key within the buffer, and keys are compared as
+ * unsigned bytes (see {@link #ORDER}), so that the order of UTF-8 encoded
+ * names is the order of their code points. Every offset and length read
+ * from the buffer is checked before use, so a malformed buffer is reported
+ * as a {@link JPMalformedBuffer} rather than by an unchecked exception.
+ * </p>
+ */
+
+@EqualityReference public final class JPBufferIndex
+{
+  /**
+   * The value returned by
+   * {@link #find(ByteBuffer, int, int, int, byte[], String)} if no record
+   * has the given key.
+   */
+
+  public static final int                NOT_FOUND = -1;
+
+  /**
+   * The order of keys: lexicographic over unsigned bytes, with a key that
+   * is a prefix of another ordered first.
+   */
+
+  public static final Comparator<byte[]> ORDER;
+
+  static {
+    ORDER = new Comparator<byte[]>() {
+      @Override public int compare(
+        final byte[] x,
+        final byte[] y)
+      {
+        return JPBufferIndex.compareAt(ByteBuffer.wrap(x), 0, x.length, y);
+      }
+    };
+  }
+
+  /**
+   * Check that <code>buffer</code> is at least <code>size</code> bytes long
+   * and starts with the integers <code>magic</code> and
+   * <code>version</code>.
+   * 
+   * @param buffer
+   *          The buffer.
+   * @param size
+   *          The size of the header.
+   * @param magic
+   *          The expected magic number.
+   * @param version
+   *          The expected format version.
+   * @param what
+   *          The name of the structure, for error messages.
+   * @throws JPMalformedBuffer
+   *           If the header is not as expected.
+   */
+
+  public static void checkHeader(
+    final ByteBuffer buffer,
+    final int size,
+    final int magic,
+    final int version,
+    final String what)
+    throws JPMalformedBuffer
+  {
+    NullCheck.notNull(buffer, "Buffer");
+    NullCheck.notNull(what, "What");
+
+    if (buffer.limit() < size) {
+      throw new JPMalformedBuffer(String.format("%s is too short", what));
+    }
+    if (buffer.getInt(0) != magic) {
+      throw new JPMalformedBuffer(String.format(
+        "%s has an incorrect magic number",
+        what));
+    }
+
+    final int actual = buffer.getInt(4);
+    if (actual != version) {
+      throw new JPMalformedBuffer(String.format(
+        "%s has unsupported version %d (expected %d)",
+        what,
+        Integer.valueOf(actual),
+        Integer.valueOf(version)));
+    }
+  }
+
+  /**
+   * Check that the region of <code>length</code> bytes at
+   * <code>offset</code> lies within <code>buffer</code>.
+   * 
+   * @param buffer
+   *          The buffer.
+   * @param offset
+   *          The offset of the region.
+   * @param length
+   *          The length of the region.
+   * @param what
+   *          The name of the structure, for error messages.
+   * @throws JPMalformedBuffer
+   *           If the region is out of bounds.
+   */
+
+  public static void checkRegion(
+    final ByteBuffer buffer,
+    final long offset,
+    final long length,
+    final String what)
+    throws JPMalformedBuffer
+  {
+    if ((offset < 0) || (length < 0) || ((offset + length) > buffer.limit())) {
+      throw new JPMalformedBuffer(String.format(
+        "%s region at offset %d of length %d is out of bounds",
+        what,
+        Long.valueOf(offset),
+        Long.valueOf(length)));
+    }
+  }
+
+  /**
+   * Compare the <code>length</code> bytes of <code>buffer</code> at
+   * <code>offset</code> with <code>key</code>, in the same order as
+   * {@link #ORDER}. The region must lie within <code>buffer</code>.
+   * 
+   * @param buffer
+   *          The buffer.
+   * @param offset
+   *          The offset of the bytes.
+   * @param length
+   *          The number of bytes.
+   * @param key
+   *          The key.
+   * @return A negative value, zero, or a positive value if the bytes are
+   *         ordered before, equal to, or after <code>key</code>.
+   */
+
+  public static int compareAt(
+    final ByteBuffer buffer,
+    final int offset,
+    final int length,
+    final byte[] key)
+  {
+    final int common = Math.min(length, key.length);
+    for (int index = 0; index < common; ++index) {
+      final int c = (buffer.get(offset + index) & 0xff) - (key[index] & 0xff);
+      if (c != 0) {
+        return c;
+      }
+    }
+    return length - key.length;
+  }
+
+  /**
+   * Find the record with the given key by binary search. The index itself
+   * is assumed to have been checked with
+   * {@link #checkRegion(ByteBuffer, long, long, String)}; the key of each
+   * record visited is checked before it is compared.
+   * 
+   * @param buffer
+   *          The buffer.
+   * @param index
+   *          The offset of the index.
+   * @param count
+   *          The number of records in the index.
+   * @param record_size
+   *          The size of each record.
+   * @param key
+   *          The key.
+   * @param what
+   *          The name of the structure, for error messages.
+   * @return The offset of the record, or {@link #NOT_FOUND}.
+   * @throws JPMalformedBuffer
+   *           If a visited record refers to a key out of bounds.
+   */
+
+  public static int find(
+    final ByteBuffer buffer,
+    final int index,
+    final int count,
+    final int record_size,
+    final byte[] key,
+    final String what)
+    throws JPMalformedBuffer
+  {
+    NullCheck.notNull(buffer, "Buffer");
+    NullCheck.notNull(key, "Key");
+
+    int low = 0;
+    int high = count - 1;
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      final int record = index + (middle * record_size);
+      final int key_offset = buffer.getInt(record);
+      final int key_length = buffer.getInt(record + 4);
+      JPBufferIndex.checkRegion(buffer, key_offset, key_length, what);
+
+      final int c = JPBufferIndex.compareAt(buffer, key_offset, key_length, key);
+      if (c < 0) {
+        low = middle + 1;
+      } else if (c > 0) {
+        high = middle - 1;
+      } else {
+        return record;
+      }
+    }
+    return JPBufferIndex.NOT_FOUND;
+  }
+
+  private JPBufferIndex()
+  {
+    throw new UnreachableCodeException();
+  }
+}
@@ -34,7 +34,7 @@ import com.io7m.jnull.Nullable;
   JPVertexShaderMetaType
 {
   /**
-   * Construct a shader.
+   * Construct a shader whose file hashes were produced with SHA-256.
    * 
    * @param in_name
    *          The fully-qualified shader name.
@@ -65,6 +65,53 @@ import com.io7m.jnull.Nullable;
     final SortedSet<JPVertexParameter> in_vertex_parameters,
     final Map<GVersionType, String> in_version_to_hash)
     throws JPMissingHash
+  {
+    return JPCompactedVertexShaderMeta.newMetadata(
+      in_name,
+      in_supports_es,
+      in_supports_full,
+      in_vertex_inputs,
+      in_vertex_outputs,
+      in_vertex_parameters,
+      in_version_to_hash,
+      JPHashAlgorithm.HASH_SHA_256);
+  }
+
+  /**
+   * Construct a shader.
+   * 
+   * @param in_name
+   *          The fully-qualified shader name.
+   * @param in_supports_es
+   *          The supported GLSL ES versions.
+   * @param in_supports_full
+   *          The supported GLSL versions.
+   * @param in_vertex_inputs
+   *          The declared inputs.
+   * @param in_vertex_outputs
+   *          The declared outputs.
+   * @param in_vertex_parameters
+   *          The declared parameters.
+   * @param in_version_to_hash
+   *          A map from GLSL versions to file hashes.
+   * @param in_hash_algorithm
+   *          The algorithm used to produce the file hashes.
+   * 
+   * @return Metadata.
+   * @throws JPMissingHash
+   *           If one or more versions are missing an associated hash value.
+   */
+
+  public static JPCompactedVertexShaderMeta newMetadata(
+    final String in_name,
+    final SortedSet<GVersionES> in_supports_es,
+    final SortedSet<GVersionFull> in_supports_full,
+    final SortedSet<JPVertexInput> in_vertex_inputs,
+    final SortedSet<JPVertexOutput> in_vertex_outputs,
+    final SortedSet<JPVertexParameter> in_vertex_parameters,
+    final Map<GVersionType, String> in_version_to_hash,
+    final JPHashAlgorithm in_hash_algorithm)
+    throws JPMissingHash
   {
     return new JPCompactedVertexShaderMeta(
       in_name,
@@ -73,9 +120,11 @@ import com.io7m.jnull.Nullable;
       in_vertex_inputs,
       in_vertex_outputs,
       in_vertex_parameters,
-      in_version_to_hash);
+      in_version_to_hash,
+      in_hash_algorithm);
   }
 
+  private final JPHashAlgorithm              hash_algorithm;
   private final String                       name;
   private final SortedSet<GVersionES>        supports_es;
   private final SortedSet<GVersionFull>      supports_full;
@@ -91,7 +140,8 @@ import com.io7m.jnull.Nullable;
     final SortedSet<JPVertexInput> in_vertex_inputs,
     final SortedSet<JPVertexOutput> in_vertex_outputs,
     final SortedSet<JPVertexParameter> in_vertex_parameters,
-    final Map<GVersionType, String> in_version_to_hash)
+    final Map<GVersionType, String> in_version_to_hash,
+    final JPHashAlgorithm in_hash_algorithm)
     throws JPMissingHash
   {
     this.name = NullCheck.notNull(in_name, "Name");
@@ -107,6 +157,8 @@ import com.io7m.jnull.Nullable;
       NullCheck.notNullAll(in_vertex_parameters, "Vertex parameters");
     this.version_to_hash =
       NullCheck.notNull(in_version_to_hash, "Version to hash");
+    this.hash_algorithm =
+      NullCheck.notNull(in_hash_algorithm, "Hash algorithm");
 
     JPVersionsHash.checkComplete(
       in_supports_es,
@@ -134,7 +186,8 @@ import com.io7m.jnull.Nullable;
       && this.name.equals(other.name)
       && this.supports_es.equals(other.supports_es)
       && this.supports_full.equals(other.supports_full)
-      && this.version_to_hash.equals(other.version_to_hash);
+      && this.version_to_hash.equals(other.version_to_hash)
+      && (this.hash_algorithm == other.hash_algorithm);
   }
 
   @Override public SortedSet<JPVertexInput> getDeclaredVertexInputs()
@@ -152,6 +205,15 @@ import com.io7m.jnull.Nullable;
     return this.vertex_parameters;
   }
 
+  /**
+   * @return The algorithm used to produce the file hashes.
+   */
+
+  public JPHashAlgorithm getHashAlgorithm()
+  {
+    return this.hash_algorithm;
+  }
+
   @Override public String getName()
   {
     return this.name;
@@ -204,6 +266,7 @@ import com.io7m.jnull.Nullable;
     result = (prime * result) + this.supports_es.hashCode();
     result = (prime * result) + this.supports_full.hashCode();
     result = (prime * result) + this.version_to_hash.hashCode();
+    result = (prime * result) + this.hash_algorithm.hashCode();
     return result;
   }
 
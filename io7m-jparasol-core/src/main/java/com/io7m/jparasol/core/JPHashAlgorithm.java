@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.core;
+
+import com.io7m.jnull.NullCheck;
+
+/**
+ * The algorithms that may be used to produce the hashes that name compacted
+ * shader sources.
+ */
+
+public enum JPHashAlgorithm
+{
+  /**
+   * The 128-bit x64 variant of the non-cryptographic MurmurHash3 hash
+   * function, with a seed of <code>0</code>.
+   */
+
+  HASH_MURMUR3_128("murmur3-128"),
+
+  /**
+   * The SHA-256 cryptographic hash function.
+   */
+
+  HASH_SHA_256("sha-256"),
+
+  /**
+   * The SHA-256 cryptographic hash function, applied to the concatenation
+   * of the lines of a source without their line terminators. This is the
+   * hash used by versions of jparasol that did not record an algorithm in
+   * metadata, and is assumed when reading metadata that does not name one.
+   * It should not be used to produce new shaders, as it does not
+   * distinguish between different divisions of the same text into lines.
+   */
+
+  HASH_SHA_256_LINES("sha-256-lines");
+
+  /**
+   * Look up an algorithm by name.
+   * 
+   * @param name
+   *          The name of the algorithm, as returned by {@link #getName()}.
+   * @return The algorithm.
+   * @throws IllegalArgumentException
+   *           If there is no algorithm with the given name.
+   */
+
+  public static JPHashAlgorithm fromName(
+    final String name)
+    throws IllegalArgumentException
+  {
+    NullCheck.notNull(name, "Name");
+    for (final JPHashAlgorithm a : JPHashAlgorithm.values()) {
+      if (a.name.equals(name)) {
+        return a;
+      }
+    }
+    throw new IllegalArgumentException("Unknown hash algorithm: " + name);
+  }
+
+  private final String name;
+
+  private JPHashAlgorithm(
+    final String in_name)
+  {
+    this.name = in_name;
+  }
+
+  /**
+   * @return The name of the algorithm, as it appears in metadata.
+   */
+
+  public String getName()
+  {
+    return this.name;
+  }
+}
@@ -20,16 +20,13 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import com.io7m.jequality.annotations.EqualityReference;
 import com.io7m.jlog.LogUsableType;
 import com.io7m.jnull.NullCheck;
-import com.io7m.junreachable.UnreachableCodeException;
 
 /**
  * Lines of source code, including a hash of the lines.
@@ -37,6 +34,14 @@ import com.io7m.junreachable.UnreachableCodeException;
 
 @EqualityReference public final class JPHashedLines
 {
+  private static final Charset UTF8;
+
+  static {
+    final Charset c = Charset.forName("UTF-8");
+    assert c != null;
+    UTF8 = c;
+  }
+
   /**
    * Load source code from a stream.
    * 
@@ -80,51 +85,88 @@ import com.io7m.junreachable.UnreachableCodeException;
   }
 
   private static JPHashedLines newActual(
-    final List<String> in_lines,
+    final JPSourceText in_text,
+    final JPHashAlgorithm algorithm,
     final LogUsableType log,
     final boolean strip)
     throws IOException
   {
-    try {
-      final List<String> copy = new ArrayList<String>(in_lines);
+    NullCheck.notNull(algorithm, "Algorithm");
 
-      log.debug(copy.size() + " lines");
+    JPSourceText text = in_text;
 
-      if (copy.size() == 0) {
-        throw new IOException("No source lines!");
-      }
+    log.debug(text.getLineCount() + " lines");
 
-      if (strip) {
-        log.debug("stripping version directives");
-        if (copy.get(0).startsWith("#version ")) {
-          copy.remove(0);
-        }
-      } else {
-        log.debug("not stripping version directives");
-      }
+    if (text.getLineCount() == 0) {
+      throw new IOException("No source lines!");
+    }
 
-      if (copy.size() == 0) {
-        throw new IOException("No source lines!");
+    if (strip) {
+      log.debug("stripping version directives");
+      if (text.getLine(0).startsWith("#version ")) {
+        text = text.withoutFirstLine();
       }
+    } else {
+      log.debug("not stripping version directives");
+    }
 
-      final MessageDigest md = MessageDigest.getInstance("SHA-256");
-      for (final String line : copy) {
-        md.update(line.getBytes());
-      }
+    if (text.getLineCount() == 0) {
+      throw new IOException("No source lines!");
+    }
 
-      final StringBuilder hash = new StringBuilder();
-      for (final byte b : md.digest()) {
-        hash.append(String.format("%02x", b));
-      }
+    final String r = JPHashing.hashText(algorithm, text);
+    log.debug("hash " + r);
+    return new JPHashedLines(text, algorithm, r);
+  }
+
+  /**
+   * Load source from the given text.
+   * 
+   * @param text
+   *          The text.
+   * @param log
+   *          A log interface.
+   * @return Lines of source code.
+   * 
+   * @throws IOException
+   *           If an I/O error occurs, or the program is empty.
+   */
 
-      final String r = hash.toString();
-      assert r != null;
+  public static JPHashedLines newSource(
+    final JPSourceText text,
+    final LogUsableType log)
+    throws IOException
+  {
+    return JPHashedLines.newActual(
+      text,
+      JPHashAlgorithm.HASH_SHA_256,
+      log,
+      false);
+  }
 
-      log.debug("hash " + r);
-      return new JPHashedLines(copy, r);
-    } catch (final NoSuchAlgorithmException e) {
-      throw new UnreachableCodeException(e);
-    }
+  /**
+   * Load source from the given text, hashing the text with the given
+   * algorithm.
+   * 
+   * @param text
+   *          The text.
+   * @param algorithm
+   *          The hash algorithm.
+   * @param log
+   *          A log interface.
+   * @return Lines of source code.
+   * 
+   * @throws IOException
+   *           If an I/O error occurs, or the program is empty.
+   */
+
+  public static JPHashedLines newSource(
+    final JPSourceText text,
+    final JPHashAlgorithm algorithm,
+    final LogUsableType log)
+    throws IOException
+  {
+    return JPHashedLines.newActual(text, algorithm, log, false);
   }
 
   /**
@@ -145,7 +187,62 @@ import com.io7m.junreachable.UnreachableCodeException;
     final LogUsableType log)
     throws IOException
   {
-    return JPHashedLines.newActual(lines, log, false);
+    return JPHashedLines.newActual(
+      JPSourceText.newText(lines),
+      JPHashAlgorithm.HASH_SHA_256,
+      log,
+      false);
+  }
+
+  /**
+   * Copy the given source text, stripping version directives. The result
+   * shares storage with <code>text</code>.
+   * 
+   * @param text
+   *          The text.
+   * @param log
+   *          A log interface.
+   * @return Lines of source code.
+   * 
+   * @throws IOException
+   *           If an I/O error occurs, or the program is empty.
+   */
+
+  public static JPHashedLines newSourceStripped(
+    final JPSourceText text,
+    final LogUsableType log)
+    throws IOException
+  {
+    return JPHashedLines.newSourceStripped(
+      text,
+      JPHashAlgorithm.HASH_SHA_256,
+      log);
+  }
+
+  /**
+   * Copy the given source text, stripping version directives, and hashing
+   * the result with the given algorithm. The result shares storage with
+   * <code>text</code>.
+   * 
+   * @param text
+   *          The text.
+   * @param algorithm
+   *          The hash algorithm.
+   * @param log
+   *          A log interface.
+   * @return Lines of source code.
+   * 
+   * @throws IOException
+   *           If an I/O error occurs, or the program is empty.
+   */
+
+  public static JPHashedLines newSourceStripped(
+    final JPSourceText text,
+    final JPHashAlgorithm algorithm,
+    final LogUsableType log)
+    throws IOException
+  {
+    return JPHashedLines.newActual(text, algorithm, log, true);
   }
 
   /**
@@ -166,7 +263,11 @@ import com.io7m.junreachable.UnreachableCodeException;
     final LogUsableType log)
     throws IOException
   {
-    return JPHashedLines.newActual(lines, log, true);
+    return JPHashedLines.newActual(
+      JPSourceText.newText(lines),
+      JPHashAlgorithm.HASH_SHA_256,
+      log,
+      true);
   }
 
   private static List<String> readLinesStream(
@@ -174,7 +275,7 @@ import com.io7m.junreachable.UnreachableCodeException;
     throws IOException
   {
     final BufferedReader br =
-      new BufferedReader(new InputStreamReader(stream));
+      new BufferedReader(new InputStreamReader(stream, JPHashedLines.UTF8));
 
     try {
       final List<String> lines = new ArrayList<String>();
@@ -193,19 +294,23 @@ import com.io7m.junreachable.UnreachableCodeException;
     }
   }
 
-  private final String       hash;
-  private final List<String> lines;
+  private final JPHashAlgorithm algorithm;
+  private final String          hash;
+  private final JPSourceText    text;
 
   private JPHashedLines(
-    final List<String> in_lines,
+    final JPSourceText in_text,
+    final JPHashAlgorithm in_algorithm,
     final String in_hash)
   {
-    this.lines = NullCheck.notNullAll(in_lines, "Lines");
+    this.text = NullCheck.notNull(in_text, "Text");
+    this.algorithm = NullCheck.notNull(in_algorithm, "Algorithm");
     this.hash = NullCheck.notNull(in_hash, "Hash");
   }
 
   /**
-   * @return The SHA-256 hash of the source lines.
+   * @return The hash of the source lines, as a hexadecimal string.
+   * @see JPHashing#hashText(JPHashAlgorithm, JPSourceText)
    */
 
   public String getHash()
@@ -213,14 +318,30 @@ import com.io7m.junreachable.UnreachableCodeException;
     return this.hash;
   }
 
+  /**
+   * @return The algorithm used to produce {@link #getHash()}.
+   */
+
+  public JPHashAlgorithm getHashAlgorithm()
+  {
+    return this.algorithm;
+  }
+
   /**
    * @return A read-only view of the source lines.
    */
 
   public List<String> getLines()
   {
-    final List<String> r = Collections.unmodifiableList(this.lines);
-    assert r != null;
-    return r;
+    return this.text.getLines();
+  }
+
+  /**
+   * @return The compact source text.
+   */
+
+  public JPSourceText getText()
+  {
+    return this.text;
   }
 }
@@ -0,0 +1,266 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.core;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jnull.NullCheck;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * Functions to hash source text.
+ */
+
+@EqualityReference public final class JPHashing
+{
+  private static final char[]                    HEX;
+  private static final long                      MURMUR_C1;
+  private static final long                      MURMUR_C2;
+  private static final ThreadLocal<MessageDigest> SHA_256;
+
+  static {
+    HEX = "0123456789abcdef".toCharArray();
+    MURMUR_C1 = 0x87c37b91114253d5L;
+    MURMUR_C2 = 0x4cf5ad432745937fL;
+
+    /**
+     * Digest instances are not thread-safe, but are expensive enough to look
+     * up that it is worth keeping one per thread.
+     */
+
+    SHA_256 = new ThreadLocal<MessageDigest>() {
+      @Override protected MessageDigest initialValue()
+      {
+        try {
+          return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+          throw new UnreachableCodeException(e);
+        }
+      }
+    };
+  }
+
+  /**
+   * Hash the remaining bytes of the given buffer. The position of the buffer
+   * is unchanged.
+   * 
+   * @param algorithm
+   *          The hash algorithm.
+   * @param data
+   *          The data.
+   * @return The hash (32 bytes for SHA-256, 16 bytes for MurmurHash3).
+   */
+
+  public static byte[] hashBytes(
+    final JPHashAlgorithm algorithm,
+    final ByteBuffer data)
+  {
+    NullCheck.notNull(algorithm, "Algorithm");
+    NullCheck.notNull(data, "Data");
+
+    switch (algorithm) {
+      case HASH_MURMUR3_128:
+        return JPHashing.murmur3(data.duplicate());
+      case HASH_SHA_256:
+        return JPHashing.sha256(data.duplicate());
+      case HASH_SHA_256_LINES:
+        return JPHashing.sha256Lines(data.duplicate());
+    }
+
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Hash the given source text. The hash covers the UTF-8 encoding of every
+   * line including its terminating <code>'\n'</code>, so the way the text is
+   * divided into lines affects the result. The exception is
+   * {@link JPHashAlgorithm#HASH_SHA_256_LINES}, which omits the terminators.
+   * 
+   * @param algorithm
+   *          The hash algorithm.
+   * @param text
+   *          The text.
+   * @return The hash as a lowercase hexadecimal string.
+   */
+
+  public static String hashText(
+    final JPHashAlgorithm algorithm,
+    final JPSourceText text)
+  {
+    NullCheck.notNull(text, "Text");
+    return JPHashing.hex(JPHashing.hashBytes(algorithm, text.getBuffer()));
+  }
+
+  /**
+   * @param data
+   *          The bytes.
+   * @return The given bytes as a lowercase hexadecimal string.
+   */
+
+  public static String hex(
+    final byte[] data)
+  {
+    NullCheck.notNull(data, "Data");
+
+    final char[] out = new char[data.length * 2];
+    for (int index = 0; index < data.length; ++index) {
+      final int b = data[index] & 0xff;
+      out[index * 2] = JPHashing.HEX[b >>> 4];
+      out[(index * 2) + 1] = JPHashing.HEX[b & 0xf];
+    }
+    return new String(out);
+  }
+
+  private static long murmurFinalMix(
+    final long in_k)
+  {
+    long k = in_k;
+    k ^= k >>> 33;
+    k *= 0xff51afd7ed558ccdL;
+    k ^= k >>> 33;
+    k *= 0xc4ceb9fe1a85ec53L;
+    k ^= k >>> 33;
+    return k;
+  }
+
+  private static long murmurMixK1(
+    final long in_k1)
+  {
+    long k1 = in_k1;
+    k1 *= JPHashing.MURMUR_C1;
+    k1 = Long.rotateLeft(k1, 31);
+    k1 *= JPHashing.MURMUR_C2;
+    return k1;
+  }
+
+  private static long murmurMixK2(
+    final long in_k2)
+  {
+    long k2 = in_k2;
+    k2 *= JPHashing.MURMUR_C2;
+    k2 = Long.rotateLeft(k2, 33);
+    k2 *= JPHashing.MURMUR_C1;
+    return k2;
+  }
+
+  private static byte[] murmur3(
+    final ByteBuffer data)
+  {
+    final long length = data.remaining();
+    data.order(ByteOrder.LITTLE_ENDIAN);
+
+    long h1 = 0;
+    long h2 = 0;
+
+    while (data.remaining() >= 16) {
+      final long k1 = data.getLong();
+      final long k2 = data.getLong();
+
+      h1 ^= JPHashing.murmurMixK1(k1);
+      h1 = Long.rotateLeft(h1, 27);
+      h1 += h2;
+      h1 = (h1 * 5) + 0x52dce729;
+
+      h2 ^= JPHashing.murmurMixK2(k2);
+      h2 = Long.rotateLeft(h2, 31);
+      h2 += h1;
+      h2 = (h2 * 5) + 0x38495ab5;
+    }
+
+    /**
+     * The remaining (at most 15) bytes are treated as if padded with zeroes
+     * to a full block, but only the words that contain data are mixed.
+     */
+
+    final int tail_size = data.remaining();
+    if (tail_size > 0) {
+      final ByteBuffer tail = ByteBuffer.allocate(16);
+      tail.order(ByteOrder.LITTLE_ENDIAN);
+      tail.put(data);
+      final long k1 = tail.getLong(0);
+      final long k2 = tail.getLong(8);
+      if (tail_size > 8) {
+        h2 ^= JPHashing.murmurMixK2(k2);
+      }
+      h1 ^= JPHashing.murmurMixK1(k1);
+    }
+
+    h1 ^= length;
+    h2 ^= length;
+    h1 += h2;
+    h2 += h1;
+    h1 = JPHashing.murmurFinalMix(h1);
+    h2 = JPHashing.murmurFinalMix(h2);
+    h1 += h2;
+    h2 += h1;
+
+    final ByteBuffer out = ByteBuffer.allocate(16);
+    out.order(ByteOrder.LITTLE_ENDIAN);
+    out.putLong(h1);
+    out.putLong(h2);
+    final byte[] r = out.array();
+    assert r != null;
+    return r;
+  }
+
+  private static byte[] sha256(
+    final ByteBuffer data)
+  {
+    final MessageDigest md = JPHashing.SHA_256.get();
+    md.reset();
+    md.update(data);
+    final byte[] r = md.digest();
+    assert r != null;
+    return r;
+  }
+
+  private static byte[] sha256Lines(
+    final ByteBuffer data)
+  {
+    final MessageDigest md = JPHashing.SHA_256.get();
+    md.reset();
+
+    int start = data.position();
+    final int end = data.limit();
+    for (int index = start; index < end; ++index) {
+      if (data.get(index) == '\n') {
+        final ByteBuffer line = data.duplicate();
+        line.limit(index);
+        line.position(start);
+        md.update(line);
+        start = index + 1;
+      }
+    }
+
+    final ByteBuffer rest = data.duplicate();
+    rest.position(start);
+    md.update(rest);
+
+    final byte[] r = md.digest();
+    assert r != null;
+    return r;
+  }
+
+  private JPHashing()
+  {
+    throw new UnreachableCodeException();
+  }
+}
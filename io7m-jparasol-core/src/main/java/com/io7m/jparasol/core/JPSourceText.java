@@ -0,0 +1,276 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.core;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.AbstractList;
+import java.util.List;
+
+import com.io7m.jequality.annotations.EqualityStructural;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
+
+/**
+ * <p>
+ * Lines of source code, held compactly as a single array of UTF-8 encoded
+ * bytes in which each line is terminated with <code>'\n'</code>, and an
+ * array of the offsets at which each line begins.
+ * </p>
+ * <p>
+ * Values of this type are immutable, and may share storage with each other.
+ * </p>
+ */
+
+@EqualityStructural public final class JPSourceText
+{
+  private static final Charset UTF8;
+
+  static {
+    final Charset c = Charset.forName("UTF-8");
+    assert c != null;
+    UTF8 = c;
+  }
+
+  /**
+   * Construct source text from the given lines. The lines must not contain
+   * line terminators.
+   *
+   * @param lines
+   *          The lines
+   * @return Source text
+   */
+
+  public static JPSourceText newText(
+    final List<String> lines)
+  {
+    NullCheck.notNullAll(lines, "Lines");
+
+    final int count = lines.size();
+    final byte[][] encoded = new byte[count][];
+    int size = 0;
+    for (int index = 0; index < count; ++index) {
+      final String line = lines.get(index);
+      assert line.indexOf('\n') == -1;
+      encoded[index] = line.getBytes(JPSourceText.UTF8);
+      size = size + encoded[index].length + 1;
+    }
+
+    final byte[] data = new byte[size];
+    final int[] offsets = new int[count + 1];
+    int position = 0;
+    for (int index = 0; index < count; ++index) {
+      final byte[] e = encoded[index];
+      offsets[index] = position;
+      System.arraycopy(e, 0, data, position, e.length);
+      position = position + e.length;
+      data[position] = '\n';
+      position = position + 1;
+    }
+    offsets[count] = position;
+
+    return new JPSourceText(data, offsets, 0);
+  }
+
+  private final byte[] data;
+  private final int    first;
+  private final int[]  offsets;
+
+  private JPSourceText(
+    final byte[] in_data,
+    final int[] in_offsets,
+    final int in_first)
+  {
+    this.data = in_data;
+    this.offsets = in_offsets;
+    this.first = in_first;
+  }
+
+  @Override public boolean equals(
+    final @Nullable Object obj)
+  {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (this.getClass() != obj.getClass()) {
+      return false;
+    }
+    final JPSourceText other = (JPSourceText) obj;
+    return this.getBuffer().equals(other.getBuffer());
+  }
+
+  /**
+   * @return A read-only buffer of the UTF-8 encoded text, in which every
+   *         line (including the last) is terminated with <code>'\n'</code>
+   */
+
+  public ByteBuffer getBuffer()
+  {
+    final int start = this.offsets[this.first];
+    final int end = this.offsets[this.offsets.length - 1];
+    final ByteBuffer r =
+      ByteBuffer.wrap(this.data, start, end - start).slice();
+    final ByteBuffer ro = r.asReadOnlyBuffer();
+    assert ro != null;
+    return ro;
+  }
+
+  /**
+   * @return The size in bytes of the UTF-8 encoded text, including line
+   *         terminators
+   */
+
+  public int getByteSize()
+  {
+    return this.offsets[this.offsets.length - 1] - this.offsets[this.first];
+  }
+
+  /**
+   * @param index
+   *          The line number, starting at <code>0</code>
+   * @return The line at <code>index</code>, without a line terminator
+   * @throws IndexOutOfBoundsException
+   *           If <code>index</code> is not a valid line number
+   */
+
+  public String getLine(
+    final int index)
+    throws IndexOutOfBoundsException
+  {
+    if ((index < 0) || (index >= this.getLineCount())) {
+      throw new IndexOutOfBoundsException(Integer.toString(index));
+    }
+
+    final int actual = this.first + index;
+    final int start = this.offsets[actual];
+    final int length = (this.offsets[actual + 1] - start) - 1;
+    return new String(this.data, start, length, JPSourceText.UTF8);
+  }
+
+  /**
+   * @return The number of lines
+   */
+
+  public int getLineCount()
+  {
+    return (this.offsets.length - 1) - this.first;
+  }
+
+  /**
+   * @param index
+   *          The line number, starting at <code>0</code>
+   * @return The offset in bytes of the start of line <code>index</code>
+   *         within {@link #getBuffer()}. An index equal to the number of
+   *         lines yields the size of the text.
+   */
+
+  public int getLineOffset(
+    final int index)
+  {
+    if ((index < 0) || (index > this.getLineCount())) {
+      throw new IndexOutOfBoundsException(Integer.toString(index));
+    }
+    return this.offsets[this.first + index] - this.offsets[this.first];
+  }
+
+  /**
+   * @return A read-only view of the lines, decoded as they are accessed
+   */
+
+  public List<String> getLines()
+  {
+    return new AbstractList<String>() {
+      @Override public String get(
+        final int index)
+      {
+        return JPSourceText.this.getLine(index);
+      }
+
+      @Override public int size()
+      {
+        return JPSourceText.this.getLineCount();
+      }
+    };
+  }
+
+  @Override public int hashCode()
+  {
+    return this.getBuffer().hashCode();
+  }
+
+  @Override public String toString()
+  {
+    return new String(
+      this.data,
+      this.offsets[this.first],
+      this.getByteSize(),
+      JPSourceText.UTF8);
+  }
+
+  /**
+   * @param line
+   *          The new first line, without a line terminator
+   * @return This text with the first line replaced by <code>line</code>
+   */
+
+  public JPSourceText withFirstLine(
+    final String line)
+  {
+    NullCheck.notNull(line, "Line");
+    assert line.indexOf('\n') == -1;
+    if (this.getLineCount() == 0) {
+      throw new IndexOutOfBoundsException("0");
+    }
+
+    final byte[] e = line.getBytes(JPSourceText.UTF8);
+    final int tail_start = this.offsets[this.first + 1];
+    final int tail_end = this.offsets[this.offsets.length - 1];
+    final int tail_size = tail_end - tail_start;
+
+    final byte[] new_data = new byte[e.length + 1 + tail_size];
+    System.arraycopy(e, 0, new_data, 0, e.length);
+    new_data[e.length] = '\n';
+    System.arraycopy(this.data, tail_start, new_data, e.length + 1, tail_size);
+
+    final int count = this.getLineCount();
+    final int[] new_offsets = new int[count + 1];
+    final int shift = (e.length + 1) - tail_start;
+    new_offsets[0] = 0;
+    for (int index = 1; index <= count; ++index) {
+      new_offsets[index] = this.offsets[this.first + index] + shift;
+    }
+
+    return new JPSourceText(new_data, new_offsets, 0);
+  }
+
+  /**
+   * @return This text without the first line. The result shares storage
+   *         with this text.
+   */
+
+  public JPSourceText withoutFirstLine()
+  {
+    if (this.getLineCount() == 0) {
+      throw new IndexOutOfBoundsException("0");
+    }
+    return new JPSourceText(this.data, this.offsets, this.first + 1);
+  }
+}
@@ -16,6 +16,8 @@
 
 package com.io7m.jparasol.core;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
@@ -45,16 +47,42 @@ import com.io7m.jnull.NullCheck;
   public static JPUncompactedVertexShader newShader(
     final JPUncompactedVertexShaderMeta in_meta,
     final Map<GVersionType, List<String>> in_sources)
+  {
+    NullCheck.notNull(in_sources, "Sources");
+
+    final Map<GVersionType, JPSourceText> texts =
+      new HashMap<GVersionType, JPSourceText>(in_sources.size());
+    for (final GVersionType v : in_sources.keySet()) {
+      final List<String> lines = in_sources.get(v);
+      assert lines != null;
+      texts.put(v, JPSourceText.newText(lines));
+    }
+    return new JPUncompactedVertexShader(in_meta, texts);
+  }
+
+  /**
+   * Construct a shader from compact source text.
+   * 
+   * @param in_meta
+   *          The shader metadata.
+   * @param in_sources
+   *          The sources, by version.
+   * @return A shader.
+   */
+
+  public static JPUncompactedVertexShader newShaderFromText(
+    final JPUncompactedVertexShaderMeta in_meta,
+    final Map<GVersionType, JPSourceText> in_sources)
   {
     return new JPUncompactedVertexShader(in_meta, in_sources);
   }
 
   private final JPUncompactedVertexShaderMeta   meta;
-  private final Map<GVersionType, List<String>> sources;
+  private final Map<GVersionType, JPSourceText> sources;
 
   private JPUncompactedVertexShader(
     final JPUncompactedVertexShaderMeta in_meta,
-    final Map<GVersionType, List<String>> in_sources)
+    final Map<GVersionType, JPSourceText> in_sources)
   {
     this.sources = NullCheck.notNull(in_sources, "Sources");
     this.meta = NullCheck.notNull(in_meta, "Metadata");
@@ -86,7 +114,28 @@ import com.io7m.jnull.NullCheck;
 
   public Map<GVersionType, List<String>> getSources()
   {
-    return this.sources;
+    final Map<GVersionType, List<String>> r =
+      new HashMap<GVersionType, List<String>>(this.sources.size());
+    for (final GVersionType v : this.sources.keySet()) {
+      final JPSourceText text = this.sources.get(v);
+      assert text != null;
+      r.put(v, text.getLines());
+    }
+    final Map<GVersionType, List<String>> ro = Collections.unmodifiableMap(r);
+    assert ro != null;
+    return ro;
+  }
+
+  /**
+   * @return A read-only map of the compact shader sources, by version.
+   */
+
+  public Map<GVersionType, JPSourceText> getSourceTexts()
+  {
+    final Map<GVersionType, JPSourceText> r =
+      Collections.unmodifiableMap(this.sources);
+    assert r != null;
+    return r;
   }
 
   @Override public SortedSet<GVersionES> getSupportsES()
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.metaserializer.protobuf;
+
+import java.nio.charset.Charset;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * Constants shared by the catalog reader and writer.
+ */
+
+@EqualityReference final class JPProtobufCatalogFormat
+{
+  static final int     HEADER_SIZE = 16;
+  static final int     MAGIC       = 0x50505343;
+  static final int     RECORD_SIZE = 16;
+  static final Charset UTF8;
+  static final int     VERSION     = 1;
+
+  static {
+    UTF8 = Charset.forName("UTF-8");
+  }
+
+  private JPProtobufCatalogFormat()
+  {
+    throw new UnreachableCodeException();
+  }
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.metaserializer.protobuf;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jfunctional.Option;
+import com.io7m.jfunctional.OptionType;
+import com.io7m.jfunctional.Some;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jparasol.core.JPBufferIndex;
+import com.io7m.jparasol.core.JPCompiledShaderMetaType;
+import com.io7m.jparasol.core.JPMalformedBuffer;
+import com.io7m.jparasol.metaserializer.JPSerializerException;
+import com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta;
+import com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta.ActualCase;
+
+/**
+ * <p>
+ * A reader for metadata catalogs: single files that hold the protobuf
+ * metadata of many shaders and programs.
+ * </p>
+ * <p>
+ * All integers are big-endian 32-bit signed values, and all offsets are
+ * relative to the start of the file. A catalog consists of:
+ * </p>
+ * <ul>
+ * <li>A header: the magic number <code>0x50505343</code> (<code>PPSC</code>),
+ * the format version, the number of entries, and the offset of the index.</li>
+ * <li>The index: one record per entry, sorted by the UTF-8 encoded name of
+ * the shader, giving the offset and length of the name and of the
+ * serialized <code>ProgramMeta.Meta</code> message.</li>
+ * <li>The names referred to by the index.</li>
+ * <li>The messages referred to by the index, each preceded by its length
+ * encoded as a protobuf varint.</li>
+ * </ul>
+ * <p>
+ * Entries are located by binary search over the index, without decoding
+ * any names, and only the metadata of the entries actually requested is
+ * decoded. Readers are safe to use from multiple threads.
+ * </p>
+ */
+
+@EqualityReference public final class JPProtobufCatalogReader
+{
+  private static final String WHAT = "Catalog";
+
+  /**
+   * Construct a reader for the catalog held in the remaining bytes of
+   * <code>in_buffer</code>. The state of <code>in_buffer</code> is not
+   * modified, but the contents of the buffer must not be changed while the
+   * reader is in use.
+   *
+   * @param in_buffer
+   *          The catalog
+   * @return A new reader
+   * @throws JPSerializerException
+   *           If the buffer does not contain a catalog
+   */
+
+  public static JPProtobufCatalogReader newReader(
+    final ByteBuffer in_buffer)
+    throws JPSerializerException
+  {
+    NullCheck.notNull(in_buffer, "Buffer");
+
+    final ByteBuffer b = in_buffer.slice().order(ByteOrder.BIG_ENDIAN);
+    assert b != null;
+    return new JPProtobufCatalogReader(b);
+  }
+
+  /**
+   * Map the catalog at <code>file</code> into memory and construct a reader
+   * for it.
+   *
+   * @param file
+   *          The catalog
+   * @return A new reader
+   * @throws IOException
+   *           On I/O errors
+   * @throws JPSerializerException
+   *           If the file does not contain a catalog
+   */
+
+  public static JPProtobufCatalogReader newReaderFromFile(
+    final File file)
+    throws IOException,
+      JPSerializerException
+  {
+    NullCheck.notNull(file, "File");
+
+    final RandomAccessFile f = new RandomAccessFile(file, "r");
+    try {
+      final FileChannel c = f.getChannel();
+      final MappedByteBuffer m =
+        c.map(FileChannel.MapMode.READ_ONLY, 0, c.size());
+      assert m != null;
+      return JPProtobufCatalogReader.newReader(m);
+    } finally {
+      f.close();
+    }
+  }
+
+  private final ByteBuffer buffer;
+  private final int        count;
+  private final int        index;
+
+  private JPProtobufCatalogReader(
+    final ByteBuffer in_buffer)
+    throws JPSerializerException
+  {
+    this.buffer = in_buffer;
+
+    try {
+      JPBufferIndex.checkHeader(
+        in_buffer,
+        JPProtobufCatalogFormat.HEADER_SIZE,
+        JPProtobufCatalogFormat.MAGIC,
+        JPProtobufCatalogFormat.VERSION,
+        JPProtobufCatalogReader.WHAT);
+    } catch (final JPMalformedBuffer e) {
+      throw new JPSerializerException(e);
+    }
+
+    this.count = in_buffer.getInt(8);
+    this.index = in_buffer.getInt(12);
+    if (this.count < 0) {
+      throw new JPSerializerException("Catalog has a negative entry count");
+    }
+    this.checkRegion(
+      this.index,
+      (long) this.count * JPProtobufCatalogFormat.RECORD_SIZE);
+  }
+
+  private void checkRegion(
+    final long offset,
+    final long length)
+    throws JPSerializerException
+  {
+    try {
+      JPBufferIndex.checkRegion(
+        this.buffer,
+        offset,
+        length,
+        JPProtobufCatalogReader.WHAT);
+    } catch (final JPMalformedBuffer e) {
+      throw new JPSerializerException(e);
+    }
+  }
+
+  private String decode(
+    final int offset,
+    final int length)
+  {
+    final byte[] b = new byte[length];
+    for (int i = 0; i < length; ++i) {
+      b[i] = this.buffer.get(offset + i);
+    }
+    return new String(b, JPProtobufCatalogFormat.UTF8);
+  }
+
+  /**
+   * @return The offset of the index record with the given name, or
+   *         {@link JPBufferIndex#NOT_FOUND}
+   */
+
+  private int find(
+    final byte[] key)
+    throws JPSerializerException
+  {
+    try {
+      return JPBufferIndex.find(
+        this.buffer,
+        this.index,
+        this.count,
+        JPProtobufCatalogFormat.RECORD_SIZE,
+        key,
+        JPProtobufCatalogReader.WHAT);
+    } catch (final JPMalformedBuffer e) {
+      throw new JPSerializerException(e);
+    }
+  }
+
+  /**
+   * @return The number of entries in the catalog
+   */
+
+  public int getShaderCount()
+  {
+    return this.count;
+  }
+
+  /**
+   * @return The names of all entries in the catalog, in the order of their
+   *         UTF-8 encodings
+   * @throws JPSerializerException
+   *           If the catalog is malformed
+   */
+
+  public List<String> getShaderNames()
+    throws JPSerializerException
+  {
+    final List<String> names = new ArrayList<String>(this.count);
+    for (int i = 0; i < this.count; ++i) {
+      final int record = this.index + (i * JPProtobufCatalogFormat.RECORD_SIZE);
+      final int offset = this.buffer.getInt(record);
+      final int length = this.buffer.getInt(record + 4);
+      this.checkRegion(offset, length);
+      names.add(this.decode(offset, length));
+    }
+
+    final List<String> r = Collections.unmodifiableList(names);
+    assert r != null;
+    return r;
+  }
+
+  /**
+   * @param name
+   *          The name of a shader or program
+   * @return <code>true</code> if the catalog contains the named entry
+   * @throws JPSerializerException
+   *           If the catalog is malformed
+   */
+
+  public boolean hasShader(
+    final String name)
+    throws JPSerializerException
+  {
+    NullCheck.notNull(name, "Name");
+    final int record = this.find(name.getBytes(JPProtobufCatalogFormat.UTF8));
+    return record != JPBufferIndex.NOT_FOUND;
+  }
+
+  /**
+   * Find and parse the protobuf message of the named shader or program. The
+   * message is decoded directly from the catalog, and its string fields are
+   * only decoded when they are first accessed.
+   *
+   * @param name
+   *          The name of a shader or program
+   * @return The message, if the catalog contains the named entry
+   * @throws IOException
+   *           On I/O errors
+   * @throws JPSerializerException
+   *           If the catalog is malformed
+   * @see JPProtobufMetaDeserializer#metaUnpack(Meta)
+   */
+
+  public OptionType<Meta> lookupMessage(
+    final String name)
+    throws IOException,
+      JPSerializerException
+  {
+    NullCheck.notNull(name, "Name");
+
+    final int record = this.find(name.getBytes(JPProtobufCatalogFormat.UTF8));
+    if (record == JPBufferIndex.NOT_FOUND) {
+      return Option.none();
+    }
+
+    final int offset = this.buffer.getInt(record + 8);
+    final int length = this.buffer.getInt(record + 12);
+    this.checkRegion(offset, length);
+    if (length > JPProtobufHeader.MAXIMUM_DATA_SIZE) {
+      throw new JPSerializerException(String.format(
+        "Metadata for %s is of size %d, exceeding the maximum size %d",
+        name,
+        Integer.valueOf(length),
+        Integer.valueOf(JPProtobufHeader.MAXIMUM_DATA_SIZE)));
+    }
+
+    final ByteBuffer view = this.buffer.duplicate();
+    view.limit(offset + length);
+    view.position(offset);
+    return Option.some(JPProtobufMetaDeserializer.parseMessage(view));
+  }
+
+  /**
+   * Find and deserialize the metadata of the named shader or program.
+   *
+   * @param name
+   *          The name of a shader or program
+   * @return The metadata, if the catalog contains the named entry
+   * @throws IOException
+   *           On I/O errors
+   * @throws JPSerializerException
+   *           If the catalog is malformed, or the metadata cannot be
+   *           deserialized
+   */
+
+  public OptionType<JPCompiledShaderMetaType> lookupMeta(
+    final String name)
+    throws IOException,
+      JPSerializerException
+  {
+    final OptionType<Meta> m_opt = this.lookupMessage(name);
+    if (m_opt.isNone()) {
+      return Option.none();
+    }
+
+    final Meta m = ((Some<Meta>) m_opt).get();
+    final OptionType<EnumSet<ActualCase>> any = Option.none();
+    final JPCompiledShaderMetaType meta =
+      JPProtobufMetaDeserializer.unpackShader(any, m);
+
+    if (name.equals(meta.getName()) == false) {
+      throw new JPSerializerException(String.format(
+        "Catalog entry %s contains the metadata of %s",
+        name,
+        meta.getName()));
+    }
+    return Option.some(meta);
+  }
+}
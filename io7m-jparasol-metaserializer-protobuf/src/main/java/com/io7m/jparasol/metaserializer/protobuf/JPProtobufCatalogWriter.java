@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.metaserializer.protobuf;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.protobuf.CodedOutputStream;
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jparasol.core.JPBufferIndex;
+import com.io7m.jparasol.core.JPCompiledShaderMetaType;
+import com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta;
+
+/**
+ * <p>
+ * A writer that accumulates the metadata of many shaders and writes it as a
+ * single catalog file (see {@link JPProtobufCatalogReader}).
+ * </p>
+ * <p>
+ * Because the index precedes the records it refers to, the metadata is
+ * held in memory until {@link #write(OutputStream)} is called.
+ * </p>
+ */
+
+@EqualityReference public final class JPProtobufCatalogWriter
+{
+  @EqualityReference private static final class Entry
+  {
+    private final Meta   meta;
+    private final byte[] name;
+
+    Entry(
+      final byte[] in_name,
+      final Meta in_meta)
+    {
+      this.name = in_name;
+      this.meta = in_meta;
+    }
+  }
+
+  private static final Comparator<Entry> ENTRY_ORDER;
+
+  static {
+    ENTRY_ORDER = new Comparator<Entry>() {
+      @Override public int compare(
+        final Entry x,
+        final Entry y)
+      {
+        return JPBufferIndex.ORDER.compare(x.name, y.name);
+      }
+    };
+  }
+
+  /**
+   * @return A new, empty catalog writer
+   */
+
+  public static JPProtobufCatalogWriter newWriter()
+  {
+    return new JPProtobufCatalogWriter();
+  }
+
+  private final Map<String, Entry> shaders;
+
+  private JPProtobufCatalogWriter()
+  {
+    this.shaders = new HashMap<String, Entry>();
+  }
+
+  /**
+   * Add the metadata of a shader or program to the catalog. The metadata is
+   * indexed by the name of the shader.
+   *
+   * @param meta
+   *          The metadata
+   * @throws IOException
+   *           If a shader of the same name has already been added
+   */
+
+  public void putShader(
+    final JPCompiledShaderMetaType meta)
+    throws IOException
+  {
+    NullCheck.notNull(meta, "Meta");
+
+    final String name = meta.getName();
+    if (this.shaders.containsKey(name)) {
+      throw new IOException(String.format(
+        "A shader named %s has already been added to the catalog",
+        name));
+    }
+
+    final Meta m = JPProtobufMetaSerializer.pack(meta);
+    this.shaders.put(
+      name,
+      new Entry(name.getBytes(JPProtobufCatalogFormat.UTF8), m));
+  }
+
+  /**
+   * Write the catalog to the given stream. The stream is flushed but not
+   * closed.
+   *
+   * @param out
+   *          The output stream
+   * @throws IOException
+   *           On I/O errors, or if the catalog would exceed the maximum
+   *           size of a catalog file
+   */
+
+  public void write(
+    final OutputStream out)
+    throws IOException
+  {
+    NullCheck.notNull(out, "Output");
+
+    final List<Entry> entries = new ArrayList<Entry>(this.shaders.values());
+    Collections.sort(entries, JPProtobufCatalogWriter.ENTRY_ORDER);
+
+    long names_size = 0;
+    for (final Entry e : entries) {
+      names_size += e.name.length;
+    }
+
+    final long index_size =
+      (long) entries.size() * JPProtobufCatalogFormat.RECORD_SIZE;
+    final long names_offset = JPProtobufCatalogFormat.HEADER_SIZE + index_size;
+
+    /**
+     * Each record is written in length-delimited form, so that the record
+     * section can also be read sequentially without the index. The index
+     * gives the offset of the message itself, after its length prefix.
+     */
+
+    final long[] record_offsets = new long[entries.size()];
+    long offset = names_offset + names_size;
+    for (int index = 0; index < entries.size(); ++index) {
+      final int size = entries.get(index).meta.getSerializedSize();
+      offset += CodedOutputStream.computeRawVarint32Size(size);
+      record_offsets[index] = offset;
+      offset += size;
+    }
+
+    if (offset > Integer.MAX_VALUE) {
+      throw new IOException(String.format(
+        "Catalog size %d exceeds the maximum size %d",
+        Long.valueOf(offset),
+        Integer.valueOf(Integer.MAX_VALUE)));
+    }
+
+    final DataOutputStream d = new DataOutputStream(out);
+    d.writeInt(JPProtobufCatalogFormat.MAGIC);
+    d.writeInt(JPProtobufCatalogFormat.VERSION);
+    d.writeInt(entries.size());
+    d.writeInt(JPProtobufCatalogFormat.HEADER_SIZE);
+
+    long name_offset = names_offset;
+    for (int index = 0; index < entries.size(); ++index) {
+      final Entry e = entries.get(index);
+      d.writeInt((int) name_offset);
+      d.writeInt(e.name.length);
+      d.writeInt((int) record_offsets[index]);
+      d.writeInt(e.meta.getSerializedSize());
+      name_offset += e.name.length;
+    }
+
+    for (final Entry e : entries) {
+      d.write(e.name);
+    }
+    for (final Entry e : entries) {
+      e.meta.writeDelimitedTo(d);
+    }
+    d.flush();
+  }
+}
@@ -16,6 +16,7 @@
 
 package com.io7m.jparasol.metaserializer.protobuf;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -29,23 +30,26 @@ import com.io7m.junreachable.UnreachableCodeException;
 
 @EqualityReference final class JPProtobufHeader
 {
+  /**
+   * The size of the header and size fields that precede serialized shader
+   * metadata.
+   */
+
+  public static final int  HEADER_SIZE       = 12;
+
   /**
    * The maximum size of serialized shader metadata.
    */
 
-  public static final int MAXIMUM_DATA_SIZE = 1000000;
+  public static final int  MAXIMUM_DATA_SIZE = 1000000;
+
+  private static final int MAGIC             = 0x5050534D;
 
-  @SuppressWarnings("boxing") private static void checkHeader(
-    final byte[] b)
+  @SuppressWarnings("boxing") private static void checkMagic(
+    final int m)
     throws JPSerializerException
   {
-    boolean ok = true;
-    ok = ok && (b[0] == 'P');
-    ok = ok && (b[1] == 'P');
-    ok = ok && (b[2] == 'S');
-    ok = ok && (b[3] == 'M');
-
-    if (!ok) {
+    if (m != JPProtobufHeader.MAGIC) {
       final StringBuilder s = new StringBuilder();
       final String exp =
         String.format(
@@ -55,7 +59,12 @@ import com.io7m.junreachable.UnreachableCodeException;
           (int) 'S',
           (int) 'M');
       final String got =
-        String.format("  Got:      %x %x %x %x\n", b[0], b[1], b[2], b[3]);
+        String.format(
+          "  Got:      %x %x %x %x\n",
+          (m >>> 24) & 0xff,
+          (m >>> 16) & 0xff,
+          (m >>> 8) & 0xff,
+          m & 0xff);
       s.append("Invalid header on file.\n");
       s.append(exp);
       s.append(got);
@@ -65,12 +74,30 @@ import com.io7m.junreachable.UnreachableCodeException;
     }
   }
 
-  static void readAndCheckVersion(
-    final InputStream in)
-    throws IOException,
-      JPSerializerException
+  private static int checkSize(
+    final int r)
+    throws JPSerializerException
+  {
+    if ((r < 1) || (r > JPProtobufHeader.MAXIMUM_DATA_SIZE)) {
+      final StringBuilder s = new StringBuilder();
+      s.append("Invalid data size received.\n");
+      s.append("  Expected: 0 < r < ");
+      s.append(JPProtobufHeader.MAXIMUM_DATA_SIZE);
+      s.append("\n");
+      s.append("  Got: r == ");
+      s.append(r);
+      s.append("\n");
+      final String rs = s.toString();
+      assert rs != null;
+      throw new JPSerializerException(rs);
+    }
+    return r;
+  }
+
+  private static void checkVersion(
+    final int v)
+    throws JPSerializerException
   {
-    final int v = JPProtobufHeader.readHeader(in);
     if (v != JPProtobufMetaSerializer.META_VERSION) {
       final StringBuilder s = new StringBuilder();
       s.append("Unsupported metadata version.\n");
@@ -86,18 +113,79 @@ import com.io7m.junreachable.UnreachableCodeException;
     }
   }
 
-  static int readHeader(
+  /**
+   * @return The big-endian integer at absolute offset <code>offset</code>
+   *         of <code>b</code>, regardless of the byte order of
+   *         <code>b</code>
+   */
+
+  private static int getInt(
+    final ByteBuffer b,
+    final int offset)
+  {
+    int r = 0;
+    for (int index = 0; index < 4; ++index) {
+      r = (r << 8) | (b.get(offset + index) & 0xff);
+    }
+    return r;
+  }
+
+  /**
+   * Check the header at absolute offset <code>offset</code> of
+   * <code>b</code>. The buffer is read with absolute gets, and so its
+   * position and byte order are not used or modified.
+   */
+
+  static void readAndCheckVersion(
+    final ByteBuffer b,
+    final int offset)
+    throws JPSerializerException
+  {
+    if ((offset < 0) || ((b.limit() - offset) < JPProtobufHeader.HEADER_SIZE)) {
+      throw new JPSerializerException(
+        "Buffer is too short to contain a metadata header");
+    }
+
+    JPProtobufHeader.checkMagic(JPProtobufHeader.getInt(b, offset));
+    JPProtobufHeader.checkVersion(JPProtobufHeader.getInt(b, offset + 4));
+  }
+
+  static void readAndCheckVersion(
     final InputStream in)
     throws IOException,
       JPSerializerException
   {
-    final byte[] b = new byte[4];
-    in.read(b, 0, 4);
-    JPProtobufHeader.checkHeader(b);
-    in.read(b, 0, 4);
-    final ByteBuffer bb = ByteBuffer.wrap(b);
-    bb.order(ByteOrder.BIG_ENDIAN);
-    return (int) Unsigned32.unpackFromBuffer(bb, 0);
+    JPProtobufHeader.checkMagic(JPProtobufHeader.readInt(in));
+    JPProtobufHeader.checkVersion(JPProtobufHeader.readInt(in));
+  }
+
+  private static int readInt(
+    final InputStream in)
+    throws IOException
+  {
+    int r = 0;
+    for (int index = 0; index < 4; ++index) {
+      final int x = in.read();
+      if (x == -1) {
+        throw new EOFException("Unexpected end of metadata stream");
+      }
+      r = (r << 8) | x;
+    }
+    return r;
+  }
+
+  /**
+   * @return The size field of the header at absolute offset
+   *         <code>offset</code> of <code>b</code>, which must already have
+   *         been checked with {@link #readAndCheckVersion(ByteBuffer, int)}
+   */
+
+  static int readSize(
+    final ByteBuffer b,
+    final int offset)
+    throws JPSerializerException
+  {
+    return JPProtobufHeader.checkSize(JPProtobufHeader.getInt(b, offset + 8));
   }
 
   static int readSize(
@@ -105,25 +193,7 @@ import com.io7m.junreachable.UnreachableCodeException;
     throws IOException,
       JPSerializerException
   {
-    final byte[] b = new byte[4];
-    in.read(b, 0, 4);
-    final ByteBuffer bb = ByteBuffer.wrap(b);
-    bb.order(ByteOrder.BIG_ENDIAN);
-    final int r = (int) Unsigned32.unpackFromBuffer(bb, 0);
-    if ((r < 1) || (r > JPProtobufHeader.MAXIMUM_DATA_SIZE)) {
-      final StringBuilder s = new StringBuilder();
-      s.append("Invalid data size received.\n");
-      s.append("  Expected: 0 < r < ");
-      s.append(JPProtobufHeader.MAXIMUM_DATA_SIZE);
-      s.append("\n");
-      s.append("  Got: r == ");
-      s.append(r);
-      s.append("\n");
-      final String rs = s.toString();
-      assert rs != null;
-      throw new JPSerializerException(rs);
-    }
-    return r;
+    return JPProtobufHeader.checkSize(JPProtobufHeader.readInt(in));
   }
 
   static void writeHeaderAndSize(
@@ -131,17 +201,12 @@ import com.io7m.junreachable.UnreachableCodeException;
     final int size)
     throws IOException
   {
-    final ByteBuffer b = ByteBuffer.allocate(4);
+    final ByteBuffer b = ByteBuffer.allocate(JPProtobufHeader.HEADER_SIZE);
     b.order(ByteOrder.BIG_ENDIAN);
-    b.put(0, (byte) 'P');
-    b.put(1, (byte) 'P');
-    b.put(2, (byte) 'S');
-    b.put(3, (byte) 'M');
-    out.write(b.array(), 0, 4);
-    Unsigned32.packToBuffer(JPProtobufMetaSerializer.META_VERSION, b, 0);
-    out.write(b.array(), 0, 4);
-    Unsigned32.packToBuffer(size, b, 0);
-    out.write(b.array(), 0, 4);
+    b.putInt(0, JPProtobufHeader.MAGIC);
+    Unsigned32.packToBuffer(JPProtobufMetaSerializer.META_VERSION, b, 4);
+    Unsigned32.packToBuffer(size, b, 8);
+    out.write(b.array(), 0, JPProtobufHeader.HEADER_SIZE);
   }
 
   private JPProtobufHeader()
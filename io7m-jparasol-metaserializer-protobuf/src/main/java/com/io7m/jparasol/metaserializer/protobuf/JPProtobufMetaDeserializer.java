@@ -18,6 +18,7 @@ package com.io7m.jparasol.metaserializer.protobuf;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
@@ -27,6 +28,7 @@ import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
 
+import com.google.protobuf.CodedInputStream;
 import com.io7m.jequality.annotations.EqualityReference;
 import com.io7m.jfunctional.Option;
 import com.io7m.jfunctional.OptionType;
@@ -42,6 +44,7 @@ import com.io7m.jparasol.core.JPFragmentInput;
 import com.io7m.jparasol.core.JPFragmentOutput;
 import com.io7m.jparasol.core.JPFragmentParameter;
 import com.io7m.jparasol.core.JPFragmentShaderMetaType;
+import com.io7m.jparasol.core.JPHashAlgorithm;
 import com.io7m.jparasol.core.JPMissingHash;
 import com.io7m.jparasol.core.JPUncompactedFragmentShaderMeta;
 import com.io7m.jparasol.core.JPUncompactedProgramShaderMeta;
@@ -62,6 +65,7 @@ import com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShad
 import com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter;
 import com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted;
 import com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion;
+import com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm;
 import com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader;
 import com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash;
 import com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon;
@@ -203,11 +207,41 @@ import com.io7m.junreachable.UnreachableCodeException;
    * @return A new metadata deserializer
    */
 
-  public static JPMetaDeserializerType newDeserializer()
+  public static JPProtobufMetaDeserializer newDeserializer()
   {
     return new JPProtobufMetaDeserializer();
   }
 
+  private static Meta parse(
+    final ByteBuffer buffer)
+    throws IOException,
+      JPSerializerException
+  {
+    final int offset = buffer.position();
+    JPProtobufHeader.readAndCheckVersion(buffer, offset);
+    final int size = JPProtobufHeader.readSize(buffer, offset);
+
+    final int start = offset + JPProtobufHeader.HEADER_SIZE;
+    if ((buffer.limit() - start) < size) {
+      final StringBuilder s = new StringBuilder();
+      s.append("Buffer is too short to contain the metadata.\n");
+      s.append("  Expected: ");
+      s.append(size);
+      s.append(" bytes\n");
+      s.append("  Got: ");
+      s.append(buffer.limit() - start);
+      s.append(" bytes\n");
+      final String r = s.toString();
+      assert r != null;
+      throw new JPSerializerException(r);
+    }
+
+    final ByteBuffer view = buffer.duplicate();
+    view.limit(start + size);
+    view.position(start);
+    return JPProtobufMetaDeserializer.parseMessage(view);
+  }
+
   private static Meta parse(
     final InputStream in)
     throws IOException,
@@ -226,6 +260,21 @@ import com.io7m.junreachable.UnreachableCodeException;
     }
   }
 
+  /**
+   * Parse the message held in exactly the remaining bytes of
+   * <code>view</code>. The message is decoded directly from the buffer:
+   * heap buffers are read in place, and the string fields of the message
+   * are only decoded from UTF-8 when they are first accessed.
+   */
+
+  static Meta parseMessage(
+    final ByteBuffer view)
+    throws IOException
+  {
+    final CodedInputStream c = CodedInputStream.newInstance(view);
+    return NullCheck.notNull(ProgramMeta.Meta.parseFrom(c));
+  }
+
   private static JPCompactedFragmentShaderMeta unpackFragmentCompacted(
     final PFragmentShaderCompacted fc)
     throws JPMissingHash
@@ -251,6 +300,10 @@ import com.io7m.junreachable.UnreachableCodeException;
       JPProtobufMetaDeserializer.makeFragmentParameters(common);
     final Map<GVersionType, String> in_version_hashes =
       JPProtobufMetaDeserializer.makeFragmentHashes(fc);
+    final JPHashAlgorithm in_hash_algorithm =
+      JPProtobufMetaDeserializer.unpackHashAlgorithm(
+        fc.hasHashAlgorithm(),
+        fc.getHashAlgorithm());
 
     return JPCompactedFragmentShaderMeta.newMetadata(
       in_name,
@@ -259,7 +312,8 @@ import com.io7m.junreachable.UnreachableCodeException;
       in_fragment_inputs,
       in_fragment_outputs,
       in_fragment_parameters,
-      in_version_hashes);
+      in_version_hashes,
+      in_hash_algorithm);
   }
 
   private static void unpackFragmentInputs(
@@ -334,6 +388,29 @@ import com.io7m.junreachable.UnreachableCodeException;
       in_fragment_parameters);
   }
 
+  private static JPHashAlgorithm unpackHashAlgorithm(
+    final boolean present,
+    final PHashAlgorithm a)
+  {
+    /**
+     * Metadata written before the algorithm was recorded named sources
+     * with the original hashing scheme.
+     */
+
+    if (present == false) {
+      return JPHashAlgorithm.HASH_SHA_256_LINES;
+    }
+
+    switch (a) {
+      case PHASH_MURMUR3_128:
+        return JPHashAlgorithm.HASH_MURMUR3_128;
+      case PHASH_SHA_256:
+        return JPHashAlgorithm.HASH_SHA_256;
+    }
+
+    throw new UnreachableCodeException();
+  }
+
   private static void unpackHashes(
     final List<PVersionHash> in,
     final Map<GVersionType, String> out)
@@ -374,7 +451,7 @@ import com.io7m.junreachable.UnreachableCodeException;
       in_vertex_shaders);
   }
 
-  private static JPCompiledShaderMetaType unpackShader(
+  static JPCompiledShaderMetaType unpackShader(
     final OptionType<EnumSet<Meta.ActualCase>> expected,
     final Meta m)
     throws JPSerializerException
@@ -507,6 +584,10 @@ import com.io7m.junreachable.UnreachableCodeException;
       JPProtobufMetaDeserializer.makeVertexParameters(common);
     final Map<GVersionType, String> in_version_to_hash =
       JPProtobufMetaDeserializer.makeVertexHashes(v);
+    final JPHashAlgorithm in_hash_algorithm =
+      JPProtobufMetaDeserializer.unpackHashAlgorithm(
+        v.hasHashAlgorithm(),
+        v.getHashAlgorithm());
 
     return JPCompactedVertexShaderMeta.newMetadata(
       in_name,
@@ -515,7 +596,8 @@ import com.io7m.junreachable.UnreachableCodeException;
       in_vertex_inputs,
       in_vertex_outputs,
       in_vertex_parameters,
-      in_version_to_hash);
+      in_version_to_hash,
+      in_hash_algorithm);
   }
 
   private static void unpackVertexInputs(
@@ -710,6 +792,40 @@ import com.io7m.junreachable.UnreachableCodeException;
       .unpackShader(wanted, m);
   }
 
+  /**
+   * <p>
+   * Deserialize metadata from the remaining bytes of the given buffer, which
+   * must begin with metadata in the format read by
+   * {@link #metaDeserializeShader(InputStream)}. Bytes following the
+   * metadata are ignored.
+   * </p>
+   * <p>
+   * The buffer may be a slice of a {@link java.nio.MappedByteBuffer}. The
+   * header is read with absolute gets, and the message is decoded directly
+   * from the buffer, without an intermediate stream. The position, limit
+   * and byte order of the buffer are not modified.
+   * </p>
+   *
+   * @param buffer
+   *          The buffer
+   * @return The metadata
+   * @throws IOException
+   *           If the message is malformed
+   * @throws JPSerializerException
+   *           If the header is malformed, or the buffer is too short
+   */
+
+  public JPCompiledShaderMetaType metaDeserializeShaderFromBuffer(
+    final ByteBuffer buffer)
+    throws IOException,
+      JPSerializerException
+  {
+    NullCheck.notNull(buffer, "Buffer");
+    final Meta m = JPProtobufMetaDeserializer.parse(buffer);
+    final OptionType<EnumSet<ActualCase>> wanted = Option.none();
+    return JPProtobufMetaDeserializer.unpackShader(wanted, m);
+  }
+
   @Override public String metaGetSuggestedFilename()
   {
     return JPProtobufMetaSerializer.SUGGESTED_FILENAME;
@@ -719,4 +835,54 @@ import com.io7m.junreachable.UnreachableCodeException;
   {
     return JPProtobufMetaSerializer.SUGGESTED_FILENAME_SUFFIX;
   }
+
+  /**
+   * <p>
+   * Parse the protobuf message held in the remaining bytes of the given
+   * buffer, as for {@link #metaDeserializeShaderFromBuffer(ByteBuffer)},
+   * but do not convert it to metadata.
+   * </p>
+   * <p>
+   * The string fields of the returned message are held as raw UTF-8 bytes,
+   * and are only decoded into strings when they are first accessed. This is
+   * useful when only a few fields of the metadata are required. The message
+   * can later be converted with {@link #metaUnpack(Meta)}.
+   * </p>
+   *
+   * @param buffer
+   *          The buffer
+   * @return The message
+   * @throws IOException
+   *           If the message is malformed
+   * @throws JPSerializerException
+   *           If the header is malformed, or the buffer is too short
+   */
+
+  public Meta metaParseFromBuffer(
+    final ByteBuffer buffer)
+    throws IOException,
+      JPSerializerException
+  {
+    NullCheck.notNull(buffer, "Buffer");
+    return JPProtobufMetaDeserializer.parse(buffer);
+  }
+
+  /**
+   * Convert a parsed protobuf message to metadata.
+   *
+   * @param m
+   *          The message
+   * @return The metadata
+   * @throws JPSerializerException
+   *           If the message does not contain valid metadata
+   */
+
+  public JPCompiledShaderMetaType metaUnpack(
+    final Meta m)
+    throws JPSerializerException
+  {
+    NullCheck.notNull(m, "Message");
+    final OptionType<EnumSet<ActualCase>> wanted = Option.none();
+    return JPProtobufMetaDeserializer.unpackShader(wanted, m);
+  }
 }
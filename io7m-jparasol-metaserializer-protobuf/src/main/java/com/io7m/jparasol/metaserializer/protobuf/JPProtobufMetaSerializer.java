@@ -38,6 +38,7 @@ import com.io7m.jparasol.core.JPFragmentOutput;
 import com.io7m.jparasol.core.JPFragmentParameter;
 import com.io7m.jparasol.core.JPFragmentShaderMetaType;
 import com.io7m.jparasol.core.JPFragmentShaderMetaVisitorType;
+import com.io7m.jparasol.core.JPHashAlgorithm;
 import com.io7m.jparasol.core.JPUncompactedFragmentShaderMeta;
 import com.io7m.jparasol.core.JPUncompactedProgramShaderMeta;
 import com.io7m.jparasol.core.JPUncompactedVertexShaderMeta;
@@ -50,6 +51,7 @@ import com.io7m.jparasol.metaserializer.JPMetaSerializerType;
 import com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta;
 import com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta;
 import com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi;
+import com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm;
 import com.io7m.junreachable.UnreachableCodeException;
 
 /**
@@ -182,6 +184,21 @@ import com.io7m.junreachable.UnreachableCodeException;
     }
   }
 
+  private static PHashAlgorithm makeHashAlgorithm(
+    final JPHashAlgorithm a)
+  {
+    switch (a) {
+      case HASH_MURMUR3_128:
+        return PHashAlgorithm.PHASH_MURMUR3_128;
+      case HASH_SHA_256:
+        return PHashAlgorithm.PHASH_SHA_256;
+      case HASH_SHA_256_LINES:
+        break;
+    }
+
+    throw new UnreachableCodeException();
+  }
+
   private static void makeProgramVersions(
     final SortedSet<GVersionES> es,
     final SortedSet<GVersionFull> full,
@@ -311,38 +328,53 @@ import com.io7m.junreachable.UnreachableCodeException;
     return new JPProtobufMetaSerializer();
   }
 
-  private static void writeMeta(
-    final Meta meta,
-    final OutputStream out)
-    throws IOException
-  {
-    JPProtobufHeader.writeHeaderAndSize(out, meta.getSerializedSize());
-    meta.writeTo(out);
-  }
+  /**
+   * @param meta
+   *          The metadata
+   * @return The given metadata as a protobuf message
+   */
 
-  private JPProtobufMetaSerializer()
+  static Meta pack(
+    final JPCompiledShaderMetaType meta)
   {
+    NullCheck.notNull(meta);
+    return meta
+      .matchMeta(new JPCompiledShaderMetaVisitorType<Meta, UnreachableCodeException>() {
+        @Override public Meta compactedFragment(
+          final JPCompactedFragmentShaderMeta m)
+        {
+          return JPProtobufMetaSerializer.packCompactedFragmentShader(m);
+        }
 
-  }
+        @Override public Meta compactedVertex(
+          final JPCompactedVertexShaderMeta m)
+        {
+          return JPProtobufMetaSerializer.packCompactedVertexShader(m);
+        }
 
-  @Override public String metaGetSuggestedFilename()
-  {
-    return JPProtobufMetaSerializer.SUGGESTED_FILENAME;
-  }
+        @Override public Meta uncompactedFragment(
+          final JPUncompactedFragmentShaderMeta m)
+        {
+          return JPProtobufMetaSerializer.packUncompactedFragmentShader(m);
+        }
 
-  @Override public String metaGetSuggestedFilenameSuffix()
-  {
-    return JPProtobufMetaSerializer.SUGGESTED_FILENAME_SUFFIX;
+        @Override public Meta uncompactedProgram(
+          final JPUncompactedProgramShaderMeta m)
+        {
+          return JPProtobufMetaSerializer.packUncompactedProgram(m);
+        }
+
+        @Override public Meta uncompactedVertex(
+          final JPUncompactedVertexShaderMeta m)
+        {
+          return JPProtobufMetaSerializer.packUncompactedVertexShader(m);
+        }
+      });
   }
 
-  @Override public void metaSerializeCompactedFragmentShader(
-    final JPCompactedFragmentShaderMeta meta,
-    final OutputStream stream)
-    throws IOException
+  private static Meta packCompactedFragmentShader(
+    final JPCompactedFragmentShaderMeta meta)
   {
-    NullCheck.notNull(meta);
-    NullCheck.notNull(stream);
-
     final ProgramMeta.PFragmentShaderCommon.Builder fsco =
       ProgramMeta.PFragmentShaderCommon.newBuilder();
     fsco.setProgramName(meta.getName());
@@ -365,6 +397,17 @@ import com.io7m.junreachable.UnreachableCodeException;
       ProgramMeta.PFragmentShaderCompacted.newBuilder();
     fsc.setCommon(fsco);
 
+    /**
+     * The original hashing scheme is indicated by the absence of an
+     * algorithm.
+     */
+
+    final JPHashAlgorithm algorithm = meta.getHashAlgorithm();
+    if (algorithm != JPHashAlgorithm.HASH_SHA_256_LINES) {
+      fsc.setHashAlgorithm(JPProtobufMetaSerializer
+        .makeHashAlgorithm(algorithm));
+    }
+
     JPProtobufMetaSerializer.makeFragmentShaderCompactedHashes(
       fsc,
       meta.getVersionToHash());
@@ -374,17 +417,12 @@ import com.io7m.junreachable.UnreachableCodeException;
 
     final Meta result = pmb.build();
     assert result != null;
-    JPProtobufMetaSerializer.writeMeta(result, stream);
+    return result;
   }
 
-  @Override public void metaSerializeCompactedVertexShader(
-    final JPCompactedVertexShaderMeta meta,
-    final OutputStream stream)
-    throws IOException
+  private static Meta packCompactedVertexShader(
+    final JPCompactedVertexShaderMeta meta)
   {
-    NullCheck.notNull(meta);
-    NullCheck.notNull(stream);
-
     final ProgramMeta.PVertexShaderCommon.Builder vsco =
       ProgramMeta.PVertexShaderCommon.newBuilder();
     vsco.setProgramName(meta.getName());
@@ -407,6 +445,12 @@ import com.io7m.junreachable.UnreachableCodeException;
       ProgramMeta.PVertexShaderCompacted.newBuilder();
     vsc.setCommon(vsco);
 
+    final JPHashAlgorithm algorithm = meta.getHashAlgorithm();
+    if (algorithm != JPHashAlgorithm.HASH_SHA_256_LINES) {
+      vsc.setHashAlgorithm(JPProtobufMetaSerializer
+        .makeHashAlgorithm(algorithm));
+    }
+
     JPProtobufMetaSerializer.makeVertexShaderCompactedHashes(
       vsc,
       meta.getVersionToHash());
@@ -416,7 +460,148 @@ import com.io7m.junreachable.UnreachableCodeException;
 
     final Meta result = pmb.build();
     assert result != null;
-    JPProtobufMetaSerializer.writeMeta(result, stream);
+    return result;
+  }
+
+  private static Meta packUncompactedFragmentShader(
+    final JPUncompactedFragmentShaderMeta meta)
+  {
+    final ProgramMeta.PFragmentShaderCommon.Builder fsco =
+      ProgramMeta.PFragmentShaderCommon.newBuilder();
+    fsco.setProgramName(meta.getName());
+
+    JPProtobufMetaSerializer.makeFragmentShaderCommonInputs(
+      meta.getDeclaredFragmentInputs(),
+      fsco);
+    JPProtobufMetaSerializer.makeFragmentShaderCommonOutputs(
+      meta.getDeclaredFragmentOutputs(),
+      fsco);
+    JPProtobufMetaSerializer.makeFragmentShaderCommonParameters(
+      meta.getDeclaredFragmentParameters(),
+      fsco);
+    JPProtobufMetaSerializer.makeFragmentShaderCommonVersions(
+      meta.getSupportsES(),
+      meta.getSupportsFull(),
+      fsco);
+
+    final ProgramMeta.PFragmentShaderUncompacted.Builder fsu =
+      ProgramMeta.PFragmentShaderUncompacted.newBuilder();
+    fsu.setCommon(fsco);
+
+    final ProgramMeta.Meta.Builder pmb = ProgramMeta.Meta.newBuilder();
+    pmb.setFragmentUncompacted(fsu);
+
+    final Meta result = pmb.build();
+    assert result != null;
+    return result;
+  }
+
+  private static Meta packUncompactedProgram(
+    final JPUncompactedProgramShaderMeta meta)
+  {
+    final ProgramMeta.PProgramShader.Builder ps =
+      ProgramMeta.PProgramShader.newBuilder();
+    ps.setProgramName(meta.getName());
+    ps.setFragmentShader(meta.getFragmentShader());
+
+    for (final String v : meta.getVertexShaders()) {
+      ps.addVertexShaders(v);
+    }
+
+    JPProtobufMetaSerializer.makeProgramVersions(
+      meta.getSupportsES(),
+      meta.getSupportsFull(),
+      ps);
+
+    final ProgramMeta.Meta.Builder pmb = ProgramMeta.Meta.newBuilder();
+    pmb.setProgram(ps);
+
+    final Meta result = pmb.build();
+    assert result != null;
+    return result;
+  }
+
+  private static Meta packUncompactedVertexShader(
+    final JPUncompactedVertexShaderMeta meta)
+  {
+    final ProgramMeta.PVertexShaderCommon.Builder vsco =
+      ProgramMeta.PVertexShaderCommon.newBuilder();
+    vsco.setProgramName(meta.getName());
+
+    JPProtobufMetaSerializer.makeVertexShaderCommonInputs(
+      meta.getDeclaredVertexInputs(),
+      vsco);
+    JPProtobufMetaSerializer.makeVertexShaderCommonOutputs(
+      meta.getDeclaredVertexOutputs(),
+      vsco);
+    JPProtobufMetaSerializer.makeVertexShaderCommonParameters(
+      meta.getDeclaredVertexParameters(),
+      vsco);
+    JPProtobufMetaSerializer.makeVertexShaderCommonVersions(
+      meta.getSupportsES(),
+      meta.getSupportsFull(),
+      vsco);
+
+    final ProgramMeta.PVertexShaderUncompacted.Builder vsu =
+      ProgramMeta.PVertexShaderUncompacted.newBuilder();
+    vsu.setCommon(vsco);
+
+    final ProgramMeta.Meta.Builder pmb = ProgramMeta.Meta.newBuilder();
+    pmb.setVertexUncompacted(vsu);
+
+    final Meta result = pmb.build();
+    assert result != null;
+    return result;
+  }
+
+  private static void writeMeta(
+    final Meta meta,
+    final OutputStream out)
+    throws IOException
+  {
+    JPProtobufHeader.writeHeaderAndSize(out, meta.getSerializedSize());
+    meta.writeTo(out);
+  }
+
+  private JPProtobufMetaSerializer()
+  {
+
+  }
+
+  @Override public String metaGetSuggestedFilename()
+  {
+    return JPProtobufMetaSerializer.SUGGESTED_FILENAME;
+  }
+
+  @Override public String metaGetSuggestedFilenameSuffix()
+  {
+    return JPProtobufMetaSerializer.SUGGESTED_FILENAME_SUFFIX;
+  }
+
+  @Override public void metaSerializeCompactedFragmentShader(
+    final JPCompactedFragmentShaderMeta meta,
+    final OutputStream stream)
+    throws IOException
+  {
+    NullCheck.notNull(meta);
+    NullCheck.notNull(stream);
+
+    JPProtobufMetaSerializer.writeMeta(
+      JPProtobufMetaSerializer.packCompactedFragmentShader(meta),
+      stream);
+  }
+
+  @Override public void metaSerializeCompactedVertexShader(
+    final JPCompactedVertexShaderMeta meta,
+    final OutputStream stream)
+    throws IOException
+  {
+    NullCheck.notNull(meta);
+    NullCheck.notNull(stream);
+
+    JPProtobufMetaSerializer.writeMeta(
+      JPProtobufMetaSerializer.packCompactedVertexShader(meta),
+      stream);
   }
 
   @Override public void metaSerializeFragmentShader(
@@ -508,34 +693,9 @@ import com.io7m.junreachable.UnreachableCodeException;
     NullCheck.notNull(meta);
     NullCheck.notNull(stream);
 
-    final ProgramMeta.PFragmentShaderCommon.Builder fsco =
-      ProgramMeta.PFragmentShaderCommon.newBuilder();
-    fsco.setProgramName(meta.getName());
-
-    JPProtobufMetaSerializer.makeFragmentShaderCommonInputs(
-      meta.getDeclaredFragmentInputs(),
-      fsco);
-    JPProtobufMetaSerializer.makeFragmentShaderCommonOutputs(
-      meta.getDeclaredFragmentOutputs(),
-      fsco);
-    JPProtobufMetaSerializer.makeFragmentShaderCommonParameters(
-      meta.getDeclaredFragmentParameters(),
-      fsco);
-    JPProtobufMetaSerializer.makeFragmentShaderCommonVersions(
-      meta.getSupportsES(),
-      meta.getSupportsFull(),
-      fsco);
-
-    final ProgramMeta.PFragmentShaderUncompacted.Builder fsu =
-      ProgramMeta.PFragmentShaderUncompacted.newBuilder();
-    fsu.setCommon(fsco);
-
-    final ProgramMeta.Meta.Builder pmb = ProgramMeta.Meta.newBuilder();
-    pmb.setFragmentUncompacted(fsu);
-
-    final Meta result = pmb.build();
-    assert result != null;
-    JPProtobufMetaSerializer.writeMeta(result, stream);
+    JPProtobufMetaSerializer.writeMeta(
+      JPProtobufMetaSerializer.packUncompactedFragmentShader(meta),
+      stream);
   }
 
   @Override public void metaSerializeUncompactedProgram(
@@ -546,26 +706,9 @@ import com.io7m.junreachable.UnreachableCodeException;
     NullCheck.notNull(meta);
     NullCheck.notNull(stream);
 
-    final ProgramMeta.PProgramShader.Builder ps =
-      ProgramMeta.PProgramShader.newBuilder();
-    ps.setProgramName(meta.getName());
-    ps.setFragmentShader(meta.getFragmentShader());
-
-    for (final String v : meta.getVertexShaders()) {
-      ps.addVertexShaders(v);
-    }
-
-    JPProtobufMetaSerializer.makeProgramVersions(
-      meta.getSupportsES(),
-      meta.getSupportsFull(),
-      ps);
-
-    final ProgramMeta.Meta.Builder pmb = ProgramMeta.Meta.newBuilder();
-    pmb.setProgram(ps);
-
-    final Meta result = pmb.build();
-    assert result != null;
-    JPProtobufMetaSerializer.writeMeta(result, stream);
+    JPProtobufMetaSerializer.writeMeta(
+      JPProtobufMetaSerializer.packUncompactedProgram(meta),
+      stream);
   }
 
   @Override public void metaSerializeUncompactedVertexShader(
@@ -576,34 +719,9 @@ import com.io7m.junreachable.UnreachableCodeException;
     NullCheck.notNull(meta);
     NullCheck.notNull(stream);
 
-    final ProgramMeta.PVertexShaderCommon.Builder vsco =
-      ProgramMeta.PVertexShaderCommon.newBuilder();
-    vsco.setProgramName(meta.getName());
-
-    JPProtobufMetaSerializer.makeVertexShaderCommonInputs(
-      meta.getDeclaredVertexInputs(),
-      vsco);
-    JPProtobufMetaSerializer.makeVertexShaderCommonOutputs(
-      meta.getDeclaredVertexOutputs(),
-      vsco);
-    JPProtobufMetaSerializer.makeVertexShaderCommonParameters(
-      meta.getDeclaredVertexParameters(),
-      vsco);
-    JPProtobufMetaSerializer.makeVertexShaderCommonVersions(
-      meta.getSupportsES(),
-      meta.getSupportsFull(),
-      vsco);
-
-    final ProgramMeta.PVertexShaderUncompacted.Builder vsu =
-      ProgramMeta.PVertexShaderUncompacted.newBuilder();
-    vsu.setCommon(vsco);
-
-    final ProgramMeta.Meta.Builder pmb = ProgramMeta.Meta.newBuilder();
-    pmb.setVertexUncompacted(vsu);
-
-    final Meta result = pmb.build();
-    assert result != null;
-    JPProtobufMetaSerializer.writeMeta(result, stream);
+    JPProtobufMetaSerializer.writeMeta(
+      JPProtobufMetaSerializer.packUncompactedVertexShader(meta),
+      stream);
   }
 
   @Override public void metaSerializeVertexShader(
@@ -1,28 +1,19 @@
 // CHECKSTYLE:OFF
-// Generated by the protocol buffer compiler. DO NOT EDIT!
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
 // source: program_meta.proto
 
 package com.io7m.jparasol.metaserializer.protobuf.types;
 
-public final class ProgramMeta
-{
-  private ProgramMeta()
-  {
-  }
-
+public final class ProgramMeta {
+  private ProgramMeta() {}
   public static void registerAllExtensions(
-    final com.google.protobuf.ExtensionRegistryLite registry)
-  {
+      com.google.protobuf.ExtensionRegistryLite registry) {
   }
-
   /**
-   * Protobuf enum
-   * {@code com.io7m.jparasol.metaserializer.protobuf.types.PGLSLApi}
+   * Protobuf enum {@code com.io7m.jparasol.metaserializer.protobuf.types.PGLSLApi}
    */
   public enum PGLSLApi
-    implements
-    com.google.protobuf.Internal.EnumLite
-  {
+      implements com.google.protobuf.Internal.EnumLite {
     /**
      * <code>PGLSL_FULL = 0;</code>
      */
@@ -30,7 +21,8 @@ public final class ProgramMeta
     /**
      * <code>PGLSL_ES = 1;</code>
      */
-    PGLSL_ES(1, 1), ;
+    PGLSL_ES(1, 1),
+    ;
 
     /**
      * <code>PGLSL_FULL = 0;</code>
@@ -39,67 +31,104 @@ public final class ProgramMeta
     /**
      * <code>PGLSL_ES = 1;</code>
      */
-    public static final int PGLSL_ES_VALUE   = 1;
+    public static final int PGLSL_ES_VALUE = 1;
 
-    @Override public final int getNumber()
-    {
-      return this.value;
-    }
 
-    public static PGLSLApi valueOf(
-      final int value)
-    {
+    public final int getNumber() { return value; }
+
+    public static PGLSLApi valueOf(int value) {
       switch (value) {
-        case 0:
-          return PGLSL_FULL;
-        case 1:
-          return PGLSL_ES;
-        default:
-          return null;
+        case 0: return PGLSL_FULL;
+        case 1: return PGLSL_ES;
+        default: return null;
       }
     }
 
-    public static
-      com.google.protobuf.Internal.EnumLiteMap<PGLSLApi>
-      internalGetValueMap()
-    {
-      return PGLSLApi.internalValueMap;
+    public static com.google.protobuf.Internal.EnumLiteMap<PGLSLApi>
+        internalGetValueMap() {
+      return internalValueMap;
     }
+    private static com.google.protobuf.Internal.EnumLiteMap<PGLSLApi>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<PGLSLApi>() {
+            public PGLSLApi findValueByNumber(int number) {
+              return PGLSLApi.valueOf(number);
+            }
+          };
 
-    private static com.google.protobuf.Internal.EnumLiteMap<PGLSLApi> internalValueMap =
-                                                                                         new com.google.protobuf.Internal.EnumLiteMap<PGLSLApi>() {
-                                                                                           @Override public
-                                                                                             PGLSLApi
-                                                                                             findValueByNumber(
-                                                                                               final int number)
-                                                                                           {
-                                                                                             return PGLSLApi
-                                                                                               .valueOf(number);
-                                                                                           }
-                                                                                         };
-
-    private final int                                                 value;
+    private final int value;
 
-    private PGLSLApi(
-      final int index,
-      final int value1)
-    {
-      this.value = value1;
+    private PGLSLApi(int index, int value) {
+      this.value = value;
     }
 
     // @@protoc_insertion_point(enum_scope:com.io7m.jparasol.metaserializer.protobuf.types.PGLSLApi)
   }
 
+  /**
+   * Protobuf enum {@code com.io7m.jparasol.metaserializer.protobuf.types.PHashAlgorithm}
+   */
+  public enum PHashAlgorithm
+      implements com.google.protobuf.Internal.EnumLite {
+    /**
+     * <code>PHASH_SHA_256 = 0;</code>
+     */
+    PHASH_SHA_256(0, 0),
+    /**
+     * <code>PHASH_MURMUR3_128 = 1;</code>
+     */
+    PHASH_MURMUR3_128(1, 1),
+    ;
+
+    /**
+     * <code>PHASH_SHA_256 = 0;</code>
+     */
+    public static final int PHASH_SHA_256_VALUE = 0;
+    /**
+     * <code>PHASH_MURMUR3_128 = 1;</code>
+     */
+    public static final int PHASH_MURMUR3_128_VALUE = 1;
+
+
+    public final int getNumber() { return value; }
+
+    public static PHashAlgorithm valueOf(int value) {
+      switch (value) {
+        case 0: return PHASH_SHA_256;
+        case 1: return PHASH_MURMUR3_128;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<PHashAlgorithm>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<PHashAlgorithm>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<PHashAlgorithm>() {
+            public PHashAlgorithm findValueByNumber(int number) {
+              return PHashAlgorithm.valueOf(number);
+            }
+          };
+
+    private final int value;
+
+    private PHashAlgorithm(int index, int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:com.io7m.jparasol.metaserializer.protobuf.types.PHashAlgorithm)
+  }
+
   public interface PGLSLVersionOrBuilder extends
-  // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion)
-    com.google.protobuf.MessageLiteOrBuilder
-  {
+      // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion)
+      com.google.protobuf.MessageLiteOrBuilder {
 
     /**
      * <code>required fixed32 number = 1;</code>
      */
     boolean hasNumber();
-
     /**
      * <code>required fixed32 number = 1;</code>
      */
@@ -109,613 +138,431 @@ public final class ProgramMeta
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLApi api = 2;</code>
      */
     boolean hasApi();
-
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLApi api = 2;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi
-      getApi();
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi getApi();
   }
-
   /**
-   * Protobuf type
-   * {@code com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion}
+   * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion}
    */
   public static final class PGLSLVersion extends
-    com.google.protobuf.GeneratedMessageLite implements
-  // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion)
-    PGLSLVersionOrBuilder
-  {
+      com.google.protobuf.GeneratedMessageLite implements
+      // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion)
+      PGLSLVersionOrBuilder {
     // Use PGLSLVersion.newBuilder() to construct.
-    private PGLSLVersion(
-      final com.google.protobuf.GeneratedMessageLite.Builder builder)
-    {
+    private PGLSLVersion(com.google.protobuf.GeneratedMessageLite.Builder builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-
-    private PGLSLVersion(
-      final boolean noInit)
-    {
-      this.unknownFields = com.google.protobuf.ByteString.EMPTY;
-    }
+    private PGLSLVersion(boolean noInit) { this.unknownFields = com.google.protobuf.ByteString.EMPTY;}
 
     private static final PGLSLVersion defaultInstance;
-
-    public static PGLSLVersion getDefaultInstance()
-    {
-      return PGLSLVersion.defaultInstance;
+    public static PGLSLVersion getDefaultInstance() {
+      return defaultInstance;
     }
 
-    @Override public PGLSLVersion getDefaultInstanceForType()
-    {
-      return PGLSLVersion.defaultInstance;
+    public PGLSLVersion getDefaultInstanceForType() {
+      return defaultInstance;
     }
 
     private final com.google.protobuf.ByteString unknownFields;
-
     private PGLSLVersion(
-      final com.google.protobuf.CodedInputStream input,
-      final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      this.initFields();
-      final int mutable_bitField0_ = 0;
-      final com.google.protobuf.ByteString.Output unknownFieldsOutput =
-        com.google.protobuf.ByteString.newOutput();
-      final com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
-        com.google.protobuf.CodedOutputStream
-          .newInstance(unknownFieldsOutput);
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.ByteString.Output unknownFieldsOutput =
+          com.google.protobuf.ByteString.newOutput();
+      com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
+          com.google.protobuf.CodedOutputStream.newInstance(
+              unknownFieldsOutput);
       try {
         boolean done = false;
         while (!done) {
-          final int tag = input.readTag();
+          int tag = input.readTag();
           switch (tag) {
             case 0:
               done = true;
               break;
-            default:
-            {
-              if (!this.parseUnknownField(
-                input,
-                unknownFieldsCodedOutput,
-                extensionRegistry,
-                tag)) {
+            default: {
+              if (!parseUnknownField(input, unknownFieldsCodedOutput,
+                                     extensionRegistry, tag)) {
                 done = true;
               }
               break;
             }
-            case 13:
-            {
-              this.bitField0_ |= 0x00000001;
-              this.number_ = input.readFixed32();
+            case 13: {
+              bitField0_ |= 0x00000001;
+              number_ = input.readFixed32();
               break;
             }
-            case 16:
-            {
-              final int rawValue = input.readEnum();
-              final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi value =
-                com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi
-                  .valueOf(rawValue);
+            case 16: {
+              int rawValue = input.readEnum();
+              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi value = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi.valueOf(rawValue);
               if (value == null) {
                 unknownFieldsCodedOutput.writeRawVarint32(tag);
                 unknownFieldsCodedOutput.writeRawVarint32(rawValue);
               } else {
-                this.bitField0_ |= 0x00000002;
-                this.api_ = value;
+                bitField0_ |= 0x00000002;
+                api_ = value;
               }
               break;
             }
           }
         }
-      } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
         throw e.setUnfinishedMessage(this);
-      } catch (final java.io.IOException e) {
+      } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
-          e.getMessage()).setUnfinishedMessage(this);
+            e.getMessage()).setUnfinishedMessage(this);
       } finally {
         try {
           unknownFieldsCodedOutput.flush();
-        } catch (final java.io.IOException e) {
-          // Should not happen
+        } catch (java.io.IOException e) {
+        // Should not happen
         } finally {
-          this.unknownFields = unknownFieldsOutput.toByteString();
+          unknownFields = unknownFieldsOutput.toByteString();
         }
-        this.makeExtensionsImmutable();
+        makeExtensionsImmutable();
       }
     }
-
     public static com.google.protobuf.Parser<PGLSLVersion> PARSER =
-                                                                    new com.google.protobuf.AbstractParser<PGLSLVersion>() {
-                                                                      @Override public
-                                                                        PGLSLVersion
-                                                                        parsePartialFrom(
-                                                                          final com.google.protobuf.CodedInputStream input,
-                                                                          final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                                                                          throws com.google.protobuf.InvalidProtocolBufferException
-                                                                      {
-                                                                        return new PGLSLVersion(
-                                                                          input,
-                                                                          extensionRegistry);
-                                                                      }
-                                                                    };
-
-    @java.lang.Override public
-      com.google.protobuf.Parser<PGLSLVersion>
-      getParserForType()
-    {
-      return PGLSLVersion.PARSER;
-    }
-
-    private int             bitField0_;
-    public static final int NUMBER_FIELD_NUMBER = 1;
-    private int             number_;
+        new com.google.protobuf.AbstractParser<PGLSLVersion>() {
+      public PGLSLVersion parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PGLSLVersion(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PGLSLVersion> getParserForType() {
+      return PARSER;
+    }
 
+    private int bitField0_;
+    public static final int NUMBER_FIELD_NUMBER = 1;
+    private int number_;
     /**
      * <code>required fixed32 number = 1;</code>
      */
-    @Override public boolean hasNumber()
-    {
-      return ((this.bitField0_ & 0x00000001) == 0x00000001);
+    public boolean hasNumber() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-
     /**
      * <code>required fixed32 number = 1;</code>
      */
-    @Override public int getNumber()
-    {
-      return this.number_;
+    public int getNumber() {
+      return number_;
     }
 
-    public static final int                                                      API_FIELD_NUMBER =
-                                                                                                    2;
+    public static final int API_FIELD_NUMBER = 2;
     private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi api_;
-
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLApi api = 2;</code>
      */
-    @Override public boolean hasApi()
-    {
-      return ((this.bitField0_ & 0x00000002) == 0x00000002);
+    public boolean hasApi() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
-
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLApi api = 2;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi
-      getApi()
-    {
-      return this.api_;
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi getApi() {
+      return api_;
     }
 
-    private void initFields()
-    {
-      this.number_ = 0;
-      this.api_ =
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi.PGLSL_FULL;
+    private void initFields() {
+      number_ = 0;
+      api_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi.PGLSL_FULL;
     }
-
     private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-    @Override public final boolean isInitialized()
-    {
-      final byte isInitialized = this.memoizedIsInitialized;
-      if (isInitialized == 1) {
-        return true;
-      }
-      if (isInitialized == 0) {
-        return false;
-      }
-
-      if (!this.hasNumber()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasNumber()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      if (!this.hasApi()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasApi()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      this.memoizedIsInitialized = 1;
+      memoizedIsInitialized = 1;
       return true;
     }
 
-    @Override public void writeTo(
-      final com.google.protobuf.CodedOutputStream output)
-      throws java.io.IOException
-    {
-      this.getSerializedSize();
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeFixed32(1, this.number_);
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeFixed32(1, number_);
       }
-      if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeEnum(2, this.api_.getNumber());
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeEnum(2, api_.getNumber());
       }
-      output.writeRawBytes(this.unknownFields);
+      output.writeRawBytes(unknownFields);
     }
 
     private int memoizedSerializedSize = -1;
-
-    @Override public int getSerializedSize()
-    {
-      int size = this.memoizedSerializedSize;
-      if (size != -1) {
-        return size;
-      }
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
 
       size = 0;
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeFixed32Size(
-            1,
-            this.number_);
-      }
-      if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeEnumSize(
-            2,
-            this.api_.getNumber());
-      }
-      size += this.unknownFields.size();
-      this.memoizedSerializedSize = size;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(1, number_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, api_.getNumber());
+      }
+      size += unknownFields.size();
+      memoizedSerializedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-
-    @java.lang.Override protected java.lang.Object writeReplace()
-      throws java.io.ObjectStreamException
-    {
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
       return super.writeReplace();
     }
 
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-      parseFrom(
-        final com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PGLSLVersion.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-      parseFrom(
-        final com.google.protobuf.ByteString data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PGLSLVersion.PARSER.parseFrom(data, extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-      parseFrom(
-        final byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PGLSLVersion.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-      parseFrom(
-        final byte[] data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PGLSLVersion.PARSER.parseFrom(data, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-      parseFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PGLSLVersion.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-      parseFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PGLSLVersion.PARSER.parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-      parseDelimitedFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PGLSLVersion.PARSER.parseDelimitedFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-      parseDelimitedFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PGLSLVersion.PARSER.parseDelimitedFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException
-    {
-      return PGLSLVersion.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PGLSLVersion.PARSER.parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
     }
-
-    public static Builder newBuilder()
-    {
-      return Builder.create();
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-
-    @Override public Builder newBuilderForType()
-    {
-      return PGLSLVersion.newBuilder();
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      Builder
-      newBuilder(
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion prototype)
-    {
-      return PGLSLVersion.newBuilder().mergeFrom(prototype);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
 
-    @Override public Builder toBuilder()
-    {
-      return PGLSLVersion.newBuilder(this);
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion prototype) {
+      return newBuilder().mergeFrom(prototype);
     }
+    public Builder toBuilder() { return newBuilder(this); }
 
     /**
-     * Protobuf type
-     * {@code com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion}
+     * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion}
      */
     public static final class Builder extends
-      com.google.protobuf.GeneratedMessageLite.Builder<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion, Builder> implements
-      // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion)
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersionOrBuilder
-    {
-      // Construct using
-      // com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.newBuilder()
-      private Builder()
-      {
-        this.maybeForceBuilderInitialization();
+        com.google.protobuf.GeneratedMessageLite.Builder<
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion, Builder>
+        implements
+        // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion)
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersionOrBuilder {
+      // Construct using com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      private void maybeForceBuilderInitialization()
-      {
+      private void maybeForceBuilderInitialization() {
       }
-
-      private static Builder create()
-      {
+      private static Builder create() {
         return new Builder();
       }
 
-      @Override public Builder clear()
-      {
+      public Builder clear() {
         super.clear();
-        this.number_ = 0;
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.api_ =
-          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi.PGLSL_FULL;
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
+        number_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        api_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi.PGLSL_FULL;
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
-      @Override public Builder clone()
-      {
-        return Builder.create().mergeFrom(this.buildPartial());
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-        getDefaultInstanceForType()
-      {
-        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-          .getDefaultInstance();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion getDefaultInstanceForType() {
+        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.getDefaultInstance();
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-        build()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion result =
-          this.buildPartial();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion build() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion result = buildPartial();
         if (!result.isInitialized()) {
-          throw com.google.protobuf.AbstractMessageLite.Builder
-            .newUninitializedMessageException(result);
+          throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-        buildPartial()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion result =
-          new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion(
-            this);
-        final int from_bitField0_ = this.bitField0_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion buildPartial() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion result = new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion(this);
+        int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.number_ = this.number_;
+        result.number_ = number_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.api_ = this.api_;
+        result.api_ = api_;
         result.bitField0_ = to_bitField0_;
         return result;
       }
 
-      @Override public
-        Builder
-        mergeFrom(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion other)
-      {
-        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-          .getDefaultInstance()) {
-          return this;
-        }
+      public Builder mergeFrom(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion other) {
+        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.getDefaultInstance()) return this;
         if (other.hasNumber()) {
-          this.setNumber(other.getNumber());
+          setNumber(other.getNumber());
         }
         if (other.hasApi()) {
-          this.setApi(other.getApi());
+          setApi(other.getApi());
         }
-        this.setUnknownFields(this.getUnknownFields().concat(
-          other.unknownFields));
+        setUnknownFields(
+            getUnknownFields().concat(other.unknownFields));
         return this;
       }
 
-      @Override public final boolean isInitialized()
-      {
-        if (!this.hasNumber()) {
-
+      public final boolean isInitialized() {
+        if (!hasNumber()) {
+          
           return false;
         }
-        if (!this.hasApi()) {
-
+        if (!hasApi()) {
+          
           return false;
         }
         return true;
       }
 
-      @Override public Builder mergeFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-      {
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion parsedMessage =
-          null;
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion parsedMessage = null;
         try {
-          parsedMessage =
-            PGLSLVersion.PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage =
-            (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion) e
-              .getUnfinishedMessage();
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
-            this.mergeFrom(parsedMessage);
+            mergeFrom(parsedMessage);
           }
         }
         return this;
       }
-
       private int bitField0_;
 
-      private int number_;
-
+      private int number_ ;
       /**
        * <code>required fixed32 number = 1;</code>
        */
-      @Override public boolean hasNumber()
-      {
-        return ((this.bitField0_ & 0x00000001) == 0x00000001);
+      public boolean hasNumber() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-
       /**
        * <code>required fixed32 number = 1;</code>
        */
-      @Override public int getNumber()
-      {
-        return this.number_;
+      public int getNumber() {
+        return number_;
       }
-
       /**
        * <code>required fixed32 number = 1;</code>
        */
-      public Builder setNumber(
-        final int value)
-      {
-        this.bitField0_ |= 0x00000001;
-        this.number_ = value;
-
+      public Builder setNumber(int value) {
+        bitField0_ |= 0x00000001;
+        number_ = value;
+        
         return this;
       }
-
       /**
        * <code>required fixed32 number = 1;</code>
        */
-      public Builder clearNumber()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.number_ = 0;
-
+      public Builder clearNumber() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        number_ = 0;
+        
         return this;
       }
 
-      private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi api_ =
-                                                                                          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi.PGLSL_FULL;
-
+      private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi api_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi.PGLSL_FULL;
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLApi api = 2;</code>
        */
-      @Override public boolean hasApi()
-      {
-        return ((this.bitField0_ & 0x00000002) == 0x00000002);
+      public boolean hasApi() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLApi api = 2;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi
-        getApi()
-      {
-        return this.api_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi getApi() {
+        return api_;
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLApi api = 2;</code>
        */
-      public
-        Builder
-        setApi(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi value)
-      {
+      public Builder setApi(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.bitField0_ |= 0x00000002;
-        this.api_ = value;
-
+        bitField0_ |= 0x00000002;
+        api_ = value;
+        
         return this;
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLApi api = 2;</code>
        */
-      public Builder clearApi()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
-        this.api_ =
-          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi.PGLSL_FULL;
-
+      public Builder clearApi() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        api_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi.PGLSL_FULL;
+        
         return this;
       }
 
@@ -724,22 +571,20 @@ public final class ProgramMeta
 
     static {
       defaultInstance = new PGLSLVersion(true);
-      PGLSLVersion.defaultInstance.initFields();
+      defaultInstance.initFields();
     }
 
     // @@protoc_insertion_point(class_scope:com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion)
   }
 
   public interface PVersionHashOrBuilder extends
-  // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash)
-    com.google.protobuf.MessageLiteOrBuilder
-  {
+      // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash)
+      com.google.protobuf.MessageLiteOrBuilder {
 
     /**
      * <code>required fixed32 number = 1;</code>
      */
     boolean hasNumber();
-
     /**
      * <code>required fixed32 number = 1;</code>
      */
@@ -749,793 +594,596 @@ public final class ProgramMeta
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLApi api = 2;</code>
      */
     boolean hasApi();
-
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLApi api = 2;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi
-      getApi();
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi getApi();
 
     /**
      * <code>required string value = 3;</code>
      */
     boolean hasValue();
-
     /**
      * <code>required string value = 3;</code>
      */
     java.lang.String getValue();
-
     /**
      * <code>required string value = 3;</code>
      */
-    com.google.protobuf.ByteString getValueBytes();
+    com.google.protobuf.ByteString
+        getValueBytes();
   }
-
   /**
-   * Protobuf type
-   * {@code com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash}
+   * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash}
    */
   public static final class PVersionHash extends
-    com.google.protobuf.GeneratedMessageLite implements
-  // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash)
-    PVersionHashOrBuilder
-  {
+      com.google.protobuf.GeneratedMessageLite implements
+      // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash)
+      PVersionHashOrBuilder {
     // Use PVersionHash.newBuilder() to construct.
-    private PVersionHash(
-      final com.google.protobuf.GeneratedMessageLite.Builder builder)
-    {
+    private PVersionHash(com.google.protobuf.GeneratedMessageLite.Builder builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-
-    private PVersionHash(
-      final boolean noInit)
-    {
-      this.unknownFields = com.google.protobuf.ByteString.EMPTY;
-    }
+    private PVersionHash(boolean noInit) { this.unknownFields = com.google.protobuf.ByteString.EMPTY;}
 
     private static final PVersionHash defaultInstance;
-
-    public static PVersionHash getDefaultInstance()
-    {
-      return PVersionHash.defaultInstance;
+    public static PVersionHash getDefaultInstance() {
+      return defaultInstance;
     }
 
-    @Override public PVersionHash getDefaultInstanceForType()
-    {
-      return PVersionHash.defaultInstance;
+    public PVersionHash getDefaultInstanceForType() {
+      return defaultInstance;
     }
 
     private final com.google.protobuf.ByteString unknownFields;
-
     private PVersionHash(
-      final com.google.protobuf.CodedInputStream input,
-      final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      this.initFields();
-      final int mutable_bitField0_ = 0;
-      final com.google.protobuf.ByteString.Output unknownFieldsOutput =
-        com.google.protobuf.ByteString.newOutput();
-      final com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
-        com.google.protobuf.CodedOutputStream
-          .newInstance(unknownFieldsOutput);
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.ByteString.Output unknownFieldsOutput =
+          com.google.protobuf.ByteString.newOutput();
+      com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
+          com.google.protobuf.CodedOutputStream.newInstance(
+              unknownFieldsOutput);
       try {
         boolean done = false;
         while (!done) {
-          final int tag = input.readTag();
+          int tag = input.readTag();
           switch (tag) {
             case 0:
               done = true;
               break;
-            default:
-            {
-              if (!this.parseUnknownField(
-                input,
-                unknownFieldsCodedOutput,
-                extensionRegistry,
-                tag)) {
+            default: {
+              if (!parseUnknownField(input, unknownFieldsCodedOutput,
+                                     extensionRegistry, tag)) {
                 done = true;
               }
               break;
             }
-            case 13:
-            {
-              this.bitField0_ |= 0x00000001;
-              this.number_ = input.readFixed32();
+            case 13: {
+              bitField0_ |= 0x00000001;
+              number_ = input.readFixed32();
               break;
             }
-            case 16:
-            {
-              final int rawValue = input.readEnum();
-              final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi value =
-                com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi
-                  .valueOf(rawValue);
+            case 16: {
+              int rawValue = input.readEnum();
+              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi value = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi.valueOf(rawValue);
               if (value == null) {
                 unknownFieldsCodedOutput.writeRawVarint32(tag);
                 unknownFieldsCodedOutput.writeRawVarint32(rawValue);
               } else {
-                this.bitField0_ |= 0x00000002;
-                this.api_ = value;
+                bitField0_ |= 0x00000002;
+                api_ = value;
               }
               break;
             }
-            case 26:
-            {
-              final com.google.protobuf.ByteString bs = input.readBytes();
-              this.bitField0_ |= 0x00000004;
-              this.value_ = bs;
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000004;
+              value_ = bs;
               break;
             }
           }
         }
-      } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
         throw e.setUnfinishedMessage(this);
-      } catch (final java.io.IOException e) {
+      } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
-          e.getMessage()).setUnfinishedMessage(this);
+            e.getMessage()).setUnfinishedMessage(this);
       } finally {
         try {
           unknownFieldsCodedOutput.flush();
-        } catch (final java.io.IOException e) {
-          // Should not happen
+        } catch (java.io.IOException e) {
+        // Should not happen
         } finally {
-          this.unknownFields = unknownFieldsOutput.toByteString();
+          unknownFields = unknownFieldsOutput.toByteString();
         }
-        this.makeExtensionsImmutable();
+        makeExtensionsImmutable();
       }
     }
-
     public static com.google.protobuf.Parser<PVersionHash> PARSER =
-                                                                    new com.google.protobuf.AbstractParser<PVersionHash>() {
-                                                                      @Override public
-                                                                        PVersionHash
-                                                                        parsePartialFrom(
-                                                                          final com.google.protobuf.CodedInputStream input,
-                                                                          final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                                                                          throws com.google.protobuf.InvalidProtocolBufferException
-                                                                      {
-                                                                        return new PVersionHash(
-                                                                          input,
-                                                                          extensionRegistry);
-                                                                      }
-                                                                    };
-
-    @java.lang.Override public
-      com.google.protobuf.Parser<PVersionHash>
-      getParserForType()
-    {
-      return PVersionHash.PARSER;
-    }
-
-    private int             bitField0_;
-    public static final int NUMBER_FIELD_NUMBER = 1;
-    private int             number_;
+        new com.google.protobuf.AbstractParser<PVersionHash>() {
+      public PVersionHash parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PVersionHash(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PVersionHash> getParserForType() {
+      return PARSER;
+    }
 
+    private int bitField0_;
+    public static final int NUMBER_FIELD_NUMBER = 1;
+    private int number_;
     /**
      * <code>required fixed32 number = 1;</code>
      */
-    @Override public boolean hasNumber()
-    {
-      return ((this.bitField0_ & 0x00000001) == 0x00000001);
+    public boolean hasNumber() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-
     /**
      * <code>required fixed32 number = 1;</code>
      */
-    @Override public int getNumber()
-    {
-      return this.number_;
+    public int getNumber() {
+      return number_;
     }
 
-    public static final int                                                      API_FIELD_NUMBER =
-                                                                                                    2;
+    public static final int API_FIELD_NUMBER = 2;
     private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi api_;
-
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLApi api = 2;</code>
      */
-    @Override public boolean hasApi()
-    {
-      return ((this.bitField0_ & 0x00000002) == 0x00000002);
+    public boolean hasApi() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
-
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLApi api = 2;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi
-      getApi()
-    {
-      return this.api_;
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi getApi() {
+      return api_;
     }
 
-    public static final int  VALUE_FIELD_NUMBER = 3;
+    public static final int VALUE_FIELD_NUMBER = 3;
     private java.lang.Object value_;
-
     /**
      * <code>required string value = 3;</code>
      */
-    @Override public boolean hasValue()
-    {
-      return ((this.bitField0_ & 0x00000004) == 0x00000004);
+    public boolean hasValue() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
     }
-
     /**
      * <code>required string value = 3;</code>
      */
-    @Override public java.lang.String getValue()
-    {
-      final java.lang.Object ref = this.value_;
+    public java.lang.String getValue() {
+      java.lang.Object ref = value_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          value_ = s;
+        }
+        return s;
       }
-      final com.google.protobuf.ByteString bs =
-        (com.google.protobuf.ByteString) ref;
-      final java.lang.String s = bs.toStringUtf8();
-      if (bs.isValidUtf8()) {
-        this.value_ = s;
-      }
-      return s;
     }
-
     /**
      * <code>required string value = 3;</code>
      */
-    @Override public com.google.protobuf.ByteString getValueBytes()
-    {
-      final java.lang.Object ref = this.value_;
+    public com.google.protobuf.ByteString
+        getValueBytes() {
+      java.lang.Object ref = value_;
       if (ref instanceof java.lang.String) {
-        final com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
-        this.value_ = b;
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        value_ = b;
         return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      return (com.google.protobuf.ByteString) ref;
     }
 
-    private void initFields()
-    {
-      this.number_ = 0;
-      this.api_ =
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi.PGLSL_FULL;
-      this.value_ = "";
+    private void initFields() {
+      number_ = 0;
+      api_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi.PGLSL_FULL;
+      value_ = "";
     }
-
     private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-    @Override public final boolean isInitialized()
-    {
-      final byte isInitialized = this.memoizedIsInitialized;
-      if (isInitialized == 1) {
-        return true;
-      }
-      if (isInitialized == 0) {
-        return false;
-      }
-
-      if (!this.hasNumber()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasNumber()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      if (!this.hasApi()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasApi()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      if (!this.hasValue()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasValue()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      this.memoizedIsInitialized = 1;
+      memoizedIsInitialized = 1;
       return true;
     }
 
-    @Override public void writeTo(
-      final com.google.protobuf.CodedOutputStream output)
-      throws java.io.IOException
-    {
-      this.getSerializedSize();
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeFixed32(1, this.number_);
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeFixed32(1, number_);
       }
-      if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeEnum(2, this.api_.getNumber());
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeEnum(2, api_.getNumber());
       }
-      if (((this.bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeBytes(3, this.getValueBytes());
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, getValueBytes());
       }
-      output.writeRawBytes(this.unknownFields);
+      output.writeRawBytes(unknownFields);
     }
 
     private int memoizedSerializedSize = -1;
-
-    @Override public int getSerializedSize()
-    {
-      int size = this.memoizedSerializedSize;
-      if (size != -1) {
-        return size;
-      }
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
 
       size = 0;
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeFixed32Size(
-            1,
-            this.number_);
-      }
-      if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeEnumSize(
-            2,
-            this.api_.getNumber());
-      }
-      if (((this.bitField0_ & 0x00000004) == 0x00000004)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeBytesSize(
-            3,
-            this.getValueBytes());
-      }
-      size += this.unknownFields.size();
-      this.memoizedSerializedSize = size;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(1, number_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, api_.getNumber());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getValueBytes());
+      }
+      size += unknownFields.size();
+      memoizedSerializedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-
-    @java.lang.Override protected java.lang.Object writeReplace()
-      throws java.io.ObjectStreamException
-    {
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
       return super.writeReplace();
     }
 
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash
-      parseFrom(
-        final com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVersionHash.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash
-      parseFrom(
-        final com.google.protobuf.ByteString data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVersionHash.PARSER.parseFrom(data, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash
-      parseFrom(
-        final byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVersionHash.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash
-      parseFrom(
-        final byte[] data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVersionHash.PARSER.parseFrom(data, extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash
-      parseFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PVersionHash.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash
-      parseFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PVersionHash.PARSER.parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash
-      parseDelimitedFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PVersionHash.PARSER.parseDelimitedFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash
-      parseDelimitedFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PVersionHash.PARSER.parseDelimitedFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException
-    {
-      return PVersionHash.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PVersionHash.PARSER.parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
     }
-
-    public static Builder newBuilder()
-    {
-      return Builder.create();
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-
-    @Override public Builder newBuilderForType()
-    {
-      return PVersionHash.newBuilder();
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      Builder
-      newBuilder(
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash prototype)
-    {
-      return PVersionHash.newBuilder().mergeFrom(prototype);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
 
-    @Override public Builder toBuilder()
-    {
-      return PVersionHash.newBuilder(this);
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash prototype) {
+      return newBuilder().mergeFrom(prototype);
     }
+    public Builder toBuilder() { return newBuilder(this); }
 
     /**
-     * Protobuf type
-     * {@code com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash}
+     * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash}
      */
     public static final class Builder extends
-      com.google.protobuf.GeneratedMessageLite.Builder<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash, Builder> implements
-      // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash)
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHashOrBuilder
-    {
-      // Construct using
-      // com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash.newBuilder()
-      private Builder()
-      {
-        this.maybeForceBuilderInitialization();
+        com.google.protobuf.GeneratedMessageLite.Builder<
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash, Builder>
+        implements
+        // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash)
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHashOrBuilder {
+      // Construct using com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      private void maybeForceBuilderInitialization()
-      {
+      private void maybeForceBuilderInitialization() {
       }
-
-      private static Builder create()
-      {
+      private static Builder create() {
         return new Builder();
       }
 
-      @Override public Builder clear()
-      {
+      public Builder clear() {
         super.clear();
-        this.number_ = 0;
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.api_ =
-          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi.PGLSL_FULL;
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
-        this.value_ = "";
-        this.bitField0_ = (this.bitField0_ & ~0x00000004);
+        number_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        api_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi.PGLSL_FULL;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        value_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
-      @Override public Builder clone()
-      {
-        return Builder.create().mergeFrom(this.buildPartial());
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash
-        getDefaultInstanceForType()
-      {
-        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash
-          .getDefaultInstance();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash getDefaultInstanceForType() {
+        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash.getDefaultInstance();
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash
-        build()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash result =
-          this.buildPartial();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash build() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash result = buildPartial();
         if (!result.isInitialized()) {
-          throw com.google.protobuf.AbstractMessageLite.Builder
-            .newUninitializedMessageException(result);
+          throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash
-        buildPartial()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash result =
-          new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash(
-            this);
-        final int from_bitField0_ = this.bitField0_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash buildPartial() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash result = new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash(this);
+        int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.number_ = this.number_;
+        result.number_ = number_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.api_ = this.api_;
+        result.api_ = api_;
         if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
           to_bitField0_ |= 0x00000004;
         }
-        result.value_ = this.value_;
+        result.value_ = value_;
         result.bitField0_ = to_bitField0_;
         return result;
       }
 
-      @Override public
-        Builder
-        mergeFrom(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash other)
-      {
-        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash
-          .getDefaultInstance()) {
-          return this;
-        }
+      public Builder mergeFrom(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash other) {
+        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash.getDefaultInstance()) return this;
         if (other.hasNumber()) {
-          this.setNumber(other.getNumber());
+          setNumber(other.getNumber());
         }
         if (other.hasApi()) {
-          this.setApi(other.getApi());
+          setApi(other.getApi());
         }
         if (other.hasValue()) {
-          this.bitField0_ |= 0x00000004;
-          this.value_ = other.value_;
-
+          bitField0_ |= 0x00000004;
+          value_ = other.value_;
+          
         }
-        this.setUnknownFields(this.getUnknownFields().concat(
-          other.unknownFields));
+        setUnknownFields(
+            getUnknownFields().concat(other.unknownFields));
         return this;
       }
 
-      @Override public final boolean isInitialized()
-      {
-        if (!this.hasNumber()) {
-
+      public final boolean isInitialized() {
+        if (!hasNumber()) {
+          
           return false;
         }
-        if (!this.hasApi()) {
-
+        if (!hasApi()) {
+          
           return false;
         }
-        if (!this.hasValue()) {
-
+        if (!hasValue()) {
+          
           return false;
         }
         return true;
       }
 
-      @Override public Builder mergeFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-      {
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash parsedMessage =
-          null;
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash parsedMessage = null;
         try {
-          parsedMessage =
-            PVersionHash.PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage =
-            (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash) e
-              .getUnfinishedMessage();
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
-            this.mergeFrom(parsedMessage);
+            mergeFrom(parsedMessage);
           }
         }
         return this;
       }
-
       private int bitField0_;
 
-      private int number_;
-
+      private int number_ ;
       /**
        * <code>required fixed32 number = 1;</code>
        */
-      @Override public boolean hasNumber()
-      {
-        return ((this.bitField0_ & 0x00000001) == 0x00000001);
+      public boolean hasNumber() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-
       /**
        * <code>required fixed32 number = 1;</code>
        */
-      @Override public int getNumber()
-      {
-        return this.number_;
+      public int getNumber() {
+        return number_;
       }
-
       /**
        * <code>required fixed32 number = 1;</code>
        */
-      public Builder setNumber(
-        final int value)
-      {
-        this.bitField0_ |= 0x00000001;
-        this.number_ = value;
-
+      public Builder setNumber(int value) {
+        bitField0_ |= 0x00000001;
+        number_ = value;
+        
         return this;
       }
-
       /**
        * <code>required fixed32 number = 1;</code>
        */
-      public Builder clearNumber()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.number_ = 0;
-
+      public Builder clearNumber() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        number_ = 0;
+        
         return this;
       }
 
-      private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi api_ =
-                                                                                          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi.PGLSL_FULL;
-
+      private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi api_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi.PGLSL_FULL;
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLApi api = 2;</code>
        */
-      @Override public boolean hasApi()
-      {
-        return ((this.bitField0_ & 0x00000002) == 0x00000002);
+      public boolean hasApi() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLApi api = 2;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi
-        getApi()
-      {
-        return this.api_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi getApi() {
+        return api_;
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLApi api = 2;</code>
        */
-      public
-        Builder
-        setApi(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi value)
-      {
+      public Builder setApi(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.bitField0_ |= 0x00000002;
-        this.api_ = value;
-
+        bitField0_ |= 0x00000002;
+        api_ = value;
+        
         return this;
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLApi api = 2;</code>
        */
-      public Builder clearApi()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
-        this.api_ =
-          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi.PGLSL_FULL;
-
+      public Builder clearApi() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        api_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLApi.PGLSL_FULL;
+        
         return this;
       }
 
       private java.lang.Object value_ = "";
-
       /**
        * <code>required string value = 3;</code>
        */
-      @Override public boolean hasValue()
-      {
-        return ((this.bitField0_ & 0x00000004) == 0x00000004);
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
-
       /**
        * <code>required string value = 3;</code>
        */
-      @Override public java.lang.String getValue()
-      {
-        final java.lang.Object ref = this.value_;
+      public java.lang.String getValue() {
+        java.lang.Object ref = value_;
         if (!(ref instanceof java.lang.String)) {
-          final com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-          final java.lang.String s = bs.toStringUtf8();
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            this.value_ = s;
+            value_ = s;
           }
           return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        return (java.lang.String) ref;
       }
-
       /**
        * <code>required string value = 3;</code>
        */
-      @Override public com.google.protobuf.ByteString getValueBytes()
-      {
-        final java.lang.Object ref = this.value_;
+      public com.google.protobuf.ByteString
+          getValueBytes() {
+        java.lang.Object ref = value_;
         if (ref instanceof String) {
-          final com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString
-              .copyFromUtf8((java.lang.String) ref);
-          this.value_ = b;
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          value_ = b;
           return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        return (com.google.protobuf.ByteString) ref;
       }
-
       /**
        * <code>required string value = 3;</code>
        */
       public Builder setValue(
-        final java.lang.String value)
-      {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000004;
-        this.value_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        value_ = value;
+        
         return this;
       }
-
       /**
        * <code>required string value = 3;</code>
        */
-      public Builder clearValue()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000004);
-        this.value_ = PVersionHash.getDefaultInstance().getValue();
-
+      public Builder clearValue() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        value_ = getDefaultInstance().getValue();
+        
         return this;
       }
-
       /**
        * <code>required string value = 3;</code>
        */
       public Builder setValueBytes(
-        final com.google.protobuf.ByteString value)
-      {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000004;
-        this.value_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        value_ = value;
+        
         return this;
       }
 
@@ -1544,780 +1192,602 @@ public final class ProgramMeta
 
     static {
       defaultInstance = new PVersionHash(true);
-      PVersionHash.defaultInstance.initFields();
+      defaultInstance.initFields();
     }
 
     // @@protoc_insertion_point(class_scope:com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash)
   }
 
   public interface PFragmentShaderParameterOrBuilder extends
-  // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter)
-    com.google.protobuf.MessageLiteOrBuilder
-  {
+      // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter)
+      com.google.protobuf.MessageLiteOrBuilder {
 
     /**
      * <code>required string name = 1;</code>
      */
     boolean hasName();
-
     /**
      * <code>required string name = 1;</code>
      */
     java.lang.String getName();
-
     /**
      * <code>required string name = 1;</code>
      */
-    com.google.protobuf.ByteString getNameBytes();
+    com.google.protobuf.ByteString
+        getNameBytes();
 
     /**
      * <code>required string type = 2;</code>
      */
     boolean hasType();
-
     /**
      * <code>required string type = 2;</code>
      */
     java.lang.String getType();
-
     /**
      * <code>required string type = 2;</code>
      */
-    com.google.protobuf.ByteString getTypeBytes();
+    com.google.protobuf.ByteString
+        getTypeBytes();
   }
-
   /**
-   * Protobuf type
-   * {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter}
+   * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter}
    */
   public static final class PFragmentShaderParameter extends
-    com.google.protobuf.GeneratedMessageLite implements
-  // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter)
-    PFragmentShaderParameterOrBuilder
-  {
+      com.google.protobuf.GeneratedMessageLite implements
+      // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter)
+      PFragmentShaderParameterOrBuilder {
     // Use PFragmentShaderParameter.newBuilder() to construct.
-    private PFragmentShaderParameter(
-      final com.google.protobuf.GeneratedMessageLite.Builder builder)
-    {
+    private PFragmentShaderParameter(com.google.protobuf.GeneratedMessageLite.Builder builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-
-    private PFragmentShaderParameter(
-      final boolean noInit)
-    {
-      this.unknownFields = com.google.protobuf.ByteString.EMPTY;
-    }
+    private PFragmentShaderParameter(boolean noInit) { this.unknownFields = com.google.protobuf.ByteString.EMPTY;}
 
     private static final PFragmentShaderParameter defaultInstance;
-
-    public static PFragmentShaderParameter getDefaultInstance()
-    {
-      return PFragmentShaderParameter.defaultInstance;
+    public static PFragmentShaderParameter getDefaultInstance() {
+      return defaultInstance;
     }
 
-    @Override public PFragmentShaderParameter getDefaultInstanceForType()
-    {
-      return PFragmentShaderParameter.defaultInstance;
+    public PFragmentShaderParameter getDefaultInstanceForType() {
+      return defaultInstance;
     }
 
     private final com.google.protobuf.ByteString unknownFields;
-
     private PFragmentShaderParameter(
-      final com.google.protobuf.CodedInputStream input,
-      final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      this.initFields();
-      final int mutable_bitField0_ = 0;
-      final com.google.protobuf.ByteString.Output unknownFieldsOutput =
-        com.google.protobuf.ByteString.newOutput();
-      final com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
-        com.google.protobuf.CodedOutputStream
-          .newInstance(unknownFieldsOutput);
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.ByteString.Output unknownFieldsOutput =
+          com.google.protobuf.ByteString.newOutput();
+      com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
+          com.google.protobuf.CodedOutputStream.newInstance(
+              unknownFieldsOutput);
       try {
         boolean done = false;
         while (!done) {
-          final int tag = input.readTag();
+          int tag = input.readTag();
           switch (tag) {
             case 0:
               done = true;
               break;
-            default:
-            {
-              if (!this.parseUnknownField(
-                input,
-                unknownFieldsCodedOutput,
-                extensionRegistry,
-                tag)) {
+            default: {
+              if (!parseUnknownField(input, unknownFieldsCodedOutput,
+                                     extensionRegistry, tag)) {
                 done = true;
               }
               break;
             }
-            case 10:
-            {
-              final com.google.protobuf.ByteString bs = input.readBytes();
-              this.bitField0_ |= 0x00000001;
-              this.name_ = bs;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              name_ = bs;
               break;
             }
-            case 18:
-            {
-              final com.google.protobuf.ByteString bs = input.readBytes();
-              this.bitField0_ |= 0x00000002;
-              this.type_ = bs;
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              type_ = bs;
               break;
             }
           }
         }
-      } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
         throw e.setUnfinishedMessage(this);
-      } catch (final java.io.IOException e) {
+      } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
-          e.getMessage()).setUnfinishedMessage(this);
+            e.getMessage()).setUnfinishedMessage(this);
       } finally {
         try {
           unknownFieldsCodedOutput.flush();
-        } catch (final java.io.IOException e) {
-          // Should not happen
+        } catch (java.io.IOException e) {
+        // Should not happen
         } finally {
-          this.unknownFields = unknownFieldsOutput.toByteString();
+          unknownFields = unknownFieldsOutput.toByteString();
         }
-        this.makeExtensionsImmutable();
+        makeExtensionsImmutable();
       }
     }
-
     public static com.google.protobuf.Parser<PFragmentShaderParameter> PARSER =
-                                                                                new com.google.protobuf.AbstractParser<PFragmentShaderParameter>() {
-                                                                                  @Override public
-                                                                                    PFragmentShaderParameter
-                                                                                    parsePartialFrom(
-                                                                                      final com.google.protobuf.CodedInputStream input,
-                                                                                      final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                                                                                      throws com.google.protobuf.InvalidProtocolBufferException
-                                                                                  {
-                                                                                    return new PFragmentShaderParameter(
-                                                                                      input,
-                                                                                      extensionRegistry);
-                                                                                  }
-                                                                                };
-
-    @java.lang.Override public
-      com.google.protobuf.Parser<PFragmentShaderParameter>
-      getParserForType()
-    {
-      return PFragmentShaderParameter.PARSER;
-    }
-
-    private int              bitField0_;
-    public static final int  NAME_FIELD_NUMBER = 1;
-    private java.lang.Object name_;
+        new com.google.protobuf.AbstractParser<PFragmentShaderParameter>() {
+      public PFragmentShaderParameter parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PFragmentShaderParameter(input, extensionRegistry);
+      }
+    };
 
+    @java.lang.Override
+    public com.google.protobuf.Parser<PFragmentShaderParameter> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private java.lang.Object name_;
     /**
      * <code>required string name = 1;</code>
      */
-    @Override public boolean hasName()
-    {
-      return ((this.bitField0_ & 0x00000001) == 0x00000001);
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-
     /**
      * <code>required string name = 1;</code>
      */
-    @Override public java.lang.String getName()
-    {
-      final java.lang.Object ref = this.name_;
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
       }
-      final com.google.protobuf.ByteString bs =
-        (com.google.protobuf.ByteString) ref;
-      final java.lang.String s = bs.toStringUtf8();
-      if (bs.isValidUtf8()) {
-        this.name_ = s;
-      }
-      return s;
     }
-
     /**
      * <code>required string name = 1;</code>
      */
-    @Override public com.google.protobuf.ByteString getNameBytes()
-    {
-      final java.lang.Object ref = this.name_;
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
       if (ref instanceof java.lang.String) {
-        final com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
-        this.name_ = b;
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
         return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      return (com.google.protobuf.ByteString) ref;
     }
 
-    public static final int  TYPE_FIELD_NUMBER = 2;
+    public static final int TYPE_FIELD_NUMBER = 2;
     private java.lang.Object type_;
-
     /**
      * <code>required string type = 2;</code>
      */
-    @Override public boolean hasType()
-    {
-      return ((this.bitField0_ & 0x00000002) == 0x00000002);
+    public boolean hasType() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
-
     /**
      * <code>required string type = 2;</code>
      */
-    @Override public java.lang.String getType()
-    {
-      final java.lang.Object ref = this.type_;
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          type_ = s;
+        }
+        return s;
       }
-      final com.google.protobuf.ByteString bs =
-        (com.google.protobuf.ByteString) ref;
-      final java.lang.String s = bs.toStringUtf8();
-      if (bs.isValidUtf8()) {
-        this.type_ = s;
-      }
-      return s;
     }
-
     /**
      * <code>required string type = 2;</code>
      */
-    @Override public com.google.protobuf.ByteString getTypeBytes()
-    {
-      final java.lang.Object ref = this.type_;
+    public com.google.protobuf.ByteString
+        getTypeBytes() {
+      java.lang.Object ref = type_;
       if (ref instanceof java.lang.String) {
-        final com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
-        this.type_ = b;
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        type_ = b;
         return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      return (com.google.protobuf.ByteString) ref;
     }
 
-    private void initFields()
-    {
-      this.name_ = "";
-      this.type_ = "";
+    private void initFields() {
+      name_ = "";
+      type_ = "";
     }
-
     private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-    @Override public final boolean isInitialized()
-    {
-      final byte isInitialized = this.memoizedIsInitialized;
-      if (isInitialized == 1) {
-        return true;
-      }
-      if (isInitialized == 0) {
-        return false;
-      }
-
-      if (!this.hasName()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasName()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      if (!this.hasType()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasType()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      this.memoizedIsInitialized = 1;
+      memoizedIsInitialized = 1;
       return true;
     }
 
-    @Override public void writeTo(
-      final com.google.protobuf.CodedOutputStream output)
-      throws java.io.IOException
-    {
-      this.getSerializedSize();
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, this.getNameBytes());
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getNameBytes());
       }
-      if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, this.getTypeBytes());
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getTypeBytes());
       }
-      output.writeRawBytes(this.unknownFields);
+      output.writeRawBytes(unknownFields);
     }
 
     private int memoizedSerializedSize = -1;
-
-    @Override public int getSerializedSize()
-    {
-      int size = this.memoizedSerializedSize;
-      if (size != -1) {
-        return size;
-      }
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
 
       size = 0;
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeBytesSize(
-            1,
-            this.getNameBytes());
-      }
-      if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeBytesSize(
-            2,
-            this.getTypeBytes());
-      }
-      size += this.unknownFields.size();
-      this.memoizedSerializedSize = size;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getTypeBytes());
+      }
+      size += unknownFields.size();
+      memoizedSerializedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-
-    @java.lang.Override protected java.lang.Object writeReplace()
-      throws java.io.ObjectStreamException
-    {
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
       return super.writeReplace();
     }
 
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter
-      parseFrom(
-        final com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderParameter.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter
-      parseFrom(
-        final com.google.protobuf.ByteString data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderParameter.PARSER.parseFrom(
-        data,
-        extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter
-      parseFrom(
-        final byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderParameter.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter
-      parseFrom(
-        final byte[] data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderParameter.PARSER.parseFrom(
-        data,
-        extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter
-      parseFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PFragmentShaderParameter.PARSER.parseFrom(input);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter
-      parseFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PFragmentShaderParameter.PARSER.parseFrom(
-        input,
-        extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter
-      parseDelimitedFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PFragmentShaderParameter.PARSER.parseDelimitedFrom(input);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter
-      parseDelimitedFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PFragmentShaderParameter.PARSER.parseDelimitedFrom(
-        input,
-        extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException
-    {
-      return PFragmentShaderParameter.PARSER.parseFrom(input);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PFragmentShaderParameter.PARSER.parseFrom(
-        input,
-        extensionRegistry);
-    }
-
-    public static Builder newBuilder()
-    {
-      return Builder.create();
-    }
-
-    @Override public Builder newBuilderForType()
-    {
-      return PFragmentShaderParameter.newBuilder();
-    }
-
-    public static
-      Builder
-      newBuilder(
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter prototype)
-    {
-      return PFragmentShaderParameter.newBuilder().mergeFrom(prototype);
-    }
-
-    @Override public Builder toBuilder()
-    {
-      return PFragmentShaderParameter.newBuilder(this);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
 
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
     /**
-     * Protobuf type
-     * {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter}
+     * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter}
      */
     public static final class Builder extends
-      com.google.protobuf.GeneratedMessageLite.Builder<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter, Builder> implements
-      // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter)
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameterOrBuilder
-    {
-      // Construct using
-      // com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter.newBuilder()
-      private Builder()
-      {
-        this.maybeForceBuilderInitialization();
+        com.google.protobuf.GeneratedMessageLite.Builder<
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter, Builder>
+        implements
+        // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter)
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameterOrBuilder {
+      // Construct using com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      private void maybeForceBuilderInitialization()
-      {
+      private void maybeForceBuilderInitialization() {
       }
-
-      private static Builder create()
-      {
+      private static Builder create() {
         return new Builder();
       }
 
-      @Override public Builder clear()
-      {
+      public Builder clear() {
         super.clear();
-        this.name_ = "";
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.type_ = "";
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        type_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
-      @Override public Builder clone()
-      {
-        return Builder.create().mergeFrom(this.buildPartial());
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter
-        getDefaultInstanceForType()
-      {
-        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter
-          .getDefaultInstance();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter getDefaultInstanceForType() {
+        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter.getDefaultInstance();
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter
-        build()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter result =
-          this.buildPartial();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter build() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter result = buildPartial();
         if (!result.isInitialized()) {
-          throw com.google.protobuf.AbstractMessageLite.Builder
-            .newUninitializedMessageException(result);
+          throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter
-        buildPartial()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter result =
-          new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter(
-            this);
-        final int from_bitField0_ = this.bitField0_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter buildPartial() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter result = new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter(this);
+        int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.name_ = this.name_;
+        result.name_ = name_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.type_ = this.type_;
+        result.type_ = type_;
         result.bitField0_ = to_bitField0_;
         return result;
       }
 
-      @Override public
-        Builder
-        mergeFrom(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter other)
-      {
-        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter
-          .getDefaultInstance()) {
-          return this;
-        }
+      public Builder mergeFrom(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter other) {
+        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter.getDefaultInstance()) return this;
         if (other.hasName()) {
-          this.bitField0_ |= 0x00000001;
-          this.name_ = other.name_;
-
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          
         }
         if (other.hasType()) {
-          this.bitField0_ |= 0x00000002;
-          this.type_ = other.type_;
-
+          bitField0_ |= 0x00000002;
+          type_ = other.type_;
+          
         }
-        this.setUnknownFields(this.getUnknownFields().concat(
-          other.unknownFields));
+        setUnknownFields(
+            getUnknownFields().concat(other.unknownFields));
         return this;
       }
 
-      @Override public final boolean isInitialized()
-      {
-        if (!this.hasName()) {
-
+      public final boolean isInitialized() {
+        if (!hasName()) {
+          
           return false;
         }
-        if (!this.hasType()) {
-
+        if (!hasType()) {
+          
           return false;
         }
         return true;
       }
 
-      @Override public Builder mergeFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-      {
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter parsedMessage =
-          null;
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter parsedMessage = null;
         try {
-          parsedMessage =
-            PFragmentShaderParameter.PARSER.parsePartialFrom(
-              input,
-              extensionRegistry);
-        } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage =
-            (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter) e
-              .getUnfinishedMessage();
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
-            this.mergeFrom(parsedMessage);
+            mergeFrom(parsedMessage);
           }
         }
         return this;
       }
-
-      private int              bitField0_;
+      private int bitField0_;
 
       private java.lang.Object name_ = "";
-
       /**
        * <code>required string name = 1;</code>
        */
-      @Override public boolean hasName()
-      {
-        return ((this.bitField0_ & 0x00000001) == 0x00000001);
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-
       /**
        * <code>required string name = 1;</code>
        */
-      @Override public java.lang.String getName()
-      {
-        final java.lang.Object ref = this.name_;
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
         if (!(ref instanceof java.lang.String)) {
-          final com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-          final java.lang.String s = bs.toStringUtf8();
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            this.name_ = s;
+            name_ = s;
           }
           return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        return (java.lang.String) ref;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
-      @Override public com.google.protobuf.ByteString getNameBytes()
-      {
-        final java.lang.Object ref = this.name_;
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
         if (ref instanceof String) {
-          final com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString
-              .copyFromUtf8((java.lang.String) ref);
-          this.name_ = b;
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
           return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        return (com.google.protobuf.ByteString) ref;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
       public Builder setName(
-        final java.lang.String value)
-      {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000001;
-        this.name_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        
         return this;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
-      public Builder clearName()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.name_ = PFragmentShaderParameter.getDefaultInstance().getName();
-
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = getDefaultInstance().getName();
+        
         return this;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
       public Builder setNameBytes(
-        final com.google.protobuf.ByteString value)
-      {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000001;
-        this.name_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        
         return this;
       }
 
       private java.lang.Object type_ = "";
-
       /**
        * <code>required string type = 2;</code>
        */
-      @Override public boolean hasType()
-      {
-        return ((this.bitField0_ & 0x00000002) == 0x00000002);
+      public boolean hasType() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
-
       /**
        * <code>required string type = 2;</code>
        */
-      @Override public java.lang.String getType()
-      {
-        final java.lang.Object ref = this.type_;
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
         if (!(ref instanceof java.lang.String)) {
-          final com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-          final java.lang.String s = bs.toStringUtf8();
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            this.type_ = s;
+            type_ = s;
           }
           return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        return (java.lang.String) ref;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
-      @Override public com.google.protobuf.ByteString getTypeBytes()
-      {
-        final java.lang.Object ref = this.type_;
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
         if (ref instanceof String) {
-          final com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString
-              .copyFromUtf8((java.lang.String) ref);
-          this.type_ = b;
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
           return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        return (com.google.protobuf.ByteString) ref;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
       public Builder setType(
-        final java.lang.String value)
-      {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000002;
-        this.type_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        type_ = value;
+        
         return this;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
-      public Builder clearType()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
-        this.type_ = PFragmentShaderParameter.getDefaultInstance().getType();
-
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        type_ = getDefaultInstance().getType();
+        
         return this;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
       public Builder setTypeBytes(
-        final com.google.protobuf.ByteString value)
-      {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000002;
-        this.type_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        type_ = value;
+        
         return this;
       }
 
@@ -2326,772 +1796,602 @@ public final class ProgramMeta
 
     static {
       defaultInstance = new PFragmentShaderParameter(true);
-      PFragmentShaderParameter.defaultInstance.initFields();
+      defaultInstance.initFields();
     }
 
     // @@protoc_insertion_point(class_scope:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter)
   }
 
   public interface PFragmentShaderInputOrBuilder extends
-  // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput)
-    com.google.protobuf.MessageLiteOrBuilder
-  {
+      // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput)
+      com.google.protobuf.MessageLiteOrBuilder {
 
     /**
      * <code>required string name = 1;</code>
      */
     boolean hasName();
-
     /**
      * <code>required string name = 1;</code>
      */
     java.lang.String getName();
-
     /**
      * <code>required string name = 1;</code>
      */
-    com.google.protobuf.ByteString getNameBytes();
+    com.google.protobuf.ByteString
+        getNameBytes();
 
     /**
      * <code>required string type = 2;</code>
      */
     boolean hasType();
-
     /**
      * <code>required string type = 2;</code>
      */
     java.lang.String getType();
-
     /**
      * <code>required string type = 2;</code>
      */
-    com.google.protobuf.ByteString getTypeBytes();
+    com.google.protobuf.ByteString
+        getTypeBytes();
   }
-
   /**
-   * Protobuf type
-   * {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput}
+   * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput}
    */
   public static final class PFragmentShaderInput extends
-    com.google.protobuf.GeneratedMessageLite implements
-  // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput)
-    PFragmentShaderInputOrBuilder
-  {
+      com.google.protobuf.GeneratedMessageLite implements
+      // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput)
+      PFragmentShaderInputOrBuilder {
     // Use PFragmentShaderInput.newBuilder() to construct.
-    private PFragmentShaderInput(
-      final com.google.protobuf.GeneratedMessageLite.Builder builder)
-    {
+    private PFragmentShaderInput(com.google.protobuf.GeneratedMessageLite.Builder builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-
-    private PFragmentShaderInput(
-      final boolean noInit)
-    {
-      this.unknownFields = com.google.protobuf.ByteString.EMPTY;
-    }
+    private PFragmentShaderInput(boolean noInit) { this.unknownFields = com.google.protobuf.ByteString.EMPTY;}
 
     private static final PFragmentShaderInput defaultInstance;
-
-    public static PFragmentShaderInput getDefaultInstance()
-    {
-      return PFragmentShaderInput.defaultInstance;
+    public static PFragmentShaderInput getDefaultInstance() {
+      return defaultInstance;
     }
 
-    @Override public PFragmentShaderInput getDefaultInstanceForType()
-    {
-      return PFragmentShaderInput.defaultInstance;
+    public PFragmentShaderInput getDefaultInstanceForType() {
+      return defaultInstance;
     }
 
     private final com.google.protobuf.ByteString unknownFields;
-
     private PFragmentShaderInput(
-      final com.google.protobuf.CodedInputStream input,
-      final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      this.initFields();
-      final int mutable_bitField0_ = 0;
-      final com.google.protobuf.ByteString.Output unknownFieldsOutput =
-        com.google.protobuf.ByteString.newOutput();
-      final com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
-        com.google.protobuf.CodedOutputStream
-          .newInstance(unknownFieldsOutput);
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.ByteString.Output unknownFieldsOutput =
+          com.google.protobuf.ByteString.newOutput();
+      com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
+          com.google.protobuf.CodedOutputStream.newInstance(
+              unknownFieldsOutput);
       try {
         boolean done = false;
         while (!done) {
-          final int tag = input.readTag();
+          int tag = input.readTag();
           switch (tag) {
             case 0:
               done = true;
               break;
-            default:
-            {
-              if (!this.parseUnknownField(
-                input,
-                unknownFieldsCodedOutput,
-                extensionRegistry,
-                tag)) {
+            default: {
+              if (!parseUnknownField(input, unknownFieldsCodedOutput,
+                                     extensionRegistry, tag)) {
                 done = true;
               }
               break;
             }
-            case 10:
-            {
-              final com.google.protobuf.ByteString bs = input.readBytes();
-              this.bitField0_ |= 0x00000001;
-              this.name_ = bs;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              name_ = bs;
               break;
             }
-            case 18:
-            {
-              final com.google.protobuf.ByteString bs = input.readBytes();
-              this.bitField0_ |= 0x00000002;
-              this.type_ = bs;
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              type_ = bs;
               break;
             }
           }
         }
-      } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
         throw e.setUnfinishedMessage(this);
-      } catch (final java.io.IOException e) {
+      } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
-          e.getMessage()).setUnfinishedMessage(this);
+            e.getMessage()).setUnfinishedMessage(this);
       } finally {
         try {
           unknownFieldsCodedOutput.flush();
-        } catch (final java.io.IOException e) {
-          // Should not happen
+        } catch (java.io.IOException e) {
+        // Should not happen
         } finally {
-          this.unknownFields = unknownFieldsOutput.toByteString();
+          unknownFields = unknownFieldsOutput.toByteString();
         }
-        this.makeExtensionsImmutable();
+        makeExtensionsImmutable();
       }
     }
-
     public static com.google.protobuf.Parser<PFragmentShaderInput> PARSER =
-                                                                            new com.google.protobuf.AbstractParser<PFragmentShaderInput>() {
-                                                                              @Override public
-                                                                                PFragmentShaderInput
-                                                                                parsePartialFrom(
-                                                                                  final com.google.protobuf.CodedInputStream input,
-                                                                                  final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                                                                                  throws com.google.protobuf.InvalidProtocolBufferException
-                                                                              {
-                                                                                return new PFragmentShaderInput(
-                                                                                  input,
-                                                                                  extensionRegistry);
-                                                                              }
-                                                                            };
-
-    @java.lang.Override public
-      com.google.protobuf.Parser<PFragmentShaderInput>
-      getParserForType()
-    {
-      return PFragmentShaderInput.PARSER;
-    }
-
-    private int              bitField0_;
-    public static final int  NAME_FIELD_NUMBER = 1;
-    private java.lang.Object name_;
+        new com.google.protobuf.AbstractParser<PFragmentShaderInput>() {
+      public PFragmentShaderInput parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PFragmentShaderInput(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PFragmentShaderInput> getParserForType() {
+      return PARSER;
+    }
 
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private java.lang.Object name_;
     /**
      * <code>required string name = 1;</code>
      */
-    @Override public boolean hasName()
-    {
-      return ((this.bitField0_ & 0x00000001) == 0x00000001);
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-
     /**
      * <code>required string name = 1;</code>
      */
-    @Override public java.lang.String getName()
-    {
-      final java.lang.Object ref = this.name_;
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
       }
-      final com.google.protobuf.ByteString bs =
-        (com.google.protobuf.ByteString) ref;
-      final java.lang.String s = bs.toStringUtf8();
-      if (bs.isValidUtf8()) {
-        this.name_ = s;
-      }
-      return s;
     }
-
     /**
      * <code>required string name = 1;</code>
      */
-    @Override public com.google.protobuf.ByteString getNameBytes()
-    {
-      final java.lang.Object ref = this.name_;
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
       if (ref instanceof java.lang.String) {
-        final com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
-        this.name_ = b;
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
         return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      return (com.google.protobuf.ByteString) ref;
     }
 
-    public static final int  TYPE_FIELD_NUMBER = 2;
+    public static final int TYPE_FIELD_NUMBER = 2;
     private java.lang.Object type_;
-
     /**
      * <code>required string type = 2;</code>
      */
-    @Override public boolean hasType()
-    {
-      return ((this.bitField0_ & 0x00000002) == 0x00000002);
+    public boolean hasType() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
-
     /**
      * <code>required string type = 2;</code>
      */
-    @Override public java.lang.String getType()
-    {
-      final java.lang.Object ref = this.type_;
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          type_ = s;
+        }
+        return s;
       }
-      final com.google.protobuf.ByteString bs =
-        (com.google.protobuf.ByteString) ref;
-      final java.lang.String s = bs.toStringUtf8();
-      if (bs.isValidUtf8()) {
-        this.type_ = s;
-      }
-      return s;
     }
-
     /**
      * <code>required string type = 2;</code>
      */
-    @Override public com.google.protobuf.ByteString getTypeBytes()
-    {
-      final java.lang.Object ref = this.type_;
+    public com.google.protobuf.ByteString
+        getTypeBytes() {
+      java.lang.Object ref = type_;
       if (ref instanceof java.lang.String) {
-        final com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
-        this.type_ = b;
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        type_ = b;
         return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      return (com.google.protobuf.ByteString) ref;
     }
 
-    private void initFields()
-    {
-      this.name_ = "";
-      this.type_ = "";
+    private void initFields() {
+      name_ = "";
+      type_ = "";
     }
-
     private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-    @Override public final boolean isInitialized()
-    {
-      final byte isInitialized = this.memoizedIsInitialized;
-      if (isInitialized == 1) {
-        return true;
-      }
-      if (isInitialized == 0) {
+      if (!hasName()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-
-      if (!this.hasName()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasType()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      if (!this.hasType()) {
-        this.memoizedIsInitialized = 0;
-        return false;
-      }
-      this.memoizedIsInitialized = 1;
+      memoizedIsInitialized = 1;
       return true;
     }
 
-    @Override public void writeTo(
-      final com.google.protobuf.CodedOutputStream output)
-      throws java.io.IOException
-    {
-      this.getSerializedSize();
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, this.getNameBytes());
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getNameBytes());
       }
-      if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, this.getTypeBytes());
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getTypeBytes());
       }
-      output.writeRawBytes(this.unknownFields);
+      output.writeRawBytes(unknownFields);
     }
 
     private int memoizedSerializedSize = -1;
-
-    @Override public int getSerializedSize()
-    {
-      int size = this.memoizedSerializedSize;
-      if (size != -1) {
-        return size;
-      }
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
 
       size = 0;
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeBytesSize(
-            1,
-            this.getNameBytes());
-      }
-      if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeBytesSize(
-            2,
-            this.getTypeBytes());
-      }
-      size += this.unknownFields.size();
-      this.memoizedSerializedSize = size;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getTypeBytes());
+      }
+      size += unknownFields.size();
+      memoizedSerializedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-
-    @java.lang.Override protected java.lang.Object writeReplace()
-      throws java.io.ObjectStreamException
-    {
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
       return super.writeReplace();
     }
 
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput
-      parseFrom(
-        final com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderInput.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput
-      parseFrom(
-        final com.google.protobuf.ByteString data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderInput.PARSER.parseFrom(data, extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput
-      parseFrom(
-        final byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderInput.PARSER.parseFrom(data);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput
-      parseFrom(
-        final byte[] data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderInput.PARSER.parseFrom(data, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput
-      parseFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PFragmentShaderInput.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput
-      parseFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PFragmentShaderInput.PARSER.parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput
-      parseDelimitedFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PFragmentShaderInput.PARSER.parseDelimitedFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput
-      parseDelimitedFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PFragmentShaderInput.PARSER.parseDelimitedFrom(
-        input,
-        extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException
-    {
-      return PFragmentShaderInput.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PFragmentShaderInput.PARSER.parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-
-    public static Builder newBuilder()
-    {
-      return Builder.create();
-    }
-
-    @Override public Builder newBuilderForType()
-    {
-      return PFragmentShaderInput.newBuilder();
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      Builder
-      newBuilder(
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput prototype)
-    {
-      return PFragmentShaderInput.newBuilder().mergeFrom(prototype);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
 
-    @Override public Builder toBuilder()
-    {
-      return PFragmentShaderInput.newBuilder(this);
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput prototype) {
+      return newBuilder().mergeFrom(prototype);
     }
+    public Builder toBuilder() { return newBuilder(this); }
 
     /**
-     * Protobuf type
-     * {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput}
+     * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput}
      */
     public static final class Builder extends
-      com.google.protobuf.GeneratedMessageLite.Builder<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput, Builder> implements
-      // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput)
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInputOrBuilder
-    {
-      // Construct using
-      // com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput.newBuilder()
-      private Builder()
-      {
-        this.maybeForceBuilderInitialization();
+        com.google.protobuf.GeneratedMessageLite.Builder<
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput, Builder>
+        implements
+        // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput)
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInputOrBuilder {
+      // Construct using com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      private void maybeForceBuilderInitialization()
-      {
+      private void maybeForceBuilderInitialization() {
       }
-
-      private static Builder create()
-      {
+      private static Builder create() {
         return new Builder();
       }
 
-      @Override public Builder clear()
-      {
+      public Builder clear() {
         super.clear();
-        this.name_ = "";
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.type_ = "";
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        type_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
-      @Override public Builder clone()
-      {
-        return Builder.create().mergeFrom(this.buildPartial());
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput
-        getDefaultInstanceForType()
-      {
-        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput
-          .getDefaultInstance();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput getDefaultInstanceForType() {
+        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput.getDefaultInstance();
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput
-        build()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput result =
-          this.buildPartial();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput build() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput result = buildPartial();
         if (!result.isInitialized()) {
-          throw com.google.protobuf.AbstractMessageLite.Builder
-            .newUninitializedMessageException(result);
+          throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput
-        buildPartial()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput result =
-          new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput(
-            this);
-        final int from_bitField0_ = this.bitField0_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput buildPartial() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput result = new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput(this);
+        int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.name_ = this.name_;
+        result.name_ = name_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.type_ = this.type_;
+        result.type_ = type_;
         result.bitField0_ = to_bitField0_;
         return result;
       }
 
-      @Override public
-        Builder
-        mergeFrom(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput other)
-      {
-        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput
-          .getDefaultInstance()) {
-          return this;
-        }
+      public Builder mergeFrom(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput other) {
+        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput.getDefaultInstance()) return this;
         if (other.hasName()) {
-          this.bitField0_ |= 0x00000001;
-          this.name_ = other.name_;
-
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          
         }
         if (other.hasType()) {
-          this.bitField0_ |= 0x00000002;
-          this.type_ = other.type_;
-
+          bitField0_ |= 0x00000002;
+          type_ = other.type_;
+          
         }
-        this.setUnknownFields(this.getUnknownFields().concat(
-          other.unknownFields));
+        setUnknownFields(
+            getUnknownFields().concat(other.unknownFields));
         return this;
       }
 
-      @Override public final boolean isInitialized()
-      {
-        if (!this.hasName()) {
-
+      public final boolean isInitialized() {
+        if (!hasName()) {
+          
           return false;
         }
-        if (!this.hasType()) {
-
+        if (!hasType()) {
+          
           return false;
         }
         return true;
       }
 
-      @Override public Builder mergeFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-      {
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput parsedMessage =
-          null;
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput parsedMessage = null;
         try {
-          parsedMessage =
-            PFragmentShaderInput.PARSER.parsePartialFrom(
-              input,
-              extensionRegistry);
-        } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage =
-            (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput) e
-              .getUnfinishedMessage();
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
-            this.mergeFrom(parsedMessage);
+            mergeFrom(parsedMessage);
           }
         }
         return this;
       }
-
-      private int              bitField0_;
+      private int bitField0_;
 
       private java.lang.Object name_ = "";
-
       /**
        * <code>required string name = 1;</code>
        */
-      @Override public boolean hasName()
-      {
-        return ((this.bitField0_ & 0x00000001) == 0x00000001);
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-
       /**
        * <code>required string name = 1;</code>
        */
-      @Override public java.lang.String getName()
-      {
-        final java.lang.Object ref = this.name_;
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
         if (!(ref instanceof java.lang.String)) {
-          final com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-          final java.lang.String s = bs.toStringUtf8();
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            this.name_ = s;
+            name_ = s;
           }
           return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        return (java.lang.String) ref;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
-      @Override public com.google.protobuf.ByteString getNameBytes()
-      {
-        final java.lang.Object ref = this.name_;
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
         if (ref instanceof String) {
-          final com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString
-              .copyFromUtf8((java.lang.String) ref);
-          this.name_ = b;
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
           return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        return (com.google.protobuf.ByteString) ref;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
       public Builder setName(
-        final java.lang.String value)
-      {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000001;
-        this.name_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        
         return this;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
-      public Builder clearName()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.name_ = PFragmentShaderInput.getDefaultInstance().getName();
-
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = getDefaultInstance().getName();
+        
         return this;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
       public Builder setNameBytes(
-        final com.google.protobuf.ByteString value)
-      {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000001;
-        this.name_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        
         return this;
       }
 
       private java.lang.Object type_ = "";
-
       /**
        * <code>required string type = 2;</code>
        */
-      @Override public boolean hasType()
-      {
-        return ((this.bitField0_ & 0x00000002) == 0x00000002);
+      public boolean hasType() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
-
       /**
        * <code>required string type = 2;</code>
        */
-      @Override public java.lang.String getType()
-      {
-        final java.lang.Object ref = this.type_;
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
         if (!(ref instanceof java.lang.String)) {
-          final com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-          final java.lang.String s = bs.toStringUtf8();
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            this.type_ = s;
+            type_ = s;
           }
           return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        return (java.lang.String) ref;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
-      @Override public com.google.protobuf.ByteString getTypeBytes()
-      {
-        final java.lang.Object ref = this.type_;
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
         if (ref instanceof String) {
-          final com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString
-              .copyFromUtf8((java.lang.String) ref);
-          this.type_ = b;
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
           return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        return (com.google.protobuf.ByteString) ref;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
       public Builder setType(
-        final java.lang.String value)
-      {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000002;
-        this.type_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        type_ = value;
+        
         return this;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
-      public Builder clearType()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
-        this.type_ = PFragmentShaderInput.getDefaultInstance().getType();
-
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        type_ = getDefaultInstance().getType();
+        
         return this;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
       public Builder setTypeBytes(
-        final com.google.protobuf.ByteString value)
-      {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000002;
-        this.type_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        type_ = value;
+        
         return this;
       }
 
@@ -3100,875 +2400,688 @@ public final class ProgramMeta
 
     static {
       defaultInstance = new PFragmentShaderInput(true);
-      PFragmentShaderInput.defaultInstance.initFields();
+      defaultInstance.initFields();
     }
 
     // @@protoc_insertion_point(class_scope:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput)
   }
 
   public interface PFragmentShaderOutputOrBuilder extends
-  // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput)
-    com.google.protobuf.MessageLiteOrBuilder
-  {
+      // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput)
+      com.google.protobuf.MessageLiteOrBuilder {
 
     /**
      * <code>required string name = 1;</code>
      */
     boolean hasName();
-
     /**
      * <code>required string name = 1;</code>
      */
     java.lang.String getName();
-
     /**
      * <code>required string name = 1;</code>
      */
-    com.google.protobuf.ByteString getNameBytes();
+    com.google.protobuf.ByteString
+        getNameBytes();
 
     /**
      * <code>required string type = 2;</code>
      */
     boolean hasType();
-
     /**
      * <code>required string type = 2;</code>
      */
     java.lang.String getType();
-
     /**
      * <code>required string type = 2;</code>
      */
-    com.google.protobuf.ByteString getTypeBytes();
+    com.google.protobuf.ByteString
+        getTypeBytes();
 
     /**
      * <code>required fixed32 index = 3;</code>
      */
     boolean hasIndex();
-
     /**
      * <code>required fixed32 index = 3;</code>
      */
     int getIndex();
   }
-
   /**
-   * Protobuf type
-   * {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput}
+   * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput}
    */
   public static final class PFragmentShaderOutput extends
-    com.google.protobuf.GeneratedMessageLite implements
-  // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput)
-    PFragmentShaderOutputOrBuilder
-  {
+      com.google.protobuf.GeneratedMessageLite implements
+      // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput)
+      PFragmentShaderOutputOrBuilder {
     // Use PFragmentShaderOutput.newBuilder() to construct.
-    private PFragmentShaderOutput(
-      final com.google.protobuf.GeneratedMessageLite.Builder builder)
-    {
+    private PFragmentShaderOutput(com.google.protobuf.GeneratedMessageLite.Builder builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-
-    private PFragmentShaderOutput(
-      final boolean noInit)
-    {
-      this.unknownFields = com.google.protobuf.ByteString.EMPTY;
-    }
+    private PFragmentShaderOutput(boolean noInit) { this.unknownFields = com.google.protobuf.ByteString.EMPTY;}
 
     private static final PFragmentShaderOutput defaultInstance;
-
-    public static PFragmentShaderOutput getDefaultInstance()
-    {
-      return PFragmentShaderOutput.defaultInstance;
+    public static PFragmentShaderOutput getDefaultInstance() {
+      return defaultInstance;
     }
 
-    @Override public PFragmentShaderOutput getDefaultInstanceForType()
-    {
-      return PFragmentShaderOutput.defaultInstance;
+    public PFragmentShaderOutput getDefaultInstanceForType() {
+      return defaultInstance;
     }
 
     private final com.google.protobuf.ByteString unknownFields;
-
     private PFragmentShaderOutput(
-      final com.google.protobuf.CodedInputStream input,
-      final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      this.initFields();
-      final int mutable_bitField0_ = 0;
-      final com.google.protobuf.ByteString.Output unknownFieldsOutput =
-        com.google.protobuf.ByteString.newOutput();
-      final com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
-        com.google.protobuf.CodedOutputStream
-          .newInstance(unknownFieldsOutput);
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.ByteString.Output unknownFieldsOutput =
+          com.google.protobuf.ByteString.newOutput();
+      com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
+          com.google.protobuf.CodedOutputStream.newInstance(
+              unknownFieldsOutput);
       try {
         boolean done = false;
         while (!done) {
-          final int tag = input.readTag();
+          int tag = input.readTag();
           switch (tag) {
             case 0:
               done = true;
               break;
-            default:
-            {
-              if (!this.parseUnknownField(
-                input,
-                unknownFieldsCodedOutput,
-                extensionRegistry,
-                tag)) {
+            default: {
+              if (!parseUnknownField(input, unknownFieldsCodedOutput,
+                                     extensionRegistry, tag)) {
                 done = true;
               }
               break;
             }
-            case 10:
-            {
-              final com.google.protobuf.ByteString bs = input.readBytes();
-              this.bitField0_ |= 0x00000001;
-              this.name_ = bs;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              name_ = bs;
               break;
             }
-            case 18:
-            {
-              final com.google.protobuf.ByteString bs = input.readBytes();
-              this.bitField0_ |= 0x00000002;
-              this.type_ = bs;
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              type_ = bs;
               break;
             }
-            case 29:
-            {
-              this.bitField0_ |= 0x00000004;
-              this.index_ = input.readFixed32();
+            case 29: {
+              bitField0_ |= 0x00000004;
+              index_ = input.readFixed32();
               break;
             }
           }
         }
-      } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
         throw e.setUnfinishedMessage(this);
-      } catch (final java.io.IOException e) {
+      } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
-          e.getMessage()).setUnfinishedMessage(this);
+            e.getMessage()).setUnfinishedMessage(this);
       } finally {
         try {
           unknownFieldsCodedOutput.flush();
-        } catch (final java.io.IOException e) {
-          // Should not happen
+        } catch (java.io.IOException e) {
+        // Should not happen
         } finally {
-          this.unknownFields = unknownFieldsOutput.toByteString();
+          unknownFields = unknownFieldsOutput.toByteString();
         }
-        this.makeExtensionsImmutable();
+        makeExtensionsImmutable();
       }
     }
-
     public static com.google.protobuf.Parser<PFragmentShaderOutput> PARSER =
-                                                                             new com.google.protobuf.AbstractParser<PFragmentShaderOutput>() {
-                                                                               @Override public
-                                                                                 PFragmentShaderOutput
-                                                                                 parsePartialFrom(
-                                                                                   final com.google.protobuf.CodedInputStream input,
-                                                                                   final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                                                                                   throws com.google.protobuf.InvalidProtocolBufferException
-                                                                               {
-                                                                                 return new PFragmentShaderOutput(
-                                                                                   input,
-                                                                                   extensionRegistry);
-                                                                               }
-                                                                             };
-
-    @java.lang.Override public
-      com.google.protobuf.Parser<PFragmentShaderOutput>
-      getParserForType()
-    {
-      return PFragmentShaderOutput.PARSER;
-    }
-
-    private int              bitField0_;
-    public static final int  NAME_FIELD_NUMBER = 1;
-    private java.lang.Object name_;
+        new com.google.protobuf.AbstractParser<PFragmentShaderOutput>() {
+      public PFragmentShaderOutput parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PFragmentShaderOutput(input, extensionRegistry);
+      }
+    };
 
+    @java.lang.Override
+    public com.google.protobuf.Parser<PFragmentShaderOutput> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private java.lang.Object name_;
     /**
      * <code>required string name = 1;</code>
      */
-    @Override public boolean hasName()
-    {
-      return ((this.bitField0_ & 0x00000001) == 0x00000001);
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-
     /**
      * <code>required string name = 1;</code>
      */
-    @Override public java.lang.String getName()
-    {
-      final java.lang.Object ref = this.name_;
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
       }
-      final com.google.protobuf.ByteString bs =
-        (com.google.protobuf.ByteString) ref;
-      final java.lang.String s = bs.toStringUtf8();
-      if (bs.isValidUtf8()) {
-        this.name_ = s;
-      }
-      return s;
     }
-
     /**
      * <code>required string name = 1;</code>
      */
-    @Override public com.google.protobuf.ByteString getNameBytes()
-    {
-      final java.lang.Object ref = this.name_;
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
       if (ref instanceof java.lang.String) {
-        final com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
-        this.name_ = b;
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
         return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      return (com.google.protobuf.ByteString) ref;
     }
 
-    public static final int  TYPE_FIELD_NUMBER = 2;
+    public static final int TYPE_FIELD_NUMBER = 2;
     private java.lang.Object type_;
-
     /**
      * <code>required string type = 2;</code>
      */
-    @Override public boolean hasType()
-    {
-      return ((this.bitField0_ & 0x00000002) == 0x00000002);
+    public boolean hasType() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
-
     /**
      * <code>required string type = 2;</code>
      */
-    @Override public java.lang.String getType()
-    {
-      final java.lang.Object ref = this.type_;
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          type_ = s;
+        }
+        return s;
       }
-      final com.google.protobuf.ByteString bs =
-        (com.google.protobuf.ByteString) ref;
-      final java.lang.String s = bs.toStringUtf8();
-      if (bs.isValidUtf8()) {
-        this.type_ = s;
-      }
-      return s;
     }
-
     /**
      * <code>required string type = 2;</code>
      */
-    @Override public com.google.protobuf.ByteString getTypeBytes()
-    {
-      final java.lang.Object ref = this.type_;
+    public com.google.protobuf.ByteString
+        getTypeBytes() {
+      java.lang.Object ref = type_;
       if (ref instanceof java.lang.String) {
-        final com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
-        this.type_ = b;
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        type_ = b;
         return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      return (com.google.protobuf.ByteString) ref;
     }
 
     public static final int INDEX_FIELD_NUMBER = 3;
-    private int             index_;
-
+    private int index_;
     /**
      * <code>required fixed32 index = 3;</code>
      */
-    @Override public boolean hasIndex()
-    {
-      return ((this.bitField0_ & 0x00000004) == 0x00000004);
+    public boolean hasIndex() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
     }
-
     /**
      * <code>required fixed32 index = 3;</code>
      */
-    @Override public int getIndex()
-    {
-      return this.index_;
+    public int getIndex() {
+      return index_;
     }
 
-    private void initFields()
-    {
-      this.name_ = "";
-      this.type_ = "";
-      this.index_ = 0;
+    private void initFields() {
+      name_ = "";
+      type_ = "";
+      index_ = 0;
     }
-
     private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-    @Override public final boolean isInitialized()
-    {
-      final byte isInitialized = this.memoizedIsInitialized;
-      if (isInitialized == 1) {
-        return true;
-      }
-      if (isInitialized == 0) {
+      if (!hasName()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-
-      if (!this.hasName()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasType()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      if (!this.hasType()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasIndex()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      if (!this.hasIndex()) {
-        this.memoizedIsInitialized = 0;
-        return false;
-      }
-      this.memoizedIsInitialized = 1;
+      memoizedIsInitialized = 1;
       return true;
     }
 
-    @Override public void writeTo(
-      final com.google.protobuf.CodedOutputStream output)
-      throws java.io.IOException
-    {
-      this.getSerializedSize();
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, this.getNameBytes());
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getNameBytes());
       }
-      if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, this.getTypeBytes());
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getTypeBytes());
       }
-      if (((this.bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeFixed32(3, this.index_);
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeFixed32(3, index_);
       }
-      output.writeRawBytes(this.unknownFields);
+      output.writeRawBytes(unknownFields);
     }
 
     private int memoizedSerializedSize = -1;
-
-    @Override public int getSerializedSize()
-    {
-      int size = this.memoizedSerializedSize;
-      if (size != -1) {
-        return size;
-      }
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
 
       size = 0;
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeBytesSize(
-            1,
-            this.getNameBytes());
-      }
-      if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeBytesSize(
-            2,
-            this.getTypeBytes());
-      }
-      if (((this.bitField0_ & 0x00000004) == 0x00000004)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeFixed32Size(
-            3,
-            this.index_);
-      }
-      size += this.unknownFields.size();
-      this.memoizedSerializedSize = size;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getTypeBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(3, index_);
+      }
+      size += unknownFields.size();
+      memoizedSerializedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-
-    @java.lang.Override protected java.lang.Object writeReplace()
-      throws java.io.ObjectStreamException
-    {
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
       return super.writeReplace();
     }
 
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput
-      parseFrom(
-        final com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderOutput.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput
-      parseFrom(
-        final com.google.protobuf.ByteString data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderOutput.PARSER.parseFrom(data, extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput
-      parseFrom(
-        final byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderOutput.PARSER.parseFrom(data);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput
-      parseFrom(
-        final byte[] data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderOutput.PARSER.parseFrom(data, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput
-      parseFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PFragmentShaderOutput.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput
-      parseFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PFragmentShaderOutput.PARSER.parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput
-      parseDelimitedFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PFragmentShaderOutput.PARSER.parseDelimitedFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput
-      parseDelimitedFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PFragmentShaderOutput.PARSER.parseDelimitedFrom(
-        input,
-        extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException
-    {
-      return PFragmentShaderOutput.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PFragmentShaderOutput.PARSER.parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-
-    public static Builder newBuilder()
-    {
-      return Builder.create();
-    }
-
-    @Override public Builder newBuilderForType()
-    {
-      return PFragmentShaderOutput.newBuilder();
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      Builder
-      newBuilder(
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput prototype)
-    {
-      return PFragmentShaderOutput.newBuilder().mergeFrom(prototype);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
 
-    @Override public Builder toBuilder()
-    {
-      return PFragmentShaderOutput.newBuilder(this);
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput prototype) {
+      return newBuilder().mergeFrom(prototype);
     }
+    public Builder toBuilder() { return newBuilder(this); }
 
     /**
-     * Protobuf type
-     * {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput}
+     * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput}
      */
     public static final class Builder extends
-      com.google.protobuf.GeneratedMessageLite.Builder<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput, Builder> implements
-      // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput)
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutputOrBuilder
-    {
-      // Construct using
-      // com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput.newBuilder()
-      private Builder()
-      {
-        this.maybeForceBuilderInitialization();
+        com.google.protobuf.GeneratedMessageLite.Builder<
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput, Builder>
+        implements
+        // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput)
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutputOrBuilder {
+      // Construct using com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      private void maybeForceBuilderInitialization()
-      {
+      private void maybeForceBuilderInitialization() {
       }
-
-      private static Builder create()
-      {
+      private static Builder create() {
         return new Builder();
       }
 
-      @Override public Builder clear()
-      {
+      public Builder clear() {
         super.clear();
-        this.name_ = "";
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.type_ = "";
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
-        this.index_ = 0;
-        this.bitField0_ = (this.bitField0_ & ~0x00000004);
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        type_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        index_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
-      @Override public Builder clone()
-      {
-        return Builder.create().mergeFrom(this.buildPartial());
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput
-        getDefaultInstanceForType()
-      {
-        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput
-          .getDefaultInstance();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput getDefaultInstanceForType() {
+        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput.getDefaultInstance();
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput
-        build()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput result =
-          this.buildPartial();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput build() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput result = buildPartial();
         if (!result.isInitialized()) {
-          throw com.google.protobuf.AbstractMessageLite.Builder
-            .newUninitializedMessageException(result);
+          throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput
-        buildPartial()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput result =
-          new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput(
-            this);
-        final int from_bitField0_ = this.bitField0_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput buildPartial() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput result = new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput(this);
+        int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.name_ = this.name_;
+        result.name_ = name_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.type_ = this.type_;
+        result.type_ = type_;
         if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
           to_bitField0_ |= 0x00000004;
         }
-        result.index_ = this.index_;
+        result.index_ = index_;
         result.bitField0_ = to_bitField0_;
         return result;
       }
 
-      @Override public
-        Builder
-        mergeFrom(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput other)
-      {
-        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput
-          .getDefaultInstance()) {
-          return this;
-        }
+      public Builder mergeFrom(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput other) {
+        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput.getDefaultInstance()) return this;
         if (other.hasName()) {
-          this.bitField0_ |= 0x00000001;
-          this.name_ = other.name_;
-
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          
         }
         if (other.hasType()) {
-          this.bitField0_ |= 0x00000002;
-          this.type_ = other.type_;
-
+          bitField0_ |= 0x00000002;
+          type_ = other.type_;
+          
         }
         if (other.hasIndex()) {
-          this.setIndex(other.getIndex());
+          setIndex(other.getIndex());
         }
-        this.setUnknownFields(this.getUnknownFields().concat(
-          other.unknownFields));
+        setUnknownFields(
+            getUnknownFields().concat(other.unknownFields));
         return this;
       }
 
-      @Override public final boolean isInitialized()
-      {
-        if (!this.hasName()) {
-
+      public final boolean isInitialized() {
+        if (!hasName()) {
+          
           return false;
         }
-        if (!this.hasType()) {
-
+        if (!hasType()) {
+          
           return false;
         }
-        if (!this.hasIndex()) {
-
+        if (!hasIndex()) {
+          
           return false;
         }
         return true;
       }
 
-      @Override public Builder mergeFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-      {
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput parsedMessage =
-          null;
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput parsedMessage = null;
         try {
-          parsedMessage =
-            PFragmentShaderOutput.PARSER.parsePartialFrom(
-              input,
-              extensionRegistry);
-        } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage =
-            (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput) e
-              .getUnfinishedMessage();
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
-            this.mergeFrom(parsedMessage);
+            mergeFrom(parsedMessage);
           }
         }
         return this;
       }
-
-      private int              bitField0_;
+      private int bitField0_;
 
       private java.lang.Object name_ = "";
-
       /**
        * <code>required string name = 1;</code>
        */
-      @Override public boolean hasName()
-      {
-        return ((this.bitField0_ & 0x00000001) == 0x00000001);
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-
       /**
        * <code>required string name = 1;</code>
        */
-      @Override public java.lang.String getName()
-      {
-        final java.lang.Object ref = this.name_;
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
         if (!(ref instanceof java.lang.String)) {
-          final com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-          final java.lang.String s = bs.toStringUtf8();
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            this.name_ = s;
+            name_ = s;
           }
           return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        return (java.lang.String) ref;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
-      @Override public com.google.protobuf.ByteString getNameBytes()
-      {
-        final java.lang.Object ref = this.name_;
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
         if (ref instanceof String) {
-          final com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString
-              .copyFromUtf8((java.lang.String) ref);
-          this.name_ = b;
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
           return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        return (com.google.protobuf.ByteString) ref;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
       public Builder setName(
-        final java.lang.String value)
-      {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000001;
-        this.name_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        
         return this;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
-      public Builder clearName()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.name_ = PFragmentShaderOutput.getDefaultInstance().getName();
-
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = getDefaultInstance().getName();
+        
         return this;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
       public Builder setNameBytes(
-        final com.google.protobuf.ByteString value)
-      {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000001;
-        this.name_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        
         return this;
       }
 
       private java.lang.Object type_ = "";
-
       /**
        * <code>required string type = 2;</code>
        */
-      @Override public boolean hasType()
-      {
-        return ((this.bitField0_ & 0x00000002) == 0x00000002);
+      public boolean hasType() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
-
       /**
        * <code>required string type = 2;</code>
        */
-      @Override public java.lang.String getType()
-      {
-        final java.lang.Object ref = this.type_;
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
         if (!(ref instanceof java.lang.String)) {
-          final com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-          final java.lang.String s = bs.toStringUtf8();
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            this.type_ = s;
+            type_ = s;
           }
           return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        return (java.lang.String) ref;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
-      @Override public com.google.protobuf.ByteString getTypeBytes()
-      {
-        final java.lang.Object ref = this.type_;
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
         if (ref instanceof String) {
-          final com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString
-              .copyFromUtf8((java.lang.String) ref);
-          this.type_ = b;
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
           return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        return (com.google.protobuf.ByteString) ref;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
       public Builder setType(
-        final java.lang.String value)
-      {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000002;
-        this.type_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        type_ = value;
+        
         return this;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
-      public Builder clearType()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
-        this.type_ = PFragmentShaderOutput.getDefaultInstance().getType();
-
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        type_ = getDefaultInstance().getType();
+        
         return this;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
       public Builder setTypeBytes(
-        final com.google.protobuf.ByteString value)
-      {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000002;
-        this.type_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        type_ = value;
+        
         return this;
       }
 
-      private int index_;
-
+      private int index_ ;
       /**
        * <code>required fixed32 index = 3;</code>
        */
-      @Override public boolean hasIndex()
-      {
-        return ((this.bitField0_ & 0x00000004) == 0x00000004);
+      public boolean hasIndex() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
-
       /**
        * <code>required fixed32 index = 3;</code>
        */
-      @Override public int getIndex()
-      {
-        return this.index_;
+      public int getIndex() {
+        return index_;
       }
-
       /**
        * <code>required fixed32 index = 3;</code>
        */
-      public Builder setIndex(
-        final int value)
-      {
-        this.bitField0_ |= 0x00000004;
-        this.index_ = value;
-
+      public Builder setIndex(int value) {
+        bitField0_ |= 0x00000004;
+        index_ = value;
+        
         return this;
       }
-
       /**
        * <code>required fixed32 index = 3;</code>
        */
-      public Builder clearIndex()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000004);
-        this.index_ = 0;
-
+      public Builder clearIndex() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        index_ = 0;
+        
         return this;
       }
 
@@ -3977,45 +3090,39 @@ public final class ProgramMeta
 
     static {
       defaultInstance = new PFragmentShaderOutput(true);
-      PFragmentShaderOutput.defaultInstance.initFields();
+      defaultInstance.initFields();
     }
 
     // @@protoc_insertion_point(class_scope:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput)
   }
 
   public interface PFragmentShaderCommonOrBuilder extends
-  // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon)
-    com.google.protobuf.MessageLiteOrBuilder
-  {
+      // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon)
+      com.google.protobuf.MessageLiteOrBuilder {
 
     /**
      * <code>required string program_name = 1;</code>
      */
     boolean hasProgramName();
-
     /**
      * <code>required string program_name = 1;</code>
      */
     java.lang.String getProgramName();
-
     /**
      * <code>required string program_name = 1;</code>
      */
-    com.google.protobuf.ByteString getProgramNameBytes();
+    com.google.protobuf.ByteString
+        getProgramNameBytes();
 
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion>
-      getSupportsList();
-
+    java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion> 
+        getSupportsList();
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-      getSupports(
-        int index);
-
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion getSupports(int index);
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
@@ -4024,16 +3131,12 @@ public final class ProgramMeta
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter parameters = 3;</code>
      */
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter>
-      getParametersList();
-
+    java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter> 
+        getParametersList();
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter parameters = 3;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter
-      getParameters(
-        int index);
-
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter getParameters(int index);
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter parameters = 3;</code>
      */
@@ -4042,16 +3145,12 @@ public final class ProgramMeta
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput inputs = 4;</code>
      */
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput>
-      getInputsList();
-
+    java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput> 
+        getInputsList();
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput inputs = 4;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput
-      getInputs(
-        int index);
-
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput getInputs(int index);
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput inputs = 4;</code>
      */
@@ -4060,1743 +3159,1255 @@ public final class ProgramMeta
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput outputs = 5;</code>
      */
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput>
-      getOutputsList();
-
+    java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput> 
+        getOutputsList();
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput outputs = 5;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput
-      getOutputs(
-        int index);
-
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput getOutputs(int index);
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput outputs = 5;</code>
      */
     int getOutputsCount();
   }
-
   /**
-   * Protobuf type
-   * {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon}
+   * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon}
    */
   public static final class PFragmentShaderCommon extends
-    com.google.protobuf.GeneratedMessageLite implements
-  // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon)
-    PFragmentShaderCommonOrBuilder
-  {
+      com.google.protobuf.GeneratedMessageLite implements
+      // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon)
+      PFragmentShaderCommonOrBuilder {
     // Use PFragmentShaderCommon.newBuilder() to construct.
-    private PFragmentShaderCommon(
-      final com.google.protobuf.GeneratedMessageLite.Builder builder)
-    {
+    private PFragmentShaderCommon(com.google.protobuf.GeneratedMessageLite.Builder builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-
-    private PFragmentShaderCommon(
-      final boolean noInit)
-    {
-      this.unknownFields = com.google.protobuf.ByteString.EMPTY;
-    }
+    private PFragmentShaderCommon(boolean noInit) { this.unknownFields = com.google.protobuf.ByteString.EMPTY;}
 
     private static final PFragmentShaderCommon defaultInstance;
-
-    public static PFragmentShaderCommon getDefaultInstance()
-    {
-      return PFragmentShaderCommon.defaultInstance;
+    public static PFragmentShaderCommon getDefaultInstance() {
+      return defaultInstance;
     }
 
-    @Override public PFragmentShaderCommon getDefaultInstanceForType()
-    {
-      return PFragmentShaderCommon.defaultInstance;
+    public PFragmentShaderCommon getDefaultInstanceForType() {
+      return defaultInstance;
     }
 
     private final com.google.protobuf.ByteString unknownFields;
-
     private PFragmentShaderCommon(
-      final com.google.protobuf.CodedInputStream input,
-      final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      this.initFields();
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
       int mutable_bitField0_ = 0;
-      final com.google.protobuf.ByteString.Output unknownFieldsOutput =
-        com.google.protobuf.ByteString.newOutput();
-      final com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
-        com.google.protobuf.CodedOutputStream
-          .newInstance(unknownFieldsOutput);
+      com.google.protobuf.ByteString.Output unknownFieldsOutput =
+          com.google.protobuf.ByteString.newOutput();
+      com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
+          com.google.protobuf.CodedOutputStream.newInstance(
+              unknownFieldsOutput);
       try {
         boolean done = false;
         while (!done) {
-          final int tag = input.readTag();
+          int tag = input.readTag();
           switch (tag) {
             case 0:
               done = true;
               break;
-            default:
-            {
-              if (!this.parseUnknownField(
-                input,
-                unknownFieldsCodedOutput,
-                extensionRegistry,
-                tag)) {
+            default: {
+              if (!parseUnknownField(input, unknownFieldsCodedOutput,
+                                     extensionRegistry, tag)) {
                 done = true;
               }
               break;
             }
-            case 10:
-            {
-              final com.google.protobuf.ByteString bs = input.readBytes();
-              this.bitField0_ |= 0x00000001;
-              this.programName_ = bs;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              programName_ = bs;
               break;
             }
-            case 18:
-            {
+            case 18: {
               if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-                this.supports_ =
-                  new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion>();
+                supports_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion>();
                 mutable_bitField0_ |= 0x00000002;
               }
-              this.supports_
-                .add(input
-                  .readMessage(
-                    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.PARSER,
-                    extensionRegistry));
+              supports_.add(input.readMessage(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.PARSER, extensionRegistry));
               break;
             }
-            case 26:
-            {
+            case 26: {
               if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
-                this.parameters_ =
-                  new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter>();
+                parameters_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter>();
                 mutable_bitField0_ |= 0x00000004;
               }
-              this.parameters_
-                .add(input
-                  .readMessage(
-                    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter.PARSER,
-                    extensionRegistry));
+              parameters_.add(input.readMessage(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter.PARSER, extensionRegistry));
               break;
             }
-            case 34:
-            {
+            case 34: {
               if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
-                this.inputs_ =
-                  new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput>();
+                inputs_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput>();
                 mutable_bitField0_ |= 0x00000008;
               }
-              this.inputs_
-                .add(input
-                  .readMessage(
-                    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput.PARSER,
-                    extensionRegistry));
+              inputs_.add(input.readMessage(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput.PARSER, extensionRegistry));
               break;
             }
-            case 42:
-            {
+            case 42: {
               if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
-                this.outputs_ =
-                  new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput>();
+                outputs_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput>();
                 mutable_bitField0_ |= 0x00000010;
               }
-              this.outputs_
-                .add(input
-                  .readMessage(
-                    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput.PARSER,
-                    extensionRegistry));
+              outputs_.add(input.readMessage(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput.PARSER, extensionRegistry));
               break;
             }
           }
         }
-      } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
         throw e.setUnfinishedMessage(this);
-      } catch (final java.io.IOException e) {
+      } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
-          e.getMessage()).setUnfinishedMessage(this);
+            e.getMessage()).setUnfinishedMessage(this);
       } finally {
         if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-          this.supports_ =
-            java.util.Collections.unmodifiableList(this.supports_);
+          supports_ = java.util.Collections.unmodifiableList(supports_);
         }
         if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
-          this.parameters_ =
-            java.util.Collections.unmodifiableList(this.parameters_);
+          parameters_ = java.util.Collections.unmodifiableList(parameters_);
         }
         if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
-          this.inputs_ = java.util.Collections.unmodifiableList(this.inputs_);
+          inputs_ = java.util.Collections.unmodifiableList(inputs_);
         }
         if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
-          this.outputs_ =
-            java.util.Collections.unmodifiableList(this.outputs_);
+          outputs_ = java.util.Collections.unmodifiableList(outputs_);
         }
         try {
           unknownFieldsCodedOutput.flush();
-        } catch (final java.io.IOException e) {
-          // Should not happen
+        } catch (java.io.IOException e) {
+        // Should not happen
         } finally {
-          this.unknownFields = unknownFieldsOutput.toByteString();
+          unknownFields = unknownFieldsOutput.toByteString();
         }
-        this.makeExtensionsImmutable();
+        makeExtensionsImmutable();
       }
     }
-
     public static com.google.protobuf.Parser<PFragmentShaderCommon> PARSER =
-                                                                             new com.google.protobuf.AbstractParser<PFragmentShaderCommon>() {
-                                                                               @Override public
-                                                                                 PFragmentShaderCommon
-                                                                                 parsePartialFrom(
-                                                                                   final com.google.protobuf.CodedInputStream input,
-                                                                                   final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                                                                                   throws com.google.protobuf.InvalidProtocolBufferException
-                                                                               {
-                                                                                 return new PFragmentShaderCommon(
-                                                                                   input,
-                                                                                   extensionRegistry);
-                                                                               }
-                                                                             };
-
-    @java.lang.Override public
-      com.google.protobuf.Parser<PFragmentShaderCommon>
-      getParserForType()
-    {
-      return PFragmentShaderCommon.PARSER;
-    }
-
-    private int              bitField0_;
-    public static final int  PROGRAM_NAME_FIELD_NUMBER = 1;
-    private java.lang.Object programName_;
+        new com.google.protobuf.AbstractParser<PFragmentShaderCommon>() {
+      public PFragmentShaderCommon parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PFragmentShaderCommon(input, extensionRegistry);
+      }
+    };
 
+    @java.lang.Override
+    public com.google.protobuf.Parser<PFragmentShaderCommon> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int PROGRAM_NAME_FIELD_NUMBER = 1;
+    private java.lang.Object programName_;
     /**
      * <code>required string program_name = 1;</code>
      */
-    @Override public boolean hasProgramName()
-    {
-      return ((this.bitField0_ & 0x00000001) == 0x00000001);
+    public boolean hasProgramName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-
     /**
      * <code>required string program_name = 1;</code>
      */
-    @Override public java.lang.String getProgramName()
-    {
-      final java.lang.Object ref = this.programName_;
+    public java.lang.String getProgramName() {
+      java.lang.Object ref = programName_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          programName_ = s;
+        }
+        return s;
       }
-      final com.google.protobuf.ByteString bs =
-        (com.google.protobuf.ByteString) ref;
-      final java.lang.String s = bs.toStringUtf8();
-      if (bs.isValidUtf8()) {
-        this.programName_ = s;
-      }
-      return s;
     }
-
     /**
      * <code>required string program_name = 1;</code>
      */
-    @Override public com.google.protobuf.ByteString getProgramNameBytes()
-    {
-      final java.lang.Object ref = this.programName_;
+    public com.google.protobuf.ByteString
+        getProgramNameBytes() {
+      java.lang.Object ref = programName_;
       if (ref instanceof java.lang.String) {
-        final com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
-        this.programName_ = b;
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        programName_ = b;
         return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      return (com.google.protobuf.ByteString) ref;
     }
 
-    public static final int                                                                          SUPPORTS_FIELD_NUMBER =
-                                                                                                                             2;
+    public static final int SUPPORTS_FIELD_NUMBER = 2;
     private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion> supports_;
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
-    @Override public
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion>
-      getSupportsList()
-    {
-      return this.supports_;
+    public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion> getSupportsList() {
+      return supports_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
-    public
-      java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersionOrBuilder>
-      getSupportsOrBuilderList()
-    {
-      return this.supports_;
+    public java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersionOrBuilder> 
+        getSupportsOrBuilderList() {
+      return supports_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
-    @Override public int getSupportsCount()
-    {
-      return this.supports_.size();
+    public int getSupportsCount() {
+      return supports_.size();
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-      getSupports(
-        final int index)
-    {
-      return this.supports_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion getSupports(int index) {
+      return supports_.get(index);
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
-    public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersionOrBuilder
-      getSupportsOrBuilder(
-        final int index)
-    {
-      return this.supports_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersionOrBuilder getSupportsOrBuilder(
+        int index) {
+      return supports_.get(index);
     }
 
-    public static final int                                                                                      PARAMETERS_FIELD_NUMBER =
-                                                                                                                                           3;
+    public static final int PARAMETERS_FIELD_NUMBER = 3;
     private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter> parameters_;
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter parameters = 3;</code>
      */
-    @Override public
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter>
-      getParametersList()
-    {
-      return this.parameters_;
+    public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter> getParametersList() {
+      return parameters_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter parameters = 3;</code>
      */
-    public
-      java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameterOrBuilder>
-      getParametersOrBuilderList()
-    {
-      return this.parameters_;
+    public java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameterOrBuilder> 
+        getParametersOrBuilderList() {
+      return parameters_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter parameters = 3;</code>
      */
-    @Override public int getParametersCount()
-    {
-      return this.parameters_.size();
+    public int getParametersCount() {
+      return parameters_.size();
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter parameters = 3;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter
-      getParameters(
-        final int index)
-    {
-      return this.parameters_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter getParameters(int index) {
+      return parameters_.get(index);
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter parameters = 3;</code>
      */
-    public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameterOrBuilder
-      getParametersOrBuilder(
-        final int index)
-    {
-      return this.parameters_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameterOrBuilder getParametersOrBuilder(
+        int index) {
+      return parameters_.get(index);
     }
 
-    public static final int                                                                                  INPUTS_FIELD_NUMBER =
-                                                                                                                                   4;
+    public static final int INPUTS_FIELD_NUMBER = 4;
     private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput> inputs_;
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput inputs = 4;</code>
      */
-    @Override public
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput>
-      getInputsList()
-    {
-      return this.inputs_;
+    public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput> getInputsList() {
+      return inputs_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput inputs = 4;</code>
      */
-    public
-      java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInputOrBuilder>
-      getInputsOrBuilderList()
-    {
-      return this.inputs_;
+    public java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInputOrBuilder> 
+        getInputsOrBuilderList() {
+      return inputs_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput inputs = 4;</code>
      */
-    @Override public int getInputsCount()
-    {
-      return this.inputs_.size();
+    public int getInputsCount() {
+      return inputs_.size();
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput inputs = 4;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput
-      getInputs(
-        final int index)
-    {
-      return this.inputs_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput getInputs(int index) {
+      return inputs_.get(index);
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput inputs = 4;</code>
      */
-    public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInputOrBuilder
-      getInputsOrBuilder(
-        final int index)
-    {
-      return this.inputs_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInputOrBuilder getInputsOrBuilder(
+        int index) {
+      return inputs_.get(index);
     }
 
-    public static final int                                                                                   OUTPUTS_FIELD_NUMBER =
-                                                                                                                                     5;
+    public static final int OUTPUTS_FIELD_NUMBER = 5;
     private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput> outputs_;
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput outputs = 5;</code>
      */
-    @Override public
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput>
-      getOutputsList()
-    {
-      return this.outputs_;
+    public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput> getOutputsList() {
+      return outputs_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput outputs = 5;</code>
      */
-    public
-      java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutputOrBuilder>
-      getOutputsOrBuilderList()
-    {
-      return this.outputs_;
+    public java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutputOrBuilder> 
+        getOutputsOrBuilderList() {
+      return outputs_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput outputs = 5;</code>
      */
-    @Override public int getOutputsCount()
-    {
-      return this.outputs_.size();
+    public int getOutputsCount() {
+      return outputs_.size();
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput outputs = 5;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput
-      getOutputs(
-        final int index)
-    {
-      return this.outputs_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput getOutputs(int index) {
+      return outputs_.get(index);
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput outputs = 5;</code>
      */
-    public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutputOrBuilder
-      getOutputsOrBuilder(
-        final int index)
-    {
-      return this.outputs_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutputOrBuilder getOutputsOrBuilder(
+        int index) {
+      return outputs_.get(index);
     }
 
-    private void initFields()
-    {
-      this.programName_ = "";
-      this.supports_ = java.util.Collections.emptyList();
-      this.parameters_ = java.util.Collections.emptyList();
-      this.inputs_ = java.util.Collections.emptyList();
-      this.outputs_ = java.util.Collections.emptyList();
+    private void initFields() {
+      programName_ = "";
+      supports_ = java.util.Collections.emptyList();
+      parameters_ = java.util.Collections.emptyList();
+      inputs_ = java.util.Collections.emptyList();
+      outputs_ = java.util.Collections.emptyList();
     }
-
     private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-    @Override public final boolean isInitialized()
-    {
-      final byte isInitialized = this.memoizedIsInitialized;
-      if (isInitialized == 1) {
-        return true;
-      }
-      if (isInitialized == 0) {
-        return false;
-      }
-
-      if (!this.hasProgramName()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasProgramName()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      for (int i = 0; i < this.getSupportsCount(); i++) {
-        if (!this.getSupports(i).isInitialized()) {
-          this.memoizedIsInitialized = 0;
+      for (int i = 0; i < getSupportsCount(); i++) {
+        if (!getSupports(i).isInitialized()) {
+          memoizedIsInitialized = 0;
           return false;
         }
       }
-      for (int i = 0; i < this.getParametersCount(); i++) {
-        if (!this.getParameters(i).isInitialized()) {
-          this.memoizedIsInitialized = 0;
+      for (int i = 0; i < getParametersCount(); i++) {
+        if (!getParameters(i).isInitialized()) {
+          memoizedIsInitialized = 0;
           return false;
         }
       }
-      for (int i = 0; i < this.getInputsCount(); i++) {
-        if (!this.getInputs(i).isInitialized()) {
-          this.memoizedIsInitialized = 0;
+      for (int i = 0; i < getInputsCount(); i++) {
+        if (!getInputs(i).isInitialized()) {
+          memoizedIsInitialized = 0;
           return false;
         }
       }
-      for (int i = 0; i < this.getOutputsCount(); i++) {
-        if (!this.getOutputs(i).isInitialized()) {
-          this.memoizedIsInitialized = 0;
+      for (int i = 0; i < getOutputsCount(); i++) {
+        if (!getOutputs(i).isInitialized()) {
+          memoizedIsInitialized = 0;
           return false;
         }
       }
-      this.memoizedIsInitialized = 1;
+      memoizedIsInitialized = 1;
       return true;
     }
 
-    @Override public void writeTo(
-      final com.google.protobuf.CodedOutputStream output)
-      throws java.io.IOException
-    {
-      this.getSerializedSize();
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, this.getProgramNameBytes());
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getProgramNameBytes());
       }
-      for (int i = 0; i < this.supports_.size(); i++) {
-        output.writeMessage(2, this.supports_.get(i));
+      for (int i = 0; i < supports_.size(); i++) {
+        output.writeMessage(2, supports_.get(i));
       }
-      for (int i = 0; i < this.parameters_.size(); i++) {
-        output.writeMessage(3, this.parameters_.get(i));
+      for (int i = 0; i < parameters_.size(); i++) {
+        output.writeMessage(3, parameters_.get(i));
       }
-      for (int i = 0; i < this.inputs_.size(); i++) {
-        output.writeMessage(4, this.inputs_.get(i));
+      for (int i = 0; i < inputs_.size(); i++) {
+        output.writeMessage(4, inputs_.get(i));
       }
-      for (int i = 0; i < this.outputs_.size(); i++) {
-        output.writeMessage(5, this.outputs_.get(i));
+      for (int i = 0; i < outputs_.size(); i++) {
+        output.writeMessage(5, outputs_.get(i));
       }
-      output.writeRawBytes(this.unknownFields);
+      output.writeRawBytes(unknownFields);
     }
 
     private int memoizedSerializedSize = -1;
-
-    @Override public int getSerializedSize()
-    {
-      int size = this.memoizedSerializedSize;
-      if (size != -1) {
-        return size;
-      }
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
 
       size = 0;
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeBytesSize(
-            1,
-            this.getProgramNameBytes());
-      }
-      for (int i = 0; i < this.supports_.size(); i++) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeMessageSize(
-            2,
-            this.supports_.get(i));
-      }
-      for (int i = 0; i < this.parameters_.size(); i++) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeMessageSize(
-            3,
-            this.parameters_.get(i));
-      }
-      for (int i = 0; i < this.inputs_.size(); i++) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeMessageSize(
-            4,
-            this.inputs_.get(i));
-      }
-      for (int i = 0; i < this.outputs_.size(); i++) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeMessageSize(
-            5,
-            this.outputs_.get(i));
-      }
-      size += this.unknownFields.size();
-      this.memoizedSerializedSize = size;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getProgramNameBytes());
+      }
+      for (int i = 0; i < supports_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, supports_.get(i));
+      }
+      for (int i = 0; i < parameters_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, parameters_.get(i));
+      }
+      for (int i = 0; i < inputs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, inputs_.get(i));
+      }
+      for (int i = 0; i < outputs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, outputs_.get(i));
+      }
+      size += unknownFields.size();
+      memoizedSerializedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-
-    @java.lang.Override protected java.lang.Object writeReplace()
-      throws java.io.ObjectStreamException
-    {
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
       return super.writeReplace();
     }
 
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-      parseFrom(
-        final com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderCommon.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-      parseFrom(
-        final com.google.protobuf.ByteString data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderCommon.PARSER.parseFrom(data, extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-      parseFrom(
-        final byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderCommon.PARSER.parseFrom(data);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-      parseFrom(
-        final byte[] data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderCommon.PARSER.parseFrom(data, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-      parseFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PFragmentShaderCommon.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-      parseFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PFragmentShaderCommon.PARSER.parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-      parseDelimitedFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PFragmentShaderCommon.PARSER.parseDelimitedFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-      parseDelimitedFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PFragmentShaderCommon.PARSER.parseDelimitedFrom(
-        input,
-        extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException
-    {
-      return PFragmentShaderCommon.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PFragmentShaderCommon.PARSER.parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-
-    public static Builder newBuilder()
-    {
-      return Builder.create();
-    }
-
-    @Override public Builder newBuilderForType()
-    {
-      return PFragmentShaderCommon.newBuilder();
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      Builder
-      newBuilder(
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon prototype)
-    {
-      return PFragmentShaderCommon.newBuilder().mergeFrom(prototype);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
 
-    @Override public Builder toBuilder()
-    {
-      return PFragmentShaderCommon.newBuilder(this);
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon prototype) {
+      return newBuilder().mergeFrom(prototype);
     }
+    public Builder toBuilder() { return newBuilder(this); }
 
     /**
-     * Protobuf type
-     * {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon}
+     * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon}
      */
     public static final class Builder extends
-      com.google.protobuf.GeneratedMessageLite.Builder<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon, Builder> implements
-      // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon)
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommonOrBuilder
-    {
-      // Construct using
-      // com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.newBuilder()
-      private Builder()
-      {
-        this.maybeForceBuilderInitialization();
+        com.google.protobuf.GeneratedMessageLite.Builder<
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon, Builder>
+        implements
+        // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon)
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommonOrBuilder {
+      // Construct using com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      private void maybeForceBuilderInitialization()
-      {
+      private void maybeForceBuilderInitialization() {
       }
-
-      private static Builder create()
-      {
+      private static Builder create() {
         return new Builder();
       }
 
-      @Override public Builder clear()
-      {
+      public Builder clear() {
         super.clear();
-        this.programName_ = "";
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.supports_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
-        this.parameters_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000004);
-        this.inputs_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000008);
-        this.outputs_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000010);
+        programName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        supports_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        parameters_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        inputs_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        outputs_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
         return this;
       }
 
-      @Override public Builder clone()
-      {
-        return Builder.create().mergeFrom(this.buildPartial());
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-        getDefaultInstanceForType()
-      {
-        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-          .getDefaultInstance();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon getDefaultInstanceForType() {
+        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.getDefaultInstance();
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-        build()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon result =
-          this.buildPartial();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon build() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon result = buildPartial();
         if (!result.isInitialized()) {
-          throw com.google.protobuf.AbstractMessageLite.Builder
-            .newUninitializedMessageException(result);
+          throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-        buildPartial()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon result =
-          new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon(
-            this);
-        final int from_bitField0_ = this.bitField0_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon buildPartial() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon result = new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon(this);
+        int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.programName_ = this.programName_;
-        if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-          this.supports_ =
-            java.util.Collections.unmodifiableList(this.supports_);
-          this.bitField0_ = (this.bitField0_ & ~0x00000002);
-        }
-        result.supports_ = this.supports_;
-        if (((this.bitField0_ & 0x00000004) == 0x00000004)) {
-          this.parameters_ =
-            java.util.Collections.unmodifiableList(this.parameters_);
-          this.bitField0_ = (this.bitField0_ & ~0x00000004);
-        }
-        result.parameters_ = this.parameters_;
-        if (((this.bitField0_ & 0x00000008) == 0x00000008)) {
-          this.inputs_ = java.util.Collections.unmodifiableList(this.inputs_);
-          this.bitField0_ = (this.bitField0_ & ~0x00000008);
-        }
-        result.inputs_ = this.inputs_;
-        if (((this.bitField0_ & 0x00000010) == 0x00000010)) {
-          this.outputs_ =
-            java.util.Collections.unmodifiableList(this.outputs_);
-          this.bitField0_ = (this.bitField0_ & ~0x00000010);
-        }
-        result.outputs_ = this.outputs_;
+        result.programName_ = programName_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          supports_ = java.util.Collections.unmodifiableList(supports_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.supports_ = supports_;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          parameters_ = java.util.Collections.unmodifiableList(parameters_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.parameters_ = parameters_;
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          inputs_ = java.util.Collections.unmodifiableList(inputs_);
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.inputs_ = inputs_;
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          outputs_ = java.util.Collections.unmodifiableList(outputs_);
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.outputs_ = outputs_;
         result.bitField0_ = to_bitField0_;
         return result;
       }
 
-      @Override public
-        Builder
-        mergeFrom(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon other)
-      {
-        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-          .getDefaultInstance()) {
-          return this;
-        }
+      public Builder mergeFrom(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon other) {
+        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.getDefaultInstance()) return this;
         if (other.hasProgramName()) {
-          this.bitField0_ |= 0x00000001;
-          this.programName_ = other.programName_;
-
+          bitField0_ |= 0x00000001;
+          programName_ = other.programName_;
+          
         }
         if (!other.supports_.isEmpty()) {
-          if (this.supports_.isEmpty()) {
-            this.supports_ = other.supports_;
-            this.bitField0_ = (this.bitField0_ & ~0x00000002);
+          if (supports_.isEmpty()) {
+            supports_ = other.supports_;
+            bitField0_ = (bitField0_ & ~0x00000002);
           } else {
-            this.ensureSupportsIsMutable();
-            this.supports_.addAll(other.supports_);
+            ensureSupportsIsMutable();
+            supports_.addAll(other.supports_);
           }
-
+          
         }
         if (!other.parameters_.isEmpty()) {
-          if (this.parameters_.isEmpty()) {
-            this.parameters_ = other.parameters_;
-            this.bitField0_ = (this.bitField0_ & ~0x00000004);
+          if (parameters_.isEmpty()) {
+            parameters_ = other.parameters_;
+            bitField0_ = (bitField0_ & ~0x00000004);
           } else {
-            this.ensureParametersIsMutable();
-            this.parameters_.addAll(other.parameters_);
+            ensureParametersIsMutable();
+            parameters_.addAll(other.parameters_);
           }
-
+          
         }
         if (!other.inputs_.isEmpty()) {
-          if (this.inputs_.isEmpty()) {
-            this.inputs_ = other.inputs_;
-            this.bitField0_ = (this.bitField0_ & ~0x00000008);
+          if (inputs_.isEmpty()) {
+            inputs_ = other.inputs_;
+            bitField0_ = (bitField0_ & ~0x00000008);
           } else {
-            this.ensureInputsIsMutable();
-            this.inputs_.addAll(other.inputs_);
+            ensureInputsIsMutable();
+            inputs_.addAll(other.inputs_);
           }
-
+          
         }
         if (!other.outputs_.isEmpty()) {
-          if (this.outputs_.isEmpty()) {
-            this.outputs_ = other.outputs_;
-            this.bitField0_ = (this.bitField0_ & ~0x00000010);
+          if (outputs_.isEmpty()) {
+            outputs_ = other.outputs_;
+            bitField0_ = (bitField0_ & ~0x00000010);
           } else {
-            this.ensureOutputsIsMutable();
-            this.outputs_.addAll(other.outputs_);
+            ensureOutputsIsMutable();
+            outputs_.addAll(other.outputs_);
           }
-
+          
         }
-        this.setUnknownFields(this.getUnknownFields().concat(
-          other.unknownFields));
+        setUnknownFields(
+            getUnknownFields().concat(other.unknownFields));
         return this;
       }
 
-      @Override public final boolean isInitialized()
-      {
-        if (!this.hasProgramName()) {
-
+      public final boolean isInitialized() {
+        if (!hasProgramName()) {
+          
           return false;
         }
-        for (int i = 0; i < this.getSupportsCount(); i++) {
-          if (!this.getSupports(i).isInitialized()) {
-
+        for (int i = 0; i < getSupportsCount(); i++) {
+          if (!getSupports(i).isInitialized()) {
+            
             return false;
           }
         }
-        for (int i = 0; i < this.getParametersCount(); i++) {
-          if (!this.getParameters(i).isInitialized()) {
-
+        for (int i = 0; i < getParametersCount(); i++) {
+          if (!getParameters(i).isInitialized()) {
+            
             return false;
           }
         }
-        for (int i = 0; i < this.getInputsCount(); i++) {
-          if (!this.getInputs(i).isInitialized()) {
-
+        for (int i = 0; i < getInputsCount(); i++) {
+          if (!getInputs(i).isInitialized()) {
+            
             return false;
           }
         }
-        for (int i = 0; i < this.getOutputsCount(); i++) {
-          if (!this.getOutputs(i).isInitialized()) {
-
+        for (int i = 0; i < getOutputsCount(); i++) {
+          if (!getOutputs(i).isInitialized()) {
+            
             return false;
           }
         }
         return true;
       }
 
-      @Override public Builder mergeFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-      {
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon parsedMessage =
-          null;
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon parsedMessage = null;
         try {
-          parsedMessage =
-            PFragmentShaderCommon.PARSER.parsePartialFrom(
-              input,
-              extensionRegistry);
-        } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage =
-            (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon) e
-              .getUnfinishedMessage();
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
-            this.mergeFrom(parsedMessage);
+            mergeFrom(parsedMessage);
           }
         }
         return this;
       }
-
-      private int              bitField0_;
+      private int bitField0_;
 
       private java.lang.Object programName_ = "";
-
       /**
        * <code>required string program_name = 1;</code>
        */
-      @Override public boolean hasProgramName()
-      {
-        return ((this.bitField0_ & 0x00000001) == 0x00000001);
+      public boolean hasProgramName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-
       /**
        * <code>required string program_name = 1;</code>
        */
-      @Override public java.lang.String getProgramName()
-      {
-        final java.lang.Object ref = this.programName_;
+      public java.lang.String getProgramName() {
+        java.lang.Object ref = programName_;
         if (!(ref instanceof java.lang.String)) {
-          final com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-          final java.lang.String s = bs.toStringUtf8();
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            this.programName_ = s;
+            programName_ = s;
           }
           return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        return (java.lang.String) ref;
       }
-
       /**
        * <code>required string program_name = 1;</code>
        */
-      @Override public com.google.protobuf.ByteString getProgramNameBytes()
-      {
-        final java.lang.Object ref = this.programName_;
+      public com.google.protobuf.ByteString
+          getProgramNameBytes() {
+        java.lang.Object ref = programName_;
         if (ref instanceof String) {
-          final com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString
-              .copyFromUtf8((java.lang.String) ref);
-          this.programName_ = b;
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          programName_ = b;
           return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        return (com.google.protobuf.ByteString) ref;
       }
-
       /**
        * <code>required string program_name = 1;</code>
        */
       public Builder setProgramName(
-        final java.lang.String value)
-      {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000001;
-        this.programName_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        programName_ = value;
+        
         return this;
       }
-
       /**
        * <code>required string program_name = 1;</code>
        */
-      public Builder clearProgramName()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.programName_ =
-          PFragmentShaderCommon.getDefaultInstance().getProgramName();
-
+      public Builder clearProgramName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        programName_ = getDefaultInstance().getProgramName();
+        
         return this;
       }
-
       /**
        * <code>required string program_name = 1;</code>
        */
       public Builder setProgramNameBytes(
-        final com.google.protobuf.ByteString value)
-      {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000001;
-        this.programName_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        programName_ = value;
+        
         return this;
       }
 
       private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion> supports_ =
-                                                                                                                   java.util.Collections
-                                                                                                                     .emptyList();
-
-      private void ensureSupportsIsMutable()
-      {
-        if (!((this.bitField0_ & 0x00000002) == 0x00000002)) {
-          this.supports_ =
-            new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion>(
-              this.supports_);
-          this.bitField0_ |= 0x00000002;
-        }
+        java.util.Collections.emptyList();
+      private void ensureSupportsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          supports_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion>(supports_);
+          bitField0_ |= 0x00000002;
+         }
       }
 
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      @Override public
-        java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion>
-        getSupportsList()
-      {
-        return java.util.Collections.unmodifiableList(this.supports_);
+      public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion> getSupportsList() {
+        return java.util.Collections.unmodifiableList(supports_);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      @Override public int getSupportsCount()
-      {
-        return this.supports_.size();
+      public int getSupportsCount() {
+        return supports_.size();
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-        getSupports(
-          final int index)
-      {
-        return this.supports_.get(index);
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion getSupports(int index) {
+        return supports_.get(index);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public
-        Builder
-        setSupports(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion value)
-      {
+      public Builder setSupports(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureSupportsIsMutable();
-        this.supports_.set(index, value);
+        ensureSupportsIsMutable();
+        supports_.set(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public
-        Builder
-        setSupports(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.Builder builderForValue)
-      {
-        this.ensureSupportsIsMutable();
-        this.supports_.set(index, builderForValue.build());
+      public Builder setSupports(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.Builder builderForValue) {
+        ensureSupportsIsMutable();
+        supports_.set(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public
-        Builder
-        addSupports(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion value)
-      {
+      public Builder addSupports(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureSupportsIsMutable();
-        this.supports_.add(value);
+        ensureSupportsIsMutable();
+        supports_.add(value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public
-        Builder
-        addSupports(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion value)
-      {
+      public Builder addSupports(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureSupportsIsMutable();
-        this.supports_.add(index, value);
+        ensureSupportsIsMutable();
+        supports_.add(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public
-        Builder
-        addSupports(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.Builder builderForValue)
-      {
-        this.ensureSupportsIsMutable();
-        this.supports_.add(builderForValue.build());
+      public Builder addSupports(
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.Builder builderForValue) {
+        ensureSupportsIsMutable();
+        supports_.add(builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public
-        Builder
-        addSupports(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.Builder builderForValue)
-      {
-        this.ensureSupportsIsMutable();
-        this.supports_.add(index, builderForValue.build());
+      public Builder addSupports(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.Builder builderForValue) {
+        ensureSupportsIsMutable();
+        supports_.add(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public
-        Builder
-        addAllSupports(
-          final java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion> values)
-      {
-        this.ensureSupportsIsMutable();
+      public Builder addAllSupports(
+          java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion> values) {
+        ensureSupportsIsMutable();
         com.google.protobuf.AbstractMessageLite.Builder.addAll(
-          values,
-          this.supports_);
+            values, supports_);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public Builder clearSupports()
-      {
-        this.supports_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
+      public Builder clearSupports() {
+        supports_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public Builder removeSupports(
-        final int index)
-      {
-        this.ensureSupportsIsMutable();
-        this.supports_.remove(index);
+      public Builder removeSupports(int index) {
+        ensureSupportsIsMutable();
+        supports_.remove(index);
 
         return this;
       }
 
       private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter> parameters_ =
-                                                                                                                                 java.util.Collections
-                                                                                                                                   .emptyList();
-
-      private void ensureParametersIsMutable()
-      {
-        if (!((this.bitField0_ & 0x00000004) == 0x00000004)) {
-          this.parameters_ =
-            new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter>(
-              this.parameters_);
-          this.bitField0_ |= 0x00000004;
-        }
+        java.util.Collections.emptyList();
+      private void ensureParametersIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          parameters_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter>(parameters_);
+          bitField0_ |= 0x00000004;
+         }
       }
 
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter parameters = 3;</code>
        */
-      @Override public
-        java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter>
-        getParametersList()
-      {
-        return java.util.Collections.unmodifiableList(this.parameters_);
+      public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter> getParametersList() {
+        return java.util.Collections.unmodifiableList(parameters_);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter parameters = 3;</code>
        */
-      @Override public int getParametersCount()
-      {
-        return this.parameters_.size();
+      public int getParametersCount() {
+        return parameters_.size();
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter parameters = 3;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter
-        getParameters(
-          final int index)
-      {
-        return this.parameters_.get(index);
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter getParameters(int index) {
+        return parameters_.get(index);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter parameters = 3;</code>
        */
-      public
-        Builder
-        setParameters(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter value)
-      {
+      public Builder setParameters(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureParametersIsMutable();
-        this.parameters_.set(index, value);
+        ensureParametersIsMutable();
+        parameters_.set(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter parameters = 3;</code>
        */
-      public
-        Builder
-        setParameters(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter.Builder builderForValue)
-      {
-        this.ensureParametersIsMutable();
-        this.parameters_.set(index, builderForValue.build());
+      public Builder setParameters(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter.Builder builderForValue) {
+        ensureParametersIsMutable();
+        parameters_.set(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter parameters = 3;</code>
        */
-      public
-        Builder
-        addParameters(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter value)
-      {
+      public Builder addParameters(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureParametersIsMutable();
-        this.parameters_.add(value);
+        ensureParametersIsMutable();
+        parameters_.add(value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter parameters = 3;</code>
        */
-      public
-        Builder
-        addParameters(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter value)
-      {
+      public Builder addParameters(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureParametersIsMutable();
-        this.parameters_.add(index, value);
+        ensureParametersIsMutable();
+        parameters_.add(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter parameters = 3;</code>
        */
-      public
-        Builder
-        addParameters(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter.Builder builderForValue)
-      {
-        this.ensureParametersIsMutable();
-        this.parameters_.add(builderForValue.build());
+      public Builder addParameters(
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter.Builder builderForValue) {
+        ensureParametersIsMutable();
+        parameters_.add(builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter parameters = 3;</code>
        */
-      public
-        Builder
-        addParameters(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter.Builder builderForValue)
-      {
-        this.ensureParametersIsMutable();
-        this.parameters_.add(index, builderForValue.build());
+      public Builder addParameters(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter.Builder builderForValue) {
+        ensureParametersIsMutable();
+        parameters_.add(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter parameters = 3;</code>
        */
-      public
-        Builder
-        addAllParameters(
-          final java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter> values)
-      {
-        this.ensureParametersIsMutable();
+      public Builder addAllParameters(
+          java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderParameter> values) {
+        ensureParametersIsMutable();
         com.google.protobuf.AbstractMessageLite.Builder.addAll(
-          values,
-          this.parameters_);
+            values, parameters_);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter parameters = 3;</code>
        */
-      public Builder clearParameters()
-      {
-        this.parameters_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000004);
+      public Builder clearParameters() {
+        parameters_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderParameter parameters = 3;</code>
        */
-      public Builder removeParameters(
-        final int index)
-      {
-        this.ensureParametersIsMutable();
-        this.parameters_.remove(index);
+      public Builder removeParameters(int index) {
+        ensureParametersIsMutable();
+        parameters_.remove(index);
 
         return this;
       }
 
       private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput> inputs_ =
-                                                                                                                         java.util.Collections
-                                                                                                                           .emptyList();
-
-      private void ensureInputsIsMutable()
-      {
-        if (!((this.bitField0_ & 0x00000008) == 0x00000008)) {
-          this.inputs_ =
-            new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput>(
-              this.inputs_);
-          this.bitField0_ |= 0x00000008;
-        }
+        java.util.Collections.emptyList();
+      private void ensureInputsIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          inputs_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput>(inputs_);
+          bitField0_ |= 0x00000008;
+         }
       }
 
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput inputs = 4;</code>
        */
-      @Override public
-        java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput>
-        getInputsList()
-      {
-        return java.util.Collections.unmodifiableList(this.inputs_);
+      public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput> getInputsList() {
+        return java.util.Collections.unmodifiableList(inputs_);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput inputs = 4;</code>
        */
-      @Override public int getInputsCount()
-      {
-        return this.inputs_.size();
+      public int getInputsCount() {
+        return inputs_.size();
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput inputs = 4;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput
-        getInputs(
-          final int index)
-      {
-        return this.inputs_.get(index);
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput getInputs(int index) {
+        return inputs_.get(index);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput inputs = 4;</code>
        */
-      public
-        Builder
-        setInputs(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput value)
-      {
+      public Builder setInputs(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureInputsIsMutable();
-        this.inputs_.set(index, value);
+        ensureInputsIsMutable();
+        inputs_.set(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput inputs = 4;</code>
        */
-      public
-        Builder
-        setInputs(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput.Builder builderForValue)
-      {
-        this.ensureInputsIsMutable();
-        this.inputs_.set(index, builderForValue.build());
+      public Builder setInputs(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput.Builder builderForValue) {
+        ensureInputsIsMutable();
+        inputs_.set(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput inputs = 4;</code>
        */
-      public
-        Builder
-        addInputs(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput value)
-      {
+      public Builder addInputs(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureInputsIsMutable();
-        this.inputs_.add(value);
+        ensureInputsIsMutable();
+        inputs_.add(value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput inputs = 4;</code>
        */
-      public
-        Builder
-        addInputs(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput value)
-      {
+      public Builder addInputs(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureInputsIsMutable();
-        this.inputs_.add(index, value);
+        ensureInputsIsMutable();
+        inputs_.add(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput inputs = 4;</code>
        */
-      public
-        Builder
-        addInputs(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput.Builder builderForValue)
-      {
-        this.ensureInputsIsMutable();
-        this.inputs_.add(builderForValue.build());
+      public Builder addInputs(
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput.Builder builderForValue) {
+        ensureInputsIsMutable();
+        inputs_.add(builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput inputs = 4;</code>
        */
-      public
-        Builder
-        addInputs(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput.Builder builderForValue)
-      {
-        this.ensureInputsIsMutable();
-        this.inputs_.add(index, builderForValue.build());
+      public Builder addInputs(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput.Builder builderForValue) {
+        ensureInputsIsMutable();
+        inputs_.add(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput inputs = 4;</code>
        */
-      public
-        Builder
-        addAllInputs(
-          final java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput> values)
-      {
-        this.ensureInputsIsMutable();
+      public Builder addAllInputs(
+          java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderInput> values) {
+        ensureInputsIsMutable();
         com.google.protobuf.AbstractMessageLite.Builder.addAll(
-          values,
-          this.inputs_);
+            values, inputs_);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput inputs = 4;</code>
        */
-      public Builder clearInputs()
-      {
-        this.inputs_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000008);
+      public Builder clearInputs() {
+        inputs_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderInput inputs = 4;</code>
        */
-      public Builder removeInputs(
-        final int index)
-      {
-        this.ensureInputsIsMutable();
-        this.inputs_.remove(index);
+      public Builder removeInputs(int index) {
+        ensureInputsIsMutable();
+        inputs_.remove(index);
 
         return this;
       }
 
       private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput> outputs_ =
-                                                                                                                           java.util.Collections
-                                                                                                                             .emptyList();
-
-      private void ensureOutputsIsMutable()
-      {
-        if (!((this.bitField0_ & 0x00000010) == 0x00000010)) {
-          this.outputs_ =
-            new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput>(
-              this.outputs_);
-          this.bitField0_ |= 0x00000010;
-        }
+        java.util.Collections.emptyList();
+      private void ensureOutputsIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          outputs_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput>(outputs_);
+          bitField0_ |= 0x00000010;
+         }
       }
 
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput outputs = 5;</code>
        */
-      @Override public
-        java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput>
-        getOutputsList()
-      {
-        return java.util.Collections.unmodifiableList(this.outputs_);
+      public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput> getOutputsList() {
+        return java.util.Collections.unmodifiableList(outputs_);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput outputs = 5;</code>
        */
-      @Override public int getOutputsCount()
-      {
-        return this.outputs_.size();
+      public int getOutputsCount() {
+        return outputs_.size();
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput outputs = 5;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput
-        getOutputs(
-          final int index)
-      {
-        return this.outputs_.get(index);
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput getOutputs(int index) {
+        return outputs_.get(index);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput outputs = 5;</code>
        */
-      public
-        Builder
-        setOutputs(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput value)
-      {
+      public Builder setOutputs(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureOutputsIsMutable();
-        this.outputs_.set(index, value);
+        ensureOutputsIsMutable();
+        outputs_.set(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput outputs = 5;</code>
        */
-      public
-        Builder
-        setOutputs(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput.Builder builderForValue)
-      {
-        this.ensureOutputsIsMutable();
-        this.outputs_.set(index, builderForValue.build());
+      public Builder setOutputs(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput.Builder builderForValue) {
+        ensureOutputsIsMutable();
+        outputs_.set(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput outputs = 5;</code>
        */
-      public
-        Builder
-        addOutputs(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput value)
-      {
+      public Builder addOutputs(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureOutputsIsMutable();
-        this.outputs_.add(value);
+        ensureOutputsIsMutable();
+        outputs_.add(value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput outputs = 5;</code>
        */
-      public
-        Builder
-        addOutputs(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput value)
-      {
+      public Builder addOutputs(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureOutputsIsMutable();
-        this.outputs_.add(index, value);
+        ensureOutputsIsMutable();
+        outputs_.add(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput outputs = 5;</code>
        */
-      public
-        Builder
-        addOutputs(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput.Builder builderForValue)
-      {
-        this.ensureOutputsIsMutable();
-        this.outputs_.add(builderForValue.build());
+      public Builder addOutputs(
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput.Builder builderForValue) {
+        ensureOutputsIsMutable();
+        outputs_.add(builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput outputs = 5;</code>
        */
-      public
-        Builder
-        addOutputs(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput.Builder builderForValue)
-      {
-        this.ensureOutputsIsMutable();
-        this.outputs_.add(index, builderForValue.build());
+      public Builder addOutputs(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput.Builder builderForValue) {
+        ensureOutputsIsMutable();
+        outputs_.add(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput outputs = 5;</code>
        */
-      public
-        Builder
-        addAllOutputs(
-          final java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput> values)
-      {
-        this.ensureOutputsIsMutable();
+      public Builder addAllOutputs(
+          java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderOutput> values) {
+        ensureOutputsIsMutable();
         com.google.protobuf.AbstractMessageLite.Builder.addAll(
-          values,
-          this.outputs_);
+            values, outputs_);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput outputs = 5;</code>
        */
-      public Builder clearOutputs()
-      {
-        this.outputs_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000010);
+      public Builder clearOutputs() {
+        outputs_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderOutput outputs = 5;</code>
        */
-      public Builder removeOutputs(
-        final int index)
-      {
-        this.ensureOutputsIsMutable();
-        this.outputs_.remove(index);
+      public Builder removeOutputs(int index) {
+        ensureOutputsIsMutable();
+        outputs_.remove(index);
 
         return this;
       }
@@ -5806,601 +4417,402 @@ public final class ProgramMeta
 
     static {
       defaultInstance = new PFragmentShaderCommon(true);
-      PFragmentShaderCommon.defaultInstance.initFields();
+      defaultInstance.initFields();
     }
 
     // @@protoc_insertion_point(class_scope:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon)
   }
 
   public interface PFragmentShaderUncompactedOrBuilder extends
-  // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderUncompacted)
-    com.google.protobuf.MessageLiteOrBuilder
-  {
+      // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderUncompacted)
+      com.google.protobuf.MessageLiteOrBuilder {
 
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon common = 1;</code>
      */
     boolean hasCommon();
-
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon common = 1;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-      getCommon();
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon getCommon();
   }
-
   /**
-   * Protobuf type
-   * {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderUncompacted}
+   * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderUncompacted}
    */
   public static final class PFragmentShaderUncompacted extends
-    com.google.protobuf.GeneratedMessageLite implements
-  // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderUncompacted)
-    PFragmentShaderUncompactedOrBuilder
-  {
+      com.google.protobuf.GeneratedMessageLite implements
+      // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderUncompacted)
+      PFragmentShaderUncompactedOrBuilder {
     // Use PFragmentShaderUncompacted.newBuilder() to construct.
-    private PFragmentShaderUncompacted(
-      final com.google.protobuf.GeneratedMessageLite.Builder builder)
-    {
+    private PFragmentShaderUncompacted(com.google.protobuf.GeneratedMessageLite.Builder builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-
-    private PFragmentShaderUncompacted(
-      final boolean noInit)
-    {
-      this.unknownFields = com.google.protobuf.ByteString.EMPTY;
-    }
+    private PFragmentShaderUncompacted(boolean noInit) { this.unknownFields = com.google.protobuf.ByteString.EMPTY;}
 
     private static final PFragmentShaderUncompacted defaultInstance;
-
-    public static PFragmentShaderUncompacted getDefaultInstance()
-    {
-      return PFragmentShaderUncompacted.defaultInstance;
+    public static PFragmentShaderUncompacted getDefaultInstance() {
+      return defaultInstance;
     }
 
-    @Override public PFragmentShaderUncompacted getDefaultInstanceForType()
-    {
-      return PFragmentShaderUncompacted.defaultInstance;
+    public PFragmentShaderUncompacted getDefaultInstanceForType() {
+      return defaultInstance;
     }
 
     private final com.google.protobuf.ByteString unknownFields;
-
     private PFragmentShaderUncompacted(
-      final com.google.protobuf.CodedInputStream input,
-      final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      this.initFields();
-      final int mutable_bitField0_ = 0;
-      final com.google.protobuf.ByteString.Output unknownFieldsOutput =
-        com.google.protobuf.ByteString.newOutput();
-      final com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
-        com.google.protobuf.CodedOutputStream
-          .newInstance(unknownFieldsOutput);
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.ByteString.Output unknownFieldsOutput =
+          com.google.protobuf.ByteString.newOutput();
+      com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
+          com.google.protobuf.CodedOutputStream.newInstance(
+              unknownFieldsOutput);
       try {
         boolean done = false;
         while (!done) {
-          final int tag = input.readTag();
+          int tag = input.readTag();
           switch (tag) {
             case 0:
               done = true;
               break;
-            default:
-            {
-              if (!this.parseUnknownField(
-                input,
-                unknownFieldsCodedOutput,
-                extensionRegistry,
-                tag)) {
+            default: {
+              if (!parseUnknownField(input, unknownFieldsCodedOutput,
+                                     extensionRegistry, tag)) {
                 done = true;
               }
               break;
             }
-            case 10:
-            {
-              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.Builder subBuilder =
-                null;
-              if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = this.common_.toBuilder();
+            case 10: {
+              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = common_.toBuilder();
               }
-              this.common_ =
-                input
-                  .readMessage(
-                    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.PARSER,
-                    extensionRegistry);
+              common_ = input.readMessage(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.PARSER, extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(this.common_);
-                this.common_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom(common_);
+                common_ = subBuilder.buildPartial();
               }
-              this.bitField0_ |= 0x00000001;
+              bitField0_ |= 0x00000001;
               break;
             }
           }
         }
-      } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
         throw e.setUnfinishedMessage(this);
-      } catch (final java.io.IOException e) {
+      } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
-          e.getMessage()).setUnfinishedMessage(this);
+            e.getMessage()).setUnfinishedMessage(this);
       } finally {
         try {
           unknownFieldsCodedOutput.flush();
-        } catch (final java.io.IOException e) {
-          // Should not happen
+        } catch (java.io.IOException e) {
+        // Should not happen
         } finally {
-          this.unknownFields = unknownFieldsOutput.toByteString();
+          unknownFields = unknownFieldsOutput.toByteString();
         }
-        this.makeExtensionsImmutable();
+        makeExtensionsImmutable();
       }
     }
-
     public static com.google.protobuf.Parser<PFragmentShaderUncompacted> PARSER =
-                                                                                  new com.google.protobuf.AbstractParser<PFragmentShaderUncompacted>() {
-                                                                                    @Override public
-                                                                                      PFragmentShaderUncompacted
-                                                                                      parsePartialFrom(
-                                                                                        final com.google.protobuf.CodedInputStream input,
-                                                                                        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                                                                                        throws com.google.protobuf.InvalidProtocolBufferException
-                                                                                    {
-                                                                                      return new PFragmentShaderUncompacted(
-                                                                                        input,
-                                                                                        extensionRegistry);
-                                                                                    }
-                                                                                  };
-
-    @java.lang.Override public
-      com.google.protobuf.Parser<PFragmentShaderUncompacted>
-      getParserForType()
-    {
-      return PFragmentShaderUncompacted.PARSER;
-    }
-
-    private int                                                                               bitField0_;
-    public static final int                                                                   COMMON_FIELD_NUMBER =
-                                                                                                                    1;
-    private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon common_;
+        new com.google.protobuf.AbstractParser<PFragmentShaderUncompacted>() {
+      public PFragmentShaderUncompacted parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PFragmentShaderUncompacted(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PFragmentShaderUncompacted> getParserForType() {
+      return PARSER;
+    }
 
+    private int bitField0_;
+    public static final int COMMON_FIELD_NUMBER = 1;
+    private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon common_;
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon common = 1;</code>
      */
-    @Override public boolean hasCommon()
-    {
-      return ((this.bitField0_ & 0x00000001) == 0x00000001);
+    public boolean hasCommon() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon common = 1;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-      getCommon()
-    {
-      return this.common_;
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon getCommon() {
+      return common_;
     }
 
-    private void initFields()
-    {
-      this.common_ =
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-          .getDefaultInstance();
+    private void initFields() {
+      common_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.getDefaultInstance();
     }
-
     private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-    @Override public final boolean isInitialized()
-    {
-      final byte isInitialized = this.memoizedIsInitialized;
-      if (isInitialized == 1) {
-        return true;
-      }
-      if (isInitialized == 0) {
-        return false;
-      }
-
-      if (!this.hasCommon()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasCommon()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      if (!this.getCommon().isInitialized()) {
-        this.memoizedIsInitialized = 0;
+      if (!getCommon().isInitialized()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      this.memoizedIsInitialized = 1;
+      memoizedIsInitialized = 1;
       return true;
     }
 
-    @Override public void writeTo(
-      final com.google.protobuf.CodedOutputStream output)
-      throws java.io.IOException
-    {
-      this.getSerializedSize();
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, this.common_);
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, common_);
       }
-      output.writeRawBytes(this.unknownFields);
+      output.writeRawBytes(unknownFields);
     }
 
     private int memoizedSerializedSize = -1;
-
-    @Override public int getSerializedSize()
-    {
-      int size = this.memoizedSerializedSize;
-      if (size != -1) {
-        return size;
-      }
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
 
       size = 0;
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeMessageSize(
-            1,
-            this.common_);
-      }
-      size += this.unknownFields.size();
-      this.memoizedSerializedSize = size;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, common_);
+      }
+      size += unknownFields.size();
+      memoizedSerializedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-
-    @java.lang.Override protected java.lang.Object writeReplace()
-      throws java.io.ObjectStreamException
-    {
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
       return super.writeReplace();
     }
 
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-      parseFrom(
-        final com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderUncompacted.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-      parseFrom(
-        final com.google.protobuf.ByteString data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderUncompacted.PARSER.parseFrom(
-        data,
-        extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-      parseFrom(
-        final byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderUncompacted.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-      parseFrom(
-        final byte[] data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderUncompacted.PARSER.parseFrom(
-        data,
-        extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-      parseFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PFragmentShaderUncompacted.PARSER.parseFrom(input);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-      parseFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PFragmentShaderUncompacted.PARSER.parseFrom(
-        input,
-        extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-      parseDelimitedFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PFragmentShaderUncompacted.PARSER.parseDelimitedFrom(input);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-      parseDelimitedFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PFragmentShaderUncompacted.PARSER.parseDelimitedFrom(
-        input,
-        extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException
-    {
-      return PFragmentShaderUncompacted.PARSER.parseFrom(input);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PFragmentShaderUncompacted.PARSER.parseFrom(
-        input,
-        extensionRegistry);
-    }
-
-    public static Builder newBuilder()
-    {
-      return Builder.create();
-    }
-
-    @Override public Builder newBuilderForType()
-    {
-      return PFragmentShaderUncompacted.newBuilder();
-    }
-
-    public static
-      Builder
-      newBuilder(
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted prototype)
-    {
-      return PFragmentShaderUncompacted.newBuilder().mergeFrom(prototype);
-    }
-
-    @Override public Builder toBuilder()
-    {
-      return PFragmentShaderUncompacted.newBuilder(this);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted prototype) {
+      return newBuilder().mergeFrom(prototype);
     }
+    public Builder toBuilder() { return newBuilder(this); }
 
     /**
-     * Protobuf type
-     * {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderUncompacted}
+     * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderUncompacted}
      */
     public static final class Builder extends
-      com.google.protobuf.GeneratedMessageLite.Builder<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted, Builder> implements
-      // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderUncompacted)
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompactedOrBuilder
-    {
-      // Construct using
-      // com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted.newBuilder()
-      private Builder()
-      {
-        this.maybeForceBuilderInitialization();
+        com.google.protobuf.GeneratedMessageLite.Builder<
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted, Builder>
+        implements
+        // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderUncompacted)
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompactedOrBuilder {
+      // Construct using com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      private void maybeForceBuilderInitialization()
-      {
+      private void maybeForceBuilderInitialization() {
       }
-
-      private static Builder create()
-      {
+      private static Builder create() {
         return new Builder();
       }
 
-      @Override public Builder clear()
-      {
+      public Builder clear() {
         super.clear();
-        this.common_ =
-          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-            .getDefaultInstance();
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
+        common_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.getDefaultInstance();
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
 
-      @Override public Builder clone()
-      {
-        return Builder.create().mergeFrom(this.buildPartial());
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-        getDefaultInstanceForType()
-      {
-        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-          .getDefaultInstance();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted getDefaultInstanceForType() {
+        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted.getDefaultInstance();
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-        build()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted result =
-          this.buildPartial();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted build() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted result = buildPartial();
         if (!result.isInitialized()) {
-          throw com.google.protobuf.AbstractMessageLite.Builder
-            .newUninitializedMessageException(result);
+          throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-        buildPartial()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted result =
-          new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted(
-            this);
-        final int from_bitField0_ = this.bitField0_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted buildPartial() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted result = new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted(this);
+        int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.common_ = this.common_;
+        result.common_ = common_;
         result.bitField0_ = to_bitField0_;
         return result;
       }
 
-      @Override public
-        Builder
-        mergeFrom(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted other)
-      {
-        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-          .getDefaultInstance()) {
-          return this;
-        }
+      public Builder mergeFrom(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted other) {
+        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted.getDefaultInstance()) return this;
         if (other.hasCommon()) {
-          this.mergeCommon(other.getCommon());
+          mergeCommon(other.getCommon());
         }
-        this.setUnknownFields(this.getUnknownFields().concat(
-          other.unknownFields));
+        setUnknownFields(
+            getUnknownFields().concat(other.unknownFields));
         return this;
       }
 
-      @Override public final boolean isInitialized()
-      {
-        if (!this.hasCommon()) {
-
+      public final boolean isInitialized() {
+        if (!hasCommon()) {
+          
           return false;
         }
-        if (!this.getCommon().isInitialized()) {
-
+        if (!getCommon().isInitialized()) {
+          
           return false;
         }
         return true;
       }
 
-      @Override public Builder mergeFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-      {
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted parsedMessage =
-          null;
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted parsedMessage = null;
         try {
-          parsedMessage =
-            PFragmentShaderUncompacted.PARSER.parsePartialFrom(
-              input,
-              extensionRegistry);
-        } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage =
-            (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted) e
-              .getUnfinishedMessage();
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
-            this.mergeFrom(parsedMessage);
+            mergeFrom(parsedMessage);
           }
         }
         return this;
       }
+      private int bitField0_;
 
-      private int                                                                               bitField0_;
-
-      private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon common_ =
-                                                                                                          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-                                                                                                            .getDefaultInstance();
-
+      private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon common_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.getDefaultInstance();
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon common = 1;</code>
        */
-      @Override public boolean hasCommon()
-      {
-        return ((this.bitField0_ & 0x00000001) == 0x00000001);
+      public boolean hasCommon() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon common = 1;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-        getCommon()
-      {
-        return this.common_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon getCommon() {
+        return common_;
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon common = 1;</code>
        */
-      public
-        Builder
-        setCommon(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon value)
-      {
+      public Builder setCommon(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.common_ = value;
+        common_ = value;
 
-        this.bitField0_ |= 0x00000001;
+        bitField0_ |= 0x00000001;
         return this;
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon common = 1;</code>
        */
-      public
-        Builder
-        setCommon(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.Builder builderForValue)
-      {
-        this.common_ = builderForValue.build();
+      public Builder setCommon(
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.Builder builderForValue) {
+        common_ = builderForValue.build();
 
-        this.bitField0_ |= 0x00000001;
+        bitField0_ |= 0x00000001;
         return this;
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon common = 1;</code>
        */
-      public
-        Builder
-        mergeCommon(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon value)
-      {
-        if (((this.bitField0_ & 0x00000001) == 0x00000001)
-          && (this.common_ != com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-            .getDefaultInstance())) {
-          this.common_ =
-            com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-              .newBuilder(this.common_)
-              .mergeFrom(value)
-              .buildPartial();
+      public Builder mergeCommon(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon value) {
+        if (((bitField0_ & 0x00000001) == 0x00000001) &&
+            common_ != com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.getDefaultInstance()) {
+          common_ =
+            com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.newBuilder(common_).mergeFrom(value).buildPartial();
         } else {
-          this.common_ = value;
+          common_ = value;
         }
 
-        this.bitField0_ |= 0x00000001;
+        bitField0_ |= 0x00000001;
         return this;
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon common = 1;</code>
        */
-      public Builder clearCommon()
-      {
-        this.common_ =
-          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-            .getDefaultInstance();
+      public Builder clearCommon() {
+        common_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.getDefaultInstance();
 
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
 
@@ -6409,908 +4821,712 @@ public final class ProgramMeta
 
     static {
       defaultInstance = new PFragmentShaderUncompacted(true);
-      PFragmentShaderUncompacted.defaultInstance.initFields();
+      defaultInstance.initFields();
     }
 
     // @@protoc_insertion_point(class_scope:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderUncompacted)
   }
 
   public interface PFragmentShaderCompactedOrBuilder extends
-  // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCompacted)
-    com.google.protobuf.MessageLiteOrBuilder
-  {
+      // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCompacted)
+      com.google.protobuf.MessageLiteOrBuilder {
 
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon common = 1;</code>
      */
     boolean hasCommon();
-
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon common = 1;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-      getCommon();
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon getCommon();
 
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
      */
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash>
-      getHashesList();
-
+    java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash> 
+        getHashesList();
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash
-      getHashes(
-        int index);
-
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash getHashes(int index);
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
      */
     int getHashesCount();
-  }
 
+    /**
+     * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PHashAlgorithm hash_algorithm = 3;</code>
+     */
+    boolean hasHashAlgorithm();
+    /**
+     * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PHashAlgorithm hash_algorithm = 3;</code>
+     */
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm getHashAlgorithm();
+  }
   /**
-   * Protobuf type
-   * {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCompacted}
+   * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCompacted}
    */
   public static final class PFragmentShaderCompacted extends
-    com.google.protobuf.GeneratedMessageLite implements
-  // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCompacted)
-    PFragmentShaderCompactedOrBuilder
-  {
+      com.google.protobuf.GeneratedMessageLite implements
+      // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCompacted)
+      PFragmentShaderCompactedOrBuilder {
     // Use PFragmentShaderCompacted.newBuilder() to construct.
-    private PFragmentShaderCompacted(
-      final com.google.protobuf.GeneratedMessageLite.Builder builder)
-    {
+    private PFragmentShaderCompacted(com.google.protobuf.GeneratedMessageLite.Builder builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-
-    private PFragmentShaderCompacted(
-      final boolean noInit)
-    {
-      this.unknownFields = com.google.protobuf.ByteString.EMPTY;
-    }
+    private PFragmentShaderCompacted(boolean noInit) { this.unknownFields = com.google.protobuf.ByteString.EMPTY;}
 
     private static final PFragmentShaderCompacted defaultInstance;
-
-    public static PFragmentShaderCompacted getDefaultInstance()
-    {
-      return PFragmentShaderCompacted.defaultInstance;
+    public static PFragmentShaderCompacted getDefaultInstance() {
+      return defaultInstance;
     }
 
-    @Override public PFragmentShaderCompacted getDefaultInstanceForType()
-    {
-      return PFragmentShaderCompacted.defaultInstance;
+    public PFragmentShaderCompacted getDefaultInstanceForType() {
+      return defaultInstance;
     }
 
     private final com.google.protobuf.ByteString unknownFields;
-
     private PFragmentShaderCompacted(
-      final com.google.protobuf.CodedInputStream input,
-      final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      this.initFields();
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
       int mutable_bitField0_ = 0;
-      final com.google.protobuf.ByteString.Output unknownFieldsOutput =
-        com.google.protobuf.ByteString.newOutput();
-      final com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
-        com.google.protobuf.CodedOutputStream
-          .newInstance(unknownFieldsOutput);
+      com.google.protobuf.ByteString.Output unknownFieldsOutput =
+          com.google.protobuf.ByteString.newOutput();
+      com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
+          com.google.protobuf.CodedOutputStream.newInstance(
+              unknownFieldsOutput);
       try {
         boolean done = false;
         while (!done) {
-          final int tag = input.readTag();
+          int tag = input.readTag();
           switch (tag) {
             case 0:
               done = true;
               break;
-            default:
-            {
-              if (!this.parseUnknownField(
-                input,
-                unknownFieldsCodedOutput,
-                extensionRegistry,
-                tag)) {
+            default: {
+              if (!parseUnknownField(input, unknownFieldsCodedOutput,
+                                     extensionRegistry, tag)) {
                 done = true;
               }
               break;
             }
-            case 10:
-            {
-              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.Builder subBuilder =
-                null;
-              if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = this.common_.toBuilder();
+            case 10: {
+              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = common_.toBuilder();
               }
-              this.common_ =
-                input
-                  .readMessage(
-                    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.PARSER,
-                    extensionRegistry);
+              common_ = input.readMessage(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.PARSER, extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(this.common_);
-                this.common_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom(common_);
+                common_ = subBuilder.buildPartial();
               }
-              this.bitField0_ |= 0x00000001;
+              bitField0_ |= 0x00000001;
               break;
             }
-            case 18:
-            {
+            case 18: {
               if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-                this.hashes_ =
-                  new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash>();
+                hashes_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash>();
                 mutable_bitField0_ |= 0x00000002;
               }
-              this.hashes_
-                .add(input
-                  .readMessage(
-                    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash.PARSER,
-                    extensionRegistry));
+              hashes_.add(input.readMessage(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash.PARSER, extensionRegistry));
+              break;
+            }
+            case 24: {
+              int rawValue = input.readEnum();
+              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm value = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm.valueOf(rawValue);
+              if (value == null) {
+                unknownFieldsCodedOutput.writeRawVarint32(tag);
+                unknownFieldsCodedOutput.writeRawVarint32(rawValue);
+              } else {
+                bitField0_ |= 0x00000002;
+                hashAlgorithm_ = value;
+              }
               break;
             }
           }
         }
-      } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
         throw e.setUnfinishedMessage(this);
-      } catch (final java.io.IOException e) {
+      } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
-          e.getMessage()).setUnfinishedMessage(this);
+            e.getMessage()).setUnfinishedMessage(this);
       } finally {
         if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-          this.hashes_ = java.util.Collections.unmodifiableList(this.hashes_);
+          hashes_ = java.util.Collections.unmodifiableList(hashes_);
         }
         try {
           unknownFieldsCodedOutput.flush();
-        } catch (final java.io.IOException e) {
-          // Should not happen
+        } catch (java.io.IOException e) {
+        // Should not happen
         } finally {
-          this.unknownFields = unknownFieldsOutput.toByteString();
+          unknownFields = unknownFieldsOutput.toByteString();
         }
-        this.makeExtensionsImmutable();
+        makeExtensionsImmutable();
+      }
+    }
+    public static com.google.protobuf.Parser<PFragmentShaderCompacted> PARSER =
+        new com.google.protobuf.AbstractParser<PFragmentShaderCompacted>() {
+      public PFragmentShaderCompacted parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PFragmentShaderCompacted(input, extensionRegistry);
       }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PFragmentShaderCompacted> getParserForType() {
+      return PARSER;
     }
 
-    public static com.google.protobuf.Parser<PFragmentShaderCompacted> PARSER =
-                                                                                new com.google.protobuf.AbstractParser<PFragmentShaderCompacted>() {
-                                                                                  @Override public
-                                                                                    PFragmentShaderCompacted
-                                                                                    parsePartialFrom(
-                                                                                      final com.google.protobuf.CodedInputStream input,
-                                                                                      final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                                                                                      throws com.google.protobuf.InvalidProtocolBufferException
-                                                                                  {
-                                                                                    return new PFragmentShaderCompacted(
-                                                                                      input,
-                                                                                      extensionRegistry);
-                                                                                  }
-                                                                                };
-
-    @java.lang.Override public
-      com.google.protobuf.Parser<PFragmentShaderCompacted>
-      getParserForType()
-    {
-      return PFragmentShaderCompacted.PARSER;
-    }
-
-    private int                                                                               bitField0_;
-    public static final int                                                                   COMMON_FIELD_NUMBER =
-                                                                                                                    1;
+    private int bitField0_;
+    public static final int COMMON_FIELD_NUMBER = 1;
     private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon common_;
-
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon common = 1;</code>
      */
-    @Override public boolean hasCommon()
-    {
-      return ((this.bitField0_ & 0x00000001) == 0x00000001);
+    public boolean hasCommon() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon common = 1;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-      getCommon()
-    {
-      return this.common_;
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon getCommon() {
+      return common_;
     }
 
-    public static final int                                                                          HASHES_FIELD_NUMBER =
-                                                                                                                           2;
+    public static final int HASHES_FIELD_NUMBER = 2;
     private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash> hashes_;
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
      */
-    @Override public
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash>
-      getHashesList()
-    {
-      return this.hashes_;
+    public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash> getHashesList() {
+      return hashes_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
      */
-    public
-      java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHashOrBuilder>
-      getHashesOrBuilderList()
-    {
-      return this.hashes_;
+    public java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHashOrBuilder> 
+        getHashesOrBuilderList() {
+      return hashes_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
      */
-    @Override public int getHashesCount()
-    {
-      return this.hashes_.size();
+    public int getHashesCount() {
+      return hashes_.size();
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash
-      getHashes(
-        final int index)
-    {
-      return this.hashes_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash getHashes(int index) {
+      return hashes_.get(index);
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
      */
-    public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHashOrBuilder
-      getHashesOrBuilder(
-        final int index)
-    {
-      return this.hashes_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHashOrBuilder getHashesOrBuilder(
+        int index) {
+      return hashes_.get(index);
     }
 
-    private void initFields()
-    {
-      this.common_ =
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-          .getDefaultInstance();
-      this.hashes_ = java.util.Collections.emptyList();
+    public static final int HASH_ALGORITHM_FIELD_NUMBER = 3;
+    private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm hashAlgorithm_;
+    /**
+     * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PHashAlgorithm hash_algorithm = 3;</code>
+     */
+    public boolean hasHashAlgorithm() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PHashAlgorithm hash_algorithm = 3;</code>
+     */
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm getHashAlgorithm() {
+      return hashAlgorithm_;
     }
 
+    private void initFields() {
+      common_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.getDefaultInstance();
+      hashes_ = java.util.Collections.emptyList();
+      hashAlgorithm_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm.PHASH_SHA_256;
+    }
     private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-    @Override public final boolean isInitialized()
-    {
-      final byte isInitialized = this.memoizedIsInitialized;
-      if (isInitialized == 1) {
-        return true;
-      }
-      if (isInitialized == 0) {
-        return false;
-      }
-
-      if (!this.hasCommon()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasCommon()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      if (!this.getCommon().isInitialized()) {
-        this.memoizedIsInitialized = 0;
+      if (!getCommon().isInitialized()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      for (int i = 0; i < this.getHashesCount(); i++) {
-        if (!this.getHashes(i).isInitialized()) {
-          this.memoizedIsInitialized = 0;
+      for (int i = 0; i < getHashesCount(); i++) {
+        if (!getHashes(i).isInitialized()) {
+          memoizedIsInitialized = 0;
           return false;
         }
       }
-      this.memoizedIsInitialized = 1;
+      memoizedIsInitialized = 1;
       return true;
     }
 
-    @Override public void writeTo(
-      final com.google.protobuf.CodedOutputStream output)
-      throws java.io.IOException
-    {
-      this.getSerializedSize();
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, this.common_);
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, common_);
       }
-      for (int i = 0; i < this.hashes_.size(); i++) {
-        output.writeMessage(2, this.hashes_.get(i));
+      for (int i = 0; i < hashes_.size(); i++) {
+        output.writeMessage(2, hashes_.get(i));
       }
-      output.writeRawBytes(this.unknownFields);
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeEnum(3, hashAlgorithm_.getNumber());
+      }
+      output.writeRawBytes(unknownFields);
     }
 
     private int memoizedSerializedSize = -1;
-
-    @Override public int getSerializedSize()
-    {
-      int size = this.memoizedSerializedSize;
-      if (size != -1) {
-        return size;
-      }
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
 
       size = 0;
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeMessageSize(
-            1,
-            this.common_);
-      }
-      for (int i = 0; i < this.hashes_.size(); i++) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeMessageSize(
-            2,
-            this.hashes_.get(i));
-      }
-      size += this.unknownFields.size();
-      this.memoizedSerializedSize = size;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, common_);
+      }
+      for (int i = 0; i < hashes_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, hashes_.get(i));
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(3, hashAlgorithm_.getNumber());
+      }
+      size += unknownFields.size();
+      memoizedSerializedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-
-    @java.lang.Override protected java.lang.Object writeReplace()
-      throws java.io.ObjectStreamException
-    {
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
       return super.writeReplace();
     }
 
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-      parseFrom(
-        final com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderCompacted.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-      parseFrom(
-        final com.google.protobuf.ByteString data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderCompacted.PARSER.parseFrom(
-        data,
-        extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-      parseFrom(
-        final byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderCompacted.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-      parseFrom(
-        final byte[] data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PFragmentShaderCompacted.PARSER.parseFrom(
-        data,
-        extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-      parseFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PFragmentShaderCompacted.PARSER.parseFrom(input);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-      parseFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PFragmentShaderCompacted.PARSER.parseFrom(
-        input,
-        extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-      parseDelimitedFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PFragmentShaderCompacted.PARSER.parseDelimitedFrom(input);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-      parseDelimitedFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PFragmentShaderCompacted.PARSER.parseDelimitedFrom(
-        input,
-        extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException
-    {
-      return PFragmentShaderCompacted.PARSER.parseFrom(input);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PFragmentShaderCompacted.PARSER.parseFrom(
-        input,
-        extensionRegistry);
-    }
-
-    public static Builder newBuilder()
-    {
-      return Builder.create();
-    }
-
-    @Override public Builder newBuilderForType()
-    {
-      return PFragmentShaderCompacted.newBuilder();
-    }
-
-    public static
-      Builder
-      newBuilder(
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted prototype)
-    {
-      return PFragmentShaderCompacted.newBuilder().mergeFrom(prototype);
-    }
-
-    @Override public Builder toBuilder()
-    {
-      return PFragmentShaderCompacted.newBuilder(this);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted prototype) {
+      return newBuilder().mergeFrom(prototype);
     }
+    public Builder toBuilder() { return newBuilder(this); }
 
     /**
-     * Protobuf type
-     * {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCompacted}
+     * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCompacted}
      */
     public static final class Builder extends
-      com.google.protobuf.GeneratedMessageLite.Builder<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted, Builder> implements
-      // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCompacted)
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompactedOrBuilder
-    {
-      // Construct using
-      // com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted.newBuilder()
-      private Builder()
-      {
-        this.maybeForceBuilderInitialization();
+        com.google.protobuf.GeneratedMessageLite.Builder<
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted, Builder>
+        implements
+        // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCompacted)
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompactedOrBuilder {
+      // Construct using com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      private void maybeForceBuilderInitialization()
-      {
+      private void maybeForceBuilderInitialization() {
       }
-
-      private static Builder create()
-      {
+      private static Builder create() {
         return new Builder();
       }
 
-      @Override public Builder clear()
-      {
+      public Builder clear() {
         super.clear();
-        this.common_ =
-          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-            .getDefaultInstance();
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.hashes_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
+        common_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.getDefaultInstance();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        hashes_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        hashAlgorithm_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm.PHASH_SHA_256;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
-      @Override public Builder clone()
-      {
-        return Builder.create().mergeFrom(this.buildPartial());
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-        getDefaultInstanceForType()
-      {
-        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-          .getDefaultInstance();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted getDefaultInstanceForType() {
+        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted.getDefaultInstance();
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-        build()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted result =
-          this.buildPartial();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted build() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted result = buildPartial();
         if (!result.isInitialized()) {
-          throw com.google.protobuf.AbstractMessageLite.Builder
-            .newUninitializedMessageException(result);
+          throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-        buildPartial()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted result =
-          new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted(
-            this);
-        final int from_bitField0_ = this.bitField0_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted buildPartial() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted result = new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted(this);
+        int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.common_ = this.common_;
-        if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-          this.hashes_ = java.util.Collections.unmodifiableList(this.hashes_);
-          this.bitField0_ = (this.bitField0_ & ~0x00000002);
+        result.common_ = common_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          hashes_ = java.util.Collections.unmodifiableList(hashes_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.hashes_ = hashes_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000002;
         }
-        result.hashes_ = this.hashes_;
+        result.hashAlgorithm_ = hashAlgorithm_;
         result.bitField0_ = to_bitField0_;
         return result;
       }
 
-      @Override public
-        Builder
-        mergeFrom(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted other)
-      {
-        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-          .getDefaultInstance()) {
-          return this;
-        }
+      public Builder mergeFrom(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted other) {
+        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted.getDefaultInstance()) return this;
         if (other.hasCommon()) {
-          this.mergeCommon(other.getCommon());
+          mergeCommon(other.getCommon());
         }
         if (!other.hashes_.isEmpty()) {
-          if (this.hashes_.isEmpty()) {
-            this.hashes_ = other.hashes_;
-            this.bitField0_ = (this.bitField0_ & ~0x00000002);
+          if (hashes_.isEmpty()) {
+            hashes_ = other.hashes_;
+            bitField0_ = (bitField0_ & ~0x00000002);
           } else {
-            this.ensureHashesIsMutable();
-            this.hashes_.addAll(other.hashes_);
+            ensureHashesIsMutable();
+            hashes_.addAll(other.hashes_);
           }
-
+          
+        }
+        if (other.hasHashAlgorithm()) {
+          setHashAlgorithm(other.getHashAlgorithm());
         }
-        this.setUnknownFields(this.getUnknownFields().concat(
-          other.unknownFields));
+        setUnknownFields(
+            getUnknownFields().concat(other.unknownFields));
         return this;
       }
 
-      @Override public final boolean isInitialized()
-      {
-        if (!this.hasCommon()) {
-
+      public final boolean isInitialized() {
+        if (!hasCommon()) {
+          
           return false;
         }
-        if (!this.getCommon().isInitialized()) {
-
+        if (!getCommon().isInitialized()) {
+          
           return false;
         }
-        for (int i = 0; i < this.getHashesCount(); i++) {
-          if (!this.getHashes(i).isInitialized()) {
-
+        for (int i = 0; i < getHashesCount(); i++) {
+          if (!getHashes(i).isInitialized()) {
+            
             return false;
           }
         }
         return true;
       }
 
-      @Override public Builder mergeFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-      {
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted parsedMessage =
-          null;
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted parsedMessage = null;
         try {
-          parsedMessage =
-            PFragmentShaderCompacted.PARSER.parsePartialFrom(
-              input,
-              extensionRegistry);
-        } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage =
-            (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted) e
-              .getUnfinishedMessage();
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
-            this.mergeFrom(parsedMessage);
+            mergeFrom(parsedMessage);
           }
         }
         return this;
       }
+      private int bitField0_;
 
-      private int                                                                               bitField0_;
-
-      private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon common_ =
-                                                                                                          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-                                                                                                            .getDefaultInstance();
-
+      private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon common_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.getDefaultInstance();
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon common = 1;</code>
        */
-      @Override public boolean hasCommon()
-      {
-        return ((this.bitField0_ & 0x00000001) == 0x00000001);
+      public boolean hasCommon() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon common = 1;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-        getCommon()
-      {
-        return this.common_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon getCommon() {
+        return common_;
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon common = 1;</code>
        */
-      public
-        Builder
-        setCommon(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon value)
-      {
+      public Builder setCommon(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.common_ = value;
+        common_ = value;
 
-        this.bitField0_ |= 0x00000001;
+        bitField0_ |= 0x00000001;
         return this;
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon common = 1;</code>
        */
-      public
-        Builder
-        setCommon(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.Builder builderForValue)
-      {
-        this.common_ = builderForValue.build();
+      public Builder setCommon(
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.Builder builderForValue) {
+        common_ = builderForValue.build();
 
-        this.bitField0_ |= 0x00000001;
+        bitField0_ |= 0x00000001;
         return this;
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon common = 1;</code>
        */
-      public
-        Builder
-        mergeCommon(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon value)
-      {
-        if (((this.bitField0_ & 0x00000001) == 0x00000001)
-          && (this.common_ != com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-            .getDefaultInstance())) {
-          this.common_ =
-            com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-              .newBuilder(this.common_)
-              .mergeFrom(value)
-              .buildPartial();
+      public Builder mergeCommon(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon value) {
+        if (((bitField0_ & 0x00000001) == 0x00000001) &&
+            common_ != com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.getDefaultInstance()) {
+          common_ =
+            com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.newBuilder(common_).mergeFrom(value).buildPartial();
         } else {
-          this.common_ = value;
+          common_ = value;
         }
 
-        this.bitField0_ |= 0x00000001;
+        bitField0_ |= 0x00000001;
         return this;
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCommon common = 1;</code>
        */
-      public Builder clearCommon()
-      {
-        this.common_ =
-          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon
-            .getDefaultInstance();
+      public Builder clearCommon() {
+        common_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCommon.getDefaultInstance();
 
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
 
       private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash> hashes_ =
-                                                                                                                 java.util.Collections
-                                                                                                                   .emptyList();
-
-      private void ensureHashesIsMutable()
-      {
-        if (!((this.bitField0_ & 0x00000002) == 0x00000002)) {
-          this.hashes_ =
-            new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash>(
-              this.hashes_);
-          this.bitField0_ |= 0x00000002;
-        }
+        java.util.Collections.emptyList();
+      private void ensureHashesIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          hashes_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash>(hashes_);
+          bitField0_ |= 0x00000002;
+         }
       }
 
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      @Override public
-        java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash>
-        getHashesList()
-      {
-        return java.util.Collections.unmodifiableList(this.hashes_);
+      public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash> getHashesList() {
+        return java.util.Collections.unmodifiableList(hashes_);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      @Override public int getHashesCount()
-      {
-        return this.hashes_.size();
+      public int getHashesCount() {
+        return hashes_.size();
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash
-        getHashes(
-          final int index)
-      {
-        return this.hashes_.get(index);
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash getHashes(int index) {
+        return hashes_.get(index);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      public
-        Builder
-        setHashes(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash value)
-      {
+      public Builder setHashes(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureHashesIsMutable();
-        this.hashes_.set(index, value);
+        ensureHashesIsMutable();
+        hashes_.set(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      public
-        Builder
-        setHashes(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash.Builder builderForValue)
-      {
-        this.ensureHashesIsMutable();
-        this.hashes_.set(index, builderForValue.build());
+      public Builder setHashes(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash.Builder builderForValue) {
+        ensureHashesIsMutable();
+        hashes_.set(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      public
-        Builder
-        addHashes(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash value)
-      {
+      public Builder addHashes(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureHashesIsMutable();
-        this.hashes_.add(value);
+        ensureHashesIsMutable();
+        hashes_.add(value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      public
-        Builder
-        addHashes(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash value)
-      {
+      public Builder addHashes(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureHashesIsMutable();
-        this.hashes_.add(index, value);
+        ensureHashesIsMutable();
+        hashes_.add(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      public
-        Builder
-        addHashes(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash.Builder builderForValue)
-      {
-        this.ensureHashesIsMutable();
-        this.hashes_.add(builderForValue.build());
+      public Builder addHashes(
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash.Builder builderForValue) {
+        ensureHashesIsMutable();
+        hashes_.add(builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      public
-        Builder
-        addHashes(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash.Builder builderForValue)
-      {
-        this.ensureHashesIsMutable();
-        this.hashes_.add(index, builderForValue.build());
+      public Builder addHashes(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash.Builder builderForValue) {
+        ensureHashesIsMutable();
+        hashes_.add(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      public
-        Builder
-        addAllHashes(
-          final java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash> values)
-      {
-        this.ensureHashesIsMutable();
+      public Builder addAllHashes(
+          java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash> values) {
+        ensureHashesIsMutable();
         com.google.protobuf.AbstractMessageLite.Builder.addAll(
-          values,
-          this.hashes_);
+            values, hashes_);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      public Builder clearHashes()
-      {
-        this.hashes_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
+      public Builder clearHashes() {
+        hashes_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      public Builder removeHashes(
-        final int index)
-      {
-        this.ensureHashesIsMutable();
-        this.hashes_.remove(index);
+      public Builder removeHashes(int index) {
+        ensureHashesIsMutable();
+        hashes_.remove(index);
+
+        return this;
+      }
 
+      private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm hashAlgorithm_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm.PHASH_SHA_256;
+      /**
+       * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PHashAlgorithm hash_algorithm = 3;</code>
+       */
+      public boolean hasHashAlgorithm() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PHashAlgorithm hash_algorithm = 3;</code>
+       */
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm getHashAlgorithm() {
+        return hashAlgorithm_;
+      }
+      /**
+       * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PHashAlgorithm hash_algorithm = 3;</code>
+       */
+      public Builder setHashAlgorithm(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000004;
+        hashAlgorithm_ = value;
+        
+        return this;
+      }
+      /**
+       * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PHashAlgorithm hash_algorithm = 3;</code>
+       */
+      public Builder clearHashAlgorithm() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        hashAlgorithm_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm.PHASH_SHA_256;
+        
         return this;
       }
 
@@ -7319,774 +5535,602 @@ public final class ProgramMeta
 
     static {
       defaultInstance = new PFragmentShaderCompacted(true);
-      PFragmentShaderCompacted.defaultInstance.initFields();
+      defaultInstance.initFields();
     }
 
     // @@protoc_insertion_point(class_scope:com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCompacted)
   }
 
   public interface PVertexShaderParameterOrBuilder extends
-  // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter)
-    com.google.protobuf.MessageLiteOrBuilder
-  {
+      // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter)
+      com.google.protobuf.MessageLiteOrBuilder {
 
     /**
      * <code>required string name = 1;</code>
      */
     boolean hasName();
-
     /**
      * <code>required string name = 1;</code>
      */
     java.lang.String getName();
-
     /**
      * <code>required string name = 1;</code>
      */
-    com.google.protobuf.ByteString getNameBytes();
+    com.google.protobuf.ByteString
+        getNameBytes();
 
     /**
      * <code>required string type = 2;</code>
      */
     boolean hasType();
-
     /**
      * <code>required string type = 2;</code>
      */
     java.lang.String getType();
-
     /**
      * <code>required string type = 2;</code>
      */
-    com.google.protobuf.ByteString getTypeBytes();
+    com.google.protobuf.ByteString
+        getTypeBytes();
   }
-
   /**
-   * Protobuf type
-   * {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter}
+   * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter}
    */
   public static final class PVertexShaderParameter extends
-    com.google.protobuf.GeneratedMessageLite implements
-  // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter)
-    PVertexShaderParameterOrBuilder
-  {
+      com.google.protobuf.GeneratedMessageLite implements
+      // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter)
+      PVertexShaderParameterOrBuilder {
     // Use PVertexShaderParameter.newBuilder() to construct.
-    private PVertexShaderParameter(
-      final com.google.protobuf.GeneratedMessageLite.Builder builder)
-    {
+    private PVertexShaderParameter(com.google.protobuf.GeneratedMessageLite.Builder builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-
-    private PVertexShaderParameter(
-      final boolean noInit)
-    {
-      this.unknownFields = com.google.protobuf.ByteString.EMPTY;
-    }
+    private PVertexShaderParameter(boolean noInit) { this.unknownFields = com.google.protobuf.ByteString.EMPTY;}
 
     private static final PVertexShaderParameter defaultInstance;
-
-    public static PVertexShaderParameter getDefaultInstance()
-    {
-      return PVertexShaderParameter.defaultInstance;
+    public static PVertexShaderParameter getDefaultInstance() {
+      return defaultInstance;
     }
 
-    @Override public PVertexShaderParameter getDefaultInstanceForType()
-    {
-      return PVertexShaderParameter.defaultInstance;
+    public PVertexShaderParameter getDefaultInstanceForType() {
+      return defaultInstance;
     }
 
     private final com.google.protobuf.ByteString unknownFields;
-
     private PVertexShaderParameter(
-      final com.google.protobuf.CodedInputStream input,
-      final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      this.initFields();
-      final int mutable_bitField0_ = 0;
-      final com.google.protobuf.ByteString.Output unknownFieldsOutput =
-        com.google.protobuf.ByteString.newOutput();
-      final com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
-        com.google.protobuf.CodedOutputStream
-          .newInstance(unknownFieldsOutput);
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.ByteString.Output unknownFieldsOutput =
+          com.google.protobuf.ByteString.newOutput();
+      com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
+          com.google.protobuf.CodedOutputStream.newInstance(
+              unknownFieldsOutput);
       try {
         boolean done = false;
         while (!done) {
-          final int tag = input.readTag();
+          int tag = input.readTag();
           switch (tag) {
             case 0:
               done = true;
               break;
-            default:
-            {
-              if (!this.parseUnknownField(
-                input,
-                unknownFieldsCodedOutput,
-                extensionRegistry,
-                tag)) {
+            default: {
+              if (!parseUnknownField(input, unknownFieldsCodedOutput,
+                                     extensionRegistry, tag)) {
                 done = true;
               }
               break;
             }
-            case 10:
-            {
-              final com.google.protobuf.ByteString bs = input.readBytes();
-              this.bitField0_ |= 0x00000001;
-              this.name_ = bs;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              name_ = bs;
               break;
             }
-            case 18:
-            {
-              final com.google.protobuf.ByteString bs = input.readBytes();
-              this.bitField0_ |= 0x00000002;
-              this.type_ = bs;
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              type_ = bs;
               break;
             }
           }
         }
-      } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
         throw e.setUnfinishedMessage(this);
-      } catch (final java.io.IOException e) {
+      } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
-          e.getMessage()).setUnfinishedMessage(this);
+            e.getMessage()).setUnfinishedMessage(this);
       } finally {
         try {
           unknownFieldsCodedOutput.flush();
-        } catch (final java.io.IOException e) {
-          // Should not happen
+        } catch (java.io.IOException e) {
+        // Should not happen
         } finally {
-          this.unknownFields = unknownFieldsOutput.toByteString();
+          unknownFields = unknownFieldsOutput.toByteString();
         }
-        this.makeExtensionsImmutable();
+        makeExtensionsImmutable();
       }
     }
-
     public static com.google.protobuf.Parser<PVertexShaderParameter> PARSER =
-                                                                              new com.google.protobuf.AbstractParser<PVertexShaderParameter>() {
-                                                                                @Override public
-                                                                                  PVertexShaderParameter
-                                                                                  parsePartialFrom(
-                                                                                    final com.google.protobuf.CodedInputStream input,
-                                                                                    final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                                                                                    throws com.google.protobuf.InvalidProtocolBufferException
-                                                                                {
-                                                                                  return new PVertexShaderParameter(
-                                                                                    input,
-                                                                                    extensionRegistry);
-                                                                                }
-                                                                              };
-
-    @java.lang.Override public
-      com.google.protobuf.Parser<PVertexShaderParameter>
-      getParserForType()
-    {
-      return PVertexShaderParameter.PARSER;
-    }
-
-    private int              bitField0_;
-    public static final int  NAME_FIELD_NUMBER = 1;
-    private java.lang.Object name_;
+        new com.google.protobuf.AbstractParser<PVertexShaderParameter>() {
+      public PVertexShaderParameter parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PVertexShaderParameter(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PVertexShaderParameter> getParserForType() {
+      return PARSER;
+    }
 
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private java.lang.Object name_;
     /**
      * <code>required string name = 1;</code>
      */
-    @Override public boolean hasName()
-    {
-      return ((this.bitField0_ & 0x00000001) == 0x00000001);
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-
     /**
      * <code>required string name = 1;</code>
      */
-    @Override public java.lang.String getName()
-    {
-      final java.lang.Object ref = this.name_;
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
       }
-      final com.google.protobuf.ByteString bs =
-        (com.google.protobuf.ByteString) ref;
-      final java.lang.String s = bs.toStringUtf8();
-      if (bs.isValidUtf8()) {
-        this.name_ = s;
-      }
-      return s;
     }
-
     /**
      * <code>required string name = 1;</code>
      */
-    @Override public com.google.protobuf.ByteString getNameBytes()
-    {
-      final java.lang.Object ref = this.name_;
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
       if (ref instanceof java.lang.String) {
-        final com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
-        this.name_ = b;
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
         return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      return (com.google.protobuf.ByteString) ref;
     }
 
-    public static final int  TYPE_FIELD_NUMBER = 2;
+    public static final int TYPE_FIELD_NUMBER = 2;
     private java.lang.Object type_;
-
     /**
      * <code>required string type = 2;</code>
      */
-    @Override public boolean hasType()
-    {
-      return ((this.bitField0_ & 0x00000002) == 0x00000002);
+    public boolean hasType() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
-
     /**
      * <code>required string type = 2;</code>
      */
-    @Override public java.lang.String getType()
-    {
-      final java.lang.Object ref = this.type_;
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          type_ = s;
+        }
+        return s;
       }
-      final com.google.protobuf.ByteString bs =
-        (com.google.protobuf.ByteString) ref;
-      final java.lang.String s = bs.toStringUtf8();
-      if (bs.isValidUtf8()) {
-        this.type_ = s;
-      }
-      return s;
     }
-
     /**
      * <code>required string type = 2;</code>
      */
-    @Override public com.google.protobuf.ByteString getTypeBytes()
-    {
-      final java.lang.Object ref = this.type_;
+    public com.google.protobuf.ByteString
+        getTypeBytes() {
+      java.lang.Object ref = type_;
       if (ref instanceof java.lang.String) {
-        final com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
-        this.type_ = b;
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        type_ = b;
         return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      return (com.google.protobuf.ByteString) ref;
     }
 
-    private void initFields()
-    {
-      this.name_ = "";
-      this.type_ = "";
+    private void initFields() {
+      name_ = "";
+      type_ = "";
     }
-
     private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-    @Override public final boolean isInitialized()
-    {
-      final byte isInitialized = this.memoizedIsInitialized;
-      if (isInitialized == 1) {
-        return true;
-      }
-      if (isInitialized == 0) {
-        return false;
-      }
-
-      if (!this.hasName()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasName()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      if (!this.hasType()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasType()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      this.memoizedIsInitialized = 1;
+      memoizedIsInitialized = 1;
       return true;
     }
 
-    @Override public void writeTo(
-      final com.google.protobuf.CodedOutputStream output)
-      throws java.io.IOException
-    {
-      this.getSerializedSize();
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, this.getNameBytes());
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getNameBytes());
       }
-      if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, this.getTypeBytes());
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getTypeBytes());
       }
-      output.writeRawBytes(this.unknownFields);
+      output.writeRawBytes(unknownFields);
     }
 
     private int memoizedSerializedSize = -1;
-
-    @Override public int getSerializedSize()
-    {
-      int size = this.memoizedSerializedSize;
-      if (size != -1) {
-        return size;
-      }
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
 
       size = 0;
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeBytesSize(
-            1,
-            this.getNameBytes());
-      }
-      if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeBytesSize(
-            2,
-            this.getTypeBytes());
-      }
-      size += this.unknownFields.size();
-      this.memoizedSerializedSize = size;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getTypeBytes());
+      }
+      size += unknownFields.size();
+      memoizedSerializedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-
-    @java.lang.Override protected java.lang.Object writeReplace()
-      throws java.io.ObjectStreamException
-    {
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
       return super.writeReplace();
     }
 
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter
-      parseFrom(
-        final com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderParameter.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter
-      parseFrom(
-        final com.google.protobuf.ByteString data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderParameter.PARSER.parseFrom(data, extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter
-      parseFrom(
-        final byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderParameter.PARSER.parseFrom(data);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter
-      parseFrom(
-        final byte[] data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderParameter.PARSER.parseFrom(data, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter
-      parseFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PVertexShaderParameter.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter
-      parseFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PVertexShaderParameter.PARSER
-        .parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter
-      parseDelimitedFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PVertexShaderParameter.PARSER.parseDelimitedFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter
-      parseDelimitedFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PVertexShaderParameter.PARSER.parseDelimitedFrom(
-        input,
-        extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException
-    {
-      return PVertexShaderParameter.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PVertexShaderParameter.PARSER
-        .parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-
-    public static Builder newBuilder()
-    {
-      return Builder.create();
-    }
-
-    @Override public Builder newBuilderForType()
-    {
-      return PVertexShaderParameter.newBuilder();
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      Builder
-      newBuilder(
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter prototype)
-    {
-      return PVertexShaderParameter.newBuilder().mergeFrom(prototype);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
 
-    @Override public Builder toBuilder()
-    {
-      return PVertexShaderParameter.newBuilder(this);
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter prototype) {
+      return newBuilder().mergeFrom(prototype);
     }
+    public Builder toBuilder() { return newBuilder(this); }
 
     /**
-     * Protobuf type
-     * {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter}
+     * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter}
      */
     public static final class Builder extends
-      com.google.protobuf.GeneratedMessageLite.Builder<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter, Builder> implements
-      // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter)
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameterOrBuilder
-    {
-      // Construct using
-      // com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter.newBuilder()
-      private Builder()
-      {
-        this.maybeForceBuilderInitialization();
+        com.google.protobuf.GeneratedMessageLite.Builder<
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter, Builder>
+        implements
+        // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter)
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameterOrBuilder {
+      // Construct using com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      private void maybeForceBuilderInitialization()
-      {
+      private void maybeForceBuilderInitialization() {
       }
-
-      private static Builder create()
-      {
+      private static Builder create() {
         return new Builder();
       }
 
-      @Override public Builder clear()
-      {
+      public Builder clear() {
         super.clear();
-        this.name_ = "";
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.type_ = "";
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        type_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
-      @Override public Builder clone()
-      {
-        return Builder.create().mergeFrom(this.buildPartial());
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter
-        getDefaultInstanceForType()
-      {
-        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter
-          .getDefaultInstance();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter getDefaultInstanceForType() {
+        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter.getDefaultInstance();
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter
-        build()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter result =
-          this.buildPartial();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter build() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter result = buildPartial();
         if (!result.isInitialized()) {
-          throw com.google.protobuf.AbstractMessageLite.Builder
-            .newUninitializedMessageException(result);
+          throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter
-        buildPartial()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter result =
-          new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter(
-            this);
-        final int from_bitField0_ = this.bitField0_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter buildPartial() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter result = new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter(this);
+        int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.name_ = this.name_;
+        result.name_ = name_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.type_ = this.type_;
+        result.type_ = type_;
         result.bitField0_ = to_bitField0_;
         return result;
       }
 
-      @Override public
-        Builder
-        mergeFrom(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter other)
-      {
-        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter
-          .getDefaultInstance()) {
-          return this;
-        }
+      public Builder mergeFrom(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter other) {
+        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter.getDefaultInstance()) return this;
         if (other.hasName()) {
-          this.bitField0_ |= 0x00000001;
-          this.name_ = other.name_;
-
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          
         }
         if (other.hasType()) {
-          this.bitField0_ |= 0x00000002;
-          this.type_ = other.type_;
-
+          bitField0_ |= 0x00000002;
+          type_ = other.type_;
+          
         }
-        this.setUnknownFields(this.getUnknownFields().concat(
-          other.unknownFields));
+        setUnknownFields(
+            getUnknownFields().concat(other.unknownFields));
         return this;
       }
 
-      @Override public final boolean isInitialized()
-      {
-        if (!this.hasName()) {
-
+      public final boolean isInitialized() {
+        if (!hasName()) {
+          
           return false;
         }
-        if (!this.hasType()) {
-
+        if (!hasType()) {
+          
           return false;
         }
         return true;
       }
 
-      @Override public Builder mergeFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-      {
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter parsedMessage =
-          null;
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter parsedMessage = null;
         try {
-          parsedMessage =
-            PVertexShaderParameter.PARSER.parsePartialFrom(
-              input,
-              extensionRegistry);
-        } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage =
-            (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter) e
-              .getUnfinishedMessage();
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
-            this.mergeFrom(parsedMessage);
+            mergeFrom(parsedMessage);
           }
         }
         return this;
       }
-
-      private int              bitField0_;
+      private int bitField0_;
 
       private java.lang.Object name_ = "";
-
       /**
        * <code>required string name = 1;</code>
        */
-      @Override public boolean hasName()
-      {
-        return ((this.bitField0_ & 0x00000001) == 0x00000001);
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-
       /**
        * <code>required string name = 1;</code>
        */
-      @Override public java.lang.String getName()
-      {
-        final java.lang.Object ref = this.name_;
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
         if (!(ref instanceof java.lang.String)) {
-          final com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-          final java.lang.String s = bs.toStringUtf8();
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            this.name_ = s;
+            name_ = s;
           }
           return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        return (java.lang.String) ref;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
-      @Override public com.google.protobuf.ByteString getNameBytes()
-      {
-        final java.lang.Object ref = this.name_;
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
         if (ref instanceof String) {
-          final com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString
-              .copyFromUtf8((java.lang.String) ref);
-          this.name_ = b;
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
           return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        return (com.google.protobuf.ByteString) ref;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
       public Builder setName(
-        final java.lang.String value)
-      {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000001;
-        this.name_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        
         return this;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
-      public Builder clearName()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.name_ = PVertexShaderParameter.getDefaultInstance().getName();
-
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = getDefaultInstance().getName();
+        
         return this;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
       public Builder setNameBytes(
-        final com.google.protobuf.ByteString value)
-      {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000001;
-        this.name_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        
         return this;
       }
 
       private java.lang.Object type_ = "";
-
       /**
        * <code>required string type = 2;</code>
        */
-      @Override public boolean hasType()
-      {
-        return ((this.bitField0_ & 0x00000002) == 0x00000002);
+      public boolean hasType() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
-
       /**
        * <code>required string type = 2;</code>
        */
-      @Override public java.lang.String getType()
-      {
-        final java.lang.Object ref = this.type_;
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
         if (!(ref instanceof java.lang.String)) {
-          final com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-          final java.lang.String s = bs.toStringUtf8();
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            this.type_ = s;
+            type_ = s;
           }
           return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        return (java.lang.String) ref;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
-      @Override public com.google.protobuf.ByteString getTypeBytes()
-      {
-        final java.lang.Object ref = this.type_;
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
         if (ref instanceof String) {
-          final com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString
-              .copyFromUtf8((java.lang.String) ref);
-          this.type_ = b;
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
           return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        return (com.google.protobuf.ByteString) ref;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
       public Builder setType(
-        final java.lang.String value)
-      {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000002;
-        this.type_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        type_ = value;
+        
         return this;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
-      public Builder clearType()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
-        this.type_ = PVertexShaderParameter.getDefaultInstance().getType();
-
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        type_ = getDefaultInstance().getType();
+        
         return this;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
       public Builder setTypeBytes(
-        final com.google.protobuf.ByteString value)
-      {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000002;
-        this.type_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        type_ = value;
+        
         return this;
       }
 
@@ -8095,772 +6139,602 @@ public final class ProgramMeta
 
     static {
       defaultInstance = new PVertexShaderParameter(true);
-      PVertexShaderParameter.defaultInstance.initFields();
+      defaultInstance.initFields();
     }
 
     // @@protoc_insertion_point(class_scope:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter)
   }
 
   public interface PVertexShaderInputOrBuilder extends
-  // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput)
-    com.google.protobuf.MessageLiteOrBuilder
-  {
+      // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput)
+      com.google.protobuf.MessageLiteOrBuilder {
 
     /**
      * <code>required string name = 1;</code>
      */
     boolean hasName();
-
     /**
      * <code>required string name = 1;</code>
      */
     java.lang.String getName();
-
     /**
      * <code>required string name = 1;</code>
      */
-    com.google.protobuf.ByteString getNameBytes();
+    com.google.protobuf.ByteString
+        getNameBytes();
 
     /**
      * <code>required string type = 2;</code>
      */
     boolean hasType();
-
     /**
      * <code>required string type = 2;</code>
      */
     java.lang.String getType();
-
     /**
      * <code>required string type = 2;</code>
      */
-    com.google.protobuf.ByteString getTypeBytes();
+    com.google.protobuf.ByteString
+        getTypeBytes();
   }
-
   /**
-   * Protobuf type
-   * {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput}
+   * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput}
    */
   public static final class PVertexShaderInput extends
-    com.google.protobuf.GeneratedMessageLite implements
-  // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput)
-    PVertexShaderInputOrBuilder
-  {
+      com.google.protobuf.GeneratedMessageLite implements
+      // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput)
+      PVertexShaderInputOrBuilder {
     // Use PVertexShaderInput.newBuilder() to construct.
-    private PVertexShaderInput(
-      final com.google.protobuf.GeneratedMessageLite.Builder builder)
-    {
+    private PVertexShaderInput(com.google.protobuf.GeneratedMessageLite.Builder builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-
-    private PVertexShaderInput(
-      final boolean noInit)
-    {
-      this.unknownFields = com.google.protobuf.ByteString.EMPTY;
-    }
+    private PVertexShaderInput(boolean noInit) { this.unknownFields = com.google.protobuf.ByteString.EMPTY;}
 
     private static final PVertexShaderInput defaultInstance;
-
-    public static PVertexShaderInput getDefaultInstance()
-    {
-      return PVertexShaderInput.defaultInstance;
+    public static PVertexShaderInput getDefaultInstance() {
+      return defaultInstance;
     }
 
-    @Override public PVertexShaderInput getDefaultInstanceForType()
-    {
-      return PVertexShaderInput.defaultInstance;
+    public PVertexShaderInput getDefaultInstanceForType() {
+      return defaultInstance;
     }
 
     private final com.google.protobuf.ByteString unknownFields;
-
     private PVertexShaderInput(
-      final com.google.protobuf.CodedInputStream input,
-      final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      this.initFields();
-      final int mutable_bitField0_ = 0;
-      final com.google.protobuf.ByteString.Output unknownFieldsOutput =
-        com.google.protobuf.ByteString.newOutput();
-      final com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
-        com.google.protobuf.CodedOutputStream
-          .newInstance(unknownFieldsOutput);
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.ByteString.Output unknownFieldsOutput =
+          com.google.protobuf.ByteString.newOutput();
+      com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
+          com.google.protobuf.CodedOutputStream.newInstance(
+              unknownFieldsOutput);
       try {
         boolean done = false;
         while (!done) {
-          final int tag = input.readTag();
+          int tag = input.readTag();
           switch (tag) {
             case 0:
               done = true;
               break;
-            default:
-            {
-              if (!this.parseUnknownField(
-                input,
-                unknownFieldsCodedOutput,
-                extensionRegistry,
-                tag)) {
+            default: {
+              if (!parseUnknownField(input, unknownFieldsCodedOutput,
+                                     extensionRegistry, tag)) {
                 done = true;
               }
               break;
             }
-            case 10:
-            {
-              final com.google.protobuf.ByteString bs = input.readBytes();
-              this.bitField0_ |= 0x00000001;
-              this.name_ = bs;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              name_ = bs;
               break;
             }
-            case 18:
-            {
-              final com.google.protobuf.ByteString bs = input.readBytes();
-              this.bitField0_ |= 0x00000002;
-              this.type_ = bs;
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              type_ = bs;
               break;
             }
           }
         }
-      } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
         throw e.setUnfinishedMessage(this);
-      } catch (final java.io.IOException e) {
+      } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
-          e.getMessage()).setUnfinishedMessage(this);
+            e.getMessage()).setUnfinishedMessage(this);
       } finally {
         try {
           unknownFieldsCodedOutput.flush();
-        } catch (final java.io.IOException e) {
-          // Should not happen
+        } catch (java.io.IOException e) {
+        // Should not happen
         } finally {
-          this.unknownFields = unknownFieldsOutput.toByteString();
+          unknownFields = unknownFieldsOutput.toByteString();
         }
-        this.makeExtensionsImmutable();
+        makeExtensionsImmutable();
+      }
+    }
+    public static com.google.protobuf.Parser<PVertexShaderInput> PARSER =
+        new com.google.protobuf.AbstractParser<PVertexShaderInput>() {
+      public PVertexShaderInput parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PVertexShaderInput(input, extensionRegistry);
       }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PVertexShaderInput> getParserForType() {
+      return PARSER;
     }
 
-    public static com.google.protobuf.Parser<PVertexShaderInput> PARSER =
-                                                                          new com.google.protobuf.AbstractParser<PVertexShaderInput>() {
-                                                                            @Override public
-                                                                              PVertexShaderInput
-                                                                              parsePartialFrom(
-                                                                                final com.google.protobuf.CodedInputStream input,
-                                                                                final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                                                                                throws com.google.protobuf.InvalidProtocolBufferException
-                                                                            {
-                                                                              return new PVertexShaderInput(
-                                                                                input,
-                                                                                extensionRegistry);
-                                                                            }
-                                                                          };
-
-    @java.lang.Override public
-      com.google.protobuf.Parser<PVertexShaderInput>
-      getParserForType()
-    {
-      return PVertexShaderInput.PARSER;
-    }
-
-    private int              bitField0_;
-    public static final int  NAME_FIELD_NUMBER = 1;
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
     private java.lang.Object name_;
-
     /**
      * <code>required string name = 1;</code>
      */
-    @Override public boolean hasName()
-    {
-      return ((this.bitField0_ & 0x00000001) == 0x00000001);
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-
     /**
      * <code>required string name = 1;</code>
      */
-    @Override public java.lang.String getName()
-    {
-      final java.lang.Object ref = this.name_;
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
       }
-      final com.google.protobuf.ByteString bs =
-        (com.google.protobuf.ByteString) ref;
-      final java.lang.String s = bs.toStringUtf8();
-      if (bs.isValidUtf8()) {
-        this.name_ = s;
-      }
-      return s;
     }
-
     /**
      * <code>required string name = 1;</code>
      */
-    @Override public com.google.protobuf.ByteString getNameBytes()
-    {
-      final java.lang.Object ref = this.name_;
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
       if (ref instanceof java.lang.String) {
-        final com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
-        this.name_ = b;
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
         return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      return (com.google.protobuf.ByteString) ref;
     }
 
-    public static final int  TYPE_FIELD_NUMBER = 2;
+    public static final int TYPE_FIELD_NUMBER = 2;
     private java.lang.Object type_;
-
     /**
      * <code>required string type = 2;</code>
      */
-    @Override public boolean hasType()
-    {
-      return ((this.bitField0_ & 0x00000002) == 0x00000002);
+    public boolean hasType() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
-
     /**
      * <code>required string type = 2;</code>
      */
-    @Override public java.lang.String getType()
-    {
-      final java.lang.Object ref = this.type_;
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          type_ = s;
+        }
+        return s;
       }
-      final com.google.protobuf.ByteString bs =
-        (com.google.protobuf.ByteString) ref;
-      final java.lang.String s = bs.toStringUtf8();
-      if (bs.isValidUtf8()) {
-        this.type_ = s;
-      }
-      return s;
     }
-
     /**
      * <code>required string type = 2;</code>
      */
-    @Override public com.google.protobuf.ByteString getTypeBytes()
-    {
-      final java.lang.Object ref = this.type_;
+    public com.google.protobuf.ByteString
+        getTypeBytes() {
+      java.lang.Object ref = type_;
       if (ref instanceof java.lang.String) {
-        final com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
-        this.type_ = b;
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        type_ = b;
         return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      return (com.google.protobuf.ByteString) ref;
     }
 
-    private void initFields()
-    {
-      this.name_ = "";
-      this.type_ = "";
+    private void initFields() {
+      name_ = "";
+      type_ = "";
     }
-
     private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-    @Override public final boolean isInitialized()
-    {
-      final byte isInitialized = this.memoizedIsInitialized;
-      if (isInitialized == 1) {
-        return true;
-      }
-      if (isInitialized == 0) {
-        return false;
-      }
-
-      if (!this.hasName()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasName()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      if (!this.hasType()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasType()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      this.memoizedIsInitialized = 1;
+      memoizedIsInitialized = 1;
       return true;
     }
 
-    @Override public void writeTo(
-      final com.google.protobuf.CodedOutputStream output)
-      throws java.io.IOException
-    {
-      this.getSerializedSize();
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, this.getNameBytes());
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getNameBytes());
       }
-      if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, this.getTypeBytes());
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getTypeBytes());
       }
-      output.writeRawBytes(this.unknownFields);
+      output.writeRawBytes(unknownFields);
     }
 
     private int memoizedSerializedSize = -1;
-
-    @Override public int getSerializedSize()
-    {
-      int size = this.memoizedSerializedSize;
-      if (size != -1) {
-        return size;
-      }
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
 
       size = 0;
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeBytesSize(
-            1,
-            this.getNameBytes());
-      }
-      if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeBytesSize(
-            2,
-            this.getTypeBytes());
-      }
-      size += this.unknownFields.size();
-      this.memoizedSerializedSize = size;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getTypeBytes());
+      }
+      size += unknownFields.size();
+      memoizedSerializedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-
-    @java.lang.Override protected java.lang.Object writeReplace()
-      throws java.io.ObjectStreamException
-    {
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
       return super.writeReplace();
     }
 
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput
-      parseFrom(
-        final com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderInput.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput
-      parseFrom(
-        final com.google.protobuf.ByteString data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderInput.PARSER.parseFrom(data, extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput
-      parseFrom(
-        final byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderInput.PARSER.parseFrom(data);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput
-      parseFrom(
-        final byte[] data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderInput.PARSER.parseFrom(data, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput
-      parseFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PVertexShaderInput.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput
-      parseFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PVertexShaderInput.PARSER.parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput
-      parseDelimitedFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PVertexShaderInput.PARSER.parseDelimitedFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput
-      parseDelimitedFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PVertexShaderInput.PARSER.parseDelimitedFrom(
-        input,
-        extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException
-    {
-      return PVertexShaderInput.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PVertexShaderInput.PARSER.parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-
-    public static Builder newBuilder()
-    {
-      return Builder.create();
-    }
-
-    @Override public Builder newBuilderForType()
-    {
-      return PVertexShaderInput.newBuilder();
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      Builder
-      newBuilder(
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput prototype)
-    {
-      return PVertexShaderInput.newBuilder().mergeFrom(prototype);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
 
-    @Override public Builder toBuilder()
-    {
-      return PVertexShaderInput.newBuilder(this);
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput prototype) {
+      return newBuilder().mergeFrom(prototype);
     }
+    public Builder toBuilder() { return newBuilder(this); }
 
     /**
-     * Protobuf type
-     * {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput}
+     * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput}
      */
     public static final class Builder extends
-      com.google.protobuf.GeneratedMessageLite.Builder<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput, Builder> implements
-      // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput)
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInputOrBuilder
-    {
-      // Construct using
-      // com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput.newBuilder()
-      private Builder()
-      {
-        this.maybeForceBuilderInitialization();
+        com.google.protobuf.GeneratedMessageLite.Builder<
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput, Builder>
+        implements
+        // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput)
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInputOrBuilder {
+      // Construct using com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      private void maybeForceBuilderInitialization()
-      {
+      private void maybeForceBuilderInitialization() {
       }
-
-      private static Builder create()
-      {
+      private static Builder create() {
         return new Builder();
       }
 
-      @Override public Builder clear()
-      {
+      public Builder clear() {
         super.clear();
-        this.name_ = "";
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.type_ = "";
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        type_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
-      @Override public Builder clone()
-      {
-        return Builder.create().mergeFrom(this.buildPartial());
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput
-        getDefaultInstanceForType()
-      {
-        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput
-          .getDefaultInstance();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput getDefaultInstanceForType() {
+        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput.getDefaultInstance();
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput
-        build()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput result =
-          this.buildPartial();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput build() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput result = buildPartial();
         if (!result.isInitialized()) {
-          throw com.google.protobuf.AbstractMessageLite.Builder
-            .newUninitializedMessageException(result);
+          throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput
-        buildPartial()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput result =
-          new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput(
-            this);
-        final int from_bitField0_ = this.bitField0_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput buildPartial() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput result = new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput(this);
+        int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.name_ = this.name_;
+        result.name_ = name_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.type_ = this.type_;
+        result.type_ = type_;
         result.bitField0_ = to_bitField0_;
         return result;
       }
 
-      @Override public
-        Builder
-        mergeFrom(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput other)
-      {
-        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput
-          .getDefaultInstance()) {
-          return this;
-        }
+      public Builder mergeFrom(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput other) {
+        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput.getDefaultInstance()) return this;
         if (other.hasName()) {
-          this.bitField0_ |= 0x00000001;
-          this.name_ = other.name_;
-
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          
         }
         if (other.hasType()) {
-          this.bitField0_ |= 0x00000002;
-          this.type_ = other.type_;
-
+          bitField0_ |= 0x00000002;
+          type_ = other.type_;
+          
         }
-        this.setUnknownFields(this.getUnknownFields().concat(
-          other.unknownFields));
+        setUnknownFields(
+            getUnknownFields().concat(other.unknownFields));
         return this;
       }
 
-      @Override public final boolean isInitialized()
-      {
-        if (!this.hasName()) {
-
+      public final boolean isInitialized() {
+        if (!hasName()) {
+          
           return false;
         }
-        if (!this.hasType()) {
-
+        if (!hasType()) {
+          
           return false;
         }
         return true;
       }
 
-      @Override public Builder mergeFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-      {
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput parsedMessage =
-          null;
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput parsedMessage = null;
         try {
-          parsedMessage =
-            PVertexShaderInput.PARSER.parsePartialFrom(
-              input,
-              extensionRegistry);
-        } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage =
-            (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput) e
-              .getUnfinishedMessage();
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
-            this.mergeFrom(parsedMessage);
+            mergeFrom(parsedMessage);
           }
         }
         return this;
       }
-
-      private int              bitField0_;
+      private int bitField0_;
 
       private java.lang.Object name_ = "";
-
       /**
        * <code>required string name = 1;</code>
        */
-      @Override public boolean hasName()
-      {
-        return ((this.bitField0_ & 0x00000001) == 0x00000001);
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-
       /**
        * <code>required string name = 1;</code>
        */
-      @Override public java.lang.String getName()
-      {
-        final java.lang.Object ref = this.name_;
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
         if (!(ref instanceof java.lang.String)) {
-          final com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-          final java.lang.String s = bs.toStringUtf8();
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            this.name_ = s;
+            name_ = s;
           }
           return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        return (java.lang.String) ref;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
-      @Override public com.google.protobuf.ByteString getNameBytes()
-      {
-        final java.lang.Object ref = this.name_;
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
         if (ref instanceof String) {
-          final com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString
-              .copyFromUtf8((java.lang.String) ref);
-          this.name_ = b;
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
           return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        return (com.google.protobuf.ByteString) ref;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
       public Builder setName(
-        final java.lang.String value)
-      {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000001;
-        this.name_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        
         return this;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
-      public Builder clearName()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.name_ = PVertexShaderInput.getDefaultInstance().getName();
-
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = getDefaultInstance().getName();
+        
         return this;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
       public Builder setNameBytes(
-        final com.google.protobuf.ByteString value)
-      {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000001;
-        this.name_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        
         return this;
       }
 
       private java.lang.Object type_ = "";
-
       /**
        * <code>required string type = 2;</code>
        */
-      @Override public boolean hasType()
-      {
-        return ((this.bitField0_ & 0x00000002) == 0x00000002);
+      public boolean hasType() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
-
       /**
        * <code>required string type = 2;</code>
        */
-      @Override public java.lang.String getType()
-      {
-        final java.lang.Object ref = this.type_;
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
         if (!(ref instanceof java.lang.String)) {
-          final com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-          final java.lang.String s = bs.toStringUtf8();
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            this.type_ = s;
+            type_ = s;
           }
           return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        return (java.lang.String) ref;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
-      @Override public com.google.protobuf.ByteString getTypeBytes()
-      {
-        final java.lang.Object ref = this.type_;
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
         if (ref instanceof String) {
-          final com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString
-              .copyFromUtf8((java.lang.String) ref);
-          this.type_ = b;
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
           return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        return (com.google.protobuf.ByteString) ref;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
       public Builder setType(
-        final java.lang.String value)
-      {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000002;
-        this.type_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        type_ = value;
+        
         return this;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
-      public Builder clearType()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
-        this.type_ = PVertexShaderInput.getDefaultInstance().getType();
-
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        type_ = getDefaultInstance().getType();
+        
         return this;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
       public Builder setTypeBytes(
-        final com.google.protobuf.ByteString value)
-      {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000002;
-        this.type_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        type_ = value;
+        
         return this;
       }
 
@@ -8869,772 +6743,602 @@ public final class ProgramMeta
 
     static {
       defaultInstance = new PVertexShaderInput(true);
-      PVertexShaderInput.defaultInstance.initFields();
+      defaultInstance.initFields();
     }
 
     // @@protoc_insertion_point(class_scope:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput)
   }
 
   public interface PVertexShaderOutputOrBuilder extends
-  // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput)
-    com.google.protobuf.MessageLiteOrBuilder
-  {
+      // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput)
+      com.google.protobuf.MessageLiteOrBuilder {
 
     /**
      * <code>required string name = 1;</code>
      */
     boolean hasName();
-
     /**
      * <code>required string name = 1;</code>
      */
     java.lang.String getName();
-
     /**
      * <code>required string name = 1;</code>
      */
-    com.google.protobuf.ByteString getNameBytes();
+    com.google.protobuf.ByteString
+        getNameBytes();
 
     /**
      * <code>required string type = 2;</code>
      */
     boolean hasType();
-
     /**
      * <code>required string type = 2;</code>
      */
     java.lang.String getType();
-
     /**
      * <code>required string type = 2;</code>
      */
-    com.google.protobuf.ByteString getTypeBytes();
+    com.google.protobuf.ByteString
+        getTypeBytes();
   }
-
   /**
-   * Protobuf type
-   * {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput}
+   * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput}
    */
   public static final class PVertexShaderOutput extends
-    com.google.protobuf.GeneratedMessageLite implements
-  // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput)
-    PVertexShaderOutputOrBuilder
-  {
+      com.google.protobuf.GeneratedMessageLite implements
+      // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput)
+      PVertexShaderOutputOrBuilder {
     // Use PVertexShaderOutput.newBuilder() to construct.
-    private PVertexShaderOutput(
-      final com.google.protobuf.GeneratedMessageLite.Builder builder)
-    {
+    private PVertexShaderOutput(com.google.protobuf.GeneratedMessageLite.Builder builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-
-    private PVertexShaderOutput(
-      final boolean noInit)
-    {
-      this.unknownFields = com.google.protobuf.ByteString.EMPTY;
-    }
+    private PVertexShaderOutput(boolean noInit) { this.unknownFields = com.google.protobuf.ByteString.EMPTY;}
 
     private static final PVertexShaderOutput defaultInstance;
-
-    public static PVertexShaderOutput getDefaultInstance()
-    {
-      return PVertexShaderOutput.defaultInstance;
+    public static PVertexShaderOutput getDefaultInstance() {
+      return defaultInstance;
     }
 
-    @Override public PVertexShaderOutput getDefaultInstanceForType()
-    {
-      return PVertexShaderOutput.defaultInstance;
+    public PVertexShaderOutput getDefaultInstanceForType() {
+      return defaultInstance;
     }
 
     private final com.google.protobuf.ByteString unknownFields;
-
     private PVertexShaderOutput(
-      final com.google.protobuf.CodedInputStream input,
-      final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      this.initFields();
-      final int mutable_bitField0_ = 0;
-      final com.google.protobuf.ByteString.Output unknownFieldsOutput =
-        com.google.protobuf.ByteString.newOutput();
-      final com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
-        com.google.protobuf.CodedOutputStream
-          .newInstance(unknownFieldsOutput);
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.ByteString.Output unknownFieldsOutput =
+          com.google.protobuf.ByteString.newOutput();
+      com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
+          com.google.protobuf.CodedOutputStream.newInstance(
+              unknownFieldsOutput);
       try {
         boolean done = false;
         while (!done) {
-          final int tag = input.readTag();
+          int tag = input.readTag();
           switch (tag) {
             case 0:
               done = true;
               break;
-            default:
-            {
-              if (!this.parseUnknownField(
-                input,
-                unknownFieldsCodedOutput,
-                extensionRegistry,
-                tag)) {
+            default: {
+              if (!parseUnknownField(input, unknownFieldsCodedOutput,
+                                     extensionRegistry, tag)) {
                 done = true;
               }
               break;
             }
-            case 10:
-            {
-              final com.google.protobuf.ByteString bs = input.readBytes();
-              this.bitField0_ |= 0x00000001;
-              this.name_ = bs;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              name_ = bs;
               break;
             }
-            case 18:
-            {
-              final com.google.protobuf.ByteString bs = input.readBytes();
-              this.bitField0_ |= 0x00000002;
-              this.type_ = bs;
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              type_ = bs;
               break;
             }
           }
         }
-      } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
         throw e.setUnfinishedMessage(this);
-      } catch (final java.io.IOException e) {
+      } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
-          e.getMessage()).setUnfinishedMessage(this);
+            e.getMessage()).setUnfinishedMessage(this);
       } finally {
         try {
           unknownFieldsCodedOutput.flush();
-        } catch (final java.io.IOException e) {
-          // Should not happen
+        } catch (java.io.IOException e) {
+        // Should not happen
         } finally {
-          this.unknownFields = unknownFieldsOutput.toByteString();
+          unknownFields = unknownFieldsOutput.toByteString();
         }
-        this.makeExtensionsImmutable();
+        makeExtensionsImmutable();
       }
     }
-
     public static com.google.protobuf.Parser<PVertexShaderOutput> PARSER =
-                                                                           new com.google.protobuf.AbstractParser<PVertexShaderOutput>() {
-                                                                             @Override public
-                                                                               PVertexShaderOutput
-                                                                               parsePartialFrom(
-                                                                                 final com.google.protobuf.CodedInputStream input,
-                                                                                 final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                                                                                 throws com.google.protobuf.InvalidProtocolBufferException
-                                                                             {
-                                                                               return new PVertexShaderOutput(
-                                                                                 input,
-                                                                                 extensionRegistry);
-                                                                             }
-                                                                           };
-
-    @java.lang.Override public
-      com.google.protobuf.Parser<PVertexShaderOutput>
-      getParserForType()
-    {
-      return PVertexShaderOutput.PARSER;
-    }
-
-    private int              bitField0_;
-    public static final int  NAME_FIELD_NUMBER = 1;
-    private java.lang.Object name_;
+        new com.google.protobuf.AbstractParser<PVertexShaderOutput>() {
+      public PVertexShaderOutput parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PVertexShaderOutput(input, extensionRegistry);
+      }
+    };
 
+    @java.lang.Override
+    public com.google.protobuf.Parser<PVertexShaderOutput> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private java.lang.Object name_;
     /**
      * <code>required string name = 1;</code>
      */
-    @Override public boolean hasName()
-    {
-      return ((this.bitField0_ & 0x00000001) == 0x00000001);
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-
     /**
      * <code>required string name = 1;</code>
      */
-    @Override public java.lang.String getName()
-    {
-      final java.lang.Object ref = this.name_;
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
       }
-      final com.google.protobuf.ByteString bs =
-        (com.google.protobuf.ByteString) ref;
-      final java.lang.String s = bs.toStringUtf8();
-      if (bs.isValidUtf8()) {
-        this.name_ = s;
-      }
-      return s;
     }
-
     /**
      * <code>required string name = 1;</code>
      */
-    @Override public com.google.protobuf.ByteString getNameBytes()
-    {
-      final java.lang.Object ref = this.name_;
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
       if (ref instanceof java.lang.String) {
-        final com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
-        this.name_ = b;
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
         return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      return (com.google.protobuf.ByteString) ref;
     }
 
-    public static final int  TYPE_FIELD_NUMBER = 2;
+    public static final int TYPE_FIELD_NUMBER = 2;
     private java.lang.Object type_;
-
     /**
      * <code>required string type = 2;</code>
      */
-    @Override public boolean hasType()
-    {
-      return ((this.bitField0_ & 0x00000002) == 0x00000002);
+    public boolean hasType() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
-
     /**
      * <code>required string type = 2;</code>
      */
-    @Override public java.lang.String getType()
-    {
-      final java.lang.Object ref = this.type_;
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          type_ = s;
+        }
+        return s;
       }
-      final com.google.protobuf.ByteString bs =
-        (com.google.protobuf.ByteString) ref;
-      final java.lang.String s = bs.toStringUtf8();
-      if (bs.isValidUtf8()) {
-        this.type_ = s;
-      }
-      return s;
     }
-
     /**
      * <code>required string type = 2;</code>
      */
-    @Override public com.google.protobuf.ByteString getTypeBytes()
-    {
-      final java.lang.Object ref = this.type_;
+    public com.google.protobuf.ByteString
+        getTypeBytes() {
+      java.lang.Object ref = type_;
       if (ref instanceof java.lang.String) {
-        final com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
-        this.type_ = b;
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        type_ = b;
         return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      return (com.google.protobuf.ByteString) ref;
     }
 
-    private void initFields()
-    {
-      this.name_ = "";
-      this.type_ = "";
+    private void initFields() {
+      name_ = "";
+      type_ = "";
     }
-
     private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-    @Override public final boolean isInitialized()
-    {
-      final byte isInitialized = this.memoizedIsInitialized;
-      if (isInitialized == 1) {
-        return true;
-      }
-      if (isInitialized == 0) {
-        return false;
-      }
-
-      if (!this.hasName()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasName()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      if (!this.hasType()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasType()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      this.memoizedIsInitialized = 1;
+      memoizedIsInitialized = 1;
       return true;
     }
 
-    @Override public void writeTo(
-      final com.google.protobuf.CodedOutputStream output)
-      throws java.io.IOException
-    {
-      this.getSerializedSize();
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, this.getNameBytes());
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getNameBytes());
       }
-      if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, this.getTypeBytes());
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getTypeBytes());
       }
-      output.writeRawBytes(this.unknownFields);
+      output.writeRawBytes(unknownFields);
     }
 
     private int memoizedSerializedSize = -1;
-
-    @Override public int getSerializedSize()
-    {
-      int size = this.memoizedSerializedSize;
-      if (size != -1) {
-        return size;
-      }
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
 
       size = 0;
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeBytesSize(
-            1,
-            this.getNameBytes());
-      }
-      if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeBytesSize(
-            2,
-            this.getTypeBytes());
-      }
-      size += this.unknownFields.size();
-      this.memoizedSerializedSize = size;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getTypeBytes());
+      }
+      size += unknownFields.size();
+      memoizedSerializedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-
-    @java.lang.Override protected java.lang.Object writeReplace()
-      throws java.io.ObjectStreamException
-    {
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
       return super.writeReplace();
     }
 
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput
-      parseFrom(
-        final com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderOutput.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput
-      parseFrom(
-        final com.google.protobuf.ByteString data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderOutput.PARSER.parseFrom(data, extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput
-      parseFrom(
-        final byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderOutput.PARSER.parseFrom(data);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput
-      parseFrom(
-        final byte[] data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderOutput.PARSER.parseFrom(data, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput
-      parseFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PVertexShaderOutput.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput
-      parseFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PVertexShaderOutput.PARSER.parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput
-      parseDelimitedFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PVertexShaderOutput.PARSER.parseDelimitedFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput
-      parseDelimitedFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PVertexShaderOutput.PARSER.parseDelimitedFrom(
-        input,
-        extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException
-    {
-      return PVertexShaderOutput.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PVertexShaderOutput.PARSER.parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-
-    public static Builder newBuilder()
-    {
-      return Builder.create();
-    }
-
-    @Override public Builder newBuilderForType()
-    {
-      return PVertexShaderOutput.newBuilder();
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      Builder
-      newBuilder(
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput prototype)
-    {
-      return PVertexShaderOutput.newBuilder().mergeFrom(prototype);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
 
-    @Override public Builder toBuilder()
-    {
-      return PVertexShaderOutput.newBuilder(this);
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput prototype) {
+      return newBuilder().mergeFrom(prototype);
     }
+    public Builder toBuilder() { return newBuilder(this); }
 
     /**
-     * Protobuf type
-     * {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput}
+     * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput}
      */
     public static final class Builder extends
-      com.google.protobuf.GeneratedMessageLite.Builder<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput, Builder> implements
-      // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput)
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutputOrBuilder
-    {
-      // Construct using
-      // com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput.newBuilder()
-      private Builder()
-      {
-        this.maybeForceBuilderInitialization();
+        com.google.protobuf.GeneratedMessageLite.Builder<
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput, Builder>
+        implements
+        // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput)
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutputOrBuilder {
+      // Construct using com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      private void maybeForceBuilderInitialization()
-      {
+      private void maybeForceBuilderInitialization() {
       }
-
-      private static Builder create()
-      {
+      private static Builder create() {
         return new Builder();
       }
 
-      @Override public Builder clear()
-      {
+      public Builder clear() {
         super.clear();
-        this.name_ = "";
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.type_ = "";
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        type_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
-      @Override public Builder clone()
-      {
-        return Builder.create().mergeFrom(this.buildPartial());
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput
-        getDefaultInstanceForType()
-      {
-        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput
-          .getDefaultInstance();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput getDefaultInstanceForType() {
+        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput.getDefaultInstance();
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput
-        build()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput result =
-          this.buildPartial();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput build() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput result = buildPartial();
         if (!result.isInitialized()) {
-          throw com.google.protobuf.AbstractMessageLite.Builder
-            .newUninitializedMessageException(result);
+          throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput
-        buildPartial()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput result =
-          new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput(
-            this);
-        final int from_bitField0_ = this.bitField0_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput buildPartial() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput result = new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput(this);
+        int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.name_ = this.name_;
+        result.name_ = name_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.type_ = this.type_;
+        result.type_ = type_;
         result.bitField0_ = to_bitField0_;
         return result;
       }
 
-      @Override public
-        Builder
-        mergeFrom(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput other)
-      {
-        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput
-          .getDefaultInstance()) {
-          return this;
-        }
+      public Builder mergeFrom(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput other) {
+        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput.getDefaultInstance()) return this;
         if (other.hasName()) {
-          this.bitField0_ |= 0x00000001;
-          this.name_ = other.name_;
-
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          
         }
         if (other.hasType()) {
-          this.bitField0_ |= 0x00000002;
-          this.type_ = other.type_;
-
+          bitField0_ |= 0x00000002;
+          type_ = other.type_;
+          
         }
-        this.setUnknownFields(this.getUnknownFields().concat(
-          other.unknownFields));
+        setUnknownFields(
+            getUnknownFields().concat(other.unknownFields));
         return this;
       }
 
-      @Override public final boolean isInitialized()
-      {
-        if (!this.hasName()) {
-
+      public final boolean isInitialized() {
+        if (!hasName()) {
+          
           return false;
         }
-        if (!this.hasType()) {
-
+        if (!hasType()) {
+          
           return false;
         }
         return true;
       }
 
-      @Override public Builder mergeFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-      {
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput parsedMessage =
-          null;
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput parsedMessage = null;
         try {
-          parsedMessage =
-            PVertexShaderOutput.PARSER.parsePartialFrom(
-              input,
-              extensionRegistry);
-        } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage =
-            (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput) e
-              .getUnfinishedMessage();
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
-            this.mergeFrom(parsedMessage);
+            mergeFrom(parsedMessage);
           }
         }
         return this;
       }
-
-      private int              bitField0_;
+      private int bitField0_;
 
       private java.lang.Object name_ = "";
-
       /**
        * <code>required string name = 1;</code>
        */
-      @Override public boolean hasName()
-      {
-        return ((this.bitField0_ & 0x00000001) == 0x00000001);
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-
       /**
        * <code>required string name = 1;</code>
        */
-      @Override public java.lang.String getName()
-      {
-        final java.lang.Object ref = this.name_;
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
         if (!(ref instanceof java.lang.String)) {
-          final com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-          final java.lang.String s = bs.toStringUtf8();
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            this.name_ = s;
+            name_ = s;
           }
           return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        return (java.lang.String) ref;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
-      @Override public com.google.protobuf.ByteString getNameBytes()
-      {
-        final java.lang.Object ref = this.name_;
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
         if (ref instanceof String) {
-          final com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString
-              .copyFromUtf8((java.lang.String) ref);
-          this.name_ = b;
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
           return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        return (com.google.protobuf.ByteString) ref;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
       public Builder setName(
-        final java.lang.String value)
-      {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000001;
-        this.name_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        
         return this;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
-      public Builder clearName()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.name_ = PVertexShaderOutput.getDefaultInstance().getName();
-
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = getDefaultInstance().getName();
+        
         return this;
       }
-
       /**
        * <code>required string name = 1;</code>
        */
       public Builder setNameBytes(
-        final com.google.protobuf.ByteString value)
-      {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000001;
-        this.name_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        
         return this;
       }
 
       private java.lang.Object type_ = "";
-
       /**
        * <code>required string type = 2;</code>
        */
-      @Override public boolean hasType()
-      {
-        return ((this.bitField0_ & 0x00000002) == 0x00000002);
+      public boolean hasType() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
-
       /**
        * <code>required string type = 2;</code>
        */
-      @Override public java.lang.String getType()
-      {
-        final java.lang.Object ref = this.type_;
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
         if (!(ref instanceof java.lang.String)) {
-          final com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-          final java.lang.String s = bs.toStringUtf8();
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            this.type_ = s;
+            type_ = s;
           }
           return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        return (java.lang.String) ref;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
-      @Override public com.google.protobuf.ByteString getTypeBytes()
-      {
-        final java.lang.Object ref = this.type_;
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
         if (ref instanceof String) {
-          final com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString
-              .copyFromUtf8((java.lang.String) ref);
-          this.type_ = b;
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
           return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        return (com.google.protobuf.ByteString) ref;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
       public Builder setType(
-        final java.lang.String value)
-      {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000002;
-        this.type_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        type_ = value;
+        
         return this;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
-      public Builder clearType()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
-        this.type_ = PVertexShaderOutput.getDefaultInstance().getType();
-
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        type_ = getDefaultInstance().getType();
+        
         return this;
       }
-
       /**
        * <code>required string type = 2;</code>
        */
       public Builder setTypeBytes(
-        final com.google.protobuf.ByteString value)
-      {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000002;
-        this.type_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        type_ = value;
+        
         return this;
       }
 
@@ -9643,45 +7347,39 @@ public final class ProgramMeta
 
     static {
       defaultInstance = new PVertexShaderOutput(true);
-      PVertexShaderOutput.defaultInstance.initFields();
+      defaultInstance.initFields();
     }
 
     // @@protoc_insertion_point(class_scope:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput)
   }
 
   public interface PVertexShaderCommonOrBuilder extends
-  // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon)
-    com.google.protobuf.MessageLiteOrBuilder
-  {
+      // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon)
+      com.google.protobuf.MessageLiteOrBuilder {
 
     /**
      * <code>required string program_name = 1;</code>
      */
     boolean hasProgramName();
-
     /**
      * <code>required string program_name = 1;</code>
      */
     java.lang.String getProgramName();
-
     /**
      * <code>required string program_name = 1;</code>
      */
-    com.google.protobuf.ByteString getProgramNameBytes();
+    com.google.protobuf.ByteString
+        getProgramNameBytes();
 
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion>
-      getSupportsList();
-
+    java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion> 
+        getSupportsList();
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-      getSupports(
-        int index);
-
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion getSupports(int index);
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
@@ -9690,16 +7388,12 @@ public final class ProgramMeta
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter parameters = 3;</code>
      */
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter>
-      getParametersList();
-
+    java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter> 
+        getParametersList();
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter parameters = 3;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter
-      getParameters(
-        int index);
-
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter getParameters(int index);
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter parameters = 3;</code>
      */
@@ -9708,16 +7402,12 @@ public final class ProgramMeta
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput inputs = 4;</code>
      */
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput>
-      getInputsList();
-
+    java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput> 
+        getInputsList();
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput inputs = 4;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput
-      getInputs(
-        int index);
-
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput getInputs(int index);
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput inputs = 4;</code>
      */
@@ -9726,1743 +7416,1255 @@ public final class ProgramMeta
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput outputs = 5;</code>
      */
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput>
-      getOutputsList();
-
+    java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput> 
+        getOutputsList();
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput outputs = 5;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput
-      getOutputs(
-        int index);
-
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput getOutputs(int index);
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput outputs = 5;</code>
      */
     int getOutputsCount();
   }
-
   /**
-   * Protobuf type
-   * {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon}
+   * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon}
    */
   public static final class PVertexShaderCommon extends
-    com.google.protobuf.GeneratedMessageLite implements
-  // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon)
-    PVertexShaderCommonOrBuilder
-  {
+      com.google.protobuf.GeneratedMessageLite implements
+      // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon)
+      PVertexShaderCommonOrBuilder {
     // Use PVertexShaderCommon.newBuilder() to construct.
-    private PVertexShaderCommon(
-      final com.google.protobuf.GeneratedMessageLite.Builder builder)
-    {
+    private PVertexShaderCommon(com.google.protobuf.GeneratedMessageLite.Builder builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-
-    private PVertexShaderCommon(
-      final boolean noInit)
-    {
-      this.unknownFields = com.google.protobuf.ByteString.EMPTY;
-    }
+    private PVertexShaderCommon(boolean noInit) { this.unknownFields = com.google.protobuf.ByteString.EMPTY;}
 
     private static final PVertexShaderCommon defaultInstance;
-
-    public static PVertexShaderCommon getDefaultInstance()
-    {
-      return PVertexShaderCommon.defaultInstance;
+    public static PVertexShaderCommon getDefaultInstance() {
+      return defaultInstance;
     }
 
-    @Override public PVertexShaderCommon getDefaultInstanceForType()
-    {
-      return PVertexShaderCommon.defaultInstance;
+    public PVertexShaderCommon getDefaultInstanceForType() {
+      return defaultInstance;
     }
 
     private final com.google.protobuf.ByteString unknownFields;
-
     private PVertexShaderCommon(
-      final com.google.protobuf.CodedInputStream input,
-      final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      this.initFields();
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
       int mutable_bitField0_ = 0;
-      final com.google.protobuf.ByteString.Output unknownFieldsOutput =
-        com.google.protobuf.ByteString.newOutput();
-      final com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
-        com.google.protobuf.CodedOutputStream
-          .newInstance(unknownFieldsOutput);
+      com.google.protobuf.ByteString.Output unknownFieldsOutput =
+          com.google.protobuf.ByteString.newOutput();
+      com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
+          com.google.protobuf.CodedOutputStream.newInstance(
+              unknownFieldsOutput);
       try {
         boolean done = false;
         while (!done) {
-          final int tag = input.readTag();
+          int tag = input.readTag();
           switch (tag) {
             case 0:
               done = true;
               break;
-            default:
-            {
-              if (!this.parseUnknownField(
-                input,
-                unknownFieldsCodedOutput,
-                extensionRegistry,
-                tag)) {
+            default: {
+              if (!parseUnknownField(input, unknownFieldsCodedOutput,
+                                     extensionRegistry, tag)) {
                 done = true;
               }
               break;
             }
-            case 10:
-            {
-              final com.google.protobuf.ByteString bs = input.readBytes();
-              this.bitField0_ |= 0x00000001;
-              this.programName_ = bs;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              programName_ = bs;
               break;
             }
-            case 18:
-            {
+            case 18: {
               if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-                this.supports_ =
-                  new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion>();
+                supports_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion>();
                 mutable_bitField0_ |= 0x00000002;
               }
-              this.supports_
-                .add(input
-                  .readMessage(
-                    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.PARSER,
-                    extensionRegistry));
+              supports_.add(input.readMessage(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.PARSER, extensionRegistry));
               break;
             }
-            case 26:
-            {
+            case 26: {
               if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
-                this.parameters_ =
-                  new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter>();
+                parameters_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter>();
                 mutable_bitField0_ |= 0x00000004;
               }
-              this.parameters_
-                .add(input
-                  .readMessage(
-                    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter.PARSER,
-                    extensionRegistry));
+              parameters_.add(input.readMessage(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter.PARSER, extensionRegistry));
               break;
             }
-            case 34:
-            {
+            case 34: {
               if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
-                this.inputs_ =
-                  new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput>();
+                inputs_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput>();
                 mutable_bitField0_ |= 0x00000008;
               }
-              this.inputs_
-                .add(input
-                  .readMessage(
-                    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput.PARSER,
-                    extensionRegistry));
+              inputs_.add(input.readMessage(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput.PARSER, extensionRegistry));
               break;
             }
-            case 42:
-            {
+            case 42: {
               if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
-                this.outputs_ =
-                  new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput>();
+                outputs_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput>();
                 mutable_bitField0_ |= 0x00000010;
               }
-              this.outputs_
-                .add(input
-                  .readMessage(
-                    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput.PARSER,
-                    extensionRegistry));
+              outputs_.add(input.readMessage(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput.PARSER, extensionRegistry));
               break;
             }
           }
         }
-      } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
         throw e.setUnfinishedMessage(this);
-      } catch (final java.io.IOException e) {
+      } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
-          e.getMessage()).setUnfinishedMessage(this);
+            e.getMessage()).setUnfinishedMessage(this);
       } finally {
         if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-          this.supports_ =
-            java.util.Collections.unmodifiableList(this.supports_);
+          supports_ = java.util.Collections.unmodifiableList(supports_);
         }
         if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
-          this.parameters_ =
-            java.util.Collections.unmodifiableList(this.parameters_);
+          parameters_ = java.util.Collections.unmodifiableList(parameters_);
         }
         if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
-          this.inputs_ = java.util.Collections.unmodifiableList(this.inputs_);
+          inputs_ = java.util.Collections.unmodifiableList(inputs_);
         }
         if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
-          this.outputs_ =
-            java.util.Collections.unmodifiableList(this.outputs_);
+          outputs_ = java.util.Collections.unmodifiableList(outputs_);
         }
         try {
           unknownFieldsCodedOutput.flush();
-        } catch (final java.io.IOException e) {
-          // Should not happen
+        } catch (java.io.IOException e) {
+        // Should not happen
         } finally {
-          this.unknownFields = unknownFieldsOutput.toByteString();
+          unknownFields = unknownFieldsOutput.toByteString();
         }
-        this.makeExtensionsImmutable();
+        makeExtensionsImmutable();
       }
     }
-
     public static com.google.protobuf.Parser<PVertexShaderCommon> PARSER =
-                                                                           new com.google.protobuf.AbstractParser<PVertexShaderCommon>() {
-                                                                             @Override public
-                                                                               PVertexShaderCommon
-                                                                               parsePartialFrom(
-                                                                                 final com.google.protobuf.CodedInputStream input,
-                                                                                 final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                                                                                 throws com.google.protobuf.InvalidProtocolBufferException
-                                                                             {
-                                                                               return new PVertexShaderCommon(
-                                                                                 input,
-                                                                                 extensionRegistry);
-                                                                             }
-                                                                           };
-
-    @java.lang.Override public
-      com.google.protobuf.Parser<PVertexShaderCommon>
-      getParserForType()
-    {
-      return PVertexShaderCommon.PARSER;
-    }
-
-    private int              bitField0_;
-    public static final int  PROGRAM_NAME_FIELD_NUMBER = 1;
-    private java.lang.Object programName_;
+        new com.google.protobuf.AbstractParser<PVertexShaderCommon>() {
+      public PVertexShaderCommon parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PVertexShaderCommon(input, extensionRegistry);
+      }
+    };
 
+    @java.lang.Override
+    public com.google.protobuf.Parser<PVertexShaderCommon> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int PROGRAM_NAME_FIELD_NUMBER = 1;
+    private java.lang.Object programName_;
     /**
      * <code>required string program_name = 1;</code>
      */
-    @Override public boolean hasProgramName()
-    {
-      return ((this.bitField0_ & 0x00000001) == 0x00000001);
+    public boolean hasProgramName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-
     /**
      * <code>required string program_name = 1;</code>
      */
-    @Override public java.lang.String getProgramName()
-    {
-      final java.lang.Object ref = this.programName_;
+    public java.lang.String getProgramName() {
+      java.lang.Object ref = programName_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          programName_ = s;
+        }
+        return s;
       }
-      final com.google.protobuf.ByteString bs =
-        (com.google.protobuf.ByteString) ref;
-      final java.lang.String s = bs.toStringUtf8();
-      if (bs.isValidUtf8()) {
-        this.programName_ = s;
-      }
-      return s;
     }
-
     /**
      * <code>required string program_name = 1;</code>
      */
-    @Override public com.google.protobuf.ByteString getProgramNameBytes()
-    {
-      final java.lang.Object ref = this.programName_;
+    public com.google.protobuf.ByteString
+        getProgramNameBytes() {
+      java.lang.Object ref = programName_;
       if (ref instanceof java.lang.String) {
-        final com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
-        this.programName_ = b;
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        programName_ = b;
         return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      return (com.google.protobuf.ByteString) ref;
     }
 
-    public static final int                                                                          SUPPORTS_FIELD_NUMBER =
-                                                                                                                             2;
+    public static final int SUPPORTS_FIELD_NUMBER = 2;
     private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion> supports_;
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
-    @Override public
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion>
-      getSupportsList()
-    {
-      return this.supports_;
+    public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion> getSupportsList() {
+      return supports_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
-    public
-      java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersionOrBuilder>
-      getSupportsOrBuilderList()
-    {
-      return this.supports_;
+    public java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersionOrBuilder> 
+        getSupportsOrBuilderList() {
+      return supports_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
-    @Override public int getSupportsCount()
-    {
-      return this.supports_.size();
+    public int getSupportsCount() {
+      return supports_.size();
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-      getSupports(
-        final int index)
-    {
-      return this.supports_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion getSupports(int index) {
+      return supports_.get(index);
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
-    public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersionOrBuilder
-      getSupportsOrBuilder(
-        final int index)
-    {
-      return this.supports_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersionOrBuilder getSupportsOrBuilder(
+        int index) {
+      return supports_.get(index);
     }
 
-    public static final int                                                                                    PARAMETERS_FIELD_NUMBER =
-                                                                                                                                         3;
+    public static final int PARAMETERS_FIELD_NUMBER = 3;
     private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter> parameters_;
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter parameters = 3;</code>
      */
-    @Override public
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter>
-      getParametersList()
-    {
-      return this.parameters_;
+    public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter> getParametersList() {
+      return parameters_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter parameters = 3;</code>
      */
-    public
-      java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameterOrBuilder>
-      getParametersOrBuilderList()
-    {
-      return this.parameters_;
+    public java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameterOrBuilder> 
+        getParametersOrBuilderList() {
+      return parameters_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter parameters = 3;</code>
      */
-    @Override public int getParametersCount()
-    {
-      return this.parameters_.size();
+    public int getParametersCount() {
+      return parameters_.size();
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter parameters = 3;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter
-      getParameters(
-        final int index)
-    {
-      return this.parameters_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter getParameters(int index) {
+      return parameters_.get(index);
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter parameters = 3;</code>
      */
-    public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameterOrBuilder
-      getParametersOrBuilder(
-        final int index)
-    {
-      return this.parameters_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameterOrBuilder getParametersOrBuilder(
+        int index) {
+      return parameters_.get(index);
     }
 
-    public static final int                                                                                INPUTS_FIELD_NUMBER =
-                                                                                                                                 4;
+    public static final int INPUTS_FIELD_NUMBER = 4;
     private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput> inputs_;
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput inputs = 4;</code>
      */
-    @Override public
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput>
-      getInputsList()
-    {
-      return this.inputs_;
+    public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput> getInputsList() {
+      return inputs_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput inputs = 4;</code>
      */
-    public
-      java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInputOrBuilder>
-      getInputsOrBuilderList()
-    {
-      return this.inputs_;
+    public java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInputOrBuilder> 
+        getInputsOrBuilderList() {
+      return inputs_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput inputs = 4;</code>
      */
-    @Override public int getInputsCount()
-    {
-      return this.inputs_.size();
+    public int getInputsCount() {
+      return inputs_.size();
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput inputs = 4;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput
-      getInputs(
-        final int index)
-    {
-      return this.inputs_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput getInputs(int index) {
+      return inputs_.get(index);
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput inputs = 4;</code>
      */
-    public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInputOrBuilder
-      getInputsOrBuilder(
-        final int index)
-    {
-      return this.inputs_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInputOrBuilder getInputsOrBuilder(
+        int index) {
+      return inputs_.get(index);
     }
 
-    public static final int                                                                                 OUTPUTS_FIELD_NUMBER =
-                                                                                                                                   5;
+    public static final int OUTPUTS_FIELD_NUMBER = 5;
     private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput> outputs_;
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput outputs = 5;</code>
      */
-    @Override public
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput>
-      getOutputsList()
-    {
-      return this.outputs_;
+    public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput> getOutputsList() {
+      return outputs_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput outputs = 5;</code>
      */
-    public
-      java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutputOrBuilder>
-      getOutputsOrBuilderList()
-    {
-      return this.outputs_;
+    public java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutputOrBuilder> 
+        getOutputsOrBuilderList() {
+      return outputs_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput outputs = 5;</code>
      */
-    @Override public int getOutputsCount()
-    {
-      return this.outputs_.size();
+    public int getOutputsCount() {
+      return outputs_.size();
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput outputs = 5;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput
-      getOutputs(
-        final int index)
-    {
-      return this.outputs_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput getOutputs(int index) {
+      return outputs_.get(index);
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput outputs = 5;</code>
      */
-    public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutputOrBuilder
-      getOutputsOrBuilder(
-        final int index)
-    {
-      return this.outputs_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutputOrBuilder getOutputsOrBuilder(
+        int index) {
+      return outputs_.get(index);
     }
 
-    private void initFields()
-    {
-      this.programName_ = "";
-      this.supports_ = java.util.Collections.emptyList();
-      this.parameters_ = java.util.Collections.emptyList();
-      this.inputs_ = java.util.Collections.emptyList();
-      this.outputs_ = java.util.Collections.emptyList();
+    private void initFields() {
+      programName_ = "";
+      supports_ = java.util.Collections.emptyList();
+      parameters_ = java.util.Collections.emptyList();
+      inputs_ = java.util.Collections.emptyList();
+      outputs_ = java.util.Collections.emptyList();
     }
-
     private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-    @Override public final boolean isInitialized()
-    {
-      final byte isInitialized = this.memoizedIsInitialized;
-      if (isInitialized == 1) {
-        return true;
-      }
-      if (isInitialized == 0) {
-        return false;
-      }
-
-      if (!this.hasProgramName()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasProgramName()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      for (int i = 0; i < this.getSupportsCount(); i++) {
-        if (!this.getSupports(i).isInitialized()) {
-          this.memoizedIsInitialized = 0;
+      for (int i = 0; i < getSupportsCount(); i++) {
+        if (!getSupports(i).isInitialized()) {
+          memoizedIsInitialized = 0;
           return false;
         }
       }
-      for (int i = 0; i < this.getParametersCount(); i++) {
-        if (!this.getParameters(i).isInitialized()) {
-          this.memoizedIsInitialized = 0;
+      for (int i = 0; i < getParametersCount(); i++) {
+        if (!getParameters(i).isInitialized()) {
+          memoizedIsInitialized = 0;
           return false;
         }
       }
-      for (int i = 0; i < this.getInputsCount(); i++) {
-        if (!this.getInputs(i).isInitialized()) {
-          this.memoizedIsInitialized = 0;
+      for (int i = 0; i < getInputsCount(); i++) {
+        if (!getInputs(i).isInitialized()) {
+          memoizedIsInitialized = 0;
           return false;
         }
       }
-      for (int i = 0; i < this.getOutputsCount(); i++) {
-        if (!this.getOutputs(i).isInitialized()) {
-          this.memoizedIsInitialized = 0;
+      for (int i = 0; i < getOutputsCount(); i++) {
+        if (!getOutputs(i).isInitialized()) {
+          memoizedIsInitialized = 0;
           return false;
         }
       }
-      this.memoizedIsInitialized = 1;
+      memoizedIsInitialized = 1;
       return true;
     }
 
-    @Override public void writeTo(
-      final com.google.protobuf.CodedOutputStream output)
-      throws java.io.IOException
-    {
-      this.getSerializedSize();
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, this.getProgramNameBytes());
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getProgramNameBytes());
       }
-      for (int i = 0; i < this.supports_.size(); i++) {
-        output.writeMessage(2, this.supports_.get(i));
+      for (int i = 0; i < supports_.size(); i++) {
+        output.writeMessage(2, supports_.get(i));
       }
-      for (int i = 0; i < this.parameters_.size(); i++) {
-        output.writeMessage(3, this.parameters_.get(i));
+      for (int i = 0; i < parameters_.size(); i++) {
+        output.writeMessage(3, parameters_.get(i));
       }
-      for (int i = 0; i < this.inputs_.size(); i++) {
-        output.writeMessage(4, this.inputs_.get(i));
+      for (int i = 0; i < inputs_.size(); i++) {
+        output.writeMessage(4, inputs_.get(i));
       }
-      for (int i = 0; i < this.outputs_.size(); i++) {
-        output.writeMessage(5, this.outputs_.get(i));
+      for (int i = 0; i < outputs_.size(); i++) {
+        output.writeMessage(5, outputs_.get(i));
       }
-      output.writeRawBytes(this.unknownFields);
+      output.writeRawBytes(unknownFields);
     }
 
     private int memoizedSerializedSize = -1;
-
-    @Override public int getSerializedSize()
-    {
-      int size = this.memoizedSerializedSize;
-      if (size != -1) {
-        return size;
-      }
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
 
       size = 0;
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeBytesSize(
-            1,
-            this.getProgramNameBytes());
-      }
-      for (int i = 0; i < this.supports_.size(); i++) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeMessageSize(
-            2,
-            this.supports_.get(i));
-      }
-      for (int i = 0; i < this.parameters_.size(); i++) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeMessageSize(
-            3,
-            this.parameters_.get(i));
-      }
-      for (int i = 0; i < this.inputs_.size(); i++) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeMessageSize(
-            4,
-            this.inputs_.get(i));
-      }
-      for (int i = 0; i < this.outputs_.size(); i++) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeMessageSize(
-            5,
-            this.outputs_.get(i));
-      }
-      size += this.unknownFields.size();
-      this.memoizedSerializedSize = size;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getProgramNameBytes());
+      }
+      for (int i = 0; i < supports_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, supports_.get(i));
+      }
+      for (int i = 0; i < parameters_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, parameters_.get(i));
+      }
+      for (int i = 0; i < inputs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, inputs_.get(i));
+      }
+      for (int i = 0; i < outputs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, outputs_.get(i));
+      }
+      size += unknownFields.size();
+      memoizedSerializedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-
-    @java.lang.Override protected java.lang.Object writeReplace()
-      throws java.io.ObjectStreamException
-    {
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
       return super.writeReplace();
     }
 
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-      parseFrom(
-        final com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderCommon.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-      parseFrom(
-        final com.google.protobuf.ByteString data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderCommon.PARSER.parseFrom(data, extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-      parseFrom(
-        final byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderCommon.PARSER.parseFrom(data);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-      parseFrom(
-        final byte[] data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderCommon.PARSER.parseFrom(data, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-      parseFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PVertexShaderCommon.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-      parseFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PVertexShaderCommon.PARSER.parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-      parseDelimitedFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PVertexShaderCommon.PARSER.parseDelimitedFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-      parseDelimitedFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PVertexShaderCommon.PARSER.parseDelimitedFrom(
-        input,
-        extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException
-    {
-      return PVertexShaderCommon.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PVertexShaderCommon.PARSER.parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-
-    public static Builder newBuilder()
-    {
-      return Builder.create();
-    }
-
-    @Override public Builder newBuilderForType()
-    {
-      return PVertexShaderCommon.newBuilder();
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      Builder
-      newBuilder(
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon prototype)
-    {
-      return PVertexShaderCommon.newBuilder().mergeFrom(prototype);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
 
-    @Override public Builder toBuilder()
-    {
-      return PVertexShaderCommon.newBuilder(this);
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon prototype) {
+      return newBuilder().mergeFrom(prototype);
     }
+    public Builder toBuilder() { return newBuilder(this); }
 
     /**
-     * Protobuf type
-     * {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon}
+     * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon}
      */
     public static final class Builder extends
-      com.google.protobuf.GeneratedMessageLite.Builder<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon, Builder> implements
-      // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon)
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommonOrBuilder
-    {
-      // Construct using
-      // com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.newBuilder()
-      private Builder()
-      {
-        this.maybeForceBuilderInitialization();
+        com.google.protobuf.GeneratedMessageLite.Builder<
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon, Builder>
+        implements
+        // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon)
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommonOrBuilder {
+      // Construct using com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      private void maybeForceBuilderInitialization()
-      {
+      private void maybeForceBuilderInitialization() {
       }
-
-      private static Builder create()
-      {
+      private static Builder create() {
         return new Builder();
       }
 
-      @Override public Builder clear()
-      {
+      public Builder clear() {
         super.clear();
-        this.programName_ = "";
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.supports_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
-        this.parameters_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000004);
-        this.inputs_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000008);
-        this.outputs_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000010);
+        programName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        supports_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        parameters_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        inputs_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        outputs_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
         return this;
       }
 
-      @Override public Builder clone()
-      {
-        return Builder.create().mergeFrom(this.buildPartial());
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-        getDefaultInstanceForType()
-      {
-        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-          .getDefaultInstance();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon getDefaultInstanceForType() {
+        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.getDefaultInstance();
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-        build()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon result =
-          this.buildPartial();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon build() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon result = buildPartial();
         if (!result.isInitialized()) {
-          throw com.google.protobuf.AbstractMessageLite.Builder
-            .newUninitializedMessageException(result);
+          throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-        buildPartial()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon result =
-          new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon(
-            this);
-        final int from_bitField0_ = this.bitField0_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon buildPartial() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon result = new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon(this);
+        int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.programName_ = this.programName_;
-        if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-          this.supports_ =
-            java.util.Collections.unmodifiableList(this.supports_);
-          this.bitField0_ = (this.bitField0_ & ~0x00000002);
-        }
-        result.supports_ = this.supports_;
-        if (((this.bitField0_ & 0x00000004) == 0x00000004)) {
-          this.parameters_ =
-            java.util.Collections.unmodifiableList(this.parameters_);
-          this.bitField0_ = (this.bitField0_ & ~0x00000004);
-        }
-        result.parameters_ = this.parameters_;
-        if (((this.bitField0_ & 0x00000008) == 0x00000008)) {
-          this.inputs_ = java.util.Collections.unmodifiableList(this.inputs_);
-          this.bitField0_ = (this.bitField0_ & ~0x00000008);
-        }
-        result.inputs_ = this.inputs_;
-        if (((this.bitField0_ & 0x00000010) == 0x00000010)) {
-          this.outputs_ =
-            java.util.Collections.unmodifiableList(this.outputs_);
-          this.bitField0_ = (this.bitField0_ & ~0x00000010);
-        }
-        result.outputs_ = this.outputs_;
+        result.programName_ = programName_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          supports_ = java.util.Collections.unmodifiableList(supports_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.supports_ = supports_;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          parameters_ = java.util.Collections.unmodifiableList(parameters_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.parameters_ = parameters_;
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          inputs_ = java.util.Collections.unmodifiableList(inputs_);
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.inputs_ = inputs_;
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          outputs_ = java.util.Collections.unmodifiableList(outputs_);
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.outputs_ = outputs_;
         result.bitField0_ = to_bitField0_;
         return result;
       }
 
-      @Override public
-        Builder
-        mergeFrom(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon other)
-      {
-        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-          .getDefaultInstance()) {
-          return this;
-        }
+      public Builder mergeFrom(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon other) {
+        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.getDefaultInstance()) return this;
         if (other.hasProgramName()) {
-          this.bitField0_ |= 0x00000001;
-          this.programName_ = other.programName_;
-
+          bitField0_ |= 0x00000001;
+          programName_ = other.programName_;
+          
         }
         if (!other.supports_.isEmpty()) {
-          if (this.supports_.isEmpty()) {
-            this.supports_ = other.supports_;
-            this.bitField0_ = (this.bitField0_ & ~0x00000002);
+          if (supports_.isEmpty()) {
+            supports_ = other.supports_;
+            bitField0_ = (bitField0_ & ~0x00000002);
           } else {
-            this.ensureSupportsIsMutable();
-            this.supports_.addAll(other.supports_);
+            ensureSupportsIsMutable();
+            supports_.addAll(other.supports_);
           }
-
+          
         }
         if (!other.parameters_.isEmpty()) {
-          if (this.parameters_.isEmpty()) {
-            this.parameters_ = other.parameters_;
-            this.bitField0_ = (this.bitField0_ & ~0x00000004);
+          if (parameters_.isEmpty()) {
+            parameters_ = other.parameters_;
+            bitField0_ = (bitField0_ & ~0x00000004);
           } else {
-            this.ensureParametersIsMutable();
-            this.parameters_.addAll(other.parameters_);
+            ensureParametersIsMutable();
+            parameters_.addAll(other.parameters_);
           }
-
+          
         }
         if (!other.inputs_.isEmpty()) {
-          if (this.inputs_.isEmpty()) {
-            this.inputs_ = other.inputs_;
-            this.bitField0_ = (this.bitField0_ & ~0x00000008);
+          if (inputs_.isEmpty()) {
+            inputs_ = other.inputs_;
+            bitField0_ = (bitField0_ & ~0x00000008);
           } else {
-            this.ensureInputsIsMutable();
-            this.inputs_.addAll(other.inputs_);
+            ensureInputsIsMutable();
+            inputs_.addAll(other.inputs_);
           }
-
+          
         }
         if (!other.outputs_.isEmpty()) {
-          if (this.outputs_.isEmpty()) {
-            this.outputs_ = other.outputs_;
-            this.bitField0_ = (this.bitField0_ & ~0x00000010);
+          if (outputs_.isEmpty()) {
+            outputs_ = other.outputs_;
+            bitField0_ = (bitField0_ & ~0x00000010);
           } else {
-            this.ensureOutputsIsMutable();
-            this.outputs_.addAll(other.outputs_);
+            ensureOutputsIsMutable();
+            outputs_.addAll(other.outputs_);
           }
-
+          
         }
-        this.setUnknownFields(this.getUnknownFields().concat(
-          other.unknownFields));
+        setUnknownFields(
+            getUnknownFields().concat(other.unknownFields));
         return this;
       }
 
-      @Override public final boolean isInitialized()
-      {
-        if (!this.hasProgramName()) {
-
+      public final boolean isInitialized() {
+        if (!hasProgramName()) {
+          
           return false;
         }
-        for (int i = 0; i < this.getSupportsCount(); i++) {
-          if (!this.getSupports(i).isInitialized()) {
-
+        for (int i = 0; i < getSupportsCount(); i++) {
+          if (!getSupports(i).isInitialized()) {
+            
             return false;
           }
         }
-        for (int i = 0; i < this.getParametersCount(); i++) {
-          if (!this.getParameters(i).isInitialized()) {
-
+        for (int i = 0; i < getParametersCount(); i++) {
+          if (!getParameters(i).isInitialized()) {
+            
             return false;
           }
         }
-        for (int i = 0; i < this.getInputsCount(); i++) {
-          if (!this.getInputs(i).isInitialized()) {
-
+        for (int i = 0; i < getInputsCount(); i++) {
+          if (!getInputs(i).isInitialized()) {
+            
             return false;
           }
         }
-        for (int i = 0; i < this.getOutputsCount(); i++) {
-          if (!this.getOutputs(i).isInitialized()) {
-
+        for (int i = 0; i < getOutputsCount(); i++) {
+          if (!getOutputs(i).isInitialized()) {
+            
             return false;
           }
         }
         return true;
       }
 
-      @Override public Builder mergeFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-      {
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon parsedMessage =
-          null;
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon parsedMessage = null;
         try {
-          parsedMessage =
-            PVertexShaderCommon.PARSER.parsePartialFrom(
-              input,
-              extensionRegistry);
-        } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage =
-            (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon) e
-              .getUnfinishedMessage();
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
-            this.mergeFrom(parsedMessage);
+            mergeFrom(parsedMessage);
           }
         }
         return this;
       }
-
-      private int              bitField0_;
+      private int bitField0_;
 
       private java.lang.Object programName_ = "";
-
       /**
        * <code>required string program_name = 1;</code>
        */
-      @Override public boolean hasProgramName()
-      {
-        return ((this.bitField0_ & 0x00000001) == 0x00000001);
+      public boolean hasProgramName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-
       /**
        * <code>required string program_name = 1;</code>
        */
-      @Override public java.lang.String getProgramName()
-      {
-        final java.lang.Object ref = this.programName_;
+      public java.lang.String getProgramName() {
+        java.lang.Object ref = programName_;
         if (!(ref instanceof java.lang.String)) {
-          final com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-          final java.lang.String s = bs.toStringUtf8();
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            this.programName_ = s;
+            programName_ = s;
           }
           return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        return (java.lang.String) ref;
       }
-
       /**
        * <code>required string program_name = 1;</code>
        */
-      @Override public com.google.protobuf.ByteString getProgramNameBytes()
-      {
-        final java.lang.Object ref = this.programName_;
+      public com.google.protobuf.ByteString
+          getProgramNameBytes() {
+        java.lang.Object ref = programName_;
         if (ref instanceof String) {
-          final com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString
-              .copyFromUtf8((java.lang.String) ref);
-          this.programName_ = b;
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          programName_ = b;
           return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        return (com.google.protobuf.ByteString) ref;
       }
-
       /**
        * <code>required string program_name = 1;</code>
        */
       public Builder setProgramName(
-        final java.lang.String value)
-      {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000001;
-        this.programName_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        programName_ = value;
+        
         return this;
       }
-
       /**
        * <code>required string program_name = 1;</code>
        */
-      public Builder clearProgramName()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.programName_ =
-          PVertexShaderCommon.getDefaultInstance().getProgramName();
-
+      public Builder clearProgramName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        programName_ = getDefaultInstance().getProgramName();
+        
         return this;
       }
-
       /**
        * <code>required string program_name = 1;</code>
        */
       public Builder setProgramNameBytes(
-        final com.google.protobuf.ByteString value)
-      {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000001;
-        this.programName_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        programName_ = value;
+        
         return this;
       }
 
       private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion> supports_ =
-                                                                                                                   java.util.Collections
-                                                                                                                     .emptyList();
-
-      private void ensureSupportsIsMutable()
-      {
-        if (!((this.bitField0_ & 0x00000002) == 0x00000002)) {
-          this.supports_ =
-            new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion>(
-              this.supports_);
-          this.bitField0_ |= 0x00000002;
-        }
+        java.util.Collections.emptyList();
+      private void ensureSupportsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          supports_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion>(supports_);
+          bitField0_ |= 0x00000002;
+         }
       }
 
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      @Override public
-        java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion>
-        getSupportsList()
-      {
-        return java.util.Collections.unmodifiableList(this.supports_);
+      public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion> getSupportsList() {
+        return java.util.Collections.unmodifiableList(supports_);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      @Override public int getSupportsCount()
-      {
-        return this.supports_.size();
+      public int getSupportsCount() {
+        return supports_.size();
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-        getSupports(
-          final int index)
-      {
-        return this.supports_.get(index);
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion getSupports(int index) {
+        return supports_.get(index);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public
-        Builder
-        setSupports(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion value)
-      {
+      public Builder setSupports(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureSupportsIsMutable();
-        this.supports_.set(index, value);
+        ensureSupportsIsMutable();
+        supports_.set(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public
-        Builder
-        setSupports(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.Builder builderForValue)
-      {
-        this.ensureSupportsIsMutable();
-        this.supports_.set(index, builderForValue.build());
+      public Builder setSupports(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.Builder builderForValue) {
+        ensureSupportsIsMutable();
+        supports_.set(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public
-        Builder
-        addSupports(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion value)
-      {
+      public Builder addSupports(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureSupportsIsMutable();
-        this.supports_.add(value);
+        ensureSupportsIsMutable();
+        supports_.add(value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public
-        Builder
-        addSupports(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion value)
-      {
+      public Builder addSupports(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureSupportsIsMutable();
-        this.supports_.add(index, value);
+        ensureSupportsIsMutable();
+        supports_.add(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public
-        Builder
-        addSupports(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.Builder builderForValue)
-      {
-        this.ensureSupportsIsMutable();
-        this.supports_.add(builderForValue.build());
+      public Builder addSupports(
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.Builder builderForValue) {
+        ensureSupportsIsMutable();
+        supports_.add(builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public
-        Builder
-        addSupports(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.Builder builderForValue)
-      {
-        this.ensureSupportsIsMutable();
-        this.supports_.add(index, builderForValue.build());
+      public Builder addSupports(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.Builder builderForValue) {
+        ensureSupportsIsMutable();
+        supports_.add(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public
-        Builder
-        addAllSupports(
-          final java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion> values)
-      {
-        this.ensureSupportsIsMutable();
+      public Builder addAllSupports(
+          java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion> values) {
+        ensureSupportsIsMutable();
         com.google.protobuf.AbstractMessageLite.Builder.addAll(
-          values,
-          this.supports_);
+            values, supports_);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public Builder clearSupports()
-      {
-        this.supports_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
+      public Builder clearSupports() {
+        supports_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public Builder removeSupports(
-        final int index)
-      {
-        this.ensureSupportsIsMutable();
-        this.supports_.remove(index);
+      public Builder removeSupports(int index) {
+        ensureSupportsIsMutable();
+        supports_.remove(index);
 
         return this;
       }
 
       private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter> parameters_ =
-                                                                                                                               java.util.Collections
-                                                                                                                                 .emptyList();
-
-      private void ensureParametersIsMutable()
-      {
-        if (!((this.bitField0_ & 0x00000004) == 0x00000004)) {
-          this.parameters_ =
-            new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter>(
-              this.parameters_);
-          this.bitField0_ |= 0x00000004;
-        }
+        java.util.Collections.emptyList();
+      private void ensureParametersIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          parameters_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter>(parameters_);
+          bitField0_ |= 0x00000004;
+         }
       }
 
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter parameters = 3;</code>
        */
-      @Override public
-        java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter>
-        getParametersList()
-      {
-        return java.util.Collections.unmodifiableList(this.parameters_);
+      public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter> getParametersList() {
+        return java.util.Collections.unmodifiableList(parameters_);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter parameters = 3;</code>
        */
-      @Override public int getParametersCount()
-      {
-        return this.parameters_.size();
+      public int getParametersCount() {
+        return parameters_.size();
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter parameters = 3;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter
-        getParameters(
-          final int index)
-      {
-        return this.parameters_.get(index);
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter getParameters(int index) {
+        return parameters_.get(index);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter parameters = 3;</code>
        */
-      public
-        Builder
-        setParameters(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter value)
-      {
+      public Builder setParameters(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureParametersIsMutable();
-        this.parameters_.set(index, value);
+        ensureParametersIsMutable();
+        parameters_.set(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter parameters = 3;</code>
        */
-      public
-        Builder
-        setParameters(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter.Builder builderForValue)
-      {
-        this.ensureParametersIsMutable();
-        this.parameters_.set(index, builderForValue.build());
+      public Builder setParameters(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter.Builder builderForValue) {
+        ensureParametersIsMutable();
+        parameters_.set(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter parameters = 3;</code>
        */
-      public
-        Builder
-        addParameters(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter value)
-      {
+      public Builder addParameters(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureParametersIsMutable();
-        this.parameters_.add(value);
+        ensureParametersIsMutable();
+        parameters_.add(value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter parameters = 3;</code>
        */
-      public
-        Builder
-        addParameters(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter value)
-      {
+      public Builder addParameters(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureParametersIsMutable();
-        this.parameters_.add(index, value);
+        ensureParametersIsMutable();
+        parameters_.add(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter parameters = 3;</code>
        */
-      public
-        Builder
-        addParameters(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter.Builder builderForValue)
-      {
-        this.ensureParametersIsMutable();
-        this.parameters_.add(builderForValue.build());
+      public Builder addParameters(
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter.Builder builderForValue) {
+        ensureParametersIsMutable();
+        parameters_.add(builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter parameters = 3;</code>
        */
-      public
-        Builder
-        addParameters(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter.Builder builderForValue)
-      {
-        this.ensureParametersIsMutable();
-        this.parameters_.add(index, builderForValue.build());
+      public Builder addParameters(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter.Builder builderForValue) {
+        ensureParametersIsMutable();
+        parameters_.add(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter parameters = 3;</code>
        */
-      public
-        Builder
-        addAllParameters(
-          final java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter> values)
-      {
-        this.ensureParametersIsMutable();
+      public Builder addAllParameters(
+          java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderParameter> values) {
+        ensureParametersIsMutable();
         com.google.protobuf.AbstractMessageLite.Builder.addAll(
-          values,
-          this.parameters_);
+            values, parameters_);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter parameters = 3;</code>
        */
-      public Builder clearParameters()
-      {
-        this.parameters_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000004);
+      public Builder clearParameters() {
+        parameters_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderParameter parameters = 3;</code>
        */
-      public Builder removeParameters(
-        final int index)
-      {
-        this.ensureParametersIsMutable();
-        this.parameters_.remove(index);
+      public Builder removeParameters(int index) {
+        ensureParametersIsMutable();
+        parameters_.remove(index);
 
         return this;
       }
 
       private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput> inputs_ =
-                                                                                                                       java.util.Collections
-                                                                                                                         .emptyList();
-
-      private void ensureInputsIsMutable()
-      {
-        if (!((this.bitField0_ & 0x00000008) == 0x00000008)) {
-          this.inputs_ =
-            new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput>(
-              this.inputs_);
-          this.bitField0_ |= 0x00000008;
-        }
+        java.util.Collections.emptyList();
+      private void ensureInputsIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          inputs_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput>(inputs_);
+          bitField0_ |= 0x00000008;
+         }
       }
 
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput inputs = 4;</code>
        */
-      @Override public
-        java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput>
-        getInputsList()
-      {
-        return java.util.Collections.unmodifiableList(this.inputs_);
+      public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput> getInputsList() {
+        return java.util.Collections.unmodifiableList(inputs_);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput inputs = 4;</code>
        */
-      @Override public int getInputsCount()
-      {
-        return this.inputs_.size();
+      public int getInputsCount() {
+        return inputs_.size();
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput inputs = 4;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput
-        getInputs(
-          final int index)
-      {
-        return this.inputs_.get(index);
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput getInputs(int index) {
+        return inputs_.get(index);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput inputs = 4;</code>
        */
-      public
-        Builder
-        setInputs(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput value)
-      {
+      public Builder setInputs(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureInputsIsMutable();
-        this.inputs_.set(index, value);
+        ensureInputsIsMutable();
+        inputs_.set(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput inputs = 4;</code>
        */
-      public
-        Builder
-        setInputs(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput.Builder builderForValue)
-      {
-        this.ensureInputsIsMutable();
-        this.inputs_.set(index, builderForValue.build());
+      public Builder setInputs(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput.Builder builderForValue) {
+        ensureInputsIsMutable();
+        inputs_.set(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput inputs = 4;</code>
        */
-      public
-        Builder
-        addInputs(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput value)
-      {
+      public Builder addInputs(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureInputsIsMutable();
-        this.inputs_.add(value);
+        ensureInputsIsMutable();
+        inputs_.add(value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput inputs = 4;</code>
        */
-      public
-        Builder
-        addInputs(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput value)
-      {
+      public Builder addInputs(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureInputsIsMutable();
-        this.inputs_.add(index, value);
+        ensureInputsIsMutable();
+        inputs_.add(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput inputs = 4;</code>
        */
-      public
-        Builder
-        addInputs(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput.Builder builderForValue)
-      {
-        this.ensureInputsIsMutable();
-        this.inputs_.add(builderForValue.build());
+      public Builder addInputs(
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput.Builder builderForValue) {
+        ensureInputsIsMutable();
+        inputs_.add(builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput inputs = 4;</code>
        */
-      public
-        Builder
-        addInputs(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput.Builder builderForValue)
-      {
-        this.ensureInputsIsMutable();
-        this.inputs_.add(index, builderForValue.build());
+      public Builder addInputs(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput.Builder builderForValue) {
+        ensureInputsIsMutable();
+        inputs_.add(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput inputs = 4;</code>
        */
-      public
-        Builder
-        addAllInputs(
-          final java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput> values)
-      {
-        this.ensureInputsIsMutable();
+      public Builder addAllInputs(
+          java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderInput> values) {
+        ensureInputsIsMutable();
         com.google.protobuf.AbstractMessageLite.Builder.addAll(
-          values,
-          this.inputs_);
+            values, inputs_);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput inputs = 4;</code>
        */
-      public Builder clearInputs()
-      {
-        this.inputs_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000008);
+      public Builder clearInputs() {
+        inputs_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderInput inputs = 4;</code>
        */
-      public Builder removeInputs(
-        final int index)
-      {
-        this.ensureInputsIsMutable();
-        this.inputs_.remove(index);
+      public Builder removeInputs(int index) {
+        ensureInputsIsMutable();
+        inputs_.remove(index);
 
         return this;
       }
 
       private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput> outputs_ =
-                                                                                                                         java.util.Collections
-                                                                                                                           .emptyList();
-
-      private void ensureOutputsIsMutable()
-      {
-        if (!((this.bitField0_ & 0x00000010) == 0x00000010)) {
-          this.outputs_ =
-            new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput>(
-              this.outputs_);
-          this.bitField0_ |= 0x00000010;
-        }
+        java.util.Collections.emptyList();
+      private void ensureOutputsIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          outputs_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput>(outputs_);
+          bitField0_ |= 0x00000010;
+         }
       }
 
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput outputs = 5;</code>
        */
-      @Override public
-        java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput>
-        getOutputsList()
-      {
-        return java.util.Collections.unmodifiableList(this.outputs_);
+      public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput> getOutputsList() {
+        return java.util.Collections.unmodifiableList(outputs_);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput outputs = 5;</code>
        */
-      @Override public int getOutputsCount()
-      {
-        return this.outputs_.size();
+      public int getOutputsCount() {
+        return outputs_.size();
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput outputs = 5;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput
-        getOutputs(
-          final int index)
-      {
-        return this.outputs_.get(index);
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput getOutputs(int index) {
+        return outputs_.get(index);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput outputs = 5;</code>
        */
-      public
-        Builder
-        setOutputs(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput value)
-      {
+      public Builder setOutputs(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureOutputsIsMutable();
-        this.outputs_.set(index, value);
+        ensureOutputsIsMutable();
+        outputs_.set(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput outputs = 5;</code>
        */
-      public
-        Builder
-        setOutputs(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput.Builder builderForValue)
-      {
-        this.ensureOutputsIsMutable();
-        this.outputs_.set(index, builderForValue.build());
+      public Builder setOutputs(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput.Builder builderForValue) {
+        ensureOutputsIsMutable();
+        outputs_.set(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput outputs = 5;</code>
        */
-      public
-        Builder
-        addOutputs(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput value)
-      {
+      public Builder addOutputs(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureOutputsIsMutable();
-        this.outputs_.add(value);
+        ensureOutputsIsMutable();
+        outputs_.add(value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput outputs = 5;</code>
        */
-      public
-        Builder
-        addOutputs(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput value)
-      {
+      public Builder addOutputs(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureOutputsIsMutable();
-        this.outputs_.add(index, value);
+        ensureOutputsIsMutable();
+        outputs_.add(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput outputs = 5;</code>
        */
-      public
-        Builder
-        addOutputs(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput.Builder builderForValue)
-      {
-        this.ensureOutputsIsMutable();
-        this.outputs_.add(builderForValue.build());
+      public Builder addOutputs(
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput.Builder builderForValue) {
+        ensureOutputsIsMutable();
+        outputs_.add(builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput outputs = 5;</code>
        */
-      public
-        Builder
-        addOutputs(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput.Builder builderForValue)
-      {
-        this.ensureOutputsIsMutable();
-        this.outputs_.add(index, builderForValue.build());
+      public Builder addOutputs(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput.Builder builderForValue) {
+        ensureOutputsIsMutable();
+        outputs_.add(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput outputs = 5;</code>
        */
-      public
-        Builder
-        addAllOutputs(
-          final java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput> values)
-      {
-        this.ensureOutputsIsMutable();
+      public Builder addAllOutputs(
+          java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderOutput> values) {
+        ensureOutputsIsMutable();
         com.google.protobuf.AbstractMessageLite.Builder.addAll(
-          values,
-          this.outputs_);
+            values, outputs_);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput outputs = 5;</code>
        */
-      public Builder clearOutputs()
-      {
-        this.outputs_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000010);
+      public Builder clearOutputs() {
+        outputs_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderOutput outputs = 5;</code>
        */
-      public Builder removeOutputs(
-        final int index)
-      {
-        this.ensureOutputsIsMutable();
-        this.outputs_.remove(index);
+      public Builder removeOutputs(int index) {
+        ensureOutputsIsMutable();
+        outputs_.remove(index);
 
         return this;
       }
@@ -11472,601 +8674,402 @@ public final class ProgramMeta
 
     static {
       defaultInstance = new PVertexShaderCommon(true);
-      PVertexShaderCommon.defaultInstance.initFields();
+      defaultInstance.initFields();
     }
 
     // @@protoc_insertion_point(class_scope:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon)
   }
 
   public interface PVertexShaderUncompactedOrBuilder extends
-  // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderUncompacted)
-    com.google.protobuf.MessageLiteOrBuilder
-  {
+      // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderUncompacted)
+      com.google.protobuf.MessageLiteOrBuilder {
 
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon common = 1;</code>
      */
     boolean hasCommon();
-
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon common = 1;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-      getCommon();
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon getCommon();
   }
-
   /**
-   * Protobuf type
-   * {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderUncompacted}
+   * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderUncompacted}
    */
   public static final class PVertexShaderUncompacted extends
-    com.google.protobuf.GeneratedMessageLite implements
-  // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderUncompacted)
-    PVertexShaderUncompactedOrBuilder
-  {
+      com.google.protobuf.GeneratedMessageLite implements
+      // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderUncompacted)
+      PVertexShaderUncompactedOrBuilder {
     // Use PVertexShaderUncompacted.newBuilder() to construct.
-    private PVertexShaderUncompacted(
-      final com.google.protobuf.GeneratedMessageLite.Builder builder)
-    {
+    private PVertexShaderUncompacted(com.google.protobuf.GeneratedMessageLite.Builder builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-
-    private PVertexShaderUncompacted(
-      final boolean noInit)
-    {
-      this.unknownFields = com.google.protobuf.ByteString.EMPTY;
-    }
+    private PVertexShaderUncompacted(boolean noInit) { this.unknownFields = com.google.protobuf.ByteString.EMPTY;}
 
     private static final PVertexShaderUncompacted defaultInstance;
-
-    public static PVertexShaderUncompacted getDefaultInstance()
-    {
-      return PVertexShaderUncompacted.defaultInstance;
+    public static PVertexShaderUncompacted getDefaultInstance() {
+      return defaultInstance;
     }
 
-    @Override public PVertexShaderUncompacted getDefaultInstanceForType()
-    {
-      return PVertexShaderUncompacted.defaultInstance;
+    public PVertexShaderUncompacted getDefaultInstanceForType() {
+      return defaultInstance;
     }
 
     private final com.google.protobuf.ByteString unknownFields;
-
     private PVertexShaderUncompacted(
-      final com.google.protobuf.CodedInputStream input,
-      final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      this.initFields();
-      final int mutable_bitField0_ = 0;
-      final com.google.protobuf.ByteString.Output unknownFieldsOutput =
-        com.google.protobuf.ByteString.newOutput();
-      final com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
-        com.google.protobuf.CodedOutputStream
-          .newInstance(unknownFieldsOutput);
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.ByteString.Output unknownFieldsOutput =
+          com.google.protobuf.ByteString.newOutput();
+      com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
+          com.google.protobuf.CodedOutputStream.newInstance(
+              unknownFieldsOutput);
       try {
         boolean done = false;
         while (!done) {
-          final int tag = input.readTag();
+          int tag = input.readTag();
           switch (tag) {
             case 0:
               done = true;
               break;
-            default:
-            {
-              if (!this.parseUnknownField(
-                input,
-                unknownFieldsCodedOutput,
-                extensionRegistry,
-                tag)) {
+            default: {
+              if (!parseUnknownField(input, unknownFieldsCodedOutput,
+                                     extensionRegistry, tag)) {
                 done = true;
               }
               break;
             }
-            case 10:
-            {
-              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.Builder subBuilder =
-                null;
-              if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = this.common_.toBuilder();
+            case 10: {
+              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = common_.toBuilder();
               }
-              this.common_ =
-                input
-                  .readMessage(
-                    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.PARSER,
-                    extensionRegistry);
+              common_ = input.readMessage(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.PARSER, extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(this.common_);
-                this.common_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom(common_);
+                common_ = subBuilder.buildPartial();
               }
-              this.bitField0_ |= 0x00000001;
+              bitField0_ |= 0x00000001;
               break;
             }
           }
         }
-      } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
         throw e.setUnfinishedMessage(this);
-      } catch (final java.io.IOException e) {
+      } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
-          e.getMessage()).setUnfinishedMessage(this);
+            e.getMessage()).setUnfinishedMessage(this);
       } finally {
         try {
           unknownFieldsCodedOutput.flush();
-        } catch (final java.io.IOException e) {
-          // Should not happen
+        } catch (java.io.IOException e) {
+        // Should not happen
         } finally {
-          this.unknownFields = unknownFieldsOutput.toByteString();
+          unknownFields = unknownFieldsOutput.toByteString();
         }
-        this.makeExtensionsImmutable();
+        makeExtensionsImmutable();
       }
     }
-
     public static com.google.protobuf.Parser<PVertexShaderUncompacted> PARSER =
-                                                                                new com.google.protobuf.AbstractParser<PVertexShaderUncompacted>() {
-                                                                                  @Override public
-                                                                                    PVertexShaderUncompacted
-                                                                                    parsePartialFrom(
-                                                                                      final com.google.protobuf.CodedInputStream input,
-                                                                                      final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                                                                                      throws com.google.protobuf.InvalidProtocolBufferException
-                                                                                  {
-                                                                                    return new PVertexShaderUncompacted(
-                                                                                      input,
-                                                                                      extensionRegistry);
-                                                                                  }
-                                                                                };
-
-    @java.lang.Override public
-      com.google.protobuf.Parser<PVertexShaderUncompacted>
-      getParserForType()
-    {
-      return PVertexShaderUncompacted.PARSER;
-    }
-
-    private int                                                                             bitField0_;
-    public static final int                                                                 COMMON_FIELD_NUMBER =
-                                                                                                                  1;
-    private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon common_;
+        new com.google.protobuf.AbstractParser<PVertexShaderUncompacted>() {
+      public PVertexShaderUncompacted parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PVertexShaderUncompacted(input, extensionRegistry);
+      }
+    };
 
+    @java.lang.Override
+    public com.google.protobuf.Parser<PVertexShaderUncompacted> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int COMMON_FIELD_NUMBER = 1;
+    private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon common_;
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon common = 1;</code>
      */
-    @Override public boolean hasCommon()
-    {
-      return ((this.bitField0_ & 0x00000001) == 0x00000001);
+    public boolean hasCommon() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon common = 1;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-      getCommon()
-    {
-      return this.common_;
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon getCommon() {
+      return common_;
     }
 
-    private void initFields()
-    {
-      this.common_ =
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-          .getDefaultInstance();
+    private void initFields() {
+      common_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.getDefaultInstance();
     }
-
     private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-    @Override public final boolean isInitialized()
-    {
-      final byte isInitialized = this.memoizedIsInitialized;
-      if (isInitialized == 1) {
-        return true;
-      }
-      if (isInitialized == 0) {
-        return false;
-      }
-
-      if (!this.hasCommon()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasCommon()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      if (!this.getCommon().isInitialized()) {
-        this.memoizedIsInitialized = 0;
+      if (!getCommon().isInitialized()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      this.memoizedIsInitialized = 1;
+      memoizedIsInitialized = 1;
       return true;
     }
 
-    @Override public void writeTo(
-      final com.google.protobuf.CodedOutputStream output)
-      throws java.io.IOException
-    {
-      this.getSerializedSize();
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, this.common_);
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, common_);
       }
-      output.writeRawBytes(this.unknownFields);
+      output.writeRawBytes(unknownFields);
     }
 
     private int memoizedSerializedSize = -1;
-
-    @Override public int getSerializedSize()
-    {
-      int size = this.memoizedSerializedSize;
-      if (size != -1) {
-        return size;
-      }
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
 
       size = 0;
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeMessageSize(
-            1,
-            this.common_);
-      }
-      size += this.unknownFields.size();
-      this.memoizedSerializedSize = size;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, common_);
+      }
+      size += unknownFields.size();
+      memoizedSerializedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-
-    @java.lang.Override protected java.lang.Object writeReplace()
-      throws java.io.ObjectStreamException
-    {
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
       return super.writeReplace();
     }
 
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-      parseFrom(
-        final com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderUncompacted.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-      parseFrom(
-        final com.google.protobuf.ByteString data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderUncompacted.PARSER.parseFrom(
-        data,
-        extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-      parseFrom(
-        final byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderUncompacted.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-      parseFrom(
-        final byte[] data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderUncompacted.PARSER.parseFrom(
-        data,
-        extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-      parseFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PVertexShaderUncompacted.PARSER.parseFrom(input);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-      parseFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PVertexShaderUncompacted.PARSER.parseFrom(
-        input,
-        extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-      parseDelimitedFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PVertexShaderUncompacted.PARSER.parseDelimitedFrom(input);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-      parseDelimitedFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PVertexShaderUncompacted.PARSER.parseDelimitedFrom(
-        input,
-        extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException
-    {
-      return PVertexShaderUncompacted.PARSER.parseFrom(input);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PVertexShaderUncompacted.PARSER.parseFrom(
-        input,
-        extensionRegistry);
-    }
-
-    public static Builder newBuilder()
-    {
-      return Builder.create();
-    }
-
-    @Override public Builder newBuilderForType()
-    {
-      return PVertexShaderUncompacted.newBuilder();
-    }
-
-    public static
-      Builder
-      newBuilder(
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted prototype)
-    {
-      return PVertexShaderUncompacted.newBuilder().mergeFrom(prototype);
-    }
-
-    @Override public Builder toBuilder()
-    {
-      return PVertexShaderUncompacted.newBuilder(this);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted prototype) {
+      return newBuilder().mergeFrom(prototype);
     }
+    public Builder toBuilder() { return newBuilder(this); }
 
     /**
-     * Protobuf type
-     * {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderUncompacted}
+     * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderUncompacted}
      */
     public static final class Builder extends
-      com.google.protobuf.GeneratedMessageLite.Builder<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted, Builder> implements
-      // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderUncompacted)
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompactedOrBuilder
-    {
-      // Construct using
-      // com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted.newBuilder()
-      private Builder()
-      {
-        this.maybeForceBuilderInitialization();
+        com.google.protobuf.GeneratedMessageLite.Builder<
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted, Builder>
+        implements
+        // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderUncompacted)
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompactedOrBuilder {
+      // Construct using com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      private void maybeForceBuilderInitialization()
-      {
+      private void maybeForceBuilderInitialization() {
       }
-
-      private static Builder create()
-      {
+      private static Builder create() {
         return new Builder();
       }
 
-      @Override public Builder clear()
-      {
+      public Builder clear() {
         super.clear();
-        this.common_ =
-          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-            .getDefaultInstance();
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
+        common_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.getDefaultInstance();
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
 
-      @Override public Builder clone()
-      {
-        return Builder.create().mergeFrom(this.buildPartial());
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-        getDefaultInstanceForType()
-      {
-        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-          .getDefaultInstance();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted getDefaultInstanceForType() {
+        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted.getDefaultInstance();
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-        build()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted result =
-          this.buildPartial();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted build() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted result = buildPartial();
         if (!result.isInitialized()) {
-          throw com.google.protobuf.AbstractMessageLite.Builder
-            .newUninitializedMessageException(result);
+          throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-        buildPartial()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted result =
-          new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted(
-            this);
-        final int from_bitField0_ = this.bitField0_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted buildPartial() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted result = new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted(this);
+        int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.common_ = this.common_;
+        result.common_ = common_;
         result.bitField0_ = to_bitField0_;
         return result;
       }
 
-      @Override public
-        Builder
-        mergeFrom(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted other)
-      {
-        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-          .getDefaultInstance()) {
-          return this;
-        }
+      public Builder mergeFrom(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted other) {
+        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted.getDefaultInstance()) return this;
         if (other.hasCommon()) {
-          this.mergeCommon(other.getCommon());
+          mergeCommon(other.getCommon());
         }
-        this.setUnknownFields(this.getUnknownFields().concat(
-          other.unknownFields));
+        setUnknownFields(
+            getUnknownFields().concat(other.unknownFields));
         return this;
       }
 
-      @Override public final boolean isInitialized()
-      {
-        if (!this.hasCommon()) {
-
+      public final boolean isInitialized() {
+        if (!hasCommon()) {
+          
           return false;
         }
-        if (!this.getCommon().isInitialized()) {
-
+        if (!getCommon().isInitialized()) {
+          
           return false;
         }
         return true;
       }
 
-      @Override public Builder mergeFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-      {
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted parsedMessage =
-          null;
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted parsedMessage = null;
         try {
-          parsedMessage =
-            PVertexShaderUncompacted.PARSER.parsePartialFrom(
-              input,
-              extensionRegistry);
-        } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage =
-            (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted) e
-              .getUnfinishedMessage();
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
-            this.mergeFrom(parsedMessage);
+            mergeFrom(parsedMessage);
           }
         }
         return this;
       }
+      private int bitField0_;
 
-      private int                                                                             bitField0_;
-
-      private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon common_ =
-                                                                                                        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-                                                                                                          .getDefaultInstance();
-
+      private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon common_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.getDefaultInstance();
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon common = 1;</code>
        */
-      @Override public boolean hasCommon()
-      {
-        return ((this.bitField0_ & 0x00000001) == 0x00000001);
+      public boolean hasCommon() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon common = 1;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-        getCommon()
-      {
-        return this.common_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon getCommon() {
+        return common_;
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon common = 1;</code>
        */
-      public
-        Builder
-        setCommon(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon value)
-      {
+      public Builder setCommon(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.common_ = value;
+        common_ = value;
 
-        this.bitField0_ |= 0x00000001;
+        bitField0_ |= 0x00000001;
         return this;
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon common = 1;</code>
        */
-      public
-        Builder
-        setCommon(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.Builder builderForValue)
-      {
-        this.common_ = builderForValue.build();
+      public Builder setCommon(
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.Builder builderForValue) {
+        common_ = builderForValue.build();
 
-        this.bitField0_ |= 0x00000001;
+        bitField0_ |= 0x00000001;
         return this;
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon common = 1;</code>
        */
-      public
-        Builder
-        mergeCommon(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon value)
-      {
-        if (((this.bitField0_ & 0x00000001) == 0x00000001)
-          && (this.common_ != com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-            .getDefaultInstance())) {
-          this.common_ =
-            com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-              .newBuilder(this.common_)
-              .mergeFrom(value)
-              .buildPartial();
+      public Builder mergeCommon(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon value) {
+        if (((bitField0_ & 0x00000001) == 0x00000001) &&
+            common_ != com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.getDefaultInstance()) {
+          common_ =
+            com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.newBuilder(common_).mergeFrom(value).buildPartial();
         } else {
-          this.common_ = value;
+          common_ = value;
         }
 
-        this.bitField0_ |= 0x00000001;
+        bitField0_ |= 0x00000001;
         return this;
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon common = 1;</code>
        */
-      public Builder clearCommon()
-      {
-        this.common_ =
-          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-            .getDefaultInstance();
+      public Builder clearCommon() {
+        common_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.getDefaultInstance();
 
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
 
@@ -12075,902 +9078,712 @@ public final class ProgramMeta
 
     static {
       defaultInstance = new PVertexShaderUncompacted(true);
-      PVertexShaderUncompacted.defaultInstance.initFields();
+      defaultInstance.initFields();
     }
 
     // @@protoc_insertion_point(class_scope:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderUncompacted)
   }
 
   public interface PVertexShaderCompactedOrBuilder extends
-  // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCompacted)
-    com.google.protobuf.MessageLiteOrBuilder
-  {
+      // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCompacted)
+      com.google.protobuf.MessageLiteOrBuilder {
 
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon common = 1;</code>
      */
     boolean hasCommon();
-
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon common = 1;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-      getCommon();
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon getCommon();
 
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
      */
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash>
-      getHashesList();
-
+    java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash> 
+        getHashesList();
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash
-      getHashes(
-        int index);
-
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash getHashes(int index);
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
      */
     int getHashesCount();
-  }
 
+    /**
+     * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PHashAlgorithm hash_algorithm = 3;</code>
+     */
+    boolean hasHashAlgorithm();
+    /**
+     * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PHashAlgorithm hash_algorithm = 3;</code>
+     */
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm getHashAlgorithm();
+  }
   /**
-   * Protobuf type
-   * {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCompacted}
+   * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCompacted}
    */
   public static final class PVertexShaderCompacted extends
-    com.google.protobuf.GeneratedMessageLite implements
-  // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCompacted)
-    PVertexShaderCompactedOrBuilder
-  {
+      com.google.protobuf.GeneratedMessageLite implements
+      // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCompacted)
+      PVertexShaderCompactedOrBuilder {
     // Use PVertexShaderCompacted.newBuilder() to construct.
-    private PVertexShaderCompacted(
-      final com.google.protobuf.GeneratedMessageLite.Builder builder)
-    {
+    private PVertexShaderCompacted(com.google.protobuf.GeneratedMessageLite.Builder builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-
-    private PVertexShaderCompacted(
-      final boolean noInit)
-    {
-      this.unknownFields = com.google.protobuf.ByteString.EMPTY;
-    }
+    private PVertexShaderCompacted(boolean noInit) { this.unknownFields = com.google.protobuf.ByteString.EMPTY;}
 
     private static final PVertexShaderCompacted defaultInstance;
-
-    public static PVertexShaderCompacted getDefaultInstance()
-    {
-      return PVertexShaderCompacted.defaultInstance;
+    public static PVertexShaderCompacted getDefaultInstance() {
+      return defaultInstance;
     }
 
-    @Override public PVertexShaderCompacted getDefaultInstanceForType()
-    {
-      return PVertexShaderCompacted.defaultInstance;
+    public PVertexShaderCompacted getDefaultInstanceForType() {
+      return defaultInstance;
     }
 
     private final com.google.protobuf.ByteString unknownFields;
-
     private PVertexShaderCompacted(
-      final com.google.protobuf.CodedInputStream input,
-      final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      this.initFields();
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
       int mutable_bitField0_ = 0;
-      final com.google.protobuf.ByteString.Output unknownFieldsOutput =
-        com.google.protobuf.ByteString.newOutput();
-      final com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
-        com.google.protobuf.CodedOutputStream
-          .newInstance(unknownFieldsOutput);
+      com.google.protobuf.ByteString.Output unknownFieldsOutput =
+          com.google.protobuf.ByteString.newOutput();
+      com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
+          com.google.protobuf.CodedOutputStream.newInstance(
+              unknownFieldsOutput);
       try {
         boolean done = false;
         while (!done) {
-          final int tag = input.readTag();
+          int tag = input.readTag();
           switch (tag) {
             case 0:
               done = true;
               break;
-            default:
-            {
-              if (!this.parseUnknownField(
-                input,
-                unknownFieldsCodedOutput,
-                extensionRegistry,
-                tag)) {
+            default: {
+              if (!parseUnknownField(input, unknownFieldsCodedOutput,
+                                     extensionRegistry, tag)) {
                 done = true;
               }
               break;
             }
-            case 10:
-            {
-              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.Builder subBuilder =
-                null;
-              if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = this.common_.toBuilder();
+            case 10: {
+              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = common_.toBuilder();
               }
-              this.common_ =
-                input
-                  .readMessage(
-                    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.PARSER,
-                    extensionRegistry);
+              common_ = input.readMessage(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.PARSER, extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(this.common_);
-                this.common_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom(common_);
+                common_ = subBuilder.buildPartial();
               }
-              this.bitField0_ |= 0x00000001;
+              bitField0_ |= 0x00000001;
               break;
             }
-            case 18:
-            {
+            case 18: {
               if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-                this.hashes_ =
-                  new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash>();
+                hashes_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash>();
                 mutable_bitField0_ |= 0x00000002;
               }
-              this.hashes_
-                .add(input
-                  .readMessage(
-                    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash.PARSER,
-                    extensionRegistry));
+              hashes_.add(input.readMessage(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash.PARSER, extensionRegistry));
+              break;
+            }
+            case 24: {
+              int rawValue = input.readEnum();
+              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm value = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm.valueOf(rawValue);
+              if (value == null) {
+                unknownFieldsCodedOutput.writeRawVarint32(tag);
+                unknownFieldsCodedOutput.writeRawVarint32(rawValue);
+              } else {
+                bitField0_ |= 0x00000002;
+                hashAlgorithm_ = value;
+              }
               break;
             }
           }
         }
-      } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
         throw e.setUnfinishedMessage(this);
-      } catch (final java.io.IOException e) {
+      } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
-          e.getMessage()).setUnfinishedMessage(this);
+            e.getMessage()).setUnfinishedMessage(this);
       } finally {
         if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-          this.hashes_ = java.util.Collections.unmodifiableList(this.hashes_);
+          hashes_ = java.util.Collections.unmodifiableList(hashes_);
         }
         try {
           unknownFieldsCodedOutput.flush();
-        } catch (final java.io.IOException e) {
-          // Should not happen
+        } catch (java.io.IOException e) {
+        // Should not happen
         } finally {
-          this.unknownFields = unknownFieldsOutput.toByteString();
+          unknownFields = unknownFieldsOutput.toByteString();
         }
-        this.makeExtensionsImmutable();
+        makeExtensionsImmutable();
       }
     }
-
     public static com.google.protobuf.Parser<PVertexShaderCompacted> PARSER =
-                                                                              new com.google.protobuf.AbstractParser<PVertexShaderCompacted>() {
-                                                                                @Override public
-                                                                                  PVertexShaderCompacted
-                                                                                  parsePartialFrom(
-                                                                                    final com.google.protobuf.CodedInputStream input,
-                                                                                    final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                                                                                    throws com.google.protobuf.InvalidProtocolBufferException
-                                                                                {
-                                                                                  return new PVertexShaderCompacted(
-                                                                                    input,
-                                                                                    extensionRegistry);
-                                                                                }
-                                                                              };
-
-    @java.lang.Override public
-      com.google.protobuf.Parser<PVertexShaderCompacted>
-      getParserForType()
-    {
-      return PVertexShaderCompacted.PARSER;
-    }
-
-    private int                                                                             bitField0_;
-    public static final int                                                                 COMMON_FIELD_NUMBER =
-                                                                                                                  1;
-    private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon common_;
+        new com.google.protobuf.AbstractParser<PVertexShaderCompacted>() {
+      public PVertexShaderCompacted parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PVertexShaderCompacted(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PVertexShaderCompacted> getParserForType() {
+      return PARSER;
+    }
 
+    private int bitField0_;
+    public static final int COMMON_FIELD_NUMBER = 1;
+    private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon common_;
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon common = 1;</code>
      */
-    @Override public boolean hasCommon()
-    {
-      return ((this.bitField0_ & 0x00000001) == 0x00000001);
+    public boolean hasCommon() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-
     /**
      * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon common = 1;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-      getCommon()
-    {
-      return this.common_;
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon getCommon() {
+      return common_;
     }
 
-    public static final int                                                                          HASHES_FIELD_NUMBER =
-                                                                                                                           2;
+    public static final int HASHES_FIELD_NUMBER = 2;
     private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash> hashes_;
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
      */
-    @Override public
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash>
-      getHashesList()
-    {
-      return this.hashes_;
+    public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash> getHashesList() {
+      return hashes_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
      */
-    public
-      java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHashOrBuilder>
-      getHashesOrBuilderList()
-    {
-      return this.hashes_;
+    public java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHashOrBuilder> 
+        getHashesOrBuilderList() {
+      return hashes_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
      */
-    @Override public int getHashesCount()
-    {
-      return this.hashes_.size();
+    public int getHashesCount() {
+      return hashes_.size();
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash
-      getHashes(
-        final int index)
-    {
-      return this.hashes_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash getHashes(int index) {
+      return hashes_.get(index);
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
      */
-    public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHashOrBuilder
-      getHashesOrBuilder(
-        final int index)
-    {
-      return this.hashes_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHashOrBuilder getHashesOrBuilder(
+        int index) {
+      return hashes_.get(index);
     }
 
-    private void initFields()
-    {
-      this.common_ =
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-          .getDefaultInstance();
-      this.hashes_ = java.util.Collections.emptyList();
+    public static final int HASH_ALGORITHM_FIELD_NUMBER = 3;
+    private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm hashAlgorithm_;
+    /**
+     * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PHashAlgorithm hash_algorithm = 3;</code>
+     */
+    public boolean hasHashAlgorithm() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PHashAlgorithm hash_algorithm = 3;</code>
+     */
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm getHashAlgorithm() {
+      return hashAlgorithm_;
     }
 
+    private void initFields() {
+      common_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.getDefaultInstance();
+      hashes_ = java.util.Collections.emptyList();
+      hashAlgorithm_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm.PHASH_SHA_256;
+    }
     private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-    @Override public final boolean isInitialized()
-    {
-      final byte isInitialized = this.memoizedIsInitialized;
-      if (isInitialized == 1) {
-        return true;
-      }
-      if (isInitialized == 0) {
-        return false;
-      }
-
-      if (!this.hasCommon()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasCommon()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      if (!this.getCommon().isInitialized()) {
-        this.memoizedIsInitialized = 0;
+      if (!getCommon().isInitialized()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      for (int i = 0; i < this.getHashesCount(); i++) {
-        if (!this.getHashes(i).isInitialized()) {
-          this.memoizedIsInitialized = 0;
+      for (int i = 0; i < getHashesCount(); i++) {
+        if (!getHashes(i).isInitialized()) {
+          memoizedIsInitialized = 0;
           return false;
         }
       }
-      this.memoizedIsInitialized = 1;
+      memoizedIsInitialized = 1;
       return true;
     }
 
-    @Override public void writeTo(
-      final com.google.protobuf.CodedOutputStream output)
-      throws java.io.IOException
-    {
-      this.getSerializedSize();
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, this.common_);
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, common_);
+      }
+      for (int i = 0; i < hashes_.size(); i++) {
+        output.writeMessage(2, hashes_.get(i));
       }
-      for (int i = 0; i < this.hashes_.size(); i++) {
-        output.writeMessage(2, this.hashes_.get(i));
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeEnum(3, hashAlgorithm_.getNumber());
       }
-      output.writeRawBytes(this.unknownFields);
+      output.writeRawBytes(unknownFields);
     }
 
     private int memoizedSerializedSize = -1;
-
-    @Override public int getSerializedSize()
-    {
-      int size = this.memoizedSerializedSize;
-      if (size != -1) {
-        return size;
-      }
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
 
       size = 0;
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeMessageSize(
-            1,
-            this.common_);
-      }
-      for (int i = 0; i < this.hashes_.size(); i++) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeMessageSize(
-            2,
-            this.hashes_.get(i));
-      }
-      size += this.unknownFields.size();
-      this.memoizedSerializedSize = size;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, common_);
+      }
+      for (int i = 0; i < hashes_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, hashes_.get(i));
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(3, hashAlgorithm_.getNumber());
+      }
+      size += unknownFields.size();
+      memoizedSerializedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-
-    @java.lang.Override protected java.lang.Object writeReplace()
-      throws java.io.ObjectStreamException
-    {
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
       return super.writeReplace();
     }
 
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-      parseFrom(
-        final com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderCompacted.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-      parseFrom(
-        final com.google.protobuf.ByteString data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderCompacted.PARSER.parseFrom(data, extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-      parseFrom(
-        final byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderCompacted.PARSER.parseFrom(data);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-      parseFrom(
-        final byte[] data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PVertexShaderCompacted.PARSER.parseFrom(data, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-      parseFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PVertexShaderCompacted.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-      parseFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PVertexShaderCompacted.PARSER
-        .parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-      parseDelimitedFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PVertexShaderCompacted.PARSER.parseDelimitedFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-      parseDelimitedFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PVertexShaderCompacted.PARSER.parseDelimitedFrom(
-        input,
-        extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException
-    {
-      return PVertexShaderCompacted.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PVertexShaderCompacted.PARSER
-        .parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-
-    public static Builder newBuilder()
-    {
-      return Builder.create();
-    }
-
-    @Override public Builder newBuilderForType()
-    {
-      return PVertexShaderCompacted.newBuilder();
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      Builder
-      newBuilder(
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted prototype)
-    {
-      return PVertexShaderCompacted.newBuilder().mergeFrom(prototype);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
 
-    @Override public Builder toBuilder()
-    {
-      return PVertexShaderCompacted.newBuilder(this);
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted prototype) {
+      return newBuilder().mergeFrom(prototype);
     }
+    public Builder toBuilder() { return newBuilder(this); }
 
     /**
-     * Protobuf type
-     * {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCompacted}
+     * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCompacted}
      */
     public static final class Builder extends
-      com.google.protobuf.GeneratedMessageLite.Builder<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted, Builder> implements
-      // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCompacted)
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompactedOrBuilder
-    {
-      // Construct using
-      // com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted.newBuilder()
-      private Builder()
-      {
-        this.maybeForceBuilderInitialization();
+        com.google.protobuf.GeneratedMessageLite.Builder<
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted, Builder>
+        implements
+        // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCompacted)
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompactedOrBuilder {
+      // Construct using com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      private void maybeForceBuilderInitialization()
-      {
+      private void maybeForceBuilderInitialization() {
       }
-
-      private static Builder create()
-      {
+      private static Builder create() {
         return new Builder();
       }
 
-      @Override public Builder clear()
-      {
+      public Builder clear() {
         super.clear();
-        this.common_ =
-          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-            .getDefaultInstance();
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.hashes_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
+        common_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.getDefaultInstance();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        hashes_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        hashAlgorithm_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm.PHASH_SHA_256;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
-      @Override public Builder clone()
-      {
-        return Builder.create().mergeFrom(this.buildPartial());
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-        getDefaultInstanceForType()
-      {
-        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-          .getDefaultInstance();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted getDefaultInstanceForType() {
+        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted.getDefaultInstance();
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-        build()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted result =
-          this.buildPartial();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted build() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted result = buildPartial();
         if (!result.isInitialized()) {
-          throw com.google.protobuf.AbstractMessageLite.Builder
-            .newUninitializedMessageException(result);
+          throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-        buildPartial()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted result =
-          new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted(
-            this);
-        final int from_bitField0_ = this.bitField0_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted buildPartial() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted result = new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted(this);
+        int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.common_ = this.common_;
-        if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-          this.hashes_ = java.util.Collections.unmodifiableList(this.hashes_);
-          this.bitField0_ = (this.bitField0_ & ~0x00000002);
+        result.common_ = common_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          hashes_ = java.util.Collections.unmodifiableList(hashes_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.hashes_ = hashes_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000002;
         }
-        result.hashes_ = this.hashes_;
+        result.hashAlgorithm_ = hashAlgorithm_;
         result.bitField0_ = to_bitField0_;
         return result;
       }
 
-      @Override public
-        Builder
-        mergeFrom(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted other)
-      {
-        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-          .getDefaultInstance()) {
-          return this;
-        }
+      public Builder mergeFrom(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted other) {
+        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted.getDefaultInstance()) return this;
         if (other.hasCommon()) {
-          this.mergeCommon(other.getCommon());
+          mergeCommon(other.getCommon());
         }
         if (!other.hashes_.isEmpty()) {
-          if (this.hashes_.isEmpty()) {
-            this.hashes_ = other.hashes_;
-            this.bitField0_ = (this.bitField0_ & ~0x00000002);
+          if (hashes_.isEmpty()) {
+            hashes_ = other.hashes_;
+            bitField0_ = (bitField0_ & ~0x00000002);
           } else {
-            this.ensureHashesIsMutable();
-            this.hashes_.addAll(other.hashes_);
+            ensureHashesIsMutable();
+            hashes_.addAll(other.hashes_);
           }
-
+          
+        }
+        if (other.hasHashAlgorithm()) {
+          setHashAlgorithm(other.getHashAlgorithm());
         }
-        this.setUnknownFields(this.getUnknownFields().concat(
-          other.unknownFields));
+        setUnknownFields(
+            getUnknownFields().concat(other.unknownFields));
         return this;
       }
 
-      @Override public final boolean isInitialized()
-      {
-        if (!this.hasCommon()) {
-
+      public final boolean isInitialized() {
+        if (!hasCommon()) {
+          
           return false;
         }
-        if (!this.getCommon().isInitialized()) {
-
+        if (!getCommon().isInitialized()) {
+          
           return false;
         }
-        for (int i = 0; i < this.getHashesCount(); i++) {
-          if (!this.getHashes(i).isInitialized()) {
-
+        for (int i = 0; i < getHashesCount(); i++) {
+          if (!getHashes(i).isInitialized()) {
+            
             return false;
           }
         }
         return true;
       }
 
-      @Override public Builder mergeFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-      {
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted parsedMessage =
-          null;
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted parsedMessage = null;
         try {
-          parsedMessage =
-            PVertexShaderCompacted.PARSER.parsePartialFrom(
-              input,
-              extensionRegistry);
-        } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage =
-            (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted) e
-              .getUnfinishedMessage();
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
-            this.mergeFrom(parsedMessage);
+            mergeFrom(parsedMessage);
           }
         }
         return this;
       }
+      private int bitField0_;
 
-      private int                                                                             bitField0_;
-
-      private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon common_ =
-                                                                                                        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-                                                                                                          .getDefaultInstance();
-
+      private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon common_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.getDefaultInstance();
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon common = 1;</code>
        */
-      @Override public boolean hasCommon()
-      {
-        return ((this.bitField0_ & 0x00000001) == 0x00000001);
+      public boolean hasCommon() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon common = 1;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-        getCommon()
-      {
-        return this.common_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon getCommon() {
+        return common_;
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon common = 1;</code>
        */
-      public
-        Builder
-        setCommon(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon value)
-      {
+      public Builder setCommon(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.common_ = value;
+        common_ = value;
 
-        this.bitField0_ |= 0x00000001;
+        bitField0_ |= 0x00000001;
         return this;
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon common = 1;</code>
        */
-      public
-        Builder
-        setCommon(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.Builder builderForValue)
-      {
-        this.common_ = builderForValue.build();
+      public Builder setCommon(
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.Builder builderForValue) {
+        common_ = builderForValue.build();
 
-        this.bitField0_ |= 0x00000001;
+        bitField0_ |= 0x00000001;
         return this;
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon common = 1;</code>
        */
-      public
-        Builder
-        mergeCommon(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon value)
-      {
-        if (((this.bitField0_ & 0x00000001) == 0x00000001)
-          && (this.common_ != com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-            .getDefaultInstance())) {
-          this.common_ =
-            com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-              .newBuilder(this.common_)
-              .mergeFrom(value)
-              .buildPartial();
+      public Builder mergeCommon(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon value) {
+        if (((bitField0_ & 0x00000001) == 0x00000001) &&
+            common_ != com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.getDefaultInstance()) {
+          common_ =
+            com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.newBuilder(common_).mergeFrom(value).buildPartial();
         } else {
-          this.common_ = value;
+          common_ = value;
         }
 
-        this.bitField0_ |= 0x00000001;
+        bitField0_ |= 0x00000001;
         return this;
       }
-
       /**
        * <code>required .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCommon common = 1;</code>
        */
-      public Builder clearCommon()
-      {
-        this.common_ =
-          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon
-            .getDefaultInstance();
+      public Builder clearCommon() {
+        common_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCommon.getDefaultInstance();
 
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
 
       private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash> hashes_ =
-                                                                                                                 java.util.Collections
-                                                                                                                   .emptyList();
-
-      private void ensureHashesIsMutable()
-      {
-        if (!((this.bitField0_ & 0x00000002) == 0x00000002)) {
-          this.hashes_ =
-            new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash>(
-              this.hashes_);
-          this.bitField0_ |= 0x00000002;
-        }
+        java.util.Collections.emptyList();
+      private void ensureHashesIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          hashes_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash>(hashes_);
+          bitField0_ |= 0x00000002;
+         }
       }
 
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      @Override public
-        java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash>
-        getHashesList()
-      {
-        return java.util.Collections.unmodifiableList(this.hashes_);
+      public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash> getHashesList() {
+        return java.util.Collections.unmodifiableList(hashes_);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      @Override public int getHashesCount()
-      {
-        return this.hashes_.size();
+      public int getHashesCount() {
+        return hashes_.size();
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash
-        getHashes(
-          final int index)
-      {
-        return this.hashes_.get(index);
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash getHashes(int index) {
+        return hashes_.get(index);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      public
-        Builder
-        setHashes(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash value)
-      {
+      public Builder setHashes(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureHashesIsMutable();
-        this.hashes_.set(index, value);
+        ensureHashesIsMutable();
+        hashes_.set(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      public
-        Builder
-        setHashes(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash.Builder builderForValue)
-      {
-        this.ensureHashesIsMutable();
-        this.hashes_.set(index, builderForValue.build());
+      public Builder setHashes(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash.Builder builderForValue) {
+        ensureHashesIsMutable();
+        hashes_.set(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      public
-        Builder
-        addHashes(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash value)
-      {
+      public Builder addHashes(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureHashesIsMutable();
-        this.hashes_.add(value);
+        ensureHashesIsMutable();
+        hashes_.add(value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      public
-        Builder
-        addHashes(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash value)
-      {
+      public Builder addHashes(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureHashesIsMutable();
-        this.hashes_.add(index, value);
+        ensureHashesIsMutable();
+        hashes_.add(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      public
-        Builder
-        addHashes(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash.Builder builderForValue)
-      {
-        this.ensureHashesIsMutable();
-        this.hashes_.add(builderForValue.build());
+      public Builder addHashes(
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash.Builder builderForValue) {
+        ensureHashesIsMutable();
+        hashes_.add(builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      public
-        Builder
-        addHashes(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash.Builder builderForValue)
-      {
-        this.ensureHashesIsMutable();
-        this.hashes_.add(index, builderForValue.build());
+      public Builder addHashes(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash.Builder builderForValue) {
+        ensureHashesIsMutable();
+        hashes_.add(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      public
-        Builder
-        addAllHashes(
-          final java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash> values)
-      {
-        this.ensureHashesIsMutable();
+      public Builder addAllHashes(
+          java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVersionHash> values) {
+        ensureHashesIsMutable();
         com.google.protobuf.AbstractMessageLite.Builder.addAll(
-          values,
-          this.hashes_);
+            values, hashes_);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      public Builder clearHashes()
-      {
-        this.hashes_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
+      public Builder clearHashes() {
+        hashes_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PVersionHash hashes = 2;</code>
        */
-      public Builder removeHashes(
-        final int index)
-      {
-        this.ensureHashesIsMutable();
-        this.hashes_.remove(index);
+      public Builder removeHashes(int index) {
+        ensureHashesIsMutable();
+        hashes_.remove(index);
+
+        return this;
+      }
 
+      private com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm hashAlgorithm_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm.PHASH_SHA_256;
+      /**
+       * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PHashAlgorithm hash_algorithm = 3;</code>
+       */
+      public boolean hasHashAlgorithm() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PHashAlgorithm hash_algorithm = 3;</code>
+       */
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm getHashAlgorithm() {
+        return hashAlgorithm_;
+      }
+      /**
+       * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PHashAlgorithm hash_algorithm = 3;</code>
+       */
+      public Builder setHashAlgorithm(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000004;
+        hashAlgorithm_ = value;
+        
+        return this;
+      }
+      /**
+       * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PHashAlgorithm hash_algorithm = 3;</code>
+       */
+      public Builder clearHashAlgorithm() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        hashAlgorithm_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PHashAlgorithm.PHASH_SHA_256;
+        
         return this;
       }
 
@@ -12979,45 +9792,39 @@ public final class ProgramMeta
 
     static {
       defaultInstance = new PVertexShaderCompacted(true);
-      PVertexShaderCompacted.defaultInstance.initFields();
+      defaultInstance.initFields();
     }
 
     // @@protoc_insertion_point(class_scope:com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCompacted)
   }
 
   public interface PProgramShaderOrBuilder extends
-  // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PProgramShader)
-    com.google.protobuf.MessageLiteOrBuilder
-  {
+      // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.PProgramShader)
+      com.google.protobuf.MessageLiteOrBuilder {
 
     /**
      * <code>required string program_name = 1;</code>
      */
     boolean hasProgramName();
-
     /**
      * <code>required string program_name = 1;</code>
      */
     java.lang.String getProgramName();
-
     /**
      * <code>required string program_name = 1;</code>
      */
-    com.google.protobuf.ByteString getProgramNameBytes();
+    com.google.protobuf.ByteString
+        getProgramNameBytes();
 
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion>
-      getSupportsList();
-
+    java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion> 
+        getSupportsList();
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-      getSupports(
-        int index);
-
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion getSupports(int index);
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
@@ -13026,1262 +9833,966 @@ public final class ProgramMeta
     /**
      * <code>repeated string vertex_shaders = 3;</code>
      */
-    com.google.protobuf.ProtocolStringList getVertexShadersList();
-
+    com.google.protobuf.ProtocolStringList
+        getVertexShadersList();
     /**
      * <code>repeated string vertex_shaders = 3;</code>
      */
     int getVertexShadersCount();
-
     /**
      * <code>repeated string vertex_shaders = 3;</code>
      */
-    java.lang.String getVertexShaders(
-      int index);
-
+    java.lang.String getVertexShaders(int index);
     /**
      * <code>repeated string vertex_shaders = 3;</code>
      */
-    com.google.protobuf.ByteString getVertexShadersBytes(
-      int index);
+    com.google.protobuf.ByteString
+        getVertexShadersBytes(int index);
 
     /**
      * <code>required string fragment_shader = 4;</code>
      */
     boolean hasFragmentShader();
-
     /**
      * <code>required string fragment_shader = 4;</code>
      */
     java.lang.String getFragmentShader();
-
     /**
      * <code>required string fragment_shader = 4;</code>
      */
-    com.google.protobuf.ByteString getFragmentShaderBytes();
+    com.google.protobuf.ByteString
+        getFragmentShaderBytes();
   }
-
   /**
-   * Protobuf type
-   * {@code com.io7m.jparasol.metaserializer.protobuf.types.PProgramShader}
+   * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PProgramShader}
    */
   public static final class PProgramShader extends
-    com.google.protobuf.GeneratedMessageLite implements
-  // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PProgramShader)
-    PProgramShaderOrBuilder
-  {
+      com.google.protobuf.GeneratedMessageLite implements
+      // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.PProgramShader)
+      PProgramShaderOrBuilder {
     // Use PProgramShader.newBuilder() to construct.
-    private PProgramShader(
-      final com.google.protobuf.GeneratedMessageLite.Builder builder)
-    {
+    private PProgramShader(com.google.protobuf.GeneratedMessageLite.Builder builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-
-    private PProgramShader(
-      final boolean noInit)
-    {
-      this.unknownFields = com.google.protobuf.ByteString.EMPTY;
-    }
+    private PProgramShader(boolean noInit) { this.unknownFields = com.google.protobuf.ByteString.EMPTY;}
 
     private static final PProgramShader defaultInstance;
-
-    public static PProgramShader getDefaultInstance()
-    {
-      return PProgramShader.defaultInstance;
+    public static PProgramShader getDefaultInstance() {
+      return defaultInstance;
     }
 
-    @Override public PProgramShader getDefaultInstanceForType()
-    {
-      return PProgramShader.defaultInstance;
+    public PProgramShader getDefaultInstanceForType() {
+      return defaultInstance;
     }
 
     private final com.google.protobuf.ByteString unknownFields;
-
     private PProgramShader(
-      final com.google.protobuf.CodedInputStream input,
-      final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      this.initFields();
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
       int mutable_bitField0_ = 0;
-      final com.google.protobuf.ByteString.Output unknownFieldsOutput =
-        com.google.protobuf.ByteString.newOutput();
-      final com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
-        com.google.protobuf.CodedOutputStream
-          .newInstance(unknownFieldsOutput);
+      com.google.protobuf.ByteString.Output unknownFieldsOutput =
+          com.google.protobuf.ByteString.newOutput();
+      com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
+          com.google.protobuf.CodedOutputStream.newInstance(
+              unknownFieldsOutput);
       try {
         boolean done = false;
         while (!done) {
-          final int tag = input.readTag();
+          int tag = input.readTag();
           switch (tag) {
             case 0:
               done = true;
               break;
-            default:
-            {
-              if (!this.parseUnknownField(
-                input,
-                unknownFieldsCodedOutput,
-                extensionRegistry,
-                tag)) {
+            default: {
+              if (!parseUnknownField(input, unknownFieldsCodedOutput,
+                                     extensionRegistry, tag)) {
                 done = true;
               }
               break;
             }
-            case 10:
-            {
-              final com.google.protobuf.ByteString bs = input.readBytes();
-              this.bitField0_ |= 0x00000001;
-              this.programName_ = bs;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              programName_ = bs;
               break;
             }
-            case 18:
-            {
+            case 18: {
               if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-                this.supports_ =
-                  new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion>();
+                supports_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion>();
                 mutable_bitField0_ |= 0x00000002;
               }
-              this.supports_
-                .add(input
-                  .readMessage(
-                    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.PARSER,
-                    extensionRegistry));
+              supports_.add(input.readMessage(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.PARSER, extensionRegistry));
               break;
             }
-            case 26:
-            {
-              final com.google.protobuf.ByteString bs = input.readBytes();
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
-                this.vertexShaders_ =
-                  new com.google.protobuf.LazyStringArrayList();
+                vertexShaders_ = new com.google.protobuf.LazyStringArrayList();
                 mutable_bitField0_ |= 0x00000004;
               }
-              this.vertexShaders_.add(bs);
+              vertexShaders_.add(bs);
               break;
             }
-            case 34:
-            {
-              final com.google.protobuf.ByteString bs = input.readBytes();
-              this.bitField0_ |= 0x00000002;
-              this.fragmentShader_ = bs;
+            case 34: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              fragmentShader_ = bs;
               break;
             }
           }
         }
-      } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
         throw e.setUnfinishedMessage(this);
-      } catch (final java.io.IOException e) {
+      } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
-          e.getMessage()).setUnfinishedMessage(this);
+            e.getMessage()).setUnfinishedMessage(this);
       } finally {
         if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-          this.supports_ =
-            java.util.Collections.unmodifiableList(this.supports_);
+          supports_ = java.util.Collections.unmodifiableList(supports_);
         }
         if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
-          this.vertexShaders_ = this.vertexShaders_.getUnmodifiableView();
+          vertexShaders_ = vertexShaders_.getUnmodifiableView();
         }
         try {
           unknownFieldsCodedOutput.flush();
-        } catch (final java.io.IOException e) {
-          // Should not happen
+        } catch (java.io.IOException e) {
+        // Should not happen
         } finally {
-          this.unknownFields = unknownFieldsOutput.toByteString();
+          unknownFields = unknownFieldsOutput.toByteString();
         }
-        this.makeExtensionsImmutable();
+        makeExtensionsImmutable();
       }
     }
-
     public static com.google.protobuf.Parser<PProgramShader> PARSER =
-                                                                      new com.google.protobuf.AbstractParser<PProgramShader>() {
-                                                                        @Override public
-                                                                          PProgramShader
-                                                                          parsePartialFrom(
-                                                                            final com.google.protobuf.CodedInputStream input,
-                                                                            final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                                                                            throws com.google.protobuf.InvalidProtocolBufferException
-                                                                        {
-                                                                          return new PProgramShader(
-                                                                            input,
-                                                                            extensionRegistry);
-                                                                        }
-                                                                      };
-
-    @java.lang.Override public
-      com.google.protobuf.Parser<PProgramShader>
-      getParserForType()
-    {
-      return PProgramShader.PARSER;
-    }
-
-    private int              bitField0_;
-    public static final int  PROGRAM_NAME_FIELD_NUMBER = 1;
-    private java.lang.Object programName_;
+        new com.google.protobuf.AbstractParser<PProgramShader>() {
+      public PProgramShader parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PProgramShader(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PProgramShader> getParserForType() {
+      return PARSER;
+    }
 
+    private int bitField0_;
+    public static final int PROGRAM_NAME_FIELD_NUMBER = 1;
+    private java.lang.Object programName_;
     /**
      * <code>required string program_name = 1;</code>
      */
-    @Override public boolean hasProgramName()
-    {
-      return ((this.bitField0_ & 0x00000001) == 0x00000001);
+    public boolean hasProgramName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-
     /**
      * <code>required string program_name = 1;</code>
      */
-    @Override public java.lang.String getProgramName()
-    {
-      final java.lang.Object ref = this.programName_;
+    public java.lang.String getProgramName() {
+      java.lang.Object ref = programName_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          programName_ = s;
+        }
+        return s;
       }
-      final com.google.protobuf.ByteString bs =
-        (com.google.protobuf.ByteString) ref;
-      final java.lang.String s = bs.toStringUtf8();
-      if (bs.isValidUtf8()) {
-        this.programName_ = s;
-      }
-      return s;
     }
-
     /**
      * <code>required string program_name = 1;</code>
      */
-    @Override public com.google.protobuf.ByteString getProgramNameBytes()
-    {
-      final java.lang.Object ref = this.programName_;
+    public com.google.protobuf.ByteString
+        getProgramNameBytes() {
+      java.lang.Object ref = programName_;
       if (ref instanceof java.lang.String) {
-        final com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
-        this.programName_ = b;
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        programName_ = b;
         return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      return (com.google.protobuf.ByteString) ref;
     }
 
-    public static final int                                                                          SUPPORTS_FIELD_NUMBER =
-                                                                                                                             2;
+    public static final int SUPPORTS_FIELD_NUMBER = 2;
     private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion> supports_;
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
-    @Override public
-      java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion>
-      getSupportsList()
-    {
-      return this.supports_;
+    public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion> getSupportsList() {
+      return supports_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
-    public
-      java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersionOrBuilder>
-      getSupportsOrBuilderList()
-    {
-      return this.supports_;
+    public java.util.List<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersionOrBuilder> 
+        getSupportsOrBuilderList() {
+      return supports_;
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
-    @Override public int getSupportsCount()
-    {
-      return this.supports_.size();
+    public int getSupportsCount() {
+      return supports_.size();
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-      getSupports(
-        final int index)
-    {
-      return this.supports_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion getSupports(int index) {
+      return supports_.get(index);
     }
-
     /**
      * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
      */
-    public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersionOrBuilder
-      getSupportsOrBuilder(
-        final int index)
-    {
-      return this.supports_.get(index);
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersionOrBuilder getSupportsOrBuilder(
+        int index) {
+      return supports_.get(index);
     }
 
-    public static final int                    VERTEX_SHADERS_FIELD_NUMBER =
-                                                                             3;
+    public static final int VERTEX_SHADERS_FIELD_NUMBER = 3;
     private com.google.protobuf.LazyStringList vertexShaders_;
-
     /**
      * <code>repeated string vertex_shaders = 3;</code>
      */
-    @Override public
-      com.google.protobuf.ProtocolStringList
-      getVertexShadersList()
-    {
-      return this.vertexShaders_;
+    public com.google.protobuf.ProtocolStringList
+        getVertexShadersList() {
+      return vertexShaders_;
     }
-
     /**
      * <code>repeated string vertex_shaders = 3;</code>
      */
-    @Override public int getVertexShadersCount()
-    {
-      return this.vertexShaders_.size();
+    public int getVertexShadersCount() {
+      return vertexShaders_.size();
     }
-
     /**
      * <code>repeated string vertex_shaders = 3;</code>
      */
-    @Override public java.lang.String getVertexShaders(
-      final int index)
-    {
-      return this.vertexShaders_.get(index);
+    public java.lang.String getVertexShaders(int index) {
+      return vertexShaders_.get(index);
     }
-
     /**
      * <code>repeated string vertex_shaders = 3;</code>
      */
-    @Override public com.google.protobuf.ByteString getVertexShadersBytes(
-      final int index)
-    {
-      return this.vertexShaders_.getByteString(index);
+    public com.google.protobuf.ByteString
+        getVertexShadersBytes(int index) {
+      return vertexShaders_.getByteString(index);
     }
 
-    public static final int  FRAGMENT_SHADER_FIELD_NUMBER = 4;
+    public static final int FRAGMENT_SHADER_FIELD_NUMBER = 4;
     private java.lang.Object fragmentShader_;
-
     /**
      * <code>required string fragment_shader = 4;</code>
      */
-    @Override public boolean hasFragmentShader()
-    {
-      return ((this.bitField0_ & 0x00000002) == 0x00000002);
+    public boolean hasFragmentShader() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
-
     /**
      * <code>required string fragment_shader = 4;</code>
      */
-    @Override public java.lang.String getFragmentShader()
-    {
-      final java.lang.Object ref = this.fragmentShader_;
+    public java.lang.String getFragmentShader() {
+      java.lang.Object ref = fragmentShader_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          fragmentShader_ = s;
+        }
+        return s;
       }
-      final com.google.protobuf.ByteString bs =
-        (com.google.protobuf.ByteString) ref;
-      final java.lang.String s = bs.toStringUtf8();
-      if (bs.isValidUtf8()) {
-        this.fragmentShader_ = s;
-      }
-      return s;
     }
-
     /**
      * <code>required string fragment_shader = 4;</code>
      */
-    @Override public com.google.protobuf.ByteString getFragmentShaderBytes()
-    {
-      final java.lang.Object ref = this.fragmentShader_;
+    public com.google.protobuf.ByteString
+        getFragmentShaderBytes() {
+      java.lang.Object ref = fragmentShader_;
       if (ref instanceof java.lang.String) {
-        final com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
-        this.fragmentShader_ = b;
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fragmentShader_ = b;
         return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      return (com.google.protobuf.ByteString) ref;
     }
 
-    private void initFields()
-    {
-      this.programName_ = "";
-      this.supports_ = java.util.Collections.emptyList();
-      this.vertexShaders_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      this.fragmentShader_ = "";
+    private void initFields() {
+      programName_ = "";
+      supports_ = java.util.Collections.emptyList();
+      vertexShaders_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      fragmentShader_ = "";
     }
-
     private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-    @Override public final boolean isInitialized()
-    {
-      final byte isInitialized = this.memoizedIsInitialized;
-      if (isInitialized == 1) {
-        return true;
-      }
-      if (isInitialized == 0) {
-        return false;
-      }
-
-      if (!this.hasProgramName()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasProgramName()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      if (!this.hasFragmentShader()) {
-        this.memoizedIsInitialized = 0;
+      if (!hasFragmentShader()) {
+        memoizedIsInitialized = 0;
         return false;
       }
-      for (int i = 0; i < this.getSupportsCount(); i++) {
-        if (!this.getSupports(i).isInitialized()) {
-          this.memoizedIsInitialized = 0;
+      for (int i = 0; i < getSupportsCount(); i++) {
+        if (!getSupports(i).isInitialized()) {
+          memoizedIsInitialized = 0;
           return false;
         }
       }
-      this.memoizedIsInitialized = 1;
+      memoizedIsInitialized = 1;
       return true;
     }
 
-    @Override public void writeTo(
-      final com.google.protobuf.CodedOutputStream output)
-      throws java.io.IOException
-    {
-      this.getSerializedSize();
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, this.getProgramNameBytes());
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getProgramNameBytes());
       }
-      for (int i = 0; i < this.supports_.size(); i++) {
-        output.writeMessage(2, this.supports_.get(i));
+      for (int i = 0; i < supports_.size(); i++) {
+        output.writeMessage(2, supports_.get(i));
       }
-      for (int i = 0; i < this.vertexShaders_.size(); i++) {
-        output.writeBytes(3, this.vertexShaders_.getByteString(i));
+      for (int i = 0; i < vertexShaders_.size(); i++) {
+        output.writeBytes(3, vertexShaders_.getByteString(i));
       }
-      if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(4, this.getFragmentShaderBytes());
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(4, getFragmentShaderBytes());
       }
-      output.writeRawBytes(this.unknownFields);
+      output.writeRawBytes(unknownFields);
     }
 
     private int memoizedSerializedSize = -1;
-
-    @Override public int getSerializedSize()
-    {
-      int size = this.memoizedSerializedSize;
-      if (size != -1) {
-        return size;
-      }
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
 
       size = 0;
-      if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeBytesSize(
-            1,
-            this.getProgramNameBytes());
-      }
-      for (int i = 0; i < this.supports_.size(); i++) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeMessageSize(
-            2,
-            this.supports_.get(i));
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getProgramNameBytes());
+      }
+      for (int i = 0; i < supports_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, supports_.get(i));
       }
       {
         int dataSize = 0;
-        for (int i = 0; i < this.vertexShaders_.size(); i++) {
-          dataSize +=
-            com.google.protobuf.CodedOutputStream
-              .computeBytesSizeNoTag(this.vertexShaders_.getByteString(i));
+        for (int i = 0; i < vertexShaders_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(vertexShaders_.getByteString(i));
         }
         size += dataSize;
-        size += 1 * this.getVertexShadersList().size();
+        size += 1 * getVertexShadersList().size();
       }
-      if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-        size +=
-          com.google.protobuf.CodedOutputStream.computeBytesSize(
-            4,
-            this.getFragmentShaderBytes());
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, getFragmentShaderBytes());
       }
-      size += this.unknownFields.size();
-      this.memoizedSerializedSize = size;
+      size += unknownFields.size();
+      memoizedSerializedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-
-    @java.lang.Override protected java.lang.Object writeReplace()
-      throws java.io.ObjectStreamException
-    {
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
       return super.writeReplace();
     }
 
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-      parseFrom(
-        final com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PProgramShader.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-      parseFrom(
-        final com.google.protobuf.ByteString data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PProgramShader.PARSER.parseFrom(data, extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-      parseFrom(
-        final byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PProgramShader.PARSER.parseFrom(data);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-      parseFrom(
-        final byte[] data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return PProgramShader.PARSER.parseFrom(data, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-      parseFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PProgramShader.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-      parseFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PProgramShader.PARSER.parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-      parseDelimitedFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return PProgramShader.PARSER.parseDelimitedFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-      parseDelimitedFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PProgramShader.PARSER.parseDelimitedFrom(
-        input,
-        extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException
-    {
-      return PProgramShader.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return PProgramShader.PARSER.parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-
-    public static Builder newBuilder()
-    {
-      return Builder.create();
-    }
-
-    @Override public Builder newBuilderForType()
-    {
-      return PProgramShader.newBuilder();
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      Builder
-      newBuilder(
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader prototype)
-    {
-      return PProgramShader.newBuilder().mergeFrom(prototype);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
 
-    @Override public Builder toBuilder()
-    {
-      return PProgramShader.newBuilder(this);
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader prototype) {
+      return newBuilder().mergeFrom(prototype);
     }
+    public Builder toBuilder() { return newBuilder(this); }
 
     /**
-     * Protobuf type
-     * {@code com.io7m.jparasol.metaserializer.protobuf.types.PProgramShader}
+     * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.PProgramShader}
      */
     public static final class Builder extends
-      com.google.protobuf.GeneratedMessageLite.Builder<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader, Builder> implements
-      // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PProgramShader)
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShaderOrBuilder
-    {
-      // Construct using
-      // com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader.newBuilder()
-      private Builder()
-      {
-        this.maybeForceBuilderInitialization();
+        com.google.protobuf.GeneratedMessageLite.Builder<
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader, Builder>
+        implements
+        // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.PProgramShader)
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShaderOrBuilder {
+      // Construct using com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      private void maybeForceBuilderInitialization()
-      {
+      private void maybeForceBuilderInitialization() {
       }
-
-      private static Builder create()
-      {
+      private static Builder create() {
         return new Builder();
       }
 
-      @Override public Builder clear()
-      {
+      public Builder clear() {
         super.clear();
-        this.programName_ = "";
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.supports_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
-        this.vertexShaders_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        this.bitField0_ = (this.bitField0_ & ~0x00000004);
-        this.fragmentShader_ = "";
-        this.bitField0_ = (this.bitField0_ & ~0x00000008);
+        programName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        supports_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        vertexShaders_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        fragmentShader_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
-      @Override public Builder clone()
-      {
-        return Builder.create().mergeFrom(this.buildPartial());
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-        getDefaultInstanceForType()
-      {
-        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-          .getDefaultInstance();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader getDefaultInstanceForType() {
+        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader.getDefaultInstance();
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-        build()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader result =
-          this.buildPartial();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader build() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader result = buildPartial();
         if (!result.isInitialized()) {
-          throw com.google.protobuf.AbstractMessageLite.Builder
-            .newUninitializedMessageException(result);
+          throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-        buildPartial()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader result =
-          new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader(
-            this);
-        final int from_bitField0_ = this.bitField0_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader buildPartial() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader result = new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader(this);
+        int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.programName_ = this.programName_;
-        if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-          this.supports_ =
-            java.util.Collections.unmodifiableList(this.supports_);
-          this.bitField0_ = (this.bitField0_ & ~0x00000002);
+        result.programName_ = programName_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          supports_ = java.util.Collections.unmodifiableList(supports_);
+          bitField0_ = (bitField0_ & ~0x00000002);
         }
-        result.supports_ = this.supports_;
-        if (((this.bitField0_ & 0x00000004) == 0x00000004)) {
-          this.vertexShaders_ = this.vertexShaders_.getUnmodifiableView();
-          this.bitField0_ = (this.bitField0_ & ~0x00000004);
+        result.supports_ = supports_;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          vertexShaders_ = vertexShaders_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000004);
         }
-        result.vertexShaders_ = this.vertexShaders_;
+        result.vertexShaders_ = vertexShaders_;
         if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.fragmentShader_ = this.fragmentShader_;
+        result.fragmentShader_ = fragmentShader_;
         result.bitField0_ = to_bitField0_;
         return result;
       }
 
-      @Override public
-        Builder
-        mergeFrom(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader other)
-      {
-        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-          .getDefaultInstance()) {
-          return this;
-        }
+      public Builder mergeFrom(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader other) {
+        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader.getDefaultInstance()) return this;
         if (other.hasProgramName()) {
-          this.bitField0_ |= 0x00000001;
-          this.programName_ = other.programName_;
-
+          bitField0_ |= 0x00000001;
+          programName_ = other.programName_;
+          
         }
         if (!other.supports_.isEmpty()) {
-          if (this.supports_.isEmpty()) {
-            this.supports_ = other.supports_;
-            this.bitField0_ = (this.bitField0_ & ~0x00000002);
+          if (supports_.isEmpty()) {
+            supports_ = other.supports_;
+            bitField0_ = (bitField0_ & ~0x00000002);
           } else {
-            this.ensureSupportsIsMutable();
-            this.supports_.addAll(other.supports_);
+            ensureSupportsIsMutable();
+            supports_.addAll(other.supports_);
           }
-
+          
         }
         if (!other.vertexShaders_.isEmpty()) {
-          if (this.vertexShaders_.isEmpty()) {
-            this.vertexShaders_ = other.vertexShaders_;
-            this.bitField0_ = (this.bitField0_ & ~0x00000004);
+          if (vertexShaders_.isEmpty()) {
+            vertexShaders_ = other.vertexShaders_;
+            bitField0_ = (bitField0_ & ~0x00000004);
           } else {
-            this.ensureVertexShadersIsMutable();
-            this.vertexShaders_.addAll(other.vertexShaders_);
+            ensureVertexShadersIsMutable();
+            vertexShaders_.addAll(other.vertexShaders_);
           }
-
+          
         }
         if (other.hasFragmentShader()) {
-          this.bitField0_ |= 0x00000008;
-          this.fragmentShader_ = other.fragmentShader_;
-
+          bitField0_ |= 0x00000008;
+          fragmentShader_ = other.fragmentShader_;
+          
         }
-        this.setUnknownFields(this.getUnknownFields().concat(
-          other.unknownFields));
+        setUnknownFields(
+            getUnknownFields().concat(other.unknownFields));
         return this;
       }
 
-      @Override public final boolean isInitialized()
-      {
-        if (!this.hasProgramName()) {
-
+      public final boolean isInitialized() {
+        if (!hasProgramName()) {
+          
           return false;
         }
-        if (!this.hasFragmentShader()) {
-
+        if (!hasFragmentShader()) {
+          
           return false;
         }
-        for (int i = 0; i < this.getSupportsCount(); i++) {
-          if (!this.getSupports(i).isInitialized()) {
-
+        for (int i = 0; i < getSupportsCount(); i++) {
+          if (!getSupports(i).isInitialized()) {
+            
             return false;
           }
         }
         return true;
       }
 
-      @Override public Builder mergeFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-      {
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader parsedMessage =
-          null;
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader parsedMessage = null;
         try {
-          parsedMessage =
-            PProgramShader.PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage =
-            (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader) e
-              .getUnfinishedMessage();
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
-            this.mergeFrom(parsedMessage);
+            mergeFrom(parsedMessage);
           }
         }
         return this;
       }
-
-      private int              bitField0_;
+      private int bitField0_;
 
       private java.lang.Object programName_ = "";
-
       /**
        * <code>required string program_name = 1;</code>
        */
-      @Override public boolean hasProgramName()
-      {
-        return ((this.bitField0_ & 0x00000001) == 0x00000001);
+      public boolean hasProgramName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-
       /**
        * <code>required string program_name = 1;</code>
        */
-      @Override public java.lang.String getProgramName()
-      {
-        final java.lang.Object ref = this.programName_;
+      public java.lang.String getProgramName() {
+        java.lang.Object ref = programName_;
         if (!(ref instanceof java.lang.String)) {
-          final com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-          final java.lang.String s = bs.toStringUtf8();
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            this.programName_ = s;
+            programName_ = s;
           }
           return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        return (java.lang.String) ref;
       }
-
       /**
        * <code>required string program_name = 1;</code>
        */
-      @Override public com.google.protobuf.ByteString getProgramNameBytes()
-      {
-        final java.lang.Object ref = this.programName_;
+      public com.google.protobuf.ByteString
+          getProgramNameBytes() {
+        java.lang.Object ref = programName_;
         if (ref instanceof String) {
-          final com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString
-              .copyFromUtf8((java.lang.String) ref);
-          this.programName_ = b;
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          programName_ = b;
           return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        return (com.google.protobuf.ByteString) ref;
       }
-
       /**
        * <code>required string program_name = 1;</code>
        */
       public Builder setProgramName(
-        final java.lang.String value)
-      {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000001;
-        this.programName_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        programName_ = value;
+        
         return this;
       }
-
       /**
        * <code>required string program_name = 1;</code>
        */
-      public Builder clearProgramName()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000001);
-        this.programName_ =
-          PProgramShader.getDefaultInstance().getProgramName();
-
+      public Builder clearProgramName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        programName_ = getDefaultInstance().getProgramName();
+        
         return this;
       }
-
       /**
        * <code>required string program_name = 1;</code>
        */
       public Builder setProgramNameBytes(
-        final com.google.protobuf.ByteString value)
-      {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000001;
-        this.programName_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        programName_ = value;
+        
         return this;
       }
 
       private java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion> supports_ =
-                                                                                                                   java.util.Collections
-                                                                                                                     .emptyList();
-
-      private void ensureSupportsIsMutable()
-      {
-        if (!((this.bitField0_ & 0x00000002) == 0x00000002)) {
-          this.supports_ =
-            new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion>(
-              this.supports_);
-          this.bitField0_ |= 0x00000002;
-        }
+        java.util.Collections.emptyList();
+      private void ensureSupportsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          supports_ = new java.util.ArrayList<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion>(supports_);
+          bitField0_ |= 0x00000002;
+         }
       }
 
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      @Override public
-        java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion>
-        getSupportsList()
-      {
-        return java.util.Collections.unmodifiableList(this.supports_);
+      public java.util.List<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion> getSupportsList() {
+        return java.util.Collections.unmodifiableList(supports_);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      @Override public int getSupportsCount()
-      {
-        return this.supports_.size();
+      public int getSupportsCount() {
+        return supports_.size();
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion
-        getSupports(
-          final int index)
-      {
-        return this.supports_.get(index);
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion getSupports(int index) {
+        return supports_.get(index);
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public
-        Builder
-        setSupports(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion value)
-      {
+      public Builder setSupports(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureSupportsIsMutable();
-        this.supports_.set(index, value);
+        ensureSupportsIsMutable();
+        supports_.set(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public
-        Builder
-        setSupports(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.Builder builderForValue)
-      {
-        this.ensureSupportsIsMutable();
-        this.supports_.set(index, builderForValue.build());
+      public Builder setSupports(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.Builder builderForValue) {
+        ensureSupportsIsMutable();
+        supports_.set(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public
-        Builder
-        addSupports(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion value)
-      {
+      public Builder addSupports(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureSupportsIsMutable();
-        this.supports_.add(value);
+        ensureSupportsIsMutable();
+        supports_.add(value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public
-        Builder
-        addSupports(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion value)
-      {
+      public Builder addSupports(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.ensureSupportsIsMutable();
-        this.supports_.add(index, value);
+        ensureSupportsIsMutable();
+        supports_.add(index, value);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public
-        Builder
-        addSupports(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.Builder builderForValue)
-      {
-        this.ensureSupportsIsMutable();
-        this.supports_.add(builderForValue.build());
+      public Builder addSupports(
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.Builder builderForValue) {
+        ensureSupportsIsMutable();
+        supports_.add(builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public
-        Builder
-        addSupports(
-          final int index,
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.Builder builderForValue)
-      {
-        this.ensureSupportsIsMutable();
-        this.supports_.add(index, builderForValue.build());
+      public Builder addSupports(
+          int index, com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion.Builder builderForValue) {
+        ensureSupportsIsMutable();
+        supports_.add(index, builderForValue.build());
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public
-        Builder
-        addAllSupports(
-          final java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion> values)
-      {
-        this.ensureSupportsIsMutable();
+      public Builder addAllSupports(
+          java.lang.Iterable<? extends com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PGLSLVersion> values) {
+        ensureSupportsIsMutable();
         com.google.protobuf.AbstractMessageLite.Builder.addAll(
-          values,
-          this.supports_);
+            values, supports_);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public Builder clearSupports()
-      {
-        this.supports_ = java.util.Collections.emptyList();
-        this.bitField0_ = (this.bitField0_ & ~0x00000002);
+      public Builder clearSupports() {
+        supports_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
 
         return this;
       }
-
       /**
        * <code>repeated .com.io7m.jparasol.metaserializer.protobuf.types.PGLSLVersion supports = 2;</code>
        */
-      public Builder removeSupports(
-        final int index)
-      {
-        this.ensureSupportsIsMutable();
-        this.supports_.remove(index);
+      public Builder removeSupports(int index) {
+        ensureSupportsIsMutable();
+        supports_.remove(index);
 
         return this;
       }
 
-      private com.google.protobuf.LazyStringList vertexShaders_ =
-                                                                  com.google.protobuf.LazyStringArrayList.EMPTY;
-
-      private void ensureVertexShadersIsMutable()
-      {
-        if (!((this.bitField0_ & 0x00000004) == 0x00000004)) {
-          this.vertexShaders_ =
-            new com.google.protobuf.LazyStringArrayList(this.vertexShaders_);
-          this.bitField0_ |= 0x00000004;
-        }
+      private com.google.protobuf.LazyStringList vertexShaders_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureVertexShadersIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          vertexShaders_ = new com.google.protobuf.LazyStringArrayList(vertexShaders_);
+          bitField0_ |= 0x00000004;
+         }
       }
-
       /**
        * <code>repeated string vertex_shaders = 3;</code>
        */
-      @Override public
-        com.google.protobuf.ProtocolStringList
-        getVertexShadersList()
-      {
-        return this.vertexShaders_.getUnmodifiableView();
+      public com.google.protobuf.ProtocolStringList
+          getVertexShadersList() {
+        return vertexShaders_.getUnmodifiableView();
       }
-
       /**
        * <code>repeated string vertex_shaders = 3;</code>
        */
-      @Override public int getVertexShadersCount()
-      {
-        return this.vertexShaders_.size();
+      public int getVertexShadersCount() {
+        return vertexShaders_.size();
       }
-
       /**
        * <code>repeated string vertex_shaders = 3;</code>
        */
-      @Override public java.lang.String getVertexShaders(
-        final int index)
-      {
-        return this.vertexShaders_.get(index);
+      public java.lang.String getVertexShaders(int index) {
+        return vertexShaders_.get(index);
       }
-
       /**
        * <code>repeated string vertex_shaders = 3;</code>
        */
-      @Override public com.google.protobuf.ByteString getVertexShadersBytes(
-        final int index)
-      {
-        return this.vertexShaders_.getByteString(index);
+      public com.google.protobuf.ByteString
+          getVertexShadersBytes(int index) {
+        return vertexShaders_.getByteString(index);
       }
-
       /**
        * <code>repeated string vertex_shaders = 3;</code>
        */
       public Builder setVertexShaders(
-        final int index,
-        final java.lang.String value)
-      {
+          int index, java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.ensureVertexShadersIsMutable();
-        this.vertexShaders_.set(index, value);
-
+    throw new NullPointerException();
+  }
+  ensureVertexShadersIsMutable();
+        vertexShaders_.set(index, value);
+        
         return this;
       }
-
       /**
        * <code>repeated string vertex_shaders = 3;</code>
        */
       public Builder addVertexShaders(
-        final java.lang.String value)
-      {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.ensureVertexShadersIsMutable();
-        this.vertexShaders_.add(value);
-
+    throw new NullPointerException();
+  }
+  ensureVertexShadersIsMutable();
+        vertexShaders_.add(value);
+        
         return this;
       }
-
       /**
        * <code>repeated string vertex_shaders = 3;</code>
        */
       public Builder addAllVertexShaders(
-        final java.lang.Iterable<java.lang.String> values)
-      {
-        this.ensureVertexShadersIsMutable();
+          java.lang.Iterable<java.lang.String> values) {
+        ensureVertexShadersIsMutable();
         com.google.protobuf.AbstractMessageLite.Builder.addAll(
-          values,
-          this.vertexShaders_);
-
+            values, vertexShaders_);
+        
         return this;
       }
-
       /**
        * <code>repeated string vertex_shaders = 3;</code>
        */
-      public Builder clearVertexShaders()
-      {
-        this.vertexShaders_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        this.bitField0_ = (this.bitField0_ & ~0x00000004);
-
+      public Builder clearVertexShaders() {
+        vertexShaders_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        
         return this;
       }
-
       /**
        * <code>repeated string vertex_shaders = 3;</code>
        */
       public Builder addVertexShadersBytes(
-        final com.google.protobuf.ByteString value)
-      {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.ensureVertexShadersIsMutable();
-        this.vertexShaders_.add(value);
-
+    throw new NullPointerException();
+  }
+  ensureVertexShadersIsMutable();
+        vertexShaders_.add(value);
+        
         return this;
       }
 
       private java.lang.Object fragmentShader_ = "";
-
       /**
        * <code>required string fragment_shader = 4;</code>
        */
-      @Override public boolean hasFragmentShader()
-      {
-        return ((this.bitField0_ & 0x00000008) == 0x00000008);
+      public boolean hasFragmentShader() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
       }
-
       /**
        * <code>required string fragment_shader = 4;</code>
        */
-      @Override public java.lang.String getFragmentShader()
-      {
-        final java.lang.Object ref = this.fragmentShader_;
+      public java.lang.String getFragmentShader() {
+        java.lang.Object ref = fragmentShader_;
         if (!(ref instanceof java.lang.String)) {
-          final com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-          final java.lang.String s = bs.toStringUtf8();
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            this.fragmentShader_ = s;
+            fragmentShader_ = s;
           }
           return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        return (java.lang.String) ref;
       }
-
       /**
        * <code>required string fragment_shader = 4;</code>
        */
-      @Override public
-        com.google.protobuf.ByteString
-        getFragmentShaderBytes()
-      {
-        final java.lang.Object ref = this.fragmentShader_;
+      public com.google.protobuf.ByteString
+          getFragmentShaderBytes() {
+        java.lang.Object ref = fragmentShader_;
         if (ref instanceof String) {
-          final com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString
-              .copyFromUtf8((java.lang.String) ref);
-          this.fragmentShader_ = b;
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fragmentShader_ = b;
           return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        return (com.google.protobuf.ByteString) ref;
       }
-
       /**
        * <code>required string fragment_shader = 4;</code>
        */
       public Builder setFragmentShader(
-        final java.lang.String value)
-      {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000008;
-        this.fragmentShader_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        fragmentShader_ = value;
+        
         return this;
       }
-
       /**
        * <code>required string fragment_shader = 4;</code>
        */
-      public Builder clearFragmentShader()
-      {
-        this.bitField0_ = (this.bitField0_ & ~0x00000008);
-        this.fragmentShader_ =
-          PProgramShader.getDefaultInstance().getFragmentShader();
-
+      public Builder clearFragmentShader() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        fragmentShader_ = getDefaultInstance().getFragmentShader();
+        
         return this;
       }
-
       /**
        * <code>required string fragment_shader = 4;</code>
        */
       public Builder setFragmentShaderBytes(
-        final com.google.protobuf.ByteString value)
-      {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        this.bitField0_ |= 0x00000008;
-        this.fragmentShader_ = value;
-
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        fragmentShader_ = value;
+        
         return this;
       }
 
@@ -14290,300 +10801,214 @@ public final class ProgramMeta
 
     static {
       defaultInstance = new PProgramShader(true);
-      PProgramShader.defaultInstance.initFields();
+      defaultInstance.initFields();
     }
 
     // @@protoc_insertion_point(class_scope:com.io7m.jparasol.metaserializer.protobuf.types.PProgramShader)
   }
 
   public interface MetaOrBuilder extends
-  // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.Meta)
-    com.google.protobuf.MessageLiteOrBuilder
-  {
+      // @@protoc_insertion_point(interface_extends:com.io7m.jparasol.metaserializer.protobuf.types.Meta)
+      com.google.protobuf.MessageLiteOrBuilder {
 
     /**
      * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderUncompacted fragment_uncompacted = 1;</code>
      */
     boolean hasFragmentUncompacted();
-
     /**
      * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderUncompacted fragment_uncompacted = 1;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-      getFragmentUncompacted();
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted getFragmentUncompacted();
 
     /**
      * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCompacted fragment_compacted = 2;</code>
      */
     boolean hasFragmentCompacted();
-
     /**
      * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCompacted fragment_compacted = 2;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-      getFragmentCompacted();
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted getFragmentCompacted();
 
     /**
      * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderUncompacted vertex_uncompacted = 3;</code>
      */
     boolean hasVertexUncompacted();
-
     /**
      * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderUncompacted vertex_uncompacted = 3;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-      getVertexUncompacted();
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted getVertexUncompacted();
 
     /**
      * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCompacted vertex_compacted = 4;</code>
      */
     boolean hasVertexCompacted();
-
     /**
      * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCompacted vertex_compacted = 4;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-      getVertexCompacted();
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted getVertexCompacted();
 
     /**
      * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PProgramShader program = 5;</code>
      */
     boolean hasProgram();
-
     /**
      * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PProgramShader program = 5;</code>
      */
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-      getProgram();
+    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader getProgram();
   }
-
   /**
-   * Protobuf type
-   * {@code com.io7m.jparasol.metaserializer.protobuf.types.Meta}
+   * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.Meta}
    */
   public static final class Meta extends
-    com.google.protobuf.GeneratedMessageLite implements
-  // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.Meta)
-    MetaOrBuilder
-  {
+      com.google.protobuf.GeneratedMessageLite implements
+      // @@protoc_insertion_point(message_implements:com.io7m.jparasol.metaserializer.protobuf.types.Meta)
+      MetaOrBuilder {
     // Use Meta.newBuilder() to construct.
-    private Meta(
-      final com.google.protobuf.GeneratedMessageLite.Builder builder)
-    {
+    private Meta(com.google.protobuf.GeneratedMessageLite.Builder builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-
-    private Meta(
-      final boolean noInit)
-    {
-      this.unknownFields = com.google.protobuf.ByteString.EMPTY;
-    }
+    private Meta(boolean noInit) { this.unknownFields = com.google.protobuf.ByteString.EMPTY;}
 
     private static final Meta defaultInstance;
-
-    public static Meta getDefaultInstance()
-    {
-      return Meta.defaultInstance;
+    public static Meta getDefaultInstance() {
+      return defaultInstance;
     }
 
-    @Override public Meta getDefaultInstanceForType()
-    {
-      return Meta.defaultInstance;
+    public Meta getDefaultInstanceForType() {
+      return defaultInstance;
     }
 
     private final com.google.protobuf.ByteString unknownFields;
-
     private Meta(
-      final com.google.protobuf.CodedInputStream input,
-      final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      this.initFields();
-      final int mutable_bitField0_ = 0;
-      final com.google.protobuf.ByteString.Output unknownFieldsOutput =
-        com.google.protobuf.ByteString.newOutput();
-      final com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
-        com.google.protobuf.CodedOutputStream
-          .newInstance(unknownFieldsOutput);
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.ByteString.Output unknownFieldsOutput =
+          com.google.protobuf.ByteString.newOutput();
+      com.google.protobuf.CodedOutputStream unknownFieldsCodedOutput =
+          com.google.protobuf.CodedOutputStream.newInstance(
+              unknownFieldsOutput);
       try {
         boolean done = false;
         while (!done) {
-          final int tag = input.readTag();
+          int tag = input.readTag();
           switch (tag) {
             case 0:
               done = true;
               break;
-            default:
-            {
-              if (!this.parseUnknownField(
-                input,
-                unknownFieldsCodedOutput,
-                extensionRegistry,
-                tag)) {
+            default: {
+              if (!parseUnknownField(input, unknownFieldsCodedOutput,
+                                     extensionRegistry, tag)) {
                 done = true;
               }
               break;
             }
-            case 10:
-            {
-              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted.Builder subBuilder =
-                null;
-              if (this.actualCase_ == 1) {
-                subBuilder =
-                  ((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted) this.actual_)
-                    .toBuilder();
+            case 10: {
+              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted.Builder subBuilder = null;
+              if (actualCase_ == 1) {
+                subBuilder = ((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted) actual_).toBuilder();
               }
-              this.actual_ =
-                input
-                  .readMessage(
-                    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted.PARSER,
-                    extensionRegistry);
+              actual_ = input.readMessage(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted.PARSER, extensionRegistry);
               if (subBuilder != null) {
-                subBuilder
-                  .mergeFrom((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted) this.actual_);
-                this.actual_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted) actual_);
+                actual_ = subBuilder.buildPartial();
               }
-              this.actualCase_ = 1;
+              actualCase_ = 1;
               break;
             }
-            case 18:
-            {
-              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted.Builder subBuilder =
-                null;
-              if (this.actualCase_ == 2) {
-                subBuilder =
-                  ((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted) this.actual_)
-                    .toBuilder();
+            case 18: {
+              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted.Builder subBuilder = null;
+              if (actualCase_ == 2) {
+                subBuilder = ((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted) actual_).toBuilder();
               }
-              this.actual_ =
-                input
-                  .readMessage(
-                    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted.PARSER,
-                    extensionRegistry);
+              actual_ = input.readMessage(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted.PARSER, extensionRegistry);
               if (subBuilder != null) {
-                subBuilder
-                  .mergeFrom((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted) this.actual_);
-                this.actual_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted) actual_);
+                actual_ = subBuilder.buildPartial();
               }
-              this.actualCase_ = 2;
+              actualCase_ = 2;
               break;
             }
-            case 26:
-            {
-              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted.Builder subBuilder =
-                null;
-              if (this.actualCase_ == 3) {
-                subBuilder =
-                  ((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted) this.actual_)
-                    .toBuilder();
+            case 26: {
+              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted.Builder subBuilder = null;
+              if (actualCase_ == 3) {
+                subBuilder = ((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted) actual_).toBuilder();
               }
-              this.actual_ =
-                input
-                  .readMessage(
-                    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted.PARSER,
-                    extensionRegistry);
+              actual_ = input.readMessage(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted.PARSER, extensionRegistry);
               if (subBuilder != null) {
-                subBuilder
-                  .mergeFrom((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted) this.actual_);
-                this.actual_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted) actual_);
+                actual_ = subBuilder.buildPartial();
               }
-              this.actualCase_ = 3;
+              actualCase_ = 3;
               break;
             }
-            case 34:
-            {
-              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted.Builder subBuilder =
-                null;
-              if (this.actualCase_ == 4) {
-                subBuilder =
-                  ((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted) this.actual_)
-                    .toBuilder();
+            case 34: {
+              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted.Builder subBuilder = null;
+              if (actualCase_ == 4) {
+                subBuilder = ((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted) actual_).toBuilder();
               }
-              this.actual_ =
-                input
-                  .readMessage(
-                    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted.PARSER,
-                    extensionRegistry);
+              actual_ = input.readMessage(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted.PARSER, extensionRegistry);
               if (subBuilder != null) {
-                subBuilder
-                  .mergeFrom((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted) this.actual_);
-                this.actual_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted) actual_);
+                actual_ = subBuilder.buildPartial();
               }
-              this.actualCase_ = 4;
+              actualCase_ = 4;
               break;
             }
-            case 42:
-            {
-              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader.Builder subBuilder =
-                null;
-              if (this.actualCase_ == 5) {
-                subBuilder =
-                  ((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader) this.actual_)
-                    .toBuilder();
+            case 42: {
+              com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader.Builder subBuilder = null;
+              if (actualCase_ == 5) {
+                subBuilder = ((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader) actual_).toBuilder();
               }
-              this.actual_ =
-                input
-                  .readMessage(
-                    com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader.PARSER,
-                    extensionRegistry);
+              actual_ = input.readMessage(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader.PARSER, extensionRegistry);
               if (subBuilder != null) {
-                subBuilder
-                  .mergeFrom((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader) this.actual_);
-                this.actual_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader) actual_);
+                actual_ = subBuilder.buildPartial();
               }
-              this.actualCase_ = 5;
+              actualCase_ = 5;
               break;
             }
           }
         }
-      } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
         throw e.setUnfinishedMessage(this);
-      } catch (final java.io.IOException e) {
+      } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
-          e.getMessage()).setUnfinishedMessage(this);
+            e.getMessage()).setUnfinishedMessage(this);
       } finally {
         try {
           unknownFieldsCodedOutput.flush();
-        } catch (final java.io.IOException e) {
-          // Should not happen
+        } catch (java.io.IOException e) {
+        // Should not happen
         } finally {
-          this.unknownFields = unknownFieldsOutput.toByteString();
+          unknownFields = unknownFieldsOutput.toByteString();
         }
-        this.makeExtensionsImmutable();
+        makeExtensionsImmutable();
       }
     }
-
     public static com.google.protobuf.Parser<Meta> PARSER =
-                                                            new com.google.protobuf.AbstractParser<Meta>() {
-                                                              @Override public
-                                                                Meta
-                                                                parsePartialFrom(
-                                                                  final com.google.protobuf.CodedInputStream input,
-                                                                  final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                                                                  throws com.google.protobuf.InvalidProtocolBufferException
-                                                              {
-                                                                return new Meta(
-                                                                  input,
-                                                                  extensionRegistry);
-                                                              }
-                                                            };
-
-    @java.lang.Override public
-      com.google.protobuf.Parser<Meta>
-      getParserForType()
-    {
-      return Meta.PARSER;
-    }
-
-    private int              bitField0_;
-    private int              actualCase_ = 0;
-    private java.lang.Object actual_;
+        new com.google.protobuf.AbstractParser<Meta>() {
+      public Meta parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Meta(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Meta> getParserForType() {
+      return PARSER;
+    }
 
+    private int bitField0_;
+    private int actualCase_ = 0;
+    private java.lang.Object actual_;
     public enum ActualCase
-      implements
-      com.google.protobuf.Internal.EnumLite
-    {
+        implements com.google.protobuf.Internal.EnumLite {
       FRAGMENT_UNCOMPACTED(1),
       FRAGMENT_COMPACTED(2),
       VERTEX_UNCOMPACTED(3),
@@ -14591,633 +11016,439 @@ public final class ProgramMeta
       PROGRAM(5),
       ACTUAL_NOT_SET(0);
       private int value = 0;
-
-      private ActualCase(
-        final int value1)
-      {
-        this.value = value1;
+      private ActualCase(int value) {
+        this.value = value;
       }
-
-      public static ActualCase valueOf(
-        final int value)
-      {
+      public static ActualCase valueOf(int value) {
         switch (value) {
-          case 1:
-            return FRAGMENT_UNCOMPACTED;
-          case 2:
-            return FRAGMENT_COMPACTED;
-          case 3:
-            return VERTEX_UNCOMPACTED;
-          case 4:
-            return VERTEX_COMPACTED;
-          case 5:
-            return PROGRAM;
-          case 0:
-            return ACTUAL_NOT_SET;
-          default:
-            throw new java.lang.IllegalArgumentException(
-              "Value is undefined for this oneof enum.");
-        }
-      }
-
-      @Override public int getNumber()
-      {
+          case 1: return FRAGMENT_UNCOMPACTED;
+          case 2: return FRAGMENT_COMPACTED;
+          case 3: return VERTEX_UNCOMPACTED;
+          case 4: return VERTEX_COMPACTED;
+          case 5: return PROGRAM;
+          case 0: return ACTUAL_NOT_SET;
+          default: throw new java.lang.IllegalArgumentException(
+            "Value is undefined for this oneof enum.");
+        }
+      }
+      public int getNumber() {
         return this.value;
       }
-    }
+    };
 
-    public ActualCase getActualCase()
-    {
-      return ActualCase.valueOf(this.actualCase_);
+    public ActualCase
+    getActualCase() {
+      return ActualCase.valueOf(
+          actualCase_);
     }
 
     public static final int FRAGMENT_UNCOMPACTED_FIELD_NUMBER = 1;
-
     /**
      * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderUncompacted fragment_uncompacted = 1;</code>
      */
-    @Override public boolean hasFragmentUncompacted()
-    {
-      return this.actualCase_ == 1;
+    public boolean hasFragmentUncompacted() {
+      return actualCase_ == 1;
     }
-
     /**
      * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderUncompacted fragment_uncompacted = 1;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-      getFragmentUncompacted()
-    {
-      if (this.actualCase_ == 1) {
-        return (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted) this.actual_;
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted getFragmentUncompacted() {
+      if (actualCase_ == 1) {
+         return (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted) actual_;
       }
-      return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-        .getDefaultInstance();
+      return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted.getDefaultInstance();
     }
 
     public static final int FRAGMENT_COMPACTED_FIELD_NUMBER = 2;
-
     /**
      * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCompacted fragment_compacted = 2;</code>
      */
-    @Override public boolean hasFragmentCompacted()
-    {
-      return this.actualCase_ == 2;
+    public boolean hasFragmentCompacted() {
+      return actualCase_ == 2;
     }
-
     /**
      * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCompacted fragment_compacted = 2;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-      getFragmentCompacted()
-    {
-      if (this.actualCase_ == 2) {
-        return (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted) this.actual_;
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted getFragmentCompacted() {
+      if (actualCase_ == 2) {
+         return (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted) actual_;
       }
-      return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-        .getDefaultInstance();
+      return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted.getDefaultInstance();
     }
 
     public static final int VERTEX_UNCOMPACTED_FIELD_NUMBER = 3;
-
     /**
      * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderUncompacted vertex_uncompacted = 3;</code>
      */
-    @Override public boolean hasVertexUncompacted()
-    {
-      return this.actualCase_ == 3;
+    public boolean hasVertexUncompacted() {
+      return actualCase_ == 3;
     }
-
     /**
      * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderUncompacted vertex_uncompacted = 3;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-      getVertexUncompacted()
-    {
-      if (this.actualCase_ == 3) {
-        return (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted) this.actual_;
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted getVertexUncompacted() {
+      if (actualCase_ == 3) {
+         return (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted) actual_;
       }
-      return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-        .getDefaultInstance();
+      return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted.getDefaultInstance();
     }
 
     public static final int VERTEX_COMPACTED_FIELD_NUMBER = 4;
-
     /**
      * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCompacted vertex_compacted = 4;</code>
      */
-    @Override public boolean hasVertexCompacted()
-    {
-      return this.actualCase_ == 4;
+    public boolean hasVertexCompacted() {
+      return actualCase_ == 4;
     }
-
     /**
      * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCompacted vertex_compacted = 4;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-      getVertexCompacted()
-    {
-      if (this.actualCase_ == 4) {
-        return (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted) this.actual_;
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted getVertexCompacted() {
+      if (actualCase_ == 4) {
+         return (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted) actual_;
       }
-      return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-        .getDefaultInstance();
+      return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted.getDefaultInstance();
     }
 
     public static final int PROGRAM_FIELD_NUMBER = 5;
-
     /**
      * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PProgramShader program = 5;</code>
      */
-    @Override public boolean hasProgram()
-    {
-      return this.actualCase_ == 5;
+    public boolean hasProgram() {
+      return actualCase_ == 5;
     }
-
     /**
      * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PProgramShader program = 5;</code>
      */
-    @Override public
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-      getProgram()
-    {
-      if (this.actualCase_ == 5) {
-        return (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader) this.actual_;
+    public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader getProgram() {
+      if (actualCase_ == 5) {
+         return (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader) actual_;
       }
-      return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-        .getDefaultInstance();
+      return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader.getDefaultInstance();
     }
 
-    private void initFields()
-    {
+    private void initFields() {
     }
-
     private byte memoizedIsInitialized = -1;
-
-    @Override public final boolean isInitialized()
-    {
-      final byte isInitialized = this.memoizedIsInitialized;
-      if (isInitialized == 1) {
-        return true;
-      }
-      if (isInitialized == 0) {
-        return false;
-      }
-
-      if (this.hasFragmentUncompacted()) {
-        if (!this.getFragmentUncompacted().isInitialized()) {
-          this.memoizedIsInitialized = 0;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (hasFragmentUncompacted()) {
+        if (!getFragmentUncompacted().isInitialized()) {
+          memoizedIsInitialized = 0;
           return false;
         }
       }
-      if (this.hasFragmentCompacted()) {
-        if (!this.getFragmentCompacted().isInitialized()) {
-          this.memoizedIsInitialized = 0;
+      if (hasFragmentCompacted()) {
+        if (!getFragmentCompacted().isInitialized()) {
+          memoizedIsInitialized = 0;
           return false;
         }
       }
-      if (this.hasVertexUncompacted()) {
-        if (!this.getVertexUncompacted().isInitialized()) {
-          this.memoizedIsInitialized = 0;
+      if (hasVertexUncompacted()) {
+        if (!getVertexUncompacted().isInitialized()) {
+          memoizedIsInitialized = 0;
           return false;
         }
       }
-      if (this.hasVertexCompacted()) {
-        if (!this.getVertexCompacted().isInitialized()) {
-          this.memoizedIsInitialized = 0;
+      if (hasVertexCompacted()) {
+        if (!getVertexCompacted().isInitialized()) {
+          memoizedIsInitialized = 0;
           return false;
         }
       }
-      if (this.hasProgram()) {
-        if (!this.getProgram().isInitialized()) {
-          this.memoizedIsInitialized = 0;
+      if (hasProgram()) {
+        if (!getProgram().isInitialized()) {
+          memoizedIsInitialized = 0;
           return false;
         }
       }
-      this.memoizedIsInitialized = 1;
+      memoizedIsInitialized = 1;
       return true;
     }
 
-    @Override public void writeTo(
-      final com.google.protobuf.CodedOutputStream output)
-      throws java.io.IOException
-    {
-      this.getSerializedSize();
-      if (this.actualCase_ == 1) {
-        output
-          .writeMessage(
-            1,
-            (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted) this.actual_);
-      }
-      if (this.actualCase_ == 2) {
-        output
-          .writeMessage(
-            2,
-            (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted) this.actual_);
-      }
-      if (this.actualCase_ == 3) {
-        output
-          .writeMessage(
-            3,
-            (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted) this.actual_);
-      }
-      if (this.actualCase_ == 4) {
-        output
-          .writeMessage(
-            4,
-            (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted) this.actual_);
-      }
-      if (this.actualCase_ == 5) {
-        output
-          .writeMessage(
-            5,
-            (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader) this.actual_);
-      }
-      output.writeRawBytes(this.unknownFields);
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (actualCase_ == 1) {
+        output.writeMessage(1, (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted) actual_);
+      }
+      if (actualCase_ == 2) {
+        output.writeMessage(2, (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted) actual_);
+      }
+      if (actualCase_ == 3) {
+        output.writeMessage(3, (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted) actual_);
+      }
+      if (actualCase_ == 4) {
+        output.writeMessage(4, (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted) actual_);
+      }
+      if (actualCase_ == 5) {
+        output.writeMessage(5, (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader) actual_);
+      }
+      output.writeRawBytes(unknownFields);
     }
 
     private int memoizedSerializedSize = -1;
-
-    @Override public int getSerializedSize()
-    {
-      int size = this.memoizedSerializedSize;
-      if (size != -1) {
-        return size;
-      }
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
 
       size = 0;
-      if (this.actualCase_ == 1) {
-        size +=
-          com.google.protobuf.CodedOutputStream
-            .computeMessageSize(
-              1,
-              (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted) this.actual_);
-      }
-      if (this.actualCase_ == 2) {
-        size +=
-          com.google.protobuf.CodedOutputStream
-            .computeMessageSize(
-              2,
-              (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted) this.actual_);
-      }
-      if (this.actualCase_ == 3) {
-        size +=
-          com.google.protobuf.CodedOutputStream
-            .computeMessageSize(
-              3,
-              (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted) this.actual_);
-      }
-      if (this.actualCase_ == 4) {
-        size +=
-          com.google.protobuf.CodedOutputStream
-            .computeMessageSize(
-              4,
-              (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted) this.actual_);
-      }
-      if (this.actualCase_ == 5) {
-        size +=
-          com.google.protobuf.CodedOutputStream
-            .computeMessageSize(
-              5,
-              (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader) this.actual_);
-      }
-      size += this.unknownFields.size();
-      this.memoizedSerializedSize = size;
+      if (actualCase_ == 1) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted) actual_);
+      }
+      if (actualCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted) actual_);
+      }
+      if (actualCase_ == 3) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted) actual_);
+      }
+      if (actualCase_ == 4) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted) actual_);
+      }
+      if (actualCase_ == 5) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader) actual_);
+      }
+      size += unknownFields.size();
+      memoizedSerializedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-
-    @java.lang.Override protected java.lang.Object writeReplace()
-      throws java.io.ObjectStreamException
-    {
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
       return super.writeReplace();
     }
 
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta
-      parseFrom(
-        final com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return Meta.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta
-      parseFrom(
-        final com.google.protobuf.ByteString data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return Meta.PARSER.parseFrom(data, extensionRegistry);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta
-      parseFrom(
-        final byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return Meta.PARSER.parseFrom(data);
-    }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta
-      parseFrom(
-        final byte[] data,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException
-    {
-      return Meta.PARSER.parseFrom(data, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta
-      parseFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return Meta.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta
-      parseFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return Meta.PARSER.parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta
-      parseDelimitedFrom(
-        final java.io.InputStream input)
-        throws java.io.IOException
-    {
-      return Meta.PARSER.parseDelimitedFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta
-      parseDelimitedFrom(
-        final java.io.InputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return Meta.PARSER.parseDelimitedFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException
-    {
-      return Meta.PARSER.parseFrom(input);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
-
-    public static
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta
-      parseFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-    {
-      return Meta.PARSER.parseFrom(input, extensionRegistry);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
     }
-
-    public static Builder newBuilder()
-    {
-      return Builder.create();
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-
-    @Override public Builder newBuilderForType()
-    {
-      return Meta.newBuilder();
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-
-    public static
-      Builder
-      newBuilder(
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta prototype)
-    {
-      return Meta.newBuilder().mergeFrom(prototype);
+    public static com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
 
-    @Override public Builder toBuilder()
-    {
-      return Meta.newBuilder(this);
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta prototype) {
+      return newBuilder().mergeFrom(prototype);
     }
+    public Builder toBuilder() { return newBuilder(this); }
 
     /**
-     * Protobuf type
-     * {@code com.io7m.jparasol.metaserializer.protobuf.types.Meta}
+     * Protobuf type {@code com.io7m.jparasol.metaserializer.protobuf.types.Meta}
      */
     public static final class Builder extends
-      com.google.protobuf.GeneratedMessageLite.Builder<com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta, Builder> implements
-      // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.Meta)
-      com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.MetaOrBuilder
-    {
-      // Construct using
-      // com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta.newBuilder()
-      private Builder()
-      {
-        this.maybeForceBuilderInitialization();
+        com.google.protobuf.GeneratedMessageLite.Builder<
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta, Builder>
+        implements
+        // @@protoc_insertion_point(builder_implements:com.io7m.jparasol.metaserializer.protobuf.types.Meta)
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.MetaOrBuilder {
+      // Construct using com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      private void maybeForceBuilderInitialization()
-      {
+      private void maybeForceBuilderInitialization() {
       }
-
-      private static Builder create()
-      {
+      private static Builder create() {
         return new Builder();
       }
 
-      @Override public Builder clear()
-      {
+      public Builder clear() {
         super.clear();
-        this.actualCase_ = 0;
-        this.actual_ = null;
+        actualCase_ = 0;
+        actual_ = null;
         return this;
       }
 
-      @Override public Builder clone()
-      {
-        return Builder.create().mergeFrom(this.buildPartial());
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta
-        getDefaultInstanceForType()
-      {
-        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta
-          .getDefaultInstance();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta getDefaultInstanceForType() {
+        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta.getDefaultInstance();
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta
-        build()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta result =
-          this.buildPartial();
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta build() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta result = buildPartial();
         if (!result.isInitialized()) {
-          throw com.google.protobuf.AbstractMessageLite.Builder
-            .newUninitializedMessageException(result);
+          throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta
-        buildPartial()
-      {
-        final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta result =
-          new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta(
-            this);
-        final int from_bitField0_ = this.bitField0_;
-        final int to_bitField0_ = 0;
-        if (this.actualCase_ == 1) {
-          result.actual_ = this.actual_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta buildPartial() {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta result = new com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (actualCase_ == 1) {
+          result.actual_ = actual_;
         }
-        if (this.actualCase_ == 2) {
-          result.actual_ = this.actual_;
+        if (actualCase_ == 2) {
+          result.actual_ = actual_;
         }
-        if (this.actualCase_ == 3) {
-          result.actual_ = this.actual_;
+        if (actualCase_ == 3) {
+          result.actual_ = actual_;
         }
-        if (this.actualCase_ == 4) {
-          result.actual_ = this.actual_;
+        if (actualCase_ == 4) {
+          result.actual_ = actual_;
         }
-        if (this.actualCase_ == 5) {
-          result.actual_ = this.actual_;
+        if (actualCase_ == 5) {
+          result.actual_ = actual_;
         }
         result.bitField0_ = to_bitField0_;
-        result.actualCase_ = this.actualCase_;
+        result.actualCase_ = actualCase_;
         return result;
       }
 
-      @Override public
-        Builder
-        mergeFrom(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta other)
-      {
-        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta
-          .getDefaultInstance()) {
-          return this;
-        }
+      public Builder mergeFrom(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta other) {
+        if (other == com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta.getDefaultInstance()) return this;
         switch (other.getActualCase()) {
-          case FRAGMENT_UNCOMPACTED:
-          {
-            this.mergeFragmentUncompacted(other.getFragmentUncompacted());
+          case FRAGMENT_UNCOMPACTED: {
+            mergeFragmentUncompacted(other.getFragmentUncompacted());
             break;
           }
-          case FRAGMENT_COMPACTED:
-          {
-            this.mergeFragmentCompacted(other.getFragmentCompacted());
+          case FRAGMENT_COMPACTED: {
+            mergeFragmentCompacted(other.getFragmentCompacted());
             break;
           }
-          case VERTEX_UNCOMPACTED:
-          {
-            this.mergeVertexUncompacted(other.getVertexUncompacted());
+          case VERTEX_UNCOMPACTED: {
+            mergeVertexUncompacted(other.getVertexUncompacted());
             break;
           }
-          case VERTEX_COMPACTED:
-          {
-            this.mergeVertexCompacted(other.getVertexCompacted());
+          case VERTEX_COMPACTED: {
+            mergeVertexCompacted(other.getVertexCompacted());
             break;
           }
-          case PROGRAM:
-          {
-            this.mergeProgram(other.getProgram());
+          case PROGRAM: {
+            mergeProgram(other.getProgram());
             break;
           }
-          case ACTUAL_NOT_SET:
-          {
+          case ACTUAL_NOT_SET: {
             break;
           }
         }
-        this.setUnknownFields(this.getUnknownFields().concat(
-          other.unknownFields));
+        setUnknownFields(
+            getUnknownFields().concat(other.unknownFields));
         return this;
       }
 
-      @Override public final boolean isInitialized()
-      {
-        if (this.hasFragmentUncompacted()) {
-          if (!this.getFragmentUncompacted().isInitialized()) {
-
+      public final boolean isInitialized() {
+        if (hasFragmentUncompacted()) {
+          if (!getFragmentUncompacted().isInitialized()) {
+            
             return false;
           }
         }
-        if (this.hasFragmentCompacted()) {
-          if (!this.getFragmentCompacted().isInitialized()) {
-
+        if (hasFragmentCompacted()) {
+          if (!getFragmentCompacted().isInitialized()) {
+            
             return false;
           }
         }
-        if (this.hasVertexUncompacted()) {
-          if (!this.getVertexUncompacted().isInitialized()) {
-
+        if (hasVertexUncompacted()) {
+          if (!getVertexUncompacted().isInitialized()) {
+            
             return false;
           }
         }
-        if (this.hasVertexCompacted()) {
-          if (!this.getVertexCompacted().isInitialized()) {
-
+        if (hasVertexCompacted()) {
+          if (!getVertexCompacted().isInitialized()) {
+            
             return false;
           }
         }
-        if (this.hasProgram()) {
-          if (!this.getProgram().isInitialized()) {
-
+        if (hasProgram()) {
+          if (!getProgram().isInitialized()) {
+            
             return false;
           }
         }
         return true;
       }
 
-      @Override public Builder mergeFrom(
-        final com.google.protobuf.CodedInputStream input,
-        final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException
-      {
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta parsedMessage =
-          null;
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta parsedMessage = null;
         try {
-          parsedMessage =
-            Meta.PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (final com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage =
-            (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta) e
-              .getUnfinishedMessage();
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
-            this.mergeFrom(parsedMessage);
+            mergeFrom(parsedMessage);
           }
         }
         return this;
       }
-
-      private int              actualCase_ = 0;
+      private int actualCase_ = 0;
       private java.lang.Object actual_;
-
-      public ActualCase getActualCase()
-      {
-        return ActualCase.valueOf(this.actualCase_);
+      public ActualCase
+          getActualCase() {
+        return ActualCase.valueOf(
+            actualCase_);
       }
 
-      public Builder clearActual()
-      {
-        this.actualCase_ = 0;
-        this.actual_ = null;
+      public Builder clearActual() {
+        actualCase_ = 0;
+        actual_ = null;
         return this;
       }
 
@@ -15226,90 +11457,63 @@ public final class ProgramMeta
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderUncompacted fragment_uncompacted = 1;</code>
        */
-      @Override public boolean hasFragmentUncompacted()
-      {
-        return this.actualCase_ == 1;
+      public boolean hasFragmentUncompacted() {
+        return actualCase_ == 1;
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderUncompacted fragment_uncompacted = 1;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-        getFragmentUncompacted()
-      {
-        if (this.actualCase_ == 1) {
-          return (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted) this.actual_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted getFragmentUncompacted() {
+        if (actualCase_ == 1) {
+          return (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted) actual_;
         }
-        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-          .getDefaultInstance();
+        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted.getDefaultInstance();
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderUncompacted fragment_uncompacted = 1;</code>
        */
-      public
-        Builder
-        setFragmentUncompacted(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted value)
-      {
+      public Builder setFragmentUncompacted(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.actual_ = value;
+        actual_ = value;
 
-        this.actualCase_ = 1;
+        actualCase_ = 1;
         return this;
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderUncompacted fragment_uncompacted = 1;</code>
        */
-      public
-        Builder
-        setFragmentUncompacted(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted.Builder builderForValue)
-      {
-        this.actual_ = builderForValue.build();
+      public Builder setFragmentUncompacted(
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted.Builder builderForValue) {
+        actual_ = builderForValue.build();
 
-        this.actualCase_ = 1;
+        actualCase_ = 1;
         return this;
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderUncompacted fragment_uncompacted = 1;</code>
        */
-      public
-        Builder
-        mergeFragmentUncompacted(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted value)
-      {
-        if ((this.actualCase_ == 1)
-          && (this.actual_ != com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-            .getDefaultInstance())) {
-          this.actual_ =
-            com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted
-              .newBuilder(
-                (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted) this.actual_)
-              .mergeFrom(value)
-              .buildPartial();
+      public Builder mergeFragmentUncompacted(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted value) {
+        if (actualCase_ == 1 &&
+            actual_ != com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted.getDefaultInstance()) {
+          actual_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted.newBuilder((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderUncompacted) actual_)
+              .mergeFrom(value).buildPartial();
         } else {
-          this.actual_ = value;
+          actual_ = value;
         }
 
-        this.actualCase_ = 1;
+        actualCase_ = 1;
         return this;
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderUncompacted fragment_uncompacted = 1;</code>
        */
-      public Builder clearFragmentUncompacted()
-      {
-        if (this.actualCase_ == 1) {
-          this.actualCase_ = 0;
-          this.actual_ = null;
-
+      public Builder clearFragmentUncompacted() {
+        if (actualCase_ == 1) {
+          actualCase_ = 0;
+          actual_ = null;
+          
         }
         return this;
       }
@@ -15317,90 +11521,63 @@ public final class ProgramMeta
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCompacted fragment_compacted = 2;</code>
        */
-      @Override public boolean hasFragmentCompacted()
-      {
-        return this.actualCase_ == 2;
+      public boolean hasFragmentCompacted() {
+        return actualCase_ == 2;
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCompacted fragment_compacted = 2;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-        getFragmentCompacted()
-      {
-        if (this.actualCase_ == 2) {
-          return (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted) this.actual_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted getFragmentCompacted() {
+        if (actualCase_ == 2) {
+          return (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted) actual_;
         }
-        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-          .getDefaultInstance();
+        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted.getDefaultInstance();
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCompacted fragment_compacted = 2;</code>
        */
-      public
-        Builder
-        setFragmentCompacted(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted value)
-      {
+      public Builder setFragmentCompacted(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.actual_ = value;
+        actual_ = value;
 
-        this.actualCase_ = 2;
+        actualCase_ = 2;
         return this;
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCompacted fragment_compacted = 2;</code>
        */
-      public
-        Builder
-        setFragmentCompacted(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted.Builder builderForValue)
-      {
-        this.actual_ = builderForValue.build();
+      public Builder setFragmentCompacted(
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted.Builder builderForValue) {
+        actual_ = builderForValue.build();
 
-        this.actualCase_ = 2;
+        actualCase_ = 2;
         return this;
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCompacted fragment_compacted = 2;</code>
        */
-      public
-        Builder
-        mergeFragmentCompacted(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted value)
-      {
-        if ((this.actualCase_ == 2)
-          && (this.actual_ != com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-            .getDefaultInstance())) {
-          this.actual_ =
-            com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted
-              .newBuilder(
-                (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted) this.actual_)
-              .mergeFrom(value)
-              .buildPartial();
+      public Builder mergeFragmentCompacted(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted value) {
+        if (actualCase_ == 2 &&
+            actual_ != com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted.getDefaultInstance()) {
+          actual_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted.newBuilder((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PFragmentShaderCompacted) actual_)
+              .mergeFrom(value).buildPartial();
         } else {
-          this.actual_ = value;
+          actual_ = value;
         }
 
-        this.actualCase_ = 2;
+        actualCase_ = 2;
         return this;
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PFragmentShaderCompacted fragment_compacted = 2;</code>
        */
-      public Builder clearFragmentCompacted()
-      {
-        if (this.actualCase_ == 2) {
-          this.actualCase_ = 0;
-          this.actual_ = null;
-
+      public Builder clearFragmentCompacted() {
+        if (actualCase_ == 2) {
+          actualCase_ = 0;
+          actual_ = null;
+          
         }
         return this;
       }
@@ -15408,90 +11585,63 @@ public final class ProgramMeta
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderUncompacted vertex_uncompacted = 3;</code>
        */
-      @Override public boolean hasVertexUncompacted()
-      {
-        return this.actualCase_ == 3;
+      public boolean hasVertexUncompacted() {
+        return actualCase_ == 3;
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderUncompacted vertex_uncompacted = 3;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-        getVertexUncompacted()
-      {
-        if (this.actualCase_ == 3) {
-          return (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted) this.actual_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted getVertexUncompacted() {
+        if (actualCase_ == 3) {
+          return (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted) actual_;
         }
-        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-          .getDefaultInstance();
+        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted.getDefaultInstance();
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderUncompacted vertex_uncompacted = 3;</code>
        */
-      public
-        Builder
-        setVertexUncompacted(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted value)
-      {
+      public Builder setVertexUncompacted(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.actual_ = value;
+        actual_ = value;
 
-        this.actualCase_ = 3;
+        actualCase_ = 3;
         return this;
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderUncompacted vertex_uncompacted = 3;</code>
        */
-      public
-        Builder
-        setVertexUncompacted(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted.Builder builderForValue)
-      {
-        this.actual_ = builderForValue.build();
+      public Builder setVertexUncompacted(
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted.Builder builderForValue) {
+        actual_ = builderForValue.build();
 
-        this.actualCase_ = 3;
+        actualCase_ = 3;
         return this;
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderUncompacted vertex_uncompacted = 3;</code>
        */
-      public
-        Builder
-        mergeVertexUncompacted(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted value)
-      {
-        if ((this.actualCase_ == 3)
-          && (this.actual_ != com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-            .getDefaultInstance())) {
-          this.actual_ =
-            com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted
-              .newBuilder(
-                (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted) this.actual_)
-              .mergeFrom(value)
-              .buildPartial();
+      public Builder mergeVertexUncompacted(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted value) {
+        if (actualCase_ == 3 &&
+            actual_ != com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted.getDefaultInstance()) {
+          actual_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted.newBuilder((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderUncompacted) actual_)
+              .mergeFrom(value).buildPartial();
         } else {
-          this.actual_ = value;
+          actual_ = value;
         }
 
-        this.actualCase_ = 3;
+        actualCase_ = 3;
         return this;
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderUncompacted vertex_uncompacted = 3;</code>
        */
-      public Builder clearVertexUncompacted()
-      {
-        if (this.actualCase_ == 3) {
-          this.actualCase_ = 0;
-          this.actual_ = null;
-
+      public Builder clearVertexUncompacted() {
+        if (actualCase_ == 3) {
+          actualCase_ = 0;
+          actual_ = null;
+          
         }
         return this;
       }
@@ -15499,90 +11649,63 @@ public final class ProgramMeta
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCompacted vertex_compacted = 4;</code>
        */
-      @Override public boolean hasVertexCompacted()
-      {
-        return this.actualCase_ == 4;
+      public boolean hasVertexCompacted() {
+        return actualCase_ == 4;
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCompacted vertex_compacted = 4;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-        getVertexCompacted()
-      {
-        if (this.actualCase_ == 4) {
-          return (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted) this.actual_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted getVertexCompacted() {
+        if (actualCase_ == 4) {
+          return (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted) actual_;
         }
-        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-          .getDefaultInstance();
+        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted.getDefaultInstance();
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCompacted vertex_compacted = 4;</code>
        */
-      public
-        Builder
-        setVertexCompacted(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted value)
-      {
+      public Builder setVertexCompacted(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.actual_ = value;
+        actual_ = value;
 
-        this.actualCase_ = 4;
+        actualCase_ = 4;
         return this;
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCompacted vertex_compacted = 4;</code>
        */
-      public
-        Builder
-        setVertexCompacted(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted.Builder builderForValue)
-      {
-        this.actual_ = builderForValue.build();
+      public Builder setVertexCompacted(
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted.Builder builderForValue) {
+        actual_ = builderForValue.build();
 
-        this.actualCase_ = 4;
+        actualCase_ = 4;
         return this;
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCompacted vertex_compacted = 4;</code>
        */
-      public
-        Builder
-        mergeVertexCompacted(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted value)
-      {
-        if ((this.actualCase_ == 4)
-          && (this.actual_ != com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-            .getDefaultInstance())) {
-          this.actual_ =
-            com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted
-              .newBuilder(
-                (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted) this.actual_)
-              .mergeFrom(value)
-              .buildPartial();
+      public Builder mergeVertexCompacted(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted value) {
+        if (actualCase_ == 4 &&
+            actual_ != com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted.getDefaultInstance()) {
+          actual_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted.newBuilder((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PVertexShaderCompacted) actual_)
+              .mergeFrom(value).buildPartial();
         } else {
-          this.actual_ = value;
+          actual_ = value;
         }
 
-        this.actualCase_ = 4;
+        actualCase_ = 4;
         return this;
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PVertexShaderCompacted vertex_compacted = 4;</code>
        */
-      public Builder clearVertexCompacted()
-      {
-        if (this.actualCase_ == 4) {
-          this.actualCase_ = 0;
-          this.actual_ = null;
-
+      public Builder clearVertexCompacted() {
+        if (actualCase_ == 4) {
+          actualCase_ = 0;
+          actual_ = null;
+          
         }
         return this;
       }
@@ -15590,90 +11713,63 @@ public final class ProgramMeta
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PProgramShader program = 5;</code>
        */
-      @Override public boolean hasProgram()
-      {
-        return this.actualCase_ == 5;
+      public boolean hasProgram() {
+        return actualCase_ == 5;
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PProgramShader program = 5;</code>
        */
-      @Override public
-        com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-        getProgram()
-      {
-        if (this.actualCase_ == 5) {
-          return (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader) this.actual_;
+      public com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader getProgram() {
+        if (actualCase_ == 5) {
+          return (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader) actual_;
         }
-        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-          .getDefaultInstance();
+        return com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader.getDefaultInstance();
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PProgramShader program = 5;</code>
        */
-      public
-        Builder
-        setProgram(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader value)
-      {
+      public Builder setProgram(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader value) {
         if (value == null) {
           throw new NullPointerException();
         }
-        this.actual_ = value;
+        actual_ = value;
 
-        this.actualCase_ = 5;
+        actualCase_ = 5;
         return this;
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PProgramShader program = 5;</code>
        */
-      public
-        Builder
-        setProgram(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader.Builder builderForValue)
-      {
-        this.actual_ = builderForValue.build();
+      public Builder setProgram(
+          com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader.Builder builderForValue) {
+        actual_ = builderForValue.build();
 
-        this.actualCase_ = 5;
+        actualCase_ = 5;
         return this;
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PProgramShader program = 5;</code>
        */
-      public
-        Builder
-        mergeProgram(
-          final com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader value)
-      {
-        if ((this.actualCase_ == 5)
-          && (this.actual_ != com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-            .getDefaultInstance())) {
-          this.actual_ =
-            com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader
-              .newBuilder(
-                (com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader) this.actual_)
-              .mergeFrom(value)
-              .buildPartial();
+      public Builder mergeProgram(com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader value) {
+        if (actualCase_ == 5 &&
+            actual_ != com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader.getDefaultInstance()) {
+          actual_ = com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader.newBuilder((com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.PProgramShader) actual_)
+              .mergeFrom(value).buildPartial();
         } else {
-          this.actual_ = value;
+          actual_ = value;
         }
 
-        this.actualCase_ = 5;
+        actualCase_ = 5;
         return this;
       }
-
       /**
        * <code>optional .com.io7m.jparasol.metaserializer.protobuf.types.PProgramShader program = 5;</code>
        */
-      public Builder clearProgram()
-      {
-        if (this.actualCase_ == 5) {
-          this.actualCase_ = 0;
-          this.actual_ = null;
-
+      public Builder clearProgram() {
+        if (actualCase_ == 5) {
+          actualCase_ = 0;
+          actual_ = null;
+          
         }
         return this;
       }
@@ -15683,12 +11779,13 @@ public final class ProgramMeta
 
     static {
       defaultInstance = new Meta(true);
-      Meta.defaultInstance.initFields();
+      defaultInstance.initFields();
     }
 
     // @@protoc_insertion_point(class_scope:com.io7m.jparasol.metaserializer.protobuf.types.Meta)
   }
 
+
   static {
   }
 
@@ -16,8 +16,21 @@
 
 package com.io7m.jparasol.metaserializer.xml;
 
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import com.io7m.jequality.annotations.EqualityReference;
 import com.io7m.jlog.LogUsableType;
@@ -34,6 +47,7 @@ import com.io7m.jparasol.core.JPUncompactedVertexShaderMeta;
 import com.io7m.jparasol.core.JPVertexShaderMetaType;
 import com.io7m.jparasol.metaserializer.JPMetaDeserializerType;
 import com.io7m.jparasol.metaserializer.JPSerializerException;
+import com.io7m.junreachable.UnreachableCodeException;
 
 /**
  * The implementation of an XML metadata deserializer.
@@ -42,11 +56,43 @@ import com.io7m.jparasol.metaserializer.JPSerializerException;
 @EqualityReference public final class JPXMLMetaDeserializer implements
   JPMetaDeserializerType
 {
+  private static <T> T await(
+    final Future<T> f)
+    throws IOException,
+      JPSerializerException
+  {
+    try {
+      final T r = f.get();
+      assert r != null;
+      return r;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      final InterruptedIOException x = new InterruptedIOException();
+      x.initCause(e);
+      throw x;
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof JPSerializerException) {
+        throw (JPSerializerException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new UnreachableCodeException(cause);
+    }
+  }
+
   /**
    * @return A new metadata deserializer
    */
 
-  public static JPMetaDeserializerType newDeserializer(
+  public static JPXMLMetaDeserializer newDeserializer(
     final LogUsableType in_log)
   {
     return new JPXMLMetaDeserializer(in_log);
@@ -60,6 +106,140 @@ import com.io7m.jparasol.metaserializer.JPSerializerException;
     this.log = NullCheck.notNull(in_log);
   }
 
+  /**
+   * <p>
+   * Deserialize the metadata of every shader in the given directory, using
+   * the given executor. The directory is assumed to have been written by the
+   * compiler: each subdirectory that contains a file named
+   * {@link #metaGetSuggestedFilename()} is taken to be a shader.
+   * </p>
+   *
+   * @param directory
+   *          The directory
+   * @param exec
+   *          The executor used to parse metadata files
+   * @return A map from the name of each shader directory to the metadata it
+   *         contains
+   * @throws IOException
+   *           On I/O errors
+   * @throws JPSerializerException
+   *           If any metadata file cannot be parsed
+   * @see #metaDeserializeFiles(List, ExecutorService)
+   */
+
+  public SortedMap<String, JPCompiledShaderMetaType> metaDeserializeDirectory(
+    final File directory,
+    final ExecutorService exec)
+    throws IOException,
+      JPSerializerException
+  {
+    NullCheck.notNull(directory, "Directory");
+    NullCheck.notNull(exec, "Executor");
+
+    final File[] children = directory.listFiles();
+    if (children == null) {
+      throw new IOException(String.format(
+        "Could not list directory: %s",
+        directory));
+    }
+    Arrays.sort(children);
+
+    final List<String> names = new ArrayList<String>();
+    final List<File> files = new ArrayList<File>();
+    for (final File child : children) {
+      final File file = new File(child, this.metaGetSuggestedFilename());
+      if (file.isFile()) {
+        names.add(child.getName());
+        files.add(file);
+      }
+    }
+
+    final List<JPCompiledShaderMetaType> metas =
+      this.metaDeserializeFiles(files, exec);
+    final SortedMap<String, JPCompiledShaderMetaType> r =
+      new TreeMap<String, JPCompiledShaderMetaType>();
+    for (int index = 0; index < names.size(); ++index) {
+      r.put(names.get(index), metas.get(index));
+    }
+    return r;
+  }
+
+  /**
+   * <p>
+   * Deserialize the metadata in each of the given files, using the given
+   * executor.
+   * </p>
+   * <p>
+   * The files are parsed concurrently. If more than one file cannot be
+   * parsed, the exception raised is the one for the earliest file in the
+   * list, exactly as if the files had been parsed in order on the calling
+   * thread.
+   * </p>
+   *
+   * @param files
+   *          The files
+   * @param exec
+   *          The executor used to parse metadata files
+   * @return The metadata for each file, in the same order as
+   *         <code>files</code>
+   * @throws IOException
+   *           On I/O errors
+   * @throws JPSerializerException
+   *           If any metadata file cannot be parsed
+   */
+
+  public List<JPCompiledShaderMetaType> metaDeserializeFiles(
+    final List<File> files,
+    final ExecutorService exec)
+    throws IOException,
+      JPSerializerException
+  {
+    NullCheck.notNullAll(files, "Files");
+    NullCheck.notNull(exec, "Executor");
+
+    final List<Future<JPCompiledShaderMetaType>> futures =
+      new ArrayList<Future<JPCompiledShaderMetaType>>(files.size());
+
+    try {
+      for (final File file : files) {
+        futures.add(exec.submit(new Callable<JPCompiledShaderMetaType>() {
+          @Override public JPCompiledShaderMetaType call()
+            throws IOException,
+              JPSerializerException
+          {
+            return JPXMLMetaDeserializer.this.metaDeserializeFile(file);
+          }
+        }));
+      }
+
+      final List<JPCompiledShaderMetaType> r =
+        new ArrayList<JPCompiledShaderMetaType>(files.size());
+      for (final Future<JPCompiledShaderMetaType> future : futures) {
+        assert future != null;
+        r.add(JPXMLMetaDeserializer.await(future));
+      }
+      return r;
+    } finally {
+      for (final Future<JPCompiledShaderMetaType> future : futures) {
+        future.cancel(true);
+      }
+    }
+  }
+
+  private JPCompiledShaderMetaType metaDeserializeFile(
+    final File file)
+    throws IOException,
+      JPSerializerException
+  {
+    final InputStream in =
+      new BufferedInputStream(new FileInputStream(file));
+    try {
+      return this.metaDeserializeShader(in);
+    } finally {
+      in.close();
+    }
+  }
+
   @Override public JPFragmentShaderMetaType metaDeserializeFragmentShader(
     final InputStream in)
     throws IOException,
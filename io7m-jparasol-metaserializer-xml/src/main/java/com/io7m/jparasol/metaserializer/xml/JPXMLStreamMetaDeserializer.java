@@ -0,0 +1,226 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.metaserializer.xml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jfunctional.Option;
+import com.io7m.jfunctional.OptionType;
+import com.io7m.jlog.LogUsableType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jparasol.core.JPCompactedFragmentShaderMeta;
+import com.io7m.jparasol.core.JPCompactedVertexShaderMeta;
+import com.io7m.jparasol.core.JPCompiledShaderMetaType;
+import com.io7m.jparasol.core.JPFragmentShaderMetaType;
+import com.io7m.jparasol.core.JPMissingHash;
+import com.io7m.jparasol.core.JPUncompactedFragmentShaderMeta;
+import com.io7m.jparasol.core.JPUncompactedProgramShaderMeta;
+import com.io7m.jparasol.core.JPUncompactedVertexShaderMeta;
+import com.io7m.jparasol.core.JPVertexShaderMetaType;
+import com.io7m.jparasol.metaserializer.JPMetaDeserializerType;
+import com.io7m.jparasol.metaserializer.JPSerializerException;
+
+/**
+ * <p>
+ * An XML metadata deserializer that reads documents with a StAX stream
+ * reader instead of building a document tree.
+ * </p>
+ * <p>
+ * The deserializer accepts exactly the documents accepted by
+ * {@link JPXMLMetaDeserializer} and produces equal metadata. Validation
+ * against the schema is optional: a validating deserializer buffers each
+ * document and checks it against the shared compiled schema before reading
+ * it, whereas a non-validating deserializer reads directly from the stream
+ * and relies on the structural checks made by the reader.
+ * </p>
+ */
+
+@EqualityReference public final class JPXMLStreamMetaDeserializer implements
+  JPMetaDeserializerType
+{
+  /**
+   * @param in_log
+   *          A log interface
+   * @return A new metadata deserializer that does not validate documents
+   *         against the schema
+   */
+
+  public static JPXMLStreamMetaDeserializer newDeserializer(
+    final LogUsableType in_log)
+  {
+    return new JPXMLStreamMetaDeserializer(in_log, false);
+  }
+
+  /**
+   * @param in_log
+   *          A log interface
+   * @return A new metadata deserializer that validates documents against
+   *         the schema
+   */
+
+  public static JPXMLStreamMetaDeserializer newValidatingDeserializer(
+    final LogUsableType in_log)
+  {
+    return new JPXMLStreamMetaDeserializer(in_log, true);
+  }
+
+  private static OptionType<SortedSet<String>> roots(
+    final String... names)
+  {
+    final SortedSet<String> r = new TreeSet<String>(Arrays.asList(names));
+    return Option.some(r);
+  }
+
+  private final LogUsableType log;
+  private final boolean       validate;
+
+  private JPXMLStreamMetaDeserializer(
+    final LogUsableType in_log,
+    final boolean in_validate)
+  {
+    this.log = NullCheck.notNull(in_log, "Log");
+    this.validate = in_validate;
+  }
+
+  @Override public JPFragmentShaderMetaType metaDeserializeFragmentShader(
+    final InputStream in)
+    throws IOException,
+      JPSerializerException
+  {
+    return (JPFragmentShaderMetaType) this.parse(
+      in,
+      JPXMLStreamMetaDeserializer.roots(
+        "meta-fragment",
+        "meta-fragment-compacted"));
+  }
+
+  @Override public
+    JPCompactedFragmentShaderMeta
+    metaDeserializeFragmentShaderCompacted(
+      final InputStream in)
+      throws IOException,
+        JPSerializerException
+  {
+    return (JPCompactedFragmentShaderMeta) this.parse(
+      in,
+      JPXMLStreamMetaDeserializer.roots("meta-fragment-compacted"));
+  }
+
+  @Override public
+    JPUncompactedFragmentShaderMeta
+    metaDeserializeFragmentShaderUncompacted(
+      final InputStream in)
+      throws IOException,
+        JPSerializerException
+  {
+    return (JPUncompactedFragmentShaderMeta) this.parse(
+      in,
+      JPXMLStreamMetaDeserializer.roots("meta-fragment"));
+  }
+
+  @Override public
+    JPUncompactedProgramShaderMeta
+    metaDeserializeProgramShaderUncompacted(
+      final InputStream in)
+      throws IOException,
+        JPSerializerException
+  {
+    return (JPUncompactedProgramShaderMeta) this.parse(
+      in,
+      JPXMLStreamMetaDeserializer.roots("meta-program"));
+  }
+
+  @Override public JPCompiledShaderMetaType metaDeserializeShader(
+    final InputStream in)
+    throws IOException,
+      JPSerializerException
+  {
+    final OptionType<SortedSet<String>> any = Option.none();
+    return this.parse(in, any);
+  }
+
+  @Override public JPVertexShaderMetaType metaDeserializeVertexShader(
+    final InputStream in)
+    throws IOException,
+      JPSerializerException
+  {
+    return (JPVertexShaderMetaType) this.parse(
+      in,
+      JPXMLStreamMetaDeserializer.roots(
+        "meta-vertex",
+        "meta-vertex-compacted"));
+  }
+
+  @Override public
+    JPCompactedVertexShaderMeta
+    metaDeserializeVertexShaderCompacted(
+      final InputStream in)
+      throws IOException,
+        JPSerializerException
+  {
+    return (JPCompactedVertexShaderMeta) this.parse(
+      in,
+      JPXMLStreamMetaDeserializer.roots("meta-vertex-compacted"));
+  }
+
+  @Override public
+    JPUncompactedVertexShaderMeta
+    metaDeserializeVertexShaderUncompacted(
+      final InputStream in)
+      throws IOException,
+        JPSerializerException
+  {
+    return (JPUncompactedVertexShaderMeta) this.parse(
+      in,
+      JPXMLStreamMetaDeserializer.roots("meta-vertex"));
+  }
+
+  @Override public String metaGetSuggestedFilename()
+  {
+    return JPXMLMetaSerializer.SUGGESTED_FILENAME;
+  }
+
+  @Override public String metaGetSuggestedFilenameSuffix()
+  {
+    return JPXMLMetaSerializer.SUGGESTED_FILENAME_SUFFIX;
+  }
+
+  private JPCompiledShaderMetaType parse(
+    final InputStream in,
+    final OptionType<SortedSet<String>> wanted)
+    throws JPSerializerException
+  {
+    NullCheck.notNull(in);
+    try {
+      return XMLStreamMetaReader.fromStream(
+        in,
+        this.validate,
+        wanted,
+        this.log);
+    } catch (final JPMissingHash e) {
+      throw new JPSerializerException(e);
+    } catch (final JPXMLException e) {
+      throw new JPSerializerException(e);
+    }
+  }
+}
@@ -33,6 +33,7 @@ import com.io7m.jparasol.core.JPCompactedFragmentShaderMeta;
 import com.io7m.jparasol.core.JPFragmentInput;
 import com.io7m.jparasol.core.JPFragmentOutput;
 import com.io7m.jparasol.core.JPFragmentParameter;
+import com.io7m.jparasol.core.JPHashAlgorithm;
 import com.io7m.jparasol.core.JPMissingHash;
 import com.io7m.junreachable.UnreachableCodeException;
 
@@ -103,6 +104,7 @@ import com.io7m.junreachable.UnreachableCodeException;
 
     final SortedMap<GVersionType, String> version_hash =
       XMLMeta.parseVersionHashes(e);
+    final JPHashAlgorithm algorithm = XMLMeta.parseHashAlgorithm(e);
 
     return JPCompactedFragmentShaderMeta.newMetadata(
       name,
@@ -111,7 +113,8 @@ import com.io7m.junreachable.UnreachableCodeException;
       fragment_inputs,
       fragment_outputs,
       fragment_parameters,
-      version_hash);
+      version_hash,
+      algorithm);
   }
 
   /**
@@ -141,7 +144,9 @@ import com.io7m.junreachable.UnreachableCodeException;
       f.getDeclaredFragmentInputs(),
       f.getDeclaredFragmentOutputs()));
 
-    root.appendChild(XMLMeta.serializeVersionHashes(f.getVersionToHash()));
+    root.appendChild(XMLMeta.serializeVersionHashes(
+      f.getVersionToHash(),
+      f.getHashAlgorithm()));
     return root;
   }
 
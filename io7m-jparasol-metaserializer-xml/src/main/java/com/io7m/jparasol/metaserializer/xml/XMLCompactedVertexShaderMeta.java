@@ -30,6 +30,7 @@ import com.io7m.jparasol.core.GVersionES;
 import com.io7m.jparasol.core.GVersionFull;
 import com.io7m.jparasol.core.GVersionType;
 import com.io7m.jparasol.core.JPCompactedVertexShaderMeta;
+import com.io7m.jparasol.core.JPHashAlgorithm;
 import com.io7m.jparasol.core.JPMissingHash;
 import com.io7m.jparasol.core.JPVertexInput;
 import com.io7m.jparasol.core.JPVertexOutput;
@@ -103,6 +104,7 @@ import com.io7m.junreachable.UnreachableCodeException;
 
     final SortedMap<GVersionType, String> version_hash =
       XMLMeta.parseVersionHashes(e);
+    final JPHashAlgorithm algorithm = XMLMeta.parseHashAlgorithm(e);
 
     return JPCompactedVertexShaderMeta.newMetadata(
       name,
@@ -111,7 +113,8 @@ import com.io7m.junreachable.UnreachableCodeException;
       vertex_inputs,
       vertex_outputs,
       vertex_parameters,
-      version_hash);
+      version_hash,
+      algorithm);
   }
 
   /**
@@ -140,7 +143,9 @@ import com.io7m.junreachable.UnreachableCodeException;
       v.getDeclaredVertexParameters(),
       v.getDeclaredVertexInputs(),
       v.getDeclaredVertexOutputs()));
-    root.appendChild(XMLMeta.serializeVersionHashes(v.getVersionToHash()));
+    root.appendChild(XMLMeta.serializeVersionHashes(
+      v.getVersionToHash(),
+      v.getHashAlgorithm()));
 
     return root;
   }
@@ -32,6 +32,7 @@ import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 import javax.xml.transform.Source;
 import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 
 import nu.xom.Attribute;
@@ -58,6 +59,7 @@ import com.io7m.jparasol.core.JPCompiledShaderMetaType;
 import com.io7m.jparasol.core.JPFragmentInput;
 import com.io7m.jparasol.core.JPFragmentOutput;
 import com.io7m.jparasol.core.JPFragmentParameter;
+import com.io7m.jparasol.core.JPHashAlgorithm;
 import com.io7m.jparasol.core.JPMissingHash;
 import com.io7m.jparasol.core.JPVertexInput;
 import com.io7m.jparasol.core.JPVertexOutput;
@@ -125,7 +127,24 @@ import com.io7m.junreachable.UnreachableCodeException;
 
   public static final int    XML_VERSION;
 
+  /**
+   * Parsers are not thread-safe, so each thread keeps its own parser, which
+   * is reset before each use.
+   */
+
+  private static final ThreadLocal<SAXParser>   PARSERS;
+
+  /**
+   * The compiled schema is immutable and thread-safe, and so is compiled
+   * once and shared by all parsers. Guarded by the class lock; see
+   * {@link #getSchema(LogUsableType)}.
+   */
+
+  private static @Nullable Schema SCHEMA;
+
   static {
+    PARSERS = new ThreadLocal<SAXParser>();
+
     try {
       XML_URI_STRING = "http://schemas.io7m.com/parasol/glsl-meta";
       XML_URI = new URI(XMLMeta.XML_URI_STRING);
@@ -268,40 +287,82 @@ import com.io7m.junreachable.UnreachableCodeException;
 
     final LogUsableType log_xml = log.with("xml");
 
-    log_xml.debug("creating sax parser");
+    final TrivialErrorHandler handler = new TrivialErrorHandler();
+    final SAXParser parser = XMLMeta.getParser(log_xml);
+    final XMLReader reader = parser.getXMLReader();
+    reader.setErrorHandler(handler);
+
+    log_xml.debug("parsing and validating");
+    final Builder builder = new Builder(reader);
+    final Document doc = builder.build(stream);
+
+    final SAXParseException ex = handler.getException();
+    if (ex != null) {
+      throw ex;
+    }
+
+    assert doc != null;
+    return doc;
+  }
+
+  /**
+   * @return A validating parser for the calling thread, reset to its initial
+   *         state.
+   */
+
+  private static SAXParser getParser(
+    final LogUsableType log)
+    throws SAXException,
+      ParserConfigurationException,
+      IOException
+  {
+    final SAXParser cached = XMLMeta.PARSERS.get();
+    if (cached != null) {
+      cached.reset();
+      return cached;
+    }
+
+    log.debug("creating sax parser");
     final SAXParserFactory factory = SAXParserFactory.newInstance();
     factory.setValidating(false);
     factory.setNamespaceAware(true);
+    factory.setSchema(XMLMeta.getSchema(log));
 
-    log_xml.debug("opening schema");
+    final SAXParser parser = factory.newSAXParser();
+    XMLMeta.PARSERS.set(parser);
+    return parser;
+  }
+
+  /**
+   * @return The metadata schema, compiling it if it has not already been
+   *         compiled.
+   */
+
+  static synchronized Schema getSchema(
+    final LogUsableType log)
+    throws SAXException,
+      IOException
+  {
+    final Schema cached = XMLMeta.SCHEMA;
+    if (cached != null) {
+      return cached;
+    }
+
+    log.debug("opening schema");
     final InputStream xsd_stream =
       XMLMeta.class.getResourceAsStream("/com/io7m/jparasol/meta.xsd");
 
     try {
-      log_xml.debug("creating schema handler");
+      log.debug("compiling schema");
       final SchemaFactory sf =
         SchemaFactory.newInstance("http://www.w3.org/2001/XMLSchema");
 
       final Source[] sources = new Source[1];
       sources[0] = new StreamSource(xsd_stream);
-      factory.setSchema(sf.newSchema(sources));
-
-      final TrivialErrorHandler handler = new TrivialErrorHandler();
-      final SAXParser parser = factory.newSAXParser();
-      final XMLReader reader = parser.getXMLReader();
-      reader.setErrorHandler(handler);
-
-      log_xml.debug("parsing and validating");
-      final Builder builder = new Builder(reader);
-      final Document doc = builder.build(stream);
-
-      final SAXParseException ex = handler.getException();
-      if (ex != null) {
-        throw ex;
-      }
-
-      assert doc != null;
-      return doc;
+      final Schema r = sf.newSchema(sources);
+      assert r != null;
+      XMLMeta.SCHEMA = r;
+      return r;
     } finally {
       xsd_stream.close();
     }
@@ -361,6 +422,32 @@ import com.io7m.junreachable.UnreachableCodeException;
    *           If an error occurs whilst parsing.
    */
 
+  static JPHashAlgorithm parseHashAlgorithm(
+    final Element root)
+    throws JPXMLValidityException
+  {
+    final Element ecm =
+      root.getFirstChildElement("version-hashes", XMLMeta.XML_URI_STRING);
+    final Attribute aa = ecm.getAttribute("algorithm", XMLMeta.XML_URI_STRING);
+
+    /**
+     * Metadata written before the algorithm was recorded named sources
+     * with the original hashing scheme.
+     */
+
+    if (aa == null) {
+      return JPHashAlgorithm.HASH_SHA_256_LINES;
+    }
+
+    try {
+      final String name = aa.getValue();
+      assert name != null;
+      return JPHashAlgorithm.fromName(name);
+    } catch (final IllegalArgumentException x) {
+      throw new JPXMLValidityException(x.getMessage());
+    }
+  }
+
   static SortedMap<GVersionType, String> parseVersionHashes(
     final Element root)
     throws JPXMLValidityException
@@ -533,10 +620,14 @@ import com.io7m.junreachable.UnreachableCodeException;
    */
 
   static Element serializeVersionHashes(
-    final Map<GVersionType, String> version_to_hash)
+    final Map<GVersionType, String> version_to_hash,
+    final JPHashAlgorithm algorithm)
   {
     final String uri = XMLMeta.XML_URI_STRING;
     final Element e = new Element("g:version-hashes", uri);
+    if (algorithm != JPHashAlgorithm.HASH_SHA_256_LINES) {
+      e.addAttribute(new Attribute("g:algorithm", uri, algorithm.getName()));
+    }
 
     for (final Entry<GVersionType, String> k : version_to_hash.entrySet()) {
       final GVersionType v = k.getKey();
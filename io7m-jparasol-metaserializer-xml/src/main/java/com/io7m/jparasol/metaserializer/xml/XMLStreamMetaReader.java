@@ -0,0 +1,753 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.metaserializer.xml;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Validator;
+
+import org.xml.sax.SAXException;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jfunctional.OptionType;
+import com.io7m.jfunctional.Some;
+import com.io7m.jlog.LogUsableType;
+import com.io7m.jparasol.core.GVersion;
+import com.io7m.jparasol.core.GVersionES;
+import com.io7m.jparasol.core.GVersionFull;
+import com.io7m.jparasol.core.GVersionType;
+import com.io7m.jparasol.core.JPCompactedFragmentShaderMeta;
+import com.io7m.jparasol.core.JPCompactedVertexShaderMeta;
+import com.io7m.jparasol.core.JPCompiledShaderMetaType;
+import com.io7m.jparasol.core.JPFragmentInput;
+import com.io7m.jparasol.core.JPFragmentOutput;
+import com.io7m.jparasol.core.JPFragmentParameter;
+import com.io7m.jparasol.core.JPHashAlgorithm;
+import com.io7m.jparasol.core.JPMissingHash;
+import com.io7m.jparasol.core.JPUncompactedFragmentShaderMeta;
+import com.io7m.jparasol.core.JPUncompactedProgramShaderMeta;
+import com.io7m.jparasol.core.JPUncompactedVertexShaderMeta;
+import com.io7m.jparasol.core.JPVertexInput;
+import com.io7m.jparasol.core.JPVertexOutput;
+import com.io7m.jparasol.core.JPVertexParameter;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>
+ * Functions to read metadata from a StAX stream, without building a document
+ * tree.
+ * </p>
+ * <p>
+ * The reader walks the elements in exactly the order given by the schema and
+ * rejects anything else, so a document accepted without validation produces
+ * the same metadata as it would with validation.
+ * </p>
+ */
+
+@EqualityReference final class XMLStreamMetaReader
+{
+  /**
+   * Input factories are not guaranteed to be thread-safe, and are expensive
+   * to look up, so each thread keeps its own.
+   */
+
+  private static final ThreadLocal<XMLInputFactory> FACTORIES;
+
+  /**
+   * Validators are not thread-safe, so each thread keeps its own validator,
+   * which is reset before each use.
+   */
+
+  private static final ThreadLocal<Validator>       VALIDATORS;
+
+  static {
+    FACTORIES = new ThreadLocal<XMLInputFactory>();
+    VALIDATORS = new ThreadLocal<Validator>();
+  }
+
+  private static String attribute(
+    final XMLStreamReader r,
+    final String name)
+    throws JPXMLValidityException
+  {
+    final String v = r.getAttributeValue(XMLMeta.XML_URI_STRING, name);
+    if (v == null) {
+      final String m =
+        String.format(
+          "Missing attribute 'g:%s' on element 'g:%s'",
+          name,
+          r.getLocalName());
+      assert m != null;
+      throw new JPXMLValidityException(m);
+    }
+    return v;
+  }
+
+  private static void checkElement(
+    final XMLStreamReader r,
+    final String local)
+    throws JPXMLValidityException
+  {
+    if (XMLMeta.XML_URI_STRING.equals(r.getNamespaceURI()) == false) {
+      final String m =
+        String.format(
+          "Expected an element in namespace '%s' but got '%s'",
+          XMLMeta.XML_URI_STRING,
+          r.getNamespaceURI());
+      assert m != null;
+      throw new JPXMLValidityException(m);
+    }
+
+    if (local.equals(r.getLocalName()) == false) {
+      final String m =
+        String.format(
+          "Expected element 'g:%s' but got 'g:%s'",
+          local,
+          r.getLocalName());
+      assert m != null;
+      throw new JPXMLValidityException(m);
+    }
+  }
+
+  private static void checkVersion(
+    final XMLStreamReader r)
+    throws JPXMLValidityException
+  {
+    final String version = XMLStreamMetaReader.attribute(r, "version");
+    try {
+      final int version_number = Integer.parseInt(version);
+      if (version_number != XMLMeta.XML_VERSION) {
+        final StringBuilder message = new StringBuilder();
+        message.append("Unsupported version ");
+        message.append(version_number);
+        message.append(", supported versions are: ");
+        message.append(XMLMeta.XML_VERSION);
+        throw new JPXMLValidityException(message.toString());
+      }
+    } catch (final NumberFormatException x) {
+      final StringBuilder message = new StringBuilder();
+      message
+        .append("Could not parse 'version' attribute as numeric value: ");
+      message.append(x.getMessage());
+      throw new JPXMLValidityException(message.toString());
+    }
+  }
+
+  private static XMLInputFactory getFactory()
+  {
+    final XMLInputFactory cached = XMLStreamMetaReader.FACTORIES.get();
+    if (cached != null) {
+      return cached;
+    }
+
+    final XMLInputFactory f = XMLInputFactory.newInstance();
+    f.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+    f.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+    f.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+    f.setProperty(
+      XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES,
+      Boolean.FALSE);
+    XMLStreamMetaReader.FACTORIES.set(f);
+    return f;
+  }
+
+  private static Validator getValidator(
+    final LogUsableType log)
+    throws SAXException,
+      IOException
+  {
+    final Validator cached = XMLStreamMetaReader.VALIDATORS.get();
+    if (cached != null) {
+      cached.reset();
+      return cached;
+    }
+
+    log.debug("creating validator");
+    final Validator v = XMLMeta.getSchema(log).newValidator();
+    assert v != null;
+    XMLStreamMetaReader.VALIDATORS.set(v);
+    return v;
+  }
+
+  /**
+   * Move to the next child element of the current element.
+   * 
+   * @return <code>true</code> if the next child is an element named
+   *         <code>local</code>, or <code>false</code> if the current element
+   *         has no more children.
+   */
+
+  private static boolean nextChild(
+    final XMLStreamReader r,
+    final String local)
+    throws XMLStreamException,
+      JPXMLValidityException
+  {
+    if (r.nextTag() == XMLStreamConstants.END_ELEMENT) {
+      return false;
+    }
+    XMLStreamMetaReader.checkElement(r, local);
+    return true;
+  }
+
+  private static JPCompiledShaderMetaType parseDocument(
+    final XMLStreamReader r,
+    final OptionType<SortedSet<String>> wanted)
+    throws XMLStreamException,
+      JPXMLValidityException,
+      JPMissingHash
+  {
+    r.nextTag();
+    final String root = r.getLocalName();
+    assert root != null;
+
+    if (XMLMeta.XML_URI_STRING.equals(r.getNamespaceURI()) == false) {
+      final String m =
+        String.format(
+          "Expected a root element in namespace '%s' but got '%s'",
+          XMLMeta.XML_URI_STRING,
+          r.getNamespaceURI());
+      assert m != null;
+      throw new JPXMLValidityException(m);
+    }
+
+    if (wanted.isSome()) {
+      final SortedSet<String> set =
+        ((Some<SortedSet<String>>) wanted).get();
+      if (set.contains(root) == false) {
+        final StringBuilder s = new StringBuilder();
+        s.append("Wrong type of shader metadata.\n");
+        s.append("  Expected one of: ");
+        s.append(set);
+        s.append("\n");
+        s.append("  Got: ");
+        s.append(root);
+        s.append("\n");
+        throw new JPXMLValidityException(s.toString());
+      }
+    }
+
+    final JPCompiledShaderMetaType meta =
+      XMLStreamMetaReader.parseRoot(r, root);
+
+    /**
+     * Read to the end of the document, so that malformed trailing content
+     * is reported rather than silently ignored.
+     */
+
+    while (r.hasNext()) {
+      r.next();
+    }
+
+    return meta;
+  }
+
+  private static void parseEnd(
+    final XMLStreamReader r)
+    throws XMLStreamException,
+      JPXMLValidityException
+  {
+    if (r.nextTag() != XMLStreamConstants.END_ELEMENT) {
+      final String m =
+        String.format("Unexpected element 'g:%s'", r.getLocalName());
+      assert m != null;
+      throw new JPXMLValidityException(m);
+    }
+  }
+
+  private static JPCompactedFragmentShaderMeta parseFragmentCompacted(
+    final XMLStreamReader r)
+    throws XMLStreamException,
+      JPXMLValidityException,
+      JPMissingHash
+  {
+    final String name = XMLStreamMetaReader.parseName(r);
+    final SortedSet<GVersionES> supports_es = new TreeSet<GVersionES>();
+    final SortedSet<GVersionFull> supports_full = new TreeSet<GVersionFull>();
+    XMLStreamMetaReader.parseSupports(r, supports_es, supports_full);
+
+    final SortedSet<JPFragmentParameter> parameters =
+      new TreeSet<JPFragmentParameter>();
+    final SortedSet<JPFragmentInput> inputs = new TreeSet<JPFragmentInput>();
+    final SortedMap<Integer, JPFragmentOutput> outputs =
+      new TreeMap<Integer, JPFragmentOutput>();
+    XMLStreamMetaReader.parseParametersFragment(
+      r,
+      parameters,
+      inputs,
+      outputs);
+
+    final SortedMap<GVersionType, String> version_hash =
+      new TreeMap<GVersionType, String>();
+    final JPHashAlgorithm algorithm =
+      XMLStreamMetaReader.parseVersionHashes(r, version_hash);
+
+    return JPCompactedFragmentShaderMeta.newMetadata(
+      name,
+      supports_es,
+      supports_full,
+      inputs,
+      outputs,
+      parameters,
+      version_hash,
+      algorithm);
+  }
+
+  private static JPUncompactedFragmentShaderMeta parseFragmentUncompacted(
+    final XMLStreamReader r)
+    throws XMLStreamException,
+      JPXMLValidityException
+  {
+    final String name = XMLStreamMetaReader.parseName(r);
+    final SortedSet<GVersionES> supports_es = new TreeSet<GVersionES>();
+    final SortedSet<GVersionFull> supports_full = new TreeSet<GVersionFull>();
+    XMLStreamMetaReader.parseSupports(r, supports_es, supports_full);
+
+    final SortedSet<JPFragmentParameter> parameters =
+      new TreeSet<JPFragmentParameter>();
+    final SortedSet<JPFragmentInput> inputs = new TreeSet<JPFragmentInput>();
+    final SortedMap<Integer, JPFragmentOutput> outputs =
+      new TreeMap<Integer, JPFragmentOutput>();
+    XMLStreamMetaReader.parseParametersFragment(
+      r,
+      parameters,
+      inputs,
+      outputs);
+
+    return JPUncompactedFragmentShaderMeta.newMetadata(
+      name,
+      supports_es,
+      supports_full,
+      inputs,
+      outputs,
+      parameters);
+  }
+
+  private static String parseName(
+    final XMLStreamReader r)
+    throws XMLStreamException,
+      JPXMLValidityException
+  {
+    XMLStreamMetaReader.parseStart(r, "program-name");
+    final String name = r.getElementText();
+    assert name != null;
+    return name;
+  }
+
+  private static void parseParametersFragment(
+    final XMLStreamReader r,
+    final SortedSet<JPFragmentParameter> parameters,
+    final SortedSet<JPFragmentInput> inputs,
+    final SortedMap<Integer, JPFragmentOutput> outputs)
+    throws XMLStreamException,
+      JPXMLValidityException
+  {
+    XMLStreamMetaReader.parseStart(r, "parameters-fragment");
+
+    XMLStreamMetaReader.parseStart(r, "declared-fragment-parameters");
+    while (XMLStreamMetaReader.nextChild(r, "parameter")) {
+      parameters.add(JPFragmentParameter.newParameter(
+        XMLStreamMetaReader.attribute(r, "name"),
+        XMLStreamMetaReader.attribute(r, "type")));
+      XMLStreamMetaReader.parseEnd(r);
+    }
+
+    XMLStreamMetaReader.parseStart(r, "declared-fragment-inputs");
+    while (XMLStreamMetaReader.nextChild(r, "input")) {
+      inputs.add(JPFragmentInput.newInput(
+        XMLStreamMetaReader.attribute(r, "name"),
+        XMLStreamMetaReader.attribute(r, "type")));
+      XMLStreamMetaReader.parseEnd(r);
+    }
+
+    XMLStreamMetaReader.parseStart(r, "declared-fragment-outputs");
+    while (XMLStreamMetaReader.nextChild(r, "fragment-output")) {
+      final String name = XMLStreamMetaReader.attribute(r, "name");
+      final String type = XMLStreamMetaReader.attribute(r, "type");
+      final String index = XMLStreamMetaReader.attribute(r, "index");
+      try {
+        final Integer i = Integer.decode(index);
+        assert i != null;
+        outputs.put(i, JPFragmentOutput.newOutput(name, i, type));
+      } catch (final NumberFormatException x) {
+        throw new JPXMLValidityException(
+          "Could not parse 'index' number on 'fragment-output' element: "
+            + x.getMessage());
+      }
+      XMLStreamMetaReader.parseEnd(r);
+    }
+
+    XMLStreamMetaReader.parseEnd(r);
+  }
+
+  private static void parseParametersVertex(
+    final XMLStreamReader r,
+    final SortedSet<JPVertexParameter> parameters,
+    final SortedSet<JPVertexInput> inputs,
+    final SortedSet<JPVertexOutput> outputs)
+    throws XMLStreamException,
+      JPXMLValidityException
+  {
+    XMLStreamMetaReader.parseStart(r, "parameters-vertex");
+
+    XMLStreamMetaReader.parseStart(r, "declared-vertex-parameters");
+    while (XMLStreamMetaReader.nextChild(r, "parameter")) {
+      parameters.add(JPVertexParameter.newParameter(
+        XMLStreamMetaReader.attribute(r, "name"),
+        XMLStreamMetaReader.attribute(r, "type")));
+      XMLStreamMetaReader.parseEnd(r);
+    }
+
+    XMLStreamMetaReader.parseStart(r, "declared-vertex-inputs");
+    while (XMLStreamMetaReader.nextChild(r, "input")) {
+      inputs.add(JPVertexInput.newInput(
+        XMLStreamMetaReader.attribute(r, "name"),
+        XMLStreamMetaReader.attribute(r, "type")));
+      XMLStreamMetaReader.parseEnd(r);
+    }
+
+    XMLStreamMetaReader.parseStart(r, "declared-vertex-outputs");
+    while (XMLStreamMetaReader.nextChild(r, "output")) {
+      outputs.add(JPVertexOutput.newOutput(
+        XMLStreamMetaReader.attribute(r, "name"),
+        XMLStreamMetaReader.attribute(r, "type")));
+      XMLStreamMetaReader.parseEnd(r);
+    }
+
+    XMLStreamMetaReader.parseEnd(r);
+  }
+
+  private static JPUncompactedProgramShaderMeta parseProgram(
+    final XMLStreamReader r)
+    throws XMLStreamException,
+      JPXMLValidityException
+  {
+    final String name = XMLStreamMetaReader.parseName(r);
+    final SortedSet<GVersionES> supports_es = new TreeSet<GVersionES>();
+    final SortedSet<GVersionFull> supports_full = new TreeSet<GVersionFull>();
+    XMLStreamMetaReader.parseSupports(r, supports_es, supports_full);
+
+    final SortedSet<String> vertex_names = new TreeSet<String>();
+    XMLStreamMetaReader.parseStart(r, "shaders-vertex");
+    while (XMLStreamMetaReader.nextChild(r, "shader-vertex")) {
+      vertex_names.add(r.getElementText());
+    }
+
+    XMLStreamMetaReader.parseStart(r, "shader-fragment");
+    final String fragment_name = r.getElementText();
+    assert fragment_name != null;
+
+    return JPUncompactedProgramShaderMeta.newMetadata(
+      name,
+      supports_es,
+      supports_full,
+      fragment_name,
+      vertex_names);
+  }
+
+  private static JPCompiledShaderMetaType parseRoot(
+    final XMLStreamReader r,
+    final String root)
+    throws XMLStreamException,
+      JPXMLValidityException,
+      JPMissingHash
+  {
+    final JPCompiledShaderMetaType meta;
+    if ("meta-vertex".equals(root)) {
+      XMLStreamMetaReader.checkVersion(r);
+      meta = XMLStreamMetaReader.parseVertexUncompacted(r);
+    } else if ("meta-vertex-compacted".equals(root)) {
+      XMLStreamMetaReader.checkVersion(r);
+      meta = XMLStreamMetaReader.parseVertexCompacted(r);
+    } else if ("meta-fragment".equals(root)) {
+      XMLStreamMetaReader.checkVersion(r);
+      meta = XMLStreamMetaReader.parseFragmentUncompacted(r);
+    } else if ("meta-fragment-compacted".equals(root)) {
+      XMLStreamMetaReader.checkVersion(r);
+      meta = XMLStreamMetaReader.parseFragmentCompacted(r);
+    } else if ("meta-program".equals(root)) {
+      XMLStreamMetaReader.checkVersion(r);
+      meta = XMLStreamMetaReader.parseProgram(r);
+    } else {
+      final StringBuilder message = new StringBuilder();
+      message
+        .append("Expected one of {'meta-vertex','meta-vertex-compacted','meta-fragment','meta-fragment-compacted','meta-program'} but got '");
+      message.append(root);
+      message.append("'");
+      throw new JPXMLValidityException(message.toString());
+    }
+
+    XMLStreamMetaReader.parseEnd(r);
+    return meta;
+  }
+
+  private static void parseStart(
+    final XMLStreamReader r,
+    final String local)
+    throws XMLStreamException,
+      JPXMLValidityException
+  {
+    if (r.nextTag() != XMLStreamConstants.START_ELEMENT) {
+      final String m =
+        String.format(
+          "Expected element 'g:%s' but got the end of 'g:%s'",
+          local,
+          r.getLocalName());
+      assert m != null;
+      throw new JPXMLValidityException(m);
+    }
+    XMLStreamMetaReader.checkElement(r, local);
+  }
+
+  private static void parseSupports(
+    final XMLStreamReader r,
+    final SortedSet<GVersionES> supports_es,
+    final SortedSet<GVersionFull> supports_full)
+    throws XMLStreamException,
+      JPXMLValidityException
+  {
+    final SortedSet<GVersionType> versions = new TreeSet<GVersionType>();
+    XMLStreamMetaReader.parseStart(r, "supports");
+    while (XMLStreamMetaReader.nextChild(r, "version")) {
+      versions.add(XMLStreamMetaReader.parseVersion(r));
+      XMLStreamMetaReader.parseEnd(r);
+    }
+    GVersion.filterVersions(versions, supports_es, supports_full);
+  }
+
+  private static GVersionType parseVersion(
+    final XMLStreamReader r)
+    throws JPXMLValidityException
+  {
+    final String number = XMLStreamMetaReader.attribute(r, "number");
+    final String api = XMLStreamMetaReader.attribute(r, "api");
+    try {
+      final int n = Integer.parseInt(number);
+      if (GVersionES.API_NAME.equals(api)) {
+        return new GVersionES(n);
+      }
+      if (GVersionFull.API_NAME.equals(api)) {
+        return new GVersionFull(n);
+      }
+      final String m =
+        String.format("API must be 'glsl-es' or 'glsl' (got '%s')", api);
+      assert m != null;
+      throw new JPXMLValidityException(m);
+    } catch (final NumberFormatException x) {
+      final String m =
+        String.format(
+          "Could not parse number attribute on '%s' element",
+          r.getLocalName());
+      assert m != null;
+      throw new JPXMLValidityException(m);
+    }
+  }
+
+  private static JPHashAlgorithm parseVersionHashes(
+    final XMLStreamReader r,
+    final SortedMap<GVersionType, String> version_hash)
+    throws XMLStreamException,
+      JPXMLValidityException
+  {
+    XMLStreamMetaReader.parseStart(r, "version-hashes");
+
+    /**
+     * Metadata without an algorithm predates the current hashing scheme.
+     */
+
+    final JPHashAlgorithm algorithm;
+    final String name =
+      r.getAttributeValue(XMLMeta.XML_URI_STRING, "algorithm");
+    if (name == null) {
+      algorithm = JPHashAlgorithm.HASH_SHA_256_LINES;
+    } else {
+      try {
+        algorithm = JPHashAlgorithm.fromName(name);
+      } catch (final IllegalArgumentException x) {
+        throw new JPXMLValidityException(x.getMessage());
+      }
+    }
+
+    while (XMLStreamMetaReader.nextChild(r, "version-hash")) {
+      final GVersionType v = XMLStreamMetaReader.parseVersion(r);
+      final String hash = r.getElementText();
+      assert hash != null;
+      version_hash.put(v, hash);
+    }
+
+    return algorithm;
+  }
+
+  private static JPCompactedVertexShaderMeta parseVertexCompacted(
+    final XMLStreamReader r)
+    throws XMLStreamException,
+      JPXMLValidityException,
+      JPMissingHash
+  {
+    final String name = XMLStreamMetaReader.parseName(r);
+    final SortedSet<GVersionES> supports_es = new TreeSet<GVersionES>();
+    final SortedSet<GVersionFull> supports_full = new TreeSet<GVersionFull>();
+    XMLStreamMetaReader.parseSupports(r, supports_es, supports_full);
+
+    final SortedSet<JPVertexParameter> parameters =
+      new TreeSet<JPVertexParameter>();
+    final SortedSet<JPVertexInput> inputs = new TreeSet<JPVertexInput>();
+    final SortedSet<JPVertexOutput> outputs = new TreeSet<JPVertexOutput>();
+    XMLStreamMetaReader.parseParametersVertex(r, parameters, inputs, outputs);
+
+    final SortedMap<GVersionType, String> version_hash =
+      new TreeMap<GVersionType, String>();
+    final JPHashAlgorithm algorithm =
+      XMLStreamMetaReader.parseVersionHashes(r, version_hash);
+
+    return JPCompactedVertexShaderMeta.newMetadata(
+      name,
+      supports_es,
+      supports_full,
+      inputs,
+      outputs,
+      parameters,
+      version_hash,
+      algorithm);
+  }
+
+  private static JPUncompactedVertexShaderMeta parseVertexUncompacted(
+    final XMLStreamReader r)
+    throws XMLStreamException,
+      JPXMLValidityException
+  {
+    final String name = XMLStreamMetaReader.parseName(r);
+    final SortedSet<GVersionES> supports_es = new TreeSet<GVersionES>();
+    final SortedSet<GVersionFull> supports_full = new TreeSet<GVersionFull>();
+    XMLStreamMetaReader.parseSupports(r, supports_es, supports_full);
+
+    final SortedSet<JPVertexParameter> parameters =
+      new TreeSet<JPVertexParameter>();
+    final SortedSet<JPVertexInput> inputs = new TreeSet<JPVertexInput>();
+    final SortedSet<JPVertexOutput> outputs = new TreeSet<JPVertexOutput>();
+    XMLStreamMetaReader.parseParametersVertex(r, parameters, inputs, outputs);
+
+    return JPUncompactedVertexShaderMeta.newMetadata(
+      name,
+      supports_es,
+      supports_full,
+      inputs,
+      outputs,
+      parameters);
+  }
+
+  private static byte[] readAll(
+    final InputStream stream)
+    throws IOException
+  {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+    final byte[] buffer = new byte[4096];
+    while (true) {
+      final int r = stream.read(buffer);
+      if (r == -1) {
+        break;
+      }
+      out.write(buffer, 0, r);
+    }
+    final byte[] data = out.toByteArray();
+    assert data != null;
+    return data;
+  }
+
+  /**
+   * Load XML metadata from the given stream.
+   * 
+   * @param stream
+   *          The stream
+   * @param validate
+   *          <code>true</code> if the document should be validated against
+   *          the schema before it is parsed
+   * @param wanted
+   *          The names of the root elements that are acceptable, if any
+   * @param log
+   *          A log interface
+   * @return XML metadata
+   * @throws JPXMLException
+   *           On XML-related errors.
+   * @throws JPMissingHash
+   *           On missing hashes for supported versions.
+   */
+
+  static JPCompiledShaderMetaType fromStream(
+    final InputStream stream,
+    final boolean validate,
+    final OptionType<SortedSet<String>> wanted,
+    final LogUsableType log)
+    throws JPXMLException,
+      JPMissingHash
+  {
+    try {
+      final InputStream source;
+      if (validate) {
+        final byte[] data = XMLStreamMetaReader.readAll(stream);
+        XMLStreamMetaReader.validate(data, log);
+        source = new ByteArrayInputStream(data);
+      } else {
+        source = stream;
+      }
+
+      final XMLStreamReader r =
+        XMLStreamMetaReader.getFactory().createXMLStreamReader(source);
+      try {
+        return XMLStreamMetaReader.parseDocument(r, wanted);
+      } finally {
+        r.close();
+      }
+    } catch (final XMLStreamException e) {
+      throw new JPXMLException(e);
+    } catch (final SAXException e) {
+      throw new JPXMLValidityException(e);
+    } catch (final IOException e) {
+      throw new JPXMLException(e);
+    }
+  }
+
+  private static void validate(
+    final byte[] data,
+    final LogUsableType log)
+    throws SAXException,
+      IOException
+  {
+    final LogUsableType log_xml = log.with("xml");
+    final Validator v = XMLStreamMetaReader.getValidator(log_xml);
+    log_xml.debug("validating");
+    v.validate(new StreamSource(new ByteArrayInputStream(data)));
+  }
+
+  private XMLStreamMetaReader()
+  {
+    throw new UnreachableCodeException();
+  }
+}
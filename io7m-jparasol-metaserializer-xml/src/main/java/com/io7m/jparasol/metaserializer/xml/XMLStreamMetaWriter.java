@@ -0,0 +1,472 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.metaserializer.xml;
+
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jparasol.core.GVersionES;
+import com.io7m.jparasol.core.GVersionFull;
+import com.io7m.jparasol.core.GVersionType;
+import com.io7m.jparasol.core.JPCompactedFragmentShaderMeta;
+import com.io7m.jparasol.core.JPCompactedVertexShaderMeta;
+import com.io7m.jparasol.core.JPFragmentInput;
+import com.io7m.jparasol.core.JPFragmentOutput;
+import com.io7m.jparasol.core.JPFragmentParameter;
+import com.io7m.jparasol.core.JPHashAlgorithm;
+import com.io7m.jparasol.core.JPUncompactedFragmentShaderMeta;
+import com.io7m.jparasol.core.JPUncompactedProgramShaderMeta;
+import com.io7m.jparasol.core.JPUncompactedVertexShaderMeta;
+import com.io7m.jparasol.core.JPVertexInput;
+import com.io7m.jparasol.core.JPVertexOutput;
+import com.io7m.jparasol.core.JPVertexParameter;
+
+/**
+ * <p>
+ * A writer that streams metadata to a StAX writer, without building a
+ * document tree.
+ * </p>
+ * <p>
+ * The layout (line endings, indentation, attribute order) matches the
+ * output of {@link JPXMLMetaSerializer}, so that the two serializers are
+ * interchangeable.
+ * </p>
+ */
+
+@EqualityReference final class XMLStreamMetaWriter
+{
+  /**
+   * Output factories are not guaranteed to be thread-safe, and are expensive
+   * to look up, so each thread keeps its own.
+   */
+
+  private static final ThreadLocal<XMLOutputFactory> FACTORIES;
+  private static final String                        PREFIX;
+
+  static {
+    FACTORIES = new ThreadLocal<XMLOutputFactory>();
+    PREFIX = "g";
+  }
+
+  private static XMLOutputFactory getFactory()
+  {
+    final XMLOutputFactory cached = XMLStreamMetaWriter.FACTORIES.get();
+    if (cached != null) {
+      return cached;
+    }
+
+    final XMLOutputFactory f = XMLOutputFactory.newInstance();
+    assert f != null;
+    XMLStreamMetaWriter.FACTORIES.set(f);
+    return f;
+  }
+
+  /**
+   * @param out
+   *          The output stream
+   * @return A new writer that writes UTF-8 encoded XML to <code>out</code>
+   * @throws XMLStreamException
+   *           If the writer cannot be created
+   */
+
+  static XMLStreamMetaWriter newWriter(
+    final OutputStream out)
+    throws XMLStreamException
+  {
+    final XMLStreamWriter w =
+      XMLStreamMetaWriter.getFactory().createXMLStreamWriter(
+        NullCheck.notNull(out, "Output"),
+        "UTF-8");
+    assert w != null;
+    return new XMLStreamMetaWriter(w);
+  }
+
+  private int                   depth;
+  private final XMLStreamWriter writer;
+
+  private XMLStreamMetaWriter(
+    final XMLStreamWriter in_writer)
+  {
+    this.writer = in_writer;
+    this.depth = 0;
+  }
+
+  private void attribute(
+    final String name,
+    final String value)
+    throws XMLStreamException
+  {
+    this.writer.writeAttribute(
+      XMLStreamMetaWriter.PREFIX,
+      XMLMeta.XML_URI_STRING,
+      name,
+      value);
+  }
+
+  private void end()
+    throws XMLStreamException
+  {
+    --this.depth;
+    this.newline();
+    this.writer.writeEndElement();
+  }
+
+  private void endDocument()
+    throws XMLStreamException
+  {
+    this.end();
+    this.writer.writeCharacters("\r\n");
+    this.writer.writeEndDocument();
+    this.writer.flush();
+    this.writer.close();
+  }
+
+  private void newline()
+    throws XMLStreamException
+  {
+    this.writer.writeCharacters("\r\n");
+    for (int index = 0; index < this.depth; ++index) {
+      this.writer.writeCharacters("  ");
+    }
+  }
+
+  private void start(
+    final String local,
+    final boolean empty)
+    throws XMLStreamException
+  {
+    this.newline();
+    if (empty) {
+      this.writer.writeEmptyElement(
+        XMLStreamMetaWriter.PREFIX,
+        local,
+        XMLMeta.XML_URI_STRING);
+    } else {
+      this.writer.writeStartElement(
+        XMLStreamMetaWriter.PREFIX,
+        local,
+        XMLMeta.XML_URI_STRING);
+      ++this.depth;
+    }
+  }
+
+  private void startDocument(
+    final String root)
+    throws XMLStreamException
+  {
+    this.writer.writeStartDocument("UTF-8", "1.0");
+    this.start(root, false);
+    this.attribute("version", Integer.toString(XMLMeta.XML_VERSION));
+    this.writer.writeNamespace(
+      XMLStreamMetaWriter.PREFIX,
+      XMLMeta.XML_URI_STRING);
+  }
+
+  private void text(
+    final String local,
+    final String text)
+    throws XMLStreamException
+  {
+    this.newline();
+    this.writer.writeStartElement(
+      XMLStreamMetaWriter.PREFIX,
+      local,
+      XMLMeta.XML_URI_STRING);
+    this.writer.writeCharacters(text);
+    this.writer.writeEndElement();
+  }
+
+  /**
+   * Write the given metadata as a complete document.
+   * 
+   * @param m
+   *          The metadata
+   * @throws XMLStreamException
+   *           On errors
+   */
+
+  void writeCompactedFragmentShader(
+    final JPCompactedFragmentShaderMeta m)
+    throws XMLStreamException
+  {
+    this.startDocument("meta-fragment-compacted");
+    this.text("program-name", m.getName());
+    this.writeSupports(m.getSupportsES(), m.getSupportsFull());
+    this.writeParametersFragment(
+      m.getDeclaredFragmentParameters(),
+      m.getDeclaredFragmentInputs(),
+      m.getDeclaredFragmentOutputs());
+    this.writeVersionHashes(m.getVersionToHash(), m.getHashAlgorithm());
+    this.endDocument();
+  }
+
+  /**
+   * Write the given metadata as a complete document.
+   * 
+   * @param m
+   *          The metadata
+   * @throws XMLStreamException
+   *           On errors
+   */
+
+  void writeCompactedVertexShader(
+    final JPCompactedVertexShaderMeta m)
+    throws XMLStreamException
+  {
+    this.startDocument("meta-vertex-compacted");
+    this.text("program-name", m.getName());
+    this.writeSupports(m.getSupportsES(), m.getSupportsFull());
+    this.writeParametersVertex(
+      m.getDeclaredVertexParameters(),
+      m.getDeclaredVertexInputs(),
+      m.getDeclaredVertexOutputs());
+    this.writeVersionHashes(m.getVersionToHash(), m.getHashAlgorithm());
+    this.endDocument();
+  }
+
+  private void writeParametersFragment(
+    final SortedSet<JPFragmentParameter> fp,
+    final SortedSet<JPFragmentInput> fi,
+    final SortedMap<Integer, JPFragmentOutput> fo)
+    throws XMLStreamException
+  {
+    this.start("parameters-fragment", false);
+
+    this.start("declared-fragment-parameters", fp.isEmpty());
+    for (final JPFragmentParameter p : fp) {
+      this.start("parameter", true);
+      this.attribute("name", p.getName());
+      this.attribute("type", p.getType());
+    }
+    if (fp.isEmpty() == false) {
+      this.end();
+    }
+
+    this.start("declared-fragment-inputs", fi.isEmpty());
+    for (final JPFragmentInput i : fi) {
+      this.start("input", true);
+      this.attribute("name", i.getName());
+      this.attribute("type", i.getType());
+    }
+    if (fi.isEmpty() == false) {
+      this.end();
+    }
+
+    this.start("declared-fragment-outputs", fo.isEmpty());
+    for (final JPFragmentOutput o : fo.values()) {
+      this.start("fragment-output", true);
+      this.attribute("name", o.getName());
+      this.attribute("type", o.getType());
+      this.attribute("index", o.getIndex().toString());
+    }
+    if (fo.isEmpty() == false) {
+      this.end();
+    }
+
+    this.end();
+  }
+
+  private void writeParametersVertex(
+    final SortedSet<JPVertexParameter> vp,
+    final SortedSet<JPVertexInput> vi,
+    final SortedSet<JPVertexOutput> vo)
+    throws XMLStreamException
+  {
+    this.start("parameters-vertex", false);
+
+    this.start("declared-vertex-parameters", vp.isEmpty());
+    for (final JPVertexParameter p : vp) {
+      this.start("parameter", true);
+      this.attribute("name", p.getName());
+      this.attribute("type", p.getType());
+    }
+    if (vp.isEmpty() == false) {
+      this.end();
+    }
+
+    this.start("declared-vertex-inputs", vi.isEmpty());
+    for (final JPVertexInput i : vi) {
+      this.start("input", true);
+      this.attribute("name", i.getName());
+      this.attribute("type", i.getType());
+    }
+    if (vi.isEmpty() == false) {
+      this.end();
+    }
+
+    this.start("declared-vertex-outputs", vo.isEmpty());
+    for (final JPVertexOutput o : vo) {
+      this.start("output", true);
+      this.attribute("name", o.getName());
+      this.attribute("type", o.getType());
+    }
+    if (vo.isEmpty() == false) {
+      this.end();
+    }
+
+    this.end();
+  }
+
+  private void writeSupports(
+    final SortedSet<GVersionES> supports_es,
+    final SortedSet<GVersionFull> supports_full)
+    throws XMLStreamException
+  {
+    final boolean empty = supports_es.isEmpty() && supports_full.isEmpty();
+    this.start("supports", empty);
+    for (final GVersionES v : supports_es) {
+      assert v != null;
+      this.writeVersion("version", v);
+    }
+    for (final GVersionFull v : supports_full) {
+      assert v != null;
+      this.writeVersion("version", v);
+    }
+    if (empty == false) {
+      this.end();
+    }
+  }
+
+  /**
+   * Write the given metadata as a complete document.
+   * 
+   * @param m
+   *          The metadata
+   * @throws XMLStreamException
+   *           On errors
+   */
+
+  void writeUncompactedFragmentShader(
+    final JPUncompactedFragmentShaderMeta m)
+    throws XMLStreamException
+  {
+    this.startDocument("meta-fragment");
+    this.text("program-name", m.getName());
+    this.writeSupports(m.getSupportsES(), m.getSupportsFull());
+    this.writeParametersFragment(
+      m.getDeclaredFragmentParameters(),
+      m.getDeclaredFragmentInputs(),
+      m.getDeclaredFragmentOutputs());
+    this.endDocument();
+  }
+
+  /**
+   * Write the given metadata as a complete document.
+   * 
+   * @param m
+   *          The metadata
+   * @throws XMLStreamException
+   *           On errors
+   */
+
+  void writeUncompactedProgram(
+    final JPUncompactedProgramShaderMeta m)
+    throws XMLStreamException
+  {
+    this.startDocument("meta-program");
+    this.text("program-name", m.getName());
+    this.writeSupports(m.getSupportsES(), m.getSupportsFull());
+
+    final SortedSet<String> vertex_names = m.getVertexShaders();
+    this.start("shaders-vertex", vertex_names.isEmpty());
+    for (final String v : vertex_names) {
+      assert v != null;
+      this.text("shader-vertex", v);
+    }
+    if (vertex_names.isEmpty() == false) {
+      this.end();
+    }
+
+    this.text("shader-fragment", m.getFragmentShader());
+    this.endDocument();
+  }
+
+  /**
+   * Write the given metadata as a complete document.
+   * 
+   * @param m
+   *          The metadata
+   * @throws XMLStreamException
+   *           On errors
+   */
+
+  void writeUncompactedVertexShader(
+    final JPUncompactedVertexShaderMeta m)
+    throws XMLStreamException
+  {
+    this.startDocument("meta-vertex");
+    this.text("program-name", m.getName());
+    this.writeSupports(m.getSupportsES(), m.getSupportsFull());
+    this.writeParametersVertex(
+      m.getDeclaredVertexParameters(),
+      m.getDeclaredVertexInputs(),
+      m.getDeclaredVertexOutputs());
+    this.endDocument();
+  }
+
+  private void writeVersion(
+    final String local,
+    final GVersionType v)
+    throws XMLStreamException
+  {
+    this.start(local, true);
+    this.attribute("number", Integer.toString(v.versionGetNumber()));
+    this.attribute("api", v.versionGetAPIName());
+  }
+
+  private void writeVersionHashes(
+    final Map<GVersionType, String> version_to_hash,
+    final JPHashAlgorithm algorithm)
+    throws XMLStreamException
+  {
+    this.start("version-hashes", version_to_hash.isEmpty());
+    if (algorithm != JPHashAlgorithm.HASH_SHA_256_LINES) {
+      this.attribute("algorithm", algorithm.getName());
+    }
+
+    for (final Entry<GVersionType, String> e : version_to_hash.entrySet()) {
+      final GVersionType v = e.getKey();
+      assert v != null;
+      final String hash = e.getValue();
+      assert hash != null;
+
+      this.newline();
+      this.writer.writeStartElement(
+        XMLStreamMetaWriter.PREFIX,
+        "version-hash",
+        XMLMeta.XML_URI_STRING);
+      this.attribute("number", Integer.toString(v.versionGetNumber()));
+      this.attribute("api", v.versionGetAPIName());
+      this.writer.writeCharacters(hash);
+      this.writer.writeEndElement();
+    }
+
+    if (version_to_hash.isEmpty() == false) {
+      this.end();
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.packed;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import com.io7m.jequality.annotations.EqualityReference;
+
+/**
+ * An input stream that reads the remaining bytes of a buffer.
+ */
+
+@EqualityReference final class JPPackedByteBufferInputStream extends
+  InputStream
+{
+  private final ByteBuffer buffer;
+
+  JPPackedByteBufferInputStream(
+    final ByteBuffer in_buffer)
+  {
+    this.buffer = in_buffer;
+  }
+
+  @Override public int available()
+  {
+    return this.buffer.remaining();
+  }
+
+  @Override public int read()
+  {
+    if (this.buffer.hasRemaining() == false) {
+      return -1;
+    }
+    return this.buffer.get() & 0xff;
+  }
+
+  @Override public int read(
+    final byte[] b,
+    final int off,
+    final int len)
+  {
+    if (len == 0) {
+      return 0;
+    }
+    if (this.buffer.hasRemaining() == false) {
+      return -1;
+    }
+
+    final int count = Math.min(len, this.buffer.remaining());
+    this.buffer.get(b, off, count);
+    return count;
+  }
+
+  @Override public long skip(
+    final long n)
+  {
+    final int count = (int) Math.max(0, Math.min(n, this.buffer.remaining()));
+    this.buffer.position(this.buffer.position() + count);
+    return count;
+  }
+}
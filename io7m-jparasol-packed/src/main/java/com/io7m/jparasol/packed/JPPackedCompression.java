@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.packed;
+
+/**
+ * The methods by which sources may be compressed in packed archives.
+ */
+
+public enum JPPackedCompression
+{
+  /**
+   * Sources are compressed with the LZ4 block format. Sources that would not
+   * become smaller are stored uncompressed.
+   */
+
+  COMPRESSION_LZ4(1),
+
+  /**
+   * Sources are stored uncompressed, and can be read directly from the
+   * archive without copying.
+   */
+
+  COMPRESSION_NONE(0);
+
+  /**
+   * @param code
+   *          A compression code
+   * @return The compression method with the given code
+   * @throws IllegalArgumentException
+   *           If the code does not refer to a compression method
+   */
+
+  public static JPPackedCompression fromCode(
+    final int code)
+    throws IllegalArgumentException
+  {
+    for (final JPPackedCompression c : JPPackedCompression.values()) {
+      if (c.code == code) {
+        return c;
+      }
+    }
+
+    throw new IllegalArgumentException(String.format(
+      "Unknown compression code %d",
+      Integer.valueOf(code)));
+  }
+
+  private final int code;
+
+  private JPPackedCompression(
+    final int in_code)
+  {
+    this.code = in_code;
+  }
+
+  /**
+   * @return The code used to identify the compression method in archives
+   */
+
+  public int getCode()
+  {
+    return this.code;
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.packed;
+
+import java.nio.charset.Charset;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jfunctional.Option;
+import com.io7m.jfunctional.OptionType;
+import com.io7m.jfunctional.Some;
+import com.io7m.jparasol.core.GVersionType;
+import com.io7m.jparasol.core.JPCompiledShaderMetaType;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * Constants and functions shared by the packed archive reader and writer.
+ */
+
+@EqualityReference final class JPPackedFormat
+{
+  static final int     HEADER_SIZE        = 32;
+  static final int     MAGIC              = 0x4A50504B;
+  static final int     SHADER_RECORD_SIZE = 16;
+  static final int     SOURCE_RECORD_SIZE = 24;
+  static final Charset UTF8;
+  static final int     VERSION            = 1;
+
+  static {
+    UTF8 = Charset.forName("UTF-8");
+  }
+
+  /**
+   * @return The source key for the source of the given shader for version
+   *         <code>v</code>, if the shader has a source for that version
+   */
+
+  static OptionType<String> sourceKey(
+    final JPCompiledShaderMetaType meta,
+    final GVersionType v)
+  {
+    final OptionType<String> file = meta.getSourceCodeFilename(v);
+    if (file.isNone()) {
+      return file;
+    }
+
+    final String name = ((Some<String>) file).get();
+    if (meta.isCompacted()) {
+      return Option.some(name);
+    }
+    return Option.some(JPPackedFormat.sourceKeyUncompacted(
+      meta.getName(),
+      name));
+  }
+
+  static String sourceKeyUncompacted(
+    final String shader,
+    final String file)
+  {
+    final String r = String.format("%s/%s", shader, file);
+    assert r != null;
+    return r;
+  }
+
+  private JPPackedFormat()
+  {
+    throw new UnreachableCodeException();
+  }
+}
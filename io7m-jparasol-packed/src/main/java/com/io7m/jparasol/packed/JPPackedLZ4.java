@@ -0,0 +1,345 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.packed;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jparasol.metaserializer.JPSerializerException;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>
+ * A compressor and decompressor for the LZ4 block format.
+ * </p>
+ * <p>
+ * The compressor is the simple greedy single-pass variant: each position is
+ * looked up in a table of recent four-byte sequences, and matches are
+ * extended forwards as far as possible. The last five bytes of the input are
+ * always emitted as literals, and no match starts within the last twelve
+ * bytes, as required by the format.
+ * </p>
+ */
+
+@EqualityReference final class JPPackedLZ4
+{
+  private static final int HASH_BITS         = 14;
+  private static final int LAST_LITERALS     = 5;
+  private static final int MATCH_LIMIT       = 12;
+  private static final int MAXIMUM_DISTANCE  = 0xffff;
+  private static final int MAXIMUM_EXPANSION = 255;
+  private static final int MINIMUM_MATCH     = 4;
+
+  /**
+   * Compress <code>data</code>.
+   *
+   * @param data
+   *          The uncompressed data
+   * @return The compressed data
+   */
+
+  static byte[] compress(
+    final byte[] data)
+  {
+    final ByteArrayOutputStream out =
+      new ByteArrayOutputStream(Math.max(16, data.length / 2));
+    final int[] table = new int[1 << JPPackedLZ4.HASH_BITS];
+    Arrays.fill(table, -1);
+
+    final int limit = data.length - JPPackedLZ4.MATCH_LIMIT;
+    int anchor = 0;
+    int position = 0;
+
+    while (position < limit) {
+      final int sequence = JPPackedLZ4.readInt(data, position);
+      final int hash =
+        (sequence * -1640531535) >>> (32 - JPPackedLZ4.HASH_BITS);
+      final int candidate = table[hash];
+      table[hash] = position;
+
+      if ((candidate >= 0)
+        && ((position - candidate) <= JPPackedLZ4.MAXIMUM_DISTANCE)
+        && (JPPackedLZ4.readInt(data, candidate) == sequence)) {
+
+        final int end = data.length - JPPackedLZ4.LAST_LITERALS;
+        int length = JPPackedLZ4.MINIMUM_MATCH;
+        while (((position + length) < end)
+          && (data[candidate + length] == data[position + length])) {
+          length = length + 1;
+        }
+
+        JPPackedLZ4.writeSequence(
+          out,
+          data,
+          anchor,
+          position - anchor,
+          position - candidate,
+          length);
+
+        position = position + length;
+        anchor = position;
+      } else {
+        position = position + 1;
+      }
+    }
+
+    JPPackedLZ4.writeLastLiterals(out, data, anchor, data.length - anchor);
+    final byte[] r = out.toByteArray();
+    assert r != null;
+    return r;
+  }
+
+  /**
+   * Decompress the <code>length</code> bytes of <code>in</code> starting at
+   * <code>offset</code>, which are expected to decompress to exactly
+   * <code>size</code> bytes. The state of <code>in</code> is not modified.
+   *
+   * @param in
+   *          The buffer holding the compressed data
+   * @param offset
+   *          The offset of the compressed data
+   * @param length
+   *          The length of the compressed data
+   * @param size
+   *          The length of the uncompressed data
+   * @return The uncompressed data
+   * @throws JPSerializerException
+   *           If the compressed data is malformed, or cannot decompress to
+   *           <code>size</code> bytes
+   */
+
+  static byte[] decompress(
+    final ByteBuffer in,
+    final int offset,
+    final int length,
+    final int size)
+    throws JPSerializerException
+  {
+    /**
+     * Each byte of a length encoding adds at most 255 bytes of output, so
+     * a larger size can only come from a damaged archive. Checking before
+     * allocating the output avoids allocating an arbitrarily large array.
+     */
+
+    if ((long) size > ((long) length * JPPackedLZ4.MAXIMUM_EXPANSION)) {
+      throw new JPSerializerException(String.format(
+        "Compressed data of length %d cannot decompress to %d bytes",
+        Integer.valueOf(length),
+        Integer.valueOf(size)));
+    }
+
+    final Decoder d = new Decoder(in, offset, offset + length, size);
+    for (;;) {
+      final int token = d.readByte();
+      d.copyLiterals(d.readLength(token >>> 4));
+      if (d.isFinished()) {
+        break;
+      }
+
+      final int distance = d.readByte() | (d.readByte() << 8);
+      d.copyMatch(
+        distance,
+        d.readLength(token & 0xf) + JPPackedLZ4.MINIMUM_MATCH);
+    }
+    return d.getOutput();
+  }
+
+  private static JPSerializerException malformed()
+  {
+    return new JPSerializerException("Malformed LZ4 compressed data");
+  }
+
+  private static int readInt(
+    final byte[] data,
+    final int position)
+  {
+    int r = data[position] & 0xff;
+    r |= (data[position + 1] & 0xff) << 8;
+    r |= (data[position + 2] & 0xff) << 16;
+    r |= (data[position + 3] & 0xff) << 24;
+    return r;
+  }
+
+  private static void writeLastLiterals(
+    final ByteArrayOutputStream out,
+    final byte[] data,
+    final int offset,
+    final int literals)
+  {
+    out.write(Math.min(literals, 15) << 4);
+    if (literals >= 15) {
+      JPPackedLZ4.writeLength(out, literals - 15);
+    }
+    out.write(data, offset, literals);
+  }
+
+  private static void writeLength(
+    final ByteArrayOutputStream out,
+    final int length)
+  {
+    int remaining = length;
+    while (remaining >= 255) {
+      out.write(255);
+      remaining = remaining - 255;
+    }
+    out.write(remaining);
+  }
+
+  private static void writeSequence(
+    final ByteArrayOutputStream out,
+    final byte[] data,
+    final int offset,
+    final int literals,
+    final int distance,
+    final int match)
+  {
+    final int extra = match - JPPackedLZ4.MINIMUM_MATCH;
+    out.write((Math.min(literals, 15) << 4) | Math.min(extra, 15));
+    if (literals >= 15) {
+      JPPackedLZ4.writeLength(out, literals - 15);
+    }
+    out.write(data, offset, literals);
+    out.write(distance & 0xff);
+    out.write((distance >>> 8) & 0xff);
+    if (extra >= 15) {
+      JPPackedLZ4.writeLength(out, extra - 15);
+    }
+  }
+
+  private JPPackedLZ4()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * The state of a single decompression. All reads are bounds-checked
+   * against the compressed and uncompressed sizes.
+   */
+
+  @EqualityReference private static final class Decoder
+  {
+    private final int        end;
+    private final ByteBuffer in;
+    private int              input;
+    private final byte[]     out;
+    private int              output;
+
+    Decoder(
+      final ByteBuffer in_in,
+      final int in_input,
+      final int in_end,
+      final int in_size)
+    {
+      this.in = in_in;
+      this.input = in_input;
+      this.end = in_end;
+      this.out = new byte[in_size];
+      this.output = 0;
+    }
+
+    void copyLiterals(
+      final int literals)
+      throws JPSerializerException
+    {
+      if ((this.input + literals) > this.end) {
+        throw JPPackedLZ4.malformed();
+      }
+      if ((this.output + literals) > this.out.length) {
+        throw JPPackedLZ4.malformed();
+      }
+      for (int index = 0; index < literals; ++index) {
+        this.out[this.output + index] = this.in.get(this.input + index);
+      }
+      this.input = this.input + literals;
+      this.output = this.output + literals;
+    }
+
+    void copyMatch(
+      final int distance,
+      final int match)
+      throws JPSerializerException
+    {
+      if ((distance == 0) || (distance > this.output)) {
+        throw JPPackedLZ4.malformed();
+      }
+      if ((this.output + match) > this.out.length) {
+        throw JPPackedLZ4.malformed();
+      }
+
+      /**
+       * The source and destination of a match may overlap, so the match is
+       * copied a byte at a time.
+       */
+
+      final int source = this.output - distance;
+      for (int index = 0; index < match; ++index) {
+        this.out[this.output + index] = this.out[source + index];
+      }
+      this.output = this.output + match;
+    }
+
+    byte[] getOutput()
+      throws JPSerializerException
+    {
+      if (this.output != this.out.length) {
+        throw JPPackedLZ4.malformed();
+      }
+      return this.out;
+    }
+
+    boolean isFinished()
+    {
+      return this.input == this.end;
+    }
+
+    int readByte()
+      throws JPSerializerException
+    {
+      if (this.input >= this.end) {
+        throw JPPackedLZ4.malformed();
+      }
+      final int r = this.in.get(this.input) & 0xff;
+      this.input = this.input + 1;
+      return r;
+    }
+
+    /**
+     * Read a length, given the four-bit value from the token. A value of 15
+     * is followed by bytes that are added to the length, ending with the
+     * first byte that is not 255.
+     */
+
+    int readLength(
+      final int initial)
+      throws JPSerializerException
+    {
+      int r = initial;
+      if (initial == 15) {
+        for (;;) {
+          final int b = this.readByte();
+          r = r + b;
+          if (b != 255) {
+            break;
+          }
+        }
+      }
+      return r;
+    }
+  }
+}
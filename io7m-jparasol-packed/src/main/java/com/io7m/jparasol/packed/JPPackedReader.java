@@ -0,0 +1,453 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.packed;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jfunctional.Option;
+import com.io7m.jfunctional.OptionType;
+import com.io7m.jfunctional.Some;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jparasol.core.GVersionType;
+import com.io7m.jparasol.core.JPBufferIndex;
+import com.io7m.jparasol.core.JPCompiledShaderMetaType;
+import com.io7m.jparasol.core.JPMalformedBuffer;
+import com.io7m.jparasol.metaserializer.JPMetaDeserializerType;
+import com.io7m.jparasol.metaserializer.JPSerializerException;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>
+ * A reader for packed archives (see {@link com.io7m.jparasol.packed}).
+ * </p>
+ * <p>
+ * Shaders and sources are located by binary search over the indices of the
+ * archive, without decoding any names. Metadata is deserialized directly
+ * from the archive, and uncompressed sources are returned as read-only views
+ * of the archive, so a mapped archive is never copied onto the heap.
+ * </p>
+ * <p>
+ * Readers are safe to use from multiple threads.
+ * </p>
+ */
+
+@EqualityReference public final class JPPackedReader
+{
+  private static final String WHAT = "Archive";
+
+  /**
+   * Construct a reader for the archive held in the remaining bytes of
+   * <code>in_buffer</code>. The state of <code>in_buffer</code> is not
+   * modified, but the contents of the buffer must not be changed while the
+   * reader is in use.
+   *
+   * @param in_buffer
+   *          The archive
+   * @param in_deserializer
+   *          The deserializer used to decode shader metadata
+   * @return A new reader
+   * @throws JPSerializerException
+   *           If the buffer does not contain a packed archive, or the
+   *           archive's metadata is not in the format read by
+   *           <code>in_deserializer</code>
+   */
+
+  public static JPPackedReader newReader(
+    final ByteBuffer in_buffer,
+    final JPMetaDeserializerType in_deserializer)
+    throws JPSerializerException
+  {
+    NullCheck.notNull(in_buffer, "Buffer");
+    NullCheck.notNull(in_deserializer, "Deserializer");
+
+    final ByteBuffer b = in_buffer.slice().order(ByteOrder.BIG_ENDIAN);
+    assert b != null;
+    return new JPPackedReader(b, in_deserializer);
+  }
+
+  /**
+   * Map the archive at <code>file</code> into memory and construct a reader
+   * for it.
+   *
+   * @param file
+   *          The archive
+   * @param in_deserializer
+   *          The deserializer used to decode shader metadata
+   * @return A new reader
+   * @throws IOException
+   *           On I/O errors
+   * @throws JPSerializerException
+   *           If the file does not contain a packed archive, or the
+   *           archive's metadata is not in the format read by
+   *           <code>in_deserializer</code>
+   */
+
+  public static JPPackedReader newReaderFromFile(
+    final File file,
+    final JPMetaDeserializerType in_deserializer)
+    throws IOException,
+      JPSerializerException
+  {
+    NullCheck.notNull(file, "File");
+
+    final RandomAccessFile f = new RandomAccessFile(file, "r");
+    try {
+      final FileChannel c = f.getChannel();
+      final MappedByteBuffer m =
+        c.map(FileChannel.MapMode.READ_ONLY, 0, c.size());
+      assert m != null;
+      return JPPackedReader.newReader(m, in_deserializer);
+    } finally {
+      f.close();
+    }
+  }
+
+  private final ByteBuffer             buffer;
+  private final JPMetaDeserializerType deserializer;
+  private final int                    shader_count;
+  private final int                    shader_index;
+  private final int                    source_count;
+  private final int                    source_index;
+
+  private JPPackedReader(
+    final ByteBuffer in_buffer,
+    final JPMetaDeserializerType in_deserializer)
+    throws JPSerializerException
+  {
+    this.buffer = in_buffer;
+    this.deserializer = in_deserializer;
+
+    try {
+      JPBufferIndex.checkHeader(
+        in_buffer,
+        JPPackedFormat.HEADER_SIZE,
+        JPPackedFormat.MAGIC,
+        JPPackedFormat.VERSION,
+        JPPackedReader.WHAT);
+    } catch (final JPMalformedBuffer e) {
+      throw new JPSerializerException(e);
+    }
+
+    this.shader_count = in_buffer.getInt(8);
+    this.shader_index = in_buffer.getInt(12);
+    this.source_count = in_buffer.getInt(16);
+    this.source_index = in_buffer.getInt(20);
+
+    if ((this.shader_count < 0) || (this.source_count < 0)) {
+      throw new JPSerializerException("Archive has a negative entry count");
+    }
+    this.checkRegion(
+      this.shader_index,
+      (long) this.shader_count * JPPackedFormat.SHADER_RECORD_SIZE);
+    this.checkRegion(
+      this.source_index,
+      (long) this.source_count * JPPackedFormat.SOURCE_RECORD_SIZE);
+
+    final int format_offset = in_buffer.getInt(24);
+    final int format_length = in_buffer.getInt(28);
+    this.checkRegion(format_offset, format_length);
+
+    final byte[] expected =
+      in_deserializer.metaGetSuggestedFilenameSuffix().getBytes(
+        JPPackedFormat.UTF8);
+    if (JPBufferIndex.compareAt(
+      in_buffer,
+      format_offset,
+      format_length,
+      expected) != 0) {
+      throw new JPSerializerException(String.format(
+        "Archive metadata is in format '%s', but the deserializer reads '%s'",
+        this.decode(format_offset, format_length),
+        in_deserializer.metaGetSuggestedFilenameSuffix()));
+    }
+  }
+
+  private void checkRegion(
+    final long offset,
+    final long length)
+    throws JPSerializerException
+  {
+    try {
+      JPBufferIndex.checkRegion(
+        this.buffer,
+        offset,
+        length,
+        JPPackedReader.WHAT);
+    } catch (final JPMalformedBuffer e) {
+      throw new JPSerializerException(e);
+    }
+  }
+
+  private String decode(
+    final int offset,
+    final int length)
+  {
+    final byte[] b = new byte[length];
+    for (int index = 0; index < length; ++index) {
+      b[index] = this.buffer.get(offset + index);
+    }
+    return new String(b, JPPackedFormat.UTF8);
+  }
+
+  /**
+   * @return The offset of the record with the given key in the given index,
+   *         or {@link JPBufferIndex#NOT_FOUND}
+   */
+
+  private int find(
+    final int index,
+    final int count,
+    final int record_size,
+    final byte[] key)
+    throws JPSerializerException
+  {
+    try {
+      return JPBufferIndex.find(
+        this.buffer,
+        index,
+        count,
+        record_size,
+        key,
+        JPPackedReader.WHAT);
+    } catch (final JPMalformedBuffer e) {
+      throw new JPSerializerException(e);
+    }
+  }
+
+  /**
+   * @return The number of shaders in the archive
+   */
+
+  public int getShaderCount()
+  {
+    return this.shader_count;
+  }
+
+  /**
+   * @return The names of all shaders in the archive, in the order of their
+   *         UTF-8 encodings
+   * @throws JPSerializerException
+   *           If the archive is malformed
+   */
+
+  public List<String> getShaderNames()
+    throws JPSerializerException
+  {
+    final List<String> names = new ArrayList<String>(this.shader_count);
+    for (int index = 0; index < this.shader_count; ++index) {
+      final int record =
+        this.shader_index + (index * JPPackedFormat.SHADER_RECORD_SIZE);
+      final int offset = this.buffer.getInt(record);
+      final int length = this.buffer.getInt(record + 4);
+      this.checkRegion(offset, length);
+      names.add(this.decode(offset, length));
+    }
+
+    final List<String> r = Collections.unmodifiableList(names);
+    assert r != null;
+    return r;
+  }
+
+  /**
+   * @param name
+   *          The name of a shader
+   * @return <code>true</code> if the archive contains the named shader
+   * @throws JPSerializerException
+   *           If the archive is malformed
+   */
+
+  public boolean hasShader(
+    final String name)
+    throws JPSerializerException
+  {
+    NullCheck.notNull(name, "Name");
+    return this.find(
+      this.shader_index,
+      this.shader_count,
+      JPPackedFormat.SHADER_RECORD_SIZE,
+      name.getBytes(JPPackedFormat.UTF8)) != JPBufferIndex.NOT_FOUND;
+  }
+
+  /**
+   * Find and deserialize the metadata of the named shader.
+   *
+   * @param name
+   *          The name of a shader
+   * @return The metadata, if the archive contains the named shader
+   * @throws IOException
+   *           On I/O errors
+   * @throws JPSerializerException
+   *           If the archive is malformed, or the metadata cannot be
+   *           deserialized
+   */
+
+  public OptionType<JPCompiledShaderMetaType> lookupMeta(
+    final String name)
+    throws IOException,
+      JPSerializerException
+  {
+    final OptionType<ByteBuffer> b = this.lookupMetaBuffer(name);
+    if (b.isNone()) {
+      return Option.none();
+    }
+
+    final ByteBuffer data = ((Some<ByteBuffer>) b).get();
+    final JPCompiledShaderMetaType meta =
+      this.deserializer
+        .metaDeserializeShader(new JPPackedByteBufferInputStream(data));
+    return Option.some(meta);
+  }
+
+  /**
+   * Find the serialized metadata of the named shader.
+   *
+   * @param name
+   *          The name of a shader
+   * @return A read-only view of the serialized metadata, if the archive
+   *         contains the named shader
+   * @throws JPSerializerException
+   *           If the archive is malformed
+   */
+
+  public OptionType<ByteBuffer> lookupMetaBuffer(
+    final String name)
+    throws JPSerializerException
+  {
+    NullCheck.notNull(name, "Name");
+
+    final int record =
+      this.find(
+        this.shader_index,
+        this.shader_count,
+        JPPackedFormat.SHADER_RECORD_SIZE,
+        name.getBytes(JPPackedFormat.UTF8));
+    if (record == JPBufferIndex.NOT_FOUND) {
+      return Option.none();
+    }
+
+    final int offset = this.buffer.getInt(record + 8);
+    final int length = this.buffer.getInt(record + 12);
+    this.checkRegion(offset, length);
+    return Option.some(this.view(offset, length));
+  }
+
+  /**
+   * Find the source of the given shader for version <code>v</code>.
+   * Uncompressed sources are returned as views of the archive; compressed
+   * sources are decompressed into a new buffer.
+   *
+   * @param meta
+   *          The metadata of a shader in the archive
+   * @param v
+   *          The GLSL version
+   * @return A read-only buffer holding the UTF-8 encoded source, in which
+   *         each line is terminated with <code>'\n'</code>, if the shader
+   *         has a source for the given version
+   * @throws JPSerializerException
+   *           If the archive is malformed
+   */
+
+  public OptionType<ByteBuffer> lookupSource(
+    final JPCompiledShaderMetaType meta,
+    final GVersionType v)
+    throws JPSerializerException
+  {
+    NullCheck.notNull(meta, "Meta");
+    NullCheck.notNull(v, "Version");
+
+    final OptionType<String> key_opt = JPPackedFormat.sourceKey(meta, v);
+    if (key_opt.isNone()) {
+      return Option.none();
+    }
+
+    final String key = ((Some<String>) key_opt).get();
+    final int record =
+      this.find(
+        this.source_index,
+        this.source_count,
+        JPPackedFormat.SOURCE_RECORD_SIZE,
+        key.getBytes(JPPackedFormat.UTF8));
+    if (record == JPBufferIndex.NOT_FOUND) {
+      throw new JPSerializerException(String.format(
+        "Archive has no source %s for shader %s",
+        key,
+        meta.getName()));
+    }
+
+    final int offset = this.buffer.getInt(record + 8);
+    final int length = this.buffer.getInt(record + 12);
+    final int size = this.buffer.getInt(record + 16);
+    final int code = this.buffer.getInt(record + 20);
+    this.checkRegion(offset, length);
+    if (size < 0) {
+      throw new JPSerializerException(String.format(
+        "Source %s has a negative size",
+        key));
+    }
+
+    final JPPackedCompression c;
+    try {
+      c = JPPackedCompression.fromCode(code);
+    } catch (final IllegalArgumentException e) {
+      throw new JPSerializerException(e);
+    }
+
+    switch (c) {
+      case COMPRESSION_LZ4:
+      {
+        final byte[] data =
+          JPPackedLZ4.decompress(this.buffer, offset, length, size);
+        final ByteBuffer r = ByteBuffer.wrap(data).asReadOnlyBuffer();
+        assert r != null;
+        return Option.some(r);
+      }
+      case COMPRESSION_NONE:
+      {
+        if (length != size) {
+          throw new JPSerializerException(String.format(
+            "Uncompressed source %s has mismatched sizes",
+            key));
+        }
+        return Option.some(this.view(offset, length));
+      }
+    }
+
+    throw new UnreachableCodeException();
+  }
+
+  private ByteBuffer view(
+    final int offset,
+    final int length)
+  {
+    final ByteBuffer d = this.buffer.duplicate();
+    d.limit(offset + length);
+    d.position(offset);
+    final ByteBuffer r = d.slice().asReadOnlyBuffer();
+    assert r != null;
+    return r;
+  }
+}
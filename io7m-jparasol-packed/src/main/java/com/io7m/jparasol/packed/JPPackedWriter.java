@@ -0,0 +1,503 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.packed;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jfunctional.OptionType;
+import com.io7m.jfunctional.Some;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jparasol.core.GVersionType;
+import com.io7m.jparasol.core.JPBufferIndex;
+import com.io7m.jparasol.core.JPCompactedFragmentShader;
+import com.io7m.jparasol.core.JPCompactedFragmentShaderMeta;
+import com.io7m.jparasol.core.JPCompactedVertexShader;
+import com.io7m.jparasol.core.JPCompactedVertexShaderMeta;
+import com.io7m.jparasol.core.JPCompiledShaderMetaType;
+import com.io7m.jparasol.core.JPHashedLines;
+import com.io7m.jparasol.core.JPSourceText;
+import com.io7m.jparasol.core.JPUncompactedFragmentShader;
+import com.io7m.jparasol.core.JPUncompactedFragmentShaderMeta;
+import com.io7m.jparasol.core.JPUncompactedProgramShaderMeta;
+import com.io7m.jparasol.core.JPUncompactedVertexShader;
+import com.io7m.jparasol.core.JPUncompactedVertexShaderMeta;
+import com.io7m.jparasol.metaserializer.JPMetaSerializerType;
+
+/**
+ * <p>
+ * A writer that accumulates shaders and writes them as a single packed
+ * archive (see {@link com.io7m.jparasol.packed}).
+ * </p>
+ * <p>
+ * Sources are encoded in UTF-8, with each line terminated by
+ * <code>'\n'</code>. Because the indices precede the data they refer to,
+ * the archive is held in memory until {@link #write(OutputStream)} is
+ * called.
+ * </p>
+ */
+
+@EqualityReference public final class JPPackedWriter
+{
+  /**
+   * An index entry and the data it refers to.
+   */
+
+  @EqualityReference private static final class Entry
+  {
+    private final JPPackedCompression compression;
+    private final byte[]              data;
+    private final byte[]              key;
+    private final int                 size;
+
+    Entry(
+      final byte[] in_key,
+      final byte[] in_data,
+      final int in_size,
+      final JPPackedCompression in_compression)
+    {
+      this.key = in_key;
+      this.data = in_data;
+      this.size = in_size;
+      this.compression = in_compression;
+    }
+  }
+
+  private static final Comparator<Entry> ENTRY_ORDER;
+
+  static {
+    ENTRY_ORDER = new Comparator<Entry>() {
+      @Override public int compare(
+        final Entry x,
+        final Entry y)
+      {
+        return JPBufferIndex.ORDER.compare(x.key, y.key);
+      }
+    };
+  }
+
+  /**
+   * Construct a new writer.
+   *
+   * @param in_serial
+   *          The serializer used to encode shader metadata
+   * @param in_compression
+   *          The compression method used for sources
+   * @return A new writer
+   */
+
+  public static JPPackedWriter newWriter(
+    final JPMetaSerializerType in_serial,
+    final JPPackedCompression in_compression)
+  {
+    return new JPPackedWriter(in_serial, in_compression);
+  }
+
+  private static long sumData(
+    final List<Entry> entries)
+  {
+    long r = 0;
+    for (final Entry e : entries) {
+      r += e.data.length;
+    }
+    return r;
+  }
+
+  private static long sumKeys(
+    final List<Entry> entries)
+  {
+    long r = 0;
+    for (final Entry e : entries) {
+      r += e.key.length;
+    }
+    return r;
+  }
+
+  private static byte[] toBytes(
+    final ByteBuffer b)
+  {
+    final ByteBuffer d = b.duplicate();
+    final byte[] r = new byte[d.remaining()];
+    d.get(r);
+    return r;
+  }
+
+  private static void writeData(
+    final DataOutputStream data,
+    final List<Entry> entries)
+    throws IOException
+  {
+    for (final Entry e : entries) {
+      data.write(e.data);
+    }
+  }
+
+  private static void writeKeys(
+    final DataOutputStream data,
+    final List<Entry> entries)
+    throws IOException
+  {
+    for (final Entry e : entries) {
+      data.write(e.key);
+    }
+  }
+
+  private final JPPackedCompression  compression;
+  private final JPMetaSerializerType serial;
+  private final Map<String, Entry>   shaders;
+  private final Map<String, Entry>   sources;
+
+  private JPPackedWriter(
+    final JPMetaSerializerType in_serial,
+    final JPPackedCompression in_compression)
+  {
+    this.serial = NullCheck.notNull(in_serial, "Meta serializer");
+    this.compression = NullCheck.notNull(in_compression, "Compression");
+    this.shaders = new HashMap<String, Entry>();
+    this.sources = new HashMap<String, Entry>();
+  }
+
+  private void putCompactedSources(
+    final JPCompiledShaderMetaType meta,
+    final Map<GVersionType, String> version_to_hash,
+    final Map<String, JPHashedLines> by_hash)
+    throws IOException
+  {
+    for (final GVersionType v : version_to_hash.keySet()) {
+      assert v != null;
+      final String hash = version_to_hash.get(v);
+      final JPHashedLines source = by_hash.get(hash);
+      if (source == null) {
+        throw new IOException(String.format(
+          "Shader %s: no source for hash %s",
+          meta.getName(),
+          hash));
+      }
+      this.putSource(meta, v, source.getText());
+    }
+  }
+
+  /**
+   * Add a compacted fragment shader to the archive.
+   *
+   * @param shader
+   *          The shader
+   * @throws IOException
+   *           If a shader of the same name has already been added, or the
+   *           metadata cannot be serialized
+   */
+
+  public void putCompactedFragmentShader(
+    final JPCompactedFragmentShader shader)
+    throws IOException
+  {
+    NullCheck.notNull(shader, "Shader");
+
+    final JPCompactedFragmentShaderMeta meta = shader.getMeta();
+    final ByteArrayOutputStream bao = new ByteArrayOutputStream();
+    this.serial.metaSerializeCompactedFragmentShader(meta, bao);
+    this.putShader(meta.getName(), bao);
+    this.putCompactedSources(
+      meta,
+      meta.getVersionToHash(),
+      shader.getSourcesByHash());
+  }
+
+  /**
+   * Add a compacted vertex shader to the archive.
+   *
+   * @param shader
+   *          The shader
+   * @throws IOException
+   *           If a shader of the same name has already been added, or the
+   *           metadata cannot be serialized
+   */
+
+  public void putCompactedVertexShader(
+    final JPCompactedVertexShader shader)
+    throws IOException
+  {
+    NullCheck.notNull(shader, "Shader");
+
+    final JPCompactedVertexShaderMeta meta = shader.getMeta();
+    final ByteArrayOutputStream bao = new ByteArrayOutputStream();
+    this.serial.metaSerializeCompactedVertexShader(meta, bao);
+    this.putShader(meta.getName(), bao);
+    this.putCompactedSources(
+      meta,
+      meta.getVersionToHash(),
+      shader.getSourcesByHash());
+  }
+
+  private void putShader(
+    final String name,
+    final ByteArrayOutputStream meta)
+    throws IOException
+  {
+    if (this.shaders.containsKey(name)) {
+      throw new IOException(String.format("Duplicate shader: %s", name));
+    }
+
+    final byte[] data = meta.toByteArray();
+    this.shaders.put(name, new Entry(
+      name.getBytes(JPPackedFormat.UTF8),
+      data,
+      data.length,
+      JPPackedCompression.COMPRESSION_NONE));
+  }
+
+  private void putSource(
+    final JPCompiledShaderMetaType meta,
+    final GVersionType v,
+    final JPSourceText text)
+  {
+    final OptionType<String> key_opt = JPPackedFormat.sourceKey(meta, v);
+    assert key_opt.isSome();
+    final String key = ((Some<String>) key_opt).get();
+
+    /**
+     * Sources are named by hash or by shader and version, so an existing
+     * source with the same key has the same content.
+     */
+
+    if (this.sources.containsKey(key)) {
+      return;
+    }
+
+    final byte[] data = JPPackedWriter.toBytes(text.getBuffer());
+    final byte[] key_bytes = key.getBytes(JPPackedFormat.UTF8);
+
+    switch (this.compression) {
+      case COMPRESSION_LZ4:
+      {
+        final byte[] compressed = JPPackedLZ4.compress(data);
+        if (compressed.length < data.length) {
+          this.sources.put(key, new Entry(
+            key_bytes,
+            compressed,
+            data.length,
+            JPPackedCompression.COMPRESSION_LZ4));
+          return;
+        }
+        break;
+      }
+      case COMPRESSION_NONE:
+      {
+        break;
+      }
+    }
+
+    this.sources.put(key, new Entry(
+      key_bytes,
+      data,
+      data.length,
+      JPPackedCompression.COMPRESSION_NONE));
+  }
+
+  /**
+   * Add an uncompacted fragment shader to the archive.
+   *
+   * @param shader
+   *          The shader
+   * @throws IOException
+   *           If a shader of the same name has already been added, or the
+   *           metadata cannot be serialized
+   */
+
+  public void putUncompactedFragmentShader(
+    final JPUncompactedFragmentShader shader)
+    throws IOException
+  {
+    NullCheck.notNull(shader, "Shader");
+
+    final JPUncompactedFragmentShaderMeta meta = shader.getMeta();
+    final ByteArrayOutputStream bao = new ByteArrayOutputStream();
+    this.serial.metaSerializeUncompactedFragmentShader(meta, bao);
+    this.putShader(meta.getName(), bao);
+    this.putUncompactedSources(meta, shader.getSourceTexts());
+  }
+
+  /**
+   * Add an uncompacted program to the archive.
+   *
+   * @param meta
+   *          The program metadata
+   * @param name
+   *          The name under which the program will be stored
+   * @throws IOException
+   *           If a shader of the same name has already been added, or the
+   *           metadata cannot be serialized
+   */
+
+  public void putUncompactedProgramShader(
+    final JPUncompactedProgramShaderMeta meta,
+    final String name)
+    throws IOException
+  {
+    NullCheck.notNull(meta, "Meta");
+    NullCheck.notNull(name, "Name");
+
+    final ByteArrayOutputStream bao = new ByteArrayOutputStream();
+    this.serial.metaSerializeUncompactedProgram(meta, bao);
+    this.putShader(name, bao);
+  }
+
+  private void putUncompactedSources(
+    final JPCompiledShaderMetaType meta,
+    final Map<GVersionType, JPSourceText> texts)
+  {
+    for (final GVersionType v : texts.keySet()) {
+      assert v != null;
+      final JPSourceText text = texts.get(v);
+      assert text != null;
+      this.putSource(meta, v, text);
+    }
+  }
+
+  /**
+   * Add an uncompacted vertex shader to the archive.
+   *
+   * @param shader
+   *          The shader
+   * @throws IOException
+   *           If a shader of the same name has already been added, or the
+   *           metadata cannot be serialized
+   */
+
+  public void putUncompactedVertexShader(
+    final JPUncompactedVertexShader shader)
+    throws IOException
+  {
+    NullCheck.notNull(shader, "Shader");
+
+    final JPUncompactedVertexShaderMeta meta = shader.getMeta();
+    final ByteArrayOutputStream bao = new ByteArrayOutputStream();
+    this.serial.metaSerializeUncompactedVertexShader(meta, bao);
+    this.putShader(meta.getName(), bao);
+    this.putUncompactedSources(meta, shader.getSourceTexts());
+  }
+
+  /**
+   * Write the archive to the given stream. The stream is flushed, but not
+   * closed.
+   *
+   * @param out
+   *          The output stream
+   * @throws IOException
+   *           On I/O errors, or if the archive would exceed the maximum
+   *           size of <code>2^31 - 1</code> bytes
+   */
+
+  public void write(
+    final OutputStream out)
+    throws IOException
+  {
+    NullCheck.notNull(out, "Output");
+
+    final List<Entry> shader_list = new ArrayList<Entry>(this.shaders.values());
+    Collections.sort(shader_list, JPPackedWriter.ENTRY_ORDER);
+    final List<Entry> source_list = new ArrayList<Entry>(this.sources.values());
+    Collections.sort(source_list, JPPackedWriter.ENTRY_ORDER);
+
+    final byte[] format =
+      this.serial.metaGetSuggestedFilenameSuffix().getBytes(
+        JPPackedFormat.UTF8);
+
+    /**
+     * Compute the offsets of each region: the header, the two indices, the
+     * names and keys, the metadata, and then the sources.
+     */
+
+    final long shader_index = JPPackedFormat.HEADER_SIZE;
+    final long source_index =
+      shader_index
+        + ((long) shader_list.size() * JPPackedFormat.SHADER_RECORD_SIZE);
+    final long strings =
+      source_index
+        + ((long) source_list.size() * JPPackedFormat.SOURCE_RECORD_SIZE);
+
+    final long data_start =
+      strings
+        + format.length
+        + JPPackedWriter.sumKeys(shader_list)
+        + JPPackedWriter.sumKeys(source_list);
+    final long position =
+      data_start
+        + JPPackedWriter.sumData(shader_list)
+        + JPPackedWriter.sumData(source_list);
+    if (position > Integer.MAX_VALUE) {
+      throw new IOException(String.format(
+        "Archive size %d exceeds the maximum of %d bytes",
+        Long.valueOf(position),
+        Integer.valueOf(Integer.MAX_VALUE)));
+    }
+
+    final DataOutputStream data =
+      new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+
+    data.writeInt(JPPackedFormat.MAGIC);
+    data.writeInt(JPPackedFormat.VERSION);
+    data.writeInt(shader_list.size());
+    data.writeInt((int) shader_index);
+    data.writeInt(source_list.size());
+    data.writeInt((int) source_index);
+    data.writeInt((int) strings);
+    data.writeInt(format.length);
+
+    int key_offset = (int) strings + format.length;
+    int data_offset = (int) data_start;
+
+    for (final Entry e : shader_list) {
+      data.writeInt(key_offset);
+      data.writeInt(e.key.length);
+      data.writeInt(data_offset);
+      data.writeInt(e.data.length);
+      key_offset += e.key.length;
+      data_offset += e.data.length;
+    }
+    for (final Entry e : source_list) {
+      data.writeInt(key_offset);
+      data.writeInt(e.key.length);
+      data.writeInt(data_offset);
+      data.writeInt(e.data.length);
+      data.writeInt(e.size);
+      data.writeInt(e.compression.getCode());
+      key_offset += e.key.length;
+      data_offset += e.data.length;
+    }
+
+    data.write(format);
+    JPPackedWriter.writeKeys(data, shader_list);
+    JPPackedWriter.writeKeys(data, source_list);
+    JPPackedWriter.writeData(data, shader_list);
+    JPPackedWriter.writeData(data, source_list);
+
+    assert data.size() == position;
+    data.flush();
+  }
+}
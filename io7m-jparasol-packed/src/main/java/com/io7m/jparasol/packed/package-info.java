@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+/**
+ * <p>
+ * Packed shader archives: single files that hold the metadata and sources of
+ * many shaders, designed to be mapped into memory and read without copying.
+ * </p>
+ * <p>
+ * All integers are big-endian 32-bit signed values, and all offsets are
+ * relative to the start of the file. An archive consists of:
+ * </p>
+ * <ul>
+ * <li>A header: the magic number <code>0x4A50504B</code> (<code>JPPK</code>),
+ * the format version, the number of shaders and the offset of the shader
+ * index, the number of sources and the offset of the source index, and the
+ * offset and length of the name of the metadata format.</li>
+ * <li>The shader index: one record per shader, sorted by the UTF-8 encoded
+ * name of the shader, giving the offset and length of the name and of the
+ * serialized metadata.</li>
+ * <li>The source index: one record per source, sorted by the UTF-8 encoded
+ * source key, giving the offset and length of the key, the offset and
+ * stored length of the source, the uncompressed length of the source, and
+ * the compression method.</li>
+ * <li>The names, keys, metadata and sources referred to by the indices.</li>
+ * </ul>
+ * <p>
+ * The source key of a compacted shader's source is the name of the source
+ * file (the hash of the source followed by a suffix), and so sources shared
+ * between compacted shaders are stored once. The source key of an
+ * uncompacted shader's source is the name of the shader, followed by
+ * <code>'/'</code>, followed by the name of the source file.
+ * </p>
+ */
+
+@com.io7m.jnull.NonNullByDefault package com.io7m.jparasol.packed;
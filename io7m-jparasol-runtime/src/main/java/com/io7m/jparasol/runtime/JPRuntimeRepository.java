@@ -0,0 +1,387 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.runtime;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jfunctional.Option;
+import com.io7m.jfunctional.OptionType;
+import com.io7m.jfunctional.Some;
+import com.io7m.jlog.LogUsableType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jparasol.core.GVersionType;
+import com.io7m.jparasol.core.JPCompactedFragmentShaderMeta;
+import com.io7m.jparasol.core.JPCompactedVertexShaderMeta;
+import com.io7m.jparasol.core.JPCompiledShaderMetaType;
+import com.io7m.jparasol.core.JPCompiledShaderMetaVisitorType;
+import com.io7m.jparasol.core.JPHashAlgorithm;
+import com.io7m.jparasol.core.JPHashedLines;
+import com.io7m.jparasol.core.JPSourceText;
+import com.io7m.jparasol.core.JPUncompactedFragmentShaderMeta;
+import com.io7m.jparasol.core.JPUncompactedProgramShaderMeta;
+import com.io7m.jparasol.core.JPUncompactedVertexShaderMeta;
+import com.io7m.jparasol.metaserializer.JPMetaDeserializerType;
+import com.io7m.jparasol.metaserializer.JPSerializerException;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>
+ * A repository of compiled shaders.
+ * </p>
+ * <p>
+ * The metadata for a shader is read from storage the first time that the
+ * shader is looked up, and is retained for the lifetime of the repository.
+ * The source for a given shader and GLSL version is read only when it is
+ * requested, and is retained in a cache of bounded size, from which the
+ * least recently used sources are evicted. Sources of compacted shaders are
+ * cached by hash, so a source shared by several shaders is loaded once, and
+ * the hash is checked against the loaded text.
+ * </p>
+ * <p>
+ * Repositories are safe to use from multiple threads.
+ * </p>
+ */
+
+@EqualityReference public final class JPRuntimeRepository
+{
+  /**
+   * The name of the directory holding compacted sources shared between
+   * shaders. This must match the name used by the compiler.
+   */
+
+  public static final String SHARED_DIRECTORY;
+
+  private static final Charset UTF8;
+
+  static {
+    SHARED_DIRECTORY = "sources";
+    final Charset c = Charset.forName("UTF-8");
+    assert c != null;
+    UTF8 = c;
+  }
+
+  private static JPHashAlgorithm compactedAlgorithm(
+    final JPCompiledShaderMetaType meta)
+  {
+    return meta
+      .matchMeta(new JPCompiledShaderMetaVisitorType<JPHashAlgorithm, UnreachableCodeException>() {
+        @Override public JPHashAlgorithm compactedFragment(
+          final JPCompactedFragmentShaderMeta m)
+        {
+          return m.getHashAlgorithm();
+        }
+
+        @Override public JPHashAlgorithm compactedVertex(
+          final JPCompactedVertexShaderMeta m)
+        {
+          return m.getHashAlgorithm();
+        }
+
+        @Override public JPHashAlgorithm uncompactedFragment(
+          final JPUncompactedFragmentShaderMeta m)
+        {
+          throw new UnreachableCodeException();
+        }
+
+        @Override public JPHashAlgorithm uncompactedProgram(
+          final JPUncompactedProgramShaderMeta m)
+        {
+          throw new UnreachableCodeException();
+        }
+
+        @Override public JPHashAlgorithm uncompactedVertex(
+          final JPUncompactedVertexShaderMeta m)
+        {
+          throw new UnreachableCodeException();
+        }
+      });
+  }
+
+  /**
+   * Construct a new repository.
+   *
+   * @param in_storage
+   *          The storage holding the compiled shaders
+   * @param in_deserializer
+   *          A deserializer for the metadata format used by the compiled
+   *          shaders
+   * @param in_cache_size
+   *          The maximum total size in bytes of the cached sources
+   * @param in_log
+   *          A log interface
+   * @return A new repository
+   */
+
+  public static JPRuntimeRepository newRepository(
+    final JPRuntimeStorageType in_storage,
+    final JPMetaDeserializerType in_deserializer,
+    final long in_cache_size,
+    final LogUsableType in_log)
+  {
+    return new JPRuntimeRepository(
+      in_storage,
+      in_deserializer,
+      in_cache_size,
+      in_log);
+  }
+
+  private static JPSourceText readText(
+    final InputStream stream)
+    throws IOException
+  {
+    final BufferedReader br =
+      new BufferedReader(new InputStreamReader(
+        stream,
+        JPRuntimeRepository.UTF8));
+
+    try {
+      final List<String> lines = new ArrayList<String>();
+      for (;;) {
+        final String line = br.readLine();
+        if (line == null) {
+          break;
+        }
+        lines.add(line);
+      }
+      return JPSourceText.newText(lines);
+    } finally {
+      br.close();
+    }
+  }
+
+  private final JPRuntimeSourceCache                            cache;
+  private final JPMetaDeserializerType                          deserializer;
+  private final LogUsableType                                   log;
+  private final ConcurrentMap<String, JPCompiledShaderMetaType> metas;
+  private final JPRuntimeStorageType                            storage;
+
+  private JPRuntimeRepository(
+    final JPRuntimeStorageType in_storage,
+    final JPMetaDeserializerType in_deserializer,
+    final long in_cache_size,
+    final LogUsableType in_log)
+  {
+    this.storage = NullCheck.notNull(in_storage, "Storage");
+    this.deserializer = NullCheck.notNull(in_deserializer, "Deserializer");
+    this.log = NullCheck.notNull(in_log, "Log").with("repository");
+    this.cache = new JPRuntimeSourceCache(in_cache_size);
+    this.metas = new ConcurrentHashMap<String, JPCompiledShaderMetaType>();
+  }
+
+  /**
+   * @return The number of sources currently held in the cache
+   */
+
+  public int getCachedSourceCount()
+  {
+    return this.cache.getCount();
+  }
+
+  /**
+   * @return The total size in bytes of the sources currently held in the
+   *         cache
+   */
+
+  public long getCachedSourceSize()
+  {
+    return this.cache.getSize();
+  }
+
+  private JPHashedLines loadCompacted(
+    final JPCompiledShaderMetaType meta,
+    final String file)
+    throws IOException
+  {
+    OptionType<InputStream> s_opt =
+      this.storage.storageOpen(meta.getName() + "/" + file);
+    if (s_opt.isNone()) {
+      s_opt =
+        this.storage.storageOpen(JPRuntimeRepository.SHARED_DIRECTORY
+          + "/"
+          + file);
+    }
+    if (s_opt.isNone()) {
+      throw new IOException(String.format(
+        "Shader %s: missing source file %s",
+        meta.getName(),
+        file));
+    }
+
+    final JPSourceText text =
+      JPRuntimeRepository.readText(((Some<InputStream>) s_opt).get());
+    final JPHashedLines lines =
+      JPHashedLines.newSource(
+        text,
+        JPRuntimeRepository.compactedAlgorithm(meta),
+        this.log);
+
+    /**
+     * Compacted sources are named by their hash, so a mismatch indicates a
+     * damaged or modified file.
+     */
+
+    final String expected = file.substring(0, file.lastIndexOf('.'));
+    if (lines.getHash().equals(expected) == false) {
+      throw new IOException(String.format(
+        "Shader %s: source file %s has hash %s",
+        meta.getName(),
+        file,
+        lines.getHash()));
+    }
+    return lines;
+  }
+
+  private JPHashedLines loadUncompacted(
+    final JPCompiledShaderMetaType meta,
+    final String path)
+    throws IOException
+  {
+    final OptionType<InputStream> s_opt = this.storage.storageOpen(path);
+    if (s_opt.isNone()) {
+      throw new IOException(String.format(
+        "Shader %s: missing source file %s",
+        meta.getName(),
+        path));
+    }
+
+    final JPSourceText text =
+      JPRuntimeRepository.readText(((Some<InputStream>) s_opt).get());
+    return JPHashedLines.newSource(text, this.log);
+  }
+
+  /**
+   * Look up the metadata for the shader with the given name, reading it from
+   * storage if it has not already been read.
+   *
+   * @param name
+   *          The fully-qualified name of the shader
+   * @return The metadata, or {@link com.io7m.jfunctional.None} if no shader
+   *         with the given name exists
+   * @throws IOException
+   *           On I/O errors
+   * @throws JPSerializerException
+   *           If the metadata cannot be parsed
+   */
+
+  public OptionType<JPCompiledShaderMetaType> lookupMeta(
+    final String name)
+    throws IOException,
+      JPSerializerException
+  {
+    NullCheck.notNull(name, "Name");
+
+    final JPCompiledShaderMetaType cached = this.metas.get(name);
+    if (cached != null) {
+      return Option.some(cached);
+    }
+
+    final OptionType<InputStream> s_opt =
+      this.storage.storageOpen(name
+        + "/"
+        + this.deserializer.metaGetSuggestedFilename());
+    if (s_opt.isNone()) {
+      return Option.none();
+    }
+
+    final InputStream s = ((Some<InputStream>) s_opt).get();
+    try {
+      final JPCompiledShaderMetaType meta =
+        this.deserializer.metaDeserializeShader(s);
+
+      /**
+       * Another thread may have read the same metadata concurrently; the
+       * first result to be stored is used by all threads.
+       */
+
+      final JPCompiledShaderMetaType previous =
+        this.metas.putIfAbsent(name, meta);
+      if (previous != null) {
+        return Option.some(previous);
+      }
+      return Option.some(meta);
+    } finally {
+      s.close();
+    }
+  }
+
+  /**
+   * Look up the source for the given shader and GLSL version, reading it from
+   * storage if it is not already cached.
+   *
+   * @param meta
+   *          The shader metadata
+   * @param v
+   *          The GLSL version
+   * @return The source, or {@link com.io7m.jfunctional.None} if the shader
+   *         has no source for the given version
+   * @throws IOException
+   *           On I/O errors, or if the source file is missing or does not
+   *           match its hash
+   */
+
+  public OptionType<JPHashedLines> lookupSource(
+    final JPCompiledShaderMetaType meta,
+    final GVersionType v)
+    throws IOException
+  {
+    NullCheck.notNull(meta, "Meta");
+    NullCheck.notNull(v, "Version");
+
+    final OptionType<String> file_opt = meta.getSourceCodeFilename(v);
+    if (file_opt.isNone()) {
+      return Option.none();
+    }
+
+    final String file = ((Some<String>) file_opt).get();
+    final boolean compacted = meta.isCompacted();
+
+    /**
+     * Compacted sources are content-addressed, and so are keyed only by
+     * their file name. Uncompacted sources are keyed by their path.
+     */
+
+    final String key;
+    if (compacted) {
+      key = file;
+    } else {
+      key = meta.getName() + "/" + file;
+    }
+
+    final OptionType<JPHashedLines> cached = this.cache.get(key);
+    if (cached.isSome()) {
+      return cached;
+    }
+
+    final JPHashedLines loaded;
+    if (compacted) {
+      loaded = this.loadCompacted(meta, file);
+    } else {
+      loaded = this.loadUncompacted(meta, key);
+    }
+    return Option.some(this.cache.put(key, loaded));
+  }
+}
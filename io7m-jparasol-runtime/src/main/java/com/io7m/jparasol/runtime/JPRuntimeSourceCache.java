@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.runtime;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jfunctional.Option;
+import com.io7m.jfunctional.OptionType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jparasol.core.JPHashedLines;
+
+/**
+ * A least-recently-used cache of loaded sources, bounded by the total size
+ * in bytes of the cached text. All methods are safe to call from multiple
+ * threads.
+ */
+
+@EqualityReference final class JPRuntimeSourceCache
+{
+  private static long weight(
+    final JPHashedLines lines)
+  {
+    return lines.getText().getByteSize();
+  }
+
+  private final Map<String, JPHashedLines> entries;
+  private final long                       maximum;
+  private long                             size;
+
+  JPRuntimeSourceCache(
+    final long in_maximum)
+  {
+    if (in_maximum < 0) {
+      throw new IllegalArgumentException(String.format(
+        "Cache size %d must be non-negative",
+        Long.valueOf(in_maximum)));
+    }
+
+    this.maximum = in_maximum;
+    this.size = 0;
+    this.entries = new LinkedHashMap<String, JPHashedLines>(16, 0.75f, true);
+  }
+
+  private void evict()
+  {
+    final Iterator<JPHashedLines> iter = this.entries.values().iterator();
+    while ((this.size > this.maximum) && iter.hasNext()) {
+      final JPHashedLines e = iter.next();
+      this.size = this.size - JPRuntimeSourceCache.weight(e);
+      iter.remove();
+    }
+  }
+
+  synchronized OptionType<JPHashedLines> get(
+    final String key)
+  {
+    final JPHashedLines r = this.entries.get(key);
+    if (r == null) {
+      return Option.none();
+    }
+    return Option.some(r);
+  }
+
+  synchronized int getCount()
+  {
+    return this.entries.size();
+  }
+
+  synchronized long getSize()
+  {
+    return this.size;
+  }
+
+  /**
+   * Add the given source to the cache. If another thread has already added
+   * a source with the same key, the existing source is returned instead, so
+   * that all threads share the same instance. Sources larger than the cache
+   * are returned without being cached.
+   */
+
+  synchronized JPHashedLines put(
+    final String key,
+    final JPHashedLines lines)
+  {
+    NullCheck.notNull(key, "Key");
+    NullCheck.notNull(lines, "Lines");
+
+    final JPHashedLines existing = this.entries.get(key);
+    if (existing != null) {
+      return existing;
+    }
+
+    final long w = JPRuntimeSourceCache.weight(lines);
+    if (w > this.maximum) {
+      return lines;
+    }
+
+    this.entries.put(key, lines);
+    this.size = this.size + w;
+    this.evict();
+    return lines;
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jfunctional.Option;
+import com.io7m.jfunctional.OptionType;
+import com.io7m.jnull.NullCheck;
+
+/**
+ * Storage backed by resources on the class path, for compiled shaders that
+ * are packaged alongside application code.
+ */
+
+@EqualityReference public final class JPRuntimeStorageClasspath implements
+  JPRuntimeStorageType
+{
+  /**
+   * Construct storage that reads resources from the given class loader.
+   *
+   * @param in_loader
+   *          The class loader
+   * @param in_root
+   *          The resource path of the directory holding the compiled
+   *          shaders, such as <code>com/example/shaders</code>, without
+   *          leading or trailing <code>'/'</code> characters. The empty
+   *          string denotes the root of the class path.
+   * @return New storage
+   */
+
+  public static JPRuntimeStorageType newStorage(
+    final ClassLoader in_loader,
+    final String in_root)
+  {
+    return new JPRuntimeStorageClasspath(in_loader, in_root);
+  }
+
+  private final ClassLoader loader;
+  private final String      prefix;
+
+  private JPRuntimeStorageClasspath(
+    final ClassLoader in_loader,
+    final String in_root)
+  {
+    this.loader = NullCheck.notNull(in_loader, "Class loader");
+    NullCheck.notNull(in_root, "Root");
+
+    if (in_root.isEmpty()) {
+      this.prefix = "";
+    } else {
+      this.prefix = in_root + "/";
+    }
+  }
+
+  @Override public OptionType<InputStream> storageOpen(
+    final String path)
+    throws IOException
+  {
+    NullCheck.notNull(path, "Path");
+
+    final InputStream s = this.loader.getResourceAsStream(this.prefix + path);
+    if (s == null) {
+      return Option.none();
+    }
+    return Option.some(s);
+  }
+}
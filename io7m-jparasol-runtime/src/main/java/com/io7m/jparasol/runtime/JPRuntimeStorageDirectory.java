@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.runtime;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jfunctional.Option;
+import com.io7m.jfunctional.OptionType;
+import com.io7m.jnull.NullCheck;
+
+/**
+ * Storage backed by a directory, such as one written by the compiler
+ * without the <code>--zip</code> option.
+ */
+
+@EqualityReference public final class JPRuntimeStorageDirectory implements
+  JPRuntimeStorageType
+{
+  /**
+   * Construct storage that reads files from the given directory.
+   *
+   * @param in_root
+   *          The directory
+   * @return New storage
+   */
+
+  public static JPRuntimeStorageType newStorage(
+    final File in_root)
+  {
+    return new JPRuntimeStorageDirectory(in_root);
+  }
+
+  private final File root;
+
+  private JPRuntimeStorageDirectory(
+    final File in_root)
+  {
+    this.root = NullCheck.notNull(in_root, "Root");
+  }
+
+  @Override public OptionType<InputStream> storageOpen(
+    final String path)
+    throws IOException
+  {
+    NullCheck.notNull(path, "Path");
+
+    final File file =
+      new File(this.root, path.replace('/', File.separatorChar));
+
+    /**
+     * Opening the file and handling the failure avoids a separate check
+     * for existence.
+     */
+
+    try {
+      final InputStream s = new FileInputStream(file);
+      return Option.some(s);
+    } catch (final FileNotFoundException e) {
+      return Option.none();
+    }
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.io7m.jfunctional.OptionType;
+
+/**
+ * The type of storage from which compiled shaders are read.
+ */
+
+public interface JPRuntimeStorageType
+{
+  /**
+   * Open the file at the given path, if it exists. Implementations must be
+   * safe to use from multiple threads.
+   *
+   * @param path
+   *          A path relative to the root of the storage, in which elements
+   *          are separated by <code>'/'</code>
+   * @return A stream that reads the file, or
+   *         {@link com.io7m.jfunctional.None} if no file exists at the
+   *         given path
+   * @throws IOException
+   *           On I/O errors
+   */
+
+  OptionType<InputStream> storageOpen(
+    final String path)
+    throws IOException;
+}
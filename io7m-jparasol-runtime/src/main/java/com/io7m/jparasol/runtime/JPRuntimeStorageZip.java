@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import com.io7m.jequality.annotations.EqualityReference;
+import com.io7m.jfunctional.Option;
+import com.io7m.jfunctional.OptionType;
+import com.io7m.jnull.NullCheck;
+
+/**
+ * Storage backed by a zip archive, such as one written by the compiler with
+ * the <code>--zip</code> option. The archive is not closed by the storage.
+ */
+
+@EqualityReference public final class JPRuntimeStorageZip implements
+  JPRuntimeStorageType
+{
+  /**
+   * Construct storage that reads entries from the given archive.
+   *
+   * @param in_zip
+   *          The archive
+   * @return New storage
+   */
+
+  public static JPRuntimeStorageType newStorage(
+    final ZipFile in_zip)
+  {
+    return new JPRuntimeStorageZip(in_zip);
+  }
+
+  private final ZipFile zip;
+
+  private JPRuntimeStorageZip(
+    final ZipFile in_zip)
+  {
+    this.zip = NullCheck.notNull(in_zip, "Zip");
+  }
+
+  @Override public OptionType<InputStream> storageOpen(
+    final String path)
+    throws IOException
+  {
+    NullCheck.notNull(path, "Path");
+
+    final ZipEntry e = this.zip.getEntry(path);
+    if (e == null) {
+      return Option.none();
+    }
+
+    final InputStream s = this.zip.getInputStream(e);
+    assert s != null;
+    return Option.some(s);
+  }
+}
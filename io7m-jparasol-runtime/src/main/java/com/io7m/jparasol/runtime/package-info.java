@@ -0,0 +1,32 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+/**
+ * <p>
+ * Runtime access to compiled shaders.
+ * </p>
+ * <p>
+ * A {@link com.io7m.jparasol.runtime.JPRuntimeRepository} reads the output
+ * of the compiler from a directory, a zip archive, or the class path. Shader
+ * metadata is read and parsed only when a shader is first looked up, and
+ * source code is read only for the GLSL versions that are actually
+ * requested. Loaded sources are held in a cache of bounded size that is
+ * shared by all threads using the repository.
+ * </p>
+ */
+
+@com.io7m.jnull.NonNullByDefault package com.io7m.jparasol.runtime;
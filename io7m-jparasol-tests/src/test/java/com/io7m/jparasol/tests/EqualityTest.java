@@ -49,6 +49,7 @@ import com.io7m.jequality.validator.ValidatorResult;
       new FilterBuilder()
         .include(FilterBuilder.prefix("com.io7m.jparasol"))
         .exclude(FilterBuilder.prefix("com.io7m.jparasol.tests"))
+        .exclude(FilterBuilder.prefix("com.io7m.jparasol.frontend"))
         .exclude(
           FilterBuilder
             .prefix("com.io7m.jparasol.metaserializer.protobuf.types"));
@@ -213,7 +213,7 @@ public final class TestPipeline
     }
   }
 
-  private static InputStream getFileStream(
+  public static InputStream getFileStream(
     final String name)
   {
     final InputStream is =
@@ -281,6 +281,15 @@ public final class TestPipeline
 
   public static GPipeline makeGPipeline(
     final String[] names)
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final TASTCompilation typed = TestPipeline.makeTypedWithLibrary(names);
+    final ExecutorService exec = Executors.newFixedThreadPool(1);
+    return GPipeline.newPipeline(typed, exec, log);
+  }
+
+  public static TASTCompilation makeTypedWithLibrary(
+    final String[] names)
   {
     try {
       final LogUsableType log = TestUtilities.getLog();
@@ -293,8 +302,7 @@ public final class TestPipeline
 
       final TASTCompilation typed = pipe.pipeCompile();
       pipe.pipeClose();
-      final ExecutorService exec = Executors.newFixedThreadPool(1);
-      return GPipeline.newPipeline(typed, exec, log);
+      return typed;
     } catch (final LexerError e) {
       e.printStackTrace();
       throw new UnreachableCodeException(e);
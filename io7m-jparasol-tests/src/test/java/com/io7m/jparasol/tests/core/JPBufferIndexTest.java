@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.tests.core;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jparasol.core.JPBufferIndex;
+import com.io7m.jparasol.core.JPMalformedBuffer;
+
+@SuppressWarnings({ "null", "static-method" }) public final class JPBufferIndexTest
+{
+  private static final int RECORD_SIZE = 8;
+
+  /**
+   * An index of the given keys, in order, as records of (offset, length),
+   * followed by the keys.
+   */
+
+  private static ByteBuffer index(
+    final byte[]... keys)
+  {
+    int size = keys.length * JPBufferIndexTest.RECORD_SIZE;
+    for (final byte[] k : keys) {
+      size = size + k.length;
+    }
+
+    final ByteBuffer b = ByteBuffer.allocate(size);
+    int offset = keys.length * JPBufferIndexTest.RECORD_SIZE;
+    for (int index = 0; index < keys.length; ++index) {
+      final int record = index * JPBufferIndexTest.RECORD_SIZE;
+      b.putInt(record, offset);
+      b.putInt(record + 4, keys[index].length);
+      for (int k = 0; k < keys[index].length; ++k) {
+        b.put(offset + k, keys[index][k]);
+      }
+      offset = offset + keys[index].length;
+    }
+    return b;
+  }
+
+  @Test(expected = JPMalformedBuffer.class) public void testCheckHeaderMagic()
+    throws Exception
+  {
+    final ByteBuffer b = ByteBuffer.allocate(16);
+    b.putInt(0, 0x12345678);
+    b.putInt(4, 1);
+    JPBufferIndex.checkHeader(b, 16, 0x12345679, 1, "Test");
+  }
+
+  @Test public void testCheckHeaderOK()
+    throws Exception
+  {
+    final ByteBuffer b = ByteBuffer.allocate(16);
+    b.putInt(0, 0x12345678);
+    b.putInt(4, 1);
+    JPBufferIndex.checkHeader(b, 16, 0x12345678, 1, "Test");
+  }
+
+  @Test(expected = JPMalformedBuffer.class) public void testCheckHeaderShort()
+    throws Exception
+  {
+    JPBufferIndex.checkHeader(ByteBuffer.allocate(15), 16, 0, 0, "Test");
+  }
+
+  @Test(expected = JPMalformedBuffer.class) public
+    void
+    testCheckHeaderVersion()
+      throws Exception
+  {
+    final ByteBuffer b = ByteBuffer.allocate(16);
+    b.putInt(0, 0x12345678);
+    b.putInt(4, 2);
+    JPBufferIndex.checkHeader(b, 16, 0x12345678, 1, "Test");
+  }
+
+  @Test public void testCheckRegion()
+    throws Exception
+  {
+    final ByteBuffer b = ByteBuffer.allocate(16);
+    JPBufferIndex.checkRegion(b, 0, 16, "Test");
+    JPBufferIndex.checkRegion(b, 16, 0, "Test");
+
+    final long[][] bad =
+      {
+        {-1, 1},
+        {0, -1},
+        {1, 16},
+        {Integer.MAX_VALUE, Integer.MAX_VALUE},
+      };
+    for (final long[] r : bad) {
+      try {
+        JPBufferIndex.checkRegion(b, r[0], r[1], "Test");
+        Assert.fail();
+      } catch (final JPMalformedBuffer e) {
+        // Expected
+      }
+    }
+  }
+
+  @Test public void testFind()
+    throws Exception
+  {
+    final List<byte[]> keys = new ArrayList<byte[]>();
+    keys.add(new byte[] { (byte) 0x80 });
+    keys.add(new byte[] { 0x7f });
+    keys.add(new byte[] { 0x61, 0x62 });
+    keys.add(new byte[] { 0x61 });
+    keys.add(new byte[0]);
+    Collections.sort(keys, JPBufferIndex.ORDER);
+
+    final byte[][] sorted = keys.toArray(new byte[keys.size()][]);
+    Assert.assertEquals(0, sorted[0].length);
+    Assert.assertEquals(1, sorted[1].length);
+    Assert.assertEquals(2, sorted[2].length);
+    Assert.assertEquals(0x7f, sorted[3][0]);
+    Assert.assertEquals((byte) 0x80, sorted[4][0]);
+
+    final ByteBuffer b = JPBufferIndexTest.index(sorted);
+    final int size = JPBufferIndexTest.RECORD_SIZE;
+    for (int index = 0; index < sorted.length; ++index) {
+      Assert.assertEquals(
+        index * size,
+        JPBufferIndex.find(b, 0, sorted.length, size, sorted[index], "Test"));
+    }
+
+    final byte[] missing = new byte[] { 0x62 };
+    Assert.assertEquals(
+      JPBufferIndex.NOT_FOUND,
+      JPBufferIndex.find(b, 0, sorted.length, size, missing, "Test"));
+    Assert.assertEquals(
+      JPBufferIndex.NOT_FOUND,
+      JPBufferIndex.find(b, 0, 0, size, sorted[0], "Test"));
+  }
+
+  @Test(expected = JPMalformedBuffer.class) public void testFindOutOfBounds()
+    throws Exception
+  {
+    final ByteBuffer b = JPBufferIndexTest.index(new byte[] { 0x61 });
+    b.putInt(4, 1000);
+    JPBufferIndex.find(
+      b,
+      0,
+      1,
+      JPBufferIndexTest.RECORD_SIZE,
+      new byte[] { 0x61 },
+      "Test");
+  }
+}
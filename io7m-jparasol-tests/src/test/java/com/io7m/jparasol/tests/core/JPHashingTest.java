@@ -0,0 +1,187 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.tests.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jlog.LogUsableType;
+import com.io7m.jparasol.core.JPHashAlgorithm;
+import com.io7m.jparasol.core.JPHashedLines;
+import com.io7m.jparasol.core.JPHashing;
+import com.io7m.jparasol.core.JPSourceText;
+import com.io7m.jparasol.tests.TestUtilities;
+
+@SuppressWarnings({ "null", "static-method" }) public final class JPHashingTest
+{
+  private static String hashString(
+    final JPHashAlgorithm a,
+    final String s)
+  {
+    final byte[] b = s.getBytes(Charset.forName("UTF-8"));
+    return JPHashing.hex(JPHashing.hashBytes(a, ByteBuffer.wrap(b)));
+  }
+
+  private static JPSourceText text(
+    final String... lines)
+  {
+    final List<String> xs = new ArrayList<String>();
+    for (final String line : lines) {
+      xs.add(line);
+    }
+    return JPSourceText.newText(xs);
+  }
+
+  @Test public void testAlgorithmNames()
+  {
+    for (final JPHashAlgorithm a : JPHashAlgorithm.values()) {
+      Assert.assertSame(a, JPHashAlgorithm.fromName(a.getName()));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testAlgorithmNameUnknown()
+  {
+    JPHashAlgorithm.fromName("md5");
+  }
+
+  @Test public void testHashedLinesAlgorithm()
+    throws IOException
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final JPSourceText t = JPHashingTest.text("#version 100", "x", "y");
+
+    final JPHashedLines h =
+      JPHashedLines.newSourceStripped(
+        t,
+        JPHashAlgorithm.HASH_MURMUR3_128,
+        log);
+    Assert.assertEquals(JPHashAlgorithm.HASH_MURMUR3_128, h.getHashAlgorithm());
+    Assert.assertEquals(32, h.getHash().length());
+    Assert.assertEquals(
+      JPHashing.hashText(
+        JPHashAlgorithm.HASH_MURMUR3_128,
+        JPHashingTest.text("x", "y")),
+      h.getHash());
+
+    final JPHashedLines s = JPHashedLines.newSourceStripped(t, log);
+    Assert.assertEquals(JPHashAlgorithm.HASH_SHA_256, s.getHashAlgorithm());
+    Assert.assertEquals(64, s.getHash().length());
+  }
+
+  @Test public void testHashIncludesTerminators()
+  {
+    final JPHashAlgorithm[] algorithms =
+      {JPHashAlgorithm.HASH_MURMUR3_128, JPHashAlgorithm.HASH_SHA_256};
+    for (final JPHashAlgorithm a : algorithms) {
+      final String h0 = JPHashing.hashText(a, JPHashingTest.text("ab", "c"));
+      final String h1 = JPHashing.hashText(a, JPHashingTest.text("a", "bc"));
+      final String h2 = JPHashing.hashText(a, JPHashingTest.text("abc"));
+      Assert.assertFalse(h0.equals(h1));
+      Assert.assertFalse(h0.equals(h2));
+      Assert.assertEquals(JPHashingTest.hashString(a, "ab\nc\n"), h0);
+    }
+  }
+
+  @Test public void testHashLinesOriginal()
+    throws Exception
+  {
+    final JPHashAlgorithm a = JPHashAlgorithm.HASH_SHA_256_LINES;
+
+    /**
+     * The original scheme digested each line in turn, without terminators.
+     */
+
+    final MessageDigest md = MessageDigest.getInstance("SHA-256");
+    md.update("ab".getBytes("UTF-8"));
+    md.update("\u00e9".getBytes("UTF-8"));
+    md.update("".getBytes("UTF-8"));
+    final String expected = JPHashing.hex(md.digest());
+
+    Assert.assertEquals(
+      expected,
+      JPHashing.hashText(a, JPHashingTest.text("ab", "\u00e9", "")));
+    Assert.assertEquals(
+      expected,
+      JPHashing.hashText(a, JPHashingTest.text("a", "b\u00e9")));
+    Assert.assertEquals(expected, JPHashingTest.hashString(a, "ab\u00e9"));
+  }
+
+  @Test public void testHashPreservesPosition()
+  {
+    final ByteBuffer b = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+    b.position(1);
+    for (final JPHashAlgorithm a : JPHashAlgorithm.values()) {
+      JPHashing.hashBytes(a, b);
+      Assert.assertEquals(1, b.position());
+    }
+  }
+
+  @Test public void testHex()
+  {
+    Assert.assertEquals("", JPHashing.hex(new byte[0]));
+    Assert.assertEquals(
+      "00017f80ff",
+      JPHashing.hex(new byte[] {
+        0x00,
+        0x01,
+        0x7f,
+        (byte) 0x80,
+        (byte) 0xff }));
+  }
+
+  @Test public void testMurmur3Known()
+  {
+    final JPHashAlgorithm a = JPHashAlgorithm.HASH_MURMUR3_128;
+    Assert.assertEquals(
+      "00000000000000000000000000000000",
+      JPHashingTest.hashString(a, ""));
+    Assert.assertEquals(
+      "6c1b07bc7bbc4be347939ac4a93c437a",
+      JPHashingTest.hashString(
+        a,
+        "The quick brown fox jumps over the lazy dog"));
+  }
+
+  @Test public void testMurmur3TailSizes()
+  {
+    final JPHashAlgorithm a = JPHashAlgorithm.HASH_MURMUR3_128;
+    final StringBuilder s = new StringBuilder();
+    final List<String> seen = new ArrayList<String>();
+    for (int index = 0; index < 40; ++index) {
+      final String h = JPHashingTest.hashString(a, s.toString());
+      Assert.assertFalse(seen.contains(h));
+      seen.add(h);
+      s.append('x');
+    }
+  }
+
+  @Test public void testSHA256Known()
+  {
+    Assert.assertEquals(
+      "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+      JPHashingTest.hashString(JPHashAlgorithm.HASH_SHA_256, "abc"));
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.tests.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jlog.LogUsableType;
+import com.io7m.jparasol.core.JPHashedLines;
+import com.io7m.jparasol.core.JPSourceText;
+import com.io7m.jparasol.tests.TestUtilities;
+
+@SuppressWarnings({ "null", "static-method" }) public final class JPSourceTextTest
+{
+  private static List<String> lines()
+  {
+    final List<String> lines = new ArrayList<String>();
+    lines.add("#version 330");
+    lines.add("");
+    lines.add("float x = 1.0;");
+    lines.add("// \u00e9t\u00e9 \u2603");
+    return lines;
+  }
+
+  @Test public void testBuffer()
+  {
+    final JPSourceText t = JPSourceText.newText(JPSourceTextTest.lines());
+    final ByteBuffer b = t.getBuffer();
+    Assert.assertEquals(t.getByteSize(), b.remaining());
+    Assert.assertEquals('#', b.get(0));
+    Assert.assertEquals('\n', b.get(b.remaining() - 1));
+    Assert.assertEquals(0, t.getLineOffset(0));
+    Assert.assertEquals(13, t.getLineOffset(1));
+    Assert.assertEquals(14, t.getLineOffset(2));
+    Assert.assertEquals(t.getByteSize(), t.getLineOffset(4));
+  }
+
+  @Test public void testEmpty()
+  {
+    final JPSourceText t = JPSourceText.newText(new ArrayList<String>());
+    Assert.assertEquals(0, t.getLineCount());
+    Assert.assertEquals(0, t.getByteSize());
+    Assert.assertTrue(t.getLines().isEmpty());
+  }
+
+  @Test public void testHashSameAsLines()
+    throws IOException
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final List<String> lines = JPSourceTextTest.lines();
+    final JPSourceText t = JPSourceText.newText(lines);
+
+    Assert.assertEquals(
+      JPHashedLines.newSource(lines, log).getHash(),
+      JPHashedLines.newSource(t, log).getHash());
+
+    final JPHashedLines stripped = JPHashedLines.newSourceStripped(t, log);
+    Assert.assertEquals(
+      JPHashedLines.newSource(lines.subList(1, lines.size()), log).getHash(),
+      stripped.getHash());
+    Assert.assertEquals(lines.subList(1, lines.size()), stripped.getLines());
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testLineOutOfRange()
+  {
+    JPSourceText.newText(JPSourceTextTest.lines()).getLine(4);
+  }
+
+  @Test public void testLines()
+  {
+    final List<String> lines = JPSourceTextTest.lines();
+    final JPSourceText t = JPSourceText.newText(lines);
+    Assert.assertEquals(4, t.getLineCount());
+    Assert.assertEquals(lines, t.getLines());
+    Assert.assertEquals("// \u00e9t\u00e9 \u2603", t.getLine(3));
+    Assert.assertEquals(t, JPSourceText.newText(t.getLines()));
+  }
+
+  @Test public void testWithFirstLine()
+  {
+    final List<String> lines = JPSourceTextTest.lines();
+    final JPSourceText t = JPSourceText.newText(lines);
+    final JPSourceText u = t.withFirstLine("#version 400");
+
+    lines.set(0, "#version 400");
+    Assert.assertEquals(lines, u.getLines());
+    Assert.assertEquals(JPSourceText.newText(lines), u);
+    Assert.assertEquals(
+      JPSourceText.newText(lines).hashCode(),
+      u.hashCode());
+  }
+
+  @Test public void testWithoutFirstLine()
+  {
+    final List<String> lines = JPSourceTextTest.lines();
+    final JPSourceText t = JPSourceText.newText(lines).withoutFirstLine();
+    Assert.assertEquals(lines.subList(1, 4), t.getLines());
+    Assert.assertEquals(JPSourceText.newText(lines.subList(1, 4)), t);
+    Assert.assertEquals(0, t.getLineOffset(0));
+    Assert.assertEquals(1, t.getLineOffset(1));
+  }
+}
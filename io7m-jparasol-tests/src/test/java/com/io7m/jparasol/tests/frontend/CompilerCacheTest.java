@@ -0,0 +1,288 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.tests.frontend;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jparasol.frontend.CommandLineFrontend;
+import com.io7m.jparasol.frontend.CompilerCache;
+
+@SuppressWarnings({ "null", "static-method" }) public final class CompilerCacheTest
+{
+  private static final String SOURCE;
+
+  static {
+    final StringBuilder s = new StringBuilder();
+    s.append("package x.y;\n");
+    s.append("module M is\n");
+    s.append("  shader vertex v is\n");
+    s.append("    out vertex f_position_clip : vector_4f;\n");
+    s.append("  with\n");
+    s.append("    value position = new vector_4f (0.0, 0.0, 0.0, 1.0);\n");
+    s.append("  as\n");
+    s.append("    out f_position_clip = position;\n");
+    s.append("  end;\n");
+    s.append("  shader fragment f is\n");
+    s.append("    in f_position_clip : vector_4f;\n");
+    s.append("    out out_0 : vector_4f as 0;\n");
+    s.append("  with\n");
+    s.append("    value rgba = new vector_4f (%s, 0.0, 0.0, 1.0);\n");
+    s.append("  as\n");
+    s.append("    out out_0 = rgba;\n");
+    s.append("  end;\n");
+    s.append("  shader program p is\n");
+    s.append("    vertex v;\n");
+    s.append("    fragment f;\n");
+    s.append("  end;\n");
+    s.append("end;\n");
+    SOURCE = s.toString();
+  }
+
+  /**
+   * Compile the program in <code>source</code> to <code>output</code>,
+   * using the cache in <code>cache</code>. The modification time of the
+   * output is reset afterwards so that a subsequent cache hit, which does
+   * not touch the output, can be distinguished from a recompilation.
+   *
+   * @return <code>true</code> if the compiler wrote the output
+   */
+
+  private static boolean compile(
+    final File cache,
+    final File output,
+    final File source,
+    final String... options)
+    throws Exception
+  {
+    final List<String> args = new ArrayList<String>();
+    args.add("--compile-one");
+    args.add("--zip");
+    args.add("--cache");
+    args.add(cache.toString());
+    args.addAll(Arrays.asList(options));
+    args.add(output.toString());
+    args.add("x.y.M.p");
+    args.add(source.toString());
+
+    CommandLineFrontend.run(args.toArray(new String[args.size()]));
+
+    final boolean written = output.lastModified() != 0;
+    Assert.assertTrue(output.setLastModified(0));
+
+    final ZipFile z = new ZipFile(output);
+    z.close();
+    return written;
+  }
+
+  private static Map<String, String> readZip(
+    final File file)
+    throws IOException
+  {
+    final Map<String, String> r = new TreeMap<String, String>();
+    final ZipFile z = new ZipFile(file);
+    try {
+      final Enumeration<? extends ZipEntry> entries = z.entries();
+      while (entries.hasMoreElements()) {
+        final ZipEntry e = entries.nextElement();
+        final InputStream in = z.getInputStream(e);
+        try {
+          final ByteArrayOutputStream data = new ByteArrayOutputStream();
+          final byte[] buffer = new byte[8192];
+          for (;;) {
+            final int count = in.read(buffer);
+            if (count == -1) {
+              break;
+            }
+            data.write(buffer, 0, count);
+          }
+          r.put(e.getName(), data.toString("UTF-8"));
+        } finally {
+          in.close();
+        }
+      }
+    } finally {
+      z.close();
+    }
+    return r;
+  }
+
+  private static File newDirectory()
+    throws IOException
+  {
+    final File dir = File.createTempFile("jparasol-cache", "");
+    Assert.assertTrue(dir.delete());
+    Assert.assertTrue(dir.mkdirs());
+    return dir;
+  }
+
+  private static void writeSource(
+    final File file,
+    final String red)
+    throws IOException
+  {
+    final OutputStream out = new FileOutputStream(file);
+    try {
+      out.write(String.format(CompilerCacheTest.SOURCE, red).getBytes(
+        "UTF-8"));
+    } finally {
+      out.close();
+    }
+  }
+
+  @Test public void testDamagedOutput()
+    throws Exception
+  {
+    final File dir = CompilerCacheTest.newDirectory();
+    final File cache = new File(dir, "cache");
+    final File output = new File(dir, "out.zip");
+    final File source = new File(dir, "M.p");
+    CompilerCacheTest.writeSource(source, "1.0");
+
+    Assert.assertTrue(CompilerCacheTest.compile(cache, output, source));
+    final long size = output.length();
+
+    final OutputStream out = new FileOutputStream(output, true);
+    try {
+      out.write(0);
+    } finally {
+      out.close();
+    }
+    Assert.assertTrue(output.setLastModified(0));
+    Assert.assertTrue(CompilerCacheTest.compile(cache, output, source));
+    Assert.assertEquals(size, output.length());
+    Assert.assertFalse(CompilerCacheTest.compile(cache, output, source));
+  }
+
+  @Test public void testHit()
+    throws Exception
+  {
+    final File dir = CompilerCacheTest.newDirectory();
+    final File cache = new File(dir, "cache");
+    final File output = new File(dir, "out.zip");
+    final File source = new File(dir, "M.p");
+    CompilerCacheTest.writeSource(source, "1.0");
+
+    Assert.assertTrue(CompilerCacheTest.compile(cache, output, source));
+    Assert.assertFalse(CompilerCacheTest.compile(cache, output, source));
+    Assert.assertFalse(CompilerCacheTest.compile(cache, output, source));
+  }
+
+  /**
+   * A compilation that misses the stamp for its output still reads the
+   * unchanged modules from the cache, and produces the same output as a
+   * compilation that checks every module.
+   */
+
+  @Test public void testModulesReused()
+    throws Exception
+  {
+    final File dir = CompilerCacheTest.newDirectory();
+    final File cache = new File(dir, "cache");
+    final File modules = new File(cache, CompilerCache.MODULES);
+    final File source = new File(dir, "M.p");
+    CompilerCacheTest.writeSource(source, "1.0");
+
+    final File fresh = new File(dir, "fresh.zip");
+    Assert.assertTrue(CompilerCacheTest.compile(
+      new File(dir, "other"),
+      fresh,
+      source));
+
+    final File output = new File(dir, "out.zip");
+    Assert.assertTrue(CompilerCacheTest.compile(cache, output, source));
+    Assert.assertEquals(1, modules.listFiles().length);
+
+    final File module = modules.listFiles()[0];
+    Assert.assertTrue(module.setLastModified(0));
+    Assert.assertTrue(output.delete());
+    Assert.assertTrue(CompilerCacheTest.compile(cache, output, source));
+    Assert.assertEquals(0, module.lastModified());
+
+    Assert.assertEquals(
+      CompilerCacheTest.readZip(fresh),
+      CompilerCacheTest.readZip(output));
+  }
+
+  @Test public void testMissMissingOutput()
+    throws Exception
+  {
+    final File dir = CompilerCacheTest.newDirectory();
+    final File cache = new File(dir, "cache");
+    final File output = new File(dir, "out.zip");
+    final File source = new File(dir, "M.p");
+    CompilerCacheTest.writeSource(source, "1.0");
+
+    Assert.assertTrue(CompilerCacheTest.compile(cache, output, source));
+    Assert.assertTrue(output.delete());
+    Assert.assertTrue(CompilerCacheTest.compile(cache, output, source));
+  }
+
+  @Test public void testMissOptionChanged()
+    throws Exception
+  {
+    final File dir = CompilerCacheTest.newDirectory();
+    final File cache = new File(dir, "cache");
+    final File output = new File(dir, "out.zip");
+    final File source = new File(dir, "M.p");
+    CompilerCacheTest.writeSource(source, "1.0");
+
+    Assert.assertTrue(CompilerCacheTest.compile(cache, output, source));
+    Assert.assertTrue(CompilerCacheTest.compile(
+      cache,
+      output,
+      source,
+      "--compact"));
+    Assert.assertFalse(CompilerCacheTest.compile(
+      cache,
+      output,
+      source,
+      "--compact"));
+    Assert.assertTrue(CompilerCacheTest.compile(cache, output, source));
+  }
+
+  @Test public void testMissSourceEdited()
+    throws Exception
+  {
+    final File dir = CompilerCacheTest.newDirectory();
+    final File cache = new File(dir, "cache");
+    final File output = new File(dir, "out.zip");
+    final File source = new File(dir, "M.p");
+    CompilerCacheTest.writeSource(source, "1.0");
+
+    Assert.assertTrue(CompilerCacheTest.compile(cache, output, source));
+    CompilerCacheTest.writeSource(source, "0.5");
+    Assert.assertTrue(CompilerCacheTest.compile(cache, output, source));
+    Assert.assertFalse(CompilerCacheTest.compile(cache, output, source));
+  }
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.tests.frontend;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jparasol.frontend.CopyZip;
+import com.io7m.jparasol.glsl.serialization.GSerializerZipEntry;
+import com.io7m.jparasol.glsl.serialization.GSerializerZipWriter;
+import com.io7m.jparasol.tests.TestUtilities;
+
+@SuppressWarnings({ "null", "static-method" }) public final class CopyZipTest
+{
+  /**
+   * Attempt to append to an archive containing <code>data</code>, and check
+   * that the attempt fails and leaves the archive untouched.
+   */
+
+  private static void checkRejected(
+    final byte[] data)
+    throws Exception
+  {
+    final File file = CopyZipTest.newFile();
+    CopyZipTest.writeFile(file, data);
+
+    try {
+      final GSerializerZipWriter w =
+        CopyZip.appendZip(
+          TestUtilities.getLog(),
+          file,
+          new HashSet<String>());
+      w.close();
+      Assert.fail("Expected the archive to be rejected");
+    } catch (final ZipException e) {
+      // Expected.
+    }
+
+    Assert.assertTrue(Arrays.equals(data, CopyZipTest.readFile(file)));
+    Assert.assertFalse(new File(file.toString() + ".tmp").exists());
+  }
+
+  private static byte[] entryData(
+    final String name,
+    final int size)
+  {
+    final byte[] r = new byte[size];
+    for (int index = 0; index < size; ++index) {
+      r[index] = (byte) (name.hashCode() + (index % 13));
+    }
+    return r;
+  }
+
+  /**
+   * @return An archive containing the given entries, in which even-numbered
+   *         entries are deflated and odd-numbered entries are stored
+   */
+
+  private static byte[] makeArchive(
+    final SortedMap<String, byte[]> entries,
+    final Charset charset)
+    throws IOException
+  {
+    final ByteArrayOutputStream bao = new ByteArrayOutputStream();
+    final ZipOutputStream zos = new ZipOutputStream(bao, charset);
+    int index = 0;
+    for (final String name : entries.keySet()) {
+      final byte[] data = entries.get(name);
+      final ZipEntry e = new ZipEntry(name);
+      if ((index % 2) == 1) {
+        final CRC32 crc = new CRC32();
+        crc.update(data);
+        e.setMethod(ZipEntry.STORED);
+        e.setSize(data.length);
+        e.setCompressedSize(data.length);
+        e.setCrc(crc.getValue());
+      }
+      zos.putNextEntry(e);
+      zos.write(data);
+      zos.closeEntry();
+      ++index;
+    }
+    zos.close();
+    return bao.toByteArray();
+  }
+
+  private static File newFile()
+    throws IOException
+  {
+    final File file = File.createTempFile("jparasol-copyzip", ".zip");
+    file.deleteOnExit();
+    new File(file.toString() + ".tmp").deleteOnExit();
+    return file;
+  }
+
+  private static byte[] readFile(
+    final File file)
+    throws IOException
+  {
+    final InputStream in = new FileInputStream(file);
+    try {
+      return CopyZipTest.readFully(in);
+    } finally {
+      in.close();
+    }
+  }
+
+  private static byte[] readFully(
+    final InputStream s)
+    throws IOException
+  {
+    final ByteArrayOutputStream bao = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[1024];
+    for (;;) {
+      final int r = s.read(buffer);
+      if (r == -1) {
+        break;
+      }
+      bao.write(buffer, 0, r);
+    }
+    return bao.toByteArray();
+  }
+
+  private static void writeFile(
+    final File file,
+    final byte[] data)
+    throws IOException
+  {
+    final OutputStream out = new FileOutputStream(file);
+    try {
+      out.write(data);
+    } finally {
+      out.close();
+    }
+  }
+
+  @Test public void testAppend()
+    throws Exception
+  {
+    final SortedMap<String, byte[]> old_entries =
+      new TreeMap<String, byte[]>();
+    for (int index = 0; index < 10; ++index) {
+      final String name = String.format("old/\u00e9%d", index);
+      old_entries.put(name, CopyZipTest.entryData(name, 1000 * index));
+    }
+
+    final SortedMap<String, byte[]> new_entries =
+      new TreeMap<String, byte[]>();
+    for (int index = 0; index < 10; ++index) {
+      final String name = String.format("new/%d", index);
+      new_entries.put(name, CopyZipTest.entryData(name, 777 * index));
+    }
+
+    final File file = CopyZipTest.newFile();
+    CopyZipTest.writeFile(file, CopyZipTest.makeArchive(
+      old_entries,
+      Charset.forName("UTF-8")));
+
+    final Set<String> names = new HashSet<String>();
+    final GSerializerZipWriter w =
+      CopyZip.appendZip(TestUtilities.getLog(), file, names);
+    Assert.assertEquals(old_entries.keySet(), names);
+    Assert.assertFalse(new File(file.toString() + ".tmp").exists());
+
+    for (final String name : new_entries.keySet()) {
+      w.putEntry(GSerializerZipEntry.newDeflated(
+        name,
+        System.currentTimeMillis(),
+        new_entries.get(name)));
+    }
+    w.close();
+
+    final SortedMap<String, byte[]> expected =
+      new TreeMap<String, byte[]>(old_entries);
+    expected.putAll(new_entries);
+
+    final ZipFile zf = new ZipFile(file);
+    try {
+      Assert.assertEquals(expected.size(), zf.size());
+
+      final Set<String> seen = new HashSet<String>();
+      final Enumeration<? extends ZipEntry> entries = zf.entries();
+      while (entries.hasMoreElements()) {
+        final ZipEntry e = entries.nextElement();
+        final InputStream in = zf.getInputStream(e);
+        final byte[] data;
+        try {
+          data = CopyZipTest.readFully(in);
+        } finally {
+          in.close();
+        }
+
+        final CRC32 crc = new CRC32();
+        crc.update(data);
+        Assert.assertTrue(e.getName(), expected.containsKey(e.getName()));
+        Assert.assertTrue(
+          e.getName(),
+          Arrays.equals(expected.get(e.getName()), data));
+        Assert.assertEquals(e.getName(), crc.getValue(), e.getCrc());
+        seen.add(e.getName());
+      }
+      Assert.assertEquals(expected.keySet(), seen);
+    } finally {
+      zf.close();
+    }
+  }
+
+  @Test public void testAppendCP437Names()
+    throws Exception
+  {
+    final SortedMap<String, byte[]> entries = new TreeMap<String, byte[]>();
+    entries.put("\u00e9\u00fc", new byte[] { 1, 2, 3 });
+    entries.put("plain", new byte[] { 4, 5, 6 });
+
+    final File file = CopyZipTest.newFile();
+    CopyZipTest.writeFile(
+      file,
+      CopyZipTest.makeArchive(entries, Charset.forName("IBM437")));
+
+    final Set<String> names = new HashSet<String>();
+    final GSerializerZipWriter w =
+      CopyZip.appendZip(TestUtilities.getLog(), file, names);
+    w.close();
+
+    Assert.assertEquals(entries.keySet(), names);
+  }
+
+  @Test public void testAppendDuplicate()
+    throws Exception
+  {
+    final SortedMap<String, byte[]> entries = new TreeMap<String, byte[]>();
+    entries.put("a", new byte[] { 1, 2, 3 });
+
+    final File file = CopyZipTest.newFile();
+    CopyZipTest.writeFile(
+      file,
+      CopyZipTest.makeArchive(entries, Charset.forName("UTF-8")));
+
+    final GSerializerZipWriter w =
+      CopyZip.appendZip(TestUtilities.getLog(), file, new HashSet<String>());
+    try {
+      w.putEntry(GSerializerZipEntry.newDeflated("a", 0, new byte[] { 4 }));
+      Assert.fail("Expected a duplicate entry to be rejected");
+    } catch (final ZipException e) {
+      // Expected.
+    } finally {
+      w.close();
+    }
+  }
+
+  @Test public void testRejectTruncated()
+    throws Exception
+  {
+    final SortedMap<String, byte[]> entries = new TreeMap<String, byte[]>();
+    for (int index = 0; index < 4; ++index) {
+      final String name = String.format("e%d", index);
+      entries.put(name, CopyZipTest.entryData(name, 1000));
+    }
+
+    final byte[] data =
+      CopyZipTest.makeArchive(entries, Charset.forName("UTF-8"));
+    final int[] lengths = { 0, 10, data.length / 2, data.length - 1 };
+    for (final int length : lengths) {
+      CopyZipTest.checkRejected(Arrays.copyOf(data, length));
+    }
+
+    /**
+     * Drop a range of bytes from the middle of the archive, so that the end
+     * of central directory record points past the end of the file.
+     */
+
+    final byte[] hole = new byte[data.length - 100];
+    System.arraycopy(data, 0, hole, 0, 100);
+    System.arraycopy(data, 200, hole, 100, data.length - 200);
+    CopyZipTest.checkRejected(hole);
+  }
+
+  @Test public void testRejectZip64()
+    throws Exception
+  {
+    final SortedMap<String, byte[]> entries = new TreeMap<String, byte[]>();
+    entries.put("a", new byte[] { 1, 2, 3 });
+
+    final byte[] data =
+      CopyZipTest.makeArchive(entries, Charset.forName("UTF-8"));
+
+    /**
+     * Mark the entry counts in the end of central directory record as
+     * stored in a zip64 record.
+     */
+
+    final ByteBuffer b = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+    final int end = data.length - 22;
+    Assert.assertEquals(0x06054b50, b.getInt(end));
+    b.putShort(end + 8, (short) 0xffff);
+    b.putShort(end + 10, (short) 0xffff);
+    CopyZipTest.checkRejected(data);
+  }
+}
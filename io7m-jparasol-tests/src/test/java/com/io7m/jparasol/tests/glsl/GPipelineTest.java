@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.tests.glsl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jparasol.core.GVersionES;
+import com.io7m.jparasol.core.GVersionFull;
+import com.io7m.jparasol.glsl.pipeline.GCompilation;
+import com.io7m.jparasol.glsl.pipeline.GCompiledFragmentShader;
+import com.io7m.jparasol.glsl.pipeline.GCompiledProgram;
+import com.io7m.jparasol.glsl.pipeline.GCompiledVertexShader;
+import com.io7m.jparasol.glsl.pipeline.GPipeline;
+import com.io7m.jparasol.glsl.pipeline.GPipelineListenerType;
+import com.io7m.jparasol.tests.TestPipeline;
+import com.io7m.jparasol.typed.ast.TASTShaderNameFlat;
+
+@SuppressWarnings("static-method") public final class GPipelineTest
+{
+  private static final class Recorder implements GPipelineListenerType
+  {
+    private final List<String>                              events;
+    private final Map<TASTShaderNameFlat, GCompiledProgram> programs;
+
+    Recorder()
+    {
+      this.events = new ArrayList<String>();
+      this.programs = new HashMap<TASTShaderNameFlat, GCompiledProgram>();
+    }
+
+    @Override public void onFragmentShader(
+      final GCompiledFragmentShader f)
+    {
+      this.events.add("fragment " + f.getName().show());
+    }
+
+    @Override public void onProgram(
+      final GCompiledProgram p)
+    {
+      this.events.add("program " + p.getName().show());
+      this.programs.put(p.getName(), p);
+    }
+
+    @Override public void onVertexShader(
+      final GCompiledVertexShader v)
+    {
+      this.events.add("vertex " + v.getName().show());
+    }
+  }
+
+  private static void checkStreaming(
+    final int capacity)
+    throws Exception
+  {
+    final GPipeline gpipe =
+      TestPipeline.makeGPipeline(new String[] { "glsl/pipeline/shared.p" });
+
+    final TASTShaderNameFlat p0 = TestPipeline.shaderName("x.y.M", "p0");
+    final TASTShaderNameFlat p1 = TestPipeline.shaderName("x.y.M", "p1");
+    final SortedSet<TASTShaderNameFlat> program_names =
+      new TreeSet<TASTShaderNameFlat>();
+    program_names.add(p0);
+    program_names.add(p1);
+
+    final Recorder r = new Recorder();
+    gpipe.transformProgramsStreaming(
+      program_names,
+      GVersionES.ALL,
+      GVersionFull.ALL,
+      capacity,
+      r);
+
+    final List<String> expected = new ArrayList<String>();
+    expected.add("vertex " + TestPipeline.shaderName("x.y.M", "v").show());
+    expected.add("fragment " + TestPipeline.shaderName("x.y.M", "f0").show());
+    expected.add("program " + p0.show());
+    expected.add("fragment " + TestPipeline.shaderName("x.y.M", "f1").show());
+    expected.add("program " + p1.show());
+    Assert.assertEquals(expected, r.events);
+
+    final GCompilation batch =
+      gpipe
+        .transformPrograms(program_names, GVersionES.ALL, GVersionFull.ALL);
+    for (final TASTShaderNameFlat name : program_names) {
+      final GCompiledProgram expected_p = batch.getShadersProgram().get(name);
+      final GCompiledProgram received_p = r.programs.get(name);
+      Assert.assertEquals(
+        expected_p.getShaderFragment().getName(),
+        received_p.getShaderFragment().getName());
+      Assert.assertEquals(
+        expected_p.getShadersVertex().keySet(),
+        received_p.getShadersVertex().keySet());
+      Assert.assertEquals(
+        expected_p.getVersionsES(),
+        received_p.getVersionsES());
+      Assert.assertEquals(
+        expected_p.getVersionsFull(),
+        received_p.getVersionsFull());
+    }
+  }
+
+  @Test public void testStreamingCapacityLarge()
+    throws Exception
+  {
+    GPipelineTest.checkStreaming(64);
+  }
+
+  @Test public void testStreamingCapacityOne()
+    throws Exception
+  {
+    GPipelineTest.checkStreaming(1);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testStreamingCapacityZero()
+      throws Exception
+  {
+    final GPipeline gpipe =
+      TestPipeline.makeGPipeline(new String[] { "glsl/pipeline/shared.p" });
+    gpipe.transformProgramsStreaming(
+      new TreeSet<TASTShaderNameFlat>(),
+      GVersionES.ALL,
+      GVersionFull.ALL,
+      0,
+      new Recorder());
+  }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.tests.glsl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jlog.LogUsableType;
+import com.io7m.jparasol.core.GVersionES;
+import com.io7m.jparasol.core.GVersionFull;
+import com.io7m.jparasol.core.JPCompactedFragmentShader;
+import com.io7m.jparasol.core.JPUncompactedFragmentShader;
+import com.io7m.jparasol.glsl.compactor.GCompactor;
+import com.io7m.jparasol.glsl.pipeline.GCompilation;
+import com.io7m.jparasol.glsl.pipeline.GCompiledProgram;
+import com.io7m.jparasol.glsl.pipeline.GPipeline;
+import com.io7m.jparasol.glsl.serialization.GSerializerFile;
+import com.io7m.jparasol.glsl.serialization.GSerializerSourceLayout;
+import com.io7m.jparasol.glsl.serialization.GSerializerType;
+import com.io7m.jparasol.glsl.serialization.GSerializerZip;
+import com.io7m.jparasol.metaserializer.xml.JPXMLMetaSerializer;
+import com.io7m.jparasol.tests.TestPipeline;
+import com.io7m.jparasol.tests.TestUtilities;
+import com.io7m.jparasol.typed.ast.TASTShaderNameFlat;
+
+@SuppressWarnings({ "null", "static-method" }) public final class GSerializerSourceLayoutTest
+{
+  /**
+   * Two fragment shaders with different names but identical sources.
+   */
+
+  public static List<JPCompactedFragmentShader> getIdenticalShaders()
+    throws Exception
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final GPipeline gpipe =
+      TestPipeline.makeGPipeline(new String[] { "glsl/serialization/identical.p" });
+
+    final SortedSet<TASTShaderNameFlat> program_names =
+      new TreeSet<TASTShaderNameFlat>();
+    program_names.add(TestPipeline.shaderName("x.y.M", "p0"));
+    program_names.add(TestPipeline.shaderName("x.y.M", "p1"));
+
+    final GCompilation c =
+      gpipe
+        .transformPrograms(program_names, GVersionES.ALL, GVersionFull.ALL);
+
+    final List<JPCompactedFragmentShader> shaders =
+      new ArrayList<JPCompactedFragmentShader>();
+    for (final TASTShaderNameFlat name : program_names) {
+      final GCompiledProgram p = c.getShadersProgram().get(name);
+      shaders.add(GCompactor.compactSerializedFragmentShader(p
+        .getShaderFragment()
+        .flatten(log), log));
+    }
+
+    Assert.assertEquals(2, shaders.size());
+    Assert.assertEquals(
+      shaders.get(0).getSourcesByHash().keySet(),
+      shaders.get(1).getSourcesByHash().keySet());
+    return shaders;
+  }
+
+  /**
+   * The uncompacted forms of the shaders returned by
+   * {@link #getIdenticalShaders()}.
+   */
+
+  public static List<JPUncompactedFragmentShader> getIdenticalUncompactedShaders()
+    throws Exception
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final GPipeline gpipe =
+      TestPipeline.makeGPipeline(new String[] { "glsl/serialization/identical.p" });
+
+    final SortedSet<TASTShaderNameFlat> program_names =
+      new TreeSet<TASTShaderNameFlat>();
+    program_names.add(TestPipeline.shaderName("x.y.M", "p0"));
+    program_names.add(TestPipeline.shaderName("x.y.M", "p1"));
+
+    final GCompilation c =
+      gpipe
+        .transformPrograms(program_names, GVersionES.ALL, GVersionFull.ALL);
+
+    final List<JPUncompactedFragmentShader> shaders =
+      new ArrayList<JPUncompactedFragmentShader>();
+    for (final TASTShaderNameFlat name : program_names) {
+      final GCompiledProgram p = c.getShadersProgram().get(name);
+      shaders.add(p.getShaderFragment().flatten(log));
+    }
+    return shaders;
+  }
+
+  private static Set<String> readZipNames(
+    final byte[] data)
+    throws IOException
+  {
+    final Set<String> names = new HashSet<String>();
+    final ZipInputStream zis =
+      new ZipInputStream(new ByteArrayInputStream(data));
+    try {
+      for (;;) {
+        final ZipEntry e = zis.getNextEntry();
+        if (e == null) {
+          break;
+        }
+        Assert.assertTrue(names.add(e.getName()));
+      }
+    } finally {
+      zis.close();
+    }
+    return names;
+  }
+
+  private static File makeTemporaryDirectory()
+    throws IOException
+  {
+    final File dir = File.createTempFile("jparasol-serializer", "");
+    Assert.assertTrue(dir.delete());
+    Assert.assertTrue(dir.mkdirs());
+    return dir;
+  }
+
+  private static byte[] serializeZip(
+    final List<JPCompactedFragmentShader> shaders,
+    final GSerializerSourceLayout layout,
+    final Set<String> existing)
+    throws IOException
+  {
+    final ByteArrayOutputStream bao = new ByteArrayOutputStream();
+    final ZipOutputStream zos = new ZipOutputStream(bao);
+    final GSerializerType s =
+      GSerializerZip.newSerializerWithLayout(
+        JPXMLMetaSerializer.newSerializer(),
+        zos,
+        layout,
+        existing,
+        TestUtilities.getLog());
+    for (final JPCompactedFragmentShader f : shaders) {
+      s.serializeCompactedFragmentShader(f);
+    }
+    s.close();
+    return bao.toByteArray();
+  }
+
+  @Test public void testFileShared()
+    throws Exception
+  {
+    final List<JPCompactedFragmentShader> shaders =
+      GSerializerSourceLayoutTest.getIdenticalShaders();
+    final File dir = GSerializerSourceLayoutTest.makeTemporaryDirectory();
+
+    final GSerializerType s =
+      GSerializerFile.newSerializerWithLayout(
+        JPXMLMetaSerializer.newSerializer(),
+        dir,
+        false,
+        GSerializerSourceLayout.SOURCES_SHARED);
+    for (final JPCompactedFragmentShader f : shaders) {
+      s.serializeCompactedFragmentShader(f);
+    }
+    s.close();
+
+    final File pool =
+      new File(dir, GSerializerSourceLayout.SHARED_DIRECTORY);
+    final JPCompactedFragmentShader f0 = shaders.get(0);
+    Assert.assertEquals(
+      f0.getSourcesByHash().size(),
+      pool.listFiles().length);
+
+    for (final JPCompactedFragmentShader f : shaders) {
+      final File shader_dir = new File(dir, f.getName());
+      Assert.assertEquals(1, shader_dir.listFiles().length);
+      for (final String hash : f.getMeta().getVersionToHash().values()) {
+        Assert.assertTrue(new File(pool, hash + ".f").isFile());
+      }
+    }
+  }
+
+  @Test public void testZipPerShader()
+    throws Exception
+  {
+    final List<JPCompactedFragmentShader> shaders =
+      GSerializerSourceLayoutTest.getIdenticalShaders();
+    final byte[] data =
+      GSerializerSourceLayoutTest.serializeZip(
+        shaders,
+        GSerializerSourceLayout.SOURCES_PER_SHADER,
+        new HashSet<String>());
+    final Set<String> names = GSerializerSourceLayoutTest.readZipNames(data);
+
+    final int sources = shaders.get(0).getSourcesByHash().size();
+    Assert.assertEquals(2 * (sources + 1), names.size());
+    for (final JPCompactedFragmentShader f : shaders) {
+      for (final String hash : f.getSourcesByHash().keySet()) {
+        Assert.assertTrue(names.contains(f.getName() + "/" + hash + ".f"));
+      }
+    }
+  }
+
+  @Test public void testZipShared()
+    throws Exception
+  {
+    final List<JPCompactedFragmentShader> shaders =
+      GSerializerSourceLayoutTest.getIdenticalShaders();
+    final byte[] data =
+      GSerializerSourceLayoutTest.serializeZip(
+        shaders,
+        GSerializerSourceLayout.SOURCES_SHARED,
+        new HashSet<String>());
+    final Set<String> names = GSerializerSourceLayoutTest.readZipNames(data);
+
+    final int sources = shaders.get(0).getSourcesByHash().size();
+    Assert.assertEquals(sources + 2, names.size());
+    for (final JPCompactedFragmentShader f : shaders) {
+      Assert.assertTrue(names.contains(f.getName() + "/meta.xml"));
+      for (final String hash : f.getMeta().getVersionToHash().values()) {
+        Assert.assertTrue(names.contains(GSerializerSourceLayout.SHARED_DIRECTORY
+          + "/"
+          + hash
+          + ".f"));
+      }
+    }
+  }
+
+  @Test public void testZipSharedExisting()
+    throws Exception
+  {
+    final List<JPCompactedFragmentShader> shaders =
+      GSerializerSourceLayoutTest.getIdenticalShaders();
+
+    final Set<String> existing = new HashSet<String>();
+    for (final String hash : shaders.get(0).getSourcesByHash().keySet()) {
+      existing.add(GSerializerSourceLayout.SHARED_DIRECTORY
+        + "/"
+        + hash
+        + ".f");
+    }
+
+    final byte[] data =
+      GSerializerSourceLayoutTest.serializeZip(
+        shaders,
+        GSerializerSourceLayout.SOURCES_SHARED,
+        existing);
+    final Set<String> names = GSerializerSourceLayoutTest.readZipNames(data);
+    Assert.assertEquals(2, names.size());
+  }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.tests.glsl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jparasol.core.JPCompactedFragmentShader;
+import com.io7m.jparasol.core.JPHashedLines;
+import com.io7m.jparasol.core.JPHashing;
+import com.io7m.jparasol.glsl.serialization.GSerializerSourceLayout;
+import com.io7m.jparasol.glsl.serialization.GSerializerType;
+import com.io7m.jparasol.glsl.serialization.GSerializerZip;
+import com.io7m.jparasol.glsl.serialization.GSerializerZipEntry;
+import com.io7m.jparasol.glsl.serialization.GSerializerZipWriter;
+import com.io7m.jparasol.metaserializer.xml.JPXMLMetaSerializer;
+import com.io7m.jparasol.tests.TestUtilities;
+
+@SuppressWarnings({ "null", "static-method" }) public final class GSerializerZipTest
+{
+  /**
+   * Read every entry of the given archive, in order, as alternating names
+   * and contents. Reading with {@link ZipInputStream} checks the CRC and
+   * sizes of each entry.
+   */
+
+  private static List<String> readEntries(
+    final byte[] data)
+    throws IOException
+  {
+    final List<String> r = new ArrayList<String>();
+    final ZipInputStream zis =
+      new ZipInputStream(new ByteArrayInputStream(data));
+    try {
+      for (;;) {
+        final ZipEntry e = zis.getNextEntry();
+        if (e == null) {
+          break;
+        }
+        r.add(e.getName());
+        r.add(new String(GSerializerZipTest.readFully(zis), "UTF-8"));
+      }
+    } finally {
+      zis.close();
+    }
+    return r;
+  }
+
+  private static Map<String, byte[]> readEntryData(
+    final byte[] data)
+    throws IOException
+  {
+    final Map<String, byte[]> r = new HashMap<String, byte[]>();
+    final ZipInputStream zis =
+      new ZipInputStream(new ByteArrayInputStream(data));
+    try {
+      for (;;) {
+        final ZipEntry e = zis.getNextEntry();
+        if (e == null) {
+          break;
+        }
+        r.put(e.getName(), GSerializerZipTest.readFully(zis));
+      }
+    } finally {
+      zis.close();
+    }
+    return r;
+  }
+
+  private static byte[] readFully(
+    final InputStream s)
+    throws IOException
+  {
+    final ByteArrayOutputStream bao = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[1024];
+    for (;;) {
+      final int r = s.read(buffer);
+      if (r == -1) {
+        break;
+      }
+      bao.write(buffer, 0, r);
+    }
+    return bao.toByteArray();
+  }
+
+  private static void serializeAll(
+    final GSerializerType s,
+    final List<JPCompactedFragmentShader> shaders)
+    throws IOException
+  {
+    for (final JPCompactedFragmentShader f : shaders) {
+      s.serializeCompactedFragmentShader(f);
+    }
+    s.close();
+  }
+
+  private static byte[] serializeParallel(
+    final List<JPCompactedFragmentShader> shaders,
+    final GSerializerSourceLayout layout,
+    final int threads)
+    throws IOException
+  {
+    final ExecutorService exec = Executors.newFixedThreadPool(threads);
+    try {
+      final ByteArrayOutputStream bao = new ByteArrayOutputStream();
+      GSerializerZipTest.serializeAll(GSerializerZip.newParallelSerializer(
+        JPXMLMetaSerializer.newSerializer(),
+        GSerializerZipWriter.newWriter(bao),
+        layout,
+        new HashSet<String>(),
+        exec,
+        TestUtilities.getLog()), shaders);
+      return bao.toByteArray();
+    } finally {
+      exec.shutdown();
+    }
+  }
+
+  private static byte[] serializeStream(
+    final List<JPCompactedFragmentShader> shaders,
+    final GSerializerSourceLayout layout)
+    throws IOException
+  {
+    final ByteArrayOutputStream bao = new ByteArrayOutputStream();
+    GSerializerZipTest.serializeAll(GSerializerZip.newSerializerWithLayout(
+      JPXMLMetaSerializer.newSerializer(),
+      new ZipOutputStream(bao),
+      layout,
+      new HashSet<String>(),
+      TestUtilities.getLog()), shaders);
+    return bao.toByteArray();
+  }
+
+  @Test public void testCompactedSourcesExact()
+    throws Exception
+  {
+    final List<JPCompactedFragmentShader> shaders =
+      GSerializerSourceLayoutTest.getIdenticalShaders();
+
+    for (final GSerializerSourceLayout layout : GSerializerSourceLayout
+      .values()) {
+      final Map<String, byte[]> entries =
+        GSerializerZipTest.readEntryData(GSerializerZipTest.serializeStream(
+          shaders,
+          layout));
+
+      int checked = 0;
+      for (final JPCompactedFragmentShader f : shaders) {
+        final Map<String, JPHashedLines> by_hash = f.getSourcesByHash();
+        for (final String hash : by_hash.keySet()) {
+          final JPHashedLines lines = by_hash.get(hash);
+          final String suffix = "/" + hash + ".f";
+
+          for (final String name : entries.keySet()) {
+            if (name.endsWith(suffix)) {
+              final byte[] data = entries.get(name);
+              final ByteBuffer expected = lines.getText().getBuffer();
+              Assert.assertEquals(expected, ByteBuffer.wrap(data));
+              Assert.assertEquals(hash, JPHashing.hex(JPHashing.hashBytes(
+                lines.getHashAlgorithm(),
+                ByteBuffer.wrap(data))));
+              ++checked;
+            }
+          }
+        }
+      }
+      Assert.assertTrue(checked > 0);
+    }
+  }
+
+  @Test public void testParallelSameAsStream()
+    throws Exception
+  {
+    final List<JPCompactedFragmentShader> shaders =
+      GSerializerSourceLayoutTest.getIdenticalShaders();
+
+    for (final GSerializerSourceLayout layout : GSerializerSourceLayout
+      .values()) {
+      final List<String> expected =
+        GSerializerZipTest.readEntries(GSerializerZipTest.serializeStream(
+          shaders,
+          layout));
+
+      Assert.assertEquals(
+        expected,
+        GSerializerZipTest.readEntries(GSerializerZipTest.serializeParallel(
+          shaders,
+          layout,
+          1)));
+      Assert.assertEquals(
+        expected,
+        GSerializerZipTest.readEntries(GSerializerZipTest.serializeParallel(
+          shaders,
+          layout,
+          4)));
+    }
+  }
+
+  @Test(expected = ZipException.class) public void testWriterDuplicate()
+    throws Exception
+  {
+    final GSerializerZipWriter w =
+      GSerializerZipWriter.newWriter(new ByteArrayOutputStream());
+    final byte[] data = new byte[] { 1, 2, 3 };
+    w.putEntry(GSerializerZipEntry.newDeflated("a", 0, data));
+    w.putEntry(GSerializerZipEntry.newDeflated("a", 0, data));
+  }
+
+  @Test public void testWriterEntries()
+    throws Exception
+  {
+    final byte[] data = new byte[100000];
+    for (int index = 0; index < data.length; ++index) {
+      data[index] = (byte) (index % 7);
+    }
+
+    final GSerializerZipEntry e =
+      GSerializerZipEntry.newDeflated(
+        "dir/\u00e9",
+        System.currentTimeMillis(),
+        data);
+    Assert.assertEquals(data.length, e.getSizeUncompressed());
+    Assert.assertTrue(e.getSizeCompressed() < e.getSizeUncompressed());
+
+    final ByteArrayOutputStream bao = new ByteArrayOutputStream();
+    final GSerializerZipWriter w = GSerializerZipWriter.newWriter(bao);
+    w.putEntry(e);
+    w.putEntry(GSerializerZipEntry.newDeflated("empty", 0, new byte[0]));
+    w.close();
+
+    final ZipInputStream zis =
+      new ZipInputStream(new ByteArrayInputStream(bao.toByteArray()));
+    try {
+      final ZipEntry z0 = zis.getNextEntry();
+      Assert.assertEquals("dir/\u00e9", z0.getName());
+      Assert.assertTrue(Arrays.equals(data, GSerializerZipTest.readFully(zis)));
+      final ZipEntry z1 = zis.getNextEntry();
+      Assert.assertEquals("empty", z1.getName());
+      Assert.assertEquals(0, GSerializerZipTest.readFully(zis).length);
+      Assert.assertNull(zis.getNextEntry());
+    } finally {
+      zis.close();
+    }
+  }
+}
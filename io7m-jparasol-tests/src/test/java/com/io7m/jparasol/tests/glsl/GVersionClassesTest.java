@@ -0,0 +1,207 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.tests.glsl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jlog.LogUsableType;
+import com.io7m.jparasol.core.GVersionES;
+import com.io7m.jparasol.core.GVersionFull;
+import com.io7m.jparasol.core.GVersionType;
+import com.io7m.jparasol.core.JPSourceLines;
+import com.io7m.jparasol.glsl.GTransform;
+import com.io7m.jparasol.glsl.GVersionClasses;
+import com.io7m.jparasol.glsl.GVersionClasses.VersionClass;
+import com.io7m.jparasol.glsl.GWriter;
+import com.io7m.jparasol.glsl.ast.GASTShader.GASTShaderFragment;
+import com.io7m.jparasol.glsl.ast.GASTShader.GASTShaderVertex;
+import com.io7m.jparasol.glsl.pipeline.GCompilation;
+import com.io7m.jparasol.glsl.pipeline.GCompiledFragmentShader;
+import com.io7m.jparasol.glsl.pipeline.GCompiledVertexShader;
+import com.io7m.jparasol.glsl.pipeline.GPipeline;
+import com.io7m.jparasol.tests.TestPipeline;
+import com.io7m.jparasol.tests.TestUtilities;
+import com.io7m.jparasol.typed.Referenced;
+import com.io7m.jparasol.typed.Topology;
+import com.io7m.jparasol.typed.ast.TASTCompilation;
+import com.io7m.jparasol.typed.ast.TASTShaderNameFlat;
+
+@SuppressWarnings("static-method") public final class GVersionClassesTest
+{
+  /**
+   * Check that the sources produced by transforming and writing once per
+   * version class are identical to the sources produced by transforming and
+   * writing each version separately.
+   */
+
+  private static void checkSameAsPerVersion(
+    final String name,
+    final String program)
+    throws Exception
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final String[] names = new String[] { name };
+    final TASTCompilation typed = TestPipeline.makeTypedWithLibrary(names);
+    final GPipeline gpipe = TestPipeline.makeGPipeline(names);
+
+    final SortedSet<TASTShaderNameFlat> program_names =
+      new TreeSet<TASTShaderNameFlat>();
+    program_names.add(TestPipeline.shaderName("x.y.M", program));
+
+    final GCompilation c =
+      gpipe
+        .transformPrograms(program_names, GVersionES.ALL, GVersionFull.ALL);
+
+    for (final GCompiledVertexShader v : c.getShadersVertex().values()) {
+      final TASTShaderNameFlat v_name = v.getName();
+      final Referenced referenced = Referenced.fromShader(typed, v_name, log);
+      final Topology topo =
+        Topology.fromShader(typed, referenced, v_name, log);
+
+      final Map<GVersionType, List<String>> sources =
+        v.flatten(log).getSources();
+      Assert.assertEquals(
+        GVersionES.ALL.size() + GVersionFull.ALL.size(),
+        sources.size());
+
+      for (final GVersionType version : sources.keySet()) {
+        Assert.assertEquals(version, v
+          .getSources()
+          .get(version)
+          .getGLSLVersion());
+
+        final GASTShaderVertex expected =
+          GTransform.transformVertex(typed, topo, v_name, version, log);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GWriter.writeVertexShader(out, expected, true);
+        Assert.assertEquals(
+          JPSourceLines.fromStream(new ByteArrayInputStream(out
+            .toByteArray())),
+          sources.get(version));
+      }
+    }
+
+    for (final GCompiledFragmentShader f : c.getShadersFragment().values()) {
+      final TASTShaderNameFlat f_name = f.getName();
+      final Referenced referenced = Referenced.fromShader(typed, f_name, log);
+      final Topology topo =
+        Topology.fromShader(typed, referenced, f_name, log);
+
+      final Map<GVersionType, List<String>> sources =
+        f.flatten(log).getSources();
+      Assert.assertEquals(
+        GVersionES.ALL.size() + GVersionFull.ALL.size(),
+        sources.size());
+
+      for (final GVersionType version : sources.keySet()) {
+        Assert.assertEquals(version, f
+          .getSources()
+          .get(version)
+          .getGLSLVersion());
+
+        final GASTShaderFragment expected =
+          GTransform.transformFragment(typed, topo, f_name, version, log);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GWriter.writeFragmentShader(out, expected, true);
+        Assert.assertEquals(
+          JPSourceLines.fromStream(new ByteArrayInputStream(out
+            .toByteArray())),
+          sources.get(version));
+      }
+    }
+  }
+
+  @Test public void testClassesFragment()
+  {
+    final Set<VersionClass> classes = new HashSet<VersionClass>();
+    for (final GVersionES v : GVersionES.ALL) {
+      classes.add(GVersionClasses.fragmentClass(v));
+    }
+    for (final GVersionFull v : GVersionFull.ALL) {
+      classes.add(GVersionClasses.fragmentClass(v));
+    }
+    Assert.assertEquals(5, classes.size());
+
+    Assert.assertEquals(
+      GVersionClasses.fragmentClass(GVersionFull.GLSL_110),
+      GVersionClasses.fragmentClass(GVersionFull.GLSL_120));
+    Assert.assertEquals(
+      GVersionClasses.fragmentClass(GVersionFull.GLSL_130),
+      GVersionClasses.fragmentClass(GVersionFull.GLSL_150));
+    Assert.assertNotEquals(
+      GVersionClasses.fragmentClass(GVersionFull.GLSL_150),
+      GVersionClasses.fragmentClass(GVersionFull.GLSL_330));
+    Assert.assertEquals(
+      GVersionClasses.fragmentClass(GVersionFull.GLSL_330),
+      GVersionClasses.fragmentClass(GVersionFull.GLSL_440));
+  }
+
+  @Test public void testClassesVertex()
+  {
+    final Set<VersionClass> classes = new HashSet<VersionClass>();
+    for (final GVersionES v : GVersionES.ALL) {
+      classes.add(GVersionClasses.vertexClass(v));
+    }
+    for (final GVersionFull v : GVersionFull.ALL) {
+      classes.add(GVersionClasses.vertexClass(v));
+    }
+    Assert.assertEquals(4, classes.size());
+
+    Assert.assertNotEquals(
+      GVersionClasses.vertexClass(GVersionES.GLSL_ES_100),
+      GVersionClasses.vertexClass(GVersionES.GLSL_ES_300));
+    Assert.assertNotEquals(
+      GVersionClasses.vertexClass(GVersionFull.GLSL_120),
+      GVersionClasses.vertexClass(GVersionFull.GLSL_130));
+    Assert.assertEquals(
+      GVersionClasses.vertexClass(GVersionFull.GLSL_130),
+      GVersionClasses.vertexClass(GVersionFull.GLSL_440));
+  }
+
+  @Test public void testSameAsPerVersionEverything()
+    throws Exception
+  {
+    GVersionClassesTest.checkSameAsPerVersion(
+      "glsl/writer/everything_opt.p",
+      "everything_opt");
+  }
+
+  @Test public void testSameAsPerVersionFloat()
+    throws Exception
+  {
+    GVersionClassesTest.checkSameAsPerVersion("glsl/ffi/float-lib.p", "p");
+  }
+
+  @Test public void testSameAsPerVersionSampler()
+    throws Exception
+  {
+    GVersionClassesTest.checkSameAsPerVersion(
+      "glsl/ffi/sampler-lib-for-all.p",
+      "p");
+  }
+}
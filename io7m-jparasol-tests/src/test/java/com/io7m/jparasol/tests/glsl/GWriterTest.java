@@ -19,6 +19,7 @@ package com.io7m.jparasol.tests.glsl;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.Assert;
@@ -27,6 +28,7 @@ import org.junit.Test;
 import com.io7m.jparasol.CompilerError;
 import com.io7m.jparasol.core.GVersionES;
 import com.io7m.jparasol.core.GVersionFull;
+import com.io7m.jparasol.core.JPSourceLines;
 import com.io7m.jparasol.glsl.GWriter;
 import com.io7m.jparasol.glsl.ast.GASTShader.GASTShaderFragment;
 import com.io7m.jparasol.glsl.ast.GASTShader.GASTShaderVertex;
@@ -136,4 +138,46 @@ import com.io7m.jparasol.typed.ast.TASTShaderNameFlat;
     Assert.assertEquals(v_expected, vertex_text);
     Assert.assertEquals(f_expected, fragment_text);
   }
+
+  @Test public void testOutputLines_0()
+    throws IOException,
+      CompilerError
+  {
+    final GPipeline gpipe =
+      TestPipeline
+        .makeGPipeline(new String[] { "glsl/writer/everything_opt.p" });
+
+    final Set<TASTShaderNameFlat> program_names =
+      new HashSet<TASTShaderNameFlat>();
+    final TASTShaderNameFlat program_name =
+      TestPipeline.shaderName("x.y.M", "everything_opt");
+    program_names.add(program_name);
+    final GCompilation comp =
+      gpipe
+        .transformPrograms(program_names, GVersionES.ALL, GVersionFull.ALL);
+    final GCompiledProgram p = comp.getShadersProgram().get(program_name);
+
+    final GCompiledVertexShader vertex_shader =
+      p.getShadersVertex().values().iterator().next();
+    final GCompiledFragmentShader fragment_shader = p.getShaderFragment();
+
+    final GASTShaderVertex vs_110 =
+      vertex_shader.getSources().get(GVersionFull.GLSL_110);
+    final GASTShaderFragment fs_110 =
+      fragment_shader.getSources().get(GVersionFull.GLSL_110);
+
+    final List<String> v_expected =
+      JPSourceLines.fromStream(TestPipeline
+        .getFileStream("glsl/writer/everything_opt.v_exp"));
+    final List<String> f_expected =
+      JPSourceLines.fromStream(TestPipeline
+        .getFileStream("glsl/writer/everything_opt.f_exp"));
+
+    Assert.assertEquals(
+      v_expected,
+      GWriter.writeVertexShaderLines(vs_110, true));
+    Assert.assertEquals(
+      f_expected,
+      GWriter.writeFragmentShaderLines(fs_110, true));
+  }
 }
@@ -0,0 +1,312 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.tests.packed;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jfunctional.OptionType;
+import com.io7m.jfunctional.Some;
+import com.io7m.jparasol.core.GVersionType;
+import com.io7m.jparasol.core.JPCompactedFragmentShader;
+import com.io7m.jparasol.core.JPCompiledShaderMetaType;
+import com.io7m.jparasol.core.JPHashedLines;
+import com.io7m.jparasol.core.JPSourceText;
+import com.io7m.jparasol.core.JPUncompactedFragmentShader;
+import com.io7m.jparasol.metaserializer.JPMetaDeserializerType;
+import com.io7m.jparasol.metaserializer.JPSerializerException;
+import com.io7m.jparasol.metaserializer.xml.JPXMLMetaDeserializer;
+import com.io7m.jparasol.metaserializer.xml.JPXMLMetaSerializer;
+import com.io7m.jparasol.packed.JPPackedCompression;
+import com.io7m.jparasol.packed.JPPackedReader;
+import com.io7m.jparasol.packed.JPPackedWriter;
+import com.io7m.jparasol.tests.TestUtilities;
+import com.io7m.jparasol.tests.glsl.GSerializerSourceLayoutTest;
+
+@SuppressWarnings({ "null", "static-method" }) public final class JPPackedTest
+{
+  private static void checkCompacted(
+    final JPPackedCompression compression)
+    throws Exception
+  {
+    final List<JPCompactedFragmentShader> shaders =
+      GSerializerSourceLayoutTest.getIdenticalShaders();
+
+    final JPPackedWriter w =
+      JPPackedWriter.newWriter(
+        JPXMLMetaSerializer.newSerializer(),
+        compression);
+    for (final JPCompactedFragmentShader f : shaders) {
+      w.putCompactedFragmentShader(f);
+    }
+
+    final JPPackedReader r =
+      JPPackedReader.newReader(
+        JPPackedTest.write(w),
+        JPPackedTest.getDeserializer());
+    Assert.assertEquals(shaders.size(), r.getShaderCount());
+
+    for (final JPCompactedFragmentShader f : shaders) {
+      Assert.assertTrue(r.hasShader(f.getName()));
+      final JPCompiledShaderMetaType meta =
+        JPPackedTest.getMeta(r, f.getName());
+      Assert.assertEquals(f.getMeta(), meta);
+
+      final Map<GVersionType, String> hashes =
+        f.getMeta().getVersionToHash();
+      for (final GVersionType v : hashes.keySet()) {
+        final JPHashedLines lines =
+          f.getSourcesByHash().get(hashes.get(v));
+        JPPackedTest.checkSource(r, meta, v, lines.getText());
+      }
+    }
+  }
+
+  private static void checkSource(
+    final JPPackedReader r,
+    final JPCompiledShaderMetaType meta,
+    final GVersionType v,
+    final JPSourceText text)
+    throws JPSerializerException
+  {
+    final OptionType<ByteBuffer> b_opt = r.lookupSource(meta, v);
+    Assert.assertTrue(b_opt.isSome());
+    final ByteBuffer b = ((Some<ByteBuffer>) b_opt).get();
+    Assert.assertEquals(text.getBuffer(), b);
+  }
+
+  private static void checkUncompacted(
+    final JPPackedCompression compression)
+    throws Exception
+  {
+    final List<JPUncompactedFragmentShader> shaders =
+      GSerializerSourceLayoutTest.getIdenticalUncompactedShaders();
+
+    final JPPackedWriter w =
+      JPPackedWriter.newWriter(
+        JPXMLMetaSerializer.newSerializer(),
+        compression);
+    for (final JPUncompactedFragmentShader f : shaders) {
+      w.putUncompactedFragmentShader(f);
+    }
+
+    final JPPackedReader r =
+      JPPackedReader.newReader(
+        JPPackedTest.write(w),
+        JPPackedTest.getDeserializer());
+    Assert.assertEquals(shaders.size(), r.getShaderCount());
+
+    for (final JPUncompactedFragmentShader f : shaders) {
+      final JPCompiledShaderMetaType meta =
+        JPPackedTest.getMeta(r, f.getName());
+      Assert.assertEquals(f.getMeta(), meta);
+
+      final Map<GVersionType, JPSourceText> texts = f.getSourceTexts();
+      for (final GVersionType v : texts.keySet()) {
+        JPPackedTest.checkSource(r, meta, v, texts.get(v));
+      }
+    }
+  }
+
+  private static JPMetaDeserializerType getDeserializer()
+  {
+    return JPXMLMetaDeserializer.newDeserializer(TestUtilities.getLog());
+  }
+
+  private static JPCompiledShaderMetaType getMeta(
+    final JPPackedReader r,
+    final String name)
+    throws Exception
+  {
+    final OptionType<JPCompiledShaderMetaType> m_opt = r.lookupMeta(name);
+    Assert.assertTrue(m_opt.isSome());
+    return ((Some<JPCompiledShaderMetaType>) m_opt).get();
+  }
+
+  private static ByteBuffer write(
+    final JPPackedWriter w)
+    throws IOException
+  {
+    final ByteArrayOutputStream bao = new ByteArrayOutputStream();
+    w.write(bao);
+    return ByteBuffer.wrap(bao.toByteArray());
+  }
+
+  @Test public void testCompactedLZ4()
+    throws Exception
+  {
+    JPPackedTest.checkCompacted(JPPackedCompression.COMPRESSION_LZ4);
+  }
+
+  @Test public void testCompactedNone()
+    throws Exception
+  {
+    JPPackedTest.checkCompacted(JPPackedCompression.COMPRESSION_NONE);
+  }
+
+  @Test(expected = IOException.class) public void testDuplicateShader()
+    throws Exception
+  {
+    final List<JPCompactedFragmentShader> shaders =
+      GSerializerSourceLayoutTest.getIdenticalShaders();
+    final JPPackedWriter w =
+      JPPackedWriter.newWriter(
+        JPXMLMetaSerializer.newSerializer(),
+        JPPackedCompression.COMPRESSION_NONE);
+    w.putCompactedFragmentShader(shaders.get(0));
+    w.putCompactedFragmentShader(shaders.get(0));
+  }
+
+  @Test(expected = JPSerializerException.class) public void testBadMagic()
+    throws Exception
+  {
+    final JPPackedWriter w =
+      JPPackedWriter.newWriter(
+        JPXMLMetaSerializer.newSerializer(),
+        JPPackedCompression.COMPRESSION_NONE);
+    final ByteBuffer b = JPPackedTest.write(w);
+    b.put(0, (byte) 0);
+    JPPackedReader.newReader(b, JPPackedTest.getDeserializer());
+  }
+
+  @Test(expected = JPSerializerException.class) public void testTruncated()
+    throws Exception
+  {
+    final JPPackedWriter w =
+      JPPackedWriter.newWriter(
+        JPXMLMetaSerializer.newSerializer(),
+        JPPackedCompression.COMPRESSION_NONE);
+    w.putCompactedFragmentShader(GSerializerSourceLayoutTest
+      .getIdenticalShaders()
+      .get(0));
+    final ByteBuffer b = JPPackedTest.write(w);
+    b.limit(40);
+    JPPackedReader.newReader(b, JPPackedTest.getDeserializer());
+  }
+
+  @Test(expected = JPSerializerException.class) public
+    void
+    testCompressedSizeTooLarge()
+      throws Exception
+  {
+    final JPCompactedFragmentShader f =
+      GSerializerSourceLayoutTest.getIdenticalShaders().get(0);
+    final JPPackedWriter w =
+      JPPackedWriter.newWriter(
+        JPXMLMetaSerializer.newSerializer(),
+        JPPackedCompression.COMPRESSION_LZ4);
+    w.putCompactedFragmentShader(f);
+    final ByteBuffer b = JPPackedTest.write(w);
+
+    /**
+     * Claim an enormous uncompressed size for every compressed source.
+     */
+
+    final int count = b.getInt(16);
+    final int index = b.getInt(20);
+    int modified = 0;
+    for (int i = 0; i < count; ++i) {
+      final int record = index + (i * 24);
+      if (b.getInt(record + 20) == 1) {
+        b.putInt(record + 16, Integer.MAX_VALUE - 8);
+        ++modified;
+      }
+    }
+    Assert.assertTrue(modified > 0);
+
+    final JPPackedReader r =
+      JPPackedReader.newReader(b, JPPackedTest.getDeserializer());
+    final JPCompiledShaderMetaType meta = JPPackedTest.getMeta(r, f.getName());
+    for (final GVersionType v : f.getMeta().getVersionToHash().keySet()) {
+      r.lookupSource(meta, v);
+    }
+  }
+
+  @Test public void testFileMapped()
+    throws Exception
+  {
+    final List<JPCompactedFragmentShader> shaders =
+      GSerializerSourceLayoutTest.getIdenticalShaders();
+    final JPPackedWriter w =
+      JPPackedWriter.newWriter(
+        JPXMLMetaSerializer.newSerializer(),
+        JPPackedCompression.COMPRESSION_NONE);
+    for (final JPCompactedFragmentShader f : shaders) {
+      w.putCompactedFragmentShader(f);
+    }
+
+    final File file = File.createTempFile("jparasol-packed", ".jpp");
+    file.deleteOnExit();
+    final FileOutputStream out = new FileOutputStream(file);
+    try {
+      w.write(out);
+    } finally {
+      out.close();
+    }
+
+    final JPPackedReader r =
+      JPPackedReader.newReaderFromFile(file, JPPackedTest.getDeserializer());
+    final List<String> names = r.getShaderNames();
+    Assert.assertEquals(2, names.size());
+    for (final JPCompactedFragmentShader f : shaders) {
+      Assert.assertTrue(names.contains(f.getName()));
+      Assert.assertEquals(f.getMeta(), JPPackedTest.getMeta(r, f.getName()));
+    }
+  }
+
+  @Test public void testMissing()
+    throws Exception
+  {
+    final JPPackedWriter w =
+      JPPackedWriter.newWriter(
+        JPXMLMetaSerializer.newSerializer(),
+        JPPackedCompression.COMPRESSION_NONE);
+    w.putCompactedFragmentShader(GSerializerSourceLayoutTest
+      .getIdenticalShaders()
+      .get(0));
+
+    final JPPackedReader r =
+      JPPackedReader.newReader(
+        JPPackedTest.write(w),
+        JPPackedTest.getDeserializer());
+    Assert.assertFalse(r.hasShader("x.y.nonexistent"));
+    Assert.assertTrue(r.lookupMeta("x.y.nonexistent").isNone());
+    Assert.assertTrue(r.lookupMeta("").isNone());
+    Assert.assertTrue(r.lookupMeta("\uffff").isNone());
+  }
+
+  @Test public void testUncompactedLZ4()
+    throws Exception
+  {
+    JPPackedTest.checkUncompacted(JPPackedCompression.COMPRESSION_LZ4);
+  }
+
+  @Test public void testUncompactedNone()
+    throws Exception
+  {
+    JPPackedTest.checkUncompacted(JPPackedCompression.COMPRESSION_NONE);
+  }
+}
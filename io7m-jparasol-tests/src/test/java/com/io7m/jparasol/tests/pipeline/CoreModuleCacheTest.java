@@ -0,0 +1,281 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.tests.pipeline;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jlog.LogUsableType;
+import com.io7m.jparasol.ModulePathFlat;
+import com.io7m.jparasol.pipeline.CoreModuleCache;
+import com.io7m.jparasol.pipeline.CorePipeline;
+import com.io7m.jparasol.pipeline.FileInput;
+import com.io7m.jparasol.tests.TestPipeline;
+import com.io7m.jparasol.tests.TestUtilities;
+import com.io7m.jparasol.typed.TypeCheckerError;
+import com.io7m.jparasol.typed.ast.TASTCompilation;
+
+@SuppressWarnings({ "null", "static-method" }) public final class CoreModuleCacheTest
+{
+  private static final String[] DIAMOND = { "a", "b", "c", "d", };
+
+  /**
+   * Compile the diamond modules in <code>sources</code> using the cache in
+   * <code>cache</code>. The modification times of all cached modules are
+   * reset beforehand so that a module that is read from the cache, which
+   * does not touch its file, can be distinguished from a module that is
+   * checked again and stored.
+   */
+
+  @SuppressWarnings("resource") private static TASTCompilation compile(
+    final CorePipeline pipe,
+    final File cache,
+    final File sources)
+    throws Exception
+  {
+    pipe.pipeSetModuleCache(CoreModuleCache.newCache(
+      cache,
+      "test",
+      TestUtilities.getLog()));
+    for (final File f : cache.listFiles()) {
+      Assert.assertTrue(f.setLastModified(0));
+    }
+
+    pipe.pipeAddStandardLibrary();
+    for (final String name : CoreModuleCacheTest.DIAMOND) {
+      final File file = new File(sources, name + ".p");
+      pipe.pipeAddInput(new FileInput(false, file, new FileInputStream(file)));
+    }
+
+    try {
+      return pipe.pipeCompile();
+    } finally {
+      pipe.pipeClose();
+    }
+  }
+
+  private static int countStored(
+    final File cache)
+  {
+    int count = 0;
+    for (final File f : cache.listFiles()) {
+      if (f.lastModified() != 0) {
+        count = count + 1;
+      }
+    }
+    return count;
+  }
+
+  private static File newDirectory()
+    throws IOException
+  {
+    final File dir = File.createTempFile("jparasol-module-cache", "");
+    Assert.assertTrue(dir.delete());
+    Assert.assertTrue(dir.mkdirs());
+    return dir;
+  }
+
+  private static File newSources()
+    throws IOException
+  {
+    final File dir = CoreModuleCacheTest.newDirectory();
+    for (final String name : CoreModuleCacheTest.DIAMOND) {
+      CoreModuleCacheTest.writeSource(
+        new File(dir, name + ".p"),
+        TestPipeline.getFileText("pipeline/diamond-" + name + ".p"));
+    }
+    return dir;
+  }
+
+  private static void writeSource(
+    final File file,
+    final String text)
+    throws IOException
+  {
+    final OutputStream out = new FileOutputStream(file);
+    try {
+      out.write(text.getBytes("UTF-8"));
+    } finally {
+      out.close();
+    }
+  }
+
+  @Test public void testDamagedModule()
+    throws Exception
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final File cache = CoreModuleCacheTest.newDirectory();
+    final File sources = CoreModuleCacheTest.newSources();
+
+    CoreModuleCacheTest.compile(CorePipeline.newPipeline(log), cache, sources);
+    Assert.assertEquals(4, cache.listFiles().length);
+
+    for (final File f : cache.listFiles()) {
+      CoreModuleCacheTest.writeSource(f, "garbage");
+    }
+
+    final TASTCompilation typed =
+      CoreModuleCacheTest.compile(
+        CorePipeline.newPipeline(log),
+        cache,
+        sources);
+    Assert.assertTrue(typed.getModules().containsKey(
+      new ModulePathFlat("x.y.D")));
+    Assert.assertEquals(4, cache.listFiles().length);
+    Assert.assertEquals(4, CoreModuleCacheTest.countStored(cache));
+  }
+
+  @Test public void testHit()
+    throws Exception
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final File cache = CoreModuleCacheTest.newDirectory();
+    final File sources = CoreModuleCacheTest.newSources();
+
+    final TASTCompilation first =
+      CoreModuleCacheTest.compile(
+        CorePipeline.newPipeline(log),
+        cache,
+        sources);
+    Assert.assertEquals(4, cache.listFiles().length);
+
+    final TASTCompilation second =
+      CoreModuleCacheTest.compile(
+        CorePipeline.newPipeline(log),
+        cache,
+        sources);
+    Assert.assertEquals(4, cache.listFiles().length);
+    Assert.assertEquals(0, CoreModuleCacheTest.countStored(cache));
+
+    Assert.assertEquals(
+      first.getModules().keySet(),
+      second.getModules().keySet());
+    Assert.assertEquals(
+      new HashSet<ModulePathFlat>(first.getModuleTopology()),
+      new HashSet<ModulePathFlat>(second.getModuleTopology()));
+
+    final List<ModulePathFlat> topology = second.getModuleTopology();
+    final int a = topology.indexOf(new ModulePathFlat("x.y.A"));
+    final int b = topology.indexOf(new ModulePathFlat("x.y.B"));
+    final int c = topology.indexOf(new ModulePathFlat("x.y.C"));
+    final int d = topology.indexOf(new ModulePathFlat("x.y.D"));
+    Assert.assertTrue(d < b);
+    Assert.assertTrue(d < c);
+    Assert.assertTrue(b < a);
+    Assert.assertTrue(c < a);
+    Assert.assertEquals(
+      first.getTermGraph().vertexSet(),
+      second.getTermGraph().vertexSet());
+    Assert.assertEquals(
+      first.getTermGraph().edgeSet().size(),
+      second.getTermGraph().edgeSet().size());
+  }
+
+  @Test public void testHitParallel()
+    throws Exception
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final File cache = CoreModuleCacheTest.newDirectory();
+    final File sources = CoreModuleCacheTest.newSources();
+    final ExecutorService exec = Executors.newFixedThreadPool(4);
+
+    try {
+      CoreModuleCacheTest.compile(
+        CorePipeline.newPipelineWithExecutor(log, exec),
+        cache,
+        sources);
+      Assert.assertEquals(4, cache.listFiles().length);
+
+      final TASTCompilation typed =
+        CoreModuleCacheTest.compile(
+          CorePipeline.newPipelineWithExecutor(log, exec),
+          cache,
+          sources);
+      Assert.assertEquals(0, CoreModuleCacheTest.countStored(cache));
+      Assert.assertTrue(typed.getModules().containsKey(
+        new ModulePathFlat("x.y.D")));
+    } finally {
+      exec.shutdown();
+    }
+  }
+
+  /**
+   * Editing a module invalidates that module, and every module that imports
+   * it directly or indirectly, and nothing else.
+   */
+
+  @Test public void testMissImported()
+    throws Exception
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final File cache = CoreModuleCacheTest.newDirectory();
+    final File sources = CoreModuleCacheTest.newSources();
+
+    CoreModuleCacheTest.compile(CorePipeline.newPipeline(log), cache, sources);
+    Assert.assertEquals(4, cache.listFiles().length);
+
+    CoreModuleCacheTest.writeSource(
+      new File(sources, "b.p"),
+      TestPipeline.getFileText("pipeline/diamond-b.p") + "\n");
+    CoreModuleCacheTest.compile(CorePipeline.newPipeline(log), cache, sources);
+    Assert.assertEquals(6, cache.listFiles().length);
+    Assert.assertEquals(2, CoreModuleCacheTest.countStored(cache));
+
+    CoreModuleCacheTest.writeSource(
+      new File(sources, "a.p"),
+      TestPipeline.getFileText("pipeline/diamond-a.p") + "\n");
+    CoreModuleCacheTest.compile(CorePipeline.newPipeline(log), cache, sources);
+    Assert.assertEquals(10, cache.listFiles().length);
+    Assert.assertEquals(4, CoreModuleCacheTest.countStored(cache));
+  }
+
+  /**
+   * A module that is now wrong is checked again, even though the modules
+   * that it imports are read from the cache.
+   */
+
+  @Test(expected = TypeCheckerError.class) public void testMissTypeError()
+    throws Exception
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final File cache = CoreModuleCacheTest.newDirectory();
+    final File sources = CoreModuleCacheTest.newSources();
+
+    CoreModuleCacheTest.compile(CorePipeline.newPipeline(log), cache, sources);
+
+    final StringBuilder s = new StringBuilder();
+    s.append("package x.y;\n");
+    s.append("module D is\n");
+    s.append("  import x.y.B;\n");
+    s.append("  import x.y.C;\n");
+    s.append("  value x : boolean = B.x;\n");
+    s.append("end;\n");
+    CoreModuleCacheTest.writeSource(new File(sources, "d.p"), s.toString());
+    CoreModuleCacheTest.compile(CorePipeline.newPipeline(log), cache, sources);
+  }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jparasol.tests.pipeline;
+
+import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jlog.LogUsableType;
+import com.io7m.jparasol.ModulePathFlat;
+import com.io7m.jparasol.parser.ParserError;
+import com.io7m.jparasol.pipeline.CorePipeline;
+import com.io7m.jparasol.pipeline.CoreStandardLibrary;
+import com.io7m.jparasol.tests.TestPipeline;
+import com.io7m.jparasol.tests.TestUtilities;
+import com.io7m.jparasol.typed.TypeCheckerError;
+import com.io7m.jparasol.typed.ast.TASTCompilation;
+import com.io7m.jparasol.untyped.ResolverError;
+import com.io7m.jparasol.untyped.UnitCombinerError;
+
+@SuppressWarnings("static-method") public final class CorePipelineTest
+{
+  private static final String[] DIAMOND = {
+    "pipeline/diamond-d.p",
+    "pipeline/diamond-b.p",
+    "pipeline/diamond-a.p",
+    "pipeline/diamond-c.p", };
+
+  private static TASTCompilation compile(
+    final CorePipeline pipe,
+    final String[] names)
+    throws Exception
+  {
+    pipe.pipeAddStandardLibrary();
+    for (final String name : names) {
+      pipe.pipeAddInput(TestPipeline.getInput(false, name));
+    }
+    try {
+      return pipe.pipeCompile();
+    } finally {
+      pipe.pipeClose();
+    }
+  }
+
+  @Test public void testParallelResolverErrorSameAsSequential()
+    throws Exception
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final ExecutorService exec = Executors.newFixedThreadPool(4);
+    final String[] names =
+      {
+        "pipeline/diamond-a.p",
+        "untyped/resolver/value-type-nonexistent-1.p",
+        "pipeline/diamond-b.p", };
+
+    try {
+      ResolverError seq = null;
+      try {
+        CorePipelineTest.compile(CorePipeline.newPipeline(log), names);
+      } catch (final ResolverError e) {
+        seq = e;
+      }
+
+      ResolverError par = null;
+      try {
+        CorePipelineTest.compile(
+          CorePipeline.newPipelineWithExecutor(log, exec),
+          names);
+      } catch (final ResolverError e) {
+        par = e;
+      }
+
+      Assert.assertNotNull(seq);
+      Assert.assertNotNull(par);
+      Assert.assertEquals(seq.getCode(), par.getCode());
+      Assert.assertEquals(seq.getMessage(), par.getMessage());
+    } finally {
+      exec.shutdown();
+    }
+  }
+
+  @Test public void testParallelTypeErrorSameAsSequential()
+    throws Exception
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final ExecutorService exec = Executors.newFixedThreadPool(4);
+    final String[] names =
+      {
+        "pipeline/type-error-0.p",
+        "pipeline/diamond-a.p",
+        "pipeline/diamond-b.p",
+        "pipeline/type-error-1.p",
+        "pipeline/diamond-c.p",
+        "pipeline/diamond-d.p", };
+
+    try {
+      TypeCheckerError seq = null;
+      try {
+        CorePipelineTest.compile(CorePipeline.newPipeline(log), names);
+      } catch (final TypeCheckerError e) {
+        seq = e;
+      }
+
+      TypeCheckerError par = null;
+      try {
+        CorePipelineTest.compile(
+          CorePipeline.newPipelineWithExecutor(log, exec),
+          names);
+      } catch (final TypeCheckerError e) {
+        par = e;
+      }
+
+      Assert.assertNotNull(seq);
+      Assert.assertNotNull(par);
+      Assert.assertEquals(seq.getCode(), par.getCode());
+      Assert.assertEquals(seq.getMessage(), par.getMessage());
+    } finally {
+      exec.shutdown();
+    }
+  }
+
+  @Test public void testParallelSameAsSequential()
+    throws Exception
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final ExecutorService exec = Executors.newFixedThreadPool(4);
+
+    try {
+      final TASTCompilation seq =
+        CorePipelineTest.compile(
+          CorePipeline.newPipeline(log),
+          CorePipelineTest.DIAMOND);
+      final TASTCompilation par =
+        CorePipelineTest.compile(
+          CorePipeline.newPipelineWithExecutor(log, exec),
+          CorePipelineTest.DIAMOND);
+
+      Assert.assertEquals(seq.getModuleTopology(), par.getModuleTopology());
+      Assert.assertEquals(seq.getModules().keySet(), par.getModules().keySet());
+      Assert.assertTrue(par.getModules().containsKey(
+        new ModulePathFlat("x.y.D")));
+    } finally {
+      exec.shutdown();
+    }
+  }
+
+  /**
+   * The standard library units are placed where
+   * {@link CorePipeline#pipeAddStandardLibrary()} is called, relative to the
+   * other inputs: the duplicate module reported is whichever comes later.
+   */
+
+  @Test public void testStandardLibraryOrder()
+    throws Exception
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final File user = new File("pipeline/stdlib-duplicate.p");
+
+    {
+      final CorePipeline pipe = CorePipeline.newPipeline(log);
+      pipe.pipeAddStandardLibrary();
+      pipe.pipeAddInput(TestPipeline.getInput(false, user.toString()));
+      try {
+        pipe.pipeCompile();
+        Assert.fail("Expected a duplicate module");
+      } catch (final UnitCombinerError e) {
+        Assert.assertEquals(user, e.getFile());
+      } finally {
+        pipe.pipeClose();
+      }
+    }
+
+    {
+      final CorePipeline pipe = CorePipeline.newPipeline(log);
+      pipe.pipeAddInput(TestPipeline.getInput(false, user.toString()));
+      pipe.pipeAddStandardLibrary();
+      try {
+        pipe.pipeCompile();
+        Assert.fail("Expected a duplicate module");
+      } catch (final UnitCombinerError e) {
+        Assert.assertEquals(new File("/com/io7m/jparasol/Float.p"), e.getFile());
+      } finally {
+        pipe.pipeClose();
+      }
+    }
+  }
+
+  /**
+   * The checked standard library modules, and their graph fragments, are
+   * merged into the compilation instead of being checked again.
+   */
+
+  @Test public void testStandardLibraryReused()
+    throws Exception
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final CoreStandardLibrary stdlib = CoreStandardLibrary.get(log);
+    final TASTCompilation typed =
+      CorePipelineTest.compile(
+        CorePipeline.newPipeline(log),
+        CorePipelineTest.DIAMOND);
+
+    Assert.assertFalse(stdlib.getTypedModules().isEmpty());
+    for (final ModulePathFlat path : stdlib.getTypedModules().keySet()) {
+      Assert.assertSame(
+        stdlib.getTypedModules().get(path),
+        typed.getModules().get(path));
+      Assert.assertSame(
+        stdlib.getGraphFragments().get(path),
+        typed.getGraphFragments().get(path));
+    }
+
+    Assert.assertTrue(typed.getModules().containsKey(
+      new ModulePathFlat("x.y.D")));
+    Assert.assertTrue(typed.getModuleTopology().contains(
+      new ModulePathFlat("com.io7m.parasol.Float")));
+  }
+
+  @Test(expected = ParserError.class) public void testParallelParseError()
+    throws Exception
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final ExecutorService exec = Executors.newFixedThreadPool(4);
+
+    try {
+      CorePipelineTest.compile(
+        CorePipeline.newPipelineWithExecutor(log, exec),
+        new String[] {
+          "pipeline/diamond-a.p",
+          "pipeline/parse-error-0.p",
+          "pipeline/diamond-b.p", });
+    } finally {
+      exec.shutdown();
+    }
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.tests.pipeline;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jlog.LogUsableType;
+import com.io7m.jparasol.ModulePath;
+import com.io7m.jparasol.ModulePathFlat;
+import com.io7m.jparasol.pipeline.CoreStandardLibrary;
+import com.io7m.jparasol.tests.TestUtilities;
+
+@SuppressWarnings("static-method") public final class CoreStandardLibraryTest
+{
+  private static byte[] bytes(
+    final CoreStandardLibrary library)
+    throws IOException
+  {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    library.write(out);
+    return out.toByteArray();
+  }
+
+  private static List<ModulePathFlat> flatPaths(
+    final CoreStandardLibrary library)
+  {
+    final List<ModulePathFlat> r = new ArrayList<ModulePathFlat>();
+    for (final ModulePath p : library.getModulePaths()) {
+      r.add(ModulePathFlat.fromModulePath(p));
+    }
+    return r;
+  }
+
+  private static int indexOf(
+    final byte[] data,
+    final byte[] find)
+  {
+    for (int index = 0; index <= (data.length - find.length); ++index) {
+      final byte[] here =
+        Arrays.copyOfRange(data, index, index + find.length);
+      if (Arrays.equals(here, find)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  private static CoreStandardLibrary read(
+    final byte[] data)
+    throws IOException
+  {
+    return CoreStandardLibrary.read(new ByteArrayInputStream(data));
+  }
+
+  @Test(expected = IOException.class) public void testReadGarbage()
+    throws Exception
+  {
+    CoreStandardLibraryTest.read("not a library".getBytes("UTF-8"));
+  }
+
+  @Test(expected = IOException.class) public void testReadStale()
+    throws Exception
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final byte[] data =
+      CoreStandardLibraryTest.bytes(CoreStandardLibrary.compile(log));
+
+    final byte[] hash =
+      CoreStandardLibrary.getSourceHash().getBytes("UTF-8");
+    final int index = CoreStandardLibraryTest.indexOf(data, hash);
+    Assert.assertTrue(index > 0);
+    data[index] = (byte) (data[index] == 'a' ? 'b' : 'a');
+
+    CoreStandardLibraryTest.read(data);
+  }
+
+  @Test public void testReadTruncated()
+    throws Exception
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final byte[] data =
+      CoreStandardLibraryTest.bytes(CoreStandardLibrary.compile(log));
+
+    for (int size = 0; size < data.length; size += 97) {
+      try {
+        CoreStandardLibraryTest.read(Arrays.copyOf(data, size));
+        Assert.fail("Expected an error for " + size + " bytes");
+      } catch (final IOException e) {
+        // Expected
+      }
+    }
+  }
+
+  /**
+   * The resource produced by the build is identical to the library compiled
+   * from the current sources.
+   */
+
+  @Test public void testResourceCurrent()
+    throws Exception
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final InputStream s =
+      CoreStandardLibrary.class
+        .getResourceAsStream(CoreStandardLibrary.RESOURCE);
+    Assert.assertNotNull(s);
+
+    final ByteArrayOutputStream resource = new ByteArrayOutputStream();
+    try {
+      final byte[] buffer = new byte[8192];
+      for (;;) {
+        final int r = s.read(buffer);
+        if (r == -1) {
+          break;
+        }
+        resource.write(buffer, 0, r);
+      }
+    } finally {
+      s.close();
+    }
+
+    final byte[] compiled =
+      CoreStandardLibraryTest.bytes(CoreStandardLibrary.compile(log));
+    Assert.assertArrayEquals(compiled, resource.toByteArray());
+  }
+
+  /**
+   * Reading a written library, and then writing it again, produces the same
+   * bytes: every module, type, term, shader, token and graph fragment
+   * survives the round trip.
+   */
+
+  @Test public void testRoundTrip()
+    throws Exception
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final CoreStandardLibrary compiled = CoreStandardLibrary.compile(log);
+    final byte[] data = CoreStandardLibraryTest.bytes(compiled);
+    final CoreStandardLibrary read = CoreStandardLibraryTest.read(data);
+
+    Assert.assertArrayEquals(data, CoreStandardLibraryTest.bytes(read));
+    Assert.assertEquals(
+      CoreStandardLibraryTest.flatPaths(compiled),
+      CoreStandardLibraryTest.flatPaths(read));
+    Assert.assertEquals(
+      compiled.getTypedModules().keySet(),
+      read.getTypedModules().keySet());
+    Assert.assertEquals(
+      compiled.getGraphFragments().keySet(),
+      read.getGraphFragments().keySet());
+  }
+}
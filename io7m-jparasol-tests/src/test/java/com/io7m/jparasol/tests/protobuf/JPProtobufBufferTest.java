@@ -0,0 +1,234 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.tests.protobuf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.SortedMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jfunctional.OptionType;
+import com.io7m.jfunctional.Some;
+import com.io7m.jparasol.core.JPCompiledShaderMetaType;
+import com.io7m.jparasol.metaserializer.JPSerializerException;
+import com.io7m.jparasol.metaserializer.protobuf.JPProtobufCatalogReader;
+import com.io7m.jparasol.metaserializer.protobuf.JPProtobufMetaDeserializer;
+import com.io7m.jparasol.metaserializer.protobuf.types.ProgramMeta.Meta;
+
+@SuppressWarnings({ "null", "static-method" }) public final class JPProtobufBufferTest
+{
+  private static final String[] RESOURCES = {
+    "/com/io7m/jparasol/tests/protobuf/t-actual-fragment-compacted.ppsm",
+    "/com/io7m/jparasol/tests/protobuf/t-actual-fragment.ppsm",
+    "/com/io7m/jparasol/tests/protobuf/t-actual-program.ppsm",
+    "/com/io7m/jparasol/tests/protobuf/t-actual-vertex-compacted.ppsm",
+    "/com/io7m/jparasol/tests/protobuf/t-actual-vertex.ppsm",
+    "/com/io7m/jparasol/tests/protobuf/t-minimal-fragment.ppsm",
+    "/com/io7m/jparasol/tests/protobuf/t-minimal-program.ppsm",
+    "/com/io7m/jparasol/tests/protobuf/t-minimal-vertex.ppsm", };
+
+  private static byte[] readResource(
+    final String name)
+    throws IOException
+  {
+    final InputStream in =
+      JPProtobufBufferTest.class.getResourceAsStream(name);
+    try {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      final byte[] buffer = new byte[4096];
+      for (;;) {
+        final int r = in.read(buffer);
+        if (r == -1) {
+          break;
+        }
+        out.write(buffer, 0, r);
+      }
+      return out.toByteArray();
+    } finally {
+      in.close();
+    }
+  }
+
+  private static JPCompiledShaderMetaType readStream(
+    final String name)
+    throws Exception
+  {
+    final InputStream in =
+      JPProtobufBufferTest.class.getResourceAsStream(name);
+    try {
+      return JPProtobufMetaDeserializer.newDeserializer().metaDeserializeShader(
+        in);
+    } finally {
+      in.close();
+    }
+  }
+
+  private static JPCompiledShaderMetaType readAndCheckUnchanged(
+    final ByteBuffer b)
+    throws Exception
+  {
+    final int position = b.position();
+    final int limit = b.limit();
+    final JPCompiledShaderMetaType m =
+      JPProtobufMetaDeserializer
+        .newDeserializer()
+        .metaDeserializeShaderFromBuffer(b);
+    Assert.assertEquals(position, b.position());
+    Assert.assertEquals(limit, b.limit());
+    return m;
+  }
+
+  @Test public void testCatalogMessage()
+    throws Exception
+  {
+    final SortedMap<String, JPCompiledShaderMetaType> corpus =
+      JPProtobufCatalogTest.getCorpus();
+    final JPProtobufCatalogReader r =
+      JPProtobufCatalogReader.newReader(ByteBuffer.wrap(JPProtobufCatalogTest
+        .write(corpus)));
+    final JPProtobufMetaDeserializer d =
+      JPProtobufMetaDeserializer.newDeserializer();
+
+    for (final String name : corpus.keySet()) {
+      final OptionType<Meta> m = r.lookupMessage(name);
+      final Meta mm = ((Some<Meta>) m).get();
+      Assert.assertEquals(corpus.get(name), d.metaUnpack(mm));
+    }
+
+    Assert.assertTrue(r.lookupMessage("x.y.Nonexistent").isNone());
+  }
+
+  @Test public void testDirect()
+    throws Exception
+  {
+    for (final String name : JPProtobufBufferTest.RESOURCES) {
+      final byte[] data = JPProtobufBufferTest.readResource(name);
+      final ByteBuffer b = ByteBuffer.allocateDirect(data.length);
+      b.put(data);
+      b.rewind();
+
+      Assert.assertEquals(
+        JPProtobufBufferTest.readStream(name),
+        JPProtobufBufferTest.readAndCheckUnchanged(b));
+    }
+  }
+
+  @Test public void testHeapOffset()
+    throws Exception
+  {
+    for (final String name : JPProtobufBufferTest.RESOURCES) {
+      final byte[] data = JPProtobufBufferTest.readResource(name);
+      final byte[] padded = new byte[data.length + 23];
+      System.arraycopy(data, 0, padded, 7, data.length);
+      final ByteBuffer b = ByteBuffer.wrap(padded);
+      b.position(7);
+
+      Assert.assertEquals(
+        JPProtobufBufferTest.readStream(name),
+        JPProtobufBufferTest.readAndCheckUnchanged(b));
+    }
+  }
+
+  @Test public void testMapped()
+    throws Exception
+  {
+    final File file = File.createTempFile("jparasol-meta", ".ppsm");
+    file.deleteOnExit();
+
+    final int[] offsets = new int[JPProtobufBufferTest.RESOURCES.length];
+    final OutputStream out = new FileOutputStream(file);
+    try {
+      int offset = 0;
+      for (int index = 0; index < JPProtobufBufferTest.RESOURCES.length; ++index) {
+        final byte[] data =
+          JPProtobufBufferTest.readResource(JPProtobufBufferTest.RESOURCES[index]);
+        offsets[index] = offset;
+        out.write(data);
+        offset += data.length;
+      }
+    } finally {
+      out.close();
+    }
+
+    final RandomAccessFile raf = new RandomAccessFile(file, "r");
+    try {
+      final FileChannel ch = raf.getChannel();
+      final MappedByteBuffer map =
+        ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+
+      for (int index = 0; index < JPProtobufBufferTest.RESOURCES.length; ++index) {
+        final String name = JPProtobufBufferTest.RESOURCES[index];
+        map.position(offsets[index]);
+        final ByteBuffer slice = map.slice();
+
+        Assert.assertEquals(
+          JPProtobufBufferTest.readStream(name),
+          JPProtobufBufferTest.readAndCheckUnchanged(slice));
+      }
+    } finally {
+      raf.close();
+    }
+  }
+
+  @Test public void testParseUnpack()
+    throws Exception
+  {
+    final JPProtobufMetaDeserializer d =
+      JPProtobufMetaDeserializer.newDeserializer();
+
+    for (final String name : JPProtobufBufferTest.RESOURCES) {
+      final ByteBuffer b =
+        ByteBuffer.wrap(JPProtobufBufferTest.readResource(name));
+      final Meta m = d.metaParseFromBuffer(b);
+      final JPCompiledShaderMetaType expected =
+        JPProtobufBufferTest.readStream(name);
+
+      Assert.assertEquals(expected, d.metaUnpack(m));
+    }
+  }
+
+  @Test(expected = JPSerializerException.class) public void testShortHeader()
+    throws Exception
+  {
+    final byte[] data =
+      JPProtobufBufferTest.readResource(JPProtobufBufferTest.RESOURCES[0]);
+    final ByteBuffer b = ByteBuffer.wrap(data, 0, 8);
+    JPProtobufMetaDeserializer.newDeserializer().metaDeserializeShaderFromBuffer(
+      b);
+  }
+
+  @Test(expected = JPSerializerException.class) public void testTruncated()
+    throws Exception
+  {
+    final byte[] data =
+      JPProtobufBufferTest.readResource(JPProtobufBufferTest.RESOURCES[0]);
+    final ByteBuffer b = ByteBuffer.wrap(data, 0, data.length - 1);
+    JPProtobufMetaDeserializer.newDeserializer().metaDeserializeShaderFromBuffer(
+      b);
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.tests.protobuf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jfunctional.OptionType;
+import com.io7m.jfunctional.Some;
+import com.io7m.jparasol.core.GVersionES;
+import com.io7m.jparasol.core.GVersionFull;
+import com.io7m.jparasol.core.JPCompiledShaderMetaType;
+import com.io7m.jparasol.core.JPUncompactedProgramShaderMeta;
+import com.io7m.jparasol.metaserializer.JPSerializerException;
+import com.io7m.jparasol.metaserializer.protobuf.JPProtobufCatalogReader;
+import com.io7m.jparasol.metaserializer.protobuf.JPProtobufCatalogWriter;
+import com.io7m.jparasol.metaserializer.protobuf.JPProtobufMetaDeserializer;
+
+@SuppressWarnings({ "null", "static-method" }) public final class JPProtobufCatalogTest
+{
+  private static final String[] RESOURCES = {
+    "/com/io7m/jparasol/tests/protobuf/t-actual-fragment-compacted.ppsm",
+    "/com/io7m/jparasol/tests/protobuf/t-actual-fragment.ppsm",
+    "/com/io7m/jparasol/tests/protobuf/t-actual-program.ppsm",
+    "/com/io7m/jparasol/tests/protobuf/t-actual-vertex-compacted.ppsm",
+    "/com/io7m/jparasol/tests/protobuf/t-actual-vertex.ppsm",
+    "/com/io7m/jparasol/tests/protobuf/t-minimal-fragment.ppsm",
+    "/com/io7m/jparasol/tests/protobuf/t-minimal-program.ppsm",
+    "/com/io7m/jparasol/tests/protobuf/t-minimal-vertex.ppsm", };
+
+  /**
+   * @return The metadata of the test resources, and a large number of
+   *         generated programs, by name
+   */
+
+  static SortedMap<String, JPCompiledShaderMetaType> getCorpus()
+    throws Exception
+  {
+    final SortedMap<String, JPCompiledShaderMetaType> r =
+      new TreeMap<String, JPCompiledShaderMetaType>();
+
+    for (final String name : JPProtobufCatalogTest.RESOURCES) {
+      final InputStream in =
+        JPProtobufCatalogTest.class.getResourceAsStream(name);
+      try {
+        final JPCompiledShaderMetaType m =
+          JPProtobufMetaDeserializer.newDeserializer().metaDeserializeShader(
+            in);
+        if (r.containsKey(m.getName()) == false) {
+          r.put(m.getName(), m);
+        }
+      } finally {
+        in.close();
+      }
+    }
+
+    final SortedSet<GVersionES> es = new TreeSet<GVersionES>();
+    es.add(GVersionES.GLSL_ES_100);
+    final SortedSet<GVersionFull> full = new TreeSet<GVersionFull>();
+    full.add(GVersionFull.GLSL_110);
+    full.add(GVersionFull.GLSL_330);
+
+    for (int index = 0; index < 1000; ++index) {
+      final SortedSet<String> vertex = new TreeSet<String>();
+      vertex.add(String.format("x.y.V%d", index));
+      final String name = String.format("x.y.P%d", index);
+      r.put(name, JPUncompactedProgramShaderMeta.newMetadata(
+        name,
+        es,
+        full,
+        String.format("x.y.F%d", index),
+        vertex));
+    }
+
+    return r;
+  }
+
+  static byte[] write(
+    final SortedMap<String, JPCompiledShaderMetaType> corpus)
+    throws IOException
+  {
+    final JPProtobufCatalogWriter w = JPProtobufCatalogWriter.newWriter();
+    final List<String> names = new ArrayList<String>(corpus.keySet());
+    for (int index = names.size() - 1; index >= 0; --index) {
+      w.putShader(corpus.get(names.get(index)));
+    }
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    w.write(out);
+    return out.toByteArray();
+  }
+
+  @Test(expected = JPSerializerException.class) public void testBadMagic()
+    throws Exception
+  {
+    final byte[] data = new byte[32];
+    data[0] = 'P';
+    data[1] = 'P';
+    data[2] = 'S';
+    data[3] = 'M';
+    JPProtobufCatalogReader.newReader(ByteBuffer.wrap(data));
+  }
+
+  @Test(expected = IOException.class) public void testDuplicate()
+    throws Exception
+  {
+    final SortedMap<String, JPCompiledShaderMetaType> corpus =
+      JPProtobufCatalogTest.getCorpus();
+    final JPProtobufCatalogWriter w = JPProtobufCatalogWriter.newWriter();
+    final JPCompiledShaderMetaType m = corpus.get(corpus.firstKey());
+    w.putShader(m);
+    w.putShader(m);
+  }
+
+  @Test public void testFile()
+    throws Exception
+  {
+    final SortedMap<String, JPCompiledShaderMetaType> corpus =
+      JPProtobufCatalogTest.getCorpus();
+
+    final File file = File.createTempFile("jparasol-catalog", ".ppsc");
+    file.deleteOnExit();
+    final OutputStream out = new FileOutputStream(file);
+    try {
+      out.write(JPProtobufCatalogTest.write(corpus));
+    } finally {
+      out.close();
+    }
+
+    final JPProtobufCatalogReader r =
+      JPProtobufCatalogReader.newReaderFromFile(file);
+    for (final String name : corpus.keySet()) {
+      final OptionType<JPCompiledShaderMetaType> m = r.lookupMeta(name);
+      Assert.assertEquals(
+        corpus.get(name),
+        ((Some<JPCompiledShaderMetaType>) m).get());
+    }
+  }
+
+  @Test public void testLookup()
+    throws Exception
+  {
+    final SortedMap<String, JPCompiledShaderMetaType> corpus =
+      JPProtobufCatalogTest.getCorpus();
+    final JPProtobufCatalogReader r =
+      JPProtobufCatalogReader.newReader(ByteBuffer.wrap(JPProtobufCatalogTest
+        .write(corpus)));
+
+    Assert.assertEquals(corpus.size(), r.getShaderCount());
+    Assert.assertEquals(
+      new ArrayList<String>(corpus.keySet()),
+      r.getShaderNames());
+
+    for (final String name : corpus.keySet()) {
+      Assert.assertTrue(r.hasShader(name));
+      final OptionType<JPCompiledShaderMetaType> m = r.lookupMeta(name);
+      Assert.assertEquals(
+        corpus.get(name),
+        ((Some<JPCompiledShaderMetaType>) m).get());
+    }
+
+    Assert.assertFalse(r.hasShader("x.y.Nonexistent"));
+    Assert.assertTrue(r.lookupMeta("x.y.Nonexistent").isNone());
+    Assert.assertTrue(r.lookupMeta("").isNone());
+  }
+
+  @Test(expected = JPSerializerException.class) public void testTruncated()
+    throws Exception
+  {
+    final byte[] data =
+      JPProtobufCatalogTest.write(JPProtobufCatalogTest.getCorpus());
+    final ByteBuffer b = ByteBuffer.wrap(data, 0, 64);
+    JPProtobufCatalogReader.newReader(b);
+  }
+}
@@ -29,6 +29,7 @@ import com.io7m.jparasol.core.GVersionES;
 import com.io7m.jparasol.core.GVersionFull;
 import com.io7m.jparasol.core.JPCompactedVertexShaderMeta;
 import com.io7m.jparasol.core.JPCompiledShaderMetaType;
+import com.io7m.jparasol.core.JPHashAlgorithm;
 import com.io7m.jparasol.core.JPVertexShaderMetaType;
 import com.io7m.jparasol.metaserializer.JPMetaDeserializerType;
 import com.io7m.jparasol.metaserializer.JPMetaSerializerType;
@@ -92,6 +93,40 @@ import com.io7m.junreachable.UnreachableCodeException;
     Assert.assertEquals(v0.getName(), v1.getName());
   }
 
+  @Test public void testHashAlgorithm_0()
+    throws Exception
+  {
+    final JPCompactedVertexShaderMeta meta0 =
+      (JPCompactedVertexShaderMeta) ProtobufCompactedVertexShaderMetaTest
+        .getData("/com/io7m/jparasol/tests/protobuf/t-actual-vertex-compacted.ppsm");
+    Assert.assertEquals(
+      JPHashAlgorithm.HASH_SHA_256_LINES,
+      meta0.getHashAlgorithm());
+
+    final JPCompactedVertexShaderMeta meta1 =
+      JPCompactedVertexShaderMeta.newMetadata(
+        meta0.getName(),
+        meta0.getSupportsES(),
+        meta0.getSupportsFull(),
+        meta0.getDeclaredVertexInputs(),
+        meta0.getDeclaredVertexOutputs(),
+        meta0.getDeclaredVertexParameters(),
+        meta0.getVersionToHash(),
+        JPHashAlgorithm.HASH_MURMUR3_128);
+    Assert.assertFalse(meta0.equals(meta1));
+
+    final ByteArrayOutputStream bao = new ByteArrayOutputStream(1 << 14);
+    ProtobufCompactedVertexShaderMetaTest.serialize(bao, meta1);
+    final JPCompactedVertexShaderMeta meta2 =
+      (JPCompactedVertexShaderMeta) ProtobufCompactedVertexShaderMetaTest
+        .fromStream(new ByteArrayInputStream(bao.toByteArray()));
+
+    Assert.assertEquals(
+      JPHashAlgorithm.HASH_MURMUR3_128,
+      meta2.getHashAlgorithm());
+    Assert.assertEquals(meta1, meta2);
+  }
+
   @Test public void testRoundTrip_0()
     throws Exception
   {
@@ -0,0 +1,511 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.tests.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jfunctional.OptionType;
+import com.io7m.jfunctional.Some;
+import com.io7m.jparasol.core.GVersionType;
+import com.io7m.jparasol.core.JPCompactedFragmentShader;
+import com.io7m.jparasol.core.JPCompactedFragmentShaderMeta;
+import com.io7m.jparasol.core.JPCompiledShaderMetaType;
+import com.io7m.jparasol.core.JPHashAlgorithm;
+import com.io7m.jparasol.core.JPHashedLines;
+import com.io7m.jparasol.core.JPHashing;
+import com.io7m.jparasol.core.JPUncompactedFragmentShader;
+import com.io7m.jparasol.glsl.serialization.GSerializerFile;
+import com.io7m.jparasol.glsl.serialization.GSerializerSourceLayout;
+import com.io7m.jparasol.glsl.serialization.GSerializerType;
+import com.io7m.jparasol.glsl.serialization.GSerializerZip;
+import com.io7m.jparasol.metaserializer.JPMetaSerializerType;
+import com.io7m.jparasol.metaserializer.xml.JPXMLMetaDeserializer;
+import com.io7m.jparasol.metaserializer.xml.JPXMLMetaSerializer;
+import com.io7m.jparasol.runtime.JPRuntimeRepository;
+import com.io7m.jparasol.runtime.JPRuntimeStorageClasspath;
+import com.io7m.jparasol.runtime.JPRuntimeStorageDirectory;
+import com.io7m.jparasol.runtime.JPRuntimeStorageType;
+import com.io7m.jparasol.runtime.JPRuntimeStorageZip;
+import com.io7m.jparasol.tests.TestUtilities;
+import com.io7m.jparasol.tests.glsl.GSerializerSourceLayoutTest;
+
+@SuppressWarnings({ "null", "static-method" }) public final class JPRuntimeRepositoryTest
+{
+  private static final long CACHE_SIZE = 1 << 20;
+
+  private static void checkCompacted(
+    final JPRuntimeRepository r,
+    final List<JPCompactedFragmentShader> shaders)
+    throws Exception
+  {
+    for (final JPCompactedFragmentShader f : shaders) {
+      final JPCompiledShaderMetaType meta =
+        JPRuntimeRepositoryTest.getMeta(r, f.getName());
+      Assert.assertEquals(f.getMeta(), meta);
+
+      final Map<GVersionType, String> hashes =
+        f.getMeta().getVersionToHash();
+      for (final GVersionType v : hashes.keySet()) {
+        final JPHashedLines expected =
+          f.getSourcesByHash().get(hashes.get(v));
+        final JPHashedLines lines = JPRuntimeRepositoryTest.getSource(r, meta, v);
+        Assert.assertEquals(expected.getHash(), lines.getHash());
+        Assert.assertEquals(expected.getText(), lines.getText());
+      }
+    }
+
+    /**
+     * The shaders have identical sources, which are cached once.
+     */
+
+    Assert.assertEquals(
+      shaders.get(0).getSourcesByHash().size(),
+      r.getCachedSourceCount());
+  }
+
+  private static JPCompiledShaderMetaType getMeta(
+    final JPRuntimeRepository r,
+    final String name)
+    throws Exception
+  {
+    final OptionType<JPCompiledShaderMetaType> m_opt = r.lookupMeta(name);
+    Assert.assertTrue(m_opt.isSome());
+    return ((Some<JPCompiledShaderMetaType>) m_opt).get();
+  }
+
+  private static JPHashedLines getSource(
+    final JPRuntimeRepository r,
+    final JPCompiledShaderMetaType meta,
+    final GVersionType v)
+    throws IOException
+  {
+    final OptionType<JPHashedLines> s_opt = r.lookupSource(meta, v);
+    Assert.assertTrue(s_opt.isSome());
+    return ((Some<JPHashedLines>) s_opt).get();
+  }
+
+  private static File makeTemporaryDirectory()
+    throws IOException
+  {
+    final File dir = File.createTempFile("jparasol-runtime", "");
+    Assert.assertTrue(dir.delete());
+    Assert.assertTrue(dir.mkdirs());
+    return dir;
+  }
+
+  private static JPRuntimeRepository newRepository(
+    final JPRuntimeStorageType storage,
+    final long cache_size)
+  {
+    return JPRuntimeRepository.newRepository(
+      storage,
+      JPXMLMetaDeserializer.newDeserializer(TestUtilities.getLog()),
+      cache_size,
+      TestUtilities.getLog());
+  }
+
+  private static File writeCompacted(
+    final List<JPCompactedFragmentShader> shaders,
+    final GSerializerSourceLayout layout)
+    throws IOException
+  {
+    final File dir = JPRuntimeRepositoryTest.makeTemporaryDirectory();
+    final GSerializerType s =
+      GSerializerFile.newSerializerWithLayout(
+        JPXMLMetaSerializer.newSerializer(),
+        dir,
+        false,
+        layout);
+    for (final JPCompactedFragmentShader f : shaders) {
+      s.serializeCompactedFragmentShader(f);
+    }
+    s.close();
+    return dir;
+  }
+
+  @Test public void testCacheEviction()
+    throws Exception
+  {
+    final List<JPUncompactedFragmentShader> shaders =
+      GSerializerSourceLayoutTest.getIdenticalUncompactedShaders();
+    final JPUncompactedFragmentShader f = shaders.get(0);
+    final File dir = JPRuntimeRepositoryTest.makeTemporaryDirectory();
+    final GSerializerType s =
+      GSerializerFile.newSerializer(
+        JPXMLMetaSerializer.newSerializer(),
+        dir,
+        false);
+    s.serializeUncompactedFragmentShader(f);
+    s.close();
+
+    long largest = 0;
+    for (final GVersionType v : f.getSourceTexts().keySet()) {
+      largest =
+        Math.max(largest, f.getSourceTexts().get(v).getByteSize());
+    }
+
+    final JPRuntimeRepository r =
+      JPRuntimeRepositoryTest.newRepository(
+        JPRuntimeStorageDirectory.newStorage(dir),
+        largest);
+    final JPCompiledShaderMetaType meta =
+      JPRuntimeRepositoryTest.getMeta(r, f.getName());
+
+    for (final GVersionType v : f.getSourceTexts().keySet()) {
+      final JPHashedLines lines = JPRuntimeRepositoryTest.getSource(r, meta, v);
+      Assert.assertEquals(f.getSourceTexts().get(v), lines.getText());
+      Assert.assertTrue(r.getCachedSourceSize() <= largest);
+      Assert.assertTrue(r.getCachedSourceCount() >= 1);
+    }
+    Assert.assertTrue(r.getCachedSourceCount() < f.getSourceTexts().size());
+  }
+
+  @Test public void testCacheNone()
+    throws Exception
+  {
+    final List<JPCompactedFragmentShader> shaders =
+      GSerializerSourceLayoutTest.getIdenticalShaders();
+    final File dir =
+      JPRuntimeRepositoryTest.writeCompacted(
+        shaders,
+        GSerializerSourceLayout.SOURCES_PER_SHADER);
+
+    final JPRuntimeRepository r =
+      JPRuntimeRepositoryTest.newRepository(
+        JPRuntimeStorageDirectory.newStorage(dir),
+        0);
+    final JPCompactedFragmentShader f = shaders.get(0);
+    final JPCompiledShaderMetaType meta =
+      JPRuntimeRepositoryTest.getMeta(r, f.getName());
+    for (final GVersionType v : f.getMeta().getVersionToHash().keySet()) {
+      JPRuntimeRepositoryTest.getSource(r, meta, v);
+    }
+    Assert.assertEquals(0, r.getCachedSourceCount());
+    Assert.assertEquals(0, r.getCachedSourceSize());
+  }
+
+  @Test public void testClasspath()
+    throws Exception
+  {
+    final List<JPCompactedFragmentShader> shaders =
+      GSerializerSourceLayoutTest.getIdenticalShaders();
+    final File dir =
+      JPRuntimeRepositoryTest.writeCompacted(
+        shaders,
+        GSerializerSourceLayout.SOURCES_SHARED);
+
+    final URLClassLoader loader =
+      new URLClassLoader(new URL[] { dir.getParentFile().toURI().toURL() });
+    final JPRuntimeRepository r =
+      JPRuntimeRepositoryTest.newRepository(
+        JPRuntimeStorageClasspath.newStorage(loader, dir.getName()),
+        JPRuntimeRepositoryTest.CACHE_SIZE);
+    JPRuntimeRepositoryTest.checkCompacted(r, shaders);
+  }
+
+  @Test public void testConcurrent()
+    throws Exception
+  {
+    final List<JPCompactedFragmentShader> shaders =
+      GSerializerSourceLayoutTest.getIdenticalShaders();
+    final File dir =
+      JPRuntimeRepositoryTest.writeCompacted(
+        shaders,
+        GSerializerSourceLayout.SOURCES_PER_SHADER);
+    final JPRuntimeRepository r =
+      JPRuntimeRepositoryTest.newRepository(
+        JPRuntimeStorageDirectory.newStorage(dir),
+        JPRuntimeRepositoryTest.CACHE_SIZE);
+
+    final JPCompactedFragmentShader f = shaders.get(0);
+    final GVersionType v =
+      f.getMeta().getVersionToHash().keySet().iterator().next();
+
+    final ExecutorService exec = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<JPHashedLines>> futures =
+        new ArrayList<Future<JPHashedLines>>();
+      for (int index = 0; index < 16; ++index) {
+        final String name = shaders.get(index % 2).getName();
+        futures.add(exec.submit(new Callable<JPHashedLines>() {
+          @Override public JPHashedLines call()
+            throws Exception
+          {
+            return JPRuntimeRepositoryTest.getSource(
+              r,
+              JPRuntimeRepositoryTest.getMeta(r, name),
+              v);
+          }
+        }));
+      }
+
+      final JPHashedLines first = JPRuntimeRepositoryTest.getSource(
+        r,
+        JPRuntimeRepositoryTest.getMeta(r, f.getName()),
+        v);
+      for (final Future<JPHashedLines> future : futures) {
+        Assert.assertSame(first, future.get());
+      }
+      Assert.assertEquals(1, r.getCachedSourceCount());
+    } finally {
+      exec.shutdown();
+    }
+  }
+
+  @Test public void testDirectoryPerShader()
+    throws Exception
+  {
+    final List<JPCompactedFragmentShader> shaders =
+      GSerializerSourceLayoutTest.getIdenticalShaders();
+    final File dir =
+      JPRuntimeRepositoryTest.writeCompacted(
+        shaders,
+        GSerializerSourceLayout.SOURCES_PER_SHADER);
+    final JPRuntimeRepository r =
+      JPRuntimeRepositoryTest.newRepository(
+        JPRuntimeStorageDirectory.newStorage(dir),
+        JPRuntimeRepositoryTest.CACHE_SIZE);
+    JPRuntimeRepositoryTest.checkCompacted(r, shaders);
+  }
+
+  @Test public void testDirectoryShared()
+    throws Exception
+  {
+    final List<JPCompactedFragmentShader> shaders =
+      GSerializerSourceLayoutTest.getIdenticalShaders();
+    final File dir =
+      JPRuntimeRepositoryTest.writeCompacted(
+        shaders,
+        GSerializerSourceLayout.SOURCES_SHARED);
+    final JPRuntimeRepository r =
+      JPRuntimeRepositoryTest.newRepository(
+        JPRuntimeStorageDirectory.newStorage(dir),
+        JPRuntimeRepositoryTest.CACHE_SIZE);
+    JPRuntimeRepositoryTest.checkCompacted(r, shaders);
+  }
+
+  @Test(expected = IOException.class) public void testHashMismatch()
+    throws Exception
+  {
+    final List<JPCompactedFragmentShader> shaders =
+      GSerializerSourceLayoutTest.getIdenticalShaders();
+    final File dir =
+      JPRuntimeRepositoryTest.writeCompacted(
+        shaders,
+        GSerializerSourceLayout.SOURCES_SHARED);
+
+    final JPCompactedFragmentShader f = shaders.get(0);
+    final GVersionType v =
+      f.getMeta().getVersionToHash().keySet().iterator().next();
+    final File file =
+      new File(new File(dir, GSerializerSourceLayout.SHARED_DIRECTORY), f
+        .getMeta()
+        .getVersionToHash()
+        .get(v) + ".f");
+    final OutputStream out = new FileOutputStream(file, true);
+    try {
+      out.write("// modified\n".getBytes("UTF-8"));
+    } finally {
+      out.close();
+    }
+
+    final JPRuntimeRepository r =
+      JPRuntimeRepositoryTest.newRepository(
+        JPRuntimeStorageDirectory.newStorage(dir),
+        JPRuntimeRepositoryTest.CACHE_SIZE);
+    r.lookupSource(JPRuntimeRepositoryTest.getMeta(r, f.getName()), v);
+  }
+
+  @Test public void testMissing()
+    throws Exception
+  {
+    final File dir = JPRuntimeRepositoryTest.makeTemporaryDirectory();
+    final JPRuntimeRepository r =
+      JPRuntimeRepositoryTest.newRepository(
+        JPRuntimeStorageDirectory.newStorage(dir),
+        JPRuntimeRepositoryTest.CACHE_SIZE);
+    Assert.assertTrue(r.lookupMeta("x.y.nonexistent").isNone());
+  }
+
+  @Test public void testSharedDirectoryName()
+  {
+    Assert.assertEquals(
+      GSerializerSourceLayout.SHARED_DIRECTORY,
+      JPRuntimeRepository.SHARED_DIRECTORY);
+  }
+
+  /**
+   * Archives written before the hash algorithm was recorded name compacted
+   * sources by the SHA-256 hash of their lines without terminators.
+   */
+
+  @Test public void testZipOriginalHashes()
+    throws Exception
+  {
+    final JPCompactedFragmentShader f =
+      GSerializerSourceLayoutTest.getIdenticalShaders().get(0);
+    final JPCompactedFragmentShaderMeta m = f.getMeta();
+
+    final Map<GVersionType, String> hashes =
+      new HashMap<GVersionType, String>();
+    final Map<String, JPHashedLines> sources =
+      new HashMap<String, JPHashedLines>();
+    for (final GVersionType v : m.getVersionToHash().keySet()) {
+      final JPHashedLines lines =
+        f.getSourcesByHash().get(m.getVersionToHash().get(v));
+      final MessageDigest md = MessageDigest.getInstance("SHA-256");
+      for (final String line : lines.getLines()) {
+        md.update(line.getBytes("UTF-8"));
+      }
+      final String hash = JPHashing.hex(md.digest());
+      hashes.put(v, hash);
+      sources.put(hash, lines);
+    }
+
+    final JPCompactedFragmentShaderMeta old_meta =
+      JPCompactedFragmentShaderMeta.newMetadata(
+        m.getName(),
+        m.getSupportsES(),
+        m.getSupportsFull(),
+        m.getDeclaredFragmentInputs(),
+        m.getDeclaredFragmentOutputs(),
+        m.getDeclaredFragmentParameters(),
+        hashes,
+        JPHashAlgorithm.HASH_SHA_256_LINES);
+
+    final ByteArrayOutputStream meta_bytes = new ByteArrayOutputStream();
+    final JPMetaSerializerType serial = JPXMLMetaSerializer.newSerializer();
+    serial.metaSerializeCompactedFragmentShader(old_meta, meta_bytes);
+    Assert.assertFalse(meta_bytes.toString("UTF-8").contains("algorithm"));
+
+    final File file = File.createTempFile("jparasol-runtime", ".zip");
+    file.deleteOnExit();
+    final ZipOutputStream out = new ZipOutputStream(new FileOutputStream(file));
+    try {
+      out.putNextEntry(new ZipEntry(m.getName()
+        + "/"
+        + serial.metaGetSuggestedFilename()));
+      out.write(meta_bytes.toByteArray());
+      for (final String hash : sources.keySet()) {
+        out.putNextEntry(new ZipEntry(m.getName() + "/" + hash + ".f"));
+        for (final String line : sources.get(hash).getLines()) {
+          out.write((line + "\n").getBytes("UTF-8"));
+        }
+      }
+    } finally {
+      out.close();
+    }
+
+    final ZipFile zip = new ZipFile(file);
+    try {
+      final JPRuntimeRepository r =
+        JPRuntimeRepositoryTest.newRepository(
+          JPRuntimeStorageZip.newStorage(zip),
+          JPRuntimeRepositoryTest.CACHE_SIZE);
+
+      final JPCompiledShaderMetaType meta =
+        JPRuntimeRepositoryTest.getMeta(r, m.getName());
+      Assert.assertEquals(old_meta, meta);
+
+      for (final GVersionType v : hashes.keySet()) {
+        final JPHashedLines lines =
+          JPRuntimeRepositoryTest.getSource(r, meta, v);
+        Assert.assertEquals(
+          JPHashAlgorithm.HASH_SHA_256_LINES,
+          lines.getHashAlgorithm());
+        Assert.assertEquals(hashes.get(v), lines.getHash());
+        Assert.assertEquals(
+          sources.get(hashes.get(v)).getText(),
+          lines.getText());
+      }
+    } finally {
+      zip.close();
+    }
+  }
+
+  @Test public void testZipUncompacted()
+    throws Exception
+  {
+    final List<JPUncompactedFragmentShader> shaders =
+      GSerializerSourceLayoutTest.getIdenticalUncompactedShaders();
+
+    final File file = File.createTempFile("jparasol-runtime", ".zip");
+    file.deleteOnExit();
+    final GSerializerType s =
+      GSerializerZip.newSerializer(
+        JPXMLMetaSerializer.newSerializer(),
+        new ZipOutputStream(new FileOutputStream(file)),
+        TestUtilities.getLog());
+    for (final JPUncompactedFragmentShader f : shaders) {
+      s.serializeUncompactedFragmentShader(f);
+    }
+    s.close();
+
+    final ZipFile zip = new ZipFile(file);
+    try {
+      final JPRuntimeRepository r =
+        JPRuntimeRepositoryTest.newRepository(
+          JPRuntimeStorageZip.newStorage(zip),
+          JPRuntimeRepositoryTest.CACHE_SIZE);
+
+      int count = 0;
+      for (final JPUncompactedFragmentShader f : shaders) {
+        final JPCompiledShaderMetaType meta =
+          JPRuntimeRepositoryTest.getMeta(r, f.getName());
+        Assert.assertEquals(f.getMeta(), meta);
+
+        final Map<GVersionType, ?> texts = f.getSourceTexts();
+        for (final GVersionType v : texts.keySet()) {
+          final JPHashedLines lines =
+            JPRuntimeRepositoryTest.getSource(r, meta, v);
+          Assert.assertEquals(texts.get(v), lines.getText());
+          count = count + 1;
+        }
+      }
+
+      /**
+       * Uncompacted sources are cached per shader.
+       */
+
+      Assert.assertEquals(count, r.getCachedSourceCount());
+    } finally {
+      zip.close();
+    }
+  }
+}
@@ -18,6 +18,7 @@ package com.io7m.jparasol.tests.typed;
 
 import java.util.List;
 
+import org.jgrapht.experimental.dag.DirectedAcyclicGraph;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -26,8 +27,11 @@ import com.io7m.jparasol.ModulePathFlat;
 import com.io7m.jparasol.tests.TestPipeline;
 import com.io7m.jparasol.tests.TestUtilities;
 import com.io7m.jparasol.typed.Referenced;
+import com.io7m.jparasol.typed.TTypeNameFlat;
 import com.io7m.jparasol.typed.Topology;
 import com.io7m.jparasol.typed.ast.TASTCompilation;
+import com.io7m.jparasol.typed.ast.TASTReachability;
+import com.io7m.jparasol.typed.ast.TASTReference;
 import com.io7m.jparasol.typed.ast.TASTShaderNameFlat;
 import com.io7m.jparasol.typed.ast.TASTTermNameFlat;
 
@@ -43,6 +47,18 @@ public final class TopologyTest
     return Pair.pair(r, ref);
   }
 
+  private static <V> void checkOrder(
+    final DirectedAcyclicGraph<V, TASTReference> g,
+    final List<V> sorted)
+  {
+    Assert.assertEquals(g.vertexSet().size(), sorted.size());
+    for (final TASTReference e : g.edgeSet()) {
+      final int source = sorted.indexOf(g.getEdgeSource(e));
+      final int target = sorted.indexOf(g.getEdgeTarget(e));
+      Assert.assertTrue(target < source);
+    }
+  }
+
   private static TASTShaderNameFlat shaderName(
     final String module,
     final String name)
@@ -76,4 +92,20 @@ public final class TopologyTest
     Assert.assertEquals(terms.get(0), TestPipeline.termName("x.y.M", "x"));
     Assert.assertEquals(terms.get(1), TestPipeline.termName("x.y.M", "y"));
   }
+
+  @SuppressWarnings("static-method") @Test public void testSortedAll()
+  {
+    final TASTCompilation c =
+      TestPipeline.completeTyped(new String[] {
+        "typed/referenced/vertex-shader-type-1.p", });
+    final TASTReachability index = c.getReachability();
+
+    final DirectedAcyclicGraph<TASTTermNameFlat, TASTReference> terms =
+      c.getTermGraph();
+    TopologyTest.checkOrder(terms, index.getTermsSorted(terms.vertexSet()));
+
+    final DirectedAcyclicGraph<TTypeNameFlat, TASTReference> types =
+      c.getTypeGraph();
+    TopologyTest.checkOrder(types, index.getTypesSorted(types.vertexSet()));
+  }
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.tests.xml;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jparasol.core.JPCompiledShaderMetaType;
+import com.io7m.jparasol.metaserializer.JPSerializerException;
+import com.io7m.jparasol.metaserializer.xml.JPXMLMetaDeserializer;
+import com.io7m.jparasol.tests.TestUtilities;
+
+@SuppressWarnings({ "null", "static-method" }) public final class JPXMLMetaDeserializerTest
+{
+  /**
+   * Valid metadata documents, one of each kind of shader.
+   */
+
+  public static final String[] VALID = {
+    "/com/io7m/jparasol/tests/xml/t-actual-fragment-compacted.xml",
+    "/com/io7m/jparasol/tests/xml/t-actual-fragment.xml",
+    "/com/io7m/jparasol/tests/xml/t-actual-program.xml",
+    "/com/io7m/jparasol/tests/xml/t-actual-vertex-compacted.xml",
+    "/com/io7m/jparasol/tests/xml/t-actual-vertex.xml", };
+
+  private static void copyResource(
+    final String name,
+    final File file)
+    throws IOException
+  {
+    Assert.assertTrue(file.getParentFile().mkdirs());
+
+    final InputStream in =
+      JPXMLMetaDeserializerTest.class.getResourceAsStream(name);
+    try {
+      final OutputStream out = new FileOutputStream(file);
+      try {
+        final byte[] buffer = new byte[8192];
+        for (;;) {
+          final int r = in.read(buffer);
+          if (r == -1) {
+            break;
+          }
+          out.write(buffer, 0, r);
+        }
+      } finally {
+        out.close();
+      }
+    } finally {
+      in.close();
+    }
+  }
+
+  private static File makeCorpus(
+    final int copies)
+    throws IOException
+  {
+    final File dir = File.createTempFile("jparasol-xml", "");
+    Assert.assertTrue(dir.delete());
+    Assert.assertTrue(dir.mkdirs());
+
+    for (int copy = 0; copy < copies; ++copy) {
+      for (int index = 0; index < JPXMLMetaDeserializerTest.VALID.length; ++index) {
+        final File file =
+          new File(new File(dir, String.format("s%d-%d", copy, index)), "meta.xml");
+        JPXMLMetaDeserializerTest.copyResource(
+          JPXMLMetaDeserializerTest.VALID[index],
+          file);
+      }
+    }
+    return dir;
+  }
+
+  @Test public void testDirectoryParallelSameAsSequential()
+    throws Exception
+  {
+    final File dir = JPXMLMetaDeserializerTest.makeCorpus(20);
+    final JPXMLMetaDeserializer d =
+      JPXMLMetaDeserializer.newDeserializer(TestUtilities.getLog());
+
+    final ExecutorService exec = Executors.newFixedThreadPool(4);
+    try {
+      final SortedMap<String, JPCompiledShaderMetaType> r =
+        d.metaDeserializeDirectory(dir, exec);
+      Assert.assertEquals(20 * JPXMLMetaDeserializerTest.VALID.length, r.size());
+
+      for (final String name : r.keySet()) {
+        final File file = new File(new File(dir, name), "meta.xml");
+        final InputStream in = file.toURI().toURL().openStream();
+        try {
+          Assert.assertEquals(d.metaDeserializeShader(in), r.get(name));
+        } finally {
+          in.close();
+        }
+      }
+    } finally {
+      exec.shutdown();
+    }
+  }
+
+  @Test(expected = JPSerializerException.class) public void testDirectoryInvalid()
+    throws Exception
+  {
+    final File dir = JPXMLMetaDeserializerTest.makeCorpus(2);
+    JPXMLMetaDeserializerTest.copyResource(
+      "/com/io7m/jparasol/tests/xml/t-wrong-root.xml",
+      new File(new File(dir, "s1-x"), "meta.xml"));
+
+    final ExecutorService exec = Executors.newFixedThreadPool(4);
+    try {
+      JPXMLMetaDeserializer
+        .newDeserializer(TestUtilities.getLog())
+        .metaDeserializeDirectory(dir, exec);
+    } finally {
+      exec.shutdown();
+    }
+  }
+
+  @Test public void testFilesOrder()
+    throws Exception
+  {
+    final File dir = JPXMLMetaDeserializerTest.makeCorpus(1);
+    final List<File> files = new ArrayList<File>();
+    for (int index = JPXMLMetaDeserializerTest.VALID.length - 1; index >= 0; --index) {
+      files.add(new File(new File(dir, String.format("s0-%d", index)), "meta.xml"));
+    }
+
+    final JPXMLMetaDeserializer d =
+      JPXMLMetaDeserializer.newDeserializer(TestUtilities.getLog());
+    final ExecutorService exec = Executors.newFixedThreadPool(4);
+    try {
+      final List<JPCompiledShaderMetaType> r =
+        d.metaDeserializeFiles(files, exec);
+      Assert.assertEquals(files.size(), r.size());
+      for (int index = 0; index < files.size(); ++index) {
+        final InputStream in =
+          JPXMLMetaDeserializerTest.class
+            .getResourceAsStream(JPXMLMetaDeserializerTest.VALID[files.size()
+              - 1
+              - index]);
+        try {
+          Assert.assertEquals(d.metaDeserializeShader(in), r.get(index));
+        } finally {
+          in.close();
+        }
+      }
+    } finally {
+      exec.shutdown();
+    }
+  }
+
+  @Test public void testParserReusedAfterError()
+    throws Exception
+  {
+    final JPXMLMetaDeserializer d =
+      JPXMLMetaDeserializer.newDeserializer(TestUtilities.getLog());
+
+    for (int index = 0; index < 3; ++index) {
+      final InputStream bad =
+        JPXMLMetaDeserializerTest.class
+          .getResourceAsStream("/com/io7m/jparasol/tests/xml/t-wrong-namespace.xml");
+      try {
+        d.metaDeserializeShader(bad);
+        Assert.fail();
+      } catch (final JPSerializerException e) {
+        // Expected
+      } finally {
+        bad.close();
+      }
+
+      final InputStream good =
+        JPXMLMetaDeserializerTest.class
+          .getResourceAsStream(JPXMLMetaDeserializerTest.VALID[index]);
+      try {
+        Assert.assertNotNull(d.metaDeserializeShader(good));
+      } finally {
+        good.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2014 <code@io7m.com> http://io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jparasol.tests.xml;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jlog.LogUsableType;
+import com.io7m.jparasol.core.JPCompiledShaderMetaType;
+import com.io7m.jparasol.metaserializer.JPMetaDeserializerType;
+import com.io7m.jparasol.metaserializer.JPMetaSerializerType;
+import com.io7m.jparasol.metaserializer.JPSerializerException;
+import com.io7m.jparasol.metaserializer.xml.JPXMLMetaDeserializer;
+import com.io7m.jparasol.metaserializer.xml.JPXMLMetaSerializer;
+import com.io7m.jparasol.metaserializer.xml.JPXMLStreamMetaDeserializer;
+import com.io7m.jparasol.metaserializer.xml.JPXMLStreamMetaSerializer;
+import com.io7m.jparasol.tests.TestUtilities;
+
+@SuppressWarnings({ "null", "static-method" }) public final class JPXMLStreamMetaTest
+{
+  private static final String[] INVALID = {
+    "/com/io7m/jparasol/tests/xml/t-empty.xml",
+    "/com/io7m/jparasol/tests/xml/t-program-name-wrong.xml",
+    "/com/io7m/jparasol/tests/xml/t-version-wrong.xml",
+    "/com/io7m/jparasol/tests/xml/t-wrong-namespace.xml",
+    "/com/io7m/jparasol/tests/xml/t-wrong-root.xml", };
+
+  private static JPCompiledShaderMetaType parse(
+    final JPMetaDeserializerType d,
+    final String name)
+    throws Exception
+  {
+    final InputStream in = JPXMLStreamMetaTest.class.getResourceAsStream(name);
+    try {
+      return d.metaDeserializeShader(in);
+    } finally {
+      in.close();
+    }
+  }
+
+  private static byte[] serialize(
+    final JPMetaSerializerType s,
+    final JPCompiledShaderMetaType m)
+    throws Exception
+  {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    s.metaSerializeShader(m, out);
+    return out.toByteArray();
+  }
+
+  @Test public void testDeserializeSameAsTree()
+    throws Exception
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final JPMetaDeserializerType tree =
+      JPXMLMetaDeserializer.newDeserializer(log);
+    final JPMetaDeserializerType stream =
+      JPXMLStreamMetaDeserializer.newDeserializer(log);
+    final JPMetaDeserializerType stream_valid =
+      JPXMLStreamMetaDeserializer.newValidatingDeserializer(log);
+
+    for (final String name : JPXMLMetaDeserializerTest.VALID) {
+      final JPCompiledShaderMetaType expected =
+        JPXMLStreamMetaTest.parse(tree, name);
+      Assert.assertEquals(expected, JPXMLStreamMetaTest.parse(stream, name));
+      Assert.assertEquals(
+        expected,
+        JPXMLStreamMetaTest.parse(stream_valid, name));
+    }
+  }
+
+  @Test public void testInvalid()
+    throws Exception
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final JPMetaDeserializerType[] ds =
+      {
+        JPXMLStreamMetaDeserializer.newDeserializer(log),
+        JPXMLStreamMetaDeserializer.newValidatingDeserializer(log), };
+
+    for (final JPMetaDeserializerType d : ds) {
+      for (final String name : JPXMLStreamMetaTest.INVALID) {
+        try {
+          JPXMLStreamMetaTest.parse(d, name);
+          Assert.fail(name);
+        } catch (final JPSerializerException e) {
+          // Expected
+        }
+      }
+    }
+  }
+
+  @Test public void testRoundTrip()
+    throws Exception
+  {
+    final LogUsableType log = TestUtilities.getLog();
+    final JPMetaDeserializerType tree =
+      JPXMLMetaDeserializer.newDeserializer(log);
+    final JPMetaDeserializerType stream =
+      JPXMLStreamMetaDeserializer.newDeserializer(log);
+    final JPMetaSerializerType tree_s = JPXMLMetaSerializer.newSerializer();
+    final JPMetaSerializerType stream_s =
+      JPXMLStreamMetaSerializer.newSerializer();
+
+    for (final String name : JPXMLMetaDeserializerTest.VALID) {
+      final JPCompiledShaderMetaType m = JPXMLStreamMetaTest.parse(tree, name);
+      final byte[] expected = JPXMLStreamMetaTest.serialize(tree_s, m);
+      final byte[] data = JPXMLStreamMetaTest.serialize(stream_s, m);
+
+      Assert.assertEquals(
+        new String(expected, "UTF-8"),
+        new String(data, "UTF-8"));
+      Assert.assertEquals(
+        m,
+        tree.metaDeserializeShader(new ByteArrayInputStream(data)));
+      Assert.assertEquals(
+        m,
+        stream.metaDeserializeShader(new ByteArrayInputStream(data)));
+    }
+  }
+
+  @Test(expected = JPSerializerException.class) public void testWrongType()
+    throws Exception
+  {
+    final InputStream in =
+      JPXMLStreamMetaTest.class
+        .getResourceAsStream("/com/io7m/jparasol/tests/xml/t-actual-program.xml");
+    try {
+      JPXMLStreamMetaDeserializer
+        .newDeserializer(TestUtilities.getLog())
+        .metaDeserializeVertexShader(in);
+    } finally {
+      in.close();
+    }
+  }
+}
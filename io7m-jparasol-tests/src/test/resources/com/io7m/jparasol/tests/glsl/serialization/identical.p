@@ -0,0 +1,41 @@
+package x.y;
+
+module M is
+
+  shader vertex v is
+    out vertex f_position_clip : vector_4f;
+  with
+    value position = new vector_4f (0.0, 0.0, 0.0, 1.0);
+  as
+    out f_position_clip = position;
+  end;
+
+  shader fragment f0 is
+    in f_position_clip : vector_4f;
+    out out_0          : vector_4f as 0;
+  with
+    value rgba = new vector_4f (1.0, 0.0, 0.0, 1.0);
+  as
+    out out_0 = rgba;
+  end;
+
+  shader fragment f1 is
+    in f_position_clip : vector_4f;
+    out out_0          : vector_4f as 0;
+  with
+    value rgba = new vector_4f (1.0, 0.0, 0.0, 1.0);
+  as
+    out out_0 = rgba;
+  end;
+
+  shader program p0 is
+    vertex   v;
+    fragment f0;
+  end;
+
+  shader program p1 is
+    vertex   v;
+    fragment f1;
+  end;
+
+end;
@@ -0,0 +1,5 @@
+package x.y;
+
+module A is
+  value x = 23;
+end;
@@ -0,0 +1,6 @@
+package x.y;
+
+module B is
+  import x.y.A;
+  value x = A.x;
+end;
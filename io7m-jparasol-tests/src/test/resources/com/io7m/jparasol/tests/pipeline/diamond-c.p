@@ -0,0 +1,6 @@
+package x.y;
+
+module C is
+  import x.y.A;
+  value x = A.x;
+end;
@@ -0,0 +1,8 @@
+package x.y;
+
+module D is
+  import x.y.B;
+  import x.y.C;
+  value x = B.x;
+  value y = C.x;
+end;
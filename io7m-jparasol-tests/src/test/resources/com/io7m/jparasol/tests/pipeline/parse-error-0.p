@@ -0,0 +1,5 @@
+package x.y;
+
+module E is
+  value x = ;
+end;
@@ -0,0 +1,5 @@
+package com.io7m.parasol;
+
+module Float is
+  value x = 23;
+end;
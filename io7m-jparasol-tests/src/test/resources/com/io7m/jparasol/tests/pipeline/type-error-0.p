@@ -0,0 +1,6 @@
+package x.y;
+
+module F is
+  import x.y.D;
+  value x : integer = true;
+end;
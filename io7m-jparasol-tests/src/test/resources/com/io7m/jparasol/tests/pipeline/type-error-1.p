@@ -0,0 +1,5 @@
+package x.y;
+
+module G is
+  value x : float = true;
+end;